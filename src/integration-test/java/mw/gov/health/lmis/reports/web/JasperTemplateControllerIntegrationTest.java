@@ -1,26 +1,31 @@
 package mw.gov.health.lmis.reports.web;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsMultiFormatView;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Properties;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.UUID;
-
-import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletableFuture;
 
 import guru.nidi.ramltester.junit.RamlMatchers;
 import mw.gov.health.lmis.reports.domain.JasperTemplate;
@@ -28,6 +33,9 @@ import mw.gov.health.lmis.reports.dto.JasperTemplateDto;
 import mw.gov.health.lmis.reports.exception.JasperReportViewException;
 import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
 import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.freshness.DataFreshness;
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
 
 @SuppressWarnings("PMD.TooManyMethods")
 public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationTest {
@@ -35,6 +43,8 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
   private static final String ID_URL = RESOURCE_URL + "/{id}";
   private static final String FORMAT_PARAM = "format";
   private static final String REPORT_URL = ID_URL + "/{" + FORMAT_PARAM + "}";
+  private static final String PDF = "pdf";
+  private static final String DATA_URL = ID_URL + "/data/{" + FORMAT_PARAM + "}";
 
   @MockBean
   private JasperTemplateRepository jasperTemplateRepository;
@@ -42,9 +52,16 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
   @MockBean
   private JasperReportsViewService jasperReportsViewService;
 
+  @MockBean
+  private DataFreshnessService dataFreshnessService;
+
   @Before
-  public void setUp() {
+  public void setUp() throws JasperReportViewException {
     mockUserAuthenticated();
+    given(dataFreshnessService.getFreshness()).willReturn(new DataFreshness(
+        Collections.singletonMap(SourceDomain.STOCK, "1"), 1760000000000L));
+    given(jasperReportsViewService.getSourceDomains(any(JasperTemplate.class)))
+        .willReturn(EnumSet.of(SourceDomain.STOCK));
   }
 
   // GET /api/reports/templates
@@ -166,7 +183,7 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
         .queryParam(ACCESS_TOKEN, getToken())
         .contentType(MediaType.APPLICATION_JSON_VALUE)
         .pathParam("id", UUID.randomUUID())
-        .pathParam(FORMAT_PARAM, "pdf")
+        .pathParam(FORMAT_PARAM, PDF)
         .when()
         .get(REPORT_URL)
         .then()
@@ -178,17 +195,17 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
 
   @Test
   public void shouldGenerateReportInPdfFormat() throws JasperReportViewException {
-    testGenerateReportInGivenFormat("application/pdf", "pdf");
+    testGenerateReportInGivenFormat("application/pdf", PDF);
   }
 
   @Test
   public void shouldGenerateReportInCsvFormat() throws JasperReportViewException {
-    testGenerateReportInGivenFormat("application/csv", "csv");
+    testGenerateReportInGivenFormat("text/csv", "csv");
   }
 
   @Test
   public void shouldGenerateReportInXlsFormat() throws JasperReportViewException {
-    testGenerateReportInGivenFormat("application/xls", "xls");
+    testGenerateReportInGivenFormat("application/vnd.ms-excel", "xls");
   }
 
   @Test
@@ -196,6 +213,113 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
     testGenerateReportInGivenFormat("text/html", "html");
   }
 
+  @Test
+  public void generateReportShouldReturnBadRequestWhenFormatIsNotSupported() {
+    // given
+    JasperTemplate template = generateTemplate();
+
+    // when
+    restAssured.given()
+        .queryParam(ACCESS_TOKEN, getToken())
+        .pathParam("id", template.getId())
+        .pathParam(FORMAT_PARAM, "docx")
+        .when()
+        .get(REPORT_URL)
+        .then()
+        .statusCode(400);
+
+    // then
+    assertThat(RAML_ASSERT_MESSAGE, restAssured.getLastReport(), RamlMatchers.hasNoViolations());
+  }
+
+  @Test
+  public void shouldReturnNotModifiedWhenReportDataHasNotChanged()
+      throws JasperReportViewException {
+    // given
+    JasperTemplate template = generateTemplate();
+    given(jasperReportsViewService
+        .renderReport(any(JasperTemplate.class), anyMapOf(String.class, Object.class),
+            eq(PDF)))
+        .willReturn(CompletableFuture.completedFuture(new byte[]{1}));
+
+    String entityTag = restAssured.given()
+        .queryParam(ACCESS_TOKEN, getToken())
+        .pathParam("id", template.getId())
+        .pathParam(FORMAT_PARAM, PDF)
+        .when()
+        .get(REPORT_URL)
+        .then()
+        .statusCode(200)
+        .extract()
+        .header(HttpHeaders.ETAG);
+
+    // when
+    restAssured.given()
+        .queryParam(ACCESS_TOKEN, getToken())
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+        .pathParam("id", template.getId())
+        .pathParam(FORMAT_PARAM, PDF)
+        .when()
+        .get(REPORT_URL)
+        .then()
+        .statusCode(304);
+
+    // then
+    verify(jasperReportsViewService, times(1)).renderReport(any(JasperTemplate.class),
+        anyMapOf(String.class, Object.class), eq(PDF));
+    assertThat(RAML_ASSERT_MESSAGE, restAssured.getLastReport(), RamlMatchers.hasNoViolations());
+  }
+
+  // GET /api/reports/templates/{id}/data/{format}
+
+  @Test
+  public void shouldStreamReportDataAsCsv() throws JasperReportViewException {
+    // given
+    JasperTemplate template = generateTemplate();
+    doAnswer(invocation -> {
+      OutputStream output = (OutputStream) invocation.getArguments()[3];
+      output.write("name\r\nBalaka\r\n".getBytes(StandardCharsets.UTF_8));
+      return CompletableFuture.completedFuture(null);
+    }).when(jasperReportsViewService).streamReportData(any(JasperTemplate.class),
+        anyMapOf(String.class, Object.class), eq("csv"), any(OutputStream.class));
+
+    // when
+    String content = restAssured.given()
+        .queryParam(ACCESS_TOKEN, getToken())
+        .pathParam("id", template.getId())
+        .pathParam(FORMAT_PARAM, "csv")
+        .when()
+        .get(DATA_URL)
+        .then()
+        .statusCode(200)
+        .contentType(startsWith("text/csv"))
+        .extract()
+        .asString();
+
+    // then
+    assertEquals("name\r\nBalaka\r\n", content);
+    assertThat(RAML_ASSERT_MESSAGE, restAssured.getLastReport(), RamlMatchers.hasNoViolations());
+  }
+
+  @Test
+  public void shouldNotStreamReportDataInUnsupportedFormat() {
+    // given
+    JasperTemplate template = generateTemplate();
+
+    // when
+    restAssured.given()
+        .queryParam(ACCESS_TOKEN, getToken())
+        .pathParam("id", template.getId())
+        .pathParam(FORMAT_PARAM, PDF)
+        .when()
+        .get(DATA_URL)
+        .then()
+        .statusCode(400);
+
+    // then
+    assertThat(RAML_ASSERT_MESSAGE, restAssured.getLastReport(), RamlMatchers.hasNoViolations());
+  }
+
   // Helper methods
 
   private void testGenerateReportInGivenFormat(String contentType, String formatParam)
@@ -203,15 +327,11 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
     // given
     JasperTemplate template = generateTemplate();
 
-    JasperReportsMultiFormatView view = mock(JasperReportsMultiFormatView.class);
-    given(view.getContentType()).willReturn(contentType);
-    given(view.getContentDispositionMappings()).willReturn(mock(Properties.class));
-    given(view.getContentDispositionMappings().getProperty("attachment.pdf")).willReturn("text");
-
     given(jasperTemplateRepository.findOne(template.getId())).willReturn(template);
     given(jasperReportsViewService
-        .getJasperReportsView(any(JasperTemplate.class), any(HttpServletRequest.class)))
-        .willReturn(view);
+        .renderReport(any(JasperTemplate.class), anyMapOf(String.class, Object.class),
+            eq(formatParam)))
+        .willReturn(CompletableFuture.completedFuture(new byte[]{1}));
 
     // when
     restAssured.given()
@@ -221,7 +341,8 @@ public class JasperTemplateControllerIntegrationTest extends BaseWebIntegrationT
         .when()
         .get(REPORT_URL)
         .then()
-        .statusCode(200);
+        .statusCode(200)
+        .contentType(startsWith(contentType));
   }
 
   private JasperTemplate generateTemplate() {
@@ -0,0 +1,181 @@
+package mw.gov.health.lmis.reports.compiler;
+
+import static mw.gov.health.lmis.reports.service.precompiled.TemplateArtifactManifest.FILE_NAME;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import mw.gov.health.lmis.reports.service.precompiled.TemplateArtifact;
+import mw.gov.health.lmis.reports.service.precompiled.TemplateArtifactManifest;
+
+/**
+ * Compiles the .jrxml files of the template directories into .jasper artifacts, and writes their
+ * manifest with the MD5 hashes of the sources and of the artifacts, see
+ * {@link TemplateArtifactManifest}. The
+ * artifacts of a directory are written to a directory of the same name. The IDs of the templates
+ * in the database, that are seeded with the artifacts, are read from the
+ * {@code templates.properties} file of the directory, if there is one. The hashes of the data
+ * written into these templates by the database migrations are listed with their artifacts, so the
+ * templates still holding the shipped data can be told from the customised ones. The build fails
+ * if a template could not be compiled. It is configured with system properties:
+ * <ul>
+ *   <li>{@code jasper.sources} - template directories, separated by the path separator</li>
+ *   <li>{@code jasper.migrations} - directory of the database migrations</li>
+ *   <li>{@code jasper.output} - directory for the artifacts and the manifest</li>
+ *   <li>{@code jasper.version} - version of the service</li>
+ * </ul>
+ */
+public final class JasperTemplateCompiler {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String EXTENSION = ".jrxml";
+  private static final String TEMPLATE_IDS = "templates.properties";
+
+  // the statements of a migration that write the data of a template have its bytea literal in
+  // the hex format, and the ID of the template
+  private static final Pattern STATEMENT = Pattern.compile(";\\s*(\\n|$)");
+  private static final Pattern DATA = Pattern.compile("'\\\\{1,2}x([0-9a-fA-F]+)'");
+  private static final Pattern TEMPLATE_ID = Pattern.compile(
+      "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+  private JasperTemplateCompiler() {
+  }
+
+  /**
+   * Compiles the templates.
+   *
+   * @param args not used
+   * @throws Exception if a template could not be read, compiled or written
+   */
+  public static void main(String[] args) throws Exception {
+    File output = new File(System.getProperty("jasper.output"));
+    TemplateArtifactManifest manifest = new TemplateArtifactManifest();
+    manifest.setVersion(System.getProperty("jasper.version"));
+
+    for (String directory : System.getProperty("jasper.sources").split(File.pathSeparator)) {
+      compile(new File(directory), output, manifest.getArtifacts());
+    }
+
+    Map<UUID, List<String>> shippedDataHashes =
+        readShippedDataHashes(new File(System.getProperty("jasper.migrations")));
+
+    for (TemplateArtifact artifact : manifest.getArtifacts()) {
+      if (null != artifact.getTemplateId()) {
+        artifact.setShippedDataHashes(shippedDataHashes.getOrDefault(
+            artifact.getTemplateId(), artifact.getShippedDataHashes()));
+      }
+    }
+
+    MAPPER.writerWithDefaultPrettyPrinter()
+        .writeValue(new File(output, FILE_NAME), manifest);
+    System.out.println("Compiled " + manifest.getArtifacts().size() + " templates");
+  }
+
+  private static void compile(File directory, File output, List<TemplateArtifact> artifacts)
+      throws IOException, JRException {
+    Properties templateIds = new Properties();
+    File templateIdsFile = new File(directory, TEMPLATE_IDS);
+
+    if (templateIdsFile.exists()) {
+      try (InputStream inputStream = Files.newInputStream(templateIdsFile.toPath())) {
+        templateIds.load(inputStream);
+      }
+    }
+
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+
+    if (null == files) {
+      throw new IOException("Template directory " + directory + " does not exist");
+    }
+
+    Arrays.sort(files);
+    File artifactDirectory = new File(output, directory.getName());
+    Files.createDirectories(artifactDirectory.toPath());
+
+    for (File file : files) {
+      String name = file.getName().substring(0, file.getName().length() - EXTENSION.length());
+      String templateId = templateIds.getProperty(file.getName());
+      byte[] source = Files.readAllBytes(file.toPath());
+      byte[] data = compile(file, source);
+
+      Files.write(new File(artifactDirectory, name + ".jasper").toPath(), data);
+      artifacts.add(new TemplateArtifact(directory.getName() + "/" + file.getName(),
+          directory.getName() + "/" + name + ".jasper",
+          null == templateId ? null : UUID.fromString(templateId), hashSource(source),
+          DigestUtils.md5Hex(data), new ArrayList<>()));
+    }
+  }
+
+  private static byte[] compile(File file, byte[] source) throws IOException, JRException {
+    try (InputStream inputStream = new ByteArrayInputStream(source);
+         ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+      System.out.println("Compiling " + file);
+      JasperCompileManager.compileReportToStream(inputStream, outputStream);
+      return outputStream.toByteArray();
+    }
+  }
+
+  private static Map<UUID, List<String>> readShippedDataHashes(File directory)
+      throws IOException, DecoderException {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(".sql"));
+
+    if (null == files) {
+      throw new IOException("Migration directory " + directory + " does not exist");
+    }
+
+    Arrays.sort(files);
+    Map<UUID, List<String>> hashes = new HashMap<>();
+
+    for (File file : files) {
+      String sql = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+      for (String statement : STATEMENT.split(sql)) {
+        Matcher data = DATA.matcher(statement);
+
+        if (!statement.contains("jasper_templates") || !data.find()) {
+          continue;
+        }
+
+        String hash = DigestUtils.md5Hex(Hex.decodeHex(data.group(1).toCharArray()));
+        Matcher templateId = TEMPLATE_ID.matcher(data.replaceAll(""));
+
+        if (templateId.find()) {
+          hashes.computeIfAbsent(UUID.fromString(templateId.group()), id -> new ArrayList<>())
+              .add(hash);
+        }
+      }
+    }
+
+    return hashes;
+  }
+
+  // the compiled classes have unique names, so the data of the same source differs between builds
+  private static String hashSource(byte[] source) {
+    MessageDigest digest = DigestUtils.getMd5Digest();
+    digest.update(source);
+    digest.update(JasperCompileManager.class.getPackage().getImplementationVersion()
+        .getBytes(StandardCharsets.UTF_8));
+    return Hex.encodeHexString(digest.digest());
+  }
+}
@@ -0,0 +1,100 @@
+package mw.gov.health.lmis.reports.benchmark;
+
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.CSV;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.HTML;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.PDF;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.XLS;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.XLSX;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.service.render.JasperReportExporter;
+
+/**
+ * Measures the fill of a tabular report from a bean collection with a synthetic dataset, and the
+ * export of the filled report to each of the supported formats. The cost of the export alone is
+ * the difference between {@link #fillAndExport(Dataset, Format)} and {@link #fill(Dataset)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FillAndExportBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Dataset {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private JasperReport report;
+    private List<StockLineItem> lineItems;
+
+    /**
+     * Compiles the benchmark report and generates the rows of the dataset.
+     */
+    @Setup
+    public void setUp() throws IOException, JRException {
+      try (InputStream inputStream = getClass()
+          .getResourceAsStream("/benchmark/stockLineItems.jrxml")) {
+        report = JasperCompileManager.compileReport(inputStream);
+      }
+
+      lineItems = new ArrayList<>(rows);
+      for (int i = 0; i < rows; i++) {
+        lineItems.add(new StockLineItem("Facility " + i % 500, "C" + i % 300,
+            "Product " + i % 300, "Period " + i % 12, i % 1000, i % 100));
+      }
+    }
+
+    JasperPrint fill() throws JRException {
+      return JasperFillManager.fillReport(report, new HashMap<>(),
+          new JRBeanCollectionDataSource(lineItems));
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Format {
+
+    @Param({CSV, HTML, PDF, XLS, XLSX})
+    private String format;
+
+    private final JasperReportExporter exporter = new JasperReportExporter();
+  }
+
+  @Benchmark
+  public JasperPrint fill(Dataset dataset) throws JRException {
+    return dataset.fill();
+  }
+
+  @Benchmark
+  public byte[] fillAndExport(Dataset dataset, Format format)
+      throws JRException, JasperReportViewException {
+    return format.exporter.export(dataset.fill(), format.format);
+  }
+}
@@ -0,0 +1,101 @@
+package mw.gov.health.lmis.reports.benchmark;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.design.JasperDesign;
+import net.sf.jasperreports.engine.xml.JRXmlLoader;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import mw.gov.health.lmis.reports.dto.external.RequisitionTemplateColumnDto;
+import mw.gov.health.lmis.utils.ReportUtils;
+
+/**
+ * Measures the customization of the requisition line subreport to the columns of the requisition
+ * template. The design is changed in place, so every invocation loads it again; the load alone is
+ * measured by {@link #loadLineSubreport()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LineSubreportBenchmark {
+  private static final List<String> DISPLAYED_COLUMNS = Arrays.asList("productCode",
+      "productName", "dispensingUnit", "beginningBalance", "totalReceivedQuantity",
+      "totalConsumedQuantity", "totalLossesAndAdjustments", "stockOnHand", "totalStockoutDays",
+      "adjustedConsumption", "averageConsumption", "requestedQuantity",
+      "requestedQuantityExplanation", "approvedQuantity", "remarks", "skipped");
+  private static final List<String> HIDDEN_COLUMNS = Arrays.asList("calculatedOrderQuantity",
+      "numberOfNewPatientsAdded", "packsToShip", "pricePerPack", "total", "totalCost");
+
+  private byte[] jrxml;
+  private Map<String, RequisitionTemplateColumnDto> columns;
+
+  /**
+   * Reads the subreport and creates the columns of a typical requisition template.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    try (InputStream inputStream = getClass()
+        .getResourceAsStream("/jasperTemplates/requisitionLines.jrxml")) {
+      jrxml = IOUtils.toByteArray(inputStream);
+    }
+
+    Map<String, RequisitionTemplateColumnDto> templateColumns = new HashMap<>();
+    for (String name : DISPLAYED_COLUMNS) {
+      templateColumns.put(name, createColumn(name, templateColumns.size(), true));
+    }
+    for (String name : HIDDEN_COLUMNS) {
+      templateColumns.put(name, createColumn(name, templateColumns.size(), false));
+    }
+
+    columns = ReportUtils.getSortedTemplateColumnsForPrint(templateColumns);
+  }
+
+  @Benchmark
+  public JasperDesign loadLineSubreport() throws JRException {
+    return JRXmlLoader.load(new ByteArrayInputStream(jrxml));
+  }
+
+  /**
+   * Loads the subreport and customizes its header and detail bands, like the requisition print.
+   */
+  @Benchmark
+  public JasperDesign customizeLineSubreport() throws JRException {
+    JasperDesign design = JRXmlLoader.load(new ByteArrayInputStream(jrxml));
+    ReportUtils.customizeBandWithTemplateFields(
+        design.getDetailSection().getBands()[0], columns, design.getPageWidth(), 9);
+    ReportUtils.customizeBandWithTemplateFields(
+        design.getColumnHeader(), columns, design.getPageWidth(), 9);
+    return design;
+  }
+
+  private static RequisitionTemplateColumnDto createColumn(String name, int displayOrder,
+                                                           boolean displayed) {
+    RequisitionTemplateColumnDto column = new RequisitionTemplateColumnDto();
+    column.setName(name);
+    column.setLabel(name);
+    column.setDisplayOrder(displayOrder);
+    column.setIsDisplayed(displayed);
+    return column;
+  }
+}
@@ -0,0 +1,18 @@
+package mw.gov.health.lmis.reports.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Synthetic row of the benchmark report.
+ */
+@Getter
+@AllArgsConstructor
+public class StockLineItem {
+  private String facilityName;
+  private String productCode;
+  private String productName;
+  private String periodName;
+  private Integer stockOnHand;
+  private Integer consumption;
+}
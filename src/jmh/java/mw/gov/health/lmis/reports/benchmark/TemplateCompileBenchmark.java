@@ -0,0 +1,70 @@
+package mw.gov.health.lmis.reports.benchmark;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the compilation of the bundled templates, which are compiled on every print of
+ * a requisition, a proof of delivery or stock card summaries, and of the report templates in the
+ * reports directory, which are compiled at build and on upload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateCompileBenchmark {
+
+  // the bundled templates, and the report templates seeded from the reports directory
+  @Param({"jasperTemplates/physicalInventory", "jasperTemplates/physicalinventoryLines",
+      "jasperTemplates/proofOfDelivery", "jasperTemplates/requisition",
+      "jasperTemplates/requisitionLines", "jasperTemplates/stockCardSummary",
+      "reports/adjustment_summary_by_district", "reports/adjustment_summary_by_facility",
+      "reports/aggregate_orders", "reports/aggregate_orders_xls",
+      "reports/aggregate_products_per_district", "reports/aggregate_report_summary",
+      "reports/aggregate_stock_status_by_product", "reports/distribution_list",
+      "reports/lmis_summary_by_facility", "reports/national_lmis_summary_by_product",
+      "reports/order", "reports/pick_pack_list", "reports/pick_work_sheet",
+      "reports/product_adjustments", "reports/product_issues_by_batch",
+      "reports/regular_vs_emergency_orders", "reports/reportingRate", "reports/stock_imbalances",
+      "reports/stock_on_hand_per_facility", "reports/stock_out_rate", "reports/stock_status",
+      "reports/timeliness"})
+  private String template;
+
+  private byte[] jrxml;
+
+  /**
+   * Reads the template from the classpath, so the benchmark does not measure the resource lookup.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    try (InputStream inputStream = getClass()
+        .getResourceAsStream("/" + template + ".jrxml")) {
+      jrxml = IOUtils.toByteArray(inputStream);
+    }
+  }
+
+  @Benchmark
+  public JasperReport compileTemplate() throws JRException {
+    return JasperCompileManager.compileReport(new ByteArrayInputStream(jrxml));
+  }
+}
@@ -0,0 +1,79 @@
+package mw.gov.health.lmis.reports.benchmark;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRSaver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+
+/**
+ * Measures the load of compiled reports from the template data stored in the database, which
+ * is done on every report request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateLoadBenchmark {
+
+  // the bundled templates, and the report templates seeded from the reports directory
+  @Param({"jasperTemplates/physicalInventory", "jasperTemplates/physicalinventoryLines",
+      "jasperTemplates/proofOfDelivery", "jasperTemplates/requisition",
+      "jasperTemplates/requisitionLines", "jasperTemplates/stockCardSummary",
+      "reports/adjustment_summary_by_district", "reports/adjustment_summary_by_facility",
+      "reports/aggregate_orders", "reports/aggregate_orders_xls",
+      "reports/aggregate_products_per_district", "reports/aggregate_report_summary",
+      "reports/aggregate_stock_status_by_product", "reports/distribution_list",
+      "reports/lmis_summary_by_facility", "reports/national_lmis_summary_by_product",
+      "reports/order", "reports/pick_pack_list", "reports/pick_work_sheet",
+      "reports/product_adjustments", "reports/product_issues_by_batch",
+      "reports/regular_vs_emergency_orders", "reports/reportingRate", "reports/stock_imbalances",
+      "reports/stock_on_hand_per_facility", "reports/stock_out_rate", "reports/stock_status",
+      "reports/timeliness"})
+  private String template;
+
+  private final JasperReportsViewService viewService = new JasperReportsViewService();
+  private final JasperTemplate jasperTemplate = new JasperTemplate();
+
+  /**
+   * Compiles the template and stores it as the template data, like the template upload.
+   */
+  @Setup
+  public void setUp() throws IOException, JRException {
+    JasperReport report;
+    try (InputStream inputStream = getClass()
+        .getResourceAsStream("/" + template + ".jrxml")) {
+      report = JasperCompileManager.compileReport(inputStream);
+    }
+
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    JRSaver.saveObject(report, data);
+    jasperTemplate.setData(data.toByteArray());
+  }
+
+  @Benchmark
+  public JasperReport loadTemplate() throws JasperReportViewException {
+    return viewService.getReportFromTemplateData(jasperTemplate);
+  }
+}
@@ -22,6 +22,7 @@ import org.springframework.boot.orm.jpa.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ImportResource;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.CookieLocaleResolver;
@@ -37,6 +38,7 @@ import java.util.Locale;
 
 @SpringBootApplication
 @ImportResource("applicationContext.xml")
+@EnableScheduling
 @EntityScan(basePackageClasses = {BaseEntity.class, ConfigurationSetting.class},
     basePackages = "org.openlmis.util.converter")
 public class Application {
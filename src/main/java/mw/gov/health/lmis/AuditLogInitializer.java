@@ -1,31 +1,48 @@
 package mw.gov.health.lmis;
 
 import org.javers.core.Javers;
-import org.javers.core.metamodel.object.CdoSnapshot;
-import org.javers.repository.jql.QueryBuilder;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-
-import mw.gov.health.lmis.reports.domain.BaseEntity;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 /**
  * AuditLogInitializer runs after its associated Spring application has loaded.
  * It examines each domain object in the database and registers them with JaVers
  * if they haven't already been so. This is, in part, a fix for
  * <a href="https://github.com/javers/javers/issues/214">this issue</a>.
+ *
+ * <p>The domain objects are examined in the background, so they do not delay the startup. Only
+ * the IDs of the domain objects are read and compared with the IDs known to JaVers, in one query
+ * of each, and only the domain objects without a snapshot are loaded, in batches.
  */
-
 @Component
 @Profile("!test")
-public class AuditLogInitializer implements CommandLineRunner {
+public class AuditLogInitializer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AuditLogInitializer.class);
+
+  private static final String AUTHOR = "System: AuditLogInitializer";
 
   @Autowired
   private ApplicationContext applicationContext;
@@ -33,39 +50,94 @@ public class AuditLogInitializer implements CommandLineRunner {
   @Autowired
   private Javers javers;
 
-  /**
-   * This method is part of CommandLineRunner and is called automatically by Spring.
-   * @param args Main method arguments.
-   */
-  public void run(String... args) {
-    //Get all JaVers repositories.
-    Map<String,Object> repositoryMap =
-            applicationContext.getBeansWithAnnotation(JaversSpringDataAuditable.class);
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
 
-    //For each one...
-    for (Object object : repositoryMap.values()) {
+  @PersistenceContext
+  private EntityManager entityManager;
 
-      //... retrieve all of its domain objects and...
-      Iterable<?> domainObjects = ((CrudRepository)(object)).findAll();
+  @Value("${spring.jpa.properties.hibernate.default_schema}")
+  private String schema;
 
-      //... for each one...
-      for (Object o : domainObjects) {
+  @Value("${reports.auditLog.batchSize}")
+  private int batchSize;
 
-        //...check whether there exists a snapshot for it in the audit log.
-        // Note that we don't care about checking for logged changes, per se,
-        // and thus use findSnapshots() rather than findChanges()
-        BaseEntity baseEntity = (BaseEntity)o;
+  private ExecutorService executor;
 
-        QueryBuilder jqlQuery = QueryBuilder.byInstanceId(baseEntity.getId(), o.getClass());
-        List<CdoSnapshot> snapshots = javers.findSnapshots(jqlQuery.build());
+  /**
+   * Starts registering the domain objects once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    executor = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("audit-log-initializer-"));
+    executor.execute(() -> {
+      try {
+        run();
+      } catch (RuntimeException ex) {
+        LOGGER.error("Could not register the domain objects with JaVers", ex);
+      }
+    });
+    executor.shutdown();
+  }
 
-        //If there are no snapshots of the domain object, then take one
-        if (snapshots.size() == 0) {
-          javers.commit("System: AuditLogInitializer" , baseEntity);
-        }
+  /**
+   * Stops registering the domain objects, the rest is registered on the next startup.
+   */
+  @PreDestroy
+  public void stop() {
+    if (null != executor) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Registers the domain objects of all JaVers repositories, that have no snapshot.
+   */
+  public void run() {
+    //Get all JaVers repositories.
+    Map<String, Object> repositoryMap =
+        applicationContext.getBeansWithAnnotation(JaversSpringDataAuditable.class);
+    Repositories repositories = new Repositories(applicationContext);
+
+    //For each one...
+    for (Class<?> domainType : repositories) {
+      Object repository = repositories.getRepositoryFor(domainType);
 
+      if (repositoryMap.containsValue(repository)) {
+        register(domainType);
       }
     }
+  }
+
+  private void register(Class<?> domainType) {
+    String entityName = entityManager.getMetamodel().entity(domainType).getName();
+
+    //... retrieve the IDs of all of its domain objects and of those known to JaVers...
+    List<UUID> ids = entityManager
+        .createQuery("SELECT e.id FROM " + entityName + " e", UUID.class)
+        .getResultList();
+
+    // JaVers keeps the IDs as JSON, under the name of the class unless it is renamed
+    Set<String> snapshotIds = new HashSet<>(jdbcTemplate.queryForList("SELECT local_id FROM "
+        + schema + ".jv_global_id WHERE type_name = ? AND fragment IS NULL", String.class,
+        domainType.getName()));
+
+    //... and take a snapshot of those that have none.
+    List<UUID> missing = ids.stream()
+        .filter(id -> !snapshotIds.contains(javers.getJsonConverter().toJson(id)))
+        .collect(Collectors.toList());
+
+    for (int start = 0; start < missing.size(); start += batchSize) {
+      List<UUID> batch = missing.subList(start, Math.min(start + batchSize, missing.size()));
+      entityManager
+          .createQuery("SELECT e FROM " + entityName + " e WHERE e.id IN :ids", domainType)
+          .setParameter("ids", batch)
+          .getResultList()
+          .forEach(domainObject -> javers.commit(AUTHOR, domainObject));
+    }
 
+    LOGGER.info("Registered {} of {} {} objects with JaVers", missing.size(), ids.size(),
+        domainType.getSimpleName());
   }
 }
@@ -15,6 +15,7 @@ import mw.gov.health.lmis.reports.exception.BaseMessageException;
 import mw.gov.health.lmis.reports.exception.DataRetrievalException;
 import mw.gov.health.lmis.reports.exception.NotFoundMessageException;
 import mw.gov.health.lmis.reports.exception.PermissionMessageException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
 import mw.gov.health.lmis.reports.exception.ValidationMessageException;
 import mw.gov.health.lmis.reports.i18n.MessageService;
 import mw.gov.health.lmis.utils.Message;
@@ -71,6 +72,14 @@ public class BaseErrorHandling {
     return getLocalizedMessage(ex);
   }
 
+  @ExceptionHandler(ServiceUnavailableMessageException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  @ResponseBody
+  public Message.LocalizedMessage handleServiceUnavailableMessageException(
+      ServiceUnavailableMessageException ex) {
+    return getLocalizedMessage(ex);
+  }
+
   /**
    * Logs an error message and returns an error response.
    *
@@ -0,0 +1,38 @@
+package mw.gov.health.lmis.reports.dto;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import mw.gov.health.lmis.reports.service.queue.RenderJob;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RenderJobDto {
+  private UUID id;
+  private UUID templateId;
+  private String format;
+  private RenderJob.Status status;
+  private int attempts;
+  private ZonedDateTime createdDate;
+  private ZonedDateTime startedDate;
+  private ZonedDateTime completedDate;
+  private String error;
+
+  /**
+   * Create new instance of RenderJobDto based on the given job.
+   *
+   * @param job queued render of a report
+   * @return new instance of RenderJobDto
+   */
+  public static RenderJobDto newInstance(RenderJob job) {
+    return new RenderJobDto(job.getId(), job.getTemplateId(), job.getFormat(), job.getStatus(),
+        job.getAttempts(), job.getCreatedDate(), job.getStartedDate(), job.getCompletedDate(),
+        job.getError());
+  }
+}
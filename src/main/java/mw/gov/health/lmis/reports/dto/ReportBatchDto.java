@@ -0,0 +1,40 @@
+package mw.gov.health.lmis.reports.dto;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import mw.gov.health.lmis.reports.service.batch.ReportBatch;
+import mw.gov.health.lmis.reports.service.batch.ReportBatchArtifact;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportBatchDto {
+  private UUID id;
+  private UUID templateId;
+  private String format;
+  private String partition;
+  private ReportBatch.Status status;
+  private ZonedDateTime createdDate;
+  private ZonedDateTime completedDate;
+  private String error;
+  private List<ReportBatchArtifact> artifacts;
+
+  /**
+   * Create new instance of ReportBatchDto based on the given batch.
+   *
+   * @param batch batch of reports
+   * @return new instance of ReportBatchDto
+   */
+  public static ReportBatchDto newInstance(ReportBatch batch) {
+    return new ReportBatchDto(batch.getId(), batch.getTemplateId(), batch.getFormat(),
+        batch.getPartitionParameter(), batch.getStatus(), batch.getCreatedDate(),
+        batch.getCompletedDate(), batch.getError(), batch.getArtifacts());
+  }
+}
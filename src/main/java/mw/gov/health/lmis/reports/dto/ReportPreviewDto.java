@@ -0,0 +1,29 @@
+package mw.gov.health.lmis.reports.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import mw.gov.health.lmis.reports.service.render.ReportPreview;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportPreviewDto {
+  private UUID id;
+  private UUID templateId;
+  private int pageCount;
+
+  /**
+   * Create new instance of ReportPreviewDto based on the given preview.
+   *
+   * @param preview preview of a filled report
+   * @return new instance of ReportPreviewDto
+   */
+  public static ReportPreviewDto newInstance(ReportPreview preview) {
+    return new ReportPreviewDto(preview.getId(), preview.getTemplateId(), preview.getPageCount());
+  }
+}
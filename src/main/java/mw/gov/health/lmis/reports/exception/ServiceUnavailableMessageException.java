@@ -0,0 +1,17 @@
+package mw.gov.health.lmis.reports.exception;
+
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Signals that the request can not be handled at the moment, because the service is overloaded.
+ */
+public class ServiceUnavailableMessageException extends BaseMessageException {
+
+  public ServiceUnavailableMessageException(Message message) {
+    super(message);
+  }
+
+  public ServiceUnavailableMessageException(Message message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -5,4 +5,6 @@ public class JasperMessageKeys extends ReportingMessageKeys {
 
   public static final String ERROR_JASPER_FILE_CREATION = join(ERROR, "file", "creation");
   public static final String ERROR_JASPER_TEMPLATE_NOT_FOUND = join(ERROR, "template", NOT_FOUND);
+  public static final String ERROR_JASPER_FORMAT_NOT_SUPPORTED =
+      join(ERROR, "format", "notSupported");
 }
@@ -17,6 +17,9 @@ public class ReportingMessageKeys extends MessageKeys {
   private static final String EXISTS = "exists";
   private static final String EMPTY = "empty";
   private static final String FILE = "file";
+  private static final String PREVIEW = "preview";
+  private static final String BATCH = "batch";
+  private static final String JOB = "job";
 
 
   public static final String ERROR_REPORTING_IO = join(ERROR, "io");
@@ -37,7 +40,26 @@ public class ReportingMessageKeys extends MessageKeys {
       join(ERROR, TEMPLATE, EXISTS);
   public static final String ERROR_REPORTING_TEMPLATE_NOT_FOUND =
       join(ERROR, TEMPLATE, NOT_FOUND);
+  public static final String ERROR_REPORTING_TEMPLATE_QUERY_MISSING =
+      join(ERROR, TEMPLATE, "query", MISSING);
   public static final String ERROR_GENERATE_REPORT_FAILED = ERROR + ".generateReport.failed";
+  public static final String ERROR_REPORTING_RENDER_LANE_FULL = join(ERROR, "renderLane", "full");
+  public static final String ERROR_REPORTING_COST_TOO_HIGH = join(ERROR, "cost", "tooHigh");
+  public static final String ERROR_REPORTING_RENDER_TIMEOUT = join(ERROR, "render", "timeout");
+  public static final String ERROR_REPORTING_PREVIEW_NOT_FOUND =
+      join(ERROR, PREVIEW, NOT_FOUND);
+  public static final String ERROR_REPORTING_PREVIEW_PAGES_INVALID =
+      join(ERROR, PREVIEW, "pages", INVALID);
+  public static final String ERROR_REPORTING_BATCH_NOT_FOUND = join(ERROR, BATCH, NOT_FOUND);
+  public static final String ERROR_REPORTING_BATCH_PARTITION_INVALID =
+      join(ERROR, BATCH, "partition", INVALID);
+  public static final String ERROR_REPORTING_BATCH_PARTITION_FIELD_MISSING =
+      join(ERROR, BATCH, "partitionField", MISSING);
+  public static final String ERROR_REPORTING_BATCH_QUEUE_FULL = join(ERROR, BATCH, "queue", "full");
+  public static final String ERROR_REPORTING_JOB_NOT_FOUND = join(ERROR, JOB, NOT_FOUND);
+  public static final String ERROR_REPORTING_JOB_OUTPUT_NOT_FOUND =
+      join(ERROR, JOB, "output", NOT_FOUND);
+  public static final String REPORT_PREVIEW_LABEL = join(SERVICE, "report", "preview", "label");
   public static final String ERROR_REPORTING_TEMPLATE_NOT_FOUND_WITH_NAME = ERROR
       + ".reporting.template.notFound.with.name";
   public static final String ERROR_JASPER_FILE_CREATION = ERROR + ".jasper.fileCreation";
@@ -18,11 +18,13 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import mw.gov.health.lmis.reports.dto.external.ResultDto;
 import mw.gov.health.lmis.reports.exception.DataRetrievalException;
+import mw.gov.health.lmis.reports.service.metrics.RemoteServiceMetrics;
 import mw.gov.health.lmis.utils.DynamicPageTypeReference;
 import mw.gov.health.lmis.utils.DynamicResultDtoTypeReference;
 import mw.gov.health.lmis.utils.PageImplRepresentation;
@@ -87,9 +89,9 @@ public abstract class BaseCommunicationService<T> {
         .set(ACCESS_TOKEN, authorizationService.obtainAccessToken());
 
     try {
-      return restTemplate
+      return timeRequest(resourceUrl, () -> restTemplate
           .getForEntity(createUri(url, params), type)
-          .getBody();
+          .getBody());
     } catch (HttpStatusCodeException ex) {
       // rest template will handle 404 as an exception, instead of returning null
       if (HttpStatus.NOT_FOUND == ex.getStatusCode()) {
@@ -158,11 +160,11 @@ public abstract class BaseCommunicationService<T> {
       ResponseEntity<P[]> response;
 
       if (HttpMethod.GET == method) {
-        response = restTemplate
-            .getForEntity(createUri(url, params), type);
+        response = timeRequest(resourceUrl, () -> restTemplate
+            .getForEntity(createUri(url, params), type));
       } else {
-        response = restTemplate
-            .postForEntity(createUri(url, params), payload, type);
+        response = timeRequest(resourceUrl, () -> restTemplate
+            .postForEntity(createUri(url, params), payload, type));
       }
 
       return Stream.of(response.getBody()).collect(Collectors.toList());
@@ -206,12 +208,13 @@ public abstract class BaseCommunicationService<T> {
         .set(ACCESS_TOKEN, authorizationService.obtainAccessToken());
 
     try {
-      ResponseEntity<PageImplRepresentation<P>> response = restTemplate.exchange(
+      ResponseEntity<PageImplRepresentation<P>> response = timeRequest(resourceUrl,
+          () -> restTemplate.exchange(
               createUri(url, params),
               method,
               (payload != null) ? new HttpEntity<>(payload) : null,
               new DynamicPageTypeReference<>(type)
-      );
+      ));
       return response.getBody();
 
     } catch (HttpStatusCodeException ex) {
@@ -227,12 +230,13 @@ public abstract class BaseCommunicationService<T> {
         .setAll(parameters)
         .set(ACCESS_TOKEN, authorizationService.obtainAccessToken());
 
-    ResponseEntity<ResultDto<P>> response = restTemplate.exchange(
-        createUri(url, params),
-        HttpMethod.GET,
-        null,
-        new DynamicResultDtoTypeReference<>(type)
-    );
+    ResponseEntity<ResultDto<P>> response = timeRequest(resourceUrl,
+        () -> restTemplate.exchange(
+            createUri(url, params),
+            HttpMethod.GET,
+            null,
+            new DynamicResultDtoTypeReference<>(type)
+    ));
 
     return response.getBody();
   }
@@ -241,6 +245,11 @@ public abstract class BaseCommunicationService<T> {
     this.restTemplate = template;
   }
 
+  private <P> P timeRequest(String resourceUrl, Supplier<P> request) {
+    return RemoteServiceMetrics.timeRemoteRequest(getClass().getSimpleName(),
+        getUrl() + resourceUrl, request);
+  }
+
   private DataRetrievalException buildDataRetrievalException(HttpStatusCodeException ex) {
     return new DataRetrievalException(getResultClass().getSimpleName(),
         ex.getStatusCode(),
@@ -1,17 +1,25 @@
 package mw.gov.health.lmis.reports.service;
 
-import static java.io.File.createTempFile;
-
 import static mw.gov.health.lmis.reports.i18n.JasperMessageKeys.ERROR_GENERATE_REPORT_FAILED;
-import static mw.gov.health.lmis.reports.i18n.JasperMessageKeys.ERROR_JASPER_FILE_CREATION;
 import static mw.gov.health.lmis.reports.i18n.MessageKeys.ERROR_IO;
 import static mw.gov.health.lmis.reports.i18n.MessageKeys.ERROR_JASPER_FILE_FORMAT;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_BATCH_PARTITION_FIELD_MISSING;
 import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_CLASS_NOT_FOUND;
-import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_IO;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_PREVIEW_NOT_FOUND;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_PREVIEW_PAGES_INVALID;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_TEMPLATE_QUERY_MISSING;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.REPORT_PREVIEW_LABEL;
+import static mw.gov.health.lmis.reports.service.metrics.RenderMetrics.PHASE_EXPORT;
+import static mw.gov.health.lmis.reports.service.metrics.RenderMetrics.PHASE_FILL;
+import static mw.gov.health.lmis.reports.service.metrics.RenderMetrics.PHASE_QUEUE;
+import static mw.gov.health.lmis.reports.service.metrics.RenderMetrics.PHASE_TEMPLATE;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.HTML;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.PDF;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.XLSX;
 import static mw.gov.health.lmis.reports.web.ReportTypes.ORDER_REPORT;
-import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
 
 import mw.gov.health.lmis.reports.dto.RequisitionReportDto;
+import mw.gov.health.lmis.reports.i18n.MessageService;
 import mw.gov.health.lmis.reports.dto.external.OrderDto;
 import mw.gov.health.lmis.reports.dto.external.OrderLineItemDto;
 import mw.gov.health.lmis.reports.dto.external.ProcessingPeriodDto;
@@ -20,7 +28,10 @@ import mw.gov.health.lmis.reports.dto.external.RequisitionTemplateColumnDto;
 import mw.gov.health.lmis.reports.dto.external.RequisitionTemplateDto;
 import mw.gov.health.lmis.reports.dto.external.StockCardDto;
 import mw.gov.health.lmis.reports.dto.external.StockCardSummaryDto;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
 import mw.gov.health.lmis.reports.service.fulfillment.OrderService;
+import mw.gov.health.lmis.reports.service.metrics.RenderMetrics;
+import mw.gov.health.lmis.reports.service.precompiled.PrecompiledTemplates;
 import mw.gov.health.lmis.reports.service.referencedata.BaseReferenceDataService;
 import mw.gov.health.lmis.reports.service.referencedata.LotReferenceDataService;
 import mw.gov.health.lmis.reports.service.referencedata.OrderableReferenceDataService;
@@ -28,37 +39,56 @@ import mw.gov.health.lmis.reports.service.referencedata.PeriodReferenceDataServi
 import mw.gov.health.lmis.reports.service.referencedata.StockCardReferenceDataService;
 import mw.gov.health.lmis.reports.service.referencedata.StockCardSummariesReferenceDataService;
 import mw.gov.health.lmis.reports.service.referencedata.UserReferenceDataService;
+import mw.gov.health.lmis.reports.service.render.CompiledReportCache;
+import mw.gov.health.lmis.reports.service.render.CostEstimate;
+import mw.gov.health.lmis.reports.service.render.DatasetWriter;
+import mw.gov.health.lmis.reports.service.render.JasperReportExporter;
+import mw.gov.health.lmis.reports.service.render.PartitionedRows;
+import mw.gov.health.lmis.reports.service.render.PreviewReport;
+import mw.gov.health.lmis.reports.service.render.RenderLane;
+import mw.gov.health.lmis.reports.service.render.RenderLaneExecutor;
+import mw.gov.health.lmis.reports.service.render.ReportCostPreflight;
+import mw.gov.health.lmis.reports.service.render.ReportPreview;
+import mw.gov.health.lmis.reports.service.render.ReportPreviewCache;
+import mw.gov.health.lmis.reports.service.render.JdbcReportFiller;
 import mw.gov.health.lmis.reports.web.RequisitionReportDtoBuilder;
 import mw.gov.health.lmis.utils.ReportUtils;
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRQuery;
+import net.sf.jasperreports.engine.JRVirtualizer;
 import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.JasperReport;
 import net.sf.jasperreports.engine.JRBand;
+import net.sf.jasperreports.engine.JREmptyDataSource;
 import net.sf.jasperreports.engine.JRException;
 
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import net.sf.jasperreports.engine.design.JasperDesign;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 import net.sf.jasperreports.engine.xml.JRXmlLoader;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceResourceBundle;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.WebApplicationContext;
-import org.springframework.web.context.support.WebApplicationContextUtils;
-import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.HtmlUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.sql.Connection;
+import java.io.OutputStream;
+import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -72,24 +102,20 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.Date;
 
 import java.text.SimpleDateFormat;  
 
-import javax.servlet.ServletContext;
-import javax.servlet.http.HttpServletRequest;
 import javax.sql.DataSource;
 
 import mw.gov.health.lmis.reports.domain.JasperTemplate;
 import mw.gov.health.lmis.reports.exception.JasperReportViewException;
-import org.springframework.web.servlet.view.jasperreports.AbstractJasperReportsView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsCsvView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsMultiFormatView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsPdfView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsXlsView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsXlsxView;
+import mw.gov.health.lmis.reports.exception.NotFoundMessageException;
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+import mw.gov.health.lmis.utils.Message;
 
 @SuppressWarnings("PMD.TooManyMethods")
 @Service
@@ -100,6 +126,7 @@ public class JasperReportsViewService {
   private static final String REQUISITION_LINE_REPORT_DIR =
           "/jasperTemplates/requisitionLines.jrxml";
   private static final String DATASOURCE = "datasource";
+  private static final String PREVIEW = "preview";
   static final String PI_LINES_REPORT_URL = "/jasperTemplates/physicalinventoryLines.jrxml";
 
   @Autowired
@@ -132,6 +159,33 @@ public class JasperReportsViewService {
   @Autowired
   private LotReferenceDataService lotReferenceDataService;
 
+  @Autowired
+  private JasperReportExporter jasperReportExporter;
+
+  @Autowired
+  private RenderLaneExecutor renderLaneExecutor;
+
+  @Autowired
+  private ReportCostPreflight reportCostPreflight;
+
+  @Autowired
+  private JdbcReportFiller jdbcReportFiller;
+
+  @Autowired
+  private ReportPreviewCache reportPreviewCache;
+
+  @Autowired
+  private CompiledReportCache compiledReportCache;
+
+  @Autowired
+  private PrecompiledTemplates precompiledTemplates;
+
+  @Autowired
+  private MessageService messageService;
+
+  @Autowired
+  private Clock clock;
+
   @Value("${dateTimeFormat}")
   private String dateTimeFormat;
 
@@ -144,121 +198,439 @@ public class JasperReportsViewService {
   @Value("${groupingSize}")
   private String groupingSize;
 
+  @Value("${time.zoneId}")
+  private String timeZoneId;
+
+  @Value("${reports.xlsx.streamingRows}")
+  private long xlsxStreamingRows;
+
+  @Value("${reports.preview.maxPages}")
+  private int previewMaxPages;
+
   /**
-   * Create Jasper Report View.
-   * Create Jasper Report (".jasper" file) from bytes from Template entity.
-   * Set 'Jasper' exporter parameters, JDBC data source, web application context, url to file.
+   * Render a report based on the template to the given format. The report is rendered in the lane
+   * that the template belongs to, see {@link RenderLane#of(JasperTemplate, JasperReport)}, unless
+   * the estimated cost of its query moves it to another lane, see {@link ReportCostPreflight}.
    *
-   * @param jasperTemplate template that will be used to create a view
-   * @param request  it is used to take web application context
-   * @return created jasper view.
-   * @throws JasperReportViewException if there will be any problem with creating the view.
+   * @param jasperTemplate template that will be used to render the report
+   * @param params         template parameters populated with values from the request
+   * @param format         report format
+   * @return future data of the rendered report
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
    */
-  public JasperReportsMultiFormatView getJasperReportsView(
-      JasperTemplate jasperTemplate, HttpServletRequest request) throws JasperReportViewException {
-    JasperReportsMultiFormatView jasperView = new JasperReportsMultiFormatView();
-    setFormatMappings(jasperView);
-    jasperView.setUrl(getReportUrlForReportData(jasperTemplate));
-    jasperView.setJdbcDataSource(replicationDataSource);
-
-    if (getApplicationContext(request) != null) {
-      jasperView.setApplicationContext(getApplicationContext(request));
-    }
-    return jasperView;
+  public CompletableFuture<byte[]> renderReport(JasperTemplate jasperTemplate,
+                                                Map<String, Object> params, String format)
+      throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, format);
+    return renderReport(jasperTemplate, report, params, format,
+        RenderLane.of(jasperTemplate, report));
   }
 
   /**
-   * Create Jasper Report View.
-   * Create Jasper Report (".jasper" file) from bytes from Template entity.
-   * Set 'Jasper' exporter parameters, JDBC data source, web application context, url to file.
+   * Render a report based on the template to the given format, in the given lane.
    *
-   * @param jasperTemplate template that will be used to create a view
-   * @return created jasper view.
-   * @throws JasperReportViewException if there will be any problem with creating the view.
+   * @param jasperTemplate template that will be used to render the report
+   * @param params         template parameters populated with values from the request
+   * @param format         report format
+   * @param lane           lane in which the report should be rendered
+   * @return future data of the rendered report
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
    */
-  public JasperReportsMultiFormatView getJasperReportsView(JasperTemplate jasperTemplate)
+  public CompletableFuture<byte[]> renderReport(JasperTemplate jasperTemplate,
+                                                Map<String, Object> params, String format,
+                                                RenderLane lane)
       throws JasperReportViewException {
-    JasperReportsMultiFormatView jasperView = new JasperReportsMultiFormatView();
-    setFormatMappings(jasperView);
-    jasperView.setJdbcDataSource(replicationDataSource);
-    jasperView.setUrl(getReportUrlForReportData(jasperTemplate));
-    jasperView.setApplicationContext(appContext);
-    return jasperView;
+    return renderReport(jasperTemplate, loadReport(jasperTemplate, format), params, format,
+        lane);
   }
 
   /**
-   * Create Jasper Report View.
-   * Create Jasper Report (".jasper" file) from bytes from Template entity.
-   * Set 'Jasper' exporter parameters, JDBC data source, web application context, url to file.
+   * Render a single document print, based on the template from the classpath, in the interactive
+   * lane.
    *
-   * @param templateUrl template url that will be used to create a view
-   * @return created jasper view.
-   * @throws JasperReportViewException if there will be any problem with creating the view.
+   * @param templateUrl classpath location of the template
+   * @param params      template parameters
+   * @param format      report format
+   * @return future data of the rendered report
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
    */
-  public JasperReportsMultiFormatView getJasperReportsView(String templateUrl)
+  public CompletableFuture<byte[]> renderReport(String templateUrl, Map<String, Object> params,
+                                                String format)
       throws JasperReportViewException {
-    JasperReportsMultiFormatView view = new JasperReportsMultiFormatView();
-    view.setUrl(compileReportAndGetUrl(templateUrl));
-    view.setApplicationContext(appContext);
-    view.setJdbcDataSource(replicationDataSource);
-    view.setApplicationContext(appContext);
-    return view;
+    String templateName = getTemplateName(templateUrl);
+    JasperReport report = RenderMetrics.timePhase(templateName, format, PHASE_TEMPLATE,
+        () -> compileReport(templateUrl));
+    exposeLocalizationContext(params);
+    return renderReport(templateName, report, params, format, RenderLane.INTERACTIVE);
+  }
+
+  private CompletableFuture<byte[]> renderReport(JasperTemplate jasperTemplate,
+                                                 JasperReport report, Map<String, Object> params,
+                                                 String format, RenderLane lane) {
+    if (ORDER_REPORT.equals(jasperTemplate.getType())) {
+      addOrderReportParameters(params);
+    }
+
+    String templateName = jasperTemplate.getName();
+
+    return submitChecked(templateName, report, params, format, lane, estimate -> {
+      if (isXlsxStreamed(report, params, format, estimate)) {
+        return streamXlsx(templateName, report, params);
+      }
+
+      // reports from templates may be large, so their pages are swapped to disk while filling
+      JRVirtualizer virtualizer = createVirtualizer();
+      params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+
+      try {
+        return render(templateName, report, params, format);
+      } finally {
+        virtualizer.cleanup();
+      }
+    });
+  }
+
+  private CompletableFuture<byte[]> renderReport(String templateName, JasperReport report,
+                                                 Map<String, Object> params, String format,
+                                                 RenderLane lane) {
+    long submitTime = System.nanoTime();
+
+    return renderLaneExecutor.submit(lane, () -> {
+      RenderMetrics.recordPhase(templateName, format, PHASE_QUEUE, submitTime);
+      return render(templateName, report, params, format);
+    });
   }
 
   /**
-   * Get application context from servlet.
+   * Submits the render to the given lane, where the cost of the report is checked first, on a
+   * connection counted against the quota of the lane, see {@link ReportCostPreflight}. If the
+   * report is moved to another lane, it is submitted again to that lane, so the thread of the
+   * first lane is released. The estimate is made once and passed to the render.
    */
-  public WebApplicationContext getApplicationContext(HttpServletRequest servletRequest) {
-    ServletContext servletContext = servletRequest.getSession().getServletContext();
-    return WebApplicationContextUtils.getWebApplicationContext(servletContext);
+  private <T> CompletableFuture<T> submitChecked(String templateName, JasperReport report,
+                                                 Map<String, Object> params, String format,
+                                                 RenderLane lane, CheckedRender<T> task) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    long submitTime = System.nanoTime();
+
+    CompletableFuture<Void> checked = renderLaneExecutor.submit(lane, () -> {
+      RenderMetrics.recordPhase(templateName, format, PHASE_QUEUE, submitTime);
+      CostEstimate estimate = reportCostPreflight.estimate(templateName, report, params);
+      RenderLane renderLane = reportCostPreflight.check(templateName, report, estimate, lane);
+
+      if (renderLane == lane) {
+        result.complete(task.render(estimate));
+        return null;
+      }
+
+      CompletableFuture<T> moved = renderLaneExecutor.submit(renderLane,
+          () -> task.render(estimate));
+      moved.whenComplete((data, error) -> complete(result, data, error));
+      result.whenComplete((data, error) -> {
+        if (result.isCancelled()) {
+          moved.cancel(true);
+        }
+      });
+      return null;
+    });
+
+    checked.whenComplete((nothing, error) -> {
+      if (null != error) {
+        result.completeExceptionally(error);
+      }
+    });
+    result.whenComplete((data, error) -> {
+      if (result.isCancelled()) {
+        checked.cancel(true);
+      }
+    });
+
+    return result;
+  }
+
+  private static <T> void complete(CompletableFuture<T> result, T data, Throwable error) {
+    if (null == error) {
+      result.complete(data);
+    } else {
+      result.completeExceptionally(error);
+    }
+  }
+
+  private byte[] render(String templateName, JasperReport report, Map<String, Object> params,
+                        String format)
+      throws JasperReportViewException {
+    try {
+      JasperPrint print = RenderMetrics.timePhase(templateName, format, PHASE_FILL,
+          () -> fillReport(report, params));
+      byte[] data = RenderMetrics.timePhase(templateName, format, PHASE_EXPORT,
+          () -> jasperReportExporter.export(print, format));
+
+      RenderMetrics.recordRender(templateName, format, print.getPages().size(), data.length);
+      return data;
+    } catch (JasperReportViewException | RuntimeException ex) {
+      RenderMetrics.recordRenderFailure(templateName, format);
+      throw ex;
+    }
   }
 
   /**
-   * Create ".jasper" file with byte array from Template.
+   * Render a preview of the first rows of a report based on the template, as an HTML fragment
+   * labelled as a preview. The main dataset of the report is limited to the given number of
+   * records, its query fetches only those rows, and the summary of the report is not filled, so
+   * the preview is rendered in the interactive lane without the cost preflight.
    *
-   * @return Url to ".jasper" file.
+   * @param jasperTemplate template that will be used to render the report
+   * @param params         template parameters populated with values from the request
+   * @param rows           maximal number of records of the main dataset
+   * @return future data of the rendered preview
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
    */
-  private String getReportUrlForReportData(JasperTemplate jasperTemplate)
+  public CompletableFuture<byte[]> renderReportPreview(JasperTemplate jasperTemplate,
+                                                       Map<String, Object> params, int rows)
       throws JasperReportViewException {
-    File tmpFile;
+    JasperReport report = new PreviewReport(loadReport(jasperTemplate, PREVIEW));
 
-    try {
-      tmpFile = createTempFile(jasperTemplate.getName() + "_temp", ".jasper");
-    } catch (IOException exp) {
-      throw new JasperReportViewException(
-          exp, ERROR_JASPER_FILE_CREATION
-      );
+    if (ORDER_REPORT.equals(jasperTemplate.getType())) {
+      addOrderReportParameters(params);
     }
 
-    try (ObjectInputStream inputStream =
-             new ObjectInputStream(new ByteArrayInputStream(jasperTemplate.getData()))) {
-      JasperReport jasperReport = (JasperReport) inputStream.readObject();
+    params.put(JRParameter.REPORT_MAX_COUNT, rows);
+    String templateName = jasperTemplate.getName();
+    String label = HtmlUtils.htmlEscape(messageService.localize(
+        new Message(REPORT_PREVIEW_LABEL, rows)).asMessage());
+    long submitTime = System.nanoTime();
+
+    return renderLaneExecutor.submit(RenderLane.INTERACTIVE, () -> {
+      RenderMetrics.recordPhase(templateName, PREVIEW, PHASE_QUEUE, submitTime);
+
+      try {
+        JasperPrint print = RenderMetrics.timePhase(templateName, PREVIEW, PHASE_FILL,
+            () -> fillReport(report, params));
+        byte[] data = RenderMetrics.timePhase(templateName, PREVIEW, PHASE_EXPORT,
+            () -> jasperReportExporter.exportHtmlFragment(print, label));
+
+        RenderMetrics.recordRender(templateName, PREVIEW, print.getPages().size(), data.length);
+        return data;
+      } catch (JasperReportViewException | RuntimeException ex) {
+        RenderMetrics.recordRenderFailure(templateName, PREVIEW);
+        throw ex;
+      }
+    });
+  }
 
-      try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-           ObjectOutputStream out = new ObjectOutputStream(bos)) {
+  /**
+   * Fill a report based on the template for a preview, whose pages are exported as HTML on
+   * request, see {@link #renderPreviewPages}. The report is filled once, in the lane of the
+   * template, and its pages stay swapped to disk until the preview expires.
+   *
+   * @param jasperTemplate template that will be used to fill the report
+   * @param params         template parameters populated with values from the request
+   * @param ownerId        ID of the user who requested the preview
+   * @return future preview of the filled report
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
+   */
+  public CompletableFuture<ReportPreview> previewReport(JasperTemplate jasperTemplate,
+                                                        Map<String, Object> params, UUID ownerId)
+      throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, HTML);
 
-        out.writeObject(jasperReport);
-        writeByteArrayToFile(tmpFile, bos.toByteArray());
+    if (ORDER_REPORT.equals(jasperTemplate.getType())) {
+      addOrderReportParameters(params);
+    }
 
-        return tmpFile.toURI().toURL().toString();
+    String templateName = jasperTemplate.getName();
+    RenderLane lane = RenderLane.of(jasperTemplate, report);
+
+    return submitChecked(templateName, report, params, HTML, lane, estimate -> {
+      JRSwapFileVirtualizer virtualizer = createVirtualizer();
+      params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+
+      try {
+        JasperPrint print = RenderMetrics.timePhase(templateName, HTML, PHASE_FILL,
+            () -> fillReport(report, params));
+        // the pages are only read from now on, so they are not written to the swap file again
+        virtualizer.setReadOnly(true);
+
+        return reportPreviewCache.add(new ReportPreview(
+            jasperTemplate.getId(), templateName, ownerId, print, virtualizer));
+      } catch (JasperReportViewException | RuntimeException ex) {
+        virtualizer.cleanup();
+        RenderMetrics.recordRenderFailure(templateName, HTML);
+        throw ex;
       }
-    } catch (IOException exp) {
-      throw new JasperReportViewException(exp, ERROR_REPORTING_IO, exp.getMessage());
-    } catch (ClassNotFoundException exp) {
-      throw new JasperReportViewException(
-          exp, ERROR_REPORTING_CLASS_NOT_FOUND, JasperReport.class.getName());
+    });
+  }
+
+  /**
+   * Export a range of pages of a report preview as HTML. The images of the pages are referenced
+   * under the given URL, and can be read with {@link #getPreviewImage(UUID, UUID, String)}. The
+   * preview is not found if it has expired or if it has been requested by another user, and the
+   * range is rejected if it is not within the pages of the report or it is longer than the limit.
+   *
+   * @param previewId ID of the preview
+   * @param ownerId   ID of the user who requests the pages
+   * @param firstPage number of the first page, starting from 1
+   * @param lastPage  number of the last page, starting from 1
+   * @param imagesUrl URL under which the images of the preview are served, ending with a slash
+   * @return exported pages
+   * @throws JasperReportViewException if the pages could not be exported
+   */
+  public byte[] renderPreviewPages(UUID previewId, UUID ownerId, int firstPage, int lastPage,
+                                   String imagesUrl)
+      throws JasperReportViewException {
+    ReportPreview preview = reportPreviewCache.get(previewId);
+
+    if (null == preview || !preview.getOwnerId().equals(ownerId)) {
+      throw new NotFoundMessageException(
+          new Message(ERROR_REPORTING_PREVIEW_NOT_FOUND, previewId));
+    }
+
+    int pageCount = preview.getPageCount();
+
+    if (firstPage < 1 || lastPage < firstPage || lastPage > pageCount
+        || lastPage - firstPage >= previewMaxPages) {
+      throw new ValidationMessageException(new Message(
+          ERROR_REPORTING_PREVIEW_PAGES_INVALID, firstPage, lastPage, pageCount,
+          previewMaxPages));
+    }
+
+    byte[] pages = RenderMetrics.timePhase(preview.getTemplateName(), HTML, PHASE_EXPORT,
+        () -> preview.exportPages(jasperReportExporter, firstPage - 1, lastPage - 1, imagesUrl));
+
+    if (null == pages) {
+      throw new NotFoundMessageException(
+          new Message(ERROR_REPORTING_PREVIEW_NOT_FOUND, previewId));
     }
+
+    return pages;
   }
 
   /**
-   * Get customized Jasper Report View for Order Report.
+   * Get an image of the exported pages of a report preview. As the pages, the image is not found
+   * if the preview has expired or if it has been requested by another user.
    *
-   * @param jasperView generic jasper report view
-   * @param parameters template parameters populated with values from the request
-   * @return customized jasper view.
+   * @param previewId ID of the preview
+   * @param ownerId   ID of the user who requests the image
+   * @param name      name of the image
+   * @return content of the image
    */
-  public ModelAndView getOrderJasperReportView(JasperReportsMultiFormatView jasperView,
-                                               Map<String, Object> parameters) {
+  public byte[] getPreviewImage(UUID previewId, UUID ownerId, String name) {
+    ReportPreview preview = reportPreviewCache.get(previewId);
+    byte[] image = null == preview || !preview.getOwnerId().equals(ownerId)
+        ? null
+        : preview.getImage(name);
+
+    if (null == image) {
+      throw new NotFoundMessageException(
+          new Message(ERROR_REPORTING_PREVIEW_NOT_FOUND, previewId));
+    }
+
+    return image;
+  }
+
+  /**
+   * Checks if the XLSX report should be written from the rows of its query through a streaming
+   * workbook, instead of exporting the filled report. The template property is used if it is set,
+   * otherwise the estimated rows of the query are compared with the configured limit.
+   */
+  private boolean isXlsxStreamed(JasperReport report, Map<String, Object> params, String format,
+                                 CostEstimate estimate) {
+    if (!XLSX.equals(format) || !JdbcReportFiller.hasSqlQuery(report.getMainDataset())
+        || params.values().stream().anyMatch(JRDataSource.class::isInstance)) {
+      return false;
+    }
+
+    String property = report.getProperty(JasperReportExporter.STREAM_XLSX_PROPERTY);
+
+    if (null != property) {
+      return Boolean.parseBoolean(property.trim());
+    }
+
+    if (xlsxStreamingRows <= 0) {
+      return false;
+    }
+
+    Double rows = estimate.getRows();
+    return null != rows && rows > xlsxStreamingRows;
+  }
+
+  private byte[] streamXlsx(String templateName, JasperReport report,
+                            Map<String, Object> params) throws JasperReportViewException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    try {
+      streamRows(templateName, report, params, XLSX, DatasetWriter.create(XLSX, output));
+    } catch (JasperReportViewException | RuntimeException ex) {
+      RenderMetrics.recordRenderFailure(templateName, XLSX);
+      throw ex;
+    }
+
+    return output.toByteArray();
+  }
+
+  /**
+   * Fill the report with the data source passed in the parameters, if there is one, or with
+   * connections to the replication database. In the latter case the subdataset queries are run
+   * in parallel and the connection is returned once the rows are read, see
+   * {@link JdbcReportFiller}.
+   *
+   * @param report compiled report
+   * @param params report parameters
+   * @return filled report
+   * @throws JasperReportViewException if the report could not be filled.
+   */
+  public JasperPrint fillReport(JasperReport report, Map<String, Object> params)
+      throws JasperReportViewException {
+    JRDataSource dataSource = params.values().stream()
+        .filter(JRDataSource.class::isInstance)
+        .map(JRDataSource.class::cast)
+        .findFirst()
+        .orElse(null);
+
+    try {
+      if (null != dataSource) {
+        return JasperFillManager.fillReport(report, params, dataSource);
+      }
+
+      return jdbcReportFiller.fill(report, params,
+          () -> renderLaneExecutor.getConnection(replicationDataSource));
+    } catch (JRException | SQLException ex) {
+      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
+    }
+  }
+
+  /**
+   * Add the locale and the resource bundle of the current request to the report parameters,
+   * unless they are already present.
+   *
+   * @param params report parameters
+   */
+  public void exposeLocalizationContext(Map<String, Object> params) {
+    Locale locale = LocaleContextHolder.getLocale();
+    params.putIfAbsent(JRParameter.REPORT_LOCALE, locale);
+    params.putIfAbsent(JRParameter.REPORT_RESOURCE_BUNDLE,
+        new MessageSourceResourceBundle(appContext, locale));
+  }
+
+  /**
+   * Add the formats, the time zone and the localization context to the parameters of a report
+   * rendered from a template.
+   *
+   * @param params report parameters
+   * @param format report format
+   */
+  public void addRenderParameters(Map<String, Object> params, String format) {
+    params.put("format", format);
+    params.put("dateTimeFormat", dateTimeFormat);
+    params.put("dateFormat", dateFormat);
+    params.put("timeZoneId", timeZoneId);
+    params.put("imagesDirectory", "images/");
+    params.put("timeZone", clock.getZone().getId());
+    params.put("decimalFormat", createDecimalFormat());
+    exposeLocalizationContext(params);
+  }
+
+  private void addOrderReportParameters(Map<String, Object> parameters) {
     OrderDto order = orderService.findOne(
             UUID.fromString(parameters.get("order").toString())
     );
@@ -273,35 +645,32 @@ public class JasperReportsViewService {
     parameters.put("order", order);
     parameters.put("orderingPeriod", order.getEmergency()
         ? order.getProcessingPeriod() : findNextPeriod(order.getProcessingPeriod(), null));
-
-    return new ModelAndView(jasperView, parameters);
   }
 
   /**
-   * Create custom Jasper Report View for printing a requisition.
+   * Render a requisition print in PDF format.
    *
    * @param requisition requisition to render report for.
-   * @param request  it is used to take web application context.
-   * @return created jasper view.
-   * @throws JasperReportViewException if there will be any problem with creating the view.
+   * @return future data of the rendered report
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
    */
-  public ModelAndView getRequisitionJasperReportView(
-          RequisitionDto requisition, HttpServletRequest request) throws JasperReportViewException {
+  public CompletableFuture<byte[]> renderRequisitionReport(RequisitionDto requisition)
+      throws JasperReportViewException {
     RequisitionReportDto reportDto = requisitionReportDtoBuilder.build(requisition);
     RequisitionTemplateDto template = requisition.getTemplate();
 
     Map<String, Object> params = ReportUtils.createParametersMap();
     params.put("subreport", createCustomizedRequisitionLineSubreport(template));
-    params.put(DATASOURCE, Collections.singletonList(reportDto));
+    params.put(DATASOURCE,
+        new JRBeanCollectionDataSource(Collections.singletonList(reportDto)));
     params.put("template", template);
+    exposeLocalizationContext(params);
 
-    JasperReportsMultiFormatView jasperView = new JasperReportsMultiFormatView();
-    setCustomizedJasperTemplateForRequisitionReport(jasperView);
+    String templateName = getTemplateName(REQUISITION_REPORT_DIR);
+    JasperReport report = RenderMetrics.timePhase(templateName, PDF, PHASE_TEMPLATE,
+        () -> compileReport(REQUISITION_REPORT_DIR));
 
-    if (getApplicationContext(request) != null) {
-      jasperView.setApplicationContext(getApplicationContext(request));
-    }
-    return new ModelAndView(jasperView, params);
+    return renderReport(templateName, report, params, PDF, RenderLane.INTERACTIVE);
   }
 
   /**
@@ -393,27 +762,6 @@ public class JasperReportsViewService {
     }
   }
 
-  private void setCustomizedJasperTemplateForRequisitionReport(
-          JasperReportsMultiFormatView jasperView) throws JasperReportViewException {
-    try (InputStream inputStream = getClass().getResourceAsStream(REQUISITION_REPORT_DIR)) {
-      File reportTempFile = createTempFile("requisitionReport_temp", ".jasper");
-      JasperReport report = JasperCompileManager.compileReport(inputStream);
-
-      try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-           ObjectOutputStream out = new ObjectOutputStream(bos)) {
-
-        out.writeObject(report);
-        writeByteArrayToFile(reportTempFile, bos.toByteArray());
-
-        jasperView.setUrl(reportTempFile.toURI().toURL().toString());
-      }
-    } catch (IOException err) {
-      throw new JasperReportViewException(err, ERROR_IO, err.getMessage());
-    } catch (JRException err) {
-      throw new JasperReportViewException(err, ERROR_JASPER_FILE_FORMAT, err.getMessage());
-    }
-  }
-
   private <T> T getIfPresent(BaseReferenceDataService<T> service, UUID id) {
     return Optional.ofNullable(id).isPresent() ? service.findOne(id) : null;
   }
@@ -442,22 +790,7 @@ public class JasperReportsViewService {
   byte[] fillAndExportReport(JasperReport compiledReport, Map<String, Object> params)
       throws JasperReportViewException {
 
-    byte[] bytes;
-
-    try {
-      JasperPrint jasperPrint;
-
-      try (Connection connection = replicationDataSource.getConnection()) {
-        jasperPrint = JasperFillManager.fillReport(compiledReport, params,
-            connection);
-      }
-
-      bytes = JasperExportManager.exportReportToPdf(jasperPrint);
-    } catch (Exception ex) {
-      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
-    }
-
-    return bytes;
+    return jasperReportExporter.export(fillReport(compiledReport, params), PDF);
   }
 
   /**
@@ -474,22 +807,6 @@ public class JasperReportsViewService {
     return fillAndExportReport(getReportFromTemplateData(jasperTemplate), params);
   }
 
-  /**
-   * Generate a report.
-   * Using report URL to fill in data and export to desired format.
-   *
-   * @param templateUrl template url that will be used to generate a report
-   * @param params  map of parameters
-   * @return data of generated report
-   */
-  public ModelAndView generateReport(String templateUrl, Map<String, Object> params)
-      throws JasperReportViewException {
-    JasperReportsPdfView view = createJasperReportsPdfView();
-    view.setUrl(compileReportAndGetUrl(templateUrl));
-    view.setApplicationContext(appContext);
-    return new ModelAndView(view, params);
-  }
-
   private long getCount(List<StockCardDto> stockCards, Function<StockCardDto, String> mapper) {
     return stockCards.stream().map(mapper).distinct().count();
   }
@@ -503,13 +820,13 @@ public class JasperReportsViewService {
   }
 
   /**
-   * Generate stock card summary report in PDF format.
+   * Render stock card summary report in PDF format.
    *
    * @param program  program id
    * @param facility facility id
-   * @return generated stock card summary report.
+   * @return future data of the rendered report
    */
-  public ModelAndView getStockCardSummariesReportView(UUID program, UUID facility)
+  public CompletableFuture<byte[]> renderStockCardSummariesReport(UUID program, UUID facility)
       throws JasperReportViewException {
     List<StockCardSummaryDto> cardSummaries = stockCardSummariesDataService
         .findStockCardsSummaries(program, facility);
@@ -531,6 +848,7 @@ public class JasperReportsViewService {
     StockCardDto firstCard = cards.get(0);
     Map<String, Object> params = new HashMap<>();
     params.put("stockCardSummaries", cards);
+    params.put(DATASOURCE, new JRBeanCollectionDataSource(cards));
 
     params.put("program", firstCard.getProgram());
     params.put("facility", firstCard.getFacility());
@@ -543,42 +861,238 @@ public class JasperReportsViewService {
     params.put("dateTimeFormat", dateTimeFormat);
     params.put("decimalFormat", createDecimalFormat());
 
-    return generateReport(CARD_SUMMARY_REPORT_URL, params);
+    return renderReport(CARD_SUMMARY_REPORT_URL, params, PDF);
   }
 
-  private String compileReportAndGetUrl(String templateUrl) throws JasperReportViewException {
-    try (InputStream inputStream = getClass().getResourceAsStream(templateUrl)) {
-      JasperReport report = JasperCompileManager.compileReport(inputStream);
+  private JRSwapFileVirtualizer createVirtualizer() {
+    return new JRSwapFileVirtualizer(
+        1000, new JRSwapFile(System.getProperty("java.io.tmpdir"), 4096, 200), true);
+  }
 
-      return saveAndGetUrl(report, "report_temp");
+  private JasperReport loadReport(JasperTemplate jasperTemplate, String format)
+      throws JasperReportViewException {
+    return RenderMetrics.timePhase(jasperTemplate.getName(), format, PHASE_TEMPLATE,
+        () -> compiledReportCache.get(jasperTemplate,
+            () -> getReportFromTemplateData(jasperTemplate)));
+  }
+
+  private String getTemplateName(String templateUrl) {
+    return templateUrl.substring(templateUrl.lastIndexOf('/') + 1, templateUrl.lastIndexOf('.'));
+  }
+
+  private JasperReport compileReport(String templateUrl) throws JasperReportViewException {
+    try (InputStream inputStream = getClass().getResourceAsStream(templateUrl)) {
+      // the templates are compiled at build, unless the service runs from the sources
+      JasperReport precompiled = precompiledTemplates.loadReport(templateUrl);
+      return null != precompiled ? precompiled : JasperCompileManager.compileReport(inputStream);
     } catch (IOException ex) {
       throw new JasperReportViewException(ex, ERROR_IO + ex.getMessage());
+    } catch (ClassNotFoundException ex) {
+      throw new JasperReportViewException(
+          ex, ERROR_REPORTING_CLASS_NOT_FOUND + JasperReport.class.getName());
     } catch (JRException ex) {
       throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
     }
   }
 
-  private String saveAndGetUrl(JasperReport report, String templateName)
-      throws IOException, JasperReportViewException {
-    File reportTempFile;
+  /**
+   * Writes the rows of the main query of the template in a tabular format, without filling the
+   * report layout. The query runs with the same parameters as the render of the report, and its
+   * rows are written as they are read, so they are not kept in memory. The rows are read in the
+   * lane of the template, on a connection counted against its quota, see
+   * {@link RenderLane#of(JasperTemplate, JasperReport)}.
+   *
+   * @param jasperTemplate template with a SQL query in the main dataset
+   * @param params         template parameters populated with values from the request
+   * @param format         data format, see {@link DatasetWriter}
+   * @param output         stream to which the rows are written
+   * @return future completed when the rows have been written
+   * @throws JasperReportViewException if the template could not be read
+   */
+  public CompletableFuture<Void> streamReportData(JasperTemplate jasperTemplate,
+                                                  Map<String, Object> params, String format,
+                                                  OutputStream output)
+      throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, format);
+
+    // order reports are filled with the order from the fulfillment service, not with the query
+    if (ORDER_REPORT.equals(jasperTemplate.getType())
+        || !JdbcReportFiller.hasSqlQuery(report.getMainDataset())) {
+      throw new ValidationMessageException(new Message(
+          ERROR_REPORTING_TEMPLATE_QUERY_MISSING, jasperTemplate.getName()));
+    }
+
+    String templateName = jasperTemplate.getName();
+    long submitTime = System.nanoTime();
+
+    return renderLaneExecutor.submit(RenderLane.of(jasperTemplate, report), () -> {
+      RenderMetrics.recordPhase(templateName, format, PHASE_QUEUE, submitTime);
+      streamRows(templateName, report, params, format, DatasetWriter.create(format, output));
+      return null;
+    });
+  }
+
+  private void streamRows(String templateName, JasperReport report, Map<String, Object> params,
+                          String format, DatasetWriter writer) throws JasperReportViewException {
+    long startTime = System.nanoTime();
+
     try {
-      reportTempFile = createTempFile(templateName, ".jasper");
-    } catch (IOException ex) {
-      throw new JasperReportViewException(ex, ERROR_JASPER_FILE_CREATION);
+      long rows = jdbcReportFiller.stream(report, params,
+          () -> renderLaneExecutor.getConnection(replicationDataSource), writer);
+      RenderMetrics.recordStreamedRows(templateName, format, rows, startTime);
+    } catch (JRException | SQLException ex) {
+      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
+    }
+  }
+
+  /**
+   * Reads the rows of the main query of the template once for a batch of partitions, in the
+   * aggregate lane. The query runs without the partition parameter, and its rows are sliced in
+   * memory by the field named by the {@value PartitionedRows#FIELD_PROPERTY} property of the
+   * report, or by the field named like the partition parameter.
+   *
+   * @param jasperTemplate     template with a SQL query in the main dataset
+   * @param params             template parameters populated with values from the request
+   * @param partitionParameter name of the parameter, whose values are the partitions
+   * @param maxRows            maximal number of rows, that can be kept in memory
+   * @return future rows of the main query, partitioned by the partition field
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
+   */
+  public CompletableFuture<PartitionedRows> readPartitions(JasperTemplate jasperTemplate,
+                                                           Map<String, Object> params,
+                                                           String partitionParameter,
+                                                           long maxRows)
+      throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, PartitionedRows.FORMAT);
+
+    if (ORDER_REPORT.equals(jasperTemplate.getType())
+        || !JdbcReportFiller.hasSqlQuery(report.getMainDataset())) {
+      throw new ValidationMessageException(new Message(
+          ERROR_REPORTING_TEMPLATE_QUERY_MISSING, jasperTemplate.getName()));
+    }
+
+    String field = Optional
+        .ofNullable(report.getProperty(PartitionedRows.FIELD_PROPERTY))
+        .map(String::trim)
+        .orElse(partitionParameter);
+    boolean declared = null != report.getFields() && Arrays.stream(report.getFields())
+        .anyMatch(reportField -> field.equals(reportField.getName()));
+
+    if (!declared) {
+      throw new ValidationMessageException(new Message(
+          ERROR_REPORTING_BATCH_PARTITION_FIELD_MISSING, jasperTemplate.getName(), field));
+    }
+
+    Map<String, Object> queryParams = new HashMap<>(params);
+    queryParams.remove(partitionParameter);
+    String templateName = jasperTemplate.getName();
+
+    return renderLaneExecutor.submit(RenderLane.AGGREGATE, () -> {
+      PartitionedRows rows = new PartitionedRows(field, maxRows);
+      streamRows(templateName, report, queryParams, PartitionedRows.FORMAT, rows);
+      return rows;
+    });
+  }
+
+  /**
+   * Render a single partition of a batch to the given format, in the aggregate lane. The main
+   * dataset is filled from the rows of the partition, read once for the whole batch, see
+   * {@link #readPartitions}, and only the subdataset queries are run.
+   *
+   * @param jasperTemplate template that will be used to render the report
+   * @param params         template parameters, with the value of the partition parameter
+   * @param format         report format
+   * @param rows           rows of the main dataset of the partition
+   * @return future data of the rendered report
+   * @throws JasperReportViewException if there will be any problem with preparing the report.
+   */
+  public CompletableFuture<byte[]> renderPartition(JasperTemplate jasperTemplate,
+                                                   Map<String, Object> params, String format,
+                                                   JRDataSource rows)
+      throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, format);
+    String templateName = jasperTemplate.getName();
+    long submitTime = System.nanoTime();
+
+    return renderLaneExecutor.submit(RenderLane.AGGREGATE, () -> {
+      RenderMetrics.recordPhase(templateName, format, PHASE_QUEUE, submitTime);
+      JRVirtualizer virtualizer = createVirtualizer();
+      params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+
+      try {
+        JasperPrint print = RenderMetrics.timePhase(templateName, format, PHASE_FILL,
+            () -> fillPartition(report, params, rows));
+        byte[] data = RenderMetrics.timePhase(templateName, format, PHASE_EXPORT,
+            () -> jasperReportExporter.export(print, format));
+
+        RenderMetrics.recordRender(templateName, format, print.getPages().size(), data.length);
+        return data;
+      } catch (JasperReportViewException | RuntimeException ex) {
+        RenderMetrics.recordRenderFailure(templateName, format);
+        throw ex;
+      } finally {
+        virtualizer.cleanup();
+      }
+    });
+  }
+
+  private JasperPrint fillPartition(JasperReport report, Map<String, Object> params,
+                                    JRDataSource rows) throws JasperReportViewException {
+    try {
+      return jdbcReportFiller.fill(report, params,
+          () -> renderLaneExecutor.getConnection(replicationDataSource), rows);
+    } catch (JRException | SQLException ex) {
+      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
     }
+  }
 
-    try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-         ObjectOutputStream out = new ObjectOutputStream(bos)) {
+  /**
+   * Reads the report of the template into the cache and fills it with empty rows, without a
+   * database connection, so the classes of the fill and the export of the template are loaded and
+   * compiled before the first request.
+   *
+   * @param jasperTemplate template to warm up
+   * @param rows           number of empty rows of the fill, 0 only reads the report
+   * @throws JasperReportViewException if the report could not be read or filled
+   */
+  public void warmUp(JasperTemplate jasperTemplate, int rows) throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, PDF);
+
+    if (rows > 0) {
+      Map<String, Object> params = new HashMap<>();
+      addRenderParameters(params, PDF);
+      params.put(DATASOURCE, new JREmptyDataSource(rows));
+      jasperReportExporter.export(fillReport(report, params), PDF);
+    }
+  }
 
-      out.writeObject(report);
-      writeByteArrayToFile(reportTempFile, bos.toByteArray());
+  /**
+   * Finds the source domains read by the queries of the template, see
+   * {@link SourceDomain#readBy}, e.g. to keep its reports until their data changes.
+   *
+   * @param jasperTemplate template of the reports
+   * @return domains read by the template
+   * @throws JasperReportViewException if the report could not be read
+   */
+  public Set<SourceDomain> getSourceDomains(JasperTemplate jasperTemplate)
+      throws JasperReportViewException {
+    JasperReport report = loadReport(jasperTemplate, PDF);
+    List<String> queries = new ArrayList<>();
+    addQuery(queries, report.getQuery());
 
-      return reportTempFile.toURI().toURL().toString();
+    if (null != report.getDatasets()) {
+      for (JRDataset dataset : report.getDatasets()) {
+        addQuery(queries, dataset.getQuery());
+      }
     }
+
+    return SourceDomain.readBy(queries);
   }
 
-  protected JasperReportsPdfView createJasperReportsPdfView() {
-    return new JasperReportsPdfView();
+  private static void addQuery(List<String> queries, JRQuery query) {
+    if (null != query && null != query.getText()) {
+      queries.add(query.getText());
+    }
   }
 
   /**
@@ -586,7 +1100,7 @@ public class JasperReportsViewService {
    *
    * @return Url to ".jasper" file.
    */
-  JasperReport getReportFromTemplateData(JasperTemplate jasperTemplate)
+  public JasperReport getReportFromTemplateData(JasperTemplate jasperTemplate)
       throws JasperReportViewException {
 
     try (ObjectInputStream inputStream =
@@ -601,13 +1115,12 @@ public class JasperReportsViewService {
     }
   }
 
-  private void setFormatMappings(JasperReportsMultiFormatView jasperView) {
-    Map<String, Class<? extends AbstractJasperReportsView>> formatMappings = new HashMap<>();
-    formatMappings.put("csv", JasperReportsCsvView.class);
-    formatMappings.put("html", JasperReportsHtmlView.class);
-    formatMappings.put("pdf", JasperReportsPdfView.class);
-    formatMappings.put("xls", JasperReportsXlsView.class);
-    formatMappings.put("xlsx", JasperReportsXlsxView.class);
-    jasperView.setFormatMappings(formatMappings);
+  /**
+   * Render that is given the estimate of the report made before it, see
+   * {@link #submitChecked(String, JasperReport, Map, String, RenderLane, CheckedRender)}.
+   */
+  @FunctionalInterface
+  private interface CheckedRender<T> {
+    T render(CostEstimate estimate) throws JasperReportViewException;
   }
 }
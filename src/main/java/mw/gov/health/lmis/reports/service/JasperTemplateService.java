@@ -18,6 +18,7 @@ import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperCompileManager;
 import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRLoader;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -85,6 +86,23 @@ public class JasperTemplateService {
     jasperTemplateRepository.save(jasperTemplate);
   }
 
+  /**
+   * Replace the report of an existing template with a compiled ".jasper" report, e.g. a report
+   * compiled at build. The properties and the parameters of the template are read from the report,
+   * as when a ".jrxml" file is uploaded, and the template is saved with them.
+   */
+  public void updateReport(JasperTemplate jasperTemplate, byte[] data) throws ReportingException {
+    try {
+      setReportProperties(jasperTemplate,
+          (JasperReport) JRLoader.loadObject(new ByteArrayInputStream(data)));
+    } catch (JRException ex) {
+      throw new ReportingException(ex, ERROR_REPORTING_FILE_INVALID);
+    }
+
+    jasperTemplate.setData(data);
+    saveWithParameters(jasperTemplate);
+  }
+
   /**
    * Convert template from ".jasper" format in database to ".jrxml"(extension) format.
    */
@@ -114,27 +132,7 @@ public class JasperTemplateService {
 
     try {
       JasperReport report = JasperCompileManager.compileReport(file.getInputStream());
-
-      String reportType = report.getProperty(REPORT_TYPE_PROPERTY);
-      if (reportType != null) {
-        jasperTemplate.setType(reportType);
-      }
-
-      String isDisplayed = report.getProperty(IS_DISPLAYED_PROPERTY);
-      if (isDisplayed != null) {
-        jasperTemplate.setIsDisplayed(Boolean.valueOf(isDisplayed));
-      }
-
-      String formats = report.getProperty(SUPPORTED_FORMATS_PROPERTY);
-      if (formats != null) {
-        jasperTemplate.setSupportedFormats(extractListProperties(formats));
-      }
-
-      JRParameter[] jrParameters = report.getParameters();
-
-      if (jrParameters != null && jrParameters.length > 0) {
-        setTemplateParameters(jasperTemplate, jrParameters);
-      }
+      setReportProperties(jasperTemplate, report);
 
       ByteArrayOutputStream bos = new ByteArrayOutputStream();
       ObjectOutputStream out = new ObjectOutputStream(bos);
@@ -147,6 +145,30 @@ public class JasperTemplateService {
     }
   }
 
+  private void setReportProperties(JasperTemplate jasperTemplate, JasperReport report)
+      throws ReportingException {
+    String reportType = report.getProperty(REPORT_TYPE_PROPERTY);
+    if (reportType != null) {
+      jasperTemplate.setType(reportType);
+    }
+
+    String isDisplayed = report.getProperty(IS_DISPLAYED_PROPERTY);
+    if (isDisplayed != null) {
+      jasperTemplate.setIsDisplayed(Boolean.valueOf(isDisplayed));
+    }
+
+    String formats = report.getProperty(SUPPORTED_FORMATS_PROPERTY);
+    if (formats != null) {
+      jasperTemplate.setSupportedFormats(extractListProperties(formats));
+    }
+
+    JRParameter[] jrParameters = report.getParameters();
+
+    if (jrParameters != null && jrParameters.length > 0) {
+      setTemplateParameters(jasperTemplate, jrParameters);
+    }
+  }
+
   private void setTemplateParameters(JasperTemplate jasperTemplate, JRParameter[] jrParameters)
       throws ReportingException {
     ArrayList<JasperTemplateParameter> parameters = new ArrayList<>();
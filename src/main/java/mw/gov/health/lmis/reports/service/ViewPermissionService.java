@@ -16,6 +16,7 @@
 package mw.gov.health.lmis.reports.service;
 
 import mw.gov.health.lmis.reports.dto.external.RequisitionDto;
+import mw.gov.health.lmis.reports.service.metrics.RemoteServiceMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -42,8 +43,9 @@ public class ViewPermissionService {
    * Checks if current user has permission to view a requisition.
    */
   public void canViewRequisition(RequisitionDto requisition) {
-    permissionService.checkPermission(REQUISITION_VIEW, requisition.getProgram().getId(),
-        requisition.getFacility().getId(), null);
+    RemoteServiceMetrics.timePermissionCheck("canViewRequisition", () -> permissionService
+        .checkPermission(REQUISITION_VIEW, requisition.getProgram().getId(),
+            requisition.getFacility().getId(), null));
   }
 
   /**
@@ -53,7 +55,8 @@ public class ViewPermissionService {
    * @param facilityId facility id.
    */
   public void canViewStockCard(UUID programId, UUID facilityId) {
-    permissionService.hasPermission(STOCK_CARDS_VIEW, programId, facilityId, null);
+    RemoteServiceMetrics.timePermissionCheck("canViewStockCard", () -> permissionService
+        .hasPermission(STOCK_CARDS_VIEW, programId, facilityId, null));
   }
 
   /**
@@ -66,12 +69,14 @@ public class ViewPermissionService {
         || templateId.equals(ORDER_ID))) {
       canViewReportsOrOrders();
     } else {
-      permissionService.checkPermission(REPORTS_VIEW);
+      RemoteServiceMetrics.timePermissionCheck("canViewReports",
+          () -> permissionService.checkPermission(REPORTS_VIEW));
     }
   }
 
   public void canViewReportsOrOrders() {
-    permissionService.checkAnyPermission(Arrays.asList(REPORTS_VIEW, ORDERS_VIEW));
+    RemoteServiceMetrics.timePermissionCheck("canViewReportsOrOrders", () -> permissionService
+        .checkAnyPermission(Arrays.asList(REPORTS_VIEW, ORDERS_VIEW)));
   }
 
 }
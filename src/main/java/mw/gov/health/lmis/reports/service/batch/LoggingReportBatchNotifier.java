@@ -0,0 +1,20 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs the finished batches. The reports are not delivered anywhere, the subscribers download
+ * them from the batch, until a notifier that delivers them is registered next to this one.
+ */
+@Component
+public class LoggingReportBatchNotifier implements ReportBatchNotifier {
+  private static final Logger LOGGER = LoggerFactory.getLogger(LoggingReportBatchNotifier.class);
+
+  @Override
+  public void notify(ReportBatch batch) {
+    LOGGER.info("Batch {} of template {} {} with {} artifacts", batch.getId(),
+        batch.getTemplateName(), batch.getStatus(), batch.getArtifacts().size());
+  }
+}
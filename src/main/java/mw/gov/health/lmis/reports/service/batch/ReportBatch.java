@@ -0,0 +1,137 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reports of a template rendered for every partition of a dataset in one job, see
+ * {@link ReportBatchService}. The artifacts are added by the renders of the partitions, which
+ * run in parallel, so the state of the batch is synchronized. The batch is kept in the database by
+ * the {@link ReportBatchStore}, and the artifacts of a loaded batch have no data.
+ */
+public class ReportBatch {
+
+  /**
+   * State of a batch.
+   */
+  public enum Status {
+    RUNNING, COMPLETED, FAILED
+  }
+
+  private final UUID id;
+  private final UUID templateId;
+  private final String templateName;
+  private final String format;
+  private final String partitionParameter;
+  private final UUID ownerId;
+  private final ZonedDateTime createdDate;
+  private final List<ReportBatchArtifact> artifacts = new ArrayList<>();
+
+  private Status status = Status.RUNNING;
+  private ZonedDateTime completedDate;
+  private String error;
+
+  /**
+   * Creates a running batch.
+   *
+   * @param templateId         ID of the template
+   * @param templateName       name of the template
+   * @param format             format of the reports
+   * @param partitionParameter name of the parameter, whose values are the partitions
+   * @param ownerId            ID of the user who requested the batch
+   * @param createdDate        time when the batch was requested
+   */
+  public ReportBatch(UUID templateId, String templateName, String format,
+                     String partitionParameter, UUID ownerId, ZonedDateTime createdDate) {
+    this(UUID.randomUUID(), templateId, templateName, format, partitionParameter, ownerId,
+        createdDate);
+  }
+
+  ReportBatch(UUID id, UUID templateId, String templateName, String format,
+              String partitionParameter, UUID ownerId, ZonedDateTime createdDate) {
+    this.id = id;
+    this.templateId = templateId;
+    this.templateName = templateName;
+    this.format = format;
+    this.partitionParameter = partitionParameter;
+    this.ownerId = ownerId;
+    this.createdDate = createdDate;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public UUID getTemplateId() {
+    return templateId;
+  }
+
+  public String getTemplateName() {
+    return templateName;
+  }
+
+  public String getFormat() {
+    return format;
+  }
+
+  public String getPartitionParameter() {
+    return partitionParameter;
+  }
+
+  public UUID getOwnerId() {
+    return ownerId;
+  }
+
+  public ZonedDateTime getCreatedDate() {
+    return createdDate;
+  }
+
+  public synchronized Status getStatus() {
+    return status;
+  }
+
+  public synchronized ZonedDateTime getCompletedDate() {
+    return completedDate;
+  }
+
+  public synchronized String getError() {
+    return error;
+  }
+
+  /**
+   * Gets the artifacts added so far, ordered by the partition.
+   *
+   * @return copy of the artifacts
+   */
+  public synchronized List<ReportBatchArtifact> getArtifacts() {
+    List<ReportBatchArtifact> copy = new ArrayList<>(artifacts);
+    copy.sort((left, right) -> left.getPartition().compareTo(right.getPartition()));
+    return Collections.unmodifiableList(copy);
+  }
+
+  /**
+   * Finds an artifact that has been written.
+   *
+   * @param fileName name of the file of the artifact
+   * @return the artifact, or null if there is no such file
+   */
+  public synchronized ReportBatchArtifact findArtifact(String fileName) {
+    return artifacts.stream()
+        .filter(artifact -> fileName.equals(artifact.getFileName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  synchronized void addArtifact(ReportBatchArtifact artifact) {
+    artifacts.add(artifact);
+  }
+
+  synchronized void finish(String failure, ZonedDateTime date) {
+    status = null == failure ? Status.COMPLETED : Status.FAILED;
+    error = failure;
+    completedDate = date;
+  }
+}
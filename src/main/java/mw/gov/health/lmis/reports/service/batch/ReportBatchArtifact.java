@@ -0,0 +1,18 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Report of a single partition of a batch, stored with the batch. A partition that could not be
+ * rendered has no file, and the reason is kept in the error.
+ */
+@Getter
+@AllArgsConstructor
+public class ReportBatchArtifact {
+  private final String partition;
+  private final String fileName;
+  private final long size;
+  private final String checksum;
+  private final String error;
+}
@@ -0,0 +1,15 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+/**
+ * Delivers the reports of a finished batch to the subscribers of its partitions. The notifiers
+ * are called once per batch, from the thread of the batch, after its manifest is written.
+ */
+public interface ReportBatchNotifier {
+
+  /**
+   * Notifies about a finished batch, whether it completed or failed.
+   *
+   * @param batch the finished batch, with the artifacts of its partitions
+   */
+  void notify(ReportBatch batch);
+}
@@ -0,0 +1,379 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_BATCH_NOT_FOUND;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_BATCH_PARTITION_INVALID;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_BATCH_QUEUE_FULL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.domain.JasperTemplateParameter;
+import mw.gov.health.lmis.reports.dto.ReportBatchDto;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.exception.NotFoundMessageException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.render.PartitionedRows;
+import mw.gov.health.lmis.utils.Checksums;
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Renders a template for every partition of its dataset in one job, for example one report per
+ * district for the subscribers of the districts. The main query of the template runs once,
+ * without the partition parameter, and its rows are sliced in memory by the partition field, see
+ * {@link PartitionedRows}. The partitions are then rendered in parallel in the aggregate lane,
+ * each from its own rows, and stored with the batch in the {@link ReportBatchStore}, so any node
+ * serves the batch, its reports and the manifest of the artifacts. The
+ * {@link ReportBatchNotifier notifiers} are called when the batch finishes.
+ *
+ * <p>Batches are coordinated by their own threads, so the requests that start them return at
+ * once, and they are deleted with their reports after the maximal age.
+ */
+@Service
+@SuppressWarnings("PMD.TooManyMethods")
+public class ReportBatchService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportBatchService.class);
+
+  static final String MANIFEST = "manifest.json";
+
+  @Autowired
+  private JasperReportsViewService jasperReportsViewService;
+
+  @Autowired
+  private List<ReportBatchNotifier> notifiers;
+
+  @Autowired
+  private ReportBatchStore reportBatchStore;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private Clock clock;
+
+  @Value("${reports.batch.maxRows}")
+  private long maxRows;
+
+  @Value("${reports.batch.parallelism}")
+  private int parallelism;
+
+  @Value("${reports.batch.concurrentBatches}")
+  private int concurrentBatches;
+
+  @Value("${reports.batch.queueCapacity}")
+  private int queueCapacity;
+
+  @Value("${reports.batch.retryDelay}")
+  private long retryDelay;
+
+  @Value("${reports.batch.maxRetries}")
+  private int maxRetries;
+
+  @Value("${reports.batch.maxAge}")
+  private long maxAge;
+
+  private ThreadPoolExecutor executor;
+
+  /**
+   * Creates the threads of the batches.
+   */
+  @PostConstruct
+  public void start() {
+    executor = new ThreadPoolExecutor(concurrentBatches, concurrentBatches, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+        new CustomizableThreadFactory("batch-"));
+  }
+
+  /**
+   * Stops the batches in progress.
+   */
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Starts a batch of the reports of the template for every value of the partition parameter,
+   * that occurs in the rows of the main query. If too many batches are waiting, the batch is
+   * rejected with {@link ServiceUnavailableMessageException}.
+   *
+   * @param template           template with a SQL query in the main dataset
+   * @param params             template parameters populated with values from the request
+   * @param format             report format
+   * @param partitionParameter name of the template parameter, whose values are the partitions
+   * @param ownerId            ID of the user who requested the batch
+   * @return the running batch
+   */
+  public ReportBatch startBatch(JasperTemplate template, Map<String, Object> params,
+                                String format, String partitionParameter, UUID ownerId) {
+    String parameter = findParameter(template, partitionParameter);
+    ReportBatch batch = new ReportBatch(template.getId(), template.getName(), format,
+        parameter, ownerId, ZonedDateTime.now(clock));
+
+    reportBatchStore.insert(batch);
+
+    try {
+      executor.execute(() -> run(batch, template, params));
+    } catch (RejectedExecutionException ex) {
+      reportBatchStore.delete(batch.getId());
+
+      throw new ServiceUnavailableMessageException(
+          new Message(ERROR_REPORTING_BATCH_QUEUE_FULL), ex);
+    }
+
+    return batch;
+  }
+
+  /**
+   * Gets a batch of the user.
+   *
+   * @param batchId ID of the batch
+   * @param ownerId ID of the user who requested the batch
+   * @return the batch
+   */
+  public ReportBatch getBatch(UUID batchId, UUID ownerId) {
+    ReportBatch batch = reportBatchStore.find(batchId);
+
+    if (null == batch || !batch.getOwnerId().equals(ownerId)) {
+      throw new NotFoundMessageException(new Message(ERROR_REPORTING_BATCH_NOT_FOUND, batchId));
+    }
+
+    return batch;
+  }
+
+  /**
+   * Reads a report of a batch of the user.
+   *
+   * @param batchId  ID of the batch
+   * @param ownerId  ID of the user who requested the batch
+   * @param fileName name of the file of the report, or of the manifest
+   * @return data of the report
+   * @throws IOException if the manifest could not be written
+   */
+  public byte[] getArtifact(UUID batchId, UUID ownerId, String fileName) throws IOException {
+    ReportBatch batch = getBatch(batchId, ownerId);
+
+    if (MANIFEST.equals(fileName) && ReportBatch.Status.RUNNING != batch.getStatus()) {
+      return objectMapper.writerWithDefaultPrettyPrinter()
+          .writeValueAsBytes(ReportBatchDto.newInstance(batch));
+    }
+
+    byte[] data = null == batch.findArtifact(fileName)
+        ? null
+        : reportBatchStore.getArtifactData(batchId, fileName);
+
+    if (null == data) {
+      throw new NotFoundMessageException(new Message(ERROR_REPORTING_BATCH_NOT_FOUND, batchId));
+    }
+
+    return data;
+  }
+
+  /**
+   * Deletes the batches older than the maximal age, with their reports.
+   */
+  @Scheduled(fixedDelayString = "${reports.batch.purgeInterval}")
+  public void purge() {
+    try {
+      reportBatchStore.purge(ZonedDateTime.now(clock).minusNanos(maxAge * 1_000_000));
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Could not delete the expired batches", ex);
+    }
+  }
+
+  void run(ReportBatch batch, JasperTemplate template, Map<String, Object> params) {
+    int permits = Math.max(parallelism, 1);
+    Semaphore slots = new Semaphore(permits);
+    String failure = null;
+
+    try {
+      PartitionedRows rows = jasperReportsViewService.readPartitions(template, params,
+          batch.getPartitionParameter(), maxRows).get();
+      Set<String> fileNames = new HashSet<>();
+
+      for (String partition : rows.getPartitions()) {
+        slots.acquire();
+        String fileName = createFileName(partition, batch.getFormat(), fileNames);
+        startPartition(template, params, batch, partition, fileName, rows, slots);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      failure = "Batch interrupted";
+    } catch (ExecutionException ex) {
+      failure = describe(ex.getCause());
+    } catch (JasperReportViewException | RuntimeException ex) {
+      failure = describe(ex);
+    }
+
+    // the partitions in progress are stored before the batch finishes
+    if (!await(slots, permits) && null == failure) {
+      failure = "Batch interrupted";
+    }
+
+    if (null != failure) {
+      LOGGER.warn("Batch {} of template {} failed: {}", batch.getId(), template.getName(),
+          failure);
+    }
+
+    batch.finish(failure, ZonedDateTime.now(clock));
+    storeFinish(batch);
+    notifiers.forEach(notifier -> notifier.notify(batch));
+  }
+
+  // the slot is released when the partition is written, or at once if it could not be submitted
+  private void startPartition(JasperTemplate template, Map<String, Object> params,
+                              ReportBatch batch, String partition, String fileName,
+                              PartitionedRows rows, Semaphore slots)
+      throws InterruptedException {
+    CompletableFuture<byte[]> render = null;
+
+    try {
+      render = submit(template, params, batch, partition, rows);
+      render.whenComplete((data, error) -> {
+        try {
+          batch.addArtifact(write(batch, partition, fileName, data, error));
+        } finally {
+          slots.release();
+        }
+      });
+    } catch (JasperReportViewException | RuntimeException ex) {
+      batch.addArtifact(write(batch, partition, fileName, null, ex));
+    } finally {
+      if (null == render) {
+        slots.release();
+      }
+    }
+  }
+
+  private static boolean await(Semaphore slots, int permits) {
+    try {
+      slots.acquire(permits);
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // retries while the aggregate lane is full, as the batch should not be lost to a busy moment,
+  // but gives up the partition after the maximal retries
+  private CompletableFuture<byte[]> submit(JasperTemplate template, Map<String, Object> params,
+                                           ReportBatch batch, String partition,
+                                           PartitionedRows rows)
+      throws JasperReportViewException, InterruptedException {
+    Map<String, Object> partitionParams = new HashMap<>(params);
+    partitionParams.put(batch.getPartitionParameter(), partition);
+    // each partition has its own formats, as they are not thread safe
+    jasperReportsViewService.addRenderParameters(partitionParams, batch.getFormat());
+
+    int retries = 0;
+
+    while (true) {
+      try {
+        return jasperReportsViewService.renderPartition(template, partitionParams,
+            batch.getFormat(), rows.getRows(partition));
+      } catch (ServiceUnavailableMessageException ex) {
+        if (++retries > maxRetries) {
+          throw ex;
+        }
+
+        LOGGER.debug("Aggregate lane is full, batch {} retries in {} ms", batch.getId(),
+            retryDelay);
+        Thread.sleep(retryDelay);
+      }
+    }
+  }
+
+  private ReportBatchArtifact write(ReportBatch batch, String partition, String fileName,
+                                    byte[] data, Throwable error) {
+    ReportBatchArtifact artifact = null == error
+        ? new ReportBatchArtifact(partition, fileName, data.length, Checksums.sha256(data), null)
+        : new ReportBatchArtifact(partition, null, 0, null, describe(error));
+
+    try {
+      reportBatchStore.addArtifact(batch.getId(), artifact, null == error ? data : null);
+      return artifact;
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Could not store partition " + partition + " of batch " + batch.getId(), ex);
+      return new ReportBatchArtifact(partition, null, 0, null, describe(ex));
+    }
+  }
+
+  private void storeFinish(ReportBatch batch) {
+    try {
+      reportBatchStore.finish(batch);
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Could not store the end of batch " + batch.getId(), ex);
+    }
+  }
+
+  private String findParameter(JasperTemplate template, String partitionParameter) {
+    List<JasperTemplateParameter> parameters = null == template.getTemplateParameters()
+        ? Collections.emptyList()
+        : template.getTemplateParameters();
+
+    return parameters.stream()
+        .map(JasperTemplateParameter::getName)
+        .filter(name -> name.equalsIgnoreCase(partitionParameter))
+        .findFirst()
+        .orElseThrow(() -> new ValidationMessageException(new Message(
+            ERROR_REPORTING_BATCH_PARTITION_INVALID, template.getName(), partitionParameter)));
+  }
+
+  // file names are made of safe characters only, and made unique within the batch
+  static String createFileName(String partition, String format, Set<String> fileNames) {
+    String base = partition.replaceAll("[^A-Za-z0-9._-]", "_");
+
+    if (base.isEmpty() || base.startsWith(".")) {
+      base = "_" + base;
+    }
+
+    String fileName = base + "." + format;
+
+    for (int suffix = 2; !fileNames.add(fileName) || MANIFEST.equals(fileName); ++suffix) {
+      fileName = base + "_" + suffix + "." + format;
+    }
+
+    return fileName;
+  }
+
+  private static String describe(Throwable error) {
+    Throwable cause = error;
+
+    while (cause instanceof CompletionException || cause instanceof ExecutionException) {
+      cause = cause.getCause();
+    }
+
+    return null == cause ? null : cause.getMessage();
+  }
+}
@@ -0,0 +1,152 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batches of reports in the {@code reports.report_batches} table, with the reports of their
+ * partitions in the {@code reports.report_batch_artifacts} table, shared by all nodes of the
+ * service. A batch runs on the node that started it, and any node serves its state and reports.
+ * The reports are only read when they are requested.
+ */
+@Component
+public class ReportBatchStore {
+  private static final String BATCH_COLUMNS = "id, templateid, templatename, format,"
+      + " partitionparameter, ownerid, status, createddate, completeddate, error";
+  private static final String ARTIFACT_COLUMNS = "partition, filename, size, checksum, error";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Adds a running batch.
+   *
+   * @param batch the batch
+   */
+  public void insert(ReportBatch batch) {
+    jdbcTemplate.update("INSERT INTO reports.report_batches (" + BATCH_COLUMNS + ")"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, NULL, NULL)",
+        batch.getId(), batch.getTemplateId(), batch.getTemplateName(), batch.getFormat(),
+        batch.getPartitionParameter(), batch.getOwnerId(), batch.getStatus().name(),
+        toTimestamp(batch.getCreatedDate()));
+  }
+
+  /**
+   * Adds the report of a partition to a batch.
+   *
+   * @param batchId  ID of the batch
+   * @param artifact the artifact of the partition
+   * @param data     data of the report, or null if the partition could not be rendered
+   */
+  public void addArtifact(UUID batchId, ReportBatchArtifact artifact, byte[] data) {
+    jdbcTemplate.update("INSERT INTO reports.report_batch_artifacts"
+            + " (batchid, " + ARTIFACT_COLUMNS + ", data) VALUES (?, ?, ?, ?, ?, ?, ?)",
+        batchId, artifact.getPartition(), artifact.getFileName(), artifact.getSize(),
+        artifact.getChecksum(), artifact.getError(), data);
+  }
+
+  /**
+   * Records the end of a batch.
+   *
+   * @param batch the finished batch
+   */
+  public void finish(ReportBatch batch) {
+    jdbcTemplate.update("UPDATE reports.report_batches SET status = ?, completeddate = ?,"
+            + " error = ? WHERE id = ?",
+        batch.getStatus().name(), toTimestamp(batch.getCompletedDate()), batch.getError(),
+        batch.getId());
+  }
+
+  /**
+   * Finds a batch with its artifacts, without their data.
+   *
+   * @param id ID of the batch
+   * @return the batch, or null if there is no such batch
+   */
+  public ReportBatch find(UUID id) {
+    List<ReportBatch> batches = jdbcTemplate.query("SELECT " + BATCH_COLUMNS
+        + " FROM reports.report_batches WHERE id = ?", ReportBatchStore::mapBatch, id);
+
+    if (batches.isEmpty()) {
+      return null;
+    }
+
+    ReportBatch batch = batches.get(0);
+    jdbcTemplate.query("SELECT " + ARTIFACT_COLUMNS + " FROM reports.report_batch_artifacts"
+            + " WHERE batchid = ?", (resultSet, rowNum) -> mapArtifact(resultSet), id)
+        .forEach(batch::addArtifact);
+    return batch;
+  }
+
+  /**
+   * Reads the report of a partition of a batch.
+   *
+   * @param batchId  ID of the batch
+   * @param fileName name of the file of the report
+   * @return data of the report, or null if there is no such report
+   */
+  public byte[] getArtifactData(UUID batchId, String fileName) {
+    List<byte[]> data = jdbcTemplate.query("SELECT data FROM reports.report_batch_artifacts"
+            + " WHERE batchid = ? AND filename = ?",
+        (resultSet, rowNum) -> resultSet.getBytes("data"), batchId, fileName);
+    return data.isEmpty() ? null : data.get(0);
+  }
+
+  /**
+   * Deletes a batch with its reports.
+   *
+   * @param id ID of the batch
+   */
+  public void delete(UUID id) {
+    jdbcTemplate.update("DELETE FROM reports.report_batches WHERE id = ?", id);
+  }
+
+  /**
+   * Deletes the batches, with their reports, completed before the given time, and the batches
+   * still running since before it, whose node stopped.
+   *
+   * @param expiry time before which the batches are deleted
+   * @return number of the deleted batches
+   */
+  public int purge(ZonedDateTime expiry) {
+    return jdbcTemplate.update("DELETE FROM reports.report_batches"
+        + " WHERE COALESCE(completeddate, createddate) < ?", toTimestamp(expiry));
+  }
+
+  private static ReportBatch mapBatch(ResultSet resultSet, int rowNum) throws SQLException {
+    ReportBatch batch = new ReportBatch((UUID) resultSet.getObject("id"),
+        (UUID) resultSet.getObject("templateid"), resultSet.getString("templatename"),
+        resultSet.getString("format"), resultSet.getString("partitionparameter"),
+        (UUID) resultSet.getObject("ownerid"), toDate(resultSet.getTimestamp("createddate")));
+
+    if (ReportBatch.Status.RUNNING != ReportBatch.Status.valueOf(resultSet.getString("status"))) {
+      batch.finish(resultSet.getString("error"),
+          toDate(resultSet.getTimestamp("completeddate")));
+    }
+
+    return batch;
+  }
+
+  private static ReportBatchArtifact mapArtifact(ResultSet resultSet) throws SQLException {
+    return new ReportBatchArtifact(resultSet.getString("partition"),
+        resultSet.getString("filename"), resultSet.getLong("size"),
+        resultSet.getString("checksum"), resultSet.getString("error"));
+  }
+
+  private static Timestamp toTimestamp(ZonedDateTime date) {
+    return null == date ? null : Timestamp.from(date.toInstant());
+  }
+
+  private static ZonedDateTime toDate(Timestamp timestamp) {
+    return null == timestamp ? null : timestamp.toInstant().atZone(ZoneOffset.UTC);
+  }
+}
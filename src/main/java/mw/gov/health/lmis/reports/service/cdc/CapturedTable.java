@@ -0,0 +1,62 @@
+package mw.gov.health.lmis.reports.service.cdc;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Source tables, whose changes are applied to the reporting tables. Each change is reduced to
+ * the key of the affected reporting rows, which are then recalculated by a database function.
+ */
+public enum CapturedTable {
+  REQUISITION_STATUS_CHANGES("requisition", "status_changes", "requisitionid",
+      "reports.apply_requisition_status_changes"),
+  CALCULATED_STOCKS_ON_HAND("stockmanagement", "calculated_stocks_on_hand", "stockcardid",
+      "reports.apply_stock_on_hand_changes");
+
+  private final String schema;
+  private final String table;
+  private final String keyColumn;
+  private final String function;
+
+  CapturedTable(String schema, String table, String keyColumn, String function) {
+    this.schema = schema;
+    this.table = table;
+    this.keyColumn = keyColumn;
+    this.function = function;
+  }
+
+  /**
+   * Finds the captured table with the given name.
+   *
+   * @param schema schema of the table
+   * @param table  name of the table
+   * @return captured table, or empty if changes of the table are not applied
+   */
+  public static Optional<CapturedTable> find(String schema, String table) {
+    return Arrays.stream(values())
+        .filter(captured -> captured.schema.equals(schema) && captured.table.equals(table))
+        .findFirst();
+  }
+
+  public String getQualifiedName() {
+    return schema + '.' + table;
+  }
+
+  /**
+   * Gets the column of the source table with the key of the reporting rows to recalculate.
+   *
+   * @return name of the key column
+   */
+  public String getKeyColumn() {
+    return keyColumn;
+  }
+
+  /**
+   * Gets the database function, that recalculates the reporting rows with the given keys.
+   *
+   * @return qualified name of the function, that takes an array of the keys
+   */
+  public String getFunction() {
+    return function;
+  }
+}
@@ -0,0 +1,305 @@
+package mw.gov.health.lmis.reports.service.cdc;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+
+import mw.gov.health.lmis.reports.service.metrics.DataChangeMetrics;
+
+/**
+ * Applies the changes of the {@link CapturedTable captured tables} to the reporting tables as
+ * soon as they are committed, using logical replication with the pgoutput plugin. The changes of
+ * a source transaction are applied in a single transaction, together with the position of the
+ * source transaction in the replication slot. After a restart the consumer continues from the
+ * slot and skips the transactions that had already been applied. The scheduled refreshes of the
+ * reporting tables still run and catch up with any changes made while the slot did not exist.
+ */
+@Component
+@Profile("!test")
+@SuppressWarnings("PMD.TooManyMethods")
+public class ChangeDataCaptureConsumer implements CommandLineRunner {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChangeDataCaptureConsumer.class);
+
+  private static final long POLL_INTERVAL = 100;
+
+  @Value("${reports.cdc.enabled}")
+  private boolean enabled;
+
+  @Value("${reports.cdc.slotName}")
+  private String slotName;
+
+  @Value("${reports.cdc.publicationName}")
+  private String publicationName;
+
+  @Value("${reports.cdc.statusInterval}")
+  private int statusInterval;
+
+  @Value("${reports.cdc.retryInterval}")
+  private long retryInterval;
+
+  @Value("${spring.datasource.url}")
+  private String url;
+
+  @Value("${spring.datasource.username}")
+  private String username;
+
+  @Value("${spring.datasource.password}")
+  private String password;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private volatile boolean running;
+  private ExecutorService executor;
+
+  /**
+   * Starts consuming the changes when the service starts, if the change data capture is enabled.
+   *
+   * @param args Main method arguments.
+   */
+  @Override
+  public void run(String... args) {
+    if (!enabled) {
+      return;
+    }
+
+    running = true;
+    executor = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("change-data-capture-"));
+    executor.submit(this::consume);
+  }
+
+  /**
+   * Stops consuming the changes.
+   */
+  @PreDestroy
+  public void stop() {
+    running = false;
+
+    if (null != executor) {
+      executor.shutdownNow();
+    }
+  }
+
+  private void consume() {
+    while (isRunning()) {
+      try {
+        prepareSlot();
+        stream(getCheckpoint());
+      } catch (SQLException | DataAccessException | IllegalStateException ex) {
+        DataChangeMetrics.recordCaptureError();
+        LOGGER.error("Change data capture failed, restarting in " + retryInterval + " ms", ex);
+        sleep(retryInterval);
+      }
+    }
+  }
+
+  private void prepareSlot() {
+    Integer publications = jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM pg_publication WHERE pubname = ?", Integer.class, publicationName);
+
+    if (0 == publications) {
+      jdbcTemplate.execute("CREATE PUBLICATION " + quote(publicationName));
+    }
+
+    List<String> published = jdbcTemplate.queryForList(
+        "SELECT schemaname || '.' || tablename FROM pg_publication_tables WHERE pubname = ?",
+        String.class, publicationName);
+
+    for (CapturedTable table : CapturedTable.values()) {
+      Boolean exists = jdbcTemplate.queryForObject(
+          "SELECT to_regclass(?) IS NOT NULL", Boolean.class, table.getQualifiedName());
+
+      if (exists && !published.contains(table.getQualifiedName())) {
+        jdbcTemplate.execute("ALTER PUBLICATION " + quote(publicationName)
+            + " ADD TABLE " + table.getQualifiedName());
+      }
+    }
+
+    Integer slots = jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM pg_replication_slots WHERE slot_name = ?", Integer.class, slotName);
+
+    if (0 == slots) {
+      jdbcTemplate.queryForObject(
+          "SELECT lsn::text FROM pg_create_logical_replication_slot(?, 'pgoutput')",
+          String.class, slotName);
+      jdbcTemplate.update(
+          "DELETE FROM reports.change_data_capture_checkpoints WHERE slotname = ?", slotName);
+      LOGGER.info("Created the replication slot {}", slotName);
+    }
+  }
+
+  private LogSequenceNumber getCheckpoint() {
+    List<String> checkpoint = jdbcTemplate.queryForList(
+        "SELECT lsn::text FROM reports.change_data_capture_checkpoints WHERE slotname = ?",
+        String.class, slotName);
+
+    return checkpoint.isEmpty()
+        ? LogSequenceNumber.INVALID_LSN
+        : LogSequenceNumber.valueOf(checkpoint.get(0));
+  }
+
+  private void stream(LogSequenceNumber checkpoint) throws SQLException {
+    Properties properties = new Properties();
+    PGProperty.USER.set(properties, username);
+    PGProperty.PASSWORD.set(properties, password);
+    PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "9.4");
+    PGProperty.REPLICATION.set(properties, "database");
+    PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+
+    try (Connection connection = DriverManager.getConnection(url, properties)) {
+      PGReplicationStream stream = connection.unwrap(PGConnection.class)
+          .getReplicationAPI()
+          .replicationStream()
+          .logical()
+          .withSlotName(slotName)
+          .withSlotOption("proto_version", 1)
+          .withSlotOption("publication_names", publicationName)
+          .withStatusInterval(statusInterval, TimeUnit.SECONDS)
+          .start();
+
+      LOGGER.info("Consuming the changes from the replication slot {}", slotName);
+
+      try {
+        stream(stream, checkpoint);
+      } finally {
+        stream.close();
+      }
+    }
+  }
+
+  private void stream(PGReplicationStream stream, LogSequenceNumber checkpoint)
+      throws SQLException {
+    PgOutputDecoder decoder = new PgOutputDecoder();
+    Map<CapturedTable, Set<String>> changes = new EnumMap<>(CapturedTable.class);
+    long nextLagCheck = 0;
+
+    while (isRunning()) {
+      ByteBuffer buffer = stream.readPending();
+
+      if (null == buffer) {
+        if (System.currentTimeMillis() >= nextLagCheck) {
+          recordLagBytes();
+          nextLagCheck = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(statusInterval);
+        }
+
+        sleep(POLL_INTERVAL);
+        continue;
+      }
+
+      PgOutputMessage message = decoder.decode(buffer);
+
+      switch (message.getType()) {
+        case BEGIN:
+          changes.clear();
+          break;
+        case CHANGE:
+          CapturedTable
+              .find(message.getSchema(), message.getTable())
+              .ifPresent(table -> addChange(changes, table, message));
+          break;
+        case COMMIT:
+          if (!changes.isEmpty() && message.getLsn().asLong() > checkpoint.asLong()) {
+            apply(changes, message);
+          }
+
+          stream.setAppliedLSN(message.getLsn());
+          stream.setFlushedLSN(message.getLsn());
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  private void addChange(Map<CapturedTable, Set<String>> changes, CapturedTable table,
+                         PgOutputMessage message) {
+    String key = message.getValues().get(table.getKeyColumn());
+
+    if (null != key) {
+      changes.computeIfAbsent(table, captured -> new HashSet<>()).add(key);
+    }
+  }
+
+  private void apply(Map<CapturedTable, Set<String>> changes, PgOutputMessage commit) {
+    new TransactionTemplate(transactionManager).execute(status -> {
+      changes.forEach((table, keys) -> jdbcTemplate.execute(
+          "SELECT " + table.getFunction() + "(?)",
+          (PreparedStatementCallback<Boolean>) statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", keys.toArray()));
+            return statement.execute();
+          }));
+
+      jdbcTemplate.update("INSERT INTO reports.change_data_capture_checkpoints"
+              + " (slotname, lsn, committeddate) VALUES (?, ?::pg_lsn, ?)"
+              + " ON CONFLICT (slotname) DO UPDATE"
+              + " SET lsn = EXCLUDED.lsn, committeddate = EXCLUDED.committeddate",
+          slotName, commit.getLsn().asString(), Timestamp.from(commit.getCommitTime()));
+
+      return null;
+    });
+
+    changes.forEach((table, keys) ->
+        DataChangeMetrics.recordCapturedChanges(table.getQualifiedName(), keys.size()));
+    DataChangeMetrics.recordCaptureLag(commit.getCommitTime());
+  }
+
+  private void recordLagBytes() {
+    List<Long> lag = jdbcTemplate.queryForList("SELECT pg_wal_lsn_diff(pg_current_wal_lsn(),"
+        + " confirmed_flush_lsn)::bigint FROM pg_replication_slots WHERE slot_name = ?",
+        Long.class, slotName);
+
+    if (!lag.isEmpty() && null != lag.get(0)) {
+      DataChangeMetrics.recordCaptureLagBytes(lag.get(0));
+    }
+  }
+
+  private boolean isRunning() {
+    return running && !Thread.currentThread().isInterrupted();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static String quote(String identifier) {
+    return '"' + identifier.replace("\"", "\"\"") + '"';
+  }
+}
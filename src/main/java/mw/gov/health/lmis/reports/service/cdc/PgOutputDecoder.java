@@ -0,0 +1,159 @@
+package mw.gov.health.lmis.reports.service.cdc;
+
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decodes the messages of the pgoutput logical decoding plugin (protocol version 1). Relation
+ * messages are remembered, so the row changes that follow them can be matched to the table and
+ * column names. Only text values are supported, which is what the plugin sends in this version.
+ */
+public class PgOutputDecoder {
+  private static final Instant POSTGRES_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+  private final Map<Integer, Relation> relations = new HashMap<>();
+
+  /**
+   * Decodes a message received from the replication stream.
+   *
+   * @param buffer message to decode
+   * @return decoded message
+   */
+  public PgOutputMessage decode(ByteBuffer buffer) {
+    char type = (char) buffer.get();
+
+    switch (type) {
+      case 'B':
+        LogSequenceNumber finalLsn = LogSequenceNumber.valueOf(buffer.getLong());
+        return PgOutputMessage.begin(finalLsn, readTimestamp(buffer));
+      case 'C':
+        buffer.get();
+        buffer.getLong();
+        LogSequenceNumber endLsn = LogSequenceNumber.valueOf(buffer.getLong());
+        return PgOutputMessage.commit(endLsn, readTimestamp(buffer));
+      case 'R':
+        readRelation(buffer);
+        return PgOutputMessage.other();
+      case 'I':
+        return readInsert(buffer);
+      case 'U':
+        return readUpdate(buffer);
+      case 'D':
+        return readDelete(buffer);
+      default:
+        return PgOutputMessage.other();
+    }
+  }
+
+  private void readRelation(ByteBuffer buffer) {
+    int id = buffer.getInt();
+    String schema = readString(buffer);
+    String table = readString(buffer);
+    buffer.get();
+
+    String[] columns = new String[buffer.getShort()];
+    for (int i = 0; i < columns.length; ++i) {
+      buffer.get();
+      columns[i] = readString(buffer);
+      buffer.getInt();
+      buffer.getInt();
+    }
+
+    relations.put(id, new Relation(schema, table, columns));
+  }
+
+  private PgOutputMessage readInsert(ByteBuffer buffer) {
+    Relation relation = getRelation(buffer.getInt());
+    buffer.get();
+    return relation.change(readTuple(buffer, relation));
+  }
+
+  private PgOutputMessage readUpdate(ByteBuffer buffer) {
+    Relation relation = getRelation(buffer.getInt());
+    char tuple = (char) buffer.get();
+
+    if ('K' == tuple || 'O' == tuple) {
+      readTuple(buffer, relation);
+      buffer.get();
+    }
+
+    return relation.change(readTuple(buffer, relation));
+  }
+
+  private PgOutputMessage readDelete(ByteBuffer buffer) {
+    Relation relation = getRelation(buffer.getInt());
+    buffer.get();
+    return relation.change(readTuple(buffer, relation));
+  }
+
+  private Relation getRelation(int id) {
+    Relation relation = relations.get(id);
+
+    if (null == relation) {
+      throw new IllegalStateException("Change of the relation " + id + " before its definition");
+    }
+
+    return relation;
+  }
+
+  private Map<String, String> readTuple(ByteBuffer buffer, Relation relation) {
+    Map<String, String> values = new LinkedHashMap<>();
+    short columns = buffer.getShort();
+
+    for (int i = 0; i < columns; ++i) {
+      char kind = (char) buffer.get();
+
+      if ('n' == kind) {
+        values.put(relation.columns[i], null);
+      } else if ('t' == kind) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        values.put(relation.columns[i], new String(value, StandardCharsets.UTF_8));
+      }
+    }
+
+    return values;
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int start = buffer.position();
+    int end = start;
+
+    while (0 != buffer.get(end)) {
+      ++end;
+    }
+
+    byte[] value = new byte[end - start];
+    buffer.get(value);
+    buffer.get();
+
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  private static Instant readTimestamp(ByteBuffer buffer) {
+    return POSTGRES_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+  }
+
+  private static final class Relation {
+    private final String schema;
+    private final String table;
+    private final String[] columns;
+
+    Relation(String schema, String table, String[] columns) {
+      this.schema = schema;
+      this.table = table;
+      this.columns = columns;
+    }
+
+    PgOutputMessage change(Map<String, String> values) {
+      return PgOutputMessage.change(schema, table, values);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package mw.gov.health.lmis.reports.service.cdc;
+
+import org.postgresql.replication.LogSequenceNumber;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Message of the pgoutput logical decoding plugin, that matters to the change data capture.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PgOutputMessage {
+  private final Type type;
+
+  /**
+   * Position of the commit of the transaction, set for begin and commit messages. Commit messages
+   * carry the position right after the commit, which is where the replication can resume.
+   */
+  private final LogSequenceNumber lsn;
+
+  /**
+   * Commit time of the transaction, set for begin and commit messages.
+   */
+  private final Instant commitTime;
+
+  private final String schema;
+  private final String table;
+
+  /**
+   * Text values of the new row, or of the key of the deleted row, by column name. Unchanged
+   * values stored out of line are not sent by the database and are missing.
+   */
+  private final Map<String, String> values;
+
+  static PgOutputMessage begin(LogSequenceNumber lsn, Instant commitTime) {
+    return new PgOutputMessage(Type.BEGIN, lsn, commitTime, null, null, Collections.emptyMap());
+  }
+
+  static PgOutputMessage commit(LogSequenceNumber lsn, Instant commitTime) {
+    return new PgOutputMessage(Type.COMMIT, lsn, commitTime, null, null, Collections.emptyMap());
+  }
+
+  static PgOutputMessage change(String schema, String table, Map<String, String> values) {
+    return new PgOutputMessage(Type.CHANGE, null, null, schema, table, values);
+  }
+
+  static PgOutputMessage other() {
+    return new PgOutputMessage(Type.OTHER, null, null, null, null, Collections.emptyMap());
+  }
+
+  public enum Type {
+    BEGIN, COMMIT, CHANGE, OTHER
+  }
+}
@@ -0,0 +1,133 @@
+package mw.gov.health.lmis.reports.service.freshness;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Freshness watermarks of the source domains at a point in time. The watermarks are opaque
+ * values, that change whenever the data of their domain changes. The freshness of the data of a
+ * single report is limited to the domains it reads, see {@link #of}.
+ */
+public final class DataFreshness {
+  private final Map<SourceDomain, String> watermarks;
+  private final Map<SourceDomain, Long> changeTimes;
+  private final long startTime;
+
+  /**
+   * Creates the freshness of the data, whose domains were all last seen to change at the same
+   * time.
+   *
+   * @param watermarks   watermarks of the tracked domains, a null watermark could not be read
+   * @param lastModified time in milliseconds when a change of the watermarks was seen last
+   */
+  public DataFreshness(Map<SourceDomain, String> watermarks, long lastModified) {
+    this(watermarks, Collections.emptyMap(), lastModified);
+  }
+
+  /**
+   * Creates the freshness of the data.
+   *
+   * @param watermarks  watermarks of the tracked domains, a null watermark could not be read
+   * @param changeTimes times in milliseconds when a change of each domain was seen last
+   * @param startTime   time in milliseconds since when the changes are seen
+   */
+  public DataFreshness(Map<SourceDomain, String> watermarks, Map<SourceDomain, Long> changeTimes,
+                       long startTime) {
+    this.watermarks = Collections.unmodifiableMap(copy(watermarks));
+    this.changeTimes = Collections.unmodifiableMap(copy(changeTimes));
+    this.startTime = startTime;
+  }
+
+  /**
+   * Gets the freshness of the data of some domains only, e.g. of those read by a report, so the
+   * changes of the other domains do not change its entity tag and last modified date.
+   *
+   * @param domains source domains
+   * @return freshness of the domains
+   */
+  public DataFreshness of(Set<SourceDomain> domains) {
+    Map<SourceDomain, String> selectedWatermarks = new EnumMap<>(SourceDomain.class);
+    Map<SourceDomain, Long> selectedChangeTimes = new EnumMap<>(SourceDomain.class);
+
+    for (SourceDomain domain : domains) {
+      if (watermarks.containsKey(domain)) {
+        selectedWatermarks.put(domain, watermarks.get(domain));
+      }
+
+      if (changeTimes.containsKey(domain)) {
+        selectedChangeTimes.put(domain, changeTimes.get(domain));
+      }
+    }
+
+    return new DataFreshness(selectedWatermarks, selectedChangeTimes, startTime);
+  }
+
+  /**
+   * Gets the watermark of a domain.
+   *
+   * @param domain source domain
+   * @return the watermark, or null if the domain is not tracked or its watermark could not be read
+   */
+  public String getWatermark(SourceDomain domain) {
+    return watermarks.get(domain);
+  }
+
+  /**
+   * Checks if the watermarks of all tracked domains are known, so they can be used to validate
+   * the data read before.
+   *
+   * @return true if at least one domain is tracked and all watermarks have been read
+   */
+  public boolean isKnown() {
+    return !watermarks.isEmpty() && !watermarks.containsValue(null);
+  }
+
+  /**
+   * Gets the time when the data was last seen to change. The time is not older than the start of
+   * the service, as the changes before it are not known.
+   *
+   * @return time in milliseconds
+   */
+  public long getLastModified() {
+    return changeTimes.values().stream().mapToLong(Long::longValue).max().orElse(startTime);
+  }
+
+  /**
+   * Creates a weak entity tag of a response, that was created from the data of these watermarks.
+   * The tag changes when the key, the content or any watermark changes.
+   *
+   * @param key     key of the response, e.g. the resource and the request parameters
+   * @param content content the response was created from, e.g. the report template
+   * @return the entity tag, including the quotes
+   */
+  public String getETag(String key, byte[] content) {
+    MessageDigest digest;
+
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+
+    digest.update(key.getBytes(StandardCharsets.UTF_8));
+
+    if (null != content) {
+      digest.update(content);
+    }
+
+    watermarks.forEach((domain, watermark) -> digest.update(
+        ('\n' + domain.getKey() + '=' + watermark).getBytes(StandardCharsets.UTF_8)));
+
+    return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + '"';
+  }
+
+  private static <V> Map<SourceDomain, V> copy(Map<SourceDomain, V> values) {
+    return values.isEmpty() ? new EnumMap<>(SourceDomain.class) : new EnumMap<>(values);
+  }
+}
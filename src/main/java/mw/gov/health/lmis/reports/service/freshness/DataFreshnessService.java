@@ -0,0 +1,162 @@
+package mw.gov.health.lmis.reports.service.freshness;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+import mw.gov.health.lmis.reports.service.metrics.DataChangeMetrics;
+
+/**
+ * Tracks the freshness watermarks of the source domains, so the data read from the replicated
+ * tables can be cached and validated. The watermark of a domain is read with the configured
+ * query, which should be cheap, e.g. the latest timestamp of an indexed column or the counters of
+ * the modified rows, and must return a different value whenever the data of the domain changes.
+ * A domain without a query is not tracked.
+ *
+ * <p>The watermarks are read in the background, once per refresh interval, so the freshness is
+ * returned without a lock or a connection, also to the fills already holding a connection. The
+ * listeners are notified of the domains whose watermark changed, before the new freshness is
+ * returned. A watermark that could not be read is unknown, and is treated as changed each time it
+ * is read. The freshness is unknown until the watermarks are read for the first time.
+ */
+@Component
+public class DataFreshnessService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DataFreshnessService.class);
+
+  @Autowired
+  private DataSource replicationDataSource;
+
+  @Value("${reports.freshness.requisitions.query}")
+  private String requisitionsQuery;
+
+  @Value("${reports.freshness.stock.query}")
+  private String stockQuery;
+
+  @Value("${reports.freshness.orders.query}")
+  private String ordersQuery;
+
+  @Value("${reports.freshness.referenceData.query}")
+  private String referenceDataQuery;
+
+  private final List<Consumer<Set<SourceDomain>>> listeners = new CopyOnWriteArrayList<>();
+  private final Map<SourceDomain, Long> changeTimes = new EnumMap<>(SourceDomain.class);
+
+  private final long startTime = System.currentTimeMillis();
+
+  private volatile DataFreshness freshness = new DataFreshness(Collections.emptyMap(), startTime);
+
+  /**
+   * Adds a listener, that is notified with the domains whose watermark has changed, e.g. to clear
+   * a cache of their data. The listener is called on the thread that refreshes the watermarks.
+   *
+   * @param listener listener of the changes
+   */
+  public void addListener(Consumer<Set<SourceDomain>> listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Gets the freshness of the data, as of the last refresh of the watermarks.
+   *
+   * @return freshness of the data
+   */
+  public DataFreshness getFreshness() {
+    return freshness;
+  }
+
+  /**
+   * Reads the watermarks again, and notifies the listeners of the domains whose watermark
+   * changed.
+   */
+  @Scheduled(fixedDelayString = "${reports.freshness.refreshInterval}")
+  public synchronized void refresh() {
+    long now = System.currentTimeMillis();
+    Map<SourceDomain, String> watermarks = readWatermarks();
+    Set<SourceDomain> changed = EnumSet.noneOf(SourceDomain.class);
+
+    watermarks.forEach((domain, watermark) -> {
+      String previous = freshness.getWatermark(domain);
+
+      if (null == watermark || !Objects.equals(watermark, previous)) {
+        changed.add(domain);
+        changeTimes.put(domain, now);
+        DataChangeMetrics.recordDataChange(domain.getKey(), now);
+      }
+    });
+
+    DataFreshness current = new DataFreshness(watermarks, changeTimes, startTime);
+
+    if (!changed.isEmpty()) {
+      LOGGER.debug("Data of {} changed", changed);
+      listeners.forEach(listener -> listener.accept(changed));
+    }
+
+    freshness = current;
+  }
+
+  private Map<SourceDomain, String> readWatermarks() {
+    Map<SourceDomain, String> watermarks = new EnumMap<>(SourceDomain.class);
+
+    for (SourceDomain domain : SourceDomain.values()) {
+      if (StringUtils.isNotBlank(getQuery(domain))) {
+        watermarks.put(domain, null);
+      }
+    }
+
+    if (watermarks.isEmpty()) {
+      return watermarks;
+    }
+
+    try (Connection connection = replicationDataSource.getConnection()) {
+      for (SourceDomain domain : watermarks.keySet()) {
+        watermarks.put(domain, readWatermark(connection, domain));
+      }
+    } catch (SQLException ex) {
+      LOGGER.warn("Could not read the data freshness watermarks", ex);
+    }
+
+    return watermarks;
+  }
+
+  private String readWatermark(Connection connection, SourceDomain domain) {
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(getQuery(domain))) {
+      return resultSet.next() ? String.valueOf(resultSet.getObject(1)) : "";
+    } catch (SQLException ex) {
+      LOGGER.warn("Could not read the data freshness watermark of {}", domain.getKey(), ex);
+      return null;
+    }
+  }
+
+  private String getQuery(SourceDomain domain) {
+    switch (domain) {
+      case REQUISITIONS:
+        return requisitionsQuery;
+      case STOCK:
+        return stockQuery;
+      case ORDERS:
+        return ordersQuery;
+      default:
+        return referenceDataQuery;
+    }
+  }
+}
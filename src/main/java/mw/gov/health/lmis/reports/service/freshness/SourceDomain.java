@@ -0,0 +1,66 @@
+package mw.gov.health.lmis.reports.service.freshness;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Groups of the replicated tables of other services, that the reports read. A freshness
+ * watermark is tracked for each domain, see {@link DataFreshnessService}.
+ */
+public enum SourceDomain {
+  REQUISITIONS("requisitions", "requisition", "requisition_timeliness_facts"),
+  STOCK("stock", "stockmanagement", "stock_on_hand_latest"),
+  ORDERS("orders", "fulfillment"),
+  REFERENCE_DATA("referenceData", "referencedata", "geographic_zone_closure");
+
+  private final String key;
+  private final Pattern tables;
+
+  SourceDomain(String key, String schema, String... reportingTables) {
+    this.key = key;
+
+    StringBuilder pattern = new StringBuilder("\\b(").append(schema).append("\\.\\w");
+
+    for (String table : reportingTables) {
+      pattern.append("|reports\\.").append(table).append("\\b");
+    }
+
+    this.tables = Pattern.compile(pattern.append(')').toString());
+  }
+
+  /**
+   * Gets the key of the domain, used in the configuration properties and the metrics.
+   *
+   * @return key of the domain
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Finds the domains of the tables read by the queries. The tables have to be qualified with
+   * their schema, as in the report templates. Queries that do not name a table of any domain,
+   * e.g. of a report without queries, depend on all domains, as their data is not known.
+   *
+   * @param queries SQL of the queries
+   * @return domains read by the queries, never empty
+   */
+  public static Set<SourceDomain> readBy(Collection<String> queries) {
+    Set<SourceDomain> domains = EnumSet.noneOf(SourceDomain.class);
+
+    for (String query : queries) {
+      String sql = query.toLowerCase(Locale.ENGLISH);
+
+      for (SourceDomain domain : values()) {
+        if (domain.tables.matcher(sql).find()) {
+          domains.add(domain);
+        }
+      }
+    }
+
+    return domains.isEmpty() ? EnumSet.allOf(SourceDomain.class) : domains;
+  }
+}
@@ -0,0 +1,90 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.RESULT;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+/**
+ * Metrics of the query results and reports kept in memory, so they are not read or rendered
+ * again: the dataset cache, the report result store and the reports rendered ahead of the
+ * requests into it.
+ */
+public final class CacheMetrics {
+  private static final Counter DATASET_CACHE_REQUESTS = Counter.build()
+      .name("reports_dataset_cache_requests_total")
+      .help("Number of queries looked up in the dataset cache by the result of the lookup.")
+      .labelNames(RESULT)
+      .register();
+
+  private static final Gauge DATASET_CACHE_SIZE = Gauge.build()
+      .name("reports_dataset_cache_bytes")
+      .help("Estimated memory taken by the query results in the dataset cache.")
+      .register();
+
+  private static final Counter RESULT_STORE_REQUESTS = Counter.build()
+      .name("reports_result_store_requests_total")
+      .help("Number of reports looked up in the report result store by the result of the lookup.")
+      .labelNames(RESULT)
+      .register();
+
+  private static final Gauge RESULT_STORE_SIZE = Gauge.build()
+      .name("reports_result_store_bytes")
+      .help("Memory taken by the reports in the report result store.")
+      .register();
+
+  private static final Counter PRERENDERS = Counter.build()
+      .name("reports_prerenders_total")
+      .help("Number of reports rendered ahead of the requests by the result of the render.")
+      .labelNames(RESULT)
+      .register();
+
+  private CacheMetrics() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Records the lookup of a query in the dataset cache.
+   *
+   * @param result hit or miss
+   */
+  public static void recordDatasetCache(String result) {
+    DATASET_CACHE_REQUESTS.labels(result).inc();
+  }
+
+  /**
+   * Sets the estimated memory taken by the dataset cache.
+   *
+   * @param bytes estimated size of the cached query results in bytes
+   */
+  public static void setDatasetCacheSize(long bytes) {
+    DATASET_CACHE_SIZE.set(bytes);
+  }
+
+  /**
+   * Records the lookup of a report in the report result store.
+   *
+   * @param result hit or miss
+   */
+  public static void recordResultStore(String result) {
+    RESULT_STORE_REQUESTS.labels(result).inc();
+  }
+
+  /**
+   * Sets the memory taken by the report result store.
+   *
+   * @param bytes size of the stored reports in bytes
+   */
+  public static void setResultStoreSize(long bytes) {
+    RESULT_STORE_SIZE.set(bytes);
+  }
+
+  /**
+   * Records a report rendered ahead of the requests.
+   *
+   * @param result stored, current, failed or deferred
+   */
+  public static void recordPrerender(String result) {
+    PRERENDERS.labels(result).inc();
+  }
+}
@@ -0,0 +1,93 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.toSeconds;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the changes of the source data. The freshness watermarks show when the data of each
+ * source domain changed last, and the metrics of the change data capture show how far behind the
+ * source tables the reporting tables are.
+ */
+public final class DataChangeMetrics {
+  private static final Gauge DATA_CHANGE_TIME = Gauge.build()
+      .name("reports_data_changed_timestamp_seconds")
+      .help("Time when a change of the freshness watermark of a source domain was seen last.")
+      .labelNames("domain")
+      .register();
+
+  private static final Counter CAPTURED_CHANGES = Counter.build()
+      .name("reports_cdc_changes_total")
+      .help("Number of captured row changes applied to the reporting tables.")
+      .labelNames("table")
+      .register();
+
+  private static final Counter CAPTURE_ERRORS = Counter.build()
+      .name("reports_cdc_errors_total")
+      .help("Number of times the change data capture stream failed and was restarted.")
+      .register();
+
+  private static final Gauge CAPTURE_LAG = Gauge.build()
+      .name("reports_cdc_lag_seconds")
+      .help("Time between the commit of the last applied transaction and its application.")
+      .register();
+
+  private static final Gauge CAPTURE_LAG_BYTES = Gauge.build()
+      .name("reports_cdc_lag_bytes")
+      .help("Amount of WAL written since the last position confirmed by the replication slot.")
+      .register();
+
+  private DataChangeMetrics() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Records the time when the freshness watermark of a source domain was seen to change.
+   *
+   * @param domain key of the source domain
+   * @param time   time of the change in milliseconds
+   */
+  public static void recordDataChange(String domain, long time) {
+    DATA_CHANGE_TIME.labels(domain).set(toSeconds(TimeUnit.MILLISECONDS.toNanos(time)));
+  }
+
+  /**
+   * Records the row changes of a source table, that were applied to the reporting tables.
+   *
+   * @param table   qualified name of the source table
+   * @param changes number of the changed rows
+   */
+  public static void recordCapturedChanges(String table, int changes) {
+    CAPTURED_CHANGES.labels(table).inc(changes);
+  }
+
+  /**
+   * Records the lag of the change data capture after a transaction has been applied.
+   *
+   * @param commitTime time when the transaction was committed in the source database
+   */
+  public static void recordCaptureLag(Instant commitTime) {
+    CAPTURE_LAG.set(toSeconds(Duration.between(commitTime, Instant.now()).toNanos()));
+  }
+
+  /**
+   * Records the amount of WAL, that has not been confirmed by the replication slot yet.
+   *
+   * @param bytes size of the unconfirmed WAL
+   */
+  public static void recordCaptureLagBytes(long bytes) {
+    CAPTURE_LAG_BYTES.set(bytes);
+  }
+
+  /**
+   * Records a failure of the change data capture stream.
+   */
+  public static void recordCaptureError() {
+    CAPTURE_ERRORS.inc();
+  }
+}
@@ -0,0 +1,23 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Label names and conversions shared by the metrics of the service, so the same label is named
+ * the same in all of them.
+ */
+final class MetricsSupport {
+  static final String TEMPLATE = "template";
+  static final String FORMAT = "format";
+  static final String RESULT = "result";
+  static final String SUCCESS = "success";
+  static final String FAILURE = "failure";
+
+  private MetricsSupport() {
+    throw new UnsupportedOperationException();
+  }
+
+  static double toSeconds(long nanos) {
+    return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+}
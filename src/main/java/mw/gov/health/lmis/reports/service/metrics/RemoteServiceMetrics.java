@@ -0,0 +1,76 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.FAILURE;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.RESULT;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.SUCCESS;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.toSeconds;
+
+import io.prometheus.client.Histogram;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Metrics of the requests to the other services, and of the permission checks, that are made
+ * through them before a report is rendered.
+ */
+public final class RemoteServiceMetrics {
+  private static final Pattern UUID_PATTERN = Pattern.compile(
+      "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+  private static final Histogram PERMISSION_CHECK_DURATION = Histogram.build()
+      .name("reports_permission_check_duration_seconds")
+      .help("Duration of the permission checks.")
+      .labelNames("check")
+      .register();
+
+  private static final Histogram REMOTE_REQUEST_DURATION = Histogram.build()
+      .name("reports_remote_request_duration_seconds")
+      .help("Duration of the requests to other services.")
+      .labelNames("service", "endpoint", RESULT)
+      .register();
+
+  private RemoteServiceMetrics() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Records the duration of a permission check.
+   *
+   * @param check name of the check
+   * @param action check to run
+   */
+  public static void timePermissionCheck(String check, Runnable action) {
+    Histogram.Timer timer = PERMISSION_CHECK_DURATION.labels(check).startTimer();
+
+    try {
+      action.run();
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
+  /**
+   * Records the duration of a request to another service. Identifiers in the endpoint are
+   * replaced with a placeholder, so each resource does not get its own metric.
+   *
+   * @param service  name of the service
+   * @param endpoint endpoint of the request
+   * @param request  request to execute
+   * @return response of the request
+   */
+  public static <T> T timeRemoteRequest(String service, String endpoint, Supplier<T> request) {
+    long startTime = System.nanoTime();
+    String result = FAILURE;
+
+    try {
+      T response = request.get();
+      result = SUCCESS;
+      return response;
+    } finally {
+      REMOTE_REQUEST_DURATION
+          .labels(service, UUID_PATTERN.matcher(endpoint).replaceAll("{id}"), result)
+          .observe(toSeconds(System.nanoTime() - startTime));
+    }
+  }
+}
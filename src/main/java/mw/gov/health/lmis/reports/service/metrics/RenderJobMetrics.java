@@ -0,0 +1,29 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.RESULT;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Metrics of the render queue, counted by each node for the jobs its worker finished.
+ */
+public final class RenderJobMetrics {
+  private static final Counter RENDER_JOBS = Counter.build()
+      .name("reports_render_jobs_total")
+      .help("Number of queued render jobs finished on this node by the result of the job.")
+      .labelNames(RESULT)
+      .register();
+
+  private RenderJobMetrics() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Records a queued render job finished on this node.
+   *
+   * @param result completed, failed, released or expired
+   */
+  public static void recordRenderJob(String result) {
+    RENDER_JOBS.labels(result).inc();
+  }
+}
@@ -0,0 +1,215 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.FAILURE;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.FORMAT;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.RESULT;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.SUCCESS;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.TEMPLATE;
+import static mw.gov.health.lmis.reports.service.metrics.MetricsSupport.toSeconds;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of the report rendering, exposed by the metrics endpoint. The render of a report is
+ * split into phases, so it can be seen which of them makes the report slow, and the reads of the
+ * query rows by the fills show where the rows were kept.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class RenderMetrics {
+  public static final String PHASE_TEMPLATE = "template";
+  public static final String PHASE_QUEUE = "queue";
+  public static final String PHASE_FILL = "fill";
+  public static final String PHASE_EXPORT = "export";
+
+  private static final Histogram RENDER_PHASE_DURATION = Histogram.build()
+      .name("reports_render_phase_duration_seconds")
+      .help("Duration of the report render phases.")
+      .labelNames(TEMPLATE, FORMAT, "phase")
+      .buckets(0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300, 600)
+      .register();
+
+  private static final Counter RENDERS = Counter.build()
+      .name("reports_renders_total")
+      .help("Number of report renders.")
+      .labelNames(TEMPLATE, FORMAT, RESULT)
+      .register();
+
+  private static final Histogram OUTPUT_SIZE = Histogram.build()
+      .name("reports_output_size_bytes")
+      .help("Size of the rendered reports.")
+      .labelNames(TEMPLATE, FORMAT)
+      .exponentialBuckets(1024, 4, 10)
+      .register();
+
+  private static final Histogram OUTPUT_PAGES = Histogram.build()
+      .name("reports_output_pages")
+      .help("Number of pages of the rendered reports.")
+      .labelNames(TEMPLATE, FORMAT)
+      .exponentialBuckets(1, 4, 8)
+      .register();
+
+  private static final Histogram CONNECTION_WAIT_DURATION = Histogram.build()
+      .name("reports_connection_wait_seconds")
+      .help("Time spent by the renders waiting for a database connection.")
+      .labelNames("lane")
+      .register();
+
+  private static final Histogram ESTIMATED_COST = Histogram.build()
+      .name("reports_estimated_query_cost")
+      .help("Planner cost of the main queries of the reports, estimated before the fill.")
+      .labelNames(TEMPLATE, "decision")
+      .exponentialBuckets(100, 10, 8)
+      .register();
+
+  private static final Counter PREFETCHES = Counter.build()
+      .name("reports_subdataset_prefetch_total")
+      .help("Number of subdataset queries of the fills by the result of their prefetch.")
+      .labelNames(RESULT)
+      .register();
+
+  private static final Counter MATERIALIZED_ROWS = Counter.build()
+      .name("reports_materialized_rows_total")
+      .help("Number of query rows read ahead by the fills, by where the rows were kept.")
+      .labelNames("storage")
+      .register();
+
+  private static final Counter STREAMED_ROWS = Counter.build()
+      .name("reports_streamed_rows_total")
+      .help("Number of query rows of the templates streamed without the report layout.")
+      .labelNames(TEMPLATE, FORMAT)
+      .register();
+
+  private static final Histogram STREAM_DURATION = Histogram.build()
+      .name("reports_stream_duration_seconds")
+      .help("Duration of the streams of the template query rows.")
+      .labelNames(TEMPLATE, FORMAT)
+      .buckets(0.1, 0.5, 1, 5, 15, 60, 300, 900)
+      .register();
+
+  private RenderMetrics() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Records the duration of a render phase.
+   *
+   * @param template name of the report template
+   * @param format   report format
+   * @param phase    render phase
+   * @param action   action of the phase
+   * @return result of the action
+   */
+  public static <T, E extends Exception> T timePhase(String template, String format, String phase,
+                                                     Action<T, E> action) throws E {
+    Histogram.Timer timer = RENDER_PHASE_DURATION.labels(template, format, phase).startTimer();
+
+    try {
+      return action.run();
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
+  /**
+   * Records the duration of a render phase that has already finished.
+   *
+   * @param template  name of the report template
+   * @param format    report format
+   * @param phase     render phase
+   * @param startTime value of {@link System#nanoTime()} when the phase started
+   */
+  public static void recordPhase(String template, String format, String phase, long startTime) {
+    RENDER_PHASE_DURATION
+        .labels(template, format, phase)
+        .observe(toSeconds(System.nanoTime() - startTime));
+  }
+
+  /**
+   * Records the rendered report.
+   *
+   * @param template name of the report template
+   * @param format   report format
+   * @param pages    number of pages of the report
+   * @param size     size of the report in bytes
+   */
+  public static void recordRender(String template, String format, int pages, int size) {
+    RENDERS.labels(template, format, SUCCESS).inc();
+    OUTPUT_PAGES.labels(template, format).observe(pages);
+    OUTPUT_SIZE.labels(template, format).observe(size);
+  }
+
+  /**
+   * Records the failed render of a report.
+   *
+   * @param template name of the report template
+   * @param format   report format
+   */
+  public static void recordRenderFailure(String template, String format) {
+    RENDERS.labels(template, format, FAILURE).inc();
+  }
+
+  /**
+   * Records the time a render waited for a database connection.
+   *
+   * @param lane      render lane
+   * @param startTime value of {@link System#nanoTime()} when the render started waiting
+   */
+  public static void recordConnectionWait(String lane, long startTime) {
+    CONNECTION_WAIT_DURATION.labels(lane).observe(toSeconds(System.nanoTime() - startTime));
+  }
+
+  /**
+   * Records the estimated cost of the main query of a report.
+   *
+   * @param template name of the report template
+   * @param cost     planner cost of the query
+   * @param decision whether the report was accepted, moved to another lane or rejected
+   */
+  public static void recordCostEstimate(String template, double cost, String decision) {
+    ESTIMATED_COST.labels(template, decision).observe(cost);
+  }
+
+  /**
+   * Records the result of the prefetch of a subdataset query, when the fill reaches the
+   * subdataset.
+   *
+   * @param result hit, miss, tooLarge, skipped, timeout or failed
+   */
+  public static void recordPrefetch(String result) {
+    PREFETCHES.labels(result).inc();
+  }
+
+  /**
+   * Records the rows of a query, that were read ahead so the fill could release its connection.
+   *
+   * @param memoryRows  number of the rows kept in memory
+   * @param spilledRows number of the rows written to a temporary file
+   */
+  public static void recordMaterializedRows(int memoryRows, int spilledRows) {
+    MATERIALIZED_ROWS.labels("memory").inc(memoryRows);
+    MATERIALIZED_ROWS.labels("disk").inc(spilledRows);
+  }
+
+  /**
+   * Records the rows of a template query, that were streamed without the report layout.
+   *
+   * @param template  name of the report template
+   * @param format    data format
+   * @param rows      number of the streamed rows
+   * @param startTime value of {@link System#nanoTime()} when the stream started
+   */
+  public static void recordStreamedRows(String template, String format, long rows,
+                                        long startTime) {
+    STREAMED_ROWS.labels(template, format).inc(rows);
+    STREAM_DURATION.labels(template, format).observe(toSeconds(System.nanoTime() - startTime));
+  }
+
+  /**
+   * Action whose duration is recorded.
+   */
+  @FunctionalInterface
+  public interface Action<T, E extends Exception> {
+    T run() throws E;
+  }
+}
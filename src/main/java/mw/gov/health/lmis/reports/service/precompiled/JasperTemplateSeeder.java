@@ -0,0 +1,184 @@
+package mw.gov.health.lmis.reports.service.precompiled;
+
+import org.javers.core.Javers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.ReportingException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperTemplateService;
+
+/**
+ * Seeds the templates in the database with the .jasper artifacts compiled at build, see
+ * {@link PrecompiledTemplates}, so the templates of a deployment are never compiled at runtime.
+ * The hashes of the source and of the data of the seeded artifacts are recorded in
+ * {@code reports.jasper_template_artifacts}, and a template is only written when it was not
+ * seeded yet or the source of its artifact changed. The hashes of the data of the templates are
+ * computed by the database, so the data of the templates that are not seeded is not read.
+ *
+ * <p>Only a template without data, or whose data is still the data shipped by a migration or
+ * seeded before, is seeded. Any other template was customised, e.g. uploaded by an administrator,
+ * and is kept. The template is saved through {@link JasperTemplateService}, so its parameters are
+ * read from the seeded report, and the change is committed to JaVers.
+ */
+@Component
+@Profile("!test")
+public class JasperTemplateSeeder implements CommandLineRunner {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JasperTemplateSeeder.class);
+
+  private static final String AUTHOR = "System: JasperTemplateSeeder";
+
+  static final String SELECT_TEMPLATES = "SELECT t.id, md5(t.data) AS datahash,"
+      + " a.sourcehash AS seededsourcehash, a.datahash AS seededdatahash"
+      + " FROM reports.jasper_templates t"
+      + " LEFT JOIN reports.jasper_template_artifacts a ON a.templateid = t.id";
+
+  static final String RECORD_ARTIFACT = "INSERT INTO reports.jasper_template_artifacts"
+      + " (templateid, sourcehash, datahash, version, seededdate) VALUES (?, ?, ?, ?, now())"
+      + " ON CONFLICT (templateid) DO UPDATE SET sourcehash = EXCLUDED.sourcehash,"
+      + " datahash = EXCLUDED.datahash, version = EXCLUDED.version,"
+      + " seededdate = EXCLUDED.seededdate";
+
+  @Autowired
+  private PrecompiledTemplates precompiledTemplates;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JasperTemplateRepository jasperTemplateRepository;
+
+  @Autowired
+  private JasperTemplateService jasperTemplateService;
+
+  @Autowired
+  private Javers javers;
+
+  @Value("${reports.seeder.enabled}")
+  private boolean enabled;
+
+  /**
+   * This method is part of CommandLineRunner and is called automatically by Spring, before the
+   * templates are warmed up.
+   *
+   * @param args Main method arguments.
+   * @throws IOException if an artifact could not be read
+   */
+  @Override
+  public void run(String... args) throws IOException {
+    if (!enabled || precompiledTemplates.getArtifacts().isEmpty()) {
+      return;
+    }
+
+    Map<UUID, TemplateState> states = jdbcTemplate
+        .query(SELECT_TEMPLATES, (resultSet, rowNum) -> new TemplateState(
+            (UUID) resultSet.getObject("id"), resultSet.getString("datahash"),
+            resultSet.getString("seededsourcehash"), resultSet.getString("seededdatahash")))
+        .stream()
+        .collect(Collectors.toMap(TemplateState::getId, Function.identity()));
+
+    int seeded = 0;
+
+    for (TemplateArtifact artifact : precompiledTemplates.getArtifacts()) {
+      UUID templateId = artifact.getTemplateId();
+
+      if (null != templateId && seed(artifact, states.get(templateId))) {
+        ++seeded;
+      }
+    }
+
+    LOGGER.info("Seeded {} templates with the artifacts of version {}", seeded,
+        precompiledTemplates.getVersion());
+  }
+
+  private boolean seed(TemplateArtifact artifact, TemplateState state) throws IOException {
+    if (null == state) {
+      LOGGER.warn("Template {} of {} does not exist", artifact.getTemplateId(),
+          artifact.getSource());
+      return false;
+    }
+
+    if (artifact.getSourceHash().equals(state.getSeededSourceHash())) {
+      return false;
+    }
+
+    if (!isShipped(artifact, state)) {
+      LOGGER.warn("Template {} was customised, it is not seeded with {}",
+          artifact.getTemplateId(), artifact.getSource());
+      return false;
+    }
+
+    byte[] data = precompiledTemplates.read(artifact);
+    JasperTemplate template = jasperTemplateRepository.findOne(artifact.getTemplateId());
+
+    if (null == data || null == template) {
+      return false;
+    }
+
+    try {
+      jasperTemplateService.updateReport(template, data);
+    } catch (ReportingException ex) {
+      LOGGER.warn("Could not seed template {} with {}", artifact.getTemplateId(),
+          artifact.getSource(), ex);
+      return false;
+    }
+
+    javers.commit(AUTHOR, template);
+    record(artifact);
+    return true;
+  }
+
+  private static boolean isShipped(TemplateArtifact artifact, TemplateState state) {
+    return null == state.getDataHash()
+        || state.getDataHash().equals(state.getSeededDataHash())
+        || artifact.getShippedDataHashes().contains(state.getDataHash());
+  }
+
+  private void record(TemplateArtifact artifact) {
+    jdbcTemplate.update(RECORD_ARTIFACT, artifact.getTemplateId(), artifact.getSourceHash(),
+        artifact.getDataHash(), precompiledTemplates.getVersion());
+  }
+
+  static final class TemplateState {
+    private final UUID id;
+    private final String dataHash;
+    private final String seededSourceHash;
+    private final String seededDataHash;
+
+    TemplateState(UUID id, String dataHash, String seededSourceHash, String seededDataHash) {
+      this.id = id;
+      this.dataHash = dataHash;
+      this.seededSourceHash = seededSourceHash;
+      this.seededDataHash = seededDataHash;
+    }
+
+    UUID getId() {
+      return id;
+    }
+
+    String getDataHash() {
+      return dataHash;
+    }
+
+    String getSeededSourceHash() {
+      return seededSourceHash;
+    }
+
+    String getSeededDataHash() {
+      return seededDataHash;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package mw.gov.health.lmis.reports.service.precompiled;
+
+import static mw.gov.health.lmis.reports.service.precompiled.TemplateArtifactManifest.DIRECTORY;
+import static mw.gov.health.lmis.reports.service.precompiled.TemplateArtifactManifest.FILE_NAME;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.sf.jasperreports.engine.JasperReport;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.PostConstruct;
+
+/**
+ * The .jasper artifacts compiled at build from the .jrxml files of the repository, see the
+ * {@code compileJasperTemplates} task. The artifacts of the templates in the database are seeded
+ * into them by {@link JasperTemplateSeeder}, and the artifacts of the templates on the classpath
+ * are read instead of compiling the templates. Without the artifacts, e.g. when the service runs
+ * from the sources, the templates are compiled as before.
+ */
+@Component
+public class PrecompiledTemplates {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PrecompiledTemplates.class);
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private TemplateArtifactManifest manifest = new TemplateArtifactManifest();
+
+  /**
+   * Reads the manifest of the artifacts from the classpath.
+   *
+   * @throws IOException if the manifest could not be read
+   */
+  @PostConstruct
+  public void init() throws IOException {
+    try (InputStream inputStream = getResource(FILE_NAME)) {
+      if (null == inputStream) {
+        LOGGER.info("No precompiled templates, the templates will be compiled when rendered");
+        return;
+      }
+
+      manifest = objectMapper.readValue(inputStream, TemplateArtifactManifest.class);
+      LOGGER.info("Found {} templates precompiled by version {}", manifest.getArtifacts().size(),
+          manifest.getVersion());
+    }
+  }
+
+  /**
+   * Gets the version of the service that compiled the artifacts.
+   *
+   * @return the version, or null if there are no artifacts
+   */
+  public String getVersion() {
+    return manifest.getVersion();
+  }
+
+  /**
+   * Gets the artifacts.
+   *
+   * @return the artifacts, or an empty list if there are none
+   */
+  public List<TemplateArtifact> getArtifacts() {
+    return Collections.unmodifiableList(manifest.getArtifacts());
+  }
+
+  /**
+   * Reads the data of an artifact, checking it against the hash of the manifest.
+   *
+   * @param artifact the artifact
+   * @return data of the .jasper file, or null if it is missing or does not match its hash
+   * @throws IOException if the artifact could not be read
+   */
+  public byte[] read(TemplateArtifact artifact) throws IOException {
+    try (InputStream inputStream = getResource(artifact.getPath())) {
+      if (null == inputStream) {
+        LOGGER.warn("Precompiled template {} is missing", artifact.getPath());
+        return null;
+      }
+
+      byte[] data = IOUtils.toByteArray(inputStream);
+
+      if (!DigestUtils.md5Hex(data).equals(artifact.getDataHash())) {
+        LOGGER.warn("Precompiled template {} does not match its hash", artifact.getPath());
+        return null;
+      }
+
+      return data;
+    }
+  }
+
+  /**
+   * Reads the report precompiled from a template on the classpath.
+   *
+   * @param templateUrl classpath location of the .jrxml file, e.g.
+   *                    {@code /jasperTemplates/requisition.jrxml}
+   * @return the report, or null if the template was not precompiled
+   * @throws IOException            if the artifact could not be read
+   * @throws ClassNotFoundException if the artifact is not a report of this version of the library
+   */
+  public JasperReport loadReport(String templateUrl) throws IOException, ClassNotFoundException {
+    String source = templateUrl.startsWith("/") ? templateUrl.substring(1) : templateUrl;
+
+    for (TemplateArtifact artifact : manifest.getArtifacts()) {
+      if (source.equals(artifact.getSource())) {
+        byte[] data = read(artifact);
+        return null == data ? null : deserialize(data);
+      }
+    }
+
+    return null;
+  }
+
+  private static JasperReport deserialize(byte[] data) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+      return (JasperReport) inputStream.readObject();
+    }
+  }
+
+  private InputStream getResource(String path) {
+    return getClass().getResourceAsStream("/" + DIRECTORY + "/" + path);
+  }
+}
@@ -0,0 +1,32 @@
+package mw.gov.health.lmis.reports.service.precompiled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A .jasper file compiled at build from a .jrxml file of the repository. The paths are relative
+ * to the directory of the artifacts. The source hash is the MD5 hash of the .jrxml file and the
+ * version of the library that compiled it, as the compiled data differs between the builds of the
+ * same source. The data hash is the MD5 hash of the .jasper file, the same as the {@code md5}
+ * function of PostgreSQL returns for the data of a template. The shipped data hashes are the MD5
+ * hashes of the data written into the template by the database migrations, so a template still
+ * holding any of them has not been customised.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateArtifact {
+  private String source;
+  private String path;
+  private UUID templateId;
+  private String sourceHash;
+  private String dataHash;
+  private List<String> shippedDataHashes = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package mw.gov.health.lmis.reports.service.precompiled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Manifest of the .jasper artifacts compiled at build, written next to them and packaged into
+ * the service, see {@link PrecompiledTemplates}.
+ */
+@Getter
+@Setter
+public class TemplateArtifactManifest {
+
+  /**
+   * Directory of the artifacts and the manifest on the classpath.
+   */
+  public static final String DIRECTORY = "jasper";
+
+  /**
+   * Name of the manifest in the directory of the artifacts.
+   */
+  public static final String FILE_NAME = "manifest.json";
+
+  private String version;
+  private List<TemplateArtifact> artifacts = new ArrayList<>();
+}
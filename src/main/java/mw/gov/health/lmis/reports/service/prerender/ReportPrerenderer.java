@@ -0,0 +1,393 @@
+package mw.gov.health.lmis.reports.service.prerender;
+
+import static mw.gov.health.lmis.reports.dto.external.FacilityDto.DISTRICT_LEVEL;
+
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.domain.JasperTemplateParameter;
+import mw.gov.health.lmis.reports.dto.external.ProcessingPeriodDto;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
+import mw.gov.health.lmis.reports.service.metrics.CacheMetrics;
+import mw.gov.health.lmis.reports.service.referencedata.GeographicZoneReferenceDataService;
+import mw.gov.health.lmis.reports.service.referencedata.PeriodReferenceDataService;
+import mw.gov.health.lmis.reports.service.referencedata.ProgramReferenceDataService;
+import mw.gov.health.lmis.reports.service.render.RenderLane;
+import mw.gov.health.lmis.reports.service.render.ReportResultStore;
+
+/**
+ * Renders the reports, that are requested with predictable parameters, ahead of the requests,
+ * into the {@link ReportResultStore}. The configured templates are rendered overnight, in the
+ * configured formats, for each combination of the programs, the last closed period and the
+ * districts, limited to the parameters that the template declares. The reports are rendered
+ * one at a time in the {@link RenderLane#PRERENDER prerender lane}, and the next report waits
+ * while the database is busy, with an increasing delay, until the end of the run window.
+ *
+ * <p>Templates that print the name of the requesting user are not rendered, as the reports are
+ * shared by all users.
+ */
+@Component
+@Profile("!test")
+public class ReportPrerenderer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportPrerenderer.class);
+
+  private static final String LOAD_QUERY = "SELECT count(*) FROM pg_stat_activity"
+      + " WHERE state = 'active' AND datname = current_database() AND pid <> pg_backend_pid()";
+
+  @Autowired
+  private JasperTemplateRepository jasperTemplateRepository;
+
+  @Autowired
+  private JasperReportsViewService jasperReportsViewService;
+
+  @Autowired
+  private ReportResultStore reportResultStore;
+
+  @Autowired
+  private ProgramReferenceDataService programReferenceDataService;
+
+  @Autowired
+  private PeriodReferenceDataService periodReferenceDataService;
+
+  @Autowired
+  private GeographicZoneReferenceDataService geographicZoneReferenceDataService;
+
+  @Autowired
+  private DataSource replicationDataSource;
+
+  @Autowired
+  private Clock clock;
+
+  @Value("${reports.prerender.templates}")
+  private String templates;
+
+  @Value("${reports.prerender.formats}")
+  private String formats;
+
+  @Value("${reports.prerender.locale}")
+  private String locale;
+
+  @Value("${reports.prerender.programParameter}")
+  private String programParameter;
+
+  @Value("${reports.prerender.periodParameter}")
+  private String periodParameter;
+
+  @Value("${reports.prerender.districtParameter}")
+  private String districtParameter;
+
+  @Value("${reports.prerender.maxDuration}")
+  private long maxDuration;
+
+  @Value("${reports.prerender.maxActiveQueries}")
+  private int maxActiveQueries;
+
+  @Value("${reports.prerender.backoff}")
+  private long backoff;
+
+  @Value("${reports.prerender.maxBackoff}")
+  private long maxBackoff;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private ExecutorService executor;
+
+  /**
+   * Creates the thread of the runs, so a run does not hold the thread of the scheduled tasks.
+   */
+  @PostConstruct
+  public void start() {
+    executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("prerender-"));
+  }
+
+  /**
+   * Stops the run in progress.
+   */
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Starts a run, unless no template is configured or the previous run is still in progress.
+   */
+  @Scheduled(cron = "${reports.prerender.cron}")
+  public void prerender() {
+    if (split(templates).isEmpty() || !running.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          run();
+        } finally {
+          running.set(false);
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      running.set(false);
+      LOGGER.warn("Could not start the prerender of the reports", ex);
+    }
+  }
+
+  /**
+   * Renders the reports of the configured templates, that are not stored yet.
+   */
+  void run() {
+    long deadline = System.currentTimeMillis() + maxDuration;
+    Locale runLocale = Locale.forLanguageTag(locale);
+    Map<String, List<String>> values = new HashMap<>();
+    LocaleContextHolder.setLocale(runLocale);
+
+    try {
+      for (String templateName : split(templates)) {
+        JasperTemplate template = findTemplate(templateName);
+
+        for (Map<String, Object> parameters : getCombinations(template, values)) {
+          for (String format : split(formats)) {
+            if (!render(template, parameters, format, runLocale, deadline)) {
+              LOGGER.info("Prerender of the reports stopped at the end of the run window");
+              return;
+            }
+          }
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      LOGGER.info("Prerender of the reports interrupted");
+    } finally {
+      LocaleContextHolder.resetLocaleContext();
+    }
+  }
+
+  private JasperTemplate findTemplate(String templateName) {
+    JasperTemplate template = jasperTemplateRepository.findByName(templateName);
+
+    if (null == template) {
+      LOGGER.warn("Template {} configured for the prerender does not exist", templateName);
+      return null;
+    }
+
+    try {
+      JasperReport report = jasperReportsViewService.getReportFromTemplateData(template);
+      boolean printsUser = Arrays.stream(report.getParameters())
+          .map(JRParameter::getName)
+          .anyMatch(ReportResultStore.USER_PARAMETER::equals);
+
+      if (printsUser) {
+        LOGGER.warn("Template {} prints the name of the user, it is not prerendered",
+            templateName);
+        return null;
+      }
+    } catch (JasperReportViewException ex) {
+      LOGGER.warn("Could not load template " + templateName, ex);
+      return null;
+    }
+
+    return template;
+  }
+
+  // the combinations of the values of the parameters, that the template declares
+  private List<Map<String, Object>> getCombinations(JasperTemplate template,
+                                                    Map<String, List<String>> values) {
+    if (null == template) {
+      return Collections.emptyList();
+    }
+
+    List<Map<String, Object>> combinations = new ArrayList<>();
+    combinations.add(new HashMap<>());
+
+    List<JasperTemplateParameter> parameters = null == template.getTemplateParameters()
+        ? Collections.emptyList()
+        : template.getTemplateParameters();
+
+    for (JasperTemplateParameter parameter : parameters) {
+      String dimension = getDimension(parameter.getName());
+
+      if (null == dimension) {
+        continue;
+      }
+
+      List<String> dimensionValues = values.computeIfAbsent(dimension, this::getValues);
+      List<Map<String, Object>> expanded = new ArrayList<>();
+
+      for (Map<String, Object> combination : combinations) {
+        for (String value : dimensionValues) {
+          Map<String, Object> next = new HashMap<>(combination);
+          next.put(parameter.getName(), value);
+          expanded.add(next);
+        }
+      }
+
+      combinations = expanded;
+    }
+
+    return combinations;
+  }
+
+  private String getDimension(String parameterName) {
+    return Arrays.asList(programParameter, periodParameter, districtParameter).stream()
+        .filter(parameterName::equalsIgnoreCase)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private List<String> getValues(String dimension) {
+    if (dimension.equals(programParameter)) {
+      return programReferenceDataService.findAll().stream()
+          .filter(program -> !Boolean.FALSE.equals(program.getActive()))
+          .map(program -> program.getId().toString())
+          .collect(Collectors.toList());
+    }
+
+    if (dimension.equals(periodParameter)) {
+      return getLastClosedPeriods();
+    }
+
+    return geographicZoneReferenceDataService.search(DISTRICT_LEVEL, null).stream()
+        .map(district -> district.getId().toString())
+        .collect(Collectors.toList());
+  }
+
+  // periods of all schedules, that ended last before today
+  private List<String> getLastClosedPeriods() {
+    LocalDate today = LocalDate.now(clock);
+    List<ProcessingPeriodDto> closed = periodReferenceDataService.getNonFuturePeriods().stream()
+        .filter(period -> null != period.getEndDate() && period.getEndDate().isBefore(today))
+        .collect(Collectors.toList());
+
+    LocalDate lastEndDate = closed.stream()
+        .map(ProcessingPeriodDto::getEndDate)
+        .max(LocalDate::compareTo)
+        .orElse(null);
+
+    return closed.stream()
+        .filter(period -> period.getEndDate().equals(lastEndDate))
+        .map(period -> period.getId().toString())
+        .collect(Collectors.toList());
+  }
+
+  private boolean render(JasperTemplate template, Map<String, Object> parameters,
+                         String format, Locale runLocale, long deadline)
+      throws InterruptedException {
+    String key = ReportResultStore.createKey(template.getId(), format, runLocale, parameters,
+        LocalDate.now(clock));
+
+    if (reportResultStore.contains(key)) {
+      CacheMetrics.recordPrerender("current");
+      return true;
+    }
+
+    long delay = backoff;
+
+    while (true) {
+      if (!awaitIdleDatabase(deadline)) {
+        return false;
+      }
+
+      Map<SourceDomain, Long> version = reportResultStore.getVersion();
+      Map<String, Object> params = new HashMap<>(parameters);
+      jasperReportsViewService.addRenderParameters(params, format);
+
+      try {
+        Set<SourceDomain> domains = jasperReportsViewService.getSourceDomains(template);
+        CompletableFuture<byte[]> render = jasperReportsViewService.renderReport(
+            template, params, format, RenderLane.PRERENDER);
+        boolean stored = reportResultStore.put(key, version, domains, render.get());
+
+        CacheMetrics.recordPrerender(stored ? "stored" : "changed");
+        return true;
+      } catch (ServiceUnavailableMessageException ex) {
+        CacheMetrics.recordPrerender("deferred");
+        LOGGER.debug("Prerender lane is full, retrying in {} ms", delay);
+      } catch (JasperReportViewException | ExecutionException | RuntimeException ex) {
+        CacheMetrics.recordPrerender("failed");
+        LOGGER.warn("Could not prerender " + key, ex);
+        return true;
+      }
+
+      if (System.currentTimeMillis() + delay > deadline) {
+        return false;
+      }
+
+      Thread.sleep(delay);
+      delay = Math.min(delay * 2, maxBackoff);
+    }
+  }
+
+  // waits, with an increasing delay, while the database runs more queries than configured
+  private boolean awaitIdleDatabase(long deadline) throws InterruptedException {
+    long delay = backoff;
+
+    while (maxActiveQueries > 0 && countActiveQueries() > maxActiveQueries) {
+      if (System.currentTimeMillis() + delay > deadline) {
+        return false;
+      }
+
+      LOGGER.debug("Database is busy, prerender of the reports waits for {} ms", delay);
+      Thread.sleep(delay);
+      delay = Math.min(delay * 2, maxBackoff);
+    }
+
+    return System.currentTimeMillis() < deadline;
+  }
+
+  private int countActiveQueries() {
+    try (Connection connection = replicationDataSource.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(LOAD_QUERY)) {
+      return resultSet.next() ? resultSet.getInt(1) : 0;
+    } catch (SQLException ex) {
+      LOGGER.warn("Could not read the load of the database", ex);
+      return Integer.MAX_VALUE;
+    }
+  }
+
+  private static List<String> split(String list) {
+    return Arrays.stream(StringUtils.commaDelimitedListToStringArray(list))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,38 @@
+package mw.gov.health.lmis.reports.service.queue;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Render of a report queued in the database, see {@link RenderJobQueue}. The parameters are the
+ * request parameters of the report as JSON, the render parameters are added by the worker. The
+ * report of a completed job is read separately, see {@link RenderJobQueue#getOutput(UUID)}.
+ */
+@Getter
+@Setter
+public class RenderJob {
+
+  /**
+   * State of a job.
+   */
+  public enum Status {
+    QUEUED, RUNNING, COMPLETED, FAILED
+  }
+
+  private UUID id;
+  private UUID templateId;
+  private String format;
+  private String parameters;
+  private String locale;
+  private UUID ownerId;
+  private Status status;
+  private int attempts;
+  private String workerId;
+  private ZonedDateTime createdDate;
+  private ZonedDateTime startedDate;
+  private ZonedDateTime completedDate;
+  private String error;
+}
@@ -0,0 +1,236 @@
+package mw.gov.health.lmis.reports.service.queue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Queue of the renders in the {@code reports.render_jobs} table, shared by all nodes of the
+ * service. Queued jobs are claimed with {@code FOR UPDATE SKIP LOCKED}, so the nodes claiming
+ * at the same time never wait for each other and never claim the same job. A claimed job is
+ * leased to its worker until the lease expires; the leases are renewed by the heartbeats of the
+ * worker, and the jobs of a worker that stopped sending them are queued again. All times are
+ * taken from the database, so the clocks of the nodes do not have to agree. The reports of the
+ * completed jobs are kept in the table, and are only read when they are requested.
+ */
+@Component
+@SuppressWarnings("PMD.TooManyMethods")
+public class RenderJobQueue {
+  private static final String UPDATE_JOBS = "UPDATE reports.render_jobs";
+  private static final String COLUMNS = "id, templateid, format, parameters, locale, ownerid,"
+      + " status, attempts, workerid, createddate, starteddate, completeddate, error";
+
+  private static final String CLAIM = UPDATE_JOBS + " job"
+      + " SET status = 'RUNNING', workerid = ?, attempts = job.attempts + 1,"
+      + " starteddate = now(), leaseexpiresdate = now() + ? * interval '1 millisecond'"
+      + " WHERE job.id IN (SELECT id FROM reports.render_jobs WHERE status = 'QUEUED'"
+      + " ORDER BY createddate LIMIT ? FOR UPDATE SKIP LOCKED)"
+      + " RETURNING " + COLUMNS;
+
+  private static final String FINISH = UPDATE_JOBS
+      + " SET status = ?, completeddate = now(), leaseexpiresdate = NULL, output = ?,"
+      + " error = ? WHERE id = ? AND workerid = ? AND status = 'RUNNING'";
+
+  private static final String RELEASE = UPDATE_JOBS
+      + " SET status = 'QUEUED', workerid = NULL, attempts = attempts - 1,"
+      + " leaseexpiresdate = NULL WHERE id = ? AND workerid = ? AND status = 'RUNNING'";
+
+  private static final String HEARTBEAT = "INSERT INTO reports.render_workers"
+      + " (id, activejobs, capacity, heartbeatdate) VALUES (?, ?, ?, now())"
+      + " ON CONFLICT (id) DO UPDATE SET activejobs = EXCLUDED.activejobs,"
+      + " capacity = EXCLUDED.capacity, heartbeatdate = EXCLUDED.heartbeatdate";
+
+  private static final String RENEW = UPDATE_JOBS
+      + " SET leaseexpiresdate = now() + ? * interval '1 millisecond'"
+      + " WHERE workerid = ? AND status = 'RUNNING'";
+
+  private static final String REQUEUE = UPDATE_JOBS
+      + " SET status = CASE WHEN attempts < ? THEN 'QUEUED' ELSE 'FAILED' END,"
+      + " completeddate = CASE WHEN attempts < ? THEN NULL ELSE now() END,"
+      + " error = CASE WHEN attempts < ? THEN NULL ELSE 'The lease of the job expired' END,"
+      + " workerid = NULL, leaseexpiresdate = NULL"
+      + " WHERE status = 'RUNNING' AND leaseexpiresdate < now()";
+
+  private static final String LESS_LOADED = "SELECT count(*) FROM reports.render_workers"
+      + " WHERE id <> ? AND activejobs < ? AND activejobs < capacity"
+      + " AND heartbeatdate > now() - ? * interval '1 millisecond'";
+
+  private static final String PURGE = "DELETE FROM reports.render_jobs"
+      + " WHERE status IN ('COMPLETED', 'FAILED')"
+      + " AND completeddate < now() - ? * interval '1 millisecond'";
+
+  private static final String PURGE_WORKERS = "DELETE FROM reports.render_workers"
+      + " WHERE heartbeatdate < now() - ? * interval '1 millisecond'";
+
+  private static final RowMapper<RenderJob> JOB_MAPPER = RenderJobQueue::mapJob;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Adds a job to the end of the queue.
+   *
+   * @param job the job, with the template, format, parameters, locale and owner set
+   * @return the queued job
+   */
+  public RenderJob enqueue(RenderJob job) {
+    return jdbcTemplate.queryForObject("INSERT INTO reports.render_jobs"
+            + " (id, templateid, format, parameters, locale, ownerid, status, createddate)"
+            + " VALUES (?, ?, ?, ?, ?, ?, 'QUEUED', now()) RETURNING " + COLUMNS, JOB_MAPPER,
+        UUID.randomUUID(), job.getTemplateId(), job.getFormat(), job.getParameters(),
+        job.getLocale(), job.getOwnerId());
+  }
+
+  /**
+   * Finds a job.
+   *
+   * @param id ID of the job
+   * @return the job, or null if there is no such job
+   */
+  public RenderJob find(UUID id) {
+    List<RenderJob> jobs = jdbcTemplate.query(
+        "SELECT " + COLUMNS + " FROM reports.render_jobs WHERE id = ?", JOB_MAPPER, id);
+    return jobs.isEmpty() ? null : jobs.get(0);
+  }
+
+  /**
+   * Reads the report of a completed job.
+   *
+   * @param id ID of the job
+   * @return data of the report, or null if the job is not completed or does not exist
+   */
+  public byte[] getOutput(UUID id) {
+    List<byte[]> outputs = jdbcTemplate.query("SELECT output FROM reports.render_jobs"
+            + " WHERE id = ? AND status = 'COMPLETED'",
+        (resultSet, rowNum) -> resultSet.getBytes("output"), id);
+    return outputs.isEmpty() ? null : outputs.get(0);
+  }
+
+  /**
+   * Claims the oldest queued jobs, skipping the jobs being claimed by other workers.
+   *
+   * @param workerId ID of the worker
+   * @param limit    maximal number of jobs to claim
+   * @param lease    time in milliseconds for which the jobs are leased to the worker
+   * @return the claimed jobs
+   */
+  public List<RenderJob> claim(String workerId, int limit, long lease) {
+    return jdbcTemplate.query(CLAIM, JOB_MAPPER, workerId, lease, limit);
+  }
+
+  /**
+   * Marks a job of the worker as completed.
+   *
+   * @param id       ID of the job
+   * @param workerId ID of the worker
+   * @param output   data of the report
+   * @return false if the job is no longer leased to the worker
+   */
+  public boolean complete(UUID id, String workerId, byte[] output) {
+    return 1 == jdbcTemplate.update(FINISH, RenderJob.Status.COMPLETED.name(), output, null,
+        id, workerId);
+  }
+
+  /**
+   * Marks a job of the worker as failed.
+   *
+   * @param id       ID of the job
+   * @param workerId ID of the worker
+   * @param error    reason of the failure
+   * @return false if the job is no longer leased to the worker
+   */
+  public boolean fail(UUID id, String workerId, String error) {
+    return 1 == jdbcTemplate.update(FINISH, RenderJob.Status.FAILED.name(), null, error, id,
+        workerId);
+  }
+
+  /**
+   * Returns a job of the worker to the queue, without counting the attempt, e.g. when the worker
+   * can not render it at the moment.
+   *
+   * @param id       ID of the job
+   * @param workerId ID of the worker
+   */
+  public void release(UUID id, String workerId) {
+    jdbcTemplate.update(RELEASE, id, workerId);
+  }
+
+  /**
+   * Records the heartbeat of the worker and renews the leases of its jobs.
+   *
+   * @param workerId   ID of the worker
+   * @param activeJobs number of jobs the worker renders
+   * @param capacity   maximal number of jobs the worker renders at once
+   * @param lease      time in milliseconds for which the jobs are leased to the worker
+   */
+  public void heartbeat(String workerId, int activeJobs, int capacity, long lease) {
+    jdbcTemplate.update(HEARTBEAT, workerId, activeJobs, capacity);
+    jdbcTemplate.update(RENEW, lease, workerId);
+  }
+
+  /**
+   * Queues again the jobs whose lease expired, or fails them after the maximal attempts.
+   *
+   * @param maxAttempts maximal number of times a job is claimed
+   * @return number of the jobs queued again or failed
+   */
+  public int requeueExpired(int maxAttempts) {
+    return jdbcTemplate.update(REQUEUE, maxAttempts, maxAttempts, maxAttempts);
+  }
+
+  /**
+   * Counts the live workers, other than the given one, that render fewer jobs and have free
+   * capacity, so the given worker can leave the queued jobs to them.
+   *
+   * @param workerId   ID of the worker
+   * @param activeJobs number of jobs the worker renders
+   * @param lease      time in milliseconds after which a worker without a heartbeat is dead
+   * @return number of the less loaded workers
+   */
+  public int countLessLoadedWorkers(String workerId, int activeJobs, long lease) {
+    return jdbcTemplate.queryForObject(LESS_LOADED, Integer.class, workerId, activeJobs, lease);
+  }
+
+  /**
+   * Deletes the finished jobs older than the maximal age, with their reports, and the workers
+   * that are long dead.
+   *
+   * @param maxAge time in milliseconds after which a finished job is deleted
+   * @return number of the deleted jobs
+   */
+  public int purge(long maxAge) {
+    jdbcTemplate.update(PURGE_WORKERS, maxAge);
+    return jdbcTemplate.update(PURGE, maxAge);
+  }
+
+  private static RenderJob mapJob(ResultSet resultSet, int rowNum) throws SQLException {
+    RenderJob job = new RenderJob();
+    job.setId((UUID) resultSet.getObject("id"));
+    job.setTemplateId((UUID) resultSet.getObject("templateid"));
+    job.setFormat(resultSet.getString("format"));
+    job.setParameters(resultSet.getString("parameters"));
+    job.setLocale(resultSet.getString("locale"));
+    job.setOwnerId((UUID) resultSet.getObject("ownerid"));
+    job.setStatus(RenderJob.Status.valueOf(resultSet.getString("status")));
+    job.setAttempts(resultSet.getInt("attempts"));
+    job.setWorkerId(resultSet.getString("workerid"));
+    job.setCreatedDate(toDate(resultSet.getTimestamp("createddate")));
+    job.setStartedDate(toDate(resultSet.getTimestamp("starteddate")));
+    job.setCompletedDate(toDate(resultSet.getTimestamp("completeddate")));
+    job.setError(resultSet.getString("error"));
+    return job;
+  }
+
+  private static ZonedDateTime toDate(Timestamp timestamp) {
+    return null == timestamp ? null : timestamp.toInstant().atZone(ZoneOffset.UTC);
+  }
+}
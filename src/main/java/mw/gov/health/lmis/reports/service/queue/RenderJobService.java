@@ -0,0 +1,92 @@
+package mw.gov.health.lmis.reports.service.queue;
+
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_JOB_NOT_FOUND;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_JOB_OUTPUT_NOT_FOUND;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.NotFoundMessageException;
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Queues the renders of the reports in the database, so they are rendered by the least loaded
+ * node of the service rather than by the node that received the request, see
+ * {@link RenderWorker}. The reports are stored with their jobs in the database, so any node can
+ * serve them.
+ */
+@Service
+public class RenderJobService {
+
+  @Autowired
+  private RenderJobQueue renderJobQueue;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  /**
+   * Queues a render of the report based on the template.
+   *
+   * @param template template that will be used to render the report
+   * @param params   template parameters populated with values from the request
+   * @param format   report format
+   * @param locale   locale of the request
+   * @param ownerId  ID of the user who requested the report
+   * @return the queued job
+   * @throws JsonProcessingException if the parameters could not be written as JSON
+   */
+  public RenderJob submit(JasperTemplate template, Map<String, Object> params, String format,
+                          Locale locale, UUID ownerId) throws JsonProcessingException {
+    RenderJob job = new RenderJob();
+    job.setTemplateId(template.getId());
+    job.setFormat(format);
+    job.setParameters(objectMapper.writeValueAsString(params));
+    job.setLocale(locale.toLanguageTag());
+    job.setOwnerId(ownerId);
+    return renderJobQueue.enqueue(job);
+  }
+
+  /**
+   * Gets a job of the user.
+   *
+   * @param jobId   ID of the job
+   * @param ownerId ID of the user who requested the report
+   * @return the job
+   */
+  public RenderJob getJob(UUID jobId, UUID ownerId) {
+    RenderJob job = renderJobQueue.find(jobId);
+
+    if (null == job || !job.getOwnerId().equals(ownerId)) {
+      throw new NotFoundMessageException(new Message(ERROR_REPORTING_JOB_NOT_FOUND, jobId));
+    }
+
+    return job;
+  }
+
+  /**
+   * Reads the report of a completed job of the user.
+   *
+   * @param jobId   ID of the job
+   * @param ownerId ID of the user who requested the report
+   * @return data of the report
+   */
+  public byte[] getOutput(UUID jobId, UUID ownerId) {
+    RenderJob job = getJob(jobId, ownerId);
+    byte[] output = RenderJob.Status.COMPLETED == job.getStatus()
+        ? renderJobQueue.getOutput(jobId)
+        : null;
+
+    if (null == output) {
+      throw new NotFoundMessageException(new Message(ERROR_REPORTING_JOB_OUTPUT_NOT_FOUND, jobId));
+    }
+
+    return output;
+  }
+}
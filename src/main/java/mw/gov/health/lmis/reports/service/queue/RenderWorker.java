@@ -0,0 +1,234 @@
+package mw.gov.health.lmis.reports.service.queue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.metrics.RenderJobMetrics;
+
+/**
+ * Renders the jobs of the {@link RenderJobQueue} on this node. The worker claims only as many
+ * jobs as it has free threads, and leaves the queued jobs to the other live workers while any of
+ * them renders fewer jobs, so the jobs go to the least loaded nodes. The reports are rendered in
+ * the lane of their template and stored with their jobs in the database.
+ *
+ * <p>The worker sends a heartbeat, that renews the leases of its jobs, and queues again the jobs
+ * of the workers whose leases expired, so a job of a node that stopped is rendered by another
+ * node, up to the maximal number of attempts. The heartbeat runs on its own thread, so the other
+ * scheduled tasks of the node, e.g. a slow refresh of the reporting tables, do not delay it past
+ * the lease and let the live jobs be queued again.
+ */
+@Component
+@Profile("!test")
+public class RenderWorker {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RenderWorker.class);
+
+  private static final TypeReference<Map<String, Object>> PARAMETERS =
+      new TypeReference<Map<String, Object>>() {};
+
+  @Autowired
+  private RenderJobQueue renderJobQueue;
+
+  @Autowired
+  private JasperTemplateRepository jasperTemplateRepository;
+
+  @Autowired
+  private JasperReportsViewService jasperReportsViewService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Value("${reports.queue.worker.enabled}")
+  private boolean enabled;
+
+  @Value("${reports.queue.worker.capacity}")
+  private int capacity;
+
+  @Value("${reports.queue.worker.heartbeatInterval}")
+  private long heartbeatInterval;
+
+  @Value("${reports.queue.lease}")
+  private long lease;
+
+  @Value("${reports.queue.maxAttempts}")
+  private int maxAttempts;
+
+  @Value("${reports.queue.maxAge}")
+  private long maxAge;
+
+  private final AtomicInteger activeJobs = new AtomicInteger();
+
+  private String workerId;
+  private ExecutorService executor;
+  private ScheduledExecutorService heartbeatExecutor;
+
+  /**
+   * Creates the threads of the jobs and starts the heartbeat.
+   */
+  @PostConstruct
+  public void start() {
+    workerId = getHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    executor = Executors.newFixedThreadPool(Math.max(capacity, 1),
+        new CustomizableThreadFactory("render-job-"));
+    heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("render-heartbeat-"));
+
+    if (enabled) {
+      heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatInterval,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Stops the jobs in progress and the heartbeat. The leases of the jobs expire and they are
+   * rendered by another worker.
+   */
+  @PreDestroy
+  public void stop() {
+    heartbeatExecutor.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  /**
+   * Claims the queued jobs, that this worker has free threads for, unless another worker is less
+   * loaded.
+   */
+  @Scheduled(fixedDelayString = "${reports.queue.worker.pollInterval}")
+  public void poll() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      int requeued = renderJobQueue.requeueExpired(maxAttempts);
+
+      if (requeued > 0) {
+        LOGGER.warn("Queued again {} render jobs whose lease expired", requeued);
+      }
+
+      int active = activeJobs.get();
+      int free = capacity - active;
+
+      if (free <= 0 || renderJobQueue.countLessLoadedWorkers(workerId, active, lease) > 0) {
+        return;
+      }
+
+      List<RenderJob> jobs = renderJobQueue.claim(workerId, free, lease);
+      activeJobs.addAndGet(jobs.size());
+      jobs.forEach(job -> executor.execute(() -> run(job)));
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Could not claim the render jobs", ex);
+    }
+  }
+
+  /**
+   * Sends the heartbeat of the worker, renewing the leases of its jobs.
+   */
+  void heartbeat() {
+    try {
+      renderJobQueue.heartbeat(workerId, activeJobs.get(), capacity, lease);
+    } catch (RuntimeException ex) {
+      // an exception would cancel the next heartbeats of the executor
+      LOGGER.warn("Could not send the heartbeat of the render worker", ex);
+    }
+  }
+
+  /**
+   * Deletes the expired jobs with their reports.
+   */
+  @Scheduled(fixedDelayString = "${reports.queue.worker.heartbeatInterval}")
+  public void purge() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      renderJobQueue.purge(maxAge);
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Could not delete the expired render jobs", ex);
+    }
+  }
+
+  void run(RenderJob job) {
+    try {
+      JasperTemplate template = jasperTemplateRepository.findOne(job.getTemplateId());
+
+      if (null == template) {
+        finish(job, null, "The template of the job does not exist");
+        return;
+      }
+
+      Map<String, Object> params = objectMapper.readValue(job.getParameters(), PARAMETERS);
+      LocaleContextHolder.setLocale(Locale.forLanguageTag(job.getLocale()));
+      jasperReportsViewService.addRenderParameters(params, job.getFormat());
+
+      byte[] data = jasperReportsViewService.renderReport(template, params, job.getFormat())
+          .get();
+      finish(job, data, null);
+    } catch (ServiceUnavailableMessageException ex) {
+      LOGGER.debug("Lane of render job {} is full, the job is queued again", job.getId());
+      renderJobQueue.release(job.getId(), workerId);
+      RenderJobMetrics.recordRenderJob("released");
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException ex) {
+      finish(job, null, ex.getCause().getMessage());
+    } catch (IOException | JasperReportViewException | RuntimeException ex) {
+      finish(job, null, ex.getMessage());
+    } finally {
+      LocaleContextHolder.resetLocaleContext();
+      activeJobs.decrementAndGet();
+    }
+  }
+
+  private void finish(RenderJob job, byte[] output, String error) {
+    boolean leased = null == error
+        ? renderJobQueue.complete(job.getId(), workerId, output)
+        : renderJobQueue.fail(job.getId(), workerId, error);
+
+    if (!leased) {
+      LOGGER.warn("Lease of render job {} expired before the job finished", job.getId());
+      RenderJobMetrics.recordRenderJob("expired");
+    } else {
+      RenderJobMetrics.recordRenderJob(null == error ? "completed" : "failed");
+    }
+  }
+
+  private static String getHostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException ex) {
+      return "worker";
+    }
+  }
+}
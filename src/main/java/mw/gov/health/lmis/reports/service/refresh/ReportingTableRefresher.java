@@ -0,0 +1,99 @@
+package mw.gov.health.lmis.reports.service.refresh;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+
+/**
+ * Keeps the tables in the reports schema, that the report templates read instead of running
+ * expensive queries against the tables of other services, up to date. The tables are refreshed
+ * in the background once the service is ready and then periodically, by calling the database
+ * functions created in the migrations.
+ */
+@Component
+@Profile("!test")
+public class ReportingTableRefresher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportingTableRefresher.class);
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private ExecutorService executor;
+
+  /**
+   * Refreshes all reporting tables in the background once the application is ready, so the
+   * startup does not wait for the refreshes.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    executor = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("reporting-table-refresh-"));
+    executor.execute(() -> {
+      refreshGeographicZoneClosure();
+      refreshStockOnHandLatest();
+      refreshRequisitionTimelinessFacts();
+    });
+    executor.shutdown();
+  }
+
+  /**
+   * Stops the initial refresh in progress.
+   */
+  @PreDestroy
+  public void stop() {
+    if (null != executor) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Refreshes the closure table of the geographic zone hierarchy, that is used by the reports to
+   * find all zones below the selected zone.
+   */
+  @Scheduled(cron = "${reports.refresh.geographicZoneClosure.cron}")
+  public void refreshGeographicZoneClosure() {
+    refresh("geographic zone closure", "SELECT reports.refresh_geographic_zone_closure()");
+  }
+
+  /**
+   * Refreshes the latest stock on hand of the stock cards, that have changed since the previous
+   * refresh.
+   */
+  @Scheduled(cron = "${reports.refresh.stockOnHandLatest.cron}")
+  public void refreshStockOnHandLatest() {
+    refresh("latest stock on hand", "SELECT reports.refresh_stock_on_hand_latest()");
+  }
+
+  /**
+   * Refreshes the submission facts of the requisitions, that have changed since the previous
+   * refresh.
+   */
+  @Scheduled(cron = "${reports.refresh.requisitionTimelinessFacts.cron}")
+  public void refreshRequisitionTimelinessFacts() {
+    refresh("requisition timeliness facts",
+        "SELECT reports.refresh_requisition_timeliness_facts()");
+  }
+
+  private void refresh(String table, String sql) {
+    long startTime = System.currentTimeMillis();
+
+    try {
+      jdbcTemplate.execute(sql);
+      LOGGER.debug("Refreshed {} in {} ms", table, System.currentTimeMillis() - startTime);
+    } catch (DataAccessException ex) {
+      LOGGER.error("Could not refresh " + table, ex);
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Forward only result set over {@link ColumnarRows}, supporting the getters used by
+ * the Jasper data sources. The rows can be followed by the remaining rows of the result set
+ * they were read from, when the query returned more rows than could be kept.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class ColumnarResultSet implements InvocationHandler {
+  private final ColumnarRows rows;
+  private final ResultSet remaining;
+
+  private int row = -1;
+  private boolean wasNull;
+
+  private ColumnarResultSet(ColumnarRows rows, ResultSet remaining) {
+    this.rows = rows;
+    this.remaining = remaining;
+  }
+
+  /**
+   * Creates a result set over the rows.
+   *
+   * @param rows      rows of the result set
+   * @param remaining result set with the rows that follow, or null if there are no more rows
+   * @return result set positioned before the first row
+   */
+  static ResultSet create(ColumnarRows rows, ResultSet remaining) {
+    return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+        new Class<?>[]{ResultSet.class}, new ColumnarResultSet(rows, remaining));
+  }
+
+  /**
+   * Checks if the result set has all its rows in memory.
+   *
+   * @param resultSet result set to check
+   * @return true if the result set was created over rows not followed by another result set
+   */
+  static boolean isComplete(ResultSet resultSet) {
+    if (!Proxy.isProxyClass(resultSet.getClass())) {
+      return false;
+    }
+
+    InvocationHandler handler = Proxy.getInvocationHandler(resultSet);
+    return handler instanceof ColumnarResultSet && null == ((ColumnarResultSet) handler).remaining;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (Object.class == method.getDeclaringClass()) {
+      return method.invoke(this, args);
+    }
+
+    switch (method.getName()) {
+      case "next":
+        return next();
+      case "getMetaData":
+        return rows.getMetaData();
+      case "close":
+        close();
+        return null;
+      case "isClosed":
+        return false;
+      default:
+        break;
+    }
+
+    if (row >= rows.size()) {
+      return invokeRemaining(method, args);
+    }
+
+    return "wasNull".equals(method.getName()) ? wasNull : getColumnValue(method, args);
+  }
+
+  private Object getColumnValue(Method method, Object[] args) throws SQLException {
+    if (null == args || args.length == 0) {
+      throw new SQLFeatureNotSupportedException(method.getName());
+    }
+
+    int column = getColumn(args[0]);
+
+    if ("findColumn".equals(method.getName())) {
+      return column + 1;
+    }
+
+    Object value = get(method.getName(), column, args.length > 1 ? args[1] : null);
+    wasNull = null == rows.getValue(column, row);
+    return null == value && method.getReturnType().isPrimitive()
+        ? defaultValue(method.getReturnType())
+        : value;
+  }
+
+  private boolean next() throws SQLException {
+    if (row < rows.size()) {
+      ++row;
+    }
+
+    return row < rows.size() || null != remaining && remaining.next();
+  }
+
+  private void close() throws SQLException {
+    row = rows.size();
+
+    if (null != remaining) {
+      remaining.close();
+    }
+  }
+
+  private Object invokeRemaining(Method method, Object[] args) throws Throwable {
+    if (null == remaining) {
+      throw new SQLException("The result set has no current row");
+    }
+
+    try {
+      return method.invoke(remaining, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  private int getColumn(Object column) throws SQLException {
+    if (column instanceof Integer) {
+      return (Integer) column - 1;
+    }
+
+    for (int i = 1; i <= rows.getColumnCount(); ++i) {
+      if (rows.getMetaData().getColumnLabel(i).equalsIgnoreCase((String) column)) {
+        return i - 1;
+      }
+    }
+
+    throw new SQLException("Unknown column: " + column);
+  }
+
+  private Object get(String getter, int column, Object calendar) throws SQLException {
+    Object value = rows.getValue(column, row);
+
+    if (null == value) {
+      return null;
+    }
+
+    switch (getter) {
+      case "getObject":
+        return value;
+      case "getString":
+        return rows.getText(column, row);
+      case "getBoolean":
+        return toBoolean(value);
+      case "getBigDecimal":
+        return value instanceof BigDecimal ? value : new BigDecimal(rows.getText(column, row));
+      case "getDate":
+        return new Date(toMillis(value, column, calendar));
+      case "getTime":
+        return new Time(toMillis(value, column, calendar));
+      case "getTimestamp":
+        return toTimestamp(value, column, calendar);
+      default:
+        return toNumber(getter, value);
+    }
+  }
+
+  private Number toNumber(String getter, Object value) throws SQLException {
+    Number number = toNumber(value);
+
+    switch (getter) {
+      case "getByte":
+        return number.byteValue();
+      case "getShort":
+        return number.shortValue();
+      case "getInt":
+        return number.intValue();
+      case "getLong":
+        return number.longValue();
+      case "getFloat":
+        return number.floatValue();
+      case "getDouble":
+        return number.doubleValue();
+      default:
+        throw new SQLFeatureNotSupportedException(getter);
+    }
+  }
+
+  private Number toNumber(Object value) throws SQLException {
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+
+    if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    }
+
+    try {
+      return new BigDecimal(value.toString().trim());
+    } catch (NumberFormatException ex) {
+      throw new SQLException("Not a number: " + value, ex);
+    }
+  }
+
+  private boolean toBoolean(Object value) {
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue() != 0;
+    }
+
+    String text = value.toString().trim();
+    return "t".equalsIgnoreCase(text) || "true".equalsIgnoreCase(text) || "1".equals(text);
+  }
+
+  private Timestamp toTimestamp(Object value, int column, Object calendar) throws SQLException {
+    Timestamp timestamp = new Timestamp(toMillis(value, column, calendar));
+
+    if (value instanceof Timestamp) {
+      timestamp.setNanos(((Timestamp) value).getNanos());
+    }
+
+    return timestamp;
+  }
+
+  // values of the columns without a time zone were read in the default time zone, they are
+  // moved to the time zone of the calendar like the driver does
+  private long toMillis(Object value, int column, Object calendar) throws SQLException {
+    if (!(value instanceof java.util.Date)) {
+      throw new SQLException("Not a date: " + value);
+    }
+
+    long millis = ((java.util.Date) value).getTime();
+    String typeName = rows.getMetaData().getColumnTypeName(column + 1);
+
+    if (!(calendar instanceof Calendar) || null != typeName && typeName.endsWith("tz")) {
+      return millis;
+    }
+
+    Calendar defaultCalendar = Calendar.getInstance();
+    defaultCalendar.setTimeInMillis(millis);
+
+    Calendar target = (Calendar) ((Calendar) calendar).clone();
+    target.clear();
+    target.set(defaultCalendar.get(Calendar.YEAR), defaultCalendar.get(Calendar.MONTH),
+        defaultCalendar.get(Calendar.DAY_OF_MONTH), defaultCalendar.get(Calendar.HOUR_OF_DAY),
+        defaultCalendar.get(Calendar.MINUTE), defaultCalendar.get(Calendar.SECOND));
+    target.set(Calendar.MILLISECOND, defaultCalendar.get(Calendar.MILLISECOND));
+    return target.getTimeInMillis();
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (boolean.class == type) {
+      return false;
+    }
+
+    if (double.class == type || float.class == type) {
+      return type == float.class ? (Object) 0f : (Object) 0d;
+    }
+
+    if (long.class == type) {
+      return 0L;
+    }
+
+    if (short.class == type) {
+      return (short) 0;
+    }
+
+    return byte.class == type ? (Object) (byte) 0 : (Object) 0;
+  }
+}
@@ -0,0 +1,435 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.rowset.RowSetMetaDataImpl;
+
+/**
+ * Rows of a query kept by columns. Numbers and booleans are kept in primitive arrays, strings
+ * and the text of the other values are dictionary encoded, so a column with a few distinct
+ * values takes four bytes per row. The rows are read into the columns with a {@link Builder},
+ * and can not be changed afterwards.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class ColumnarRows {
+  private final ResultSetMetaData metaData;
+  private final Column[] columns;
+  private final int size;
+
+  private ColumnarRows(ResultSetMetaData metaData, Column[] columns, int size) {
+    this.metaData = metaData;
+    this.columns = columns;
+    this.size = size;
+  }
+
+  /**
+   * Starts reading the rows of a result set, if all its columns can be kept.
+   *
+   * @param metaData metadata of the result set
+   * @return builder of the rows, or null if a column has a type that is not supported
+   * @throws SQLException if the metadata could not be read
+   */
+  static Builder builder(ResultSetMetaData metaData) throws SQLException {
+    int count = metaData.getColumnCount();
+    Column[] columns = new Column[count];
+
+    for (int i = 0; i < count; ++i) {
+      columns[i] = createColumn(metaData.getColumnType(i + 1), metaData.getColumnTypeName(i + 1));
+
+      if (null == columns[i]) {
+        return null;
+      }
+    }
+
+    return new Builder(copy(metaData), columns);
+  }
+
+  ResultSetMetaData getMetaData() {
+    return metaData;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int getColumnCount() {
+    return columns.length;
+  }
+
+  /**
+   * Gets a value in the class returned by the driver for the column type.
+   *
+   * @param column index of the column, starting with 0
+   * @param row    index of the row, starting with 0
+   * @return the value, or null if the value is SQL NULL
+   */
+  Object getValue(int column, int row) {
+    return columns[column].get(row);
+  }
+
+  /**
+   * Gets the text of a value, as it was returned by the database.
+   *
+   * @param column index of the column, starting with 0
+   * @param row    index of the row, starting with 0
+   * @return the text, or null if the value is SQL NULL
+   */
+  String getText(int column, int row) {
+    return columns[column].getText(row);
+  }
+
+  /**
+   * Estimates the memory taken by the rows.
+   *
+   * @return estimated size in bytes
+   */
+  long estimateBytes() {
+    return 64L + Arrays.stream(columns).mapToLong(column -> column.estimateBytes(size)).sum();
+  }
+
+  private static Column createColumn(int type, String typeName) {
+    switch (type) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return new IntColumn();
+      case Types.BIGINT:
+        return new LongColumn();
+      case Types.REAL:
+        return new DoubleColumn(true);
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return new DoubleColumn(false);
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return new BooleanColumn();
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.LONGVARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+        return new StringColumn();
+      case Types.NUMERIC:
+      case Types.DECIMAL:
+      case Types.DATE:
+      case Types.TIME:
+      case Types.TIMESTAMP:
+      case Types.TIMESTAMP_WITH_TIMEZONE:
+        return new ObjectColumn(type);
+      case Types.OTHER:
+        return "uuid".equals(typeName) ? new ObjectColumn(type) : null;
+      default:
+        return null;
+    }
+  }
+
+  private static ResultSetMetaData copy(ResultSetMetaData source) throws SQLException {
+    RowSetMetaDataImpl copy = new RowSetMetaDataImpl();
+    copy.setColumnCount(source.getColumnCount());
+
+    for (int i = 1; i <= source.getColumnCount(); ++i) {
+      copy.setColumnName(i, source.getColumnName(i));
+      copy.setColumnLabel(i, source.getColumnLabel(i));
+      copy.setColumnType(i, source.getColumnType(i));
+      copy.setColumnTypeName(i, source.getColumnTypeName(i));
+      copy.setNullable(i, source.isNullable(i));
+    }
+
+    return copy;
+  }
+
+  /**
+   * Reads the rows of a result set into the columns.
+   */
+  static final class Builder {
+    private final ResultSetMetaData metaData;
+    private final Column[] columns;
+    private int size;
+
+    private Builder(ResultSetMetaData metaData, Column[] columns) {
+      this.metaData = metaData;
+      this.columns = columns;
+    }
+
+    /**
+     * Reads the current row of the result set.
+     *
+     * @param resultSet result set positioned on a row
+     * @throws SQLException if the row could not be read
+     */
+    void add(ResultSet resultSet) throws SQLException {
+      for (int i = 0; i < columns.length; ++i) {
+        columns[i].add(resultSet, i + 1, size);
+      }
+
+      ++size;
+    }
+
+    int size() {
+      return size;
+    }
+
+    ColumnarRows build() {
+      for (Column column : columns) {
+        column.trim(size);
+      }
+
+      return new ColumnarRows(metaData, columns, size);
+    }
+  }
+
+  private abstract static class Column {
+    final BitSet nulls = new BitSet();
+
+    abstract void add(ResultSet resultSet, int index, int row) throws SQLException;
+
+    abstract Object get(int row);
+
+    abstract void trim(int size);
+
+    abstract long estimateBytes(int size);
+
+    String getText(int row) {
+      Object value = get(row);
+      return null == value ? null : value.toString();
+    }
+  }
+
+  private static final class IntColumn extends Column {
+    private int[] values = new int[16];
+
+    @Override
+    void add(ResultSet resultSet, int index, int row) throws SQLException {
+      values = row < values.length ? values : Arrays.copyOf(values, row * 2);
+      values[row] = resultSet.getInt(index);
+      nulls.set(row, resultSet.wasNull());
+    }
+
+    @Override
+    Object get(int row) {
+      return nulls.get(row) ? null : values[row];
+    }
+
+    @Override
+    void trim(int size) {
+      values = Arrays.copyOf(values, size);
+    }
+
+    @Override
+    long estimateBytes(int size) {
+      return 4L * size + size / 8;
+    }
+  }
+
+  private static final class LongColumn extends Column {
+    private long[] values = new long[16];
+
+    @Override
+    void add(ResultSet resultSet, int index, int row) throws SQLException {
+      values = row < values.length ? values : Arrays.copyOf(values, row * 2);
+      values[row] = resultSet.getLong(index);
+      nulls.set(row, resultSet.wasNull());
+    }
+
+    @Override
+    Object get(int row) {
+      return nulls.get(row) ? null : values[row];
+    }
+
+    @Override
+    void trim(int size) {
+      values = Arrays.copyOf(values, size);
+    }
+
+    @Override
+    long estimateBytes(int size) {
+      return 8L * size + size / 8;
+    }
+  }
+
+  private static final class DoubleColumn extends Column {
+    private final boolean real;
+    private double[] values = new double[16];
+
+    DoubleColumn(boolean real) {
+      this.real = real;
+    }
+
+    @Override
+    void add(ResultSet resultSet, int index, int row) throws SQLException {
+      values = row < values.length ? values : Arrays.copyOf(values, row * 2);
+      values[row] = resultSet.getDouble(index);
+      nulls.set(row, resultSet.wasNull());
+    }
+
+    @Override
+    Object get(int row) {
+      if (nulls.get(row)) {
+        return null;
+      }
+
+      return real ? (Object) (float) values[row] : (Object) values[row];
+    }
+
+    @Override
+    void trim(int size) {
+      values = Arrays.copyOf(values, size);
+    }
+
+    @Override
+    long estimateBytes(int size) {
+      return 8L * size + size / 8;
+    }
+  }
+
+  private static final class BooleanColumn extends Column {
+    private final BitSet values = new BitSet();
+
+    @Override
+    void add(ResultSet resultSet, int index, int row) throws SQLException {
+      values.set(row, resultSet.getBoolean(index));
+      nulls.set(row, resultSet.wasNull());
+    }
+
+    @Override
+    Object get(int row) {
+      return nulls.get(row) ? null : values.get(row);
+    }
+
+    @Override
+    String getText(int row) {
+      if (nulls.get(row)) {
+        return null;
+      }
+
+      return values.get(row) ? "t" : "f";
+    }
+
+    @Override
+    void trim(int size) {
+      // the bits are kept as they are
+    }
+
+    @Override
+    long estimateBytes(int size) {
+      return size / 4;
+    }
+  }
+
+  /**
+   * Dictionary encoded strings, the code of SQL NULL is -1.
+   */
+  private static class StringColumn extends Column {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] dictionary = new String[16];
+    private int[] values = new int[16];
+    private long dictionaryBytes;
+
+    @Override
+    void add(ResultSet resultSet, int index, int row) throws SQLException {
+      add(resultSet.getString(index), row);
+    }
+
+    void add(String value, int row) {
+      values = row < values.length ? values : Arrays.copyOf(values, row * 2);
+
+      if (null == value) {
+        values[row] = -1;
+        return;
+      }
+
+      Integer code = codes.get(value);
+
+      if (null == code) {
+        code = codes.size();
+        dictionary = code < dictionary.length ? dictionary : Arrays.copyOf(dictionary, code * 2);
+        dictionary[code] = value;
+        codes.put(value, code);
+        dictionaryBytes += 48L + 2L * value.length();
+      }
+
+      values[row] = code;
+    }
+
+    @Override
+    Object get(int row) {
+      return getText(row);
+    }
+
+    @Override
+    String getText(int row) {
+      int code = values[row];
+      return code < 0 ? null : dictionary[code];
+    }
+
+    @Override
+    void trim(int size) {
+      values = Arrays.copyOf(values, size);
+      dictionary = Arrays.copyOf(dictionary, codes.size());
+      codes.clear();
+    }
+
+    @Override
+    long estimateBytes(int size) {
+      return 4L * size + dictionaryBytes;
+    }
+  }
+
+  /**
+   * Decimals, dates, times and UUIDs, with their text kept as dictionary encoded strings.
+   */
+  private static final class ObjectColumn extends StringColumn {
+    private final int type;
+    private Object[] objects = new Object[16];
+
+    ObjectColumn(int type) {
+      this.type = type;
+    }
+
+    @Override
+    void add(ResultSet resultSet, int index, int row) throws SQLException {
+      objects = row < objects.length ? objects : Arrays.copyOf(objects, row * 2);
+      objects[row] = read(resultSet, index);
+      add(resultSet.getString(index), row);
+    }
+
+    @Override
+    Object get(int row) {
+      return objects[row];
+    }
+
+    @Override
+    void trim(int size) {
+      super.trim(size);
+      objects = Arrays.copyOf(objects, size);
+    }
+
+    @Override
+    long estimateBytes(int size) {
+      return super.estimateBytes(size) + 40L * size;
+    }
+
+    private Object read(ResultSet resultSet, int index) throws SQLException {
+      switch (type) {
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+          return resultSet.getBigDecimal(index);
+        case Types.DATE:
+          return resultSet.getDate(index);
+        case Types.TIME:
+          return resultSet.getTime(index);
+        case Types.TIMESTAMP:
+        case Types.TIMESTAMP_WITH_TIMEZONE:
+          return resultSet.getTimestamp(index);
+        default:
+          return resultSet.getObject(index);
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JasperReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.utils.Checksums;
+
+/**
+ * Cache of the reports deserialized from the templates, so the ".jasper" data of a template is
+ * not read again for every render. A report is kept under the ID of its template, with the SHA-256
+ * hash of the data it was read from, so a template updated on any node is read again. Reports are
+ * immutable and shared by the fills running at once. The least recently used reports are evicted
+ * when the cache holds more than the maximal number of templates.
+ */
+@Component
+public class CompiledReportCache {
+
+  @Value("${reports.templateCache.maxTemplates}")
+  private int maxTemplates;
+
+  private final Map<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Gets the report of the template, reading it when it is not cached or the data of the template
+   * changed. Templates without an ID are always read.
+   *
+   * @param template template of the report
+   * @param loader   reads the report from the data of the template
+   * @return the report
+   * @throws JasperReportViewException if the report could not be read
+   */
+  public JasperReport get(JasperTemplate template, ReportRenderTask<JasperReport> loader)
+      throws JasperReportViewException {
+    if (null == template.getId() || null == template.getData()) {
+      return loader.render();
+    }
+
+    String hash = Checksums.sha256(template.getData());
+
+    synchronized (entries) {
+      Entry entry = entries.get(template.getId());
+
+      if (null != entry && hash.equals(entry.hash)) {
+        return entry.report;
+      }
+    }
+
+    // the report is read outside of the lock, so the templates are read in parallel
+    JasperReport report = loader.render();
+
+    synchronized (entries) {
+      entries.put(template.getId(), new Entry(hash, report));
+
+      while (entries.size() > maxTemplates) {
+        entries.remove(entries.keySet().iterator().next());
+      }
+    }
+
+    return report;
+  }
+
+  /**
+   * Checks whether the report of the template is cached.
+   *
+   * @param templateId ID of the template
+   * @return true if the report is cached
+   */
+  public boolean contains(UUID templateId) {
+    synchronized (entries) {
+      return entries.containsKey(templateId);
+    }
+  }
+
+  private static final class Entry {
+    private final String hash;
+    private final JasperReport report;
+
+    private Entry(String hash, JasperReport report) {
+      this.hash = hash;
+      this.report = report;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package mw.gov.health.lmis.reports.service.render;
+
+/**
+ * Estimate of the main query of a report, read from its plan once before the report is filled,
+ * see {@link ReportCostPreflight}. The values are null if the query has not been planned.
+ */
+public final class CostEstimate {
+  static final CostEstimate UNKNOWN = new CostEstimate(null, null);
+
+  private final Double cost;
+  private final Double rows;
+
+  CostEstimate(Double cost, Double rows) {
+    this.cost = cost;
+    this.rows = rows;
+  }
+
+  /**
+   * Gets the estimated total cost of the query.
+   *
+   * @return estimated cost, or null if it is not known
+   */
+  public Double getCost() {
+    return cost;
+  }
+
+  /**
+   * Gets the estimated number of rows returned by the query.
+   *
+   * @return estimated number of rows, or null if it is not known
+   */
+  public Double getRows() {
+    return rows;
+  }
+}
@@ -0,0 +1,53 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the rows as RFC 4180 CSV, with a header line of the field names and CRLF line breaks.
+ * Null values are written as empty fields.
+ */
+class CsvDatasetWriter extends TextDatasetWriter {
+
+  CsvDatasetWriter(OutputStream output) {
+    super(output);
+  }
+
+  @Override
+  protected void writeHeader(String[] names, Class<?>[] types) throws IOException {
+    writeLine(names);
+  }
+
+  @Override
+  protected void writeRow(String[] names, Object[] values) throws IOException {
+    writeLine(values);
+  }
+
+  private void writeLine(Object[] values) throws IOException {
+    for (int i = 0; i < values.length; ++i) {
+      if (i > 0) {
+        writer.write(',');
+      }
+
+      writeField(toText(values[i]));
+    }
+
+    writer.write("\r\n");
+  }
+
+  private void writeField(String text) throws IOException {
+    if (null == text) {
+      return;
+    }
+
+    if (text.indexOf('"') < 0 && text.indexOf(',') < 0 && text.indexOf('\r') < 0
+        && text.indexOf('\n') < 0) {
+      writer.write(text);
+      return;
+    }
+
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
@@ -0,0 +1,274 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.PostConstruct;
+
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
+import mw.gov.health.lmis.reports.service.metrics.CacheMetrics;
+
+/**
+ * Cache of the query results, shared by the fills of all templates and formats. Results are
+ * kept as {@link ColumnarRows} under the normalized SQL statement and the values of its
+ * parameters, so templates that run the same query for the same parameters, and present the
+ * rows differently, read the rows from memory. The least recently used results are evicted when
+ * the cache exceeds its memory budget.
+ *
+ * <p>The results are removed when a freshness watermark of a source domain read by their query
+ * changes, see {@link DataFreshnessService}, the domains of a query are found from the tables it
+ * names, see {@link SourceDomain#readBy}. Results read before a change are not cached after it,
+ * and no
+ * result is kept longer than the maximal age, so queries depending on the current time do not
+ * stay cached when the data does not change.
+ */
+@Component
+public class DatasetCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DatasetCache.class);
+
+  /**
+   * Name of the template property, that can be set to "false" to always run the queries of the
+   * template.
+   */
+  public static final String PROPERTY = "cacheDatasets";
+
+  @Autowired
+  private DataFreshnessService dataFreshnessService;
+
+  @Value("${reports.datasetCache.enabled}")
+  private boolean enabled;
+
+  @Value("${reports.datasetCache.maxBytes}")
+  private long maxBytes;
+
+  @Value("${reports.datasetCache.maxEntryRows}")
+  private int maxEntryRows;
+
+  @Value("${reports.datasetCache.maxAge}")
+  private long maxAge;
+
+  private final Map<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long bytes;
+  private long version;
+
+  /**
+   * Removes the results depending on the data whenever it changes.
+   */
+  @PostConstruct
+  public void subscribe() {
+    dataFreshnessService.addListener(this::invalidate);
+  }
+
+  /**
+   * Checks if the cache is enabled for the template.
+   *
+   * @param property value of the {@link #PROPERTY} template property
+   * @return true if the queries of the template can be cached
+   */
+  public boolean isEnabled(String property) {
+    return enabled && maxBytes > 0 && !"false".equalsIgnoreCase(property);
+  }
+
+  /**
+   * Gets the version of the data, that should be passed when the rows of a query run after this
+   * call are cached. The version changes with the freshness watermarks of the data.
+   *
+   * @return version of the cached data
+   */
+  long getVersion() {
+    synchronized (entries) {
+      return version;
+    }
+  }
+
+  /**
+   * Gets the cached rows of a query.
+   *
+   * @param key key of the query, see {@link PrefetchQueryExecuter#getKey()}
+   * @return result set with the cached rows, or null if the rows are not cached
+   */
+  ResultSet get(List<Object> key) {
+    List<Object> normalized = normalize(key);
+    Entry entry;
+
+    synchronized (entries) {
+      entry = entries.get(normalized);
+
+      if (null != entry && isExpired(entry)) {
+        remove(normalized);
+        entry = null;
+      }
+    }
+
+    CacheMetrics.recordDatasetCache(null == entry ? "miss" : "hit");
+    return null == entry ? null : ColumnarResultSet.create(entry.rows, null);
+  }
+
+  /**
+   * Checks if the rows of a query are cached.
+   *
+   * @param key key of the query, see {@link PrefetchQueryExecuter#getKey()}
+   * @return true if the rows are cached
+   */
+  boolean contains(List<Object> key) {
+    synchronized (entries) {
+      Entry entry = entries.get(normalize(key));
+      return null != entry && !isExpired(entry);
+    }
+  }
+
+  /**
+   * Reads the rows of a result set and caches them, if all of them could be read and their
+   * version is still current. The returned result set should be used instead of the given one.
+   *
+   * @param key         key of the query, see {@link PrefetchQueryExecuter#getKey()}
+   * @param rowsVersion version of the data before the query was run
+   * @param resultSet   result set of the query positioned before the first row
+   * @return result set with the same rows
+   * @throws SQLException if the rows could not be read
+   */
+  ResultSet read(List<Object> key, long rowsVersion, ResultSet resultSet)
+      throws SQLException {
+    ColumnarRows.Builder builder = ColumnarRows.builder(resultSet.getMetaData());
+
+    if (null == builder) {
+      return resultSet;
+    }
+
+    boolean complete = true;
+
+    while (complete && resultSet.next()) {
+      builder.add(resultSet);
+      complete = builder.size() < maxEntryRows;
+    }
+
+    ColumnarRows rows = builder.build();
+
+    if (complete) {
+      put(normalize(key), rowsVersion, rows);
+      return ColumnarResultSet.create(rows, null);
+    }
+
+    LOGGER.debug("Query returned more than {} rows, it is not cached", maxEntryRows);
+    return ColumnarResultSet.create(rows, resultSet);
+  }
+
+  // statements that differ only in the white space outside of the literals have the same key
+  static List<Object> normalize(List<Object> key) {
+    Object[] normalized = key.toArray();
+    normalized[0] = normalizeSql((String) normalized[0]);
+    return Arrays.asList(normalized);
+  }
+
+  static String normalizeSql(String sql) {
+    StringBuilder normalized = new StringBuilder(sql.length());
+    char quote = 0;
+    boolean space = false;
+
+    for (char character : sql.trim().toCharArray()) {
+      if (0 == quote && Character.isWhitespace(character)) {
+        space = true;
+        continue;
+      }
+
+      if (space) {
+        normalized.append(' ');
+        space = false;
+      }
+
+      if (0 == quote && ('\'' == character || '"' == character)) {
+        quote = character;
+      } else if (quote == character) {
+        quote = 0;
+      }
+
+      normalized.append(character);
+    }
+
+    return normalized.toString();
+  }
+
+  private void put(List<Object> key, long rowsVersion, ColumnarRows rows) {
+    long size = rows.estimateBytes();
+    Set<SourceDomain> domains = SourceDomain.readBy(
+        Collections.singleton((String) key.get(0)));
+
+    synchronized (entries) {
+      if (rowsVersion != version || size > maxBytes) {
+        return;
+      }
+
+      remove(key);
+      entries.put(key, new Entry(rows, domains, size, System.currentTimeMillis()));
+      bytes += size;
+
+      Iterator<Entry> eldest = entries.values().iterator();
+
+      while (bytes > maxBytes && eldest.hasNext()) {
+        bytes -= eldest.next().size;
+        eldest.remove();
+      }
+
+      CacheMetrics.setDatasetCacheSize(bytes);
+    }
+  }
+
+  private void remove(List<Object> key) {
+    Entry removed = entries.remove(key);
+
+    if (null != removed) {
+      bytes -= removed.size;
+      CacheMetrics.setDatasetCacheSize(bytes);
+    }
+  }
+
+  private boolean isExpired(Entry entry) {
+    return maxAge > 0 && System.currentTimeMillis() - entry.createdTime > maxAge;
+  }
+
+  private void invalidate(Set<SourceDomain> domains) {
+    synchronized (entries) {
+      ++version;
+      Iterator<Entry> iterator = entries.values().iterator();
+
+      while (iterator.hasNext()) {
+        Entry entry = iterator.next();
+
+        if (!Collections.disjoint(entry.domains, domains)) {
+          bytes -= entry.size;
+          iterator.remove();
+        }
+      }
+
+      CacheMetrics.setDatasetCacheSize(bytes);
+    }
+  }
+
+  private static final class Entry {
+    private final ColumnarRows rows;
+    private final Set<SourceDomain> domains;
+    private final long size;
+    private final long createdTime;
+
+    Entry(ColumnarRows rows, Set<SourceDomain> domains, long size, long createdTime) {
+      this.rows = rows;
+      this.domains = domains;
+      this.size = size;
+      this.createdTime = createdTime;
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.i18n.JasperMessageKeys.ERROR_JASPER_FORMAT_NOT_SUPPORTED;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Writes the rows of a report dataset as tabular data, one row at a time, so the rows are not
+ * kept in memory. The columns are the fields declared by the dataset, in their order.
+ */
+public abstract class DatasetWriter {
+  public static final String NDJSON = "ndjson";
+  public static final String CSV = "csv";
+  public static final String PARQUET = "parquet";
+  public static final String XLSX = "xlsx";
+
+  private static final Map<String, String> CONTENT_TYPES = createContentTypes();
+
+  protected final OutputStream output;
+
+  DatasetWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  /**
+   * Checks if the given format is supported.
+   *
+   * @param format data format
+   * @throws ValidationMessageException if the format is not supported
+   */
+  public static void validateFormat(String format) {
+    if (!CONTENT_TYPES.containsKey(format)) {
+      throw new ValidationMessageException(new Message(
+          ERROR_JASPER_FORMAT_NOT_SUPPORTED, format, String.join(", ", CONTENT_TYPES.keySet())));
+    }
+  }
+
+  /**
+   * Returns the content type of the response for the given format.
+   *
+   * @param format data format
+   * @return content type, including charset of the text formats
+   */
+  public static String getContentType(String format) {
+    validateFormat(format);
+    return CONTENT_TYPES.get(format);
+  }
+
+  /**
+   * Creates the writer of the given format.
+   *
+   * @param format data format
+   * @param output stream to which the rows are written, it is not closed by the writer
+   * @return writer of the rows
+   */
+  public static DatasetWriter create(String format, OutputStream output) {
+    validateFormat(format);
+
+    switch (format) {
+      case NDJSON:
+        return new NdjsonDatasetWriter(output);
+      case PARQUET:
+        return new ParquetDatasetWriter(output);
+      case XLSX:
+        return new XlsxDatasetWriter(output);
+      default:
+        return new CsvDatasetWriter(output);
+    }
+  }
+
+  /**
+   * Writes all rows of the data source.
+   *
+   * @param fields fields of the dataset
+   * @param source data source positioned before the first row
+   * @return number of the written rows
+   * @throws JRException if a row could not be read
+   * @throws IOException if a row could not be written
+   */
+  long write(JRField[] fields, JRDataSource source) throws JRException, IOException {
+    JRField[] columns = null == fields ? new JRField[0] : fields;
+    String[] names = new String[columns.length];
+    Class<?>[] types = new Class<?>[columns.length];
+
+    for (int i = 0; i < columns.length; ++i) {
+      names[i] = columns[i].getName();
+      types[i] = columns[i].getValueClass();
+    }
+
+    Object[] values = new Object[names.length];
+    long rows = 0;
+
+    try {
+      writeHeader(names, types);
+
+      while (source.next()) {
+        for (int i = 0; i < names.length; ++i) {
+          values[i] = source.getFieldValue(fields[i]);
+        }
+
+        writeRow(names, values);
+        ++rows;
+      }
+
+      finish();
+    } finally {
+      release();
+    }
+
+    return rows;
+  }
+
+  protected abstract void writeHeader(String[] names, Class<?>[] types) throws IOException;
+
+  protected abstract void writeRow(String[] names, Object[] values) throws IOException;
+
+  /**
+   * Writes out everything that is still buffered, after the last row. The output stream is not
+   * closed.
+   *
+   * @throws IOException if the rows could not be written
+   */
+  protected abstract void finish() throws IOException;
+
+  /**
+   * Releases the resources held by the writer, also when the rows could not be written.
+   */
+  protected void release() {
+    // nothing is held by default
+  }
+
+  /**
+   * Converts the value to text. Timestamps are written in ISO 8601 format in UTC, dates and
+   * times as they are stored in the database.
+   *
+   * @param value field value
+   * @return the text, or null if the value is null
+   */
+  protected static String toText(Object value) {
+    if (null == value) {
+      return null;
+    }
+
+    if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).toPlainString();
+    }
+
+    if (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof Time)) {
+      return ((Date) value).toInstant().toString();
+    }
+
+    return value.toString();
+  }
+
+  private static Map<String, String> createContentTypes() {
+    Map<String, String> contentTypes = new LinkedHashMap<>();
+    contentTypes.put(NDJSON, "application/x-ndjson;charset=UTF-8");
+    contentTypes.put(CSV, "text/csv;charset=UTF-8");
+    contentTypes.put(PARQUET, "application/vnd.apache.parquet");
+    contentTypes.put(XLSX, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    return Collections.unmodifiableMap(contentTypes);
+  }
+}
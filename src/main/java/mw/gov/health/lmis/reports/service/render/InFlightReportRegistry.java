@@ -0,0 +1,162 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+
+/**
+ * Registry of the reports that are currently being rendered. Identical requests that arrive while
+ * a report is being rendered do not start their own fill, but wait for the result of the render in
+ * progress. Each request waits on its own future, so one request that gives up does not cancel the
+ * render for the others. The render is only cancelled when all of its requests gave up. Results
+ * are not kept after the render completes.
+ */
+@Component
+public class InFlightReportRegistry {
+  private static final Logger LOGGER = LoggerFactory.getLogger(InFlightReportRegistry.class);
+
+  private final ConcurrentMap<String, InFlightRender> renders = new ConcurrentHashMap<>();
+
+  /**
+   * Builds the key identifying a report render. Parameters are sorted by name, so the key does
+   * not depend on the order of request parameters.
+   *
+   * @param templateId report template ID
+   * @param format     report format
+   * @param locale     locale used to translate the report
+   * @param parameters parameters which change the content of the report
+   * @return canonical key of the render
+   */
+  public static String createKey(UUID templateId, String format, Locale locale,
+                                 Map<String, ?> parameters) {
+    StringBuilder key = new StringBuilder()
+        .append(templateId)
+        .append('/')
+        .append(format)
+        .append('/')
+        .append(locale);
+
+    new TreeMap<>(parameters).forEach((name, value) -> key
+        .append('&')
+        .append(name)
+        .append('=')
+        .append(Objects.toString(value, "")));
+
+    return key.toString();
+  }
+
+  /**
+   * Starts the render, unless the identical report is already being rendered. In that case the
+   * request waits for the render in progress. Cancelling the returned future only stops waiting
+   * for the render, which is cancelled once every request that shares it has cancelled its
+   * future.
+   *
+   * @param key    canonical key of the render, see {@link #createKey(UUID, String, Locale, Map)}
+   * @param submit submits the render if there is no identical render in progress
+   * @return future result of the render for this request
+   * @throws JasperReportViewException if the render could not be submitted
+   */
+  public CompletableFuture<byte[]> render(String key, ReportRenderSubmission submit)
+      throws JasperReportViewException {
+    InFlightRender created = new InFlightRender();
+    InFlightRender render = renders.compute(key, (name, inProgress) -> {
+      InFlightRender joined = null == inProgress ? created : inProgress;
+      joined.waiters++;
+      return joined;
+    });
+
+    if (render != created) {
+      LOGGER.debug("Joining render in progress: {}", key);
+      return await(key, render);
+    }
+
+    CompletableFuture<byte[]> submitted;
+
+    try {
+      submitted = submit.submit();
+    } catch (JasperReportViewException | RuntimeException ex) {
+      renders.remove(key, render);
+      render.result.completeExceptionally(ex);
+      throw ex;
+    }
+
+    submitted.whenComplete((report, error) -> {
+      // identical requests arriving after this point start a new render
+      renders.remove(key, render);
+
+      if (null == error) {
+        render.result.complete(report);
+      } else {
+        render.result.completeExceptionally(error);
+      }
+    });
+
+    render.result.whenComplete((report, error) -> {
+      if (render.result.isCancelled()) {
+        submitted.cancel(true);
+      }
+    });
+
+    return await(key, render);
+  }
+
+  int getInFlightCount() {
+    return renders.size();
+  }
+
+  private CompletableFuture<byte[]> await(String key, InFlightRender render) {
+    CompletableFuture<byte[]> waiter = new CompletableFuture<>();
+
+    render.result.whenComplete((report, error) -> {
+      if (null == error) {
+        waiter.complete(report);
+      } else {
+        waiter.completeExceptionally(error);
+      }
+    });
+
+    waiter.whenComplete((report, error) -> {
+      if (waiter.isCancelled()) {
+        leave(key, render);
+      }
+    });
+
+    return waiter;
+  }
+
+  private void leave(String key, InFlightRender render) {
+    boolean[] abandoned = new boolean[1];
+
+    renders.computeIfPresent(key, (name, inProgress) -> {
+      if (inProgress != render) {
+        return inProgress;
+      }
+
+      inProgress.waiters--;
+      abandoned[0] = 0 == inProgress.waiters;
+      return abandoned[0] ? null : inProgress;
+    });
+
+    if (abandoned[0]) {
+      LOGGER.debug("Cancelling render without requests: {}", key);
+      render.result.cancel(true);
+    }
+  }
+
+  // the waiters are only counted inside of the atomic operations of the map
+  private static final class InFlightRender {
+    private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+    private int waiters;
+  }
+}
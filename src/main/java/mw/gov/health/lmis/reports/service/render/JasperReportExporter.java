@@ -0,0 +1,217 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.i18n.JasperMessageKeys.ERROR_JASPER_FORMAT_NOT_SUPPORTED;
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_GENERATE_REPORT_FAILED;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.export.HtmlExporter;
+import net.sf.jasperreports.engine.export.HtmlResourceHandler;
+import net.sf.jasperreports.engine.export.JRCsvExporter;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.engine.export.JRXlsExporter;
+import net.sf.jasperreports.engine.export.ooxml.JRXlsxExporter;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleHtmlExporterConfiguration;
+import net.sf.jasperreports.export.SimpleHtmlExporterOutput;
+import net.sf.jasperreports.export.SimpleHtmlReportConfiguration;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import net.sf.jasperreports.export.SimpleWriterExporterOutput;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Exports filled reports to one of the supported formats. This is an equivalent of the format
+ * mappings used by {@code JasperReportsMultiFormatView}, that writes the result to a byte array
+ * instead of the servlet response, so the same output can be served to more than one request.
+ */
+@Component
+public class JasperReportExporter {
+  public static final String CSV = "csv";
+  public static final String HTML = "html";
+  public static final String PDF = "pdf";
+  public static final String XLS = "xls";
+  public static final String XLSX = "xlsx";
+
+  /**
+   * Name of the template property that selects how the XLSX reports of the template are written:
+   * true to write the rows of the template query through a streaming workbook, without the
+   * report layout, false to export the filled report. When the property is not set, the rows are
+   * streamed if the query is estimated to return more rows than configured.
+   */
+  public static final String STREAM_XLSX_PROPERTY = "streamXlsx";
+
+  private static final String ENCODING = StandardCharsets.UTF_8.name();
+  private static final List<String> SUPPORTED_FORMATS =
+      Collections.unmodifiableList(Arrays.asList(CSV, HTML, PDF, XLS, XLSX));
+
+  /**
+   * Checks if the given format is supported.
+   *
+   * @param format report format
+   * @throws ValidationMessageException if the format is not supported
+   */
+  public void validateFormat(String format) {
+    if (!SUPPORTED_FORMATS.contains(format)) {
+      throw new ValidationMessageException(new Message(
+          ERROR_JASPER_FORMAT_NOT_SUPPORTED, format, String.join(", ", SUPPORTED_FORMATS)));
+    }
+  }
+
+  /**
+   * Returns the content type of the response for the given format.
+   *
+   * @param format report format
+   * @return content type, including charset for text based formats
+   */
+  public String getContentType(String format) {
+    validateFormat(format);
+    switch (format) {
+      case CSV:
+        return "text/csv;charset=" + ENCODING;
+      case HTML:
+        return "text/html;charset=" + ENCODING;
+      case XLS:
+        return "application/vnd.ms-excel";
+      case XLSX:
+        return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+      default:
+        return "application/pdf";
+    }
+  }
+
+  /**
+   * Exports the filled report to the given format.
+   *
+   * @param jasperPrint filled report
+   * @param format      report format
+   * @return exported report data
+   * @throws JasperReportViewException if the export fails
+   */
+  public byte[] export(JasperPrint jasperPrint, String format) throws JasperReportViewException {
+    validateFormat(format);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try {
+      export(jasperPrint, format, output);
+    } catch (JRException ex) {
+      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
+    }
+    return output.toByteArray();
+  }
+
+  private void export(JasperPrint jasperPrint, String format, OutputStream output)
+      throws JRException {
+    SimpleExporterInput input = new SimpleExporterInput(jasperPrint);
+
+    switch (format) {
+      case CSV:
+        JRCsvExporter csvExporter = new JRCsvExporter();
+        csvExporter.setExporterInput(input);
+        csvExporter.setExporterOutput(new SimpleWriterExporterOutput(output, ENCODING));
+        csvExporter.exportReport();
+        break;
+      case HTML:
+        HtmlExporter htmlExporter = new HtmlExporter();
+        htmlExporter.setExporterInput(input);
+        htmlExporter.setExporterOutput(new SimpleHtmlExporterOutput(output, ENCODING));
+        htmlExporter.exportReport();
+        break;
+      case XLS:
+        JRXlsExporter xlsExporter = new JRXlsExporter();
+        xlsExporter.setExporterInput(input);
+        xlsExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
+        xlsExporter.exportReport();
+        break;
+      case XLSX:
+        JRXlsxExporter xlsxExporter = new JRXlsxExporter();
+        xlsxExporter.setExporterInput(input);
+        xlsxExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
+        xlsxExporter.exportReport();
+        break;
+      default:
+        JRPdfExporter pdfExporter = new JRPdfExporter();
+        pdfExporter.setExporterInput(input);
+        pdfExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
+        pdfExporter.exportReport();
+        break;
+    }
+  }
+
+  /**
+   * Exports a range of pages of the filled report as HTML. Only the exported pages are read, so
+   * the other pages of a virtualized report stay on disk. The images are not embedded in the
+   * pages, they are passed to the given handler, that returns the paths they are referenced by.
+   *
+   * @param jasperPrint  filled report
+   * @param firstPage    index of the first exported page, starting from 0
+   * @param lastPage     index of the last exported page, starting from 0
+   * @param imageHandler handler of the images of the exported pages
+   * @return exported pages
+   * @throws JasperReportViewException if the export fails
+   */
+  public byte[] exportHtmlPages(JasperPrint jasperPrint, int firstPage, int lastPage,
+                                HtmlResourceHandler imageHandler)
+      throws JasperReportViewException {
+    SimpleHtmlReportConfiguration configuration = new SimpleHtmlReportConfiguration();
+    configuration.setEmbedImage(false);
+    configuration.setStartPageIndex(firstPage);
+    configuration.setEndPageIndex(lastPage);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    SimpleHtmlExporterOutput exporterOutput = new SimpleHtmlExporterOutput(output, ENCODING);
+    exporterOutput.setImageHandler(imageHandler);
+
+    HtmlExporter htmlExporter = new HtmlExporter();
+    htmlExporter.setExporterInput(new SimpleExporterInput(jasperPrint));
+    htmlExporter.setExporterOutput(exporterOutput);
+    htmlExporter.setConfiguration(configuration);
+
+    try {
+      htmlExporter.exportReport();
+    } catch (JRException ex) {
+      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Exports the filled report as an HTML fragment, to be inserted into a page, with the given
+   * label before the report. The images are embedded in the fragment.
+   *
+   * @param jasperPrint filled report
+   * @param label       HTML of the label of the report
+   * @return exported report
+   * @throws JasperReportViewException if the export fails
+   */
+  public byte[] exportHtmlFragment(JasperPrint jasperPrint, String label)
+      throws JasperReportViewException {
+    SimpleHtmlExporterConfiguration configuration = new SimpleHtmlExporterConfiguration();
+    configuration.setHtmlHeader("<div class=\"report-preview\">\n"
+        + "<p class=\"report-preview-label\">" + label + "</p>\n");
+    configuration.setHtmlFooter("</div>\n");
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    HtmlExporter htmlExporter = new HtmlExporter();
+    htmlExporter.setExporterInput(new SimpleExporterInput(jasperPrint));
+    htmlExporter.setExporterOutput(new SimpleHtmlExporterOutput(output, ENCODING));
+    htmlExporter.setConfiguration(configuration);
+
+    try {
+      htmlExporter.exportReport();
+    } catch (JRException ex) {
+      throw new JasperReportViewException(ex, ERROR_GENERATE_REPORT_FAILED);
+    }
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,270 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.SimpleJasperReportsContext;
+import net.sf.jasperreports.engine.query.JRQueryExecuterFactoryBundle;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+/**
+ * Fills reports with connections to the replication database.
+ *
+ * <p>The queries of the subdatasets run in parallel with the main query. The fill connection
+ * exports its snapshot and every subdataset query runs on its own connection in a transaction
+ * that imports this snapshot, so all queries see the same data. When the fill reaches
+ * a subdataset, whose query has been prefetched with the same parameter values, it reads the rows
+ * from memory instead of running the query again.
+ *
+ * <p>The rows of the queries are kept in the {@link DatasetCache} and the fills of other
+ * templates with the same queries read them from memory.
+ *
+ * <p>The rows of the queries run by the fill are read ahead, and the fill connection is returned
+ * to the pool before the layout of the report, so the connection is not held while the report
+ * is laid out. A subdataset query, which has not been prefetched, takes a connection again for
+ * the time of the query, and it does not share the snapshot of the main query.
+ */
+@Component
+public class JdbcReportFiller {
+
+  /**
+   * Name of the template property, that can be set to "false" to fill the subdatasets of the
+   * template one after another.
+   */
+  public static final String PREFETCH_PROPERTY = "prefetchSubdatasets";
+
+  /**
+   * Name of the template property, that can be set to "false" to keep the connection for the
+   * whole fill of the template, instead of reading the rows ahead.
+   */
+  public static final String MATERIALIZE_PROPERTY = "materializeRows";
+
+  /**
+   * Source of the fill connections.
+   */
+  @FunctionalInterface
+  public interface ConnectionSupplier {
+
+    /**
+     * Takes a connection, that is closed when it is no longer used by the fill.
+     *
+     * @return connection to the replication database
+     * @throws SQLException if the connection could not be taken
+     */
+    Connection getConnection() throws SQLException;
+  }
+
+  @Autowired
+  private DataSource replicationDataSource;
+
+  @Autowired
+  private DatasetCache datasetCache;
+
+  @Autowired
+  private RenderLaneExecutor renderLaneExecutor;
+
+  @Value("${reports.prefetch.enabled}")
+  private boolean prefetchEnabled;
+
+  @Value("${reports.prefetch.poolSize}")
+  private int poolSize;
+
+  @Value("${reports.prefetch.queueCapacity}")
+  private int queueCapacity;
+
+  @Value("${reports.prefetch.maxRows}")
+  private int maxRows;
+
+  @Value("${reports.prefetch.snapshotWait}")
+  private long snapshotWait;
+
+  @Value("${reports.prefetch.resultWait}")
+  private long resultWait;
+
+  @Value("${reports.materialize.enabled}")
+  private boolean materializeEnabled;
+
+  @Value("${reports.materialize.memoryRows}")
+  private int memoryRows;
+
+  @Value("${reports.dataStream.fetchSize}")
+  private int fetchSize;
+
+  private ExecutorService executor;
+
+  /**
+   * Creates the thread pool of the subdataset queries.
+   */
+  @PostConstruct
+  public void start() {
+    executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("prefetch-"));
+  }
+
+  /**
+   * Stops the thread pool of the subdataset queries.
+   */
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Fills the report with connections from the given supplier, prefetching the queries of its
+   * subdatasets, caching the rows of the queries and reading them ahead. Each of them can be
+   * disabled for a template with its property.
+   *
+   * @param report             compiled report
+   * @param params             report parameters
+   * @param connectionSupplier supplier of the connections used by the fill
+   * @return filled report
+   * @throws JRException  if the report could not be filled
+   * @throws SQLException if the snapshot could not be exported or the connection returned
+   */
+  public JasperPrint fill(JasperReport report, Map<String, Object> params,
+                          ConnectionSupplier connectionSupplier)
+      throws JRException, SQLException {
+    return fill(report, params, connectionSupplier, null);
+  }
+
+  /**
+   * Fills the report like {@link #fill(JasperReport, Map, ConnectionSupplier)}, but the main
+   * dataset is filled from the given rows, read before the fill, e.g. from a partition of the
+   * rows of a batch, see {@link PartitionedRows}. The queries of the subdatasets are run.
+   *
+   * @param report             compiled report
+   * @param params             report parameters
+   * @param connectionSupplier supplier of the connections used by the fill
+   * @param mainRows           rows of the main dataset, or null to run its query
+   * @return filled report
+   * @throws JRException  if the report could not be filled
+   * @throws SQLException if the snapshot could not be exported or the connection returned
+   */
+  public JasperPrint fill(JasperReport report, Map<String, Object> params,
+                          ConnectionSupplier connectionSupplier, JRDataSource mainRows)
+      throws JRException, SQLException {
+    boolean prefetch = prefetchEnabled && isEnabled(report, PREFETCH_PROPERTY)
+        && hasSubdatasetQueries(report);
+    boolean materialize = materializeEnabled && isEnabled(report, MATERIALIZE_PROPERTY);
+    DatasetCache cache = datasetCache.isEnabled(report.getProperty(DatasetCache.PROPERTY))
+        ? datasetCache
+        : null;
+
+    OnDemandConnection connection = new OnDemandConnection(connectionSupplier);
+    SubdatasetPrefetch subdatasetPrefetch = null;
+
+    try {
+      if (!prefetch && !materialize && null == cache && null == mainRows) {
+        return JasperFillManager.fillReport(report, params, connection.getProxy());
+      }
+
+      if (prefetch) {
+        Connection snapshotConnection =
+            connection.begin(Connection.TRANSACTION_REPEATABLE_READ);
+        subdatasetPrefetch = new SubdatasetPrefetch(report, exportSnapshot(snapshotConnection),
+            // the lane of the fill thread is captured, the prefetch threads have none
+            renderLaneExecutor.getSpareConnectionSupplier(replicationDataSource), executor,
+            maxRows, snapshotWait, resultWait, cache);
+      }
+
+      SimpleJasperReportsContext context = new SimpleJasperReportsContext();
+      context.setExtensions(JRQueryExecuterFactoryBundle.class,
+          Collections.singletonList(new PrefetchQueryExecuterFactory(subdatasetPrefetch,
+              materialize ? connection : null, memoryRows, cache, mainRows)));
+
+      return JasperFillManager.getInstance(context).fill(report, params, connection.getProxy());
+    } finally {
+      if (null != subdatasetPrefetch) {
+        subdatasetPrefetch.cancel();
+      }
+
+      connection.release();
+    }
+  }
+
+  /**
+   * Runs the main query of the report, with the parameter values the fill would use, and writes
+   * its rows as they are read from a database cursor, without filling the report. Neither the
+   * subdatasets nor the layout of the report are filled.
+   *
+   * @param report             compiled report with a SQL query in the main dataset
+   * @param params             report parameters
+   * @param connectionSupplier supplier of the connection on which the query runs
+   * @param writer             writer of the rows
+   * @return number of the written rows
+   * @throws JRException  if the query could not be run or the rows could not be written
+   * @throws SQLException if the cursor could not be opened or the connection returned
+   */
+  public long stream(JasperReport report, Map<String, Object> params,
+                     ConnectionSupplier connectionSupplier, DatasetWriter writer)
+      throws JRException, SQLException {
+    OnDemandConnection connection = new OnDemandConnection(connectionSupplier);
+
+    try {
+      // the driver reads the rows with a cursor only within a transaction
+      connection.begin(Connection.TRANSACTION_READ_COMMITTED);
+
+      SimpleJasperReportsContext context = new SimpleJasperReportsContext();
+      context.setExtensions(JRQueryExecuterFactoryBundle.class,
+          Collections.singletonList(new PrefetchQueryExecuterFactory(writer, fetchSize)));
+
+      JasperFillManager.getInstance(context).fill(report, params, connection.getProxy());
+      throw new JRException("The main query of the report has not been run");
+    } catch (PrefetchQueryExecuter.RowsWrittenException ex) {
+      return ex.getRows();
+    } finally {
+      connection.release();
+    }
+  }
+
+  private boolean isEnabled(JasperReport report, String property) {
+    return !"false".equalsIgnoreCase(report.getProperty(property));
+  }
+
+  private boolean hasSubdatasetQueries(JasperReport report) {
+    return null != report.getDatasets() && Arrays.stream(report.getDatasets())
+        .anyMatch(JdbcReportFiller::hasSqlQuery);
+  }
+
+  /**
+   * Checks if the dataset has a SQL query, that can be run by the fills of this filler.
+   *
+   * @param dataset dataset of a report
+   * @return true if the dataset has a non empty SQL query
+   */
+  public static boolean hasSqlQuery(JRDataset dataset) {
+    return null != dataset.getQuery() && null != dataset.getQuery().getText()
+        && !dataset.getQuery().getText().trim().isEmpty()
+        && PrefetchQueryExecuterFactory.supports(dataset.getQuery().getLanguage());
+  }
+
+  private String exportSnapshot(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("SELECT pg_export_snapshot()")) {
+      resultSet.next();
+      return resultSet.getString(1);
+    }
+  }
+}
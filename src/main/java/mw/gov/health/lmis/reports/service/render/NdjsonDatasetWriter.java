@@ -0,0 +1,71 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Writes the rows as newline delimited JSON, each row as an object of the field names and values
+ * on its own line. Numbers and booleans are written as JSON numbers and booleans, other values as
+ * strings.
+ */
+class NdjsonDatasetWriter extends TextDatasetWriter {
+  private final JsonGenerator generator;
+
+  NdjsonDatasetWriter(OutputStream output) {
+    super(output);
+
+    try {
+      generator = new JsonFactory()
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+          .createGenerator(writer);
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+
+    generator.setRootValueSeparator(null);
+  }
+
+  @Override
+  protected void writeHeader(String[] names, Class<?>[] types) {
+    // the field names are written in each row
+  }
+
+  @Override
+  protected void writeRow(String[] names, Object[] values) throws IOException {
+    generator.writeStartObject();
+
+    for (int i = 0; i < names.length; ++i) {
+      generator.writeFieldName(names[i]);
+      writeValue(values[i]);
+    }
+
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+    // moves the row to the buffer of the writer, which is flushed when it is full
+    generator.flush();
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value instanceof BigDecimal) {
+      generator.writeNumber((BigDecimal) value);
+    } else if (value instanceof BigInteger) {
+      generator.writeNumber((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      generator.writeNumber(((Number) value).doubleValue());
+    } else if (value instanceof Number) {
+      generator.writeNumber(((Number) value).longValue());
+    } else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    } else if (null == value) {
+      generator.writeNull();
+    } else {
+      generator.writeString(toText(value));
+    }
+  }
+}
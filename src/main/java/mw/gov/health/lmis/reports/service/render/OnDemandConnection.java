@@ -0,0 +1,176 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection of a fill, that is taken from its supplier on the first use and can be returned
+ * before the fill ends. If the fill runs a query after the connection has been returned, a
+ * connection is taken again. The metadata of a returned connection describes the database and
+ * the driver with the values read before it was returned, so the query executers, which read them
+ * e.g. for their debug logging, do not take a connection outside the snapshot of the fill and hold
+ * it until the fill ends. Closing the connection returns it.
+ */
+class OnDemandConnection implements InvocationHandler {
+  private final JdbcReportFiller.ConnectionSupplier supplier;
+  private final Connection proxy;
+
+  private Connection target;
+  private DatabaseMetaData releasedMetaData;
+  private boolean transaction;
+  private boolean autoCommit;
+  private int isolation;
+
+  OnDemandConnection(JdbcReportFiller.ConnectionSupplier supplier) {
+    this.supplier = supplier;
+    this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class}, this);
+  }
+
+  /**
+   * Gets the connection passed to the fill.
+   *
+   * @return connection that is taken on the first use
+   */
+  Connection getProxy() {
+    return proxy;
+  }
+
+  /**
+   * Takes the connection and starts a transaction on it. The transaction is rolled back and the
+   * previous settings of the connection are restored, when the connection is returned.
+   *
+   * @param transactionIsolation isolation level of the transaction
+   * @return connection with the transaction
+   * @throws SQLException if the connection could not be taken or configured
+   */
+  Connection begin(int transactionIsolation) throws SQLException {
+    Connection connection = acquire();
+
+    autoCommit = connection.getAutoCommit();
+    isolation = connection.getTransactionIsolation();
+    transaction = true;
+
+    connection.setAutoCommit(false);
+    connection.setTransactionIsolation(transactionIsolation);
+    return connection;
+  }
+
+  /**
+   * Returns the connection, if it has been taken.
+   *
+   * @throws SQLException if the transaction could not be rolled back or the metadata of the
+   *                      connection could not be read
+   */
+  void release() throws SQLException {
+    if (null == target) {
+      return;
+    }
+
+    Connection connection = target;
+    boolean rollback = transaction;
+
+    target = null;
+    transaction = false;
+
+    try (Connection closed = connection) {
+      if (rollback) {
+        closed.rollback();
+        closed.setTransactionIsolation(isolation);
+        closed.setAutoCommit(autoCommit);
+      }
+
+      if (null == releasedMetaData) {
+        releasedMetaData = describe(closed.getMetaData());
+      }
+    }
+  }
+
+  @Override
+  public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+    switch (method.getName()) {
+      case "close":
+        release();
+        return null;
+      case "isClosed":
+        return false;
+      case "equals":
+        return instance == args[0];
+      case "hashCode":
+        return System.identityHashCode(instance);
+      case "toString":
+        return "OnDemandConnection[" + target + "]";
+      case "getMetaData":
+        if (null == target && null != releasedMetaData) {
+          return releasedMetaData;
+        }
+        break;
+      default:
+        break;
+    }
+
+    try {
+      return method.invoke(acquire(), args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  private Connection acquire() throws SQLException {
+    if (null == target) {
+      target = supplier.getConnection();
+    }
+
+    return target;
+  }
+
+  // keeps the values that describe the database and the driver, the other methods fail
+  private DatabaseMetaData describe(DatabaseMetaData metaData) throws SQLException {
+    if (null == metaData) {
+      return null;
+    }
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("getDatabaseProductName", metaData.getDatabaseProductName());
+    values.put("getDatabaseProductVersion", metaData.getDatabaseProductVersion());
+    values.put("getDatabaseMajorVersion", metaData.getDatabaseMajorVersion());
+    values.put("getDatabaseMinorVersion", metaData.getDatabaseMinorVersion());
+    values.put("getDriverName", metaData.getDriverName());
+    values.put("getDriverVersion", metaData.getDriverVersion());
+    values.put("getDriverMajorVersion", metaData.getDriverMajorVersion());
+    values.put("getDriverMinorVersion", metaData.getDriverMinorVersion());
+    values.put("getJDBCMajorVersion", metaData.getJDBCMajorVersion());
+    values.put("getJDBCMinorVersion", metaData.getJDBCMinorVersion());
+    values.put("getURL", metaData.getURL());
+    values.put("getUserName", metaData.getUserName());
+    values.put("getConnection", proxy);
+
+    return (DatabaseMetaData) Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(),
+        new Class<?>[]{DatabaseMetaData.class}, (instance, method, args) -> {
+          if (null == args && values.containsKey(method.getName())) {
+            return values.get(method.getName());
+          }
+
+          switch (method.getName()) {
+            case "equals":
+              return instance == args[0];
+            case "hashCode":
+              return System.identityHashCode(instance);
+            case "toString":
+              return "DatabaseMetaData" + values;
+            default:
+              throw new SQLFeatureNotSupportedException(
+                  "The connection of the fill has been returned, " + method.getName()
+                      + " is not available");
+          }
+        });
+  }
+}
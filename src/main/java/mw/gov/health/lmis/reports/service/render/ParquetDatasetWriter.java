@@ -0,0 +1,485 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the rows as an Apache Parquet file, so analytics tools read the columns with their
+ * types. The column types come from the value classes of the fields: integers, decimals and
+ * booleans are written as numbers and booleans, dates, times and timestamps with their logical
+ * types, and other values as UTF-8 strings, dictionary encoded. All columns are nullable.
+ *
+ * <p>The rows are buffered and written in row groups of {@link #ROW_GROUP_ROWS} rows, each column
+ * of a row group as a single GZIP compressed page, and the file metadata is written after the last
+ * row group, so only one row group is kept in memory.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+class ParquetDatasetWriter extends DatasetWriter {
+  static final int ROW_GROUP_ROWS = 65_536;
+
+  private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+  private static final String CREATED_BY = "malawi-reports";
+
+  private static final int BOOLEAN = 0;
+  private static final int INT32 = 1;
+  private static final int INT64 = 2;
+  private static final int FLOAT = 4;
+  private static final int DOUBLE = 5;
+  private static final int BYTE_ARRAY = 6;
+
+  private static final int NONE = -1;
+  private static final int UTF8 = 0;
+  private static final int DATE = 6;
+  private static final int TIME_MILLIS = 7;
+  private static final int TIMESTAMP_MILLIS = 9;
+
+  private static final int PLAIN = 0;
+  private static final int PLAIN_DICTIONARY = 2;
+  private static final int RLE = 3;
+
+  private static final int DATA_PAGE = 0;
+  private static final int DICTIONARY_PAGE = 2;
+  private static final int GZIP = 2;
+  private static final int OPTIONAL = 1;
+
+  // physical and converted types of the value classes of the fields
+  private static final Map<Class<?>, int[]> TYPES = createTypes();
+
+  private final List<RowGroup> rowGroups = new ArrayList<>();
+  private Column[] columns;
+  private int rows;
+  private long totalRows;
+  private long position;
+
+  ParquetDatasetWriter(OutputStream output) {
+    super(output);
+  }
+
+  @Override
+  protected void writeHeader(String[] names, Class<?>[] types) throws IOException {
+    columns = new Column[names.length];
+
+    for (int i = 0; i < names.length; ++i) {
+      columns[i] = new Column(names[i], types[i]);
+    }
+
+    writeBytes(MAGIC);
+  }
+
+  @Override
+  protected void writeRow(String[] names, Object[] values) throws IOException {
+    for (int i = 0; i < columns.length; ++i) {
+      columns[i].values[rows] = values[i];
+    }
+
+    if (++rows == ROW_GROUP_ROWS) {
+      writeRowGroup();
+    }
+  }
+
+  @Override
+  protected void finish() throws IOException {
+    if (rows > 0) {
+      writeRowGroup();
+    }
+
+    byte[] footer = createFooter();
+    writeBytes(footer);
+    writeBytes(new byte[]{(byte) footer.length, (byte) (footer.length >>> 8),
+        (byte) (footer.length >>> 16), (byte) (footer.length >>> 24)});
+    writeBytes(MAGIC);
+    output.flush();
+  }
+
+  private void writeRowGroup() throws IOException {
+    RowGroup rowGroup = new RowGroup(rows);
+
+    for (Column column : columns) {
+      ColumnChunk chunk = column.encode(rows);
+      chunk.offset = position;
+
+      if (null != chunk.dictionaryPage) {
+        chunk.dictionaryPageOffset = position;
+        writePage(chunk, DICTIONARY_PAGE, chunk.dictionarySize, chunk.dictionaryPage);
+      }
+
+      chunk.dataPageOffset = position;
+      writePage(chunk, DATA_PAGE, rows, chunk.dataPage);
+      rowGroup.chunks.add(chunk);
+      rowGroup.totalBytes += chunk.uncompressedSize;
+      Arrays.fill(column.values, 0, rows, null);
+    }
+
+    rowGroups.add(rowGroup);
+    totalRows += rows;
+    rows = 0;
+  }
+
+  private void writePage(ColumnChunk chunk, int type, int values, byte[] page)
+      throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(page.length / 2 + 64);
+
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(page);
+    }
+
+    ThriftCompactOutput header = new ThriftCompactOutput()
+        .writeI32(1, type)
+        .writeI32(2, page.length)
+        .writeI32(3, compressed.size());
+
+    if (DATA_PAGE == type) {
+      header.beginStruct(5)
+          .writeI32(1, values)
+          .writeI32(2, chunk.encoding)
+          .writeI32(3, RLE)
+          .writeI32(4, RLE)
+          .endStruct();
+    } else {
+      header.beginStruct(7)
+          .writeI32(1, values)
+          .writeI32(2, PLAIN_DICTIONARY)
+          .endStruct();
+    }
+
+    byte[] headerBytes = header.endStruct().toByteArray();
+    writeBytes(headerBytes);
+    writeBytes(compressed.toByteArray());
+
+    chunk.uncompressedSize += headerBytes.length + page.length;
+    chunk.compressedSize += headerBytes.length + compressed.size();
+  }
+
+  private byte[] createFooter() {
+    ThriftCompactOutput footer = new ThriftCompactOutput()
+        .writeI32(1, 1)
+        .beginStructList(2, columns.length + 1)
+        .beginElement()
+        .writeString(4, "schema")
+        .writeI32(5, columns.length)
+        .endStruct();
+
+    for (Column column : columns) {
+      footer.beginElement()
+          .writeI32(1, column.type)
+          .writeI32(3, OPTIONAL)
+          .writeString(4, column.name);
+
+      if (NONE != column.convertedType) {
+        footer.writeI32(6, column.convertedType);
+      }
+
+      footer.endStruct();
+    }
+
+    footer.writeI64(3, totalRows).beginStructList(4, rowGroups.size());
+
+    for (RowGroup rowGroup : rowGroups) {
+      footer.beginElement().beginStructList(1, rowGroup.chunks.size());
+
+      for (ColumnChunk chunk : rowGroup.chunks) {
+        writeColumnChunk(footer, chunk);
+      }
+
+      footer.writeI64(2, rowGroup.totalBytes)
+          .writeI64(3, rowGroup.rows)
+          .endStruct();
+    }
+
+    return footer.writeString(6, CREATED_BY).endStruct().toByteArray();
+  }
+
+  private static void writeColumnChunk(ThriftCompactOutput footer, ColumnChunk chunk) {
+    footer.beginElement()
+        .writeI64(2, chunk.offset)
+        .beginStruct(3)
+        .writeI32(1, chunk.column.type)
+        .writeI32List(2, PLAIN == chunk.encoding
+            ? Arrays.asList(PLAIN, RLE)
+            : Arrays.asList(PLAIN_DICTIONARY, RLE))
+        .writeStringList(3, Collections.singletonList(chunk.column.name))
+        .writeI32(4, GZIP)
+        .writeI64(5, chunk.values)
+        .writeI64(6, chunk.uncompressedSize)
+        .writeI64(7, chunk.compressedSize)
+        .writeI64(9, chunk.dataPageOffset);
+
+    if (null != chunk.dictionaryPage) {
+      footer.writeI64(11, chunk.dictionaryPageOffset);
+    }
+
+    footer.endStruct().endStruct();
+  }
+
+  private void writeBytes(byte[] bytes) throws IOException {
+    output.write(bytes);
+    position += bytes.length;
+  }
+
+  /**
+   * Writes the values of the given bit width with the RLE / bit-packing hybrid encoding: runs of
+   * at least 8 equal values as repeated runs, and the other values bit-packed in groups of 8.
+   */
+  static void writeHybrid(PageOutput page, int[] values, int count, int bitWidth) {
+    int index = 0;
+
+    while (index < count) {
+      int run = runLength(values, index, count);
+
+      if (run >= 8) {
+        page.writeVarint(run << 1);
+        page.writeLittleEndian(values[index], (bitWidth + 7) / 8);
+        index += run;
+        continue;
+      }
+
+      int end = index + run;
+      while (end < count && runLength(values, end, count) < 8) {
+        end += runLength(values, end, count);
+      }
+
+      int groups = (end - index + 7) / 8;
+      page.writeVarint(groups << 1 | 1);
+      long bits = 0;
+      int bitCount = 0;
+
+      for (int i = index; i < index + groups * 8; ++i) {
+        bits |= (long) (i < count ? values[i] : 0) << bitCount;
+        bitCount += bitWidth;
+
+        while (bitCount >= 8) {
+          page.write((int) bits);
+          bits >>>= 8;
+          bitCount -= 8;
+        }
+      }
+
+      index = Math.min(count, index + groups * 8);
+    }
+  }
+
+  private static Map<Class<?>, int[]> createTypes() {
+    Map<Class<?>, int[]> types = new HashMap<>();
+    types.put(Boolean.class, new int[]{BOOLEAN, NONE});
+    types.put(Byte.class, new int[]{INT32, NONE});
+    types.put(Short.class, new int[]{INT32, NONE});
+    types.put(Integer.class, new int[]{INT32, NONE});
+    types.put(Long.class, new int[]{INT64, NONE});
+    types.put(Float.class, new int[]{FLOAT, NONE});
+    types.put(Double.class, new int[]{DOUBLE, NONE});
+    types.put(java.sql.Date.class, new int[]{INT32, DATE});
+    types.put(Time.class, new int[]{INT32, TIME_MILLIS});
+    types.put(Timestamp.class, new int[]{INT64, TIMESTAMP_MILLIS});
+    types.put(Date.class, new int[]{INT64, TIMESTAMP_MILLIS});
+    return types;
+  }
+
+  private static int runLength(int[] values, int start, int count) {
+    int end = start + 1;
+
+    while (end < count && values[end] == values[start]) {
+      ++end;
+    }
+
+    return end - start;
+  }
+
+  private static final class RowGroup {
+    private final List<ColumnChunk> chunks = new ArrayList<>();
+    private final int rows;
+    private long totalBytes;
+
+    private RowGroup(int rows) {
+      this.rows = rows;
+    }
+  }
+
+  private static final class ColumnChunk {
+    private final Column column;
+    private final int values;
+    private final int encoding;
+    private final byte[] dataPage;
+    private final byte[] dictionaryPage;
+    private final int dictionarySize;
+    private long offset;
+    private long dataPageOffset;
+    private long dictionaryPageOffset;
+    private long uncompressedSize;
+    private long compressedSize;
+
+    private ColumnChunk(Column column, int values, int encoding, byte[] dataPage,
+                        byte[] dictionaryPage, int dictionarySize) {
+      this.column = column;
+      this.values = values;
+      this.encoding = encoding;
+      this.dataPage = dataPage;
+      this.dictionaryPage = dictionaryPage;
+      this.dictionarySize = dictionarySize;
+    }
+  }
+
+  private static final class Column {
+    private final String name;
+    private final int type;
+    private final int convertedType;
+    private final Object[] values = new Object[ROW_GROUP_ROWS];
+
+    private Column(String name, Class<?> valueClass) {
+      this.name = name;
+      int[] types = TYPES.get(valueClass);
+
+      if (null == types) {
+        // decimals have no common scale, so they are written as doubles
+        types = isNumber(valueClass) ? TYPES.get(Double.class) : new int[]{BYTE_ARRAY, UTF8};
+      }
+
+      this.type = types[0];
+      this.convertedType = types[1];
+    }
+
+    private static boolean isNumber(Class<?> valueClass) {
+      return null != valueClass && Number.class.isAssignableFrom(valueClass)
+          && !BigInteger.class.equals(valueClass);
+    }
+
+    private ColumnChunk encode(int rows) {
+      int[] levels = new int[rows];
+      PageOutput valuesPage = new PageOutput();
+      Map<String, Integer> dictionary = new LinkedHashMap<>();
+      int[] indices = new int[rows];
+      int count = 0;
+      int bits = 0;
+      int bitCount = 0;
+
+      for (int i = 0; i < rows; ++i) {
+        Object value = values[i];
+
+        if (null == value) {
+          continue;
+        }
+
+        levels[i] = 1;
+
+        if (BYTE_ARRAY == type) {
+          indices[count] = dictionary.computeIfAbsent(toText(value), key -> dictionary.size());
+        } else if (BOOLEAN == type) {
+          bits |= ((Boolean) value ? 1 : 0) << bitCount;
+
+          if (++bitCount == 8) {
+            valuesPage.write(bits);
+            bits = 0;
+            bitCount = 0;
+          }
+        } else {
+          writePlain(valuesPage, value);
+        }
+
+        ++count;
+      }
+
+      if (bitCount > 0) {
+        valuesPage.write(bits);
+      }
+
+      PageOutput levelsPage = new PageOutput();
+      writeHybrid(levelsPage, levels, rows, 1);
+
+      PageOutput dataPage = new PageOutput();
+      dataPage.writeLittleEndian(levelsPage.size(), 4);
+      dataPage.append(levelsPage);
+
+      if (dictionary.isEmpty()) {
+        dataPage.append(valuesPage);
+        return new ColumnChunk(this, rows, PLAIN, dataPage.toByteArray(), null, 0);
+      }
+
+      int bitWidth = 32 - Integer.numberOfLeadingZeros(dictionary.size() - 1);
+      dataPage.write(bitWidth);
+      writeHybrid(dataPage, indices, count, bitWidth);
+
+      PageOutput dictionaryPage = new PageOutput();
+      dictionary.keySet().forEach(dictionaryPage::writeText);
+
+      return new ColumnChunk(this, rows, PLAIN_DICTIONARY, dataPage.toByteArray(),
+          dictionaryPage.toByteArray(), dictionary.size());
+    }
+
+    private void writePlain(PageOutput page, Object value) {
+      switch (type) {
+        case INT32:
+          page.writeLittleEndian(toInt(value), 4);
+          break;
+        case INT64:
+          page.writeLittleEndian(value instanceof Date
+              ? ((Date) value).getTime()
+              : ((Number) value).longValue(), 8);
+          break;
+        case FLOAT:
+          page.writeLittleEndian(Float.floatToIntBits(((Number) value).floatValue()), 4);
+          break;
+        default:
+          page.writeLittleEndian(Double.doubleToLongBits(((Number) value).doubleValue()), 8);
+          break;
+      }
+    }
+
+    private long toInt(Object value) {
+      if (DATE == convertedType) {
+        return value instanceof java.sql.Date
+            ? ((java.sql.Date) value).toLocalDate().toEpochDay()
+            : ((Date) value).toInstant().atOffset(ZoneOffset.UTC).toLocalDate().toEpochDay();
+      }
+
+      if (TIME_MILLIS == convertedType) {
+        return ((Time) value).toLocalTime().toNanoOfDay() / 1_000_000;
+      }
+
+      return ((Number) value).intValue();
+    }
+  }
+
+  static final class PageOutput extends ByteArrayOutputStream {
+
+    void writeLittleEndian(long value, int bytes) {
+      for (int i = 0; i < bytes; ++i) {
+        write((int) (value >>> 8 * i));
+      }
+    }
+
+    void writeVarint(int value) {
+      int remaining = value;
+
+      while ((remaining & ~0x7F) != 0) {
+        write(remaining & 0x7F | 0x80);
+        remaining >>>= 7;
+      }
+
+      write(remaining);
+    }
+
+    void append(PageOutput page) {
+      write(page.buf, 0, page.count);
+    }
+
+    void writeText(String text) {
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+      writeLittleEndian(bytes.length, 4);
+      write(bytes, 0, bytes.length);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Rows of the main query of a report, read once for all partitions of a batch and sliced in
+ * memory by the value of the partition field. The rows are written by the fill like the rows of
+ * a data stream, see {@link JdbcReportFiller#stream}, and each partition is then filled from its
+ * slice, see {@link JdbcReportFiller#fill(net.sf.jasperreports.engine.JasperReport, Map,
+ * JdbcReportFiller.ConnectionSupplier, JRDataSource)}. Rows without a value of the partition
+ * field do not belong to any partition.
+ */
+public class PartitionedRows extends DatasetWriter {
+
+  /**
+   * Name of the report property, that names the field whose value is the partition of a row.
+   */
+  public static final String FIELD_PROPERTY = "partitionField";
+
+  /**
+   * Name under which the reads of the partitioned rows are measured.
+   */
+  public static final String FORMAT = "partitions";
+
+  private final String partitionField;
+  private final long maxRows;
+  private final Map<String, List<Object[]>> partitions = new TreeMap<>();
+  private final Map<String, Integer> columns = new HashMap<>();
+
+  private int partitionColumn = -1;
+  private long rowCount;
+
+  /**
+   * Creates the rows partitioned by the given field.
+   *
+   * @param partitionField name of the field, whose value is the partition of the row
+   * @param maxRows        maximal number of rows, that can be kept in memory
+   */
+  public PartitionedRows(String partitionField, long maxRows) {
+    super(null);
+    this.partitionField = partitionField;
+    this.maxRows = maxRows;
+  }
+
+  /**
+   * Gets the values of the partition field, in their natural order.
+   *
+   * @return partitions of the rows
+   */
+  public Set<String> getPartitions() {
+    return Collections.unmodifiableSet(partitions.keySet());
+  }
+
+  /**
+   * Gets the number of the rows of all partitions.
+   *
+   * @return number of the rows
+   */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Creates a data source of the rows of the partition. Each call returns a new data source, so
+   * the partitions can be filled in parallel.
+   *
+   * @param partition value of the partition field
+   * @return rows of the partition, positioned before the first row
+   */
+  public JRDataSource getRows(String partition) {
+    return new PartitionDataSource(columns,
+        partitions.getOrDefault(partition, Collections.emptyList()));
+  }
+
+  @Override
+  protected void writeHeader(String[] names, Class<?>[] types) throws IOException {
+    for (int i = 0; i < names.length; ++i) {
+      columns.put(names[i], i);
+    }
+
+    partitionColumn = columns.getOrDefault(partitionField, -1);
+
+    if (partitionColumn < 0) {
+      throw new IOException("The main dataset does not declare field " + partitionField);
+    }
+  }
+
+  @Override
+  protected void writeRow(String[] names, Object[] values) throws IOException {
+    Object partition = values[partitionColumn];
+
+    if (null == partition) {
+      return;
+    }
+
+    if (++rowCount > maxRows) {
+      throw new IOException("The main query returned more than " + maxRows + " rows");
+    }
+
+    partitions.computeIfAbsent(partition.toString(), key -> new ArrayList<>())
+        .add(Arrays.copyOf(values, values.length));
+  }
+
+  @Override
+  protected void finish() {
+    // the rows are kept in memory
+  }
+
+  private static final class PartitionDataSource implements JRDataSource {
+    private final Map<String, Integer> columns;
+    private final List<Object[]> rows;
+    private int row = -1;
+
+    PartitionDataSource(Map<String, Integer> columns, List<Object[]> rows) {
+      this.columns = columns;
+      this.rows = rows;
+    }
+
+    @Override
+    public boolean next() {
+      return ++row < rows.size();
+    }
+
+    @Override
+    public Object getFieldValue(JRField field) throws JRException {
+      Integer column = columns.get(field.getName());
+
+      if (null == column) {
+        throw new JRException("Unknown field " + field.getName());
+      }
+
+      return rows.get(row)[column];
+    }
+  }
+}
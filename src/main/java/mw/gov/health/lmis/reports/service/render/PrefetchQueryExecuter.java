@@ -0,0 +1,312 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRResultSetDataSource;
+import net.sf.jasperreports.engine.JRValueParameter;
+import net.sf.jasperreports.engine.JasperReportsContext;
+import net.sf.jasperreports.engine.query.JRJdbcQueryExecuter;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+/**
+ * JDBC query executer of a fill with the options of the {@link PrefetchQueryExecuterFactory}.
+ * It starts the prefetch of the subdataset queries when the main query of the report is
+ * executed, and reads the rows of a subdataset from memory, if its query has been prefetched
+ * with the same parameter values. Rows of the queries are read from and added to the
+ * {@link DatasetCache}. When the fill connection is given, the rows of the queries run by the
+ * fill are read ahead into a {@link RowBuffer} and the connection is returned before the fill
+ * uses them. When the dataset writer is given, the rows of the main query are written out as
+ * they are read, and the fill is stopped with a {@link RowsWrittenException}. When the number of
+ * records of the report is limited, the limit is also added to the statement of the main query,
+ * if it is a single query, so the database plans it for the first rows. When the main rows are
+ * given, the main dataset is filled from them and its query is not run.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+class PrefetchQueryExecuter extends JRJdbcQueryExecuter {
+  private final SubdatasetPrefetch prefetch;
+  private final OnDemandConnection fillConnection;
+  private final int memoryRows;
+  private final DatasetCache datasetCache;
+  private final long cacheVersion;
+  private final DatasetWriter datasetWriter;
+  private final int fetchSize;
+  private final JRDataSource mainRows;
+  private int maxRows;
+  private RowBuffer buffer;
+
+  PrefetchQueryExecuter(JasperReportsContext jasperReportsContext, JRDataset dataset,
+                        Map<String, ? extends JRValueParameter> parameters,
+                        PrefetchQueryExecuterFactory fill) {
+    super(jasperReportsContext, dataset, parameters);
+
+    if (null == fill) {
+      this.prefetch = null;
+      this.fillConnection = null;
+      this.memoryRows = 0;
+      this.datasetCache = null;
+      this.cacheVersion = 0;
+      this.datasetWriter = null;
+      this.fetchSize = 0;
+      this.mainRows = null;
+    } else {
+      this.prefetch = fill.getPrefetch();
+      this.fillConnection = fill.getFillConnection();
+      this.memoryRows = fill.getMemoryRows();
+      this.datasetCache = fill.getDatasetCache();
+      this.cacheVersion = fill.getCacheVersion();
+      this.datasetWriter = fill.getDatasetWriter();
+      this.fetchSize = fill.getFetchSize();
+      this.mainRows = fill.getMainRows();
+    }
+  }
+
+  @Override
+  public JRDataSource createDatasource() throws JRException {
+    writeRows();
+
+    if (dataset.isMainDataset()) {
+      startPrefetch();
+
+      if (null != mainRows) {
+        return fromMemory(mainRows);
+      }
+    }
+
+    ResultSet cached = null == datasetCache ? null : datasetCache.get(getKey());
+
+    if (null != cached) {
+      return fromMemory(cached);
+    }
+
+    ResultSet prefetched = null == prefetch || dataset.isMainDataset()
+        ? null
+        : prefetch.get(getKey());
+
+    if (null != prefetched) {
+      return fromMemory(cache(prefetched));
+    }
+
+    super.createDatasource();
+    ResultSet rows = cache(resultSet);
+
+    if (ColumnarResultSet.isComplete(rows)) {
+      super.close();
+      return fromMemory(rows);
+    }
+
+    JRDataSource source = wrap(rows);
+    return null == fillConnection ? source : materialize(source);
+  }
+
+  private void startPrefetch() {
+    if (null != prefetch) {
+      prefetch.start(getJasperReportsContext(), name -> getParameterValue(name, true));
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+
+    if (null != buffer) {
+      buffer.close();
+      buffer = null;
+    }
+  }
+
+  /**
+   * Runs the query on the given connection and reads its rows into memory.
+   *
+   * @param prefetchConnection connection on which the query should be run
+   * @param maxRows            maximal number of rows to read, 0 means no limit
+   * @return rows of the query, or null if the query returned more rows than the limit
+   * @throws JRException  if the query could not be run
+   * @throws SQLException if the rows could not be read
+   */
+  CachedRowSet fetch(Connection prefetchConnection, int maxRows)
+      throws JRException, SQLException {
+    this.connection = prefetchConnection;
+    this.maxRows = maxRows;
+    super.createDatasource();
+
+    CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+    rows.populate(getResultSet());
+
+    return maxRows > 0 && rows.size() > maxRows ? null : rows;
+  }
+
+  @Override
+  protected void createStatement() throws JRException {
+    super.createStatement();
+
+    try {
+      if (maxRows > 0) {
+        statement.setMaxRows(maxRows + 1);
+      }
+
+      if (fetchSize > 0) {
+        statement.setFetchSize(fetchSize);
+      }
+    } catch (SQLException ex) {
+      throw new JRException(ex);
+    }
+  }
+
+  @Override
+  protected String getQueryString() {
+    String query = super.getQueryString();
+    String limited = getMaxCount() > 0 ? limitQuery(query, getMaxCount()) : null;
+    return null == limited ? query : limited;
+  }
+
+  /**
+   * Adds a limit to the statement of a query, so the database plans the query for the first
+   * rows only. The limit is only added to a single SELECT statement, including one with common
+   * table expressions.
+   *
+   * @param query statement of the query
+   * @param rows  maximal number of rows
+   * @return limited statement, or null if the limit can not be added
+   */
+  static String limitQuery(String query, int rows) {
+    String statement = query.trim();
+
+    if (statement.endsWith(";")) {
+      statement = statement.substring(0, statement.length() - 1).trim();
+    }
+
+    String lowerCase = statement.toLowerCase(Locale.ENGLISH);
+
+    if (!lowerCase.startsWith("select") && !lowerCase.startsWith("with")
+        || statement.indexOf(';') >= 0) {
+      return null;
+    }
+
+    // the line breaks end a comment on the last line of the statement
+    return "SELECT * FROM (\n" + statement + "\n) preview_rows LIMIT " + rows;
+  }
+
+  // the number of records of the main dataset may be limited, e.g. for a preview of the report
+  private int getMaxCount() {
+    Object maxCount = getParameterValue(JRParameter.REPORT_MAX_COUNT, true);
+    return dataset.isMainDataset() && maxCount instanceof Integer ? (Integer) maxCount : 0;
+  }
+
+  // writes the rows of the main query and stops the fill, when the rows are streamed
+  private void writeRows() throws JRException {
+    if (null == datasetWriter || !dataset.isMainDataset()) {
+      return;
+    }
+
+    super.createDatasource();
+
+    try {
+      long rows = datasetWriter.write(dataset.getFields(), wrap(resultSet));
+      throw new RowsWrittenException(rows);
+    } catch (IOException ex) {
+      throw new JRException(ex);
+    } finally {
+      super.close();
+    }
+  }
+
+  private JRDataSource materialize(JRDataSource source) throws JRException {
+    try {
+      buffer = RowBuffer.read(source, dataset.getFields(), memoryRows);
+    } finally {
+      super.close();
+    }
+
+    releaseConnection();
+    return buffer;
+  }
+
+  private JRDataSource fromMemory(ResultSet rows) throws JRException {
+    return fromMemory(wrap(rows));
+  }
+
+  private JRDataSource fromMemory(JRDataSource rows) throws JRException {
+    if (null != fillConnection) {
+      releaseConnection();
+    }
+
+    return rows;
+  }
+
+  private void releaseConnection() throws JRException {
+    // the prefetch queries must import the snapshot before its transaction is rolled back
+    if (null != prefetch && dataset.isMainDataset()) {
+      prefetch.awaitSnapshotImported();
+    }
+
+    try {
+      fillConnection.release();
+    } catch (SQLException ex) {
+      throw new JRException(ex);
+    }
+  }
+
+  private ResultSet cache(ResultSet rows) throws JRException {
+    if (null == datasetCache) {
+      return rows;
+    }
+
+    try {
+      return datasetCache.read(getKey(), cacheVersion, rows);
+    } catch (SQLException ex) {
+      throw new JRException(ex);
+    }
+  }
+
+  private JRDataSource wrap(ResultSet rows) {
+    JRResultSetDataSource source = new JRResultSetDataSource(getJasperReportsContext(), rows);
+    source.setReportTimeZone((TimeZone) getParameterValue(JRParameter.REPORT_TIME_ZONE, true));
+    return source;
+  }
+
+  /**
+   * Builds the key of the query, consisting of the SQL statement and the values of its
+   * parameters. Queries with the same key return the same rows within one snapshot.
+   *
+   * @return key of the query
+   */
+  List<Object> getKey() {
+    List<Object> values = new ArrayList<>();
+    getCollectedParameters().forEach(parameter -> values.add(
+        getParameterValue(parameter.getName(), true)));
+
+    return Arrays.asList(getQueryString(), values);
+  }
+
+  /**
+   * Stops the fill, after the rows of the main query have been written out.
+   */
+  static final class RowsWrittenException extends JRException {
+    private static final long serialVersionUID = 1L;
+
+    private final long rows;
+
+    RowsWrittenException(long rows) {
+      super("The rows of the main query have been written");
+      this.rows = rows;
+    }
+
+    long getRows() {
+      return rows;
+    }
+  }
+}
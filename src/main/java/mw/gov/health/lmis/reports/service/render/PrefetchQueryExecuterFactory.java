@@ -0,0 +1,112 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRValueParameter;
+import net.sf.jasperreports.engine.JasperReportsContext;
+import net.sf.jasperreports.engine.query.JRJdbcQueryExecuterFactory;
+import net.sf.jasperreports.engine.query.JRQueryExecuter;
+import net.sf.jasperreports.engine.query.JRQueryExecuterFactoryBundle;
+import net.sf.jasperreports.engine.query.QueryExecuterFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Creates the {@link PrefetchQueryExecuter query executers} of a single fill, for the SQL queries
+ * of the report and its subdatasets. It is registered as the only query executer bundle of the
+ * fill context, and holds the options of the fill. The prefetch, the fill connection and the
+ * dataset cache are null, if the fill does not prefetch the subdatasets, does not read the rows
+ * ahead or does not cache them. The dataset writer is only set, if the rows of the main query
+ * are written out instead of filling the report. The main rows are only set, if the main dataset
+ * is filled from rows read before the fill, instead of running its query.
+ */
+class PrefetchQueryExecuterFactory extends JRJdbcQueryExecuterFactory
+    implements JRQueryExecuterFactoryBundle {
+  private static final String[] LANGUAGES = {"sql", "SQL", "plsql", "PLSQL"};
+
+  private final SubdatasetPrefetch prefetch;
+  private final OnDemandConnection fillConnection;
+  private final int memoryRows;
+  private final DatasetCache datasetCache;
+  private final long cacheVersion;
+  private final DatasetWriter datasetWriter;
+  private final int fetchSize;
+  private final JRDataSource mainRows;
+
+  PrefetchQueryExecuterFactory(SubdatasetPrefetch prefetch, OnDemandConnection fillConnection,
+                               int memoryRows, DatasetCache datasetCache, JRDataSource mainRows) {
+    this.prefetch = prefetch;
+    this.fillConnection = fillConnection;
+    this.memoryRows = memoryRows;
+    this.datasetCache = datasetCache;
+    this.cacheVersion = null == datasetCache ? 0 : datasetCache.getVersion();
+    this.datasetWriter = null;
+    this.fetchSize = 0;
+    this.mainRows = mainRows;
+  }
+
+  PrefetchQueryExecuterFactory(DatasetWriter datasetWriter, int fetchSize) {
+    this.prefetch = null;
+    this.fillConnection = null;
+    this.memoryRows = 0;
+    this.datasetCache = null;
+    this.cacheVersion = 0;
+    this.datasetWriter = datasetWriter;
+    this.fetchSize = fetchSize;
+    this.mainRows = null;
+  }
+
+  static boolean supports(String language) {
+    return Arrays.asList(LANGUAGES).contains(language);
+  }
+
+  @Override
+  public String[] getLanguages() {
+    return LANGUAGES.clone();
+  }
+
+  @Override
+  public QueryExecuterFactory getQueryExecuterFactory(String language) {
+    return supports(language) ? this : null;
+  }
+
+  @Override
+  public JRQueryExecuter createQueryExecuter(JasperReportsContext jasperReportsContext,
+                                             JRDataset dataset,
+                                             Map<String, ? extends JRValueParameter> parameters) {
+    return new PrefetchQueryExecuter(jasperReportsContext, dataset, parameters, this);
+  }
+
+  SubdatasetPrefetch getPrefetch() {
+    return prefetch;
+  }
+
+  OnDemandConnection getFillConnection() {
+    return fillConnection;
+  }
+
+  int getMemoryRows() {
+    return memoryRows;
+  }
+
+  DatasetCache getDatasetCache() {
+    return datasetCache;
+  }
+
+  long getCacheVersion() {
+    return cacheVersion;
+  }
+
+  DatasetWriter getDatasetWriter() {
+    return datasetWriter;
+  }
+
+  int getFetchSize() {
+    return fetchSize;
+  }
+
+  JRDataSource getMainRows() {
+    return mainRows;
+  }
+}
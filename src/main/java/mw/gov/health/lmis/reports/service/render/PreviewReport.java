@@ -0,0 +1,24 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRExpressionCollector;
+import net.sf.jasperreports.engine.JasperReport;
+
+/**
+ * Copy of a compiled report for a preview of its first rows. The summary band is removed, as it
+ * would summarize only the previewed rows, and its subreports and charts are the slowest part of
+ * the fill of many templates. The copy shares the compiled expressions of the report.
+ */
+public final class PreviewReport extends JasperReport {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates the preview copy of the report.
+   *
+   * @param report compiled report
+   */
+  public PreviewReport(JasperReport report) {
+    super(report, report.getCompilerClass(), report.getCompileData(),
+        (JRExpressionCollector) null, report.getCompileNameSuffix());
+    summary = null;
+  }
+}
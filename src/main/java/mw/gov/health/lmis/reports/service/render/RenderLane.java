@@ -0,0 +1,64 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.web.ReportTypes.ORDER_REPORT;
+
+import net.sf.jasperreports.engine.JasperReport;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+
+/**
+ * Lanes in which reports are rendered. Each lane has its own thread pool and its own quota of
+ * database connections, so the reports from one lane can not delay the reports from the other.
+ */
+public enum RenderLane {
+
+  /**
+   * Single document prints, like requisitions, orders or proofs of delivery, that should be
+   * rendered in about a second.
+   */
+  INTERACTIVE,
+
+  /**
+   * Reports that aggregate data from many facilities or periods, which may take minutes to render.
+   */
+  AGGREGATE,
+
+  /**
+   * Reports rendered ahead of the requests, when the service is idle, on threads with the lowest
+   * priority.
+   */
+  PRERENDER;
+
+  /**
+   * Name of the template property, that can be used to assign the template to a lane.
+   */
+  public static final String PROPERTY = "renderLane";
+
+  /**
+   * Finds the lane in which the report should be rendered. The lane set in the template property
+   * takes precedence, except for the prerender lane, which is only used for the reports rendered
+   * ahead of the requests, otherwise order reports are rendered in the interactive lane and all
+   * other reports in the aggregate lane.
+   *
+   * @param template template of the report
+   * @param report   compiled report, may be null
+   * @return lane of the report
+   */
+  public static RenderLane of(JasperTemplate template, JasperReport report) {
+    String property = null == report ? null : report.getProperty(PROPERTY);
+
+    if (null != property) {
+      String name = property.trim().toUpperCase(Locale.ENGLISH);
+
+      return Arrays.stream(values())
+          .filter(lane -> PRERENDER != lane && lane.name().equals(name))
+          .findFirst()
+          .orElseGet(() -> of(template, null));
+    }
+
+    return ORDER_REPORT.equals(template.getType()) ? INTERACTIVE : AGGREGATE;
+  }
+}
@@ -0,0 +1,277 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_RENDER_LANE_FULL;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.service.metrics.RenderMetrics;
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Executes report renders in the {@link RenderLane lanes}. Each lane has its own thread pool
+ * with a bounded queue and its own quota of database connections taken from the shared pool, so
+ * a flood of aggregate reports can not delay the single document prints.
+ */
+@Component
+public class RenderLaneExecutor {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RenderLaneExecutor.class);
+
+  private static final ThreadLocal<Lane> CURRENT_LANE = new ThreadLocal<>();
+
+  @Value("${reports.render.interactive.poolSize}")
+  private int interactivePoolSize;
+
+  @Value("${reports.render.interactive.queueCapacity}")
+  private int interactiveQueueCapacity;
+
+  @Value("${reports.render.interactive.connections}")
+  private int interactiveConnections;
+
+  @Value("${reports.render.aggregate.poolSize}")
+  private int aggregatePoolSize;
+
+  @Value("${reports.render.aggregate.queueCapacity}")
+  private int aggregateQueueCapacity;
+
+  @Value("${reports.render.aggregate.connections}")
+  private int aggregateConnections;
+
+  @Value("${reports.render.prerender.poolSize}")
+  private int prerenderPoolSize;
+
+  @Value("${reports.render.prerender.queueCapacity}")
+  private int prerenderQueueCapacity;
+
+  @Value("${reports.render.prerender.connections}")
+  private int prerenderConnections;
+
+  @Value("${reports.render.connectionTimeout}")
+  private long connectionTimeout;
+
+  private final Map<RenderLane, Lane> lanes = new EnumMap<>(RenderLane.class);
+
+  /**
+   * Creates thread pools of the lanes.
+   */
+  @PostConstruct
+  public void start() {
+    lanes.put(RenderLane.INTERACTIVE, new Lane(RenderLane.INTERACTIVE,
+        interactivePoolSize, interactiveQueueCapacity, interactiveConnections));
+    lanes.put(RenderLane.AGGREGATE, new Lane(RenderLane.AGGREGATE,
+        aggregatePoolSize, aggregateQueueCapacity, aggregateConnections));
+    lanes.put(RenderLane.PRERENDER, new Lane(RenderLane.PRERENDER,
+        prerenderPoolSize, prerenderQueueCapacity, prerenderConnections));
+  }
+
+  /**
+   * Stops thread pools of the lanes, interrupting renders in progress.
+   */
+  @PreDestroy
+  public void stop() {
+    lanes.values().forEach(lane -> lane.executor.shutdownNow());
+  }
+
+  /**
+   * Submits the render to the given lane. Cancelling the returned future interrupts the render,
+   * if it is already in progress. If the queue of the lane is full, the render is rejected with
+   * {@link ServiceUnavailableMessageException}.
+   *
+   * @param renderLane lane in which the report should be rendered
+   * @param task       render to execute
+   * @return future result of the render
+   */
+  public <T> CompletableFuture<T> submit(RenderLane renderLane, ReportRenderTask<T> task) {
+    Lane lane = lanes.get(renderLane);
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Future<?> render;
+
+    try {
+      render = lane.executor.submit(() -> lane.render(task, result));
+    } catch (RejectedExecutionException ex) {
+      LOGGER.warn("Queue of the {} render lane is full", lane.name);
+      throw new ServiceUnavailableMessageException(
+          new Message(ERROR_REPORTING_RENDER_LANE_FULL, lane.name), ex);
+    }
+
+    result.whenComplete((report, error) -> {
+      if (result.isCancelled()) {
+        render.cancel(true);
+      }
+    });
+
+    return result;
+  }
+
+  /**
+   * Gets a connection from the data source. When called from a render lane, the connection is
+   * counted against the connection quota of the lane until it is closed.
+   *
+   * @param dataSource data source to get the connection from
+   * @return database connection
+   * @throws SQLException if the connection could not be obtained within the configured timeout
+   */
+  public Connection getConnection(DataSource dataSource) throws SQLException {
+    return getConnectionSupplier(dataSource).getConnection();
+  }
+
+  /**
+   * Creates a supplier of the connections from the data source, that are counted against the
+   * connection quota of the lane of the calling thread, see {@link #getConnection(DataSource)}.
+   * The lane is captured when the supplier is created, so the connections taken by other threads
+   * on behalf of the render, e.g. by the subdataset prefetch, are counted against it as well.
+   *
+   * @param dataSource data source to get the connections from
+   * @return supplier of the connections
+   */
+  public JdbcReportFiller.ConnectionSupplier getConnectionSupplier(DataSource dataSource) {
+    Lane lane = CURRENT_LANE.get();
+    return () -> null == lane ? dataSource.getConnection() : lane.getConnection(dataSource);
+  }
+
+  /**
+   * Creates a supplier of the connections from the data source like
+   * {@link #getConnectionSupplier(DataSource)}, but a connection is only taken if the quota of the
+   * lane has a free connection right away. Otherwise the supplier fails at once with
+   * {@link SQLTransientConnectionException}, so optional work, e.g. the subdataset prefetch, is
+   * skipped instead of waiting for the connections of the renders.
+   *
+   * @param dataSource data source to get the connections from
+   * @return supplier of the connections, that does not wait for the quota of the lane
+   */
+  public JdbcReportFiller.ConnectionSupplier getSpareConnectionSupplier(DataSource dataSource) {
+    Lane lane = CURRENT_LANE.get();
+    return () -> null == lane ? dataSource.getConnection() : lane.getSpareConnection(dataSource);
+  }
+
+  private final class Lane {
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore connections;
+
+    Lane(RenderLane lane, int poolSize, int queueCapacity, int connectionQuota) {
+      this.name = lane.name().toLowerCase(Locale.ENGLISH);
+
+      CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+          "render-" + name + "-");
+      if (RenderLane.PRERENDER == lane) {
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+      }
+
+      this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+      this.connections = new Semaphore(connectionQuota, true);
+    }
+
+    <T> void render(ReportRenderTask<T> task, CompletableFuture<T> result) {
+      if (result.isDone()) {
+        return;
+      }
+
+      CURRENT_LANE.set(this);
+
+      try {
+        result.complete(task.render());
+      } catch (JasperReportViewException | RuntimeException ex) {
+        result.completeExceptionally(ex);
+      } finally {
+        CURRENT_LANE.remove();
+      }
+    }
+
+    Connection getConnection(DataSource dataSource) throws SQLException {
+      long startTime = System.nanoTime();
+      acquireConnectionPermit();
+      return getPermittedConnection(dataSource, startTime);
+    }
+
+    Connection getSpareConnection(DataSource dataSource) throws SQLException {
+      if (!connections.tryAcquire()) {
+        throw new SQLTransientConnectionException(
+            "Connection quota of the " + name + " render lane has no free connection");
+      }
+
+      return getPermittedConnection(dataSource, System.nanoTime());
+    }
+
+    private Connection getPermittedConnection(DataSource dataSource, long startTime)
+        throws SQLException {
+      try {
+        Connection connection = dataSource.getConnection();
+        RenderMetrics.recordConnectionWait(name, startTime);
+        return releasePermitOnClose(connection);
+      } catch (SQLException | RuntimeException ex) {
+        connections.release();
+        throw ex;
+      }
+    }
+
+    private void acquireConnectionPermit() throws SQLException {
+      boolean acquired;
+
+      try {
+        acquired = connections.tryAcquire(connectionTimeout, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted while waiting for a connection", ex);
+      }
+
+      if (!acquired) {
+        throw new SQLException(
+            "Connection quota of the " + name + " render lane has been exhausted");
+      }
+    }
+
+    private Connection releasePermitOnClose(Connection connection) {
+      AtomicBoolean closed = new AtomicBoolean();
+
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (!"close".equals(method.getName()) || !closed.compareAndSet(false, true)) {
+              return invoke(connection, method, args);
+            }
+
+            try {
+              return invoke(connection, method, args);
+            } finally {
+              connections.release();
+            }
+          });
+    }
+
+    private Object invoke(Connection connection, Method method, Object[] args)
+        throws Throwable {
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+  }
+}
@@ -0,0 +1,263 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_COST_TOO_HIGH;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRQuery;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperReport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+import mw.gov.health.lmis.reports.service.metrics.RenderMetrics;
+import mw.gov.health.lmis.utils.Message;
+
+/**
+ * Estimates the cost of the main query of a report before the report is filled. The query is
+ * bound by Jasper with the same parameters, including the default values, as in the real fill,
+ * but only planned by the database, using EXPLAIN without ANALYZE. Reports that are estimated to
+ * be expensive are moved to the {@link RenderLane#AGGREGATE aggregate lane}, and reports over the
+ * maximal cost, usually caused by leaving the optional parameters blank, are rejected.
+ */
+@Component
+public class ReportCostPreflight {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportCostPreflight.class);
+
+  /**
+   * Name of the template property with the estimated cost, above which the report is rendered
+   * in the aggregate lane.
+   */
+  public static final String AGGREGATE_COST_PROPERTY = "aggregateCost";
+
+  /**
+   * Name of the template property with the estimated cost, above which the report is rejected.
+   */
+  public static final String MAX_COST_PROPERTY = "maxCost";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Autowired
+  private DataSource replicationDataSource;
+
+  @Autowired
+  private RenderLaneExecutor renderLaneExecutor;
+
+  @Value("${reports.preflight.enabled}")
+  private boolean enabled;
+
+  @Value("${reports.preflight.aggregateCost}")
+  private double aggregateCost;
+
+  @Value("${reports.preflight.maxCost}")
+  private double maxCost;
+
+  /**
+   * Estimates the cost and the rows of the main query of the report with the given parameters,
+   * from the plan of the query. The connection is taken through the {@link RenderLaneExecutor},
+   * so the estimate should be made in the lane of the render, where it counts against the
+   * connection quota of the lane. Reports filled from a data source passed in the parameters are
+   * not estimated.
+   *
+   * @param templateName name of the report template
+   * @param report       compiled report
+   * @param params       report parameters
+   * @return estimate of the query, with null values if it could not be estimated
+   */
+  public CostEstimate estimate(String templateName, JasperReport report,
+                               Map<String, Object> params) {
+    if (!isEstimated(report, params)) {
+      return CostEstimate.UNKNOWN;
+    }
+
+    ExplainingConnection explaining = explain(templateName, report, params);
+    return new CostEstimate(explaining.cost, explaining.rows);
+  }
+
+  /**
+   * Checks the estimated cost of the report with the given parameters, see
+   * {@link #check(String, JasperReport, CostEstimate, RenderLane)}.
+   *
+   * @param templateName name of the report template
+   * @param report       compiled report
+   * @param params       report parameters
+   * @param lane         lane in which the report would be rendered
+   * @return lane in which the report should be rendered
+   * @throws ValidationMessageException if the estimated cost is above the maximal cost
+   */
+  public RenderLane check(String templateName, JasperReport report, Map<String, Object> params,
+                          RenderLane lane) {
+    return check(templateName, report, estimate(templateName, report, params), lane);
+  }
+
+  /**
+   * Checks the estimated cost of the report. Thresholds set in the template properties take
+   * precedence over the configured ones, a threshold that is not positive is not checked.
+   * Reports without an estimated cost are not checked.
+   *
+   * @param templateName name of the report template
+   * @param report       compiled report
+   * @param estimate     estimate of the main query of the report
+   * @param lane         lane in which the report would be rendered
+   * @return lane in which the report should be rendered
+   * @throws ValidationMessageException if the estimated cost is above the maximal cost
+   */
+  public RenderLane check(String templateName, JasperReport report, CostEstimate estimate,
+                          RenderLane lane) {
+    Double cost = estimate.getCost();
+
+    if (null == cost) {
+      return lane;
+    }
+
+    if (cost > getThreshold(report, MAX_COST_PROPERTY, maxCost)) {
+      LOGGER.warn("Rejected {} report with estimated cost {}", templateName, cost);
+      RenderMetrics.recordCostEstimate(templateName, cost, "rejected");
+      throw new ValidationMessageException(new Message(ERROR_REPORTING_COST_TOO_HIGH));
+    }
+
+    if (RenderLane.INTERACTIVE == lane
+        && cost > getThreshold(report, AGGREGATE_COST_PROPERTY, aggregateCost)) {
+      LOGGER.info("Moved {} report with estimated cost {} to the aggregate lane",
+          templateName, cost);
+      RenderMetrics.recordCostEstimate(templateName, cost, "moved");
+      return RenderLane.AGGREGATE;
+    }
+
+    RenderMetrics.recordCostEstimate(templateName, cost, "accepted");
+    return lane;
+  }
+
+  /**
+   * Extracts the total cost from the plan of a query in the JSON format.
+   *
+   * @param plan result of EXPLAIN (FORMAT JSON)
+   * @return estimated total cost of the query
+   * @throws IOException if the plan is not a valid JSON
+   */
+  static double getTotalCost(String plan) throws IOException {
+    return MAPPER.readTree(plan).path(0).path("Plan").path("Total Cost").asDouble();
+  }
+
+  /**
+   * Extracts the estimated number of rows from the plan of a query in the JSON format.
+   *
+   * @param plan result of EXPLAIN (FORMAT JSON)
+   * @return estimated number of rows returned by the query
+   * @throws IOException if the plan is not a valid JSON
+   */
+  static double getPlanRows(String plan) throws IOException {
+    return MAPPER.readTree(plan).path(0).path("Plan").path("Plan Rows").asDouble();
+  }
+
+  private boolean isEstimated(JasperReport report, Map<String, Object> params) {
+    return enabled && hasSqlQuery(report) && params.values().stream()
+        .noneMatch(JRDataSource.class::isInstance);
+  }
+
+  private ExplainingConnection explain(String templateName, JasperReport report,
+                                       Map<String, Object> params) {
+    ExplainingConnection explaining = new ExplainingConnection();
+
+    // the fill stops as soon as the main query has been planned
+    try (Connection connection = renderLaneExecutor.getConnection(replicationDataSource)) {
+      JasperFillManager.fillReport(report, new HashMap<>(params), explaining.wrap(connection));
+    } catch (JRException | SQLException | RuntimeException ex) {
+      if (null == explaining.cost) {
+        LOGGER.warn("Could not estimate the cost of the {} report", templateName, ex);
+      }
+    }
+
+    return explaining;
+  }
+
+  private boolean hasSqlQuery(JasperReport report) {
+    JRQuery query = report.getQuery();
+
+    if (null == query || null == query.getText() || query.getText().trim().isEmpty()) {
+      return false;
+    }
+
+    String language = query.getLanguage().toLowerCase(Locale.ENGLISH);
+    return "sql".equals(language) || "plsql".equals(language);
+  }
+
+  private double getThreshold(JasperReport report, String property, double defaultThreshold) {
+    String value = report.getProperty(property);
+    double threshold = null == value ? defaultThreshold : Double.parseDouble(value.trim());
+
+    return threshold > 0 ? threshold : Double.POSITIVE_INFINITY;
+  }
+
+  private static final class PlannedException extends SQLException {
+    private static final long serialVersionUID = 1L;
+
+    PlannedException() {
+      super("The query has been planned, the report is not filled");
+    }
+  }
+
+  private static final class ExplainingConnection {
+    private Double cost;
+    private Double rows;
+
+    Connection wrap(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (!"prepareStatement".equals(method.getName())) {
+              return invoke(connection, method, args);
+            }
+
+            args[0] = "EXPLAIN (FORMAT JSON) " + args[0];
+            return explain((PreparedStatement) invoke(connection, method, args));
+          });
+    }
+
+    private PreparedStatement explain(PreparedStatement statement) {
+      return (PreparedStatement) Proxy.newProxyInstance(
+          PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+          (proxy, method, args) -> {
+            if (!"executeQuery".equals(method.getName()) || null != args) {
+              return invoke(statement, method, args);
+            }
+
+            try (ResultSet plan = statement.executeQuery()) {
+              plan.next();
+              String json = plan.getString(1);
+              cost = getTotalCost(json);
+              rows = getPlanRows(json);
+            }
+
+            throw new PlannedException();
+          });
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+  }
+}
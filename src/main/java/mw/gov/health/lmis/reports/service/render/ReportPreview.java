@@ -0,0 +1,144 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRVirtualizer;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.export.HtmlResourceHandler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.utils.Checksums;
+
+/**
+ * Report filled once for a preview, whose pages are exported on request. The pages of the filled
+ * report stay swapped to disk by its virtualizer, and only the requested pages are read back.
+ * The images of the exported pages are kept under the hash of their content, so an image repeated
+ * on every page, like a logo, is kept and served once.
+ */
+public class ReportPreview {
+  private final UUID id = UUID.randomUUID();
+  private final UUID templateId;
+  private final String templateName;
+  private final UUID ownerId;
+  private final JasperPrint print;
+  private final JRVirtualizer virtualizer;
+  private final Map<String, byte[]> images = new ConcurrentHashMap<>();
+
+  private volatile long lastAccessTime = System.currentTimeMillis();
+  private boolean discarded;
+
+  /**
+   * Creates the preview of a filled report.
+   *
+   * @param templateId   ID of the template of the report
+   * @param templateName name of the template of the report
+   * @param ownerId      ID of the user who requested the preview
+   * @param print        filled report
+   * @param virtualizer  virtualizer the report was filled with, discarded with the preview
+   */
+  public ReportPreview(UUID templateId, String templateName, UUID ownerId, JasperPrint print,
+                       JRVirtualizer virtualizer) {
+    this.templateId = templateId;
+    this.templateName = templateName;
+    this.ownerId = ownerId;
+    this.print = print;
+    this.virtualizer = virtualizer;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public UUID getTemplateId() {
+    return templateId;
+  }
+
+  public String getTemplateName() {
+    return templateName;
+  }
+
+  public UUID getOwnerId() {
+    return ownerId;
+  }
+
+  public int getPageCount() {
+    return print.getPages().size();
+  }
+
+  long getLastAccessTime() {
+    return lastAccessTime;
+  }
+
+  void touch() {
+    lastAccessTime = System.currentTimeMillis();
+  }
+
+  /**
+   * Exports a range of pages as an HTML fragment, with the images referenced under the given URL.
+   *
+   * @param exporter  exporter of the report
+   * @param firstPage index of the first exported page, starting from 0
+   * @param lastPage  index of the last exported page, starting from 0
+   * @param imagesUrl URL under which the images of the preview are served, ending with a slash
+   * @return exported pages, or null if the preview has been discarded
+   * @throws JasperReportViewException if the pages could not be exported
+   */
+  public synchronized byte[] exportPages(JasperReportExporter exporter, int firstPage,
+                                         int lastPage, String imagesUrl)
+      throws JasperReportViewException {
+    if (discarded) {
+      return null;
+    }
+
+    touch();
+    return exporter.exportHtmlPages(print, firstPage, lastPage, new ImageHandler(imagesUrl));
+  }
+
+  /**
+   * Gets an image of the exported pages.
+   *
+   * @param name name of the image, as referenced by the exported pages
+   * @return content of the image, or null if there is no such image
+   */
+  public byte[] getImage(String name) {
+    return images.get(name);
+  }
+
+  /**
+   * Removes the pages of the report from the disk. The pages can not be exported afterwards.
+   */
+  public synchronized void discard() {
+    if (!discarded) {
+      discarded = true;
+      images.clear();
+      virtualizer.cleanup();
+    }
+  }
+
+  // the exporter passes the content of each image before it asks for its path
+  private final class ImageHandler implements HtmlResourceHandler {
+    private final Map<String, String> names = new HashMap<>();
+    private final String imagesUrl;
+
+    ImageHandler(String imagesUrl) {
+      this.imagesUrl = imagesUrl;
+    }
+
+    @Override
+    public void handleResource(String id, byte[] data) {
+      int extension = id.lastIndexOf('.');
+      String name = Checksums.sha256(data) + (extension < 0 ? "" : id.substring(extension));
+
+      images.putIfAbsent(name, data);
+      names.put(id, name);
+    }
+
+    @Override
+    public String getResourcePath(String id) {
+      return imagesUrl + names.getOrDefault(id, id);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.PreDestroy;
+
+/**
+ * Previews of filled reports, whose pages are exported on request, see {@link ReportPreview}.
+ * A preview is discarded when it has not been accessed for the maximal idle time, or when the
+ * number of previews exceeds the limit, starting with the least recently used one.
+ */
+@Component
+public class ReportPreviewCache {
+
+  @Value("${reports.preview.maxPreviews}")
+  private int maxPreviews;
+
+  @Value("${reports.preview.maxIdle}")
+  private long maxIdle;
+
+  private final Map<UUID, ReportPreview> previews = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Adds a preview, discarding the least recently used previews above the limit.
+   *
+   * @param preview preview of a filled report
+   * @return the added preview
+   */
+  public ReportPreview add(ReportPreview preview) {
+    List<ReportPreview> evicted = new ArrayList<>();
+
+    synchronized (previews) {
+      previews.put(preview.getId(), preview);
+      Iterator<ReportPreview> iterator = previews.values().iterator();
+
+      while (previews.size() > Math.max(maxPreviews, 1)) {
+        evicted.add(iterator.next());
+        iterator.remove();
+      }
+    }
+
+    evicted.forEach(ReportPreview::discard);
+    return preview;
+  }
+
+  /**
+   * Gets a preview that has not expired.
+   *
+   * @param id ID of the preview
+   * @return the preview, or null if there is no such preview
+   */
+  public ReportPreview get(UUID id) {
+    ReportPreview preview;
+
+    synchronized (previews) {
+      preview = previews.get(id);
+
+      if (null == preview) {
+        return null;
+      }
+
+      if (!isExpired(preview)) {
+        preview.touch();
+        return preview;
+      }
+
+      previews.remove(id);
+    }
+
+    preview.discard();
+    return null;
+  }
+
+  /**
+   * Discards the previews that have not been accessed for the maximal idle time.
+   */
+  @Scheduled(fixedDelayString = "${reports.preview.maxIdle}")
+  public void purge() {
+    List<ReportPreview> expired = new ArrayList<>();
+
+    synchronized (previews) {
+      Iterator<ReportPreview> iterator = previews.values().iterator();
+
+      while (iterator.hasNext()) {
+        ReportPreview preview = iterator.next();
+
+        if (isExpired(preview)) {
+          expired.add(preview);
+          iterator.remove();
+        }
+      }
+    }
+
+    expired.forEach(ReportPreview::discard);
+  }
+
+  /**
+   * Discards all previews, so no swap files are left behind.
+   */
+  @PreDestroy
+  public void clear() {
+    List<ReportPreview> discarded;
+
+    synchronized (previews) {
+      discarded = new ArrayList<>(previews.values());
+      previews.clear();
+    }
+
+    discarded.forEach(ReportPreview::discard);
+  }
+
+  private boolean isExpired(ReportPreview preview) {
+    return System.currentTimeMillis() - preview.getLastAccessTime() > maxIdle;
+  }
+}
@@ -0,0 +1,14 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.util.concurrent.CompletableFuture;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+
+/**
+ * Prepares a report and submits it to be rendered.
+ */
+@FunctionalInterface
+public interface ReportRenderSubmission {
+
+  CompletableFuture<byte[]> submit() throws JasperReportViewException;
+}
@@ -0,0 +1,15 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+
+/**
+ * Fills and exports a single report.
+ *
+ * @param <T> type of the result of the render, the data of the exported report or the filled
+ *            report itself
+ */
+@FunctionalInterface
+public interface ReportRenderTask<T> {
+
+  T render() throws JasperReportViewException;
+}
@@ -0,0 +1,249 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.PostConstruct;
+
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
+import mw.gov.health.lmis.reports.service.metrics.CacheMetrics;
+
+/**
+ * Store of the reports rendered ahead of the requests, see
+ * {@code mw.gov.health.lmis.reports.service.prerender.ReportPrerenderer}. Reports are kept under
+ * the template, the format, the locale, the request parameters and the day of the render, so a
+ * request for the same report on the same day is answered without rendering it. The least
+ * recently used reports are evicted when the store exceeds its memory budget.
+ *
+ * <p>The reports are removed when a freshness watermark of a source domain they depend on
+ * changes, see {@link DataFreshnessService}. The domains of a report are given when it is
+ * stored. Reports rendered from the data read before a change of one of their domains are not
+ * stored after it, and no report is kept longer than the maximal age.
+ */
+@Component
+public class ReportResultStore {
+
+  /**
+   * Name of the report parameter with the name of the user requesting the report. The parameter
+   * is not a part of the key, so only the reports that do not print it can be stored.
+   */
+  public static final String USER_PARAMETER = "user";
+
+  @Autowired
+  private DataFreshnessService dataFreshnessService;
+
+  @Value("${reports.resultStore.maxBytes}")
+  private long maxBytes;
+
+  @Value("${reports.resultStore.maxAge}")
+  private long maxAge;
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final Map<SourceDomain, Long> versions = new EnumMap<>(SourceDomain.class);
+
+  private long bytes;
+
+  /**
+   * Removes the reports depending on the data whenever it changes.
+   */
+  @PostConstruct
+  public void subscribe() {
+    dataFreshnessService.addListener(this::invalidate);
+  }
+
+  /**
+   * Builds the key of a stored report, from the same values as the key of a render, see
+   * {@link InFlightReportRegistry#createKey(UUID, String, Locale, Map)}, without the name of the
+   * user, and the day of the render, as the queries can depend on the date.
+   *
+   * @param templateId report template ID
+   * @param format     report format
+   * @param locale     locale used to translate the report
+   * @param parameters request parameters of the report
+   * @param date       day of the render
+   * @return key of the report
+   */
+  public static String createKey(UUID templateId, String format, Locale locale,
+                                 Map<String, ?> parameters, LocalDate date) {
+    Map<String, Object> requestParameters = new HashMap<>(parameters);
+    requestParameters.remove(USER_PARAMETER);
+
+    return InFlightReportRegistry.createKey(templateId, format, locale, requestParameters)
+        + '/' + date;
+  }
+
+  /**
+   * Gets the version of the data, that should be passed when a report rendered after this call is
+   * stored. The version of a source domain changes with its freshness watermark.
+   *
+   * @return versions of the source domains
+   */
+  public Map<SourceDomain, Long> getVersion() {
+    synchronized (entries) {
+      return Collections.unmodifiableMap(new EnumMap<>(versions));
+    }
+  }
+
+  /**
+   * Gets the stored report.
+   *
+   * @param key key of the report, see {@link #createKey}
+   * @return data of the report, or null if the report is not stored
+   */
+  public byte[] get(String key) {
+    Entry entry;
+
+    synchronized (entries) {
+      entry = entries.get(key);
+
+      if (null != entry && isExpired(entry)) {
+        remove(key);
+        entry = null;
+      }
+    }
+
+    CacheMetrics.recordResultStore(null == entry ? "miss" : "hit");
+    return null == entry ? null : entry.data;
+  }
+
+  /**
+   * Checks if the report is stored.
+   *
+   * @param key key of the report, see {@link #createKey}
+   * @return true if the report is stored
+   */
+  public boolean contains(String key) {
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      return null != entry && !isExpired(entry);
+    }
+  }
+
+  /**
+   * Stores the report, if the versions of the source domains it reads are still current. Changes
+   * of the other domains do not prevent the report from being stored.
+   *
+   * @param key         key of the report, see {@link #createKey}
+   * @param dataVersion version of the data before the report was rendered, see
+   *                    {@link #getVersion}
+   * @param domains     source domains read by the report, see {@link SourceDomain#readBy}
+   * @param data        data of the report
+   * @return true if the report has been stored
+   */
+  public boolean put(String key, Map<SourceDomain, Long> dataVersion, Set<SourceDomain> domains,
+                     byte[] data) {
+    synchronized (entries) {
+      if (!isCurrent(dataVersion, domains) || data.length > maxBytes) {
+        return false;
+      }
+
+      remove(key);
+      entries.put(key, new Entry(data, domains, System.currentTimeMillis()));
+      bytes += data.length;
+
+      Iterator<Entry> eldest = entries.values().iterator();
+
+      while (bytes > maxBytes && eldest.hasNext()) {
+        bytes -= eldest.next().data.length;
+        eldest.remove();
+      }
+
+      CacheMetrics.setResultStoreSize(bytes);
+      return true;
+    }
+  }
+
+  /**
+   * Removes the stored reports of the template, e.g. when the template is changed.
+   *
+   * @param templateId report template ID
+   */
+  public void evict(UUID templateId) {
+    String prefix = templateId + "/";
+
+    synchronized (entries) {
+      Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+
+      while (iterator.hasNext()) {
+        Map.Entry<String, Entry> entry = iterator.next();
+
+        if (entry.getKey().startsWith(prefix)) {
+          bytes -= entry.getValue().data.length;
+          iterator.remove();
+        }
+      }
+
+      CacheMetrics.setResultStoreSize(bytes);
+    }
+  }
+
+  private void remove(String key) {
+    Entry removed = entries.remove(key);
+
+    if (null != removed) {
+      bytes -= removed.data.length;
+      CacheMetrics.setResultStoreSize(bytes);
+    }
+  }
+
+  // a report without domains depends on all of them
+  private boolean isCurrent(Map<SourceDomain, Long> dataVersion, Set<SourceDomain> domains) {
+    for (SourceDomain domain : domains.isEmpty() ? EnumSet.allOf(SourceDomain.class) : domains) {
+      if (!Objects.equals(versions.get(domain), dataVersion.get(domain))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean isExpired(Entry entry) {
+    return maxAge > 0 && System.currentTimeMillis() - entry.createdTime > maxAge;
+  }
+
+  // an entry without domains depends on all of them
+  private void invalidate(Set<SourceDomain> domains) {
+    synchronized (entries) {
+      domains.forEach(domain -> versions.merge(domain, 1L, Long::sum));
+      Iterator<Entry> iterator = entries.values().iterator();
+
+      while (iterator.hasNext()) {
+        Entry entry = iterator.next();
+
+        if (entry.domains.isEmpty() || !Collections.disjoint(entry.domains, domains)) {
+          bytes -= entry.data.length;
+          iterator.remove();
+        }
+      }
+
+      CacheMetrics.setResultStoreSize(bytes);
+    }
+  }
+
+  private static final class Entry {
+    private final byte[] data;
+    private final Set<SourceDomain> domains;
+    private final long createdTime;
+
+    Entry(byte[] data, Set<SourceDomain> domains, long createdTime) {
+      this.data = data;
+      this.domains = domains;
+      this.createdTime = createdTime;
+    }
+  }
+}
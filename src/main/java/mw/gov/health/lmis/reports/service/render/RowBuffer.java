@@ -0,0 +1,185 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mw.gov.health.lmis.reports.service.metrics.RenderMetrics;
+
+/**
+ * Rows of a data source read ahead, so the data source and its connection can be closed before
+ * the fill uses the rows. Only the values of the dataset fields are kept, already converted to
+ * the field classes. Rows over the memory limit are written to a temporary file, which is
+ * deleted when the rows have been read or the buffer is closed. The rows can be read once.
+ */
+class RowBuffer implements JRDataSource {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RowBuffer.class);
+
+  // the stream forgets the written objects after this number of rows, to limit its memory
+  private static final int RESET_INTERVAL = 1000;
+
+  private final Map<String, Integer> indexes = new HashMap<>();
+  private final List<Object[]> rows = new ArrayList<>();
+
+  private Path spillFile;
+  private int spilledRows;
+
+  private int memoryPosition;
+  private int spillPosition;
+  private ObjectInputStream spillInput;
+  private Object[] current;
+
+  private RowBuffer(JRField... fields) {
+    for (int i = 0; i < fields.length; ++i) {
+      indexes.put(fields[i].getName(), i);
+    }
+  }
+
+  /**
+   * Reads all rows of the data source. Rows are written to a temporary file after the given
+   * number of rows has been kept in memory, unless a field class is not serializable.
+   *
+   * @param source     data source to read
+   * @param fields     fields of the dataset, may be null
+   * @param memoryRows number of rows kept in memory
+   * @return buffer with the rows of the data source
+   * @throws JRException if the rows could not be read or written to the temporary file
+   */
+  static RowBuffer read(JRDataSource source, JRField[] fields, int memoryRows)
+      throws JRException {
+    JRField[] datasetFields = null == fields ? new JRField[0] : fields;
+    RowBuffer buffer = new RowBuffer(datasetFields);
+    boolean spillable = Arrays.stream(datasetFields)
+        .allMatch(field -> Serializable.class.isAssignableFrom(field.getValueClass()));
+
+    try {
+      buffer.readRows(source, datasetFields, spillable ? memoryRows : Integer.MAX_VALUE);
+    } catch (IOException ex) {
+      buffer.close();
+      throw new JRException(ex);
+    } catch (JRException | RuntimeException ex) {
+      buffer.close();
+      throw ex;
+    }
+
+    RenderMetrics.recordMaterializedRows(buffer.rows.size(), buffer.spilledRows);
+    return buffer;
+  }
+
+  @Override
+  public boolean next() throws JRException {
+    if (memoryPosition < rows.size()) {
+      // the rows are read once, so they are released as the fill moves on
+      current = rows.set(memoryPosition++, null);
+      return true;
+    }
+
+    if (spillPosition < spilledRows) {
+      current = readSpilledRow();
+      ++spillPosition;
+      return true;
+    }
+
+    close();
+    return false;
+  }
+
+  @Override
+  public Object getFieldValue(JRField field) throws JRException {
+    Integer index = indexes.get(field.getName());
+
+    if (null == index) {
+      throw new JRException("Unknown field: " + field.getName());
+    }
+
+    return null == current ? null : current[index];
+  }
+
+  /**
+   * Releases the rows and deletes the temporary file.
+   */
+  void close() {
+    current = null;
+    rows.clear();
+
+    try {
+      if (null != spillInput) {
+        spillInput.close();
+        spillInput = null;
+      }
+
+      if (null != spillFile) {
+        Files.deleteIfExists(spillFile);
+        spillFile = null;
+      }
+    } catch (IOException ex) {
+      LOGGER.warn("Could not delete the temporary file of the report rows", ex);
+    }
+  }
+
+  private void readRows(JRDataSource source, JRField[] fields, int memoryRows)
+      throws JRException, IOException {
+    ObjectOutputStream spillOutput = null;
+
+    try {
+      while (source.next()) {
+        Object[] row = new Object[fields.length];
+
+        for (int i = 0; i < fields.length; ++i) {
+          row[i] = source.getFieldValue(fields[i]);
+        }
+
+        if (rows.size() < memoryRows) {
+          rows.add(row);
+          continue;
+        }
+
+        if (null == spillOutput) {
+          spillFile = Files.createTempFile("report-rows-", ".tmp");
+          spillOutput = new ObjectOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(spillFile)));
+        }
+
+        spillOutput.writeUnshared(row);
+
+        if (++spilledRows % RESET_INTERVAL == 0) {
+          spillOutput.reset();
+        }
+      }
+    } finally {
+      if (null != spillOutput) {
+        spillOutput.close();
+      }
+    }
+  }
+
+  private Object[] readSpilledRow() throws JRException {
+    try {
+      if (null == spillInput) {
+        spillInput = new ObjectInputStream(
+            new BufferedInputStream(Files.newInputStream(spillFile)));
+      }
+
+      return (Object[]) spillInput.readUnshared();
+    } catch (IOException | ClassNotFoundException ex) {
+      throw new JRException(ex);
+    }
+  }
+}
@@ -0,0 +1,323 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRExpression;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRPropertiesHolder;
+import net.sf.jasperreports.engine.JRPropertiesMap;
+import net.sf.jasperreports.engine.JRValueParameter;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.JasperReportsContext;
+import net.sf.jasperreports.engine.type.ParameterEvaluationTimeEnum;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.sql.rowset.CachedRowSet;
+
+import mw.gov.health.lmis.reports.service.metrics.RenderMetrics;
+
+/**
+ * Prefetch of the subdataset queries of a single fill. The values of the subdataset parameters
+ * are taken from the parameters of the main dataset with the same names. Queries with rows in
+ * the dataset cache are not prefetched. The connections of the queries are taken from the supplier
+ * of the fill, so they count against the connection quota of its render lane. The supplier does
+ * not wait for the quota, a query is not prefetched if the lane has no free connection, and the
+ * fill runs it itself.
+ */
+class SubdatasetPrefetch {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SubdatasetPrefetch.class);
+  private static final String FAILED = "failed";
+
+  private final JasperReport report;
+  private final String snapshot;
+  private final JdbcReportFiller.ConnectionSupplier connectionSupplier;
+  private final ExecutorService executor;
+  private final int maxRows;
+  private final long snapshotWait;
+  private final long resultWait;
+  private final DatasetCache datasetCache;
+
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final Map<List<Object>, Future<CachedRowSet>> results = new ConcurrentHashMap<>();
+  private final List<CompletableFuture<Void>> imports = new ArrayList<>();
+
+  SubdatasetPrefetch(JasperReport report, String snapshot,
+                     JdbcReportFiller.ConnectionSupplier connectionSupplier,
+                     ExecutorService executor, int maxRows, long snapshotWait,
+                     long resultWait, DatasetCache datasetCache) {
+    this.report = report;
+    this.snapshot = snapshot;
+    this.connectionSupplier = connectionSupplier;
+    this.executor = executor;
+    this.maxRows = maxRows;
+    this.snapshotWait = snapshotWait;
+    this.resultWait = resultWait;
+    this.datasetCache = datasetCache;
+  }
+
+  /**
+   * Starts the queries of the subdatasets of the report, if they have not been started yet.
+   *
+   * @param context    context of the fill
+   * @param mainValues values of the main dataset parameters by name
+   */
+  void start(JasperReportsContext context, Function<String, Object> mainValues) {
+    if (!started.compareAndSet(false, true)) {
+      return;
+    }
+
+    for (JRDataset dataset : report.getDatasets()) {
+      if (!JdbcReportFiller.hasSqlQuery(dataset)) {
+        continue;
+      }
+
+      Map<String, JRValueParameter> parameters = new HashMap<>();
+      for (JRParameter parameter : dataset.getParameters()) {
+        // the limit of the records of the main dataset does not apply to the subdatasets
+        Object value = JRParameter.REPORT_MAX_COUNT.equals(parameter.getName())
+            ? null
+            : mainValues.apply(parameter.getName());
+        parameters.put(parameter.getName(), new PrefetchParameter(parameter, value));
+      }
+
+      PrefetchQueryExecuter query = new PrefetchQueryExecuter(context, dataset, parameters, null);
+
+      if (null != datasetCache && datasetCache.contains(query.getKey())) {
+        continue;
+      }
+
+      CompletableFuture<Void> imported = new CompletableFuture<>();
+
+      try {
+        results.putIfAbsent(query.getKey(), executor.submit(() -> fetch(query, imported)));
+        imports.add(imported);
+      } catch (RejectedExecutionException ex) {
+        LOGGER.debug("Prefetch queue is full, the {} subdataset is not prefetched",
+            dataset.getName());
+      }
+    }
+  }
+
+  /**
+   * Gets the prefetched rows of the query, waiting for the prefetch to complete at most the
+   * configured time. A prefetch, that has not completed in time, is cancelled.
+   *
+   * @param key key of the query, see {@link PrefetchQueryExecuter#getKey()}
+   * @return rows of the query, or null if the query has not been prefetched
+   */
+  ResultSet get(List<Object> key) {
+    Future<CachedRowSet> result = results.get(key);
+
+    if (null == result) {
+      RenderMetrics.recordPrefetch("miss");
+      return null;
+    }
+
+    try {
+      CachedRowSet rows = result.get(resultWait, TimeUnit.MILLISECONDS);
+
+      if (null == rows) {
+        RenderMetrics.recordPrefetch("tooLarge");
+        return null;
+      }
+
+      ResultSet shared = rows.createShared();
+      shared.beforeFirst();
+      RenderMetrics.recordPrefetch("hit");
+      return shared;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (TimeoutException ex) {
+      result.cancel(true);
+      LOGGER.warn("Subdataset prefetch has not completed in {} ms, the query will be run by the"
+          + " fill", resultWait);
+      RenderMetrics.recordPrefetch("timeout");
+      return null;
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof SQLTransientConnectionException) {
+        LOGGER.debug("Render lane has no free connection, the subdataset is not prefetched");
+        RenderMetrics.recordPrefetch("skipped");
+      } else {
+        LOGGER.warn("Subdataset prefetch failed, the query will be run by the fill", ex);
+        RenderMetrics.recordPrefetch(FAILED);
+      }
+      return null;
+    } catch (CancellationException | SQLException ex) {
+      LOGGER.warn("Subdataset prefetch failed, the query will be run by the fill", ex);
+      RenderMetrics.recordPrefetch(FAILED);
+      return null;
+    }
+  }
+
+  /**
+   * Waits until the started queries have imported the snapshot, so the transaction that exported
+   * it can end. A query that has not imported the snapshot within the configured time fails, and
+   * the fill runs it again when it reaches the subdataset.
+   */
+  void awaitSnapshotImported() {
+    try {
+      CompletableFuture.allOf(imports.toArray(new CompletableFuture<?>[0]))
+          .get(snapshotWait, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException ex) {
+      LOGGER.debug("Not all subdataset queries have imported the snapshot in time", ex);
+    }
+  }
+
+  /**
+   * Cancels the queries that have not completed yet.
+   */
+  void cancel() {
+    results.values().forEach(result -> result.cancel(true));
+  }
+
+  private CachedRowSet fetch(PrefetchQueryExecuter query, CompletableFuture<Void> imported)
+      throws SQLException, JRException {
+    try (Connection connection = connectionSupplier.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      int isolation = connection.getTransactionIsolation();
+
+      connection.setAutoCommit(false);
+      connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("SET TRANSACTION SNAPSHOT '" + snapshot + "'");
+        imported.complete(null);
+        return query.fetch(connection, maxRows);
+      } finally {
+        query.close();
+        connection.rollback();
+        connection.setTransactionIsolation(isolation);
+        connection.setAutoCommit(autoCommit);
+      }
+    } finally {
+      imported.complete(null);
+    }
+  }
+
+  /**
+   * Subdataset parameter with the value of the main dataset parameter.
+   */
+  private static final class PrefetchParameter implements JRValueParameter {
+    private final JRParameter parameter;
+    private Object value;
+    private String description;
+
+    PrefetchParameter(JRParameter parameter, Object value) {
+      this.parameter = parameter;
+      this.value = value;
+      this.description = parameter.getDescription();
+    }
+
+    @Override
+    public Object getValue() {
+      return value;
+    }
+
+    @Override
+    public void setValue(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getName() {
+      return parameter.getName();
+    }
+
+    @Override
+    public String getDescription() {
+      return description;
+    }
+
+    @Override
+    public void setDescription(String description) {
+      this.description = description;
+    }
+
+    @Override
+    public Class<?> getValueClass() {
+      return parameter.getValueClass();
+    }
+
+    @Override
+    public String getValueClassName() {
+      return parameter.getValueClassName();
+    }
+
+    @Override
+    public boolean isSystemDefined() {
+      return parameter.isSystemDefined();
+    }
+
+    @Override
+    public boolean isForPrompting() {
+      return parameter.isForPrompting();
+    }
+
+    @Override
+    public ParameterEvaluationTimeEnum getEvaluationTime() {
+      return parameter.getEvaluationTime();
+    }
+
+    @Override
+    public JRExpression getDefaultValueExpression() {
+      return parameter.getDefaultValueExpression();
+    }
+
+    @Override
+    public Class<?> getNestedType() {
+      return parameter.getNestedType();
+    }
+
+    @Override
+    public String getNestedTypeName() {
+      return parameter.getNestedTypeName();
+    }
+
+    @Override
+    public boolean hasProperties() {
+      return parameter.hasProperties();
+    }
+
+    @Override
+    public JRPropertiesMap getPropertiesMap() {
+      return parameter.getPropertiesMap();
+    }
+
+    @Override
+    public JRPropertiesHolder getParentProperties() {
+      return parameter.getParentProperties();
+    }
+
+    @Override
+    public Object clone() {
+      PrefetchParameter clone = new PrefetchParameter(parameter, value);
+      clone.description = description;
+      return clone;
+    }
+  }
+}
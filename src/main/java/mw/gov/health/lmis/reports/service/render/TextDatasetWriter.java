@@ -0,0 +1,25 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the rows as UTF-8 text, through a buffer that is flushed after the last row.
+ */
+abstract class TextDatasetWriter extends DatasetWriter {
+  protected final Writer writer;
+
+  TextDatasetWriter(OutputStream output) {
+    super(output);
+    this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+  }
+
+  @Override
+  protected void finish() throws IOException {
+    writer.flush();
+  }
+}
@@ -0,0 +1,136 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Writes a Thrift struct with the compact protocol, as the metadata of the Parquet files is
+ * encoded. Only the field types used by the Parquet metadata are supported.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class ThriftCompactOutput {
+  private static final int TYPE_I32 = 5;
+  private static final int TYPE_I64 = 6;
+  private static final int TYPE_BINARY = 8;
+  private static final int TYPE_LIST = 9;
+  private static final int TYPE_STRUCT = 12;
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  private final Deque<Integer> fieldIds = new ArrayDeque<>();
+  private int lastFieldId;
+
+  ThriftCompactOutput writeI32(int fieldId, int value) {
+    writeFieldHeader(fieldId, TYPE_I32);
+    writeVarint(zigzag(value));
+    return this;
+  }
+
+  ThriftCompactOutput writeI64(int fieldId, long value) {
+    writeFieldHeader(fieldId, TYPE_I64);
+    writeVarint(zigzag(value));
+    return this;
+  }
+
+  ThriftCompactOutput writeString(int fieldId, String value) {
+    writeFieldHeader(fieldId, TYPE_BINARY);
+    writeBinary(value);
+    return this;
+  }
+
+  ThriftCompactOutput writeI32List(int fieldId, List<Integer> values) {
+    writeFieldHeader(fieldId, TYPE_LIST);
+    writeListHeader(values.size(), TYPE_I32);
+    values.forEach(value -> writeVarint(zigzag(value)));
+    return this;
+  }
+
+  ThriftCompactOutput writeStringList(int fieldId, List<String> values) {
+    writeFieldHeader(fieldId, TYPE_LIST);
+    writeListHeader(values.size(), TYPE_BINARY);
+    values.forEach(this::writeBinary);
+    return this;
+  }
+
+  /**
+   * Starts a list of structs, whose elements are started with {@link #beginElement()}.
+   */
+  ThriftCompactOutput beginStructList(int fieldId, int size) {
+    writeFieldHeader(fieldId, TYPE_LIST);
+    writeListHeader(size, TYPE_STRUCT);
+    return this;
+  }
+
+  ThriftCompactOutput beginStruct(int fieldId) {
+    writeFieldHeader(fieldId, TYPE_STRUCT);
+    return beginElement();
+  }
+
+  ThriftCompactOutput beginElement() {
+    fieldIds.push(lastFieldId);
+    lastFieldId = 0;
+    return this;
+  }
+
+  /**
+   * Ends the current struct, or the written struct itself if no nested struct is started.
+   */
+  ThriftCompactOutput endStruct() {
+    buffer.write(0);
+
+    if (!fieldIds.isEmpty()) {
+      lastFieldId = fieldIds.pop();
+    }
+
+    return this;
+  }
+
+  byte[] toByteArray() {
+    return buffer.toByteArray();
+  }
+
+  private void writeFieldHeader(int fieldId, int type) {
+    int delta = fieldId - lastFieldId;
+
+    if (delta > 0 && delta <= 15) {
+      buffer.write(delta << 4 | type);
+    } else {
+      buffer.write(type);
+      writeVarint(zigzag(fieldId));
+    }
+
+    lastFieldId = fieldId;
+  }
+
+  private void writeListHeader(int size, int elementType) {
+    if (size < 15) {
+      buffer.write(size << 4 | elementType);
+    } else {
+      buffer.write(0xF0 | elementType);
+      writeVarint(size);
+    }
+  }
+
+  private void writeBinary(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarint(bytes.length);
+    buffer.write(bytes, 0, bytes.length);
+  }
+
+  private void writeVarint(long value) {
+    long remaining = value;
+
+    while ((remaining & ~0x7FL) != 0) {
+      buffer.write((int) (remaining & 0x7F | 0x80));
+      remaining >>>= 7;
+    }
+
+    buffer.write((int) remaining);
+  }
+
+  private static long zigzag(long value) {
+    return value << 1 ^ value >> 63;
+  }
+}
@@ -0,0 +1,132 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Time;
+import java.util.Date;
+
+/**
+ * Writes the rows as an XLSX workbook through a streaming workbook, that keeps only a window of
+ * {@link #WINDOW_ROWS} rows in memory and writes the older rows to compressed temporary files.
+ * Strings are written inline, so no shared strings table is kept either. Each sheet starts with a
+ * header row of the field names, and a new sheet is started when a sheet reaches the row limit of
+ * the format. Numbers and booleans are written as numeric and boolean cells, dates, times and
+ * timestamps as formatted numeric cells.
+ */
+class XlsxDatasetWriter extends DatasetWriter {
+  static final int WINDOW_ROWS = 100;
+
+  private static final int MAX_CELL_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+  private static final String SHEET_NAME = "Data";
+  private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+
+  private final SXSSFWorkbook workbook = new SXSSFWorkbook(null, WINDOW_ROWS, true, false);
+  private final int maxSheetRows;
+  private final CellStyle dateStyle;
+  private final CellStyle timeStyle;
+  private final CellStyle timestampStyle;
+  private final CellStyle headerStyle;
+
+  private String[] names;
+  private SXSSFSheet sheet;
+  private int sheetRows;
+
+  XlsxDatasetWriter(OutputStream output) {
+    this(output, SpreadsheetVersion.EXCEL2007.getMaxRows());
+  }
+
+  XlsxDatasetWriter(OutputStream output, int maxSheetRows) {
+    super(output);
+    this.maxSheetRows = maxSheetRows;
+
+    DataFormat dataFormat = workbook.createDataFormat();
+    dateStyle = workbook.createCellStyle();
+    dateStyle.setDataFormat(dataFormat.getFormat("yyyy-mm-dd"));
+    timeStyle = workbook.createCellStyle();
+    timeStyle.setDataFormat(dataFormat.getFormat("hh:mm:ss"));
+    timestampStyle = workbook.createCellStyle();
+    timestampStyle.setDataFormat(dataFormat.getFormat("yyyy-mm-dd hh:mm:ss"));
+
+    Font bold = workbook.createFont();
+    bold.setBold(true);
+    headerStyle = workbook.createCellStyle();
+    headerStyle.setFont(bold);
+  }
+
+  @Override
+  protected void writeHeader(String[] names, Class<?>[] types) {
+    this.names = names.clone();
+    startSheet();
+  }
+
+  @Override
+  protected void writeRow(String[] names, Object[] values) {
+    if (sheetRows == maxSheetRows) {
+      startSheet();
+    }
+
+    Row row = sheet.createRow(sheetRows++);
+
+    for (int i = 0; i < values.length; ++i) {
+      if (null != values[i]) {
+        writeCell(row.createCell(i), values[i]);
+      }
+    }
+  }
+
+  @Override
+  protected void finish() throws IOException {
+    workbook.write(output);
+    output.flush();
+  }
+
+  @Override
+  protected void release() {
+    workbook.dispose();
+  }
+
+  private void startSheet() {
+    int number = workbook.getNumberOfSheets() + 1;
+    sheet = workbook.createSheet(1 == number ? SHEET_NAME : SHEET_NAME + " " + number);
+    sheet.createFreezePane(0, 1);
+
+    Row header = sheet.createRow(0);
+
+    for (int i = 0; i < names.length; ++i) {
+      Cell cell = header.createCell(i);
+      cell.setCellValue(names[i]);
+      cell.setCellStyle(headerStyle);
+    }
+
+    sheetRows = 1;
+  }
+
+  private void writeCell(Cell cell, Object value) {
+    if (value instanceof Number) {
+      cell.setCellValue(((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      cell.setCellValue((Boolean) value);
+    } else if (value instanceof Time) {
+      // times are fractions of a day, the date of the value is before the dates of the format
+      cell.setCellValue(((Time) value).toLocalTime().toNanoOfDay() / (double) NANOS_PER_DAY);
+      cell.setCellStyle(timeStyle);
+    } else if (value instanceof Date) {
+      cell.setCellValue((Date) value);
+      cell.setCellStyle(value instanceof java.sql.Date ? dateStyle : timestampStyle);
+    } else {
+      String text = toText(value);
+      cell.setCellValue(text.length() > MAX_CELL_LENGTH
+          ? text.substring(0, MAX_CELL_LENGTH)
+          : text);
+    }
+  }
+}
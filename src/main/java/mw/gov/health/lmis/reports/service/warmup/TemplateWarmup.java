@@ -0,0 +1,120 @@
+package mw.gov.health.lmis.reports.service.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.render.CompiledReportCache;
+
+/**
+ * Warms up the displayed templates after the startup, so the first requests do not wait for
+ * them. The reports of the templates are read into the {@link CompiledReportCache} in parallel,
+ * and each is filled and exported once with empty rows, so the classes of the fill and the
+ * export are loaded and compiled by the JIT. The service is ready once all templates are warmed
+ * up, whether or not they could be filled.
+ */
+@Component
+public class TemplateWarmup {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TemplateWarmup.class);
+
+  @Autowired
+  private JasperTemplateRepository jasperTemplateRepository;
+
+  @Autowired
+  private JasperReportsViewService jasperReportsViewService;
+
+  @Value("${reports.warmup.enabled}")
+  private boolean enabled;
+
+  @Value("${reports.warmup.threads}")
+  private int threads;
+
+  @Value("${reports.warmup.fillRows}")
+  private int fillRows;
+
+  private volatile boolean ready;
+
+  private ExecutorService executor;
+
+  /**
+   * Starts the warm-up once the application is ready, or marks the service as ready if the
+   * warm-up is disabled.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) {
+      ready = true;
+      return;
+    }
+
+    executor = Executors.newFixedThreadPool(Math.max(threads, 1),
+        new CustomizableThreadFactory("template-warmup-"));
+    run().whenComplete((result, ex) -> executor.shutdown());
+  }
+
+  /**
+   * Stops the warm-up in progress.
+   */
+  @PreDestroy
+  public void stop() {
+    if (null != executor) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Checks whether the warm-up is done.
+   *
+   * @return true if the service is ready for the requests
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  CompletableFuture<Void> run() {
+    long start = System.currentTimeMillis();
+
+    return CompletableFuture
+        .supplyAsync(() -> jasperTemplateRepository.findByIsDisplayed(true), executor)
+        .thenCompose(this::warmUp)
+        .whenComplete((result, ex) -> {
+          if (null != ex) {
+            LOGGER.warn("Could not warm up the templates", ex);
+          }
+
+          ready = true;
+          LOGGER.info("Templates warmed up in {} ms", System.currentTimeMillis() - start);
+        });
+  }
+
+  private CompletableFuture<Void> warmUp(List<JasperTemplate> templates) {
+    return CompletableFuture.allOf(templates
+        .stream()
+        .map(template -> CompletableFuture.runAsync(() -> warmUp(template), executor))
+        .toArray(CompletableFuture[]::new));
+  }
+
+  private void warmUp(JasperTemplate template) {
+    try {
+      jasperReportsViewService.warmUp(template, fillRows);
+    } catch (JasperReportViewException | RuntimeException ex) {
+      // a template that needs its parameters or data to be filled is still cached
+      LOGGER.debug("Could not fill template {} with empty rows", template.getName(), ex);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package mw.gov.health.lmis.reports.web;
 
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_REPORTING_RENDER_TIMEOUT;
+
 import org.apache.commons.lang3.StringUtils;
 import org.javers.core.Javers;
 import org.javers.core.changelog.SimpleTextChangeLog;
@@ -8,15 +10,37 @@ import org.javers.core.json.JsonConverter;
 import org.javers.repository.jql.QueryBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.service.freshness.DataFreshness;
+import mw.gov.health.lmis.utils.Message;
 import mw.gov.health.lmis.utils.Pagination;
 
 @RequestMapping("/api")
@@ -26,6 +50,161 @@ public abstract class BaseController {
   private Javers javers;
 
 
+  /**
+   * Creates the response with the report, to be displayed inline by the browser.
+   *
+   * @param report      data of the rendered report
+   * @param contentType content type of the report
+   * @param fileName    name of the file, including the extension
+   * @return response with the report
+   */
+  protected ResponseEntity<byte[]> getReportResponse(byte[] report, String contentType,
+                                                     String fileName) {
+    return ResponseEntity
+        .ok()
+        .header(HttpHeaders.CONTENT_TYPE, contentType)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=" + fileName)
+        .body(report);
+  }
+
+  /**
+   * Creates the deferred response with the report, that is completed when the render completes,
+   * so the request thread is not held while the report is being rendered. If the render does not
+   * complete within the timeout, it is cancelled and the response is completed with the
+   * "#503 Service Unavailable" status.
+   *
+   * @param render      future data of the rendered report
+   * @param timeout     time in milliseconds after which the render is cancelled
+   * @param contentType content type of the report
+   * @param fileName    name of the file, including the extension
+   * @return deferred response with the report
+   */
+  protected DeferredResult<ResponseEntity<byte[]>> getReportResponse(
+      CompletableFuture<byte[]> render, long timeout, String contentType, String fileName) {
+    return getDeferredResponse(render, timeout,
+        report -> getReportResponse(report, contentType, fileName));
+  }
+
+  /**
+   * Creates the deferred response with the result of a render, see
+   * {@link #getReportResponse(CompletableFuture, long, String, String)}.
+   *
+   * @param render  future result of the render
+   * @param timeout time in milliseconds after which the render is cancelled
+   * @param mapper  function that creates the response from the result of the render
+   * @return deferred response
+   */
+  protected <T, R> DeferredResult<R> getDeferredResponse(CompletableFuture<T> render,
+                                                         long timeout, Function<T, R> mapper) {
+    DeferredResult<R> response = new DeferredResult<>(timeout);
+
+    response.onTimeout(() -> {
+      response.setErrorResult(getRenderTimeoutException(timeout));
+      render.cancel(true);
+    });
+
+    render.whenComplete((result, error) -> {
+      if (null == error) {
+        response.setResult(mapper.apply(result));
+      } else if (error instanceof CancellationException) {
+        // the render has been cancelled by the timeout of this request
+        response.setErrorResult(getRenderTimeoutException(timeout));
+      } else {
+        response.setErrorResult(error instanceof CompletionException ? error.getCause() : error);
+      }
+    });
+
+    return response;
+  }
+
+  /**
+   * Creates the response, whose body is written by a render, e.g. the rows of a query streamed as
+   * they are read. The render is started when the body is written, on the thread of the
+   * asynchronous request, so the request thread is not held while the body is written. If the
+   * render does not complete within the timeout, it is cancelled.
+   *
+   * @param headers headers of the response
+   * @param timeout time in milliseconds after which the render is cancelled
+   * @param render  starts the render, that writes the body to the given stream
+   * @return response, whose body is written by the render
+   */
+  protected ResponseEntity<StreamingResponseBody> getStreamingResponse(
+      HttpHeaders headers, long timeout, StreamingRender render) {
+    return ResponseEntity
+        .ok()
+        .headers(headers)
+        .body(output -> {
+          CompletableFuture<?> written;
+
+          try {
+            written = render.start(output);
+          } catch (JasperReportViewException ex) {
+            throw new IOException(ex);
+          }
+
+          await(written, timeout);
+        });
+  }
+
+  /**
+   * Adds the validators of a report to the response, so clients can request the report again
+   * conditionally, and checks if the report the client has is still current. The validators are
+   * only added if the freshness of all source domains is known. The response must not be
+   * created if the report has not been modified, its status is already set to
+   * "#304 Not Modified".
+   *
+   * @param request   the request
+   * @param response  the response
+   * @param freshness freshness of the data the report will be rendered from
+   * @param key       key of the report, including the template and the request parameters
+   * @param template  content of the report template
+   * @return true if the client has the current report
+   */
+  protected boolean checkReportNotModified(HttpServletRequest request,
+                                           HttpServletResponse response, DataFreshness freshness,
+                                           String key, byte[] template) {
+    if (!freshness.isKnown()) {
+      return false;
+    }
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+    return new ServletWebRequest(request, response)
+        .checkNotModified(freshness.getETag(key, template), freshness.getLastModified());
+  }
+
+  private void await(CompletableFuture<?> render, long timeout) throws IOException {
+    try {
+      render.get(timeout, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      render.cancel(true);
+      Thread.currentThread().interrupt();
+      InterruptedIOException interrupted =
+          new InterruptedIOException("Interrupted while writing the response");
+      interrupted.initCause(ex);
+      throw interrupted;
+    } catch (TimeoutException ex) {
+      render.cancel(true);
+      throw new ServiceUnavailableMessageException(new Message(ERROR_REPORTING_RENDER_TIMEOUT,
+          TimeUnit.MILLISECONDS.toSeconds(timeout)), ex);
+    } catch (ExecutionException ex) {
+      throw unwrap(ex);
+    }
+  }
+
+  // the exceptions of the render are handled like the ones thrown on the request thread
+  private static IOException unwrap(ExecutionException ex) {
+    if (ex.getCause() instanceof RuntimeException) {
+      throw (RuntimeException) ex.getCause();
+    }
+
+    return new IOException(ex.getCause());
+  }
+
+  private ServiceUnavailableMessageException getRenderTimeoutException(long timeout) {
+    return new ServiceUnavailableMessageException(
+        new Message(ERROR_REPORTING_RENDER_TIMEOUT, TimeUnit.MILLISECONDS.toSeconds(timeout)));
+  }
+
   protected Map<String, String> getErrors(BindingResult bindingResult) {
     Map<String, String> errors = new HashMap<>();
 
@@ -152,4 +331,21 @@ public abstract class BaseController {
     return changes;
   }
 
+
+  /**
+   * Render, that writes the body of a response, see
+   * {@link #getStreamingResponse(HttpHeaders, long, StreamingRender)}.
+   */
+  @FunctionalInterface
+  protected interface StreamingRender {
+
+    /**
+     * Starts the render.
+     *
+     * @param output stream to which the body is written
+     * @return future, that is completed when the body has been written
+     * @throws JasperReportViewException if the render could not be started
+     */
+    CompletableFuture<?> start(OutputStream output) throws JasperReportViewException;
+  }
 }
@@ -4,35 +4,51 @@ import static mw.gov.health.lmis.reports.i18n.JasperMessageKeys.ERROR_JASPER_TEM
 import static mw.gov.health.lmis.reports.service.PermissionService.AGGREGATE_ORDERS_ID;
 import static mw.gov.health.lmis.reports.service.PermissionService.AGGREGATE_ORDERS_XLS_ID;
 import static mw.gov.health.lmis.reports.web.ReportTypes.CONSISTENCY_REPORT;
-import static mw.gov.health.lmis.reports.web.ReportTypes.ORDER_REPORT;
 
-import mw.gov.health.lmis.reports.dto.external.UserDto;
 import mw.gov.health.lmis.reports.service.ViewPermissionService;
+import mw.gov.health.lmis.reports.service.batch.ReportBatch;
+import mw.gov.health.lmis.reports.service.batch.ReportBatchService;
+import mw.gov.health.lmis.reports.service.queue.RenderJob;
+import mw.gov.health.lmis.reports.service.queue.RenderJobService;
+import mw.gov.health.lmis.reports.service.freshness.DataFreshness;
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+import mw.gov.health.lmis.reports.service.render.DatasetWriter;
+import mw.gov.health.lmis.reports.service.render.InFlightReportRegistry;
+import mw.gov.health.lmis.reports.service.render.JasperReportExporter;
+import mw.gov.health.lmis.reports.service.render.ReportPreview;
+import mw.gov.health.lmis.reports.service.render.ReportResultStore;
 import mw.gov.health.lmis.utils.AuthenticationHelper;
-import net.sf.jasperreports.engine.JRParameter;
-import net.sf.jasperreports.engine.JRVirtualizationHelper;
-import net.sf.jasperreports.engine.JRVirtualizer;
-import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
-import net.sf.jasperreports.engine.util.JRSwapFile;
 
+import net.sf.jasperreports.engine.util.JRTypeSniffer;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.servlet.ModelAndView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsMultiFormatView;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import mw.gov.health.lmis.reports.domain.JasperTemplate;
 import mw.gov.health.lmis.reports.dto.JasperTemplateDto;
+import mw.gov.health.lmis.reports.dto.ReportBatchDto;
+import mw.gov.health.lmis.reports.dto.RenderJobDto;
+import mw.gov.health.lmis.reports.dto.ReportPreviewDto;
 import mw.gov.health.lmis.reports.exception.JasperReportViewException;
 import mw.gov.health.lmis.reports.exception.NotFoundMessageException;
 import mw.gov.health.lmis.reports.exception.ReportingException;
@@ -42,21 +58,26 @@ import mw.gov.health.lmis.reports.service.JasperTemplateService;
 import mw.gov.health.lmis.reports.service.PermissionService;
 import mw.gov.health.lmis.utils.Message;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
+import java.io.IOException;
 import java.time.Clock;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 @Controller
 @Transactional
 @RequestMapping("/api/reports/templates/malawi")
 public class JasperTemplateController extends BaseController {
   private static final Logger LOGGER = Logger.getLogger(JasperTemplateController.class);
+  private static final String PREVIEW = "preview";
+  private static final String FORMAT = "format";
 
   @Autowired
   private JasperTemplateService jasperTemplateService;
@@ -74,25 +95,37 @@ public class JasperTemplateController extends BaseController {
   private ViewPermissionService viewPermissionService;
 
   @Autowired
-  private Clock clock;
+  private JasperReportExporter jasperReportExporter;
 
   @Autowired
-  private AuthenticationHelper authenticationHelper;
+  private InFlightReportRegistry inFlightReportRegistry;
 
-  @Value("${dateTimeFormat}")
-  private String dateTimeFormat;
+  @Autowired
+  private ReportResultStore reportResultStore;
 
-  @Value("${dateFormat}")
-  private String dateFormat;
+  @Autowired
+  private ReportBatchService reportBatchService;
 
-  @Value("${groupingSeparator}")
-  private String groupingSeparator;
+  @Autowired
+  private RenderJobService renderJobService;
 
-  @Value("${groupingSize}")
-  private String groupingSize;
+  @Autowired
+  private DataFreshnessService dataFreshnessService;
 
-  @Value("${time.zoneId}")
-  private String timeZoneId;
+  @Autowired
+  private Clock clock;
+
+  @Autowired
+  private AuthenticationHelper authenticationHelper;
+
+  @Value("${reports.timeout.templates}")
+  private long timeout;
+
+  @Value("${reports.timeout.dataStream}")
+  private long dataStreamTimeout;
+
+  @Value("${reports.preview.rows}")
+  private int previewRows;
 
   /**
    * Adding report templates with ".jrxml" format to database.
@@ -118,6 +151,7 @@ public class JasperTemplateController extends BaseController {
       LOGGER.debug("Template found, updating template");
       jasperTemplateToUpdate.setDescription(description);
       jasperTemplateService.validateFileAndSaveTemplate(jasperTemplateToUpdate, file);
+      reportResultStore.evict(jasperTemplateToUpdate.getId());
     }
 
     LOGGER.debug("Saved template with id: " + jasperTemplateToUpdate.getId());
@@ -173,29 +207,379 @@ public class JasperTemplateController extends BaseController {
           ERROR_JASPER_TEMPLATE_NOT_FOUND, templateId));
     } else {
       jasperTemplateRepository.delete(jasperTemplate);
+      reportResultStore.evict(templateId);
     }
   }
 
   /**
    * Generate a report based on the template, the format and the request parameters.
+   * Identical requests made while the report is being generated share a single render. The
+   * report is rendered asynchronously, so the request thread is released in the meantime.
+   * The response has an entity tag and a last modified date derived from the freshness of the
+   * source domains the template reads, so a conditional request for a report whose data has not
+   * changed since the client got it is answered with "#304 Not Modified" without rendering the
+   * report. A report rendered ahead of the request with the same parameters on the same day is
+   * served from the {@link ReportResultStore}.
+   *
+   * <p>With the preview flag, only the first rows of the report are rendered, without its
+   * summary, as an HTML fragment labelled as a preview, whatever the requested format, so the
+   * parameters can be adjusted before the whole report is generated.
    *
    * @param request    request (to get the request parameters)
+   * @param response   response (to set the status of a conditional request)
    * @param templateId report template ID
    * @param format     report format to generate, default is PDF
-   * @return the generated report
+   * @param preview    true to render a preview of the first rows of the report
+   * @return the generated report, or null if the report has not been modified
    */
   @RequestMapping(value = "/{id}/{format}", method = RequestMethod.GET)
   @ResponseBody
-  public ModelAndView generateReport(HttpServletRequest request,
-                                     @PathVariable("id") UUID templateId,
-                                     @PathVariable("format") String format)
+  public DeferredResult<ResponseEntity<byte[]>> generateReport(
+      HttpServletRequest request, HttpServletResponse response,
+      @PathVariable("id") UUID templateId, @PathVariable(FORMAT) String format,
+      @RequestParam(value = "preview", defaultValue = "false") boolean preview)
       throws JasperReportViewException {
 
     viewPermissionService.canViewReports(templateId);
+    jasperReportExporter.validateFormat(format);
+
+    boolean tabular = !preview && Arrays.asList("xls", "csv").contains(format);
+    JasperTemplate template = findTemplate(templateId, tabular);
+    Map<String, Object> map = jasperTemplateService.mapRequestParametersToTemplate(
+          request, template);
 
+    final String fileName = jasperReportsViewService.getFilename(template, map);
+    map.put(ReportResultStore.USER_PARAMETER, authenticationHelper.getCurrentUser().printName());
+
+    if (preview) {
+      return getReportPreviewResponse(template, map, fileName);
+    }
+
+    final String renderKey = InFlightReportRegistry.createKey(
+        template.getId(), format, LocaleContextHolder.getLocale(), map);
+
+    // the report is also current only for the day, as the queries can depend on the date
+    LocalDate today = LocalDate.now(clock);
+    DataFreshness freshness = dataFreshnessService.getFreshness()
+        .of(jasperReportsViewService.getSourceDomains(template));
+    if (checkReportNotModified(request, response, freshness,
+        renderKey + '/' + today, template.getData())) {
+      return null;
+    }
+
+    byte[] stored = reportResultStore.get(ReportResultStore.createKey(
+        template.getId(), format, LocaleContextHolder.getLocale(), map, today));
+    if (null != stored) {
+      return getReportResponse(CompletableFuture.completedFuture(stored), timeout,
+          jasperReportExporter.getContentType(format), fileName + "." + format);
+    }
+
+    jasperReportsViewService.addRenderParameters(map, format);
+
+    CompletableFuture<byte[]> render = inFlightReportRegistry.render(renderKey,
+        () -> jasperReportsViewService.renderReport(template, map, format));
+
+    return getReportResponse(render, timeout, jasperReportExporter.getContentType(format),
+        fileName + "." + format);
+  }
+
+  /**
+   * Stream the rows of the main query of the template as NDJSON, CSV or Parquet, without the
+   * report layout. The query runs with the same request parameters as the report, the columns are
+   * the fields declared by the template, and the rows are written to the response as they are
+   * read from the database, so any number of rows can be streamed. The rows are read in the
+   * render lane of the template, and the stream is cancelled if it does not complete within the
+   * timeout.
+   *
+   * @param request    request (to get the request parameters)
+   * @param templateId report template ID
+   * @param format     data format, ndjson, csv or parquet
+   * @return response, whose body is written as the rows are read
+   */
+  @RequestMapping(value = "/{id}/data/{format}", method = RequestMethod.GET)
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ResponseEntity<StreamingResponseBody> streamReportData(
+      HttpServletRequest request, @PathVariable("id") UUID templateId,
+      @PathVariable(FORMAT) String format) {
+
+    viewPermissionService.canViewReports(templateId);
+    DatasetWriter.validateFormat(format);
+
+    JasperTemplate template = findTemplate(templateId, true);
+    Map<String, Object> map = jasperTemplateService.mapRequestParametersToTemplate(
+        request, template);
+
+    final String fileName = jasperReportsViewService.getFilename(template, map);
+    map.put(ReportResultStore.USER_PARAMETER, authenticationHelper.getCurrentUser().printName());
+    jasperReportsViewService.addRenderParameters(map, format);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.CONTENT_TYPE, DatasetWriter.getContentType(format));
+    headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=" + fileName + "." + format);
+
+    return getStreamingResponse(headers, dataStreamTimeout,
+        output -> jasperReportsViewService.streamReportData(template, map, format, output));
+  }
+
+  /**
+   * Fill a report based on the template and the request parameters for a preview. The report is
+   * filled once, and its pages are then requested one page or one range of pages at a time, see
+   * {@link #getPreviewPages}, so the pages that are not viewed are never exported.
+   *
+   * @param request    request (to get the request parameters)
+   * @param templateId report template ID
+   * @return the preview, with the number of pages of the report
+   */
+  @RequestMapping(value = "/{id}/preview", method = RequestMethod.POST)
+  @ResponseBody
+  public DeferredResult<ResponseEntity<ReportPreviewDto>> previewReport(
+      HttpServletRequest request, @PathVariable("id") UUID templateId)
+      throws JasperReportViewException {
+
+    viewPermissionService.canViewReports(templateId);
+
+    JasperTemplate template = findTemplate(templateId, false);
+    Map<String, Object> map = jasperTemplateService.mapRequestParametersToTemplate(
+        request, template);
+
+    map.put(ReportResultStore.USER_PARAMETER, authenticationHelper.getCurrentUser().printName());
+    jasperReportsViewService.addRenderParameters(map, JasperReportExporter.HTML);
+
+    CompletableFuture<ReportPreview> preview = jasperReportsViewService.previewReport(
+        template, map, authenticationHelper.getCurrentUser().getId());
+
+    return getDeferredResponse(preview, timeout,
+        filled -> ResponseEntity.ok(ReportPreviewDto.newInstance(filled)));
+  }
+
+  /**
+   * Get a page, or a range of pages, of a report preview as HTML. The images of the pages are
+   * served once for the whole preview, see {@link #getPreviewImage}.
+   *
+   * @param previewId ID of the preview
+   * @param page      number of the page, starting from 1
+   * @param lastPage  number of the last page of the range, the same page by default
+   * @return the pages of the report
+   */
+  @RequestMapping(value = "/previews/{previewId}/pages/{page}", method = RequestMethod.GET)
+  @ResponseBody
+  public ResponseEntity<byte[]> getPreviewPages(
+      @PathVariable("previewId") UUID previewId, @PathVariable("page") int page,
+      @RequestParam(value = "to", required = false) Integer lastPage)
+      throws JasperReportViewException {
+
+    String imagesUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+        .path("/api/reports/templates/malawi/previews/{previewId}/images/")
+        .buildAndExpand(previewId)
+        .toUriString();
+
+    byte[] pages = jasperReportsViewService.renderPreviewPages(previewId,
+        authenticationHelper.getCurrentUser().getId(), page,
+        null == lastPage ? page : lastPage, imagesUrl);
+
+    return ResponseEntity
+        .ok()
+        .header(HttpHeaders.CONTENT_TYPE,
+            jasperReportExporter.getContentType(JasperReportExporter.HTML))
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .body(pages);
+  }
+
+  /**
+   * Get an image of the pages of a report preview. The images are named by the hash of their
+   * content, so they can be cached by the client. Only the user who requested the preview can
+   * read its images.
+   *
+   * @param previewId ID of the preview
+   * @param name      name of the image
+   * @return the image
+   */
+  @RequestMapping(value = "/previews/{previewId}/images/{name:.+}", method = RequestMethod.GET)
+  @ResponseBody
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ResponseEntity<byte[]> getPreviewImage(@PathVariable("previewId") UUID previewId,
+                                                @PathVariable("name") String name) {
+    byte[] image = jasperReportsViewService.getPreviewImage(previewId,
+        authenticationHelper.getCurrentUser().getId(), name);
+    String mimeType = JRTypeSniffer.getImageTypeValue(image).getMimeType();
+
+    return ResponseEntity
+        .ok()
+        .header(HttpHeaders.CONTENT_TYPE,
+            null == mimeType ? MediaType.APPLICATION_OCTET_STREAM_VALUE : mimeType)
+        .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate())
+        .body(image);
+  }
+
+  /**
+   * Start a batch of reports based on the template, one report for every value of the partition
+   * parameter, that occurs in the data of the template, for example one report per district. The
+   * other parameters are taken from the request. The batch runs in the background, see
+   * {@link #getBatch}.
+   *
+   * @param request    request (to get the request parameters)
+   * @param templateId report template ID
+   * @param format     report format
+   * @param partition  name of the template parameter, whose values are the partitions
+   * @return the running batch
+   */
+  @RequestMapping(value = "/{id}/batches/{format}", method = RequestMethod.POST)
+  @ResponseBody
+  public ResponseEntity<ReportBatchDto> startBatch(
+      HttpServletRequest request, @PathVariable("id") UUID templateId,
+      @PathVariable(FORMAT) String format, @RequestParam("partition") String partition) {
+
+    viewPermissionService.canViewReports(templateId);
+    jasperReportExporter.validateFormat(format);
+
+    JasperTemplate template = findTemplate(templateId, false);
+    Map<String, Object> map = jasperTemplateService.mapRequestParametersToTemplate(
+        request, template);
+
+    map.put(ReportResultStore.USER_PARAMETER, authenticationHelper.getCurrentUser().printName());
+    jasperReportsViewService.addRenderParameters(map, format);
+
+    ReportBatch batch = reportBatchService.startBatch(template, map, format, partition,
+        authenticationHelper.getCurrentUser().getId());
+
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(ReportBatchDto.newInstance(batch));
+  }
+
+  /**
+   * Get the state of a batch of reports, with the artifacts written so far.
+   *
+   * @param batchId ID of the batch
+   * @return the batch
+   */
+  @RequestMapping(value = "/batches/{batchId}", method = RequestMethod.GET)
+  @ResponseBody
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ResponseEntity<ReportBatchDto> getBatch(@PathVariable("batchId") UUID batchId) {
+    ReportBatch batch = reportBatchService.getBatch(batchId,
+        authenticationHelper.getCurrentUser().getId());
+
+    return ResponseEntity.ok(ReportBatchDto.newInstance(batch));
+  }
+
+  /**
+   * Get a report of a batch, or the manifest of a finished batch.
+   *
+   * @param batchId  ID of the batch
+   * @param fileName name of the file of the report, or manifest.json
+   * @return the report
+   */
+  @RequestMapping(value = "/batches/{batchId}/artifacts/{fileName:.+}",
+      method = RequestMethod.GET)
+  @ResponseBody
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ResponseEntity<byte[]> getBatchArtifact(@PathVariable("batchId") UUID batchId,
+                                                 @PathVariable("fileName") String fileName)
+      throws IOException {
+    UUID ownerId = authenticationHelper.getCurrentUser().getId();
+    ReportBatch batch = reportBatchService.getBatch(batchId, ownerId);
+    byte[] data = reportBatchService.getArtifact(batchId, ownerId, fileName);
+    String contentType = null == batch.findArtifact(fileName)
+        ? MediaType.APPLICATION_JSON_VALUE
+        : jasperReportExporter.getContentType(batch.getFormat());
+
+    return ResponseEntity
+        .ok()
+        .header(HttpHeaders.CONTENT_TYPE, contentType)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=" + fileName)
+        .body(data);
+  }
+
+  /**
+   * Queue a render of a report based on the template and the request parameters. The report is
+   * rendered by the least loaded node of the service, see {@link #getRenderJob}, and written to
+   * the storage shared by the nodes.
+   *
+   * @param request    request (to get the request parameters)
+   * @param templateId report template ID
+   * @param format     report format
+   * @return the queued job
+   */
+  @RequestMapping(value = "/{id}/jobs/{format}", method = RequestMethod.POST)
+  @ResponseBody
+  public ResponseEntity<RenderJobDto> submitRenderJob(
+      HttpServletRequest request, @PathVariable("id") UUID templateId,
+      @PathVariable(FORMAT) String format) throws IOException {
+
+    viewPermissionService.canViewReports(templateId);
+    jasperReportExporter.validateFormat(format);
+
+    JasperTemplate template = findTemplate(templateId, false);
+    Map<String, Object> map = jasperTemplateService.mapRequestParametersToTemplate(
+        request, template);
+    map.put(ReportResultStore.USER_PARAMETER, authenticationHelper.getCurrentUser().printName());
+
+    RenderJob job = renderJobService.submit(template, map, format,
+        LocaleContextHolder.getLocale(), authenticationHelper.getCurrentUser().getId());
+
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(RenderJobDto.newInstance(job));
+  }
+
+  /**
+   * Get the state of a queued render of a report.
+   *
+   * @param jobId ID of the job
+   * @return the job
+   */
+  @RequestMapping(value = "/jobs/{jobId}", method = RequestMethod.GET)
+  @ResponseBody
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ResponseEntity<RenderJobDto> getRenderJob(@PathVariable("jobId") UUID jobId) {
+    RenderJob job = renderJobService.getJob(jobId,
+        authenticationHelper.getCurrentUser().getId());
+
+    return ResponseEntity.ok(RenderJobDto.newInstance(job));
+  }
+
+  /**
+   * Get the report of a completed render job.
+   *
+   * @param jobId ID of the job
+   * @return the report
+   */
+  @RequestMapping(value = "/jobs/{jobId}/output", method = RequestMethod.GET)
+  @ResponseBody
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ResponseEntity<byte[]> getRenderJobOutput(@PathVariable("jobId") UUID jobId) {
+    UUID ownerId = authenticationHelper.getCurrentUser().getId();
+    RenderJob job = renderJobService.getJob(jobId, ownerId);
+    byte[] data = renderJobService.getOutput(jobId, ownerId);
+
+    return ResponseEntity
+        .ok()
+        .header(HttpHeaders.CONTENT_TYPE, jasperReportExporter.getContentType(job.getFormat()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "inline; filename=" + jobId + "." + job.getFormat())
+        .body(data);
+  }
+
+  private DeferredResult<ResponseEntity<byte[]>> getReportPreviewResponse(
+      JasperTemplate template, Map<String, Object> map, String fileName)
+      throws JasperReportViewException {
+    final String renderKey = InFlightReportRegistry.createKey(
+        template.getId(), PREVIEW, LocaleContextHolder.getLocale(), map);
+    jasperReportsViewService.addRenderParameters(map, JasperReportExporter.HTML);
+
+    CompletableFuture<byte[]> render = inFlightReportRegistry.render(renderKey,
+        () -> jasperReportsViewService.renderReportPreview(template, map, previewRows));
+
+    return getReportResponse(render, timeout,
+        jasperReportExporter.getContentType(JasperReportExporter.HTML),
+        fileName + "_" + PREVIEW + "." + JasperReportExporter.HTML);
+  }
+
+  // the tabular formats of the aggregate orders report have their own template
+  private JasperTemplate findTemplate(UUID templateId, boolean tabular) {
     JasperTemplate template;
-    if (AGGREGATE_ORDERS_ID.equals(templateId)
-        && Arrays.asList("xls", "csv").contains(format)) {
+    if (AGGREGATE_ORDERS_ID.equals(templateId) && tabular) {
       template = jasperTemplateRepository.findOne(AGGREGATE_ORDERS_XLS_ID);
     } else {
       template = jasperTemplateRepository.findOne(templateId);
@@ -206,45 +590,6 @@ public class JasperTemplateController extends BaseController {
           ERROR_JASPER_TEMPLATE_NOT_FOUND, templateId));
     }
 
-    String tmpdir = System.getProperty("java.io.tmpdir");
-    JRVirtualizer virtualizer = new JRSwapFileVirtualizer(
-        1000, new JRSwapFile(tmpdir, 4096, 200), true);
-    JRVirtualizationHelper.setThreadVirtualizer(virtualizer);
-
-    Map map = jasperTemplateService.mapRequestParametersToTemplate(
-          request, template);
-    
-    DecimalFormatSymbols decimalFormatSymbols = new DecimalFormatSymbols();
-    decimalFormatSymbols.setGroupingSeparator(groupingSeparator.charAt(0));
-    DecimalFormat decimalFormat = new DecimalFormat("", decimalFormatSymbols);
-    decimalFormat.setGroupingSize(Integer.parseInt(groupingSize));
-    UserDto currentUser = authenticationHelper.getCurrentUser();
-
-    String fileName = jasperReportsViewService.getFilename(template, map);
-    map.put("format", format);
-    map.put("dateTimeFormat", dateTimeFormat);
-    map.put("dateFormat", dateFormat);
-    map.put("timeZoneId", timeZoneId);
-    map.put("imagesDirectory", "images/");
-    map.put("timeZone", clock.getZone().getId());
-    map.put("decimalFormat", decimalFormat);
-    map.put("user", currentUser.printName());
-    map.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
-
-    JasperReportsMultiFormatView jasperView =
-        jasperReportsViewService.getJasperReportsView(template, request);
-
-    String contentDisposition = "inline; filename=" + fileName + "." + format;
-
-    jasperView
-        .getContentDispositionMappings()
-        .setProperty(format, contentDisposition);
-
-    String templateType = template.getType();
-    if (ORDER_REPORT.equals(templateType)) {
-      return jasperReportsViewService.getOrderJasperReportView(jasperView, map);
-    } else {
-      return new ModelAndView(jasperView, map);
-    }
+    return template;
   }
 }
@@ -0,0 +1,47 @@
+package mw.gov.health.lmis.reports.web;
+
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.prometheus.client.hotspot.DefaultExports;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import javax.annotation.PostConstruct;
+
+/**
+ * Controller used for scraping the service metrics in the Prometheus text format. It is not a
+ * part of the public API. The metrics require an access token, unless they are scraped from one of
+ * the addresses allowed by the reports.metrics.allowedAddresses property.
+ */
+@RestController
+public class MetricsController {
+
+  /**
+   * Registers the metrics of the JVM, next to the metrics of the report rendering.
+   */
+  @PostConstruct
+  public void registerJvmMetrics() {
+    DefaultExports.initialize();
+  }
+
+  /**
+   * Returns all registered metrics.
+   *
+   * @return metrics in the Prometheus text format
+   */
+  @RequestMapping(value = "/reports/metrics", method = RequestMethod.GET)
+  public ResponseEntity<String> scrape() throws IOException {
+    StringWriter writer = new StringWriter();
+    TextFormat.write004(writer, CollectorRegistry.defaultRegistry.metricFamilySamples());
+
+    return ResponseEntity
+        .ok()
+        .header(HttpHeaders.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004)
+        .body(writer.toString());
+  }
+}
@@ -0,0 +1,33 @@
+package mw.gov.health.lmis.reports.web;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import mw.gov.health.lmis.reports.service.warmup.TemplateWarmup;
+
+/**
+ * Controller used for checking whether the service is ready for the requests, e.g. by a load
+ * balancer. Like the version endpoint, it is not a part of the public API and does not require
+ * authentication.
+ */
+@RestController
+public class ReadinessController {
+
+  @Autowired
+  private TemplateWarmup templateWarmup;
+
+  /**
+   * Checks whether the templates are warmed up.
+   *
+   * @return OK if the service is ready, SERVICE_UNAVAILABLE otherwise
+   */
+  @RequestMapping(value = "/reports/ready", method = RequestMethod.GET)
+  public ResponseEntity<Void> ready() {
+    return new ResponseEntity<>(templateWarmup.isReady() ? HttpStatus.OK
+        : HttpStatus.SERVICE_UNAVAILABLE);
+  }
+}
@@ -5,6 +5,7 @@ import static java.util.Arrays.asList;
 
 import static mw.gov.health.lmis.reports.i18n.JasperMessageKeys.ERROR_REPORTING_TEMPLATE_NOT_FOUND_WITH_NAME;
 import static mw.gov.health.lmis.reports.i18n.MessageKeys.ERROR_PHYSICAL_INVENTORY_FORMAT_NOT_ALLOWED;
+import static mw.gov.health.lmis.reports.service.render.JasperReportExporter.PDF;
 import static net.sf.jasperreports.engine.JRParameter.REPORT_LOCALE;
 import static net.sf.jasperreports.engine.JRParameter.REPORT_RESOURCE_BUNDLE;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
@@ -20,8 +21,8 @@ import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import javax.servlet.http.HttpServletRequest;
 
 import mw.gov.health.lmis.reports.domain.JasperTemplate;
 import mw.gov.health.lmis.reports.dto.external.GeographicZoneDto;
@@ -46,6 +47,8 @@ import mw.gov.health.lmis.reports.service.referencedata.OrderableReferenceDataSe
 import mw.gov.health.lmis.reports.service.referencedata.PeriodReferenceDataService;
 import mw.gov.health.lmis.reports.service.referencedata.PhysicalInventoryReferenceDataService;
 import mw.gov.health.lmis.reports.service.referencedata.ProgramReferenceDataService;
+import mw.gov.health.lmis.reports.service.render.JasperReportExporter;
+import mw.gov.health.lmis.reports.service.render.RenderLane;
 import mw.gov.health.lmis.reports.service.requisition.RequisitionService;
 import mw.gov.health.lmis.reports.service.stockmanagement.StockCardLineItemReasonDto;
 import mw.gov.health.lmis.reports.service.stockmanagement.StockCardLineItemReasonStockmanagementService;
@@ -55,6 +58,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
@@ -65,8 +69,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
-import org.springframework.web.servlet.ModelAndView;
-import org.springframework.web.servlet.view.jasperreports.JasperReportsMultiFormatView;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Controller
 @Transactional
@@ -114,6 +117,9 @@ public class ReportsController extends BaseController {
   @Autowired
   private RequisitionService requisitionService;
 
+  @Autowired
+  private JasperReportExporter jasperReportExporter;
+
   @Value("${dateTimeFormat}")
   private String dateTimeFormat;
 
@@ -129,6 +135,18 @@ public class ReportsController extends BaseController {
   @Value("${groupingSize}")
   private String groupingSize;
 
+  @Value("${reports.timeout.requisitions}")
+  private long requisitionTimeout;
+
+  @Value("${reports.timeout.physicalInventories}")
+  private long physicalInventoryTimeout;
+
+  @Value("${reports.timeout.proofsOfDelivery}")
+  private long proofOfDeliveryTimeout;
+
+  @Value("${reports.timeout.stockCardSummaries}")
+  private long stockCardSummariesTimeout;
+
   /**
    * Print out requisition as a PDF file.
    *
@@ -138,7 +156,7 @@ public class ReportsController extends BaseController {
    */
   @RequestMapping(value = "/requisitions/{id}/print", method = RequestMethod.GET)
   @ResponseBody
-  public ModelAndView print(HttpServletRequest request, @PathVariable("id") UUID id)
+  public DeferredResult<ResponseEntity<byte[]>> print(@PathVariable("id") UUID id)
           throws JasperReportViewException {
     RequisitionDto requisition = requisitionService.findOne(id);
 
@@ -148,7 +166,10 @@ public class ReportsController extends BaseController {
     }
     viewPermissionService.canViewRequisition(requisition);
 
-    return jasperReportsViewService.getRequisitionJasperReportView(requisition, request);
+    CompletableFuture<byte[]> render = jasperReportsViewService
+        .renderRequisitionReport(requisition);
+    return getReportResponse(render, requisitionTimeout, jasperReportExporter.getContentType(PDF),
+        "requisition_" + id + "." + PDF);
   }
 
   /**
@@ -161,10 +182,11 @@ public class ReportsController extends BaseController {
    */
   @GetMapping(value = "physicalInventories/{id}", params = FORMAT)
   @ResponseBody
-  public ModelAndView print(@PathVariable("id") UUID id, @RequestParam String format)
+  public DeferredResult<ResponseEntity<byte[]>> print(@PathVariable("id") UUID id,
+                                                      @RequestParam String format)
       throws JasperReportViewException {
-
-    checkFormat(format.toLowerCase());
+    String reportFormat = format.toLowerCase(Locale.ENGLISH);
+    checkFormat(reportFormat);
 
     JasperTemplate printTemplate = jasperTemplateRepository.findByName(PRINT_PI);
     if (printTemplate == null) {
@@ -172,10 +194,11 @@ public class ReportsController extends BaseController {
           new Message(ERROR_REPORTING_TEMPLATE_NOT_FOUND_WITH_NAME, PRINT_PI));
     }
 
-    JasperReportsMultiFormatView jasperView =
-        jasperReportsViewService.getJasperReportsView(printTemplate);
-
-    return new ModelAndView(jasperView, getParams(id, format));
+    CompletableFuture<byte[]> render = jasperReportsViewService.renderReport(printTemplate,
+        getParams(id, reportFormat), reportFormat, RenderLane.INTERACTIVE);
+    return getReportResponse(render, physicalInventoryTimeout,
+        jasperReportExporter.getContentType(reportFormat),
+        "physical_inventory_" + id + "." + reportFormat);
   }
 
   /**
@@ -184,16 +207,15 @@ public class ReportsController extends BaseController {
    * @param id UUID of ProofOfDelivery to print
    */
   @RequestMapping(value = "/proofsOfDelivery/{id}/print", method = RequestMethod.GET)
-  @ResponseStatus(HttpStatus.OK)
-  public ModelAndView printProofOfDelivery(HttpServletRequest request,
-                                           @PathVariable("id") UUID id,
-                                           OAuth2Authentication authentication)
+  @ResponseBody
+  public DeferredResult<ResponseEntity<byte[]>> printProofOfDelivery(
+      @PathVariable("id") UUID id, OAuth2Authentication authentication)
       throws JasperReportViewException {
 
     ProofOfDeliveryDto proofOfDelivery = findProofOfDelivery(id);
 
     Map<String, Object> params = new HashMap<>();
-    params.put(FORMAT, "pdf");
+    params.put(FORMAT, PDF);
     params.put("id", proofOfDelivery.getId());
     params.put("dateFormat", dateFormat);
     DecimalFormatSymbols decimalFormatSymbols = new DecimalFormatSymbols();
@@ -204,10 +226,11 @@ public class ReportsController extends BaseController {
     params.put("dateTimeFormat", dateTimeFormat);
     params.put("timeZoneId", timeZoneId);
 
-    JasperReportsMultiFormatView jasperView =
-        jasperReportsViewService.getJasperReportsView(POD_REPORT_URL);
-
-    return new ModelAndView(jasperView, params);
+    CompletableFuture<byte[]> render = jasperReportsViewService
+        .renderReport(POD_REPORT_URL, params, PDF);
+    return getReportResponse(render, proofOfDeliveryTimeout,
+        jasperReportExporter.getContentType(PDF),
+        "proof_of_delivery_" + id + "." + PDF);
   }
 
   /**
@@ -217,11 +240,16 @@ public class ReportsController extends BaseController {
    */
   @RequestMapping(value = "/stockCardSummaries/print", method = GET)
   @ResponseBody
-  public ModelAndView getStockCardSummaries(
+  public DeferredResult<ResponseEntity<byte[]>> getStockCardSummaries(
       @RequestParam("program") UUID program,
       @RequestParam("facility") UUID facility) throws JasperReportViewException {
     viewPermissionService.canViewStockCard(program, facility);
-    return jasperReportsViewService.getStockCardSummariesReportView(program, facility);
+
+    CompletableFuture<byte[]> render = jasperReportsViewService
+        .renderStockCardSummariesReport(program, facility);
+    return getReportResponse(render, stockCardSummariesTimeout,
+        jasperReportExporter.getContentType(PDF),
+        "stock_card_summaries." + PDF);
   }
 
   /**
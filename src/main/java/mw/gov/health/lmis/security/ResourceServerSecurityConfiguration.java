@@ -37,6 +37,9 @@ public class ResourceServerSecurityConfiguration implements ResourceServerConfig
   @Value("${auth.resourceId}")
   private String resourceId;
 
+  @Value("${reports.metrics.allowedAddresses}")
+  private String[] metricsAllowedAddresses;
+
   @Override
   public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
     resources.resourceId(resourceId);
@@ -63,13 +66,28 @@ public class ResourceServerSecurityConfiguration implements ResourceServerConfig
         .authorizeRequests()
         .antMatchers(
             "/reports",
+            "/reports/ready",
             "/webjars/**",
             "/reports/webjars/**",
             "/reports/docs/**"
         ).permitAll()
+        .antMatchers("/reports/metrics").access(getMetricsAccess())
         .antMatchers("/**").fullyAuthenticated();
   }
 
+  // the metrics can be scraped with a token, or without one from the allowed addresses only
+  private String getMetricsAccess() {
+    StringBuilder access = new StringBuilder("fullyAuthenticated");
+
+    for (String address : metricsAllowedAddresses) {
+      if (!address.trim().isEmpty()) {
+        access.append(" or hasIpAddress('").append(address.trim()).append("')");
+      }
+    }
+
+    return access.toString();
+  }
+
   /**
    * AccessTokenConverter bean initializer.
    */
@@ -0,0 +1,34 @@
+package mw.gov.health.lmis.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public final class Checksums {
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private Checksums() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Computes the SHA-256 hash of the data.
+   *
+   * @param data the data
+   * @return hash of the data as lower case hexadecimal text
+   */
+  public static String sha256(byte[] data) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+      char[] text = new char[digest.length * 2];
+
+      for (int i = 0; i < digest.length; ++i) {
+        text[2 * i] = HEX[digest[i] >> 4 & 0xF];
+        text[2 * i + 1] = HEX[digest[i] & 0xF];
+      }
+
+      return new String(text);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+-- Ancestor/descendant pairs of geographic zones, including the pair of each zone with itself,
+-- so the reports can find all zones within a zone without a recursive query.
+CREATE TABLE reports.geographic_zone_closure (
+    ancestorid uuid NOT NULL,
+    descendantid uuid NOT NULL,
+    depth integer NOT NULL,
+    CONSTRAINT geographic_zone_closure_pkey PRIMARY KEY (ancestorid, descendantid)
+);
+
+CREATE INDEX geographic_zone_closure_descendantid_idx
+    ON reports.geographic_zone_closure (descendantid);
+
+-- Brings the closure table in line with referencedata.geographic_zones. Only the changed pairs
+-- are written, so the refresh does not bloat the table when the zones have not changed.
+CREATE FUNCTION reports.refresh_geographic_zone_closure() RETURNS void AS $$
+BEGIN
+    DELETE FROM reports.geographic_zone_closure existing
+    WHERE NOT EXISTS (
+        WITH RECURSIVE closure AS (
+            SELECT id AS ancestorid, id AS descendantid
+            FROM referencedata.geographic_zones
+            UNION ALL
+            SELECT closure.ancestorid, zone.id
+            FROM closure
+            JOIN referencedata.geographic_zones zone ON zone.parentid = closure.descendantid
+        )
+        SELECT 1
+        FROM closure
+        WHERE closure.ancestorid = existing.ancestorid
+            AND closure.descendantid = existing.descendantid
+    );
+
+    INSERT INTO reports.geographic_zone_closure (ancestorid, descendantid, depth)
+    WITH RECURSIVE closure AS (
+        SELECT id AS ancestorid, id AS descendantid, 0 AS depth
+        FROM referencedata.geographic_zones
+        UNION ALL
+        SELECT closure.ancestorid, zone.id, closure.depth + 1
+        FROM closure
+        JOIN referencedata.geographic_zones zone ON zone.parentid = closure.descendantid
+    )
+    SELECT ancestorid, descendantid, depth
+    FROM closure
+    ON CONFLICT (ancestorid, descendantid) DO UPDATE
+    SET depth = EXCLUDED.depth
+    WHERE reports.geographic_zone_closure.depth <> EXCLUDED.depth;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Fill the table right away, if the reference data is available in this database
+DO $$
+BEGIN
+    IF to_regclass('referencedata.geographic_zones') IS NOT NULL THEN
+        PERFORM reports.refresh_geographic_zone_closure();
+    END IF;
+END;
+$$;
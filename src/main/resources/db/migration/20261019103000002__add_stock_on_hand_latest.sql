@@ -0,0 +1,82 @@
+-- Progress of the incremental refreshes of the reporting tables
+CREATE TABLE reports.reporting_table_watermarks (
+    tablename text NOT NULL,
+    watermark timestamp with time zone NOT NULL,
+    CONSTRAINT reporting_table_watermarks_pkey PRIMARY KEY (tablename)
+);
+
+-- The most recent calculated stock on hand of each stock card, so the stock reports do not have
+-- to rank the whole stock on hand history to find it.
+CREATE TABLE reports.stock_on_hand_latest (
+    stockcardid uuid NOT NULL,
+    stockonhand integer NOT NULL,
+    occurreddate date NOT NULL,
+    CONSTRAINT stock_on_hand_latest_pkey PRIMARY KEY (stockcardid)
+);
+
+CREATE INDEX stock_on_hand_latest_occurreddate_idx
+    ON reports.stock_on_hand_latest (occurreddate);
+
+-- Recalculates the latest stock on hand of the stock cards with line items processed since the
+-- previous refresh. Every change of the calculated stock on hand comes with a new line item. The
+-- refresh looks an hour behind the watermark, so line items that were committed late, with an
+-- earlier processed date than the ones already seen, are not missed.
+CREATE FUNCTION reports.refresh_stock_on_hand_latest() RETURNS void AS $$
+DECLARE
+    previous timestamp with time zone;
+    latest timestamp with time zone;
+BEGIN
+    SELECT watermark INTO previous
+    FROM reports.reporting_table_watermarks
+    WHERE tablename = 'stock_on_hand_latest'
+    FOR UPDATE;
+
+    DROP TABLE IF EXISTS pg_temp.changed_stock_cards;
+
+    CREATE TEMPORARY TABLE changed_stock_cards ON COMMIT DROP AS
+    SELECT stockcardid, max(processeddate) AS processeddate
+    FROM stockmanagement.stock_card_line_items
+    WHERE previous IS NULL OR processeddate > previous - interval '1 hour'
+    GROUP BY stockcardid;
+
+    SELECT max(processeddate) INTO latest FROM changed_stock_cards;
+
+    IF latest IS NULL THEN
+        RETURN;
+    END IF;
+
+    DELETE FROM reports.stock_on_hand_latest existing
+    USING changed_stock_cards changed
+    WHERE existing.stockcardid = changed.stockcardid
+        AND NOT EXISTS (
+            SELECT 1
+            FROM stockmanagement.calculated_stocks_on_hand soh
+            WHERE soh.stockcardid = changed.stockcardid
+        );
+
+    INSERT INTO reports.stock_on_hand_latest (stockcardid, stockonhand, occurreddate)
+    SELECT DISTINCT ON (soh.stockcardid) soh.stockcardid, soh.stockonhand, soh.occurreddate
+    FROM changed_stock_cards changed
+    JOIN stockmanagement.calculated_stocks_on_hand soh ON soh.stockcardid = changed.stockcardid
+    ORDER BY soh.stockcardid, soh.occurreddate DESC
+    ON CONFLICT (stockcardid) DO UPDATE
+    SET stockonhand = EXCLUDED.stockonhand,
+        occurreddate = EXCLUDED.occurreddate
+    WHERE reports.stock_on_hand_latest.stockonhand <> EXCLUDED.stockonhand
+        OR reports.stock_on_hand_latest.occurreddate <> EXCLUDED.occurreddate;
+
+    INSERT INTO reports.reporting_table_watermarks (tablename, watermark)
+    VALUES ('stock_on_hand_latest', latest)
+    ON CONFLICT (tablename) DO UPDATE
+    SET watermark = greatest(reports.reporting_table_watermarks.watermark, EXCLUDED.watermark);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Fill the table right away, if the stock management data is available in this database
+DO $$
+BEGIN
+    IF to_regclass('stockmanagement.calculated_stocks_on_hand') IS NOT NULL THEN
+        PERFORM reports.refresh_stock_on_hand_latest();
+    END IF;
+END;
+$$;
@@ -0,0 +1,3 @@
+UPDATE reports.jasper_templates
+SET data = '\xaced0005737200286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727400000000000027d80200034c000b636f6d70696c65446174617400164c6a6176612f696f2f53657269616c697a61626c653b4c0011636f6d70696c654e616d655375666669787400124c6a6176612f6c616e672f537472696e673b4c000d636f6d70696c6572436c61737371007e00027872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655265706f727400000000000027d802002b49001950534555444f5f53455249414c5f56455253494f4e5f55494449000c626f74746f6d4d617267696e49000b636f6c756d6e436f756e7449000d636f6c756d6e53706163696e6749000b636f6c756d6e57696474685a001069676e6f7265506167696e6174696f6e5a00136973466c6f6174436f6c756d6e466f6f7465725a0010697353756d6d6172794e6577506167655a0020697353756d6d6172795769746850616765486561646572416e64466f6f7465725a000e69735469746c654e65775061676549000a6c6566744d617267696e42000b6f7269656e746174696f6e49000a7061676548656967687449000970616765576964746842000a7072696e744f7264657249000b72696768744d617267696e490009746f704d617267696e42000e7768656e4e6f44617461547970654c000a6261636b67726f756e647400244c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b4c000f636f6c756d6e446972656374696f6e7400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f52756e446972656374696f6e456e756d3b4c000c636f6c756d6e466f6f74657271007e00044c000c636f6c756d6e48656164657271007e00045b000864617461736574737400285b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c000c64656661756c745374796c657400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000664657461696c71007e00044c000d64657461696c53656374696f6e7400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5253656374696f6e3b4c0012666f726d6174466163746f7279436c61737371007e00024c000a696d706f72747353657474000f4c6a6176612f7574696c2f5365743b4c00086c616e677561676571007e00024c000e6c61737450616765466f6f74657271007e00044c000b6d61696e446174617365747400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c00046e616d6571007e00024c00066e6f4461746171007e00044c00106f7269656e746174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f7269656e746174696f6e456e756d3b4c000a70616765466f6f74657271007e00044c000a7061676548656164657271007e00044c000f7072696e744f7264657256616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5072696e744f72646572456e756d3b4c000b73656374696f6e547970657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53656374696f6e54797065456e756d3b5b00067374796c65737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000773756d6d61727971007e00045b000974656d706c6174657374002f5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525265706f727454656d706c6174653b4c00057469746c6571007e00044c00137768656e4e6f446174615479706556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e4e6f4461746154797065456e756d3b78700000ea620000001400000001000000000000022b00000000000000001400000002530000034a000000001400000014007372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736542616e6400000000000027d802000849001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a000e697353706c6974416c6c6f7765644c00137072696e745768656e45787072657373696f6e74002a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e3b4c000d70726f706572746965734d617074002d4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572746965734d61703b4c000c72657475726e56616c7565737400104c6a6176612f7574696c2f4c6973743b4c000973706c6974547970657400104c6a6176612f6c616e672f427974653b4c000e73706c69745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53706c697454797065456e756d3b787200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7447726f757000000000000027d80200024c00086368696c6472656e71007e00154c000c656c656d656e7447726f757074002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52456c656d656e7447726f75703b7870737200136a6176612e7574696c2e41727261794c6973747881d21d99c7619d03000149000473697a6578700000000077040000000078700000ea620000000001707070707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53706c697454797065456e756d00000000000000001200007872000e6a6176612e6c616e672e456e756d00000000000000001200007870740007535452455443487e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e52756e446972656374696f6e456e756d00000000000000001200007871007e001e7400034c5452707371007e00127371007e001b0000000a77040000000a737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736552656374616e676c6500000000000027d80200014c00067261646975737400134c6a6176612f6c616e672f496e74656765723b787200356e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736547726170686963456c656d656e7400000000000027d802000449001950534555444f5f53455249414c5f56455253494f4e5f5549444c000466696c6c71007e00164c000966696c6c56616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f46696c6c456e756d3b4c00076c696e6550656e7400234c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e3b7872002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7400000000000027d802001b49001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a001769735072696e74496e466972737457686f6c6542616e645a001569735072696e74526570656174656456616c7565735a001a69735072696e745768656e44657461696c4f766572666c6f77735a0015697352656d6f76654c696e655768656e426c616e6b42000c706f736974696f6e5479706542000b7374726574636854797065490005776964746849000178490001794c00096261636b636f6c6f727400104c6a6176612f6177742f436f6c6f723b4c001464656661756c745374796c6550726f76696465727400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5244656661756c745374796c6550726f76696465723b4c000c656c656d656e7447726f757071007e00194c0009666f7265636f6c6f7271007e002c4c00036b657971007e00024c00046d6f646571007e00164c00096d6f646556616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4d6f6465456e756d3b4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c0011706f736974696f6e5479706556616c75657400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506f736974696f6e54797065456e756d3b4c00137072696e745768656e45787072657373696f6e71007e00134c00157072696e745768656e47726f75704368616e6765737400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572747945787072657373696f6e3b4c0010737472657463685479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5374726574636854797065456e756d3b4c0004757569647400104c6a6176612f7574696c2f555549443b78700000ea620000001e0001000000000000032100000000000000007372000e6a6176612e6177742e436f6c6f7201a51783108f337502000546000666616c70686149000576616c75654c0002637374001b4c6a6176612f6177742f636f6c6f722f436f6c6f7253706163653b5b00096672676276616c75657400025b465b00066676616c756571007e0037787000000000ffc0c0c070707071007e001171007e00247070707070707e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e506f736974696f6e54797065456e756d00000000000000001200007871007e001e7400134649585f52454c41544956455f544f5f544f5070707372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5250726f706572746965734d617000000000000027d80200034c00046261736571007e00144c000e70726f706572746965734c69737471007e00154c000d70726f706572746965734d617074000f4c6a6176612f7574696c2f4d61703b7870707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687478737200116a6176612e7574696c2e486173684d61700507dac1c31660d103000246000a6c6f6164466163746f724900097468726573686f6c6478703f400000000000037708000000040000000171007e0040740002707878707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5374726574636854797065456e756d00000000000000001200007871007e001e74000a4e4f5f535452455443487372000e6a6176612e7574696c2e55554944bc9903f7986d852f0200024a000c6c65617374536967426974734a000b6d6f7374536967426974737870ba9eb2b9f14d8eaa5ef622daa8e34110000077ee70707372002a6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550656e00000000000027d802000649001950534555444f5f53455249414c5f56455253494f4e5f5549444c00096c696e65436f6c6f7271007e002c4c00096c696e655374796c6571007e00164c000e6c696e655374796c6556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e655374796c65456e756d3b4c00096c696e6557696474687400114c6a6176612f6c616e672f466c6f61743b4c000c70656e436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e436f6e7461696e65723b78700000ea627070707372000f6a6176612e6c616e672e466c6f6174daedc9a2db3cf0ec02000146000576616c7565787200106a6176612e6c616e672e4e756d62657286ac951d0b94e08b02000078700000000071007e003470737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374617469635465787400000000000027d80200014c00047465787471007e0002787200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736554657874456c656d656e7400000000000027d802001949001950534555444f5f53455249414c5f56455253494f4e5f5549444c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e00274c0008666f6e7473697a6571007e004b4c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c75657400364c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e74003a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c54657874416c69676e456e756d3b4c00066973426f6c647400134c6a6176612f6c616e672f426f6f6c65616e3b4c000869734974616c696371007e00554c000d6973506466456d62656464656471007e00554c000f6973537472696b655468726f75676871007e00554c000c69735374796c65645465787471007e00554c000b6973556e6465726c696e6571007e00554c00076c696e65426f787400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524c696e65426f783b4c000b6c696e6553706163696e6771007e00164c00106c696e6553706163696e6756616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e6553706163696e67456e756d3b4c00066d61726b757071007e00024c00097061726167726170687400294c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525061726167726170683b4c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c0008726f746174696f6e71007e00164c000d726f746174696f6e56616c756574002f4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526f746174696f6e456e756d3b4c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c416c69676e456e756d3b4c0011766572746963616c54657874416c69676e7400384c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c54657874416c69676e456e756d3b7871007e002b0000ea620000001e000100000000000000be00000000000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e00479026f51a2676c8a9c9afe00079094d5c0000ea6270707070707e7200386e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e486f72697a6f6e74616c54657874416c69676e456e756d00000000000000001200007871007e001e7400044c454654737200116a6176612e6c616e672e426f6f6c65616ecd207280d59cfaee0200015a000576616c756578700170707070707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654c696e65426f7800000000000027d802000b4c000d626f74746f6d50616464696e6771007e00274c0009626f74746f6d50656e74002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f626173652f4a52426f7850656e3b4c000c626f78436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52426f78436f6e7461696e65723b4c000b6c65667450616464696e6771007e00274c00076c65667450656e71007e00644c000770616464696e6771007e00274c000370656e71007e00644c000c726967687450616464696e6771007e00274c0008726967687450656e71007e00644c000a746f7050616464696e6771007e00274c0006746f7050656e71007e00647870737200116a6176612e6c616e672e496e746567657212e2a0a4f781873802000149000576616c75657871007e004f00000001737200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78426f74746f6d50656e00000000000027d80200007872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f7850656e00000000000027d80200014c00076c696e65426f7871007e00567871007e00490000ea627371007e003500000000ff000000707070707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4c696e655374796c65456e756d00000000000000001200007871007e001e740005534f4c49447371007e004e0000000071007e006671007e006671007e005c7371007e006700000002737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f784c65667450656e00000000000027d80200007871007e006a0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e006671007e0066707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e006671007e006670737200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78526967687450656e00000000000027d80200007871007e006a0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e006671007e006670737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78546f7050656e00000000000027d80200007871007e006a0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e006671007e0066707070737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550617261677261706800000000000027d802000a4c000f66697273744c696e65496e64656e7471007e00274c000a6c656674496e64656e7471007e00274c000b6c696e6553706163696e6771007e00574c000f6c696e6553706163696e6753697a6571007e004b4c0012706172616772617068436f6e7461696e65727400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616772617068436f6e7461696e65723b4c000b7269676874496e64656e7471007e00274c000c73706163696e67416674657271007e00274c000d73706163696e674265666f726571007e00274c000c74616253746f70576964746871007e00274c000874616253746f707371007e001578707070707071007e005c70707070707070707070707e7200366e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e566572746963616c54657874416c69676e456e756d00000000000000001200007871007e001e7400064d4944444c45740008466163696c6974797371007e00510000ea620000001e00010000000000000045000000be000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e0047904cce2776bec05a3b8ce0a0f9e647530000ea62707070707071007e005f71007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e008a71007e008a71007e008871007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e008a71007e008a707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e008a71007e008a707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e008a71007e008a707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e008a71007e008a7070707371007e00817070707071007e0088707070707070707070707071007e008574000844697374726963747371007e00510000ea620000001e0001000000000000004600000103000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e0047b151be5f9cf7063374a64681460b4be80000ea62707070707071007e005f71007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e009e71007e009e71007e009c71007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e009e71007e009e707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e009e71007e009e707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e009e71007e009e707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e009e71007e009e7070707371007e00817070707071007e009c707070707070707070707071007e008574000a50726f647563742049447371007e00510000ea620000001e0001000000000000008d00000149000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e004785ad1952eed636dddb05e5bd25354de60000ea62707070707071007e005f71007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00b271007e00b271007e00b071007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00b271007e00b2707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e00b271007e00b2707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00b271007e00b2707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00b271007e00b27070707371007e00817070707071007e00b0707070707070707070707071007e008574000c50726f64756374204e616d657371007e00510000ea620000001e00010000000000000046000001d6000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e0047935b5027dea9f2024cd2a7bb4661496c0000ea6270707070707e71007e005e74000643454e54455271007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00c871007e00c871007e00c471007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00c871007e00c8707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e00c871007e00c8707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00c871007e00c8707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00c871007e00c87070707371007e00817070707071007e00c4707070707070707070707071007e008574000c4261746368204e756d6265727371007e00510000ea620000001e0001000000000000003c0000021c000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e00478365953232c5ce03df0df775dc9842ef0000ea62707070707071007e00c671007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00dc71007e00dc71007e00da71007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00dc71007e00dc707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e00dc71007e00dc707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00dc71007e00dc707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00dc71007e00dc7070707371007e00817070707071007e00da707070707070707070707071007e008574000b45787069727920446174657371007e00510000ea620000001e0001000000000000003c00000258000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e004787445b4d49d713521a7908dfeb6941400000ea62707070707071007e00c671007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00f071007e00f071007e00ee71007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00f071007e00f0707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e00f071007e00f0707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00f071007e00f0707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e00f071007e00f07070707371007e00817070707071007e00ee707070707070707070707071007e008574000d53746f636b206f6e2048616e647371007e00510000ea620000001e0001000000000000004e00000294000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e0047bd1a8880f460a64a02246c16fa9448c20000ea62707070707071007e00c671007e006270707070707371007e0063707371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e010471007e010471007e0102707371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e010471007e010471007e00717371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e010471007e0104707371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e010471007e0104707371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e010471007e01047070707371007e00817070707071007e0102707070707070707070707071007e008574000c4461746520757064617465647371007e00510000ea620000001e0001000000000000003f000002e2000000007071007e001171007e002470707070707071007e003a7070707071007e00457371007e00478815697aa84848e368fc94e193e54e960000ea62707070707071007e00c671007e006270707070707371007e006371007e00687371007e00690000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e011871007e011871007e011671007e00717371007e00720000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e011871007e0118707371007e006a0000ea627371007e003500000000ff80c7e870707070707371007e004e3f80000071007e011871007e011871007e00687371007e00790000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e011871007e011871007e00687371007e007d0000ea627371007e003500000000ff0000007070707071007e006e7371007e004e0000000071007e011871007e01187070707371007e00817070707071007e0116707070707070707070707071007e00857400104d6f6e74687320746f2045787069726578700000ea620000001e017070707071007e001f7070707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736553656374696f6e00000000000027d80200025b000562616e64737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b5b000570617274737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172743b7870757200255b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5242616e643b95dd7eec8cca85350200007870000000017371007e00127371007e001b0000000a77040000000a7371007e00260000ea62000000280001000000000000032100000000000000007371007e003500000000fff0f0f070707071007e001171007e013070707070707071007e003a707070707e71007e004474001752454c41544956455f544f5f42414e445f4845494748547371007e0047b474e9accdcd1c692de367b0e3ff42e2000077ee70707371007e00490000ea627070707371007e004e0000000071007e013270737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365546578744669656c6400000000000027d802001549001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a0015697353747265746368576974684f766572666c6f774c0014616e63686f724e616d6545787072657373696f6e71007e00134c000f6576616c756174696f6e47726f757071007e00304c00136576616c756174696f6e54696d6556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4576616c756174696f6e54696d65456e756d3b4c000a65787072657373696f6e71007e00134c001968797065726c696e6b416e63686f7245787072657373696f6e71007e00134c001768797065726c696e6b5061676545787072657373696f6e71007e00135b001368797065726c696e6b506172616d65746572737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5248797065726c696e6b506172616d657465723b4c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e00134c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e00134c001768797065726c696e6b5768656e45787072657373696f6e71007e00134c000f6973426c616e6b5768656e4e756c6c71007e00554c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00077061747465726e71007e00024c00117061747465726e45787072657373696f6e71007e00137871007e00520000ea6200000028000100000000000000be00000000000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047883bba6d9bcce6c222c747cace9b42ff0000ea62707070707071007e005f7371007e00610070707070707371007e0063707371007e00690000ea627070707071007e013f71007e013f71007e013c707371007e00720000ea627070707071007e013f71007e013f707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e013f71007e013f707371007e00790000ea627070707071007e013f71007e013f707371007e007d0000ea627070707071007e013f71007e013f7070707371007e008170707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4c696e6553706163696e67456e756d00000000000000001200007871007e001e74000c4f4e455f414e445f48414c467071007e013c707070707070707070707071007e00850000ea62000000000000000070707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4576616c756174696f6e54696d65456e756d00000000000000001200007871007e001e7400034e4f57737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e00000000000027d802000549000269645b00066368756e6b737400305b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e4368756e6b3b4c0004747970657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f45787072657373696f6e54797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e0002787000000017757200305b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5245787072657373696f6e4368756e6b3b6d59cfde694ba355020000787000000001737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e4368756e6b00000000000027d8020002420004747970654c00047465787471007e000278700374000c666163696c6974794e616d6570707070707070707071007e0062707070707371007e01390000ea620000002800010000000000000045000000be000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047818c2957b510aa63be6466f8ba724edc0000ea62707070707071007e005f71007e013e70707070707371007e0063707371007e00690000ea627070707071007e015971007e015971007e015771007e00717371007e00720000ea627070707071007e015971007e0159707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e015971007e0159707371007e00790000ea627070707071007e015971007e0159707371007e007d0000ea627070707071007e015971007e01597070707371007e0081707071007e01497071007e0157707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e000000187571007e0152000000017371007e015403740008646973747269637470707070707070707071007e0062707070707371007e01390000ea62000000280001000000000000004600000103000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047803f97fccd8c225618e7a1cda9454fb70000ea62707070707071007e00c671007e013e70707070707371007e0063707371007e00690000ea627070707071007e016871007e016871007e0166707371007e00720000ea627070707071007e016871007e0168707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e016871007e0168707371007e00790000ea627070707071007e016871007e0168707371007e007d0000ea627070707071007e016871007e01687070707371007e0081707071007e01497071007e0166707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e000000197571007e0152000000017371007e01540374000970726f64756374496470707070707070707071007e0062707070707371007e01390000ea62000000280001000000000000008d00000149000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047bf11f7b13edd26c9ab42938c4f7b46c90000ea62707070707071007e005f71007e013e70707070707371007e0063707371007e00690000ea627070707071007e017771007e017771007e0175707371007e00720000ea627070707071007e017771007e0177707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e017771007e0177707371007e00790000ea627070707071007e017771007e0177707371007e007d0000ea627070707071007e017771007e017770707400046e6f6e657371007e008170707e71007e014874000841545f4c454153547071007e0175707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e0000001a7571007e0152000000017371007e01540374000b70726f647563744e616d6570707070707070707071007e0062707070707371007e01390000ea620000002800010000000000000046000001d6000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047b70b6005eaabf0dc78e963fe1d674d4f0000ea62707070707071007e00c671007e013e70707070707371007e0063707371007e00690000ea627070707071007e018971007e018971007e0187707371007e00720000ea627070707071007e018971007e0189707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e018971007e0189707371007e00790000ea627070707071007e018971007e0189707371007e007d0000ea627070707071007e018971007e01897070707371007e0081707071007e01497071007e0187707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e0000001b7571007e0152000000017371007e01540374001270726f6475637442617463684e756d62657270707070707070707071007e0062707070707371007e01390000ea62000000280001000000000000003c0000021c000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047b915f7a3aa7d93285008306ed65e4e8f0000ea62707070707071007e00c671007e013e70707070707371007e0063707371007e00690000ea627070707071007e019871007e019871007e0196707371007e00720000ea627070707071007e019871007e0198707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e019871007e0198707371007e00790000ea627070707071007e019871007e0198707371007e007d0000ea627070707071007e019871007e01987070707371007e0081707071007e01497071007e0196707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e0000001c7571007e0152000000017371007e01540374001170726f647563744578706972794461746570707070707070707071007e0062707070707371007e01390000ea62000000280001000000000000003c00000258000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e00478d10d36048f6e909484c46c205e8461f0000ea62707070707071007e00c671007e013e70707070707371007e0063707371007e00690000ea627070707071007e01a771007e01a771007e01a5707371007e00720000ea627070707071007e01a771007e01a7707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e01a771007e01a7707371007e00790000ea627070707071007e01a771007e01a7707371007e007d0000ea627070707071007e01a771007e01a77070707371007e0081707071007e01497071007e01a5707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e0000001d7571007e0152000000017371007e0154037400087175616e7469747970707070707070707071007e0062707070707371007e01390000ea62000000280001000000000000004e00000294000000007071007e001171007e013070707070707071007e003a7070707071007e00457371007e0047a0a3f6fa9bf15a52439378214a3c4faf0000ea62707070707071007e00c671007e013e70707070707371007e0063707371007e00690000ea627070707071007e01b671007e01b671007e01b4707371007e00720000ea627070707071007e01b671007e01b6707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e01b671007e01b6707371007e00790000ea627070707071007e01b671007e01b6707371007e007d0000ea627070707071007e01b671007e01b67070707371007e0081707071007e01497071007e01b4707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e0000001e7571007e0152000000027371007e01540374000b6c617374557064617465647371007e0154017400102e737562737472696e6728302c31302970707070707070707071007e0062707070707371007e01390000ea62000000280001000000000000003f000002e2000000007071007e001171007e0130707070707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374796c65000000000000271102002f49001950534555444f5f53455249414c5f56455253494f4e5f5549445a0009697344656661756c744c00096261636b636f6c6f7271007e002c5b0011636f6e646974696f6e616c5374796c65737400315b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52436f6e646974696f6e616c5374796c653b4c001464656661756c745374796c6550726f766964657271007e002d4c000466696c6c71007e00164c000966696c6c56616c756571007e00294c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e00274c0008666f6e7473697a6571007e004b4c0009666f7265636f6c6f7271007e002c4c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e00534c0014686f72697a6f6e74616c496d616765416c69676e74003b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c496d616765416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e71007e00544c000f6973426c616e6b5768656e4e756c6c71007e00554c00066973426f6c6471007e00554c000869734974616c696371007e00554c000d6973506466456d62656464656471007e00554c000f6973537472696b655468726f75676871007e00554c000c69735374796c65645465787471007e00554c000b6973556e6465726c696e6571007e00554c00076c696e65426f7871007e00564c00076c696e6550656e71007e002a4c000b6c696e6553706163696e6771007e00164c00106c696e6553706163696e6756616c756571007e00574c00066d61726b757071007e00024c00046d6f646571007e00164c00096d6f646556616c756571007e002e4c00046e616d6571007e00024c000970617261677261706871007e00584c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c00077061747465726e71007e00024c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c000c706f736974696f6e5479706571007e00164c000672616469757371007e00274c0008726f746174696f6e71007e00164c000d726f746174696f6e56616c756571007e00594c000a7363616c65496d61676571007e00164c000f7363616c65496d61676556616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5363616c65496d616765456e756d3b4c000b737472657463685479706571007e00164c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c756571007e005a4c0012766572746963616c496d616765416c69676e7400394c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c496d616765416c69676e456e756d3b4c0011766572746963616c54657874416c69676e71007e005b78700000ea620070757200315b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52436f6e646974696f6e616c5374796c653b4e5a3cf37ff13552020000787000000001737200376e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365436f6e646974696f6e616c5374796c6500000000000027d80200014c0013636f6e646974696f6e45787072657373696f6e71007e00137871007e01c60000ea620070707070707070707371007e003500000000ffff040070707070707070707070707070707371007e0063707371007e00690000ea627070707071007e01d171007e01d171007e01cf707371007e00720000ea627070707071007e01d171007e01d1707371007e006a0000ea627070707071007e01d171007e01d1707371007e00790000ea627070707071007e01d171007e01d1707371007e007d0000ea627070707071007e01d171007e01d17371007e00490000ea627070707071007e01cf7070707070707371007e00817070707071007e01cf707070707071007e01cb7070707070707070707070707070707371007e014e0000001f7571007e0152000000047371007e01540374000e6d6f6e746873546f4578706972657371007e015401740009203c3d2033202626207371007e01540374000e6d6f6e746873546f4578706972657371007e015401740004203e203070707071007e001170707070707371007e003500000000ff00000070707070707070707070707070707371007e0063707371007e00690000ea627070707071007e01e471007e01e471007e01cb707371007e00720000ea627070707071007e01e471007e01e4707371007e006a0000ea627070707071007e01e471007e01e4707371007e00790000ea627070707071007e01e471007e01e4707371007e007d0000ea627070707071007e01e471007e01e47371007e00490000ea627070707071007e01cb70707070707400065374796c65317371007e00817070707071007e01cb70707070707070740000707070707070707070707070707071007e003a707070707e71007e004474001a52454c41544956455f544f5f54414c4c4553545f4f424a4543547371007e00478e17c57af01a1cddbefae801c55845bb0000ea62707070707071007e00c671007e013e70707070707371007e0063707371007e00690000ea627070707071007e01f171007e01f171007e01c5707371007e00720000ea627070707071007e01f171007e01f1707371007e006a0000ea627371007e003500000000ffd2d2d270707070707371007e004e3e80000071007e01f171007e01f1707371007e00790000ea627070707071007e01f171007e01f1707371007e007d0000ea627070707071007e01f171007e01f170707400046e6f6e657371007e0081707071007e01497071007e01c5707070707070707070707071007e00850000ea620000000000000000707071007e014c7371007e014e000000207571007e0152000000047371007e01540374000e6d6f6e746873546f4578706972657371007e01540174001a203e2030203f2028646f75626c65294d6174682e726f756e64287371007e01540374000e6d6f6e746873546f4578706972657371007e015401740019202a2031306429202f20313064203a2022455850495245442270707070707070707071007e00627070707078700000ea6200000028017371007e014e000000167571007e0152000000097371007e015401740001287371007e01540374000e6d6f6e746873546f4578706972657371007e015401740008203c2030202626207371007e01540274000f6578706972656450726f64756374737371007e0154017400152e657175616c73282274727565222929207c7c20287371007e01540374000e6d6f6e746873546f4578706972657371007e015401740008203e2030202626207371007e01540274000f6578706972656450726f64756374737371007e0154017400112e657175616c73282266616c73652229297070707371007e003c707371007e001b0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f7574787371007e00413f400000000000037708000000040000000171007e021b707870707e71007e001d74000750524556454e547070707400046a617661707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654461746173657400000000000027d802001249001950534555444f5f53455249414c5f56455253494f4e5f5549445a000669734d61696e4200177768656e5265736f757263654d697373696e67547970655b00066669656c64737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524669656c643b4c001066696c74657245787072657373696f6e71007e00135b000667726f7570737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c00046e616d6571007e00025b000a706172616d657465727374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616d657465723b4c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e737400385b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4461746173657450726f706572747945787072657373696f6e3b4c000571756572797400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572793b4c000e7265736f7572636542756e646c6571007e00024c000e7363726970746c6574436c61737371007e00025b000a7363726970746c65747374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525363726970746c65743b5b000a736f72744669656c647374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52536f72744669656c643b4c00047575696471007e00335b00097661726961626c65737400295b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525661726961626c653b4c001c7768656e5265736f757263654d697373696e675479706556616c756574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e5265736f757263654d697373696e6754797065456e756d3b78700000ea620100757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a524669656c643b023cdfc74e2af2700200007870000000097372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654669656c6400000000000027d80200064c000b6465736372697074696f6e71007e00024c00046e616d6571007e00024c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e7371007e00314c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e000278707074000c666163696c6974794e616d657371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d7074000864697374726963747371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d7074000970726f6475637449647371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d7074000b70726f647563744e616d657371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d7074001270726f6475637442617463684e756d6265727371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d7074001170726f64756374457870697279446174657371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d7074000b6c617374557064617465647371007e003c707070707400106a6176612e6c616e672e537472696e67707371007e022d707400087175616e746974797371007e003c7070707074000e6a6176612e6c616e672e4c6f6e67707371007e022d7074000e6d6f6e746873546f4578706972657371007e003c707070707400106a6176612e6c616e672e446f75626c657070707400206d616c6177695f73746f636b5f6f6e5f68616e645f62795f666163696c6974797572002a5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52506172616d657465723b22000c8d2ac36021020000787000000023737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365506172616d6574657200000000000027d802000a5a000e6973466f7250726f6d7074696e675a000f697353797374656d446566696e65644c001664656661756c7456616c756545787072657373696f6e71007e00134c000b6465736372697074696f6e71007e00024c000e6576616c756174696f6e54696d6574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506172616d657465724576616c756174696f6e54696d65456e756d3b4c00046e616d6571007e00024c000e6e6573746564547970654e616d6571007e00024c000d70726f706572746965734d617071007e00144c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870010170707074000e5245504f52545f434f4e54455854707371007e003c7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e5265706f7274436f6e74657874707371007e025501017070707400155245504f52545f504152414d45544552535f4d4150707371007e003c70707074000d6a6176612e7574696c2e4d6170707371007e025501017070707400164a41535045525f5245504f5254535f434f4e54455854707371007e003c7070707400306e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727473436f6e74657874707371007e0255010170707074000d4a41535045525f5245504f5254707371007e003c7070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f7274707371007e025501017070707400115245504f52545f434f4e4e454354494f4e707371007e003c7070707400136a6176612e73716c2e436f6e6e656374696f6e707371007e025501017070707400105245504f52545f4d41585f434f554e54707371007e003c7070707400116a6176612e6c616e672e496e7465676572707371007e025501017070707400125245504f52545f444154415f534f55524345707371007e003c7070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5244617461536f75726365707371007e025501017070707400105245504f52545f5343524950544c4554707371007e003c70707074002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5241627374726163745363726970746c6574707371007e0255010170707074000d5245504f52545f4c4f43414c45707371007e003c7070707400106a6176612e7574696c2e4c6f63616c65707371007e025501017070707400165245504f52545f5245534f555243455f42554e444c45707371007e003c7070707400186a6176612e7574696c2e5265736f7572636542756e646c65707371007e025501017070707400105245504f52545f54494d455f5a4f4e45707371007e003c7070707400126a6176612e7574696c2e54696d655a6f6e65707371007e025501017070707400155245504f52545f464f524d41545f464143544f5259707371007e003c70707074002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e7574696c2e466f726d6174466163746f7279707371007e025501017070707400135245504f52545f434c4153535f4c4f41444552707371007e003c7070707400156a6176612e6c616e672e436c6173734c6f61646572707371007e025501017070707400105245504f52545f54454d504c41544553707371007e003c7070707400146a6176612e7574696c2e436f6c6c656374696f6e707371007e0255010170707074000b534f52545f4649454c4453707371007e003c70707074000e6a6176612e7574696c2e4c697374707371007e0255010170707074000646494c544552707371007e003c7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4461746173657446696c746572707371007e025501017070707400125245504f52545f5649525455414c495a4552707371007e003c7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525669727475616c697a6572707371007e0255010170707074001449535f49474e4f52455f504147494e4154494f4e707371007e003c7070707400116a6176612e6c616e672e426f6f6c65616e707371007e0255010070707074000464617465707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e0255010070707074000770726f6772616d707371007e003c707371007e001b000000017704000000017400087265717569726564787371007e00413f400000000000037708000000040000000171007e02a774000474727565787400106a6176612e6c616e672e537472696e67707371007e0255010070707074000f6578706972656450726f64756374737400106a6176612e6c616e672e537472696e677371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e0255010070707074000c666163696c697479547970657400106a6176612e6c616e672e537472696e677371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000007571007e0152000000027371007e01540274000c666163696c697479547970657371007e01540174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c22297070707070740013666163696c6974795479706555706461746564707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000017571007e0152000000037371007e01540174000e4172726179732e61734c697374287371007e015402740013666163696c69747954797065557064617465647371007e0154017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b7070707070740010666163696c697479547970654c6973747400106a6176612e6c616e672e537472696e677371007e003c7070707400136a6176612e7574696c2e41727261794c697374707371007e02550100707070740008666163696c6974797400106a6176612e6c616e672e537472696e677371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000027571007e0152000000027371007e015402740008666163696c6974797371007e01540174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c2229707070707074000f666163696c69747955706461746564707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000037571007e0152000000037371007e01540174000e4172726179732e61734c697374287371007e01540274000f666163696c697479557064617465647371007e0154017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b707070707074000c666163696c6974794c6973747400106a6176612e6c616e672e537472696e677371007e003c7070707400136a6176612e7574696c2e41727261794c697374707371007e0255010070707074000970726f6475637449647400106a6176612e6c616e672e537472696e677371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000047571007e0152000000027371007e01540274000970726f6475637449647371007e01540174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c2229707070707074001070726f64756374496455706461746564707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000057571007e0152000000037371007e01540174000e4172726179732e61734c697374287371007e01540274001070726f647563744964557064617465647371007e0154017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b707070707074000d70726f6475637449644c6973747400106a6176612e6c616e672e537472696e677371007e003c7070707400136a6176612e7574696c2e41727261794c697374707371007e0255010070707074000b62617463684e756d6265727400106a6176612e6c616e672e537472696e677371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000067571007e0152000000027371007e01540274000b62617463684e756d6265727371007e01540174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c2229707070707074001262617463684e756d62657255706461746564707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e025500007371007e014e000000077571007e0152000000037371007e01540174000e4172726179732e61734c697374287371007e01540274001262617463684e756d626572557064617465647371007e0154017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b707070707074000f62617463684e756d6265724c6973747400106a6176612e6c616e672e537472696e677371007e003c7070707400136a6176612e7574696c2e41727261794c697374707371007e0255000070707074000f696d616765734469726563746f7279707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e0255000070707074000874696d655a6f6e65707371007e003c7070707400106a6176612e6c616e672e537472696e67707371007e003c707371007e001b0000000177040000000174002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572787371007e00413f400000000000037708000000040000000171007e032a7400064d616c61776978707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365517565727900000000000027d80200025b00066368756e6b7374002b5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572794368756e6b3b4c00086c616e677561676571007e000278707572002b5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5251756572794368756e6b3b409f00a1e8ba34a402000078700000002b737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736551756572794368756e6b00000000000027d8020004420004747970654c00047465787471007e00024c000e746f6b656e536570617261746f727400154c6a6176612f6c616e672f4368617261637465723b5b0006746f6b656e737400135b4c6a6176612f6c616e672f537472696e673b7870017405f8574954482066696e644368696c645a6f6e657320415320280a202053454c454354207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e2a0a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6964203d20636c6f737572652e64657363656e64616e7469640a290a73656c6563740a09736f685f646174612e666163696c6974794e616d6520617320666163696c6974794e616d652c0a09736f685f646174612e70726f6475637449642041532070726f6475637449642c0a09736f685f646174612e70726f647563744e616d652041532070726f647563744e616d652c0a09736f685f646174612e70726f6475637442617463684e756d6265722061732070726f6475637442617463684e756d6265722c0a09736f685f646174612e70726f64756374457870697279446174652061732070726f64756374457870697279446174652c0a09736f685f646174612e6c61737455706461746564206173206c617374557064617465642c0a0953554d28736f685f646174612e73746f636b6f6e68616e6429204153207175616e746974792c0a09736f685f646174612e6d6f6e746873546f457870697265204153206d6f6e746873546f4578706972652c0a09736f685f646174612e64697374726963742041532064697374726963740a46524f4d20280a0953454c4543540a090970726f64756374732e636f64652061732070726f6475637449642c0a090970726f64756374732e66756c6c70726f647563746e616d652061732070726f647563744e616d652c0a09096c6f74732e6c6f74636f64652061732070726f6475637442617463684e756d6265722c0a09096c6f74732e65787069726174696f6e646174652061732070726f64756374457870697279446174652c0a0909736f682e73746f636b6f6e68616e642041532073746f636b6f6e68616e642c0a0909666163696c69746965732e226e616d652220617320666163696c6974794e616d652c0a0909736f682e6f6363757272656464617465206173206c617374557064617465642c0a09097a6f6e65732e6e616d652061732064697374726963742c0a0909286578747261637428796561722066726f6d20616765286c6f74732e65787069726174696f6e64617465202c206e6f7728292929202a203132202b0a090965787472616374286d6f6e74682066726f6d20616765286c6f74732e65787069726174696f6e64617465202c206e6f7728292929202b202865787472616374286461792066726f6d20616765286c6f74732e65787069726174696f6e64617465202c206e6f7728292929202f20333029293a3a6e756d65726963206173206d6f6e746873546f4578706972652c0a090952414e4b202829204f56455220280a0909504152544954494f4e2042592070726f64756374732e69640a09094f524445522042592070726f64756374732e76657273696f6e6e756d6265722044455343292041532070726f647563745f76657273696f6e5f72616e6b2c0a090952414e4b202829204f56455220280a0909504152544954494f4e2042592070726f64756374732e69642c206c6f74732e6c6f74636f64650a09094f5244455220425920736f682e6f636375727265646461746520646573632920415320646174655f72616e6b0a0946524f4d0a090973746f636b6d616e6167656d656e742e73746f636b5f63617264732041532073746f636b5f63617264730a09094a4f494e20280a09090953454c454354206c61746573742e73746f636b6361726469642c206c61746573742e73746f636b6f6e68616e642c206c61746573742e6f63637572726564646174650a09090946524f4d207265706f7274732e73746f636b5f6f6e5f68616e645f6c6174657374204153206c61746573740a0909095748455245206c61746573742e6f63637572726564646174653a3a76617263686172203c3d2070707371007e0332027400046461746570707371007e0332017401433a3a766172636861720a090909554e494f4e20414c4c0a0909092853454c4543542044495354494e4354204f4e2028686973746f72792e73746f636b6361726469642920686973746f72792e73746f636b6361726469642c20686973746f72792e73746f636b6f6e68616e642c20686973746f72792e6f63637572726564646174650a09090946524f4d207265706f7274732e73746f636b5f6f6e5f68616e645f6c6174657374204153206c61746573740a0909094a4f494e2073746f636b6d616e6167656d656e742e63616c63756c617465645f73746f636b735f6f6e5f68616e6420415320686973746f7279204f4e20686973746f72792e73746f636b636172646964203d206c61746573742e73746f636b6361726469640a0909095748455245206c61746573742e6f63637572726564646174653a3a76617263686172203e2070707371007e0332027400046461746570707371007e0332017400333a3a766172636861720a09090909414e4420686973746f72792e6f63637572726564646174653a3a76617263686172203c3d2070707371007e0332027400046461746570707371007e03320174028d3a3a766172636861720a0909094f5244455220425920686973746f72792e73746f636b6361726469642c20686973746f72792e6f63637572726564646174652044455343290a09092920415320736f68204f4e20736f682e73746f636b636172646964203d2073746f636b5f63617264732e69640a09094a4f494e207265666572656e6365646174612e6f7264657261626c65732041532070726f6475637473204f4e2070726f64756374732e6964203d2073746f636b5f63617264732e6f7264657261626c6569640a09094c454654204a4f494e207265666572656e6365646174612e6c6f7473204153206c6f7473204f4e206c6f74732e6964203d2073746f636b5f63617264732e6c6f7469640a09094a4f494e207265666572656e6365646174612e666163696c697469657320415320666163696c6974696573204f4e20666163696c69746965732e6964203d2073746f636b5f63617264732e666163696c69747969640a09096a6f696e207265666572656e6365646174612e666163696c6974795f747970657320415320666163696c69746965735f7479706573204f4e20666163696c69746965735f74797065732e6964203d20666163696c69746965732e7479706569640a09094a4f494e207265666572656e6365646174612e70726f6772616d732041532070726f6772616d73204f4e2070726f6772616d732e6964203d2073746f636b5f63617264732e70726f6772616d69640a09094a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204153207a6f6e6573204f4e207a6f6e65732e6964203d20666163696c69746965732e67656f677261706869637a6f6e6569640a0977686572650a09092863617365200a09097768656e202870707371007e03320274000c666163696c6974795479706570707371007e0332017400163a3a76617263686172204953204e554c4c20414e442070707371007e033202740008666163696c69747970707371007e0332017400183a3a76617263686172204e4f544e554c4c29207468656e2070707371007e033204740021494e2c20666163696c69746965732e6e616d65202c666163696c6974794c697374737200136a6176612e6c616e672e436861726163746572348b47d96b1a267802000143000576616c75657870002c757200135b4c6a6176612e6c616e672e537472696e673badd256e7e91d7b47020000787000000003740002494e74001120666163696c69746965732e6e616d652074000c666163696c6974794c6973747371007e03320174000a0a0909207768656e202870707371007e03320274000c666163696c6974795479706570707371007e0332017400163a3a76617263686172204e4f544e554c4c20414e442070707371007e033202740008666163696c69747970707371007e0332017400183a3a76617263686172204953204e554c4c29207468656e2070707371007e03320474002b494e2c20666163696c69746965735f74797065732e6e616d652c20666163696c697479547970654c69737471007e034e7571007e034f00000003740002494e74001620666163696c69746965735f74797065732e6e616d6574001120666163696c697479547970654c6973747371007e0332017400090a09097768656e202870707371007e03320274000c666163696c6974795479706570707371007e0332017400163a3a76617263686172204e4f544e554c4c20414e442070707371007e033202740008666163696c69747970707371007e0332017400193a3a76617263686172204e4f544e554c4c29207468656e202870707371007e03320474002b494e2c20666163696c69746965735f74797065732e6e616d65202c666163696c697479547970654c69737471007e034e7571007e034f00000003740002494e74001720666163696c69746965735f74797065732e6e616d6520740010666163696c697479547970654c6973747371007e033201740004204f522070707371007e033204740021494e2c20666163696c69746965732e6e616d65202c666163696c6974794c69737471007e034e7571007e034f00000003740002494e74001120666163696c69746965732e6e616d652074000c666163696c6974794c6973747371007e03320174000a20290a0909656c73652070707371007e03320274000c666163696c6974795479706570707371007e0332017400163a3a76617263686172204953204e554c4c20414e442070707371007e033202740008666163696c69747970707371007e0332017400203a3a76617263686172204953204e554c4c0a0909656e64290a0909616e64202870707371007e03320274000b62617463684e756d62657270707371007e0332017400153a3a76617263686172204953204e554c4c204f522070707371007e033204740021494e2c206c6f74732e6c6f74636f64652c2062617463684e756d6265724c69737471007e034e7571007e034f00000003740002494e74000d206c6f74732e6c6f74636f64657400102062617463684e756d6265724c6973747371007e033201740009290a0909616e64202870707371007e03320274000970726f64756374496470707371007e0332017400153a3a76617263686172204953204e554c4c204f522070707371007e03320474002b494e2c2070726f64756374732e66756c6c70726f647563746e616d652c2070726f6475637449644c69737471007e034e7571007e034f00000003740002494e7400192070726f64756374732e66756c6c70726f647563746e616d6574000e2070726f6475637449644c6973747371007e033201740026290a0909414e442028736f682e6f63637572726564646174653a3a76617263686172203c3d2070707371007e0332027400046461746570707371007e0332017400223a3a76617263686172290a0909414e44202870726f6772616d732e6e616d65203d2070707371007e03320274000770726f6772616d70707371007e0332017401203a3a76617263686172290a2920415320736f685f646174610a574845524520736f685f646174612e646174655f72616e6b203d203120414e4420736f685f646174612e70726f647563745f76657273696f6e5f72616e6b203d20310a47524f555020425920736f685f646174612e666163696c6974794e616d652c20736f685f646174612e70726f647563744e616d652c20736f685f646174612e70726f6475637442617463684e756d6265722c2020736f685f646174612e70726f64756374457870697279446174652c20736f685f646174612e70726f6475637449642c20736f685f646174612e6c617374557064617465642c20736f685f646174612e6d6f6e746873546f4578706972652c20736f685f646174612e6469737472696374707074000373716c707070707371007e0047a7419f6306905a995da17652b7b64ee1757200295b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525661726961626c653b62e6837c982cb7440200007870000000077372002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655661726961626c6500000000000027d802001149001950534555444f5f53455249414c5f56455253494f4e5f55494442000b63616c63756c6174696f6e42000d696e6372656d656e74547970655a000f697353797374656d446566696e65644200097265736574547970654c001063616c63756c6174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f43616c63756c6174696f6e456e756d3b4c000a65787072657373696f6e71007e00134c000e696e6372656d656e7447726f757071007e00304c0012696e6372656d656e745479706556616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f496e6372656d656e7454797065456e756d3b4c001b696e6372656d656e746572466163746f7279436c6173734e616d6571007e00024c001f696e6372656d656e746572466163746f7279436c6173735265616c4e616d6571007e00024c0016696e697469616c56616c756545787072657373696f6e71007e00134c00046e616d6571007e00024c000a726573657447726f757071007e00304c000e72657365745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526573657454797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870000077ee000001007e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e43616c63756c6174696f6e456e756d00000000000000001200007871007e001e74000653595354454d70707e7200326e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e496e6372656d656e7454797065456e756d00000000000000001200007871007e001e7400044e4f4e4570707371007e014e000000087571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e746567657228312970707074000b504147455f4e554d424552707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e526573657454797065456e756d00000000000000001200007871007e001e7400065245504f525471007e026e707371007e03aa000077ee0000010071007e03b0707071007e03b37070707400134d41535445525f43555252454e545f504147457071007e03bb71007e026e707371007e03aa000077ee0000010071007e03b0707071007e03b37070707400124d41535445525f544f54414c5f50414745537071007e03bb71007e026e707371007e03aa000077ee0000010071007e03b0707071007e03b370707371007e014e000000097571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e746567657228312970707074000d434f4c554d4e5f4e554d424552707e71007e03ba7400045041474571007e026e707371007e03aa000077ee000001007e71007e03af740005434f554e547371007e014e0000000a7571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e03b370707371007e014e0000000b7571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c5245504f52545f434f554e547071007e03bb71007e026e707371007e03aa000077ee0000010071007e03ca7371007e014e0000000c7571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e03b370707371007e014e0000000d7571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e746567657228302970707074000a504147455f434f554e547071007e03c771007e026e707371007e03aa000077ee0000010071007e03ca7371007e014e0000000e7571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e03b370707371007e014e0000000f7571007e0152000000017371007e0154017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c434f4c554d4e5f434f554e54707e71007e03ba740006434f4c554d4e71007e026e707e72003c6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e5265736f757263654d697373696e6754797065456e756d00000000000000001200007871007e001e7400044e554c4c71007e0252707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f7269656e746174696f6e456e756d00000000000000001200007871007e001e7400094c414e4453434150457371007e00127371007e001b000000017704000000017372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365496d61676500000000000027d802001e49001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a000669734c617a7942000b6f6e4572726f72547970654c0014616e63686f724e616d6545787072657373696f6e71007e00134c000f6576616c756174696f6e47726f757071007e00304c00136576616c756174696f6e54696d6556616c756571007e013a4c000a65787072657373696f6e71007e00134c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e00534c0014686f72697a6f6e74616c496d616765416c69676e71007e01c84c001968797065726c696e6b416e63686f7245787072657373696f6e71007e00134c001768797065726c696e6b5061676545787072657373696f6e71007e00135b001368797065726c696e6b506172616d657465727371007e013b4c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e00134c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e00134c001768797065726c696e6b5768656e45787072657373696f6e71007e00134c000c69735573696e67436163686571007e00554c00076c696e65426f7871007e00564c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00106f6e4572726f725479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f6e4572726f7254797065456e756d3b4c000a7363616c65496d61676571007e00164c000f7363616c65496d61676556616c756571007e01c94c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c756571007e005a4c0012766572746963616c496d616765416c69676e71007e01ca7871007e00280000ea620000005a00010000000000000276000000640000000a7071007e001171007e03f170707070707071007e003a7070707071007e00457371007e0047a499a116c6d9835c09977b23c20a4c6b000077ee70707371007e00490000ea627070707071007e03f50000ea62000000000000000000707071007e014c7371007e014e000000217571007e0152000000037371007e01540174001f676574436c61737328292e6765745265736f75726365417353747265616d287371007e01540274000f696d616765734469726563746f72797371007e01540174001c202b20224d575f5374616e646172645f466f6f7465722e706e672229707070707070707070707070707371007e0063707371007e00690000ea627070707071007e040071007e040071007e03f5707371007e00720000ea627070707071007e040071007e0400707371007e006a0000ea627070707071007e040071007e0400707371007e00790000ea627070707071007e040071007e0400707371007e007d0000ea627070707071007e040071007e040070707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f6e4572726f7254797065456e756d00000000000000001200007871007e001e7400054552524f52707e72002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5363616c65496d616765456e756d00000000000000001200007871007e001e74000a46494c4c5f4652414d4570707078700000ea6200000064017070707071007e001f7371007e00127371007e001b0000000d77040000000d7371007e03f30000ea62000000320001000000000000003200000000000000037071007e001171007e040c70707070707071007e003a7070707071007e00457371007e0047bbd4a7ba6476a9c95f63058845824ff0000077ee70707371007e00490000ea627070707071007e040e0000ea62000000000000000000707071007e014c7371007e014e000000107571007e0152000000037371007e01540174001f676574436c61737328292e6765745265736f75726365417353747265616d287371007e01540274000f696d616765734469726563746f72797371007e015401740016202b20226d616c6177695f63726573742e706e672229707070707070707070707070707371007e0063707371007e00690000ea627070707071007e041971007e041971007e040e707371007e00720000ea627070707071007e041971007e0419707371007e006a0000ea627070707071007e041971007e0419707371007e00790000ea627070707071007e041971007e0419707371007e007d0000ea627070707071007e041971007e0419707071007e040770707070707371007e00510000ea620000002700010000000000000118000001050000000a7071007e001171007e040c70707070707071007e003a70707371007e003c707371007e001b00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00413f400000000000037708000000040000000171007e0422740005706978656c787071007e00457371007e0047b2a0f3b2882d62038e830df245ad4be40000ea6270707371007e004e41900000707071007e00c67070707070707371007e0063707371007e00690000ea627070707071007e042771007e042771007e041f707371007e00720000ea627070707071007e042771007e0427707371007e006a0000ea627070707071007e042771007e0427707371007e00790000ea627070707071007e042771007e0427707371007e007d0000ea627070707071007e042771007e04277070707371007e00817070707071007e041f707070707070707070707071007e008574001a4d696e6973747279206f66204865616c74682c204d616c6177697371007e00510000ea6200000014000100000000000000c600000000000000507071007e001171007e040c70707070707071007e003a7070707071007e00457371007e004785412da7e1a48466c99c8f1cd3d340200000ea62707070707071007e005f71007e006270707070707371007e0063707371007e00690000ea627070707071007e043171007e043171007e042f707371007e00720000ea627070707071007e043171007e0431707371007e006a0000ea627070707071007e043171007e0431707371007e00790000ea627070707071007e043171007e0431707371007e007d0000ea627070707071007e043171007e04317070707371007e00817070707071007e042f707070707070707070707071007e0085740009466163696c6974793a7371007e00510000ea6200000014000100000000000000de000001a2000000507071007e001171007e040c70707070707071007e003a7070707071007e00457371007e0047a24d2905dbe522313d6d8c2b1701483b0000ea62707070707071007e005f71007e006270707070707371007e0063707371007e00690000ea627070707071007e043b71007e043b71007e0439707371007e00720000ea627070707071007e043b71007e043b707371007e006a0000ea627070707071007e043b71007e043b707371007e00790000ea627070707071007e043b71007e043b707371007e007d0000ea627070707071007e043b71007e043b7070707371007e00817070707071007e0439707070707070707070707071007e008574000850726f6772616d3a7371007e00510000ea6200000014000100000000000000d0000000d2000000507071007e001171007e040c70707070707071007e003a7070707071007e00457371007e00479a1f5ab8e86adeb548e7b13274de44e80000ea6270707371007e004e41200000707071007e005f71007e006270707070707371007e0063707371007e00690000ea627070707071007e044671007e044671007e0443707371007e00720000ea627070707071007e044671007e0446707371007e006a0000ea627070707071007e044671007e0446707371007e00790000ea627070707071007e044671007e0446707371007e007d0000ea627070707071007e044671007e04467070707371007e00817070707071007e0443707070707070707070707071007e008574000d53746f636b206f6e204461793a7371007e00510000ea6200000014000100000000000000a100000280000000507071007e001171007e040c7071007e01ed7070707071007e003a70707371007e003c707371007e001b00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00413f400000000000037708000000040000000171007e0451740005706978656c787071007e00457371007e0047b9ee567234bef0544b505859702c45230000ea6270707371007e004e41200000707071007e005f71007e006270707070707371007e0063707371007e00690000ea627070707071007e045671007e045671007e044e707371007e00720000ea627070707071007e045671007e0456707371007e006a0000ea627070707071007e045671007e0456707371007e00790000ea627070707071007e045671007e0456707371007e007d0000ea627070707071007e045671007e045670707400046e6f6e657371007e00817070707071007e044e707070707070707070707071007e00857400105265706f72742052756e20446174653a7371007e00260000ea620000001b0001000000000000032100000000000000357371007e003500000000ffc0c0c070707071007e001171007e040c70707070707071007e003a70707371007e003c707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00413f400000000000037708000000040000000171007e04637400027078787071007e00457371007e0047920e06594b2ebeb61d9034c077df4000000077ee70707371007e00490000ea627070707371007e004e0000000071007e045f707371007e00510000ea620000001c0001000000000000032100000000000000357071007e001171007e040c7371007e003500000000ffffffff707070707070707071007e003a7070707071007e00457371007e0047a5759ce26c6cc21f105ff9af17db4b740000ea6270707371007e004e41900000707071007e00c671007e006270707070707371007e0063707371007e00690000ea627070707071007e046d71007e046d71007e0469707371007e00720000ea627070707071007e046d71007e046d707371007e006a0000ea627070707071007e046d71007e046d707371007e00790000ea627070707071007e046d71007e046d707371007e007d0000ea627070707071007e046d71007e046d7070707371007e00817070707071007e0469707070707070707070707071007e008574002253746f636b206f6e2048616e6420627920426174636820627920466163696c6974797371007e01390000ea6200000014000100000000000000c600000000000000647071007e001171007e040c70707070707071007e003a7070707071007e00457371007e0047bd5e280c405039c6a8565621bd194b760000ea627070707070707070707070707371007e0063707371007e00690000ea627070707071007e047771007e047771007e0475707371007e00720000ea627070707071007e047771007e0477707371007e006a0000ea627070707071007e047771007e0477707371007e00790000ea627070707071007e047771007e0477707371007e007d0000ea627070707071007e047771007e04777070707371007e00817070707071007e04757070707070707070707070700000ea620000000000000001707071007e014c7371007e014e000000117571007e01520000000e7371007e01540274000c666163696c697479547970657371007e01540174000f203d3d206e756c6c203f200a2009287371007e015402740008666163696c6974797371007e015401740013203d3d206e756c6c203f2022416c6c22203a207371007e015402740008666163696c6974797371007e01540174001d2e7265706c616365416c6c28223b222c20222c20222929203a0a2009287371007e015402740008666163696c6974797371007e01540174000b203d3d206e756c6c203f207371007e01540274000c666163696c697479547970657371007e01540174001b2e7265706c616365416c6c28223b222c20222c2229203a0a2009287371007e01540274000c666163696c697479547970657371007e0154017400092b20222c22202b20207371007e015402740008666163696c6974797371007e015401740017292e7265706c616365416c6c28223b222c20222c22292970707070707070707070707070707371007e01390000ea6200000014000100000000000000d0000000d2000000647071007e001171007e040c70707070707071007e003a7070707071007e00457371007e004787249ea5571e036936f32e3fb43e458c0000ea627070707070707070707070707371007e0063707371007e00690000ea627070707071007e049e71007e049e71007e049c707371007e00720000ea627070707071007e049e71007e049e707371007e006a0000ea627070707071007e049e71007e049e707371007e00790000ea627070707071007e049e71007e049e707371007e007d0000ea627070707071007e049e71007e049e7070707371007e00817070707071007e049c7070707070707070707070700000ea620000000000000000707071007e014c7371007e014e000000127571007e0152000000017371007e0154027400046461746570707070707070707070707070707371007e01390000ea6200000014000100000000000000de000001a2000000647071007e001171007e040c70707070707071007e003a7070707071007e00457371007e00478f2d0a1bfb108b89afb9092815d14cf10000ea627070707070707070707070707371007e0063707371007e00690000ea627070707071007e04ab71007e04ab71007e04a9707371007e00720000ea627070707071007e04ab71007e04ab707371007e006a0000ea627070707071007e04ab71007e04ab707371007e00790000ea627070707071007e04ab71007e04ab707371007e007d0000ea627070707071007e04ab71007e04ab7070707371007e00817070707071007e04a97070707070707070707070700000ea620000000000000000707071007e014c7371007e014e000000137571007e0152000000017371007e01540274000770726f6772616d70707070707070707070707070707371007e01390000ea6200000014000100000000000000a100000280000000647071007e001171007e040c70707070707071007e003a7070707071007e00457371007e0047953086290dcd415f1a79bec9bcf940b70000ea627070707070707070707070707371007e0063707371007e00690000ea627070707071007e04b871007e04b871007e04b6707371007e00720000ea627070707071007e04b871007e04b8707371007e006a0000ea627070707071007e04b871007e04b8707371007e00790000ea627070707071007e04b871007e04b8707371007e007d0000ea627070707071007e04b871007e04b87070707371007e00817070707071007e04b67070707070707070707070700000ea620000000000000000707071007e014c7371007e014e000000147571007e0152000000017371007e01540174005d6a6176612e74696d652e666f726d61742e4461746554696d65466f726d61747465722e6f665061747465726e2822797979792e4d4d2e646422292e666f726d6174286a6176612e74696d652e4c6f63616c446174652e6e6f772829293b70707070707070707070707070707371007e01390000ea620000001e00010000000000000064000002bd000000037071007e001171007e040c70707070707071007e003a7070707071007e00457371007e0047a6d22fdf4b475085f1db7f67876a48ce0000ea6270707070707e71007e005e74000552494748547070707070707371007e0063707371007e00690000ea627070707071007e04c771007e04c771007e04c3707371007e00720000ea627070707071007e04c771007e04c7707371007e006a0000ea627070707071007e04c771007e04c7707371007e00790000ea627070707071007e04c771007e04c7707371007e007d0000ea627070707071007e04c771007e04c77070707371007e00817070707071007e04c370707070707070707070707e71007e0084740003544f500000ea62000000000000000070707e71007e014b7400064d41535445527371007e014e000000157571007e0152000000047371007e01540174000a22506167652022202b207371007e0154047400134d41535445525f43555252454e545f504147457371007e01540174000c202b2022206f662022202b207371007e0154047400124d41535445525f544f54414c5f5041474553707070707070707070707070707078700000ea6200000096017070707071007e001f7e72002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5072696e744f72646572456e756d00000000000000001200007871007e001e740008564552544943414c7e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53656374696f6e54797065456e756d00000000000000001200007871007e001e74000442414e44757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525374796c653bd49cc311d905723502000078700000000171007e01cb70707371007e00127371007e001b0000000077040000000078700000ea6200000002017070707071007e001f7e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e4e6f4461746154797065456e756d00000000000000001200007871007e001e740016414c4c5f53454354494f4e535f4e4f5f44455441494c737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a525265706f7274436f6d70696c654461746100000000000027d80200034c001363726f7373746162436f6d70696c654461746171007e003d4c001264617461736574436f6d70696c654461746171007e003d4c00166d61696e44617461736574436f6d70696c654461746171007e000178707371007e00413f4000000000000077080000001000000000787371007e00413f400000000000007708000000100000000078757200025b42acf317f8060854e0020000787000003953cafebabe0000003402700700020100356d616c6177695f73746f636b5f6f6e5f68616e645f62795f666163696c6974795f313739323430363839343638385f33343935373007000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201000e706172616d657465725f646174650100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b01001b706172616d657465725f5245504f52545f434f4e4e454354494f4e010019706172616d657465725f696d616765734469726563746f7279010017706172616d657465725f70726f6475637449644c697374010017706172616d657465725f4a41535045525f5245504f525401001a706172616d657465725f5245504f52545f54494d455f5a4f4e4501001a706172616d657465725f5245504f52545f54454d504c41544553010011706172616d657465725f70726f6772616d01001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010019706172616d657465725f666163696c6974795570646174656401001a706172616d657465725f666163696c697479547970654c697374010019706172616d657465725f62617463684e756d6265724c69737401001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010015706172616d657465725f534f52545f4649454c4453010015706172616d657465725f62617463684e756d62657201001e706172616d657465725f49535f49474e4f52455f504147494e4154494f4e010019706172616d657465725f6578706972656450726f6475637473010010706172616d657465725f46494c544552010013706172616d657465725f70726f647563744964010016706172616d657465725f666163696c69747954797065010017706172616d657465725f5245504f52545f4c4f43414c45010012706172616d657465725f74696d655a6f6e6501001d706172616d657465725f666163696c6974795479706555706461746564010020706172616d657465725f4a41535045525f5245504f5254535f434f4e5445585401001a706172616d657465725f70726f6475637449645570646174656401001f706172616d657465725f5245504f52545f464f524d41545f464143544f5259010016706172616d657465725f666163696c6974794c69737401001c706172616d657465725f62617463684e756d62657255706461746564010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f4144455201001c706172616d657465725f5245504f52545f5649525455414c495a4552010012706172616d657465725f666163696c6974790100116669656c645f6c6173745570646174656401002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b0100146669656c645f6d6f6e746873546f45787069726501000e6669656c645f7175616e7469747901000f6669656c645f70726f6475637449640100176669656c645f70726f647563744578706972794461746501000e6669656c645f64697374726963740100126669656c645f666163696c6974794e616d650100116669656c645f70726f647563744e616d650100186669656c645f70726f6475637442617463684e756d6265720100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e540100063c696e69743e010003282956010004436f64650a0003003f0c003b003c09000100410c0005000609000100430c0007000609000100450c0008000609000100470c0009000609000100490c000a0006090001004b0c000b0006090001004d0c000c0006090001004f0c000d000609000100510c000e000609000100530c000f000609000100550c0010000609000100570c0011000609000100590c00120006090001005b0c00130006090001005d0c00140006090001005f0c0015000609000100610c0016000609000100630c0017000609000100650c0018000609000100670c0019000609000100690c001a0006090001006b0c001b0006090001006d0c001c0006090001006f0c001d000609000100710c001e000609000100730c001f000609000100750c0020000609000100770c0021000609000100790c00220006090001007b0c00230006090001007d0c00240006090001007f0c0025000609000100810c0026000609000100830c0027000609000100850c0028000609000100870c0029002a09000100890c002b002a090001008b0c002c002a090001008d0c002d002a090001008f0c002e002a09000100910c002f002a09000100930c0030002a09000100950c0031002a09000100970c0032002a09000100990c00330034090001009b0c00350034090001009d0c00360034090001009f0c0037003409000100a10c0038003409000100a30c0039003409000100a50c003a003401000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a000100aa0c00ab00ac01000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100ae0c00af00ac01000a696e69744669656c64730a000100b10c00b200ac010008696e6974566172730800b4010004646174650b00b600b80700b701000d6a6176612f7574696c2f4d61700c00b900ba010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b0700bc0100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465720800be0100115245504f52545f434f4e4e454354494f4e0800c001000f696d616765734469726563746f72790800c201000d70726f6475637449644c6973740800c401000d4a41535045525f5245504f52540800c60100105245504f52545f54494d455f5a4f4e450800c80100105245504f52545f54454d504c415445530800ca01000770726f6772616d0800cc0100105245504f52545f4d41585f434f554e540800ce0100105245504f52545f5343524950544c45540800d001000f666163696c697479557064617465640800d2010010666163696c697479547970654c6973740800d401000f62617463684e756d6265724c6973740800d60100155245504f52545f504152414d45544552535f4d41500800d80100165245504f52545f5245534f555243455f42554e444c450800da0100125245504f52545f444154415f534f555243450800dc01000b534f52545f4649454c44530800de01000b62617463684e756d6265720800e001001449535f49474e4f52455f504147494e4154494f4e0800e201000f6578706972656450726f64756374730800e401000646494c5445520800e601000970726f6475637449640800e801000c666163696c697479547970650800ea01000d5245504f52545f4c4f43414c450800ec01000874696d655a6f6e650800ee010013666163696c69747954797065557064617465640800f00100164a41535045525f5245504f5254535f434f4e544558540800f201001070726f647563744964557064617465640800f40100155245504f52545f464f524d41545f464143544f52590800f601000c666163696c6974794c6973740800f801001262617463684e756d626572557064617465640800fa01000e5245504f52545f434f4e544558540800fc0100135245504f52545f434c4153535f4c4f414445520800fe0100125245504f52545f5649525455414c495a4552080100010008666163696c69747908010201000b6c6173745570646174656407010401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c6408010601000e6d6f6e746873546f4578706972650801080100087175616e7469747908010a01001170726f647563744578706972794461746508010c010008646973747269637408010e01000c666163696c6974794e616d6508011001000b70726f647563744e616d6508011201001270726f6475637442617463684e756d62657208011401000b504147455f4e554d42455207011601002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650801180100134d41535445525f43555252454e545f5041474508011a0100124d41535445525f544f54414c5f504147455308011c01000d434f4c554d4e5f4e554d42455208011e01000c5245504f52545f434f554e5408012001000a504147455f434f554e5408012201000c434f4c554d4e5f434f554e540100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730701270100136a6176612f6c616e672f5468726f7761626c650a00bb01290c012a012b01000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b07012d0100106a6176612f6c616e672f537472696e6708012f0100023b3b080131010005434f4d4d410a012c01330c0134013501000a7265706c616365416c6c010038284c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0801370100013b0801390100012c08013b0100075c732a2c5c732a0a012c013d0c013e013f01000573706c6974010027284c6a6176612f6c616e672f537472696e673b295b4c6a6176612f6c616e672f537472696e673b0a014101430701420100106a6176612f7574696c2f4172726179730c0144014501000661734c697374010025285b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f7574696c2f4c6973743b0b0147014907014801000e6a6176612f7574696c2f4c6973740c014a014b01000673747265616d01001b28294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c014d014e0100056170706c7901001f28294c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b120000014c0b015101530701520100176a6176612f7574696c2f73747265616d2f53747265616d0c015401550100036d6170010038284c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c00b9015701001f28294c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b12000101560a015a015c07015b01001b6a6176612f7574696c2f73747265616d2f436f6c6c6563746f72730c015d015e01000c746f436f6c6c656374696f6e01003b284c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b294c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b0b015101600c01610162010007636f6c6c656374010030284c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b294c6a6176612f6c616e672f4f626a6563743b120002014c1200030156120004014c1200050156120006014c120007015607016a0100116a6176612f6c616e672f496e74656765720a0169016c0c003b016d010004284929560a016f01710701700100106a6176612f6c616e672f4f626a6563740c01720173010008676574436c61737301001328294c6a6176612f6c616e672f436c6173733b0701750100176a6176612f6c616e672f537472696e674275696c6465720a012c01770c0178017901000776616c75654f66010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0a0174017b0c003b017c010015284c6a6176612f6c616e672f537472696e673b295608017e0100106d616c6177695f63726573742e706e670a017401800c01810182010006617070656e6401002d284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e674275696c6465723b0a017401840c01850186010008746f537472696e6701001428294c6a6176612f6c616e672f537472696e673b0a0188018a07018901000f6a6176612f6c616e672f436c6173730c018b018c0100136765745265736f75726365417353747265616d010029284c6a6176612f6c616e672f537472696e673b294c6a6176612f696f2f496e70757453747265616d3b08018e010003416c6c0801900100022c2008019201000a797979792e4d4d2e64640a019401960701950100226a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465720c019701980100096f665061747465726e010038284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465723b0a019a019c07019b0100136a6176612f74696d652f4c6f63616c446174650c019d019e0100036e6f7701001728294c6a6176612f74696d652f4c6f63616c446174653b0a019401a00c01a101a2010006666f726d6174010039284c6a6176612f74696d652f74656d706f72616c2f54656d706f72616c4163636573736f723b294c6a6176612f6c616e672f537472696e673b0801a401000550616765200a011501290a017401a70c018101a801002d284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e674275696c6465723b0801aa010004206f66200a010301290701ad0100106a6176612f6c616e672f446f75626c650a01ac01af0c01b001b101000b646f75626c6556616c75650100032829440801b3010004747275650a012c01b50c01b601b7010006657175616c73010015284c6a6176612f6c616e672f4f626a6563743b295a0801b901000566616c73650a01bb01bd0701bc0100116a6176612f6c616e672f426f6f6c65616e0c017801be010016285a294c6a6176612f6c616e672f426f6f6c65616e3b0701c001000e6a6176612f6c616e672f4c6f6e670a012c01c20c01c301c4010009737562737472696e67010016284949294c6a6176612f6c616e672f537472696e673b0640080000000000000640240000000000000a01ca01cc0701cb01000e6a6176612f6c616e672f4d6174680c01cd01ce010005726f756e640100042844294a0a01ac01d00c017801d10100152844294c6a6176612f6c616e672f446f75626c653b0801d3010007455850495245440801d50100164d575f5374616e646172645f466f6f7465722e706e6701000d537461636b4d61705461626c6501000b6576616c756174654f6c64120008014c120009015612000a014c12000b015612000c014c12000d015612000e014c12000f01560a011501e10c01e2012b01000b6765744f6c6456616c75650a010301e10100116576616c75617465457374696d61746564120010014c1200110156120012014c1200130156120014014c1200150156120016014c12001701560a011501ee0c01ef012b010011676574457374696d6174656456616c75650100086c616d6264612430010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0100086c616d62646124310100086c616d62646124320100086c616d62646124330100086c616d62646124340100086c616d62646124350100086c616d62646124360100086c616d62646124370100086c616d62646124380100086c616d62646124390100096c616d6264612431300100096c616d62646124313101000a536f7572636546696c65010010426f6f7473747261704d6574686f64730a020002020702010100226a6176612f6c616e672f696e766f6b652f4c616d6264614d657461666163746f72790c0203020401000b6d657461666163746f72790100cc284c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b75703b4c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b294c6a6176612f6c616e672f696e766f6b652f43616c6c536974653b0f0601ff1000ba0a000102080c01f001f10f0602071001f110012b0a020d003f07020e0100136a6176612f7574696c2f41727261794c6973740f08020c01001728294c6a6176612f7574696c2f41727261794c6973743b1002101000ba0a000102140c01f201f10f0602131001f110012b0f08020c1002101000ba0a0001021c0c01f301f10f06021b1001f110012b0f08020c1002101000ba0a000102240c01f401f10f0602231001f110012b0f08020c1002101000ba0a0001022c0c01f501f10f06022b1001f110012b0f08020c1002101000ba0a000102340c01f601f10f0602331001f110012b0f08020c1002101000ba0a0001023c0c01f701f10f06023b1001f110012b0f08020c1002101000ba0a000102440c01f801f10f0602431001f110012b0f08020c1002101000ba0a0001024c0c01f901f10f06024b1001f110012b0f08020c1002101000ba0a000102540c01fa01f10f0602531001f110012b0f08020c1002101000ba0a0001025c0c01fb01f10f06025b1001f110012b0f08020c1002101000ba0a000102640c01fc01f10f0602631001f110012b0f08020c10021001000c496e6e6572436c617373657307026c0100256a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b757007026e01001e6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c65730100064c6f6f6b75700021000100030000003300020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d000600000002001e000600000002001f0006000000020020000600000002002100060000000200220006000000020023000600000002002400060000000200250006000000020026000600000002002700060000000200280006000000020029002a00000002002b002a00000002002c002a00000002002d002a00000002002e002a00000002002f002a000000020030002a000000020031002a000000020032002a00000002003300340000000200350034000000020036003400000002003700340000000200380034000000020039003400000002003a0034000000140001003b003c0001003d000001ec00020001000001042ab7003e2a01b500402a01b500422a01b500442a01b500462a01b500482a01b5004a2a01b5004c2a01b5004e2a01b500502a01b500522a01b500542a01b500562a01b500582a01b5005a2a01b5005c2a01b5005e2a01b500602a01b500622a01b500642a01b500662a01b500682a01b5006a2a01b5006c2a01b5006e2a01b500702a01b500722a01b500742a01b500762a01b500782a01b5007a2a01b5007c2a01b5007e2a01b500802a01b500822a01b500842a01b500862a01b500882a01b5008a2a01b5008c2a01b5008e2a01b500902a01b500922a01b500942a01b500962a01b500982a01b5009a2a01b5009c2a01b5009e2a01b500a02a01b500a22a01b500a4b10000000100a6000000d6003500000012000400190009001a000e001b0013001c0018001d001d001e0022001f00270020002c00210031002200360023003b00240040002500450026004a0027004f0028005400290059002a005e002b0063002c0068002d006d002e0072002f00770030007c00310081003200860033008b00340090003500950036009a0037009f003800a4003900a9003a00ae003b00b3003c00b8003d00bd003e00c2003f00c7004000cc004100d1004200d6004300db004400e0004500e5004600ea004700ef004800f4004900f9004a00fe004b01030012000100a700a80001003d0000003400020004000000102a2bb700a92a2cb700ad2a2db700b0b10000000100a60000001200040000005700050058000a0059000f005a000200ab00ac0001003d000002b2000300020000020e2a2b12b3b900b50200c000bbb500402a2b12bdb900b50200c000bbb500422a2b12bfb900b50200c000bbb500442a2b12c1b900b50200c000bbb500462a2b12c3b900b50200c000bbb500482a2b12c5b900b50200c000bbb5004a2a2b12c7b900b50200c000bbb5004c2a2b12c9b900b50200c000bbb5004e2a2b12cbb900b50200c000bbb500502a2b12cdb900b50200c000bbb500522a2b12cfb900b50200c000bbb500542a2b12d1b900b50200c000bbb500562a2b12d3b900b50200c000bbb500582a2b12d5b900b50200c000bbb5005a2a2b12d7b900b50200c000bbb5005c2a2b12d9b900b50200c000bbb5005e2a2b12dbb900b50200c000bbb500602a2b12ddb900b50200c000bbb500622a2b12dfb900b50200c000bbb500642a2b12e1b900b50200c000bbb500662a2b12e3b900b50200c000bbb500682a2b12e5b900b50200c000bbb5006a2a2b12e7b900b50200c000bbb5006c2a2b12e9b900b50200c000bbb5006e2a2b12ebb900b50200c000bbb500702a2b12edb900b50200c000bbb500722a2b12efb900b50200c000bbb500742a2b12f1b900b50200c000bbb500762a2b12f3b900b50200c000bbb500782a2b12f5b900b50200c000bbb5007a2a2b12f7b900b50200c000bbb5007c2a2b12f9b900b50200c000bbb5007e2a2b12fbb900b50200c000bbb500802a2b12fdb900b50200c000bbb500822a2b12ffb900b50200c000bbb50084b10000000100a600000092002400000062000f0063001e0064002d0065003c0066004b0067005a0068006900690078006a0087006b0096006c00a5006d00b4006e00c3006f00d2007000e1007100f0007200ff0073010e0074011d0075012c0076013b0077014a0078015900790168007a0177007b0186007c0195007d01a4007e01b3007f01c2008001d1008101e0008201ef008301fe0084020d0085000200af00ac0001003d000000cc00030002000000902a2b130101b900b50200c00103b500862a2b130105b900b50200c00103b500882a2b130107b900b50200c00103b5008a2a2b12e5b900b50200c00103b5008c2a2b130109b900b50200c00103b5008e2a2b13010bb900b50200c00103b500902a2b13010db900b50200c00103b500922a2b13010fb900b50200c00103b500942a2b130111b900b50200c00103b50096b10000000100a60000002a000a0000008d0010008e0020008f00300090003f0091004f0092005f0093006f0094007f0095008f0096000200b200ac0001003d000000a500030002000000712a2b130113b900b50200c00115b500982a2b130117b900b50200c00115b5009a2a2b130119b900b50200c00115b5009c2a2b13011bb900b50200c00115b5009e2a2b13011db900b50200c00115b500a02a2b13011fb900b50200c00115b500a22a2b130121b900b50200c00115b500a4b10000000100a60000002200080000009e0010009f002000a0003000a1004000a2005000a3006000a4007000a5000101230124000201250000000400010126003d0000063600040003000004b6014d1baa000004b1000000000000002100000095000000b5000000e8000001080000013b0000015b0000018e000001ae000001e1000001ed000001f900000205000002110000021d00000229000002350000024100000269000002f900000307000003150000032500000356000003ac000003ba000003c8000003d6000003e4000003f2000004000000040e00000422000004540000048c2ab4006cb60128c0012c13012e130130b60132130136130138b601324da703ff2ab40072b60128c0012c13013ab6013cb80140b901460100ba014f0000b901500200ba01580000b80159b9015f02004da703cc2ab40084b60128c0012c13012e130130b60132130136130138b601324da703ac2ab40054b60128c0012c13013ab6013cb80140b901460100ba01630000b901500200ba01640000b80159b9015f02004da703792ab4006ab60128c0012c13012e130130b60132130136130138b601324da703592ab40076b60128c0012c13013ab6013cb80140b901460100ba01650000b901500200ba01660000b80159b9015f02004da703262ab40062b60128c0012c13012e130130b60132130136130138b601324da703062ab4007cb60128c0012c13013ab6013cb80140b901460100ba01670000b901500200ba01680000b80159b9015f02004da702d3bb01695904b7016b4da702c7bb01695904b7016b4da702bbbb01695904b7016b4da702afbb01695903b7016b4da702a3bb01695904b7016b4da70297bb01695903b7016b4da7028bbb01695904b7016b4da7027fbb01695903b7016b4da702732ab6016ebb0174592ab40044b60128c0012cb80176b7017a13017db6017fb60183b601874da7024b2ab4006cb60128c0012cc7002c2ab40084b60128c0012cc7000913018da7006f2ab40084b60128c0012c13013613018fb60132a700592ab40084b60128c0012cc700192ab4006cb60128c0012c130136130138b60132a70036bb0174592ab4006cb60128c0012cb80176b7017a130138b6017f2ab40084b60128c0012cb6017fb60183130136130138b601324da701bb2ab40040b60128c0012c4da701ad2ab4004eb60128c0012c4da7019f130191b80193b80199b6019f4da7018fbb0174591301a3b7017a2ab4009ab601a5c00169b601a61301a9b6017f2ab4009cb601a5c00169b601a6b601834da7015e2ab40088b601abc001acb601ae0e989c00162ab40066b60128c0012c1301b2b601b49a002c2ab40088b601abc001acb601ae0e979e00162ab40066b60128c0012c1301b8b601b49a000703a7000404b801ba4da701082ab40092b601abc0012c4da700fa2ab40090b601abc0012c4da700ec2ab4008cb601abc0012c4da700de2ab40094b601abc0012c4da700d02ab40096b601abc0012c4da700c22ab4008eb601abc0012c4da700b42ab4008ab601abc001bf4da700a62ab40086b601abc0012c03100ab601c14da700922ab40088b601abc001acb601ae1401c5989d00192ab40088b601abc001acb601ae0e979e000704a7000403b801ba4da700602ab40088b601abc001acb601ae0e979e00222ab40088b601abc001acb601ae1401c76bb801c98a1401c76fb801cfa700061301d24da700282ab6016ebb0174592ab40044b60128c0012cb80176b7017a1301d4b6017fb60183b601874d2cb00000000200a60000012a004a000000ad000200af009800b300b500b400b800b800e800b900eb00bd010800be010b00c2013b00c3013e00c7015b00c8015e00cc018e00cd019100d101ae00d201b100d601e100d701e400db01ed00dc01f000e001f900e101fc00e5020500e6020800ea021100eb021400ef021d00f0022000f4022900f5022c00f9023500fa023800fe024100ff0244010302690104026c01080279010902a2010a02c5010b02f8010802f9010c02fc011003070111030a0115031501160318011a0325011b0328011f035601200359012403ac012503af012903ba012a03bd012e03c8012f03cb013303d6013403d9013803e4013903e7013d03f2013e03f501420400014304030147040e01480411014c0422014d042501510454015204570156048c0157048f015b04b4016301d60000003e002ffc009807016f1f321f321f321f320b0b0b0b0b0b0b0b271f15227207016f030d0d0f302424034001060d0d0d0d0d0d0d1329400106304207016f0324000101d70124000201250000000400010126003d0000063600040003000004b6014d1baa000004b1000000000000002100000095000000b5000000e8000001080000013b0000015b0000018e000001ae000001e1000001ed000001f900000205000002110000021d00000229000002350000024100000269000002f900000307000003150000032500000356000003ac000003ba000003c8000003d6000003e4000003f2000004000000040e00000422000004540000048c2ab4006cb60128c0012c13012e130130b60132130136130138b601324da703ff2ab40072b60128c0012c13013ab6013cb80140b901460100ba01d80000b901500200ba01d90000b80159b9015f02004da703cc2ab40084b60128c0012c13012e130130b60132130136130138b601324da703ac2ab40054b60128c0012c13013ab6013cb80140b901460100ba01da0000b901500200ba01db0000b80159b9015f02004da703792ab4006ab60128c0012c13012e130130b60132130136130138b601324da703592ab40076b60128c0012c13013ab6013cb80140b901460100ba01dc0000b901500200ba01dd0000b80159b9015f02004da703262ab40062b60128c0012c13012e130130b60132130136130138b601324da703062ab4007cb60128c0012c13013ab6013cb80140b901460100ba01de0000b901500200ba01df0000b80159b9015f02004da702d3bb01695904b7016b4da702c7bb01695904b7016b4da702bbbb01695904b7016b4da702afbb01695903b7016b4da702a3bb01695904b7016b4da70297bb01695903b7016b4da7028bbb01695904b7016b4da7027fbb01695903b7016b4da702732ab6016ebb0174592ab40044b60128c0012cb80176b7017a13017db6017fb60183b601874da7024b2ab4006cb60128c0012cc7002c2ab40084b60128c0012cc7000913018da7006f2ab40084b60128c0012c13013613018fb60132a700592ab40084b60128c0012cc700192ab4006cb60128c0012c130136130138b60132a70036bb0174592ab4006cb60128c0012cb80176b7017a130138b6017f2ab40084b60128c0012cb6017fb60183130136130138b601324da701bb2ab40040b60128c0012c4da701ad2ab4004eb60128c0012c4da7019f130191b80193b80199b6019f4da7018fbb0174591301a3b7017a2ab4009ab601e0c00169b601a61301a9b6017f2ab4009cb601e0c00169b601a6b601834da7015e2ab40088b601e3c001acb601ae0e989c00162ab40066b60128c0012c1301b2b601b49a002c2ab40088b601e3c001acb601ae0e979e00162ab40066b60128c0012c1301b8b601b49a000703a7000404b801ba4da701082ab40092b601e3c0012c4da700fa2ab40090b601e3c0012c4da700ec2ab4008cb601e3c0012c4da700de2ab40094b601e3c0012c4da700d02ab40096b601e3c0012c4da700c22ab4008eb601e3c0012c4da700b42ab4008ab601e3c001bf4da700a62ab40086b601e3c0012c03100ab601c14da700922ab40088b601e3c001acb601ae1401c5989d00192ab40088b601e3c001acb601ae0e979e000704a7000403b801ba4da700602ab40088b601e3c001acb601ae0e979e00222ab40088b601e3c001acb601ae1401c76bb801c98a1401c76fb801cfa700061301d24da700282ab6016ebb0174592ab40044b60128c0012cb80176b7017a1301d4b6017fb60183b601874d2cb00000000200a60000012a004a0000016c0002016e0098017200b5017300b8017700e8017800eb017c0108017d010b0181013b0182013e0186015b0187015e018b018e018c0191019001ae019101b1019501e1019601e4019a01ed019b01f0019f01f901a001fc01a4020501a5020801a9021101aa021401ae021d01af022001b3022901b4022c01b8023501b9023801bd024101be024401c2026901c3026c01c7027901c802a201c902c501ca02f801c702f901cb02fc01cf030701d0030a01d4031501d5031801d9032501da032801de035601df035901e303ac01e403af01e803ba01e903bd01ed03c801ee03cb01f203d601f303d901f703e401f803e701fc03f201fd03f502010400020204030206040e02070411020b0422020c042502100454021104570215048c0216048f021a04b4022201d60000003e002ffc009807016f1f321f321f321f320b0b0b0b0b0b0b0b271f15227207016f030d0d0f302424034001060d0d0d0d0d0d0d1329400106304207016f0324000101e40124000201250000000400010126003d0000063600040003000004b6014d1baa000004b1000000000000002100000095000000b5000000e8000001080000013b0000015b0000018e000001ae000001e1000001ed000001f900000205000002110000021d00000229000002350000024100000269000002f900000307000003150000032500000356000003ac000003ba000003c8000003d6000003e4000003f2000004000000040e00000422000004540000048c2ab4006cb60128c0012c13012e130130b60132130136130138b601324da703ff2ab40072b60128c0012c13013ab6013cb80140b901460100ba01e50000b901500200ba01e60000b80159b9015f02004da703cc2ab40084b60128c0012c13012e130130b60132130136130138b601324da703ac2ab40054b60128c0012c13013ab6013cb80140b901460100ba01e70000b901500200ba01e80000b80159b9015f02004da703792ab4006ab60128c0012c13012e130130b60132130136130138b601324da703592ab40076b60128c0012c13013ab6013cb80140b901460100ba01e90000b901500200ba01ea0000b80159b9015f02004da703262ab40062b60128c0012c13012e130130b60132130136130138b601324da703062ab4007cb60128c0012c13013ab6013cb80140b901460100ba01eb0000b901500200ba01ec0000b80159b9015f02004da702d3bb01695904b7016b4da702c7bb01695904b7016b4da702bbbb01695904b7016b4da702afbb01695903b7016b4da702a3bb01695904b7016b4da70297bb01695903b7016b4da7028bbb01695904b7016b4da7027fbb01695903b7016b4da702732ab6016ebb0174592ab40044b60128c0012cb80176b7017a13017db6017fb60183b601874da7024b2ab4006cb60128c0012cc7002c2ab40084b60128c0012cc7000913018da7006f2ab40084b60128c0012c13013613018fb60132a700592ab40084b60128c0012cc700192ab4006cb60128c0012c130136130138b60132a70036bb0174592ab4006cb60128c0012cb80176b7017a130138b6017f2ab40084b60128c0012cb6017fb60183130136130138b601324da701bb2ab40040b60128c0012c4da701ad2ab4004eb60128c0012c4da7019f130191b80193b80199b6019f4da7018fbb0174591301a3b7017a2ab4009ab601edc00169b601a61301a9b6017f2ab4009cb601edc00169b601a6b601834da7015e2ab40088b601abc001acb601ae0e989c00162ab40066b60128c0012c1301b2b601b49a002c2ab40088b601abc001acb601ae0e979e00162ab40066b60128c0012c1301b8b601b49a000703a7000404b801ba4da701082ab40092b601abc0012c4da700fa2ab40090b601abc0012c4da700ec2ab4008cb601abc0012c4da700de2ab40094b601abc0012c4da700d02ab40096b601abc0012c4da700c22ab4008eb601abc0012c4da700b42ab4008ab601abc001bf4da700a62ab40086b601abc0012c03100ab601c14da700922ab40088b601abc001acb601ae1401c5989d00192ab40088b601abc001acb601ae0e979e000704a7000403b801ba4da700602ab40088b601abc001acb601ae0e979e00222ab40088b601abc001acb601ae1401c76bb801c98a1401c76fb801cfa700061301d24da700282ab6016ebb0174592ab40044b60128c0012cb80176b7017a1301d4b6017fb60183b601874d2cb00000000200a60000012a004a0000022b0002022d0098023100b5023200b8023600e8023700eb023b0108023c010b0240013b0241013e0245015b0246015e024a018e024b0191024f01ae025001b1025401e1025501e4025901ed025a01f0025e01f9025f01fc02630205026402080268021102690214026d021d026e0220027202290273022c0277023502780238027c0241027d0244028102690282026c02860279028702a2028802c5028902f8028602f9028a02fc028e0307028f030a02930315029403180298032502990328029d0356029e035902a203ac02a303af02a703ba02a803bd02ac03c802ad03cb02b103d602b203d902b603e402b703e702bb03f202bc03f502c0040002c1040302c5040e02c6041102ca042202cb042502cf045402d0045702d4048c02d5048f02d904b402e101d60000003e002ffc009807016f1f321f321f321f320b0b0b0b0b0b0b0b271f15227207016f030d0d0f302424034001060d0d0d0d0d0d0d1329400106304207016f0324100a01f001f10001003d00000023000300010000000b2a130130130138b60132b00000000100a6000000060001000000b8100a01f201f10001003d00000023000300010000000b2a130130130138b60132b00000000100a6000000060001000000c2100a01f301f10001003d00000023000300010000000b2a130130130138b60132b00000000100a6000000060001000000cc100a01f401f10001003d00000023000300010000000b2a130130130138b60132b00000000100a6000000060001000000d6100a01f501f10001003d00000023000300010000000b2a130130130138b60132b00000000100a600000006000100000177100a01f601f10001003d00000023000300010000000b2a130130130138b60132b00000000100a600000006000100000181100a01f701f10001003d00000023000300010000000b2a130130130138b60132b00000000100a60000000600010000018b100a01f801f10001003d00000023000300010000000b2a130130130138b60132b00000000100a600000006000100000195100a01f901f10001003d00000023000300010000000b2a130130130138b60132b00000000100a600000006000100000236100a01fa01f10001003d00000023000300010000000b2a130130130138b60132b00000000100a600000006000100000240100a01fb01f10001003d00000023000300010000000b2a130130130138b60132b00000000100a60000000600010000024a100a01fc01f10001003d00000023000300010000000b2a130130130138b60132b00000000100a600000006000100000254000301fd00000002000201fe000000f200180205000302060209020a02050003020b020f0211020500030212021502160205000302170218021902050003021a021d021e02050003021f02200221020500030222022502260205000302270228022902050003022a022d022e02050003022f02300231020500030232023502360205000302370238023902050003023a023d023e02050003023f02400241020500030242024502460205000302470248024902050003024a024d024e02050003024f02500251020500030252025502560205000302570258025902050003025a025d025e02050003025f026002610205000302620265026602050003026702680269026a0000000a0001026b026d026f00197400155f313739323430363839343638385f3334393537307400326e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a524a61766163436f6d70696c6572'
+WHERE id = 'f2eaef0b-0ed5-47c8-9526-181b5b6313c2';
@@ -0,0 +1,90 @@
+-- Submission facts of the regular requisitions, so the reporting rate and timeliness reports do
+-- not have to search the whole status change history for every expected requisition.
+CREATE TABLE reports.requisition_timeliness_facts (
+    requisitionid uuid NOT NULL,
+    facilityid uuid NOT NULL,
+    programid uuid NOT NULL,
+    processingperiodid uuid NOT NULL,
+    submitteddate timestamp with time zone,
+    authorizeddate timestamp with time zone,
+    CONSTRAINT requisition_timeliness_facts_pkey PRIMARY KEY (requisitionid)
+);
+
+CREATE INDEX requisition_timeliness_facts_facility_period_program_idx
+    ON reports.requisition_timeliness_facts (facilityid, processingperiodid, programid);
+
+-- Recalculates the facts of the requisitions with status changes created since the previous
+-- refresh. The first submission and the first authorization of a requisition are kept. The
+-- refresh looks an hour behind the watermark, so status changes that were committed late, with
+-- an earlier created date than the ones already seen, are not missed.
+CREATE FUNCTION reports.refresh_requisition_timeliness_facts() RETURNS void AS $$
+DECLARE
+    previous timestamp with time zone;
+    latest timestamp with time zone;
+BEGIN
+    SELECT watermark INTO previous
+    FROM reports.reporting_table_watermarks
+    WHERE tablename = 'requisition_timeliness_facts'
+    FOR UPDATE;
+
+    DROP TABLE IF EXISTS pg_temp.changed_requisitions;
+
+    CREATE TEMPORARY TABLE changed_requisitions ON COMMIT DROP AS
+    SELECT requisitionid, max(createddate) AS createddate
+    FROM requisition.status_changes
+    WHERE previous IS NULL OR createddate > previous - interval '1 hour'
+    GROUP BY requisitionid;
+
+    DELETE FROM reports.requisition_timeliness_facts existing
+    WHERE NOT EXISTS (
+        SELECT 1
+        FROM requisition.requisitions requisition
+        WHERE requisition.id = existing.requisitionid
+    );
+
+    SELECT max(createddate) INTO latest FROM changed_requisitions;
+
+    IF latest IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO reports.requisition_timeliness_facts (requisitionid, facilityid, programid,
+        processingperiodid, submitteddate, authorizeddate)
+    SELECT requisition.id, requisition.facilityid, requisition.programid,
+        requisition.processingperiodid,
+        min(status_change.createddate) FILTER (WHERE status_change.status = 'SUBMITTED'),
+        min(status_change.createddate) FILTER (WHERE status_change.status = 'AUTHORIZED')
+    FROM changed_requisitions changed
+    JOIN requisition.requisitions requisition ON requisition.id = changed.requisitionid
+    JOIN requisition.status_changes status_change ON status_change.requisitionid = requisition.id
+    WHERE requisition.emergency = false
+    GROUP BY requisition.id
+    ON CONFLICT (requisitionid) DO UPDATE
+    SET facilityid = EXCLUDED.facilityid,
+        programid = EXCLUDED.programid,
+        processingperiodid = EXCLUDED.processingperiodid,
+        submitteddate = EXCLUDED.submitteddate,
+        authorizeddate = EXCLUDED.authorizeddate
+    WHERE (reports.requisition_timeliness_facts.facilityid,
+            reports.requisition_timeliness_facts.programid,
+            reports.requisition_timeliness_facts.processingperiodid,
+            reports.requisition_timeliness_facts.submitteddate,
+            reports.requisition_timeliness_facts.authorizeddate)
+        IS DISTINCT FROM (EXCLUDED.facilityid, EXCLUDED.programid, EXCLUDED.processingperiodid,
+            EXCLUDED.submitteddate, EXCLUDED.authorizeddate);
+
+    INSERT INTO reports.reporting_table_watermarks (tablename, watermark)
+    VALUES ('requisition_timeliness_facts', latest)
+    ON CONFLICT (tablename) DO UPDATE
+    SET watermark = greatest(reports.reporting_table_watermarks.watermark, EXCLUDED.watermark);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Fill the table right away, if the requisition data is available in this database
+DO $$
+BEGIN
+    IF to_regclass('requisition.status_changes') IS NOT NULL THEN
+        PERFORM reports.refresh_requisition_timeliness_facts();
+    END IF;
+END;
+$$;
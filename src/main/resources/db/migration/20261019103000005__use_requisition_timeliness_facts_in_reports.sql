@@ -0,0 +1,11 @@
+UPDATE reports.jasper_templates
+SET data = '\xaced0005737200286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727400000000000027d80200034c000b636f6d70696c65446174617400164c6a6176612f696f2f53657269616c697a61626c653b4c0011636f6d70696c654e616d655375666669787400124c6a6176612f6c616e672f537472696e673b4c000d636f6d70696c6572436c61737371007e00027872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655265706f727400000000000027d802002b49001950534555444f5f53455249414c5f56455253494f4e5f55494449000c626f74746f6d4d617267696e49000b636f6c756d6e436f756e7449000d636f6c756d6e53706163696e6749000b636f6c756d6e57696474685a001069676e6f7265506167696e6174696f6e5a00136973466c6f6174436f6c756d6e466f6f7465725a0010697353756d6d6172794e6577506167655a0020697353756d6d6172795769746850616765486561646572416e64466f6f7465725a000e69735469746c654e65775061676549000a6c6566744d617267696e42000b6f7269656e746174696f6e49000a7061676548656967687449000970616765576964746842000a7072696e744f7264657249000b72696768744d617267696e490009746f704d617267696e42000e7768656e4e6f44617461547970654c000a6261636b67726f756e647400244c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b4c000f636f6c756d6e446972656374696f6e7400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f52756e446972656374696f6e456e756d3b4c000c636f6c756d6e466f6f74657271007e00044c000c636f6c756d6e48656164657271007e00045b000864617461736574737400285b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c000c64656661756c745374796c657400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000664657461696c71007e00044c000d64657461696c53656374696f6e7400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5253656374696f6e3b4c0012666f726d6174466163746f7279436c61737371007e00024c000a696d706f72747353657474000f4c6a6176612f7574696c2f5365743b4c00086c616e677561676571007e00024c000e6c61737450616765466f6f74657271007e00044c000b6d61696e446174617365747400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c00046e616d6571007e00024c00066e6f4461746171007e00044c00106f7269656e746174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f7269656e746174696f6e456e756d3b4c000a70616765466f6f74657271007e00044c000a7061676548656164657271007e00044c000f7072696e744f7264657256616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5072696e744f72646572456e756d3b4c000b73656374696f6e547970657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53656374696f6e54797065456e756d3b5b00067374796c65737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000773756d6d61727971007e00045b000974656d706c6174657374002f5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525265706f727454656d706c6174653b4c00057469746c6571007e00044c00137768656e4e6f446174615479706556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e4e6f4461746154797065456e756d3b78700000ea620000001400000001000000000000022b000000000000000014000000034a0000025300000000140000001400707e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e52756e446972656374696f6e456e756d00000000000000001200007872000e6a6176612e6c616e672e456e756d000000000000000012000078707400034c54527070757200285b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52446174617365743b4c1a3698cdac9c440200007870000000037372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654461746173657400000000000027d802001249001950534555444f5f53455249414c5f56455253494f4e5f5549445a000669734d61696e4200177768656e5265736f757263654d697373696e67547970655b00066669656c64737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524669656c643b4c001066696c74657245787072657373696f6e74002a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e3b5b000667726f7570737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c00046e616d6571007e00025b000a706172616d657465727374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616d657465723b4c000d70726f706572746965734d617074002d4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572746965734d61703b5b001370726f706572747945787072657373696f6e737400385b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4461746173657450726f706572747945787072657373696f6e3b4c000571756572797400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572793b4c000e7265736f7572636542756e646c6571007e00024c000e7363726970746c6574436c61737371007e00025b000a7363726970746c65747374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525363726970746c65743b5b000a736f72744669656c647374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52536f72744669656c643b4c0004757569647400104c6a6176612f7574696c2f555549443b5b00097661726961626c65737400295b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525661726961626c653b4c001c7768656e5265736f757263654d697373696e675479706556616c756574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e5265736f757263654d697373696e6754797065456e756d3b78700000ea620000757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a524669656c643b023cdfc74e2af2700200007870000000057372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654669656c6400000000000027d80200064c000b6465736372697074696f6e71007e00024c00046e616d6571007e00024c000d70726f706572746965734d617071007e001d5b001370726f706572747945787072657373696f6e737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572747945787072657373696f6e3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e000278707074000a706572696f646e616d657372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5250726f706572746965734d617000000000000027d80200034c00046261736571007e001d4c000e70726f706572746965734c6973747400104c6a6176612f7574696c2f4c6973743b4c000d70726f706572746965734d617074000f4c6a6176612f7574696c2f4d61703b7870707070707400106a6176612e6c616e672e537472696e67707371007e002870740005746f74616c7371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e0028707400066d69737365647371007e002c707070707400106a6176612e6c616e672e537472696e67707371007e002870740009636f6d706c657465647371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e0028707400066f6e74696d657371007e002c707070707400116a6176612e6c616e672e496e746567657270707074000742794d6f6e74687572002a5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52506172616d657465723b22000c8d2ac36021020000787000000017737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365506172616d6574657200000000000027d802000a5a000e6973466f7250726f6d7074696e675a000f697353797374656d446566696e65644c001664656661756c7456616c756545787072657373696f6e71007e001a4c000b6465736372697074696f6e71007e00024c000e6576616c756174696f6e54696d6574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506172616d657465724576616c756174696f6e54696d65456e756d3b4c00046e616d6571007e00024c000e6e6573746564547970654e616d6571007e00024c000d70726f706572746965734d617071007e001d4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870010170707074000e5245504f52545f434f4e54455854707371007e002c7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e5265706f7274436f6e74657874707371007e004401017070707400155245504f52545f504152414d45544552535f4d4150707371007e002c70707074000d6a6176612e7574696c2e4d6170707371007e004401017070707400164a41535045525f5245504f5254535f434f4e54455854707371007e002c7070707400306e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727473436f6e74657874707371007e0044010170707074000d4a41535045525f5245504f5254707371007e002c7070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f7274707371007e004401017070707400115245504f52545f434f4e4e454354494f4e707371007e002c7070707400136a6176612e73716c2e436f6e6e656374696f6e707371007e004401017070707400105245504f52545f4d41585f434f554e54707371007e002c7070707400116a6176612e6c616e672e496e7465676572707371007e004401017070707400125245504f52545f444154415f534f55524345707371007e002c7070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5244617461536f75726365707371007e004401017070707400105245504f52545f5343524950544c4554707371007e002c70707074002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5241627374726163745363726970746c6574707371007e0044010170707074000d5245504f52545f4c4f43414c45707371007e002c7070707400106a6176612e7574696c2e4c6f63616c65707371007e004401017070707400165245504f52545f5245534f555243455f42554e444c45707371007e002c7070707400186a6176612e7574696c2e5265736f7572636542756e646c65707371007e004401017070707400105245504f52545f54494d455f5a4f4e45707371007e002c7070707400126a6176612e7574696c2e54696d655a6f6e65707371007e004401017070707400155245504f52545f464f524d41545f464143544f5259707371007e002c70707074002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e7574696c2e466f726d6174466163746f7279707371007e004401017070707400135245504f52545f434c4153535f4c4f41444552707371007e002c7070707400156a6176612e6c616e672e436c6173734c6f61646572707371007e004401017070707400105245504f52545f54454d504c41544553707371007e002c7070707400146a6176612e7574696c2e436f6c6c656374696f6e707371007e0044010170707074000b534f52545f4649454c4453707371007e002c70707074000e6a6176612e7574696c2e4c697374707371007e0044010170707074000646494c544552707371007e002c7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4461746173657446696c746572707371007e0044010070707074000c666163696c697479547970657400106a6176612e6c616e672e537472696e677371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e00440100737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e00000000000027d802000549000269645b00066368756e6b737400305b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e4368756e6b3b4c0004747970657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f45787072657373696f6e54797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e000278700000000c757200305b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5245787072657373696f6e4368756e6b3b6d59cfde694ba355020000787000000002737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e4368756e6b00000000000027d8020002420004747970654c00047465787471007e000278700274000c666163696c697479547970657371007e00920174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c22297070707070740013666163696c6974795479706555706461746564707371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e004401007371007e008c0000000d7571007e0090000000037371007e00920174000e4172726179732e61734c697374287371007e009202740013666163696c69747954797065557064617465647371007e0092017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b7070707070740010666163696c697479547970654c6973747400106a6176612e6c616e672e537472696e677371007e002c7070707400136a6176612e7574696c2e41727261794c697374707371007e00440100707400007074000750726f6772616d707371007e002c70737200136a6176612e7574696c2e41727261794c6973747881d21d99c7619d03000149000473697a6578700000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f7065727479740008726571756972656478737200116a6176612e7574696c2e486173684d61700507dac1c31660d103000246000a6c6f6164466163746f724900097468726573686f6c6478703f400000000000067708000000080000000571007e00af7400046e616d6571007e00ad74000750726f6772616d71007e00b07400046e616d6571007e00b17400047472756571007e00ae7400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e004401007074000070740009656e64506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e00c27400046e616d6571007e00bf740009656e64506572696f6471007e00c17400046e616d6571007e00c37400047472756571007e00c074001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e00440100707400007074000b7374617274506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e00d37400046e616d6571007e00d074000b7374617274506572696f6471007e00d27400046e616d6571007e00d474000566616c736571007e00d174001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e0044010070707074000e47656f677261706869635a6f6e65707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e00e37400046e616d6571007e00e0740008446973747269637471007e00e27400046e616d6571007e00e474000566616c736571007e00e17400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e002c707371007e00ab0000000377040000000374002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572740037636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e53514c517565727944657369676e65722e736173682e7731740037636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e53514c517565727944657369676e65722e736173682e7732787371007e00b23f400000000000037708000000040000000371007e00ee7400104f6e6520456d707479205265636f726471007e00ef740002323271007e00f074000339373278707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365517565727900000000000027d80200025b00066368756e6b7374002b5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572794368756e6b3b4c00086c616e677561676571007e000278707572002b5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5251756572794368756e6b3b409f00a1e8ba34a4020000787000000011737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736551756572794368756e6b00000000000027d8020004420004747970654c00047465787471007e00024c000e746f6b656e536570617261746f727400154c6a6176612f6c616e672f4368617261637465723b5b0006746f6b656e737400135b4c6a6176612f6c616e672f537472696e673b78700174013f574954482066696e644368696c645a6f6e657320415320280a202053454c454354207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e2a0a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320616e636573746f72204f4e20616e636573746f722e6964203d20636c6f737572652e616e636573746f7269640a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6964203d20636c6f737572652e64657363656e64616e7469640a2020574845524520616e636573746f722e6e616d65203d2070707371007e00fa0274000e47656f677261706869635a6f6e6570707371007e00fa0174010f0a292c0a66696e644c617374506572696f647320415320280a202053454c4543542070702e69642c2070702e6e616d652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f64732070700a202020204a4f494e207265666572656e6365646174612e70726f63657373696e675f7363686564756c6573207073204f4e0a2020202070702e70726f63657373696e677363686564756c656964203d2070732e69640a2020202057484552452070702e737461727464617465203c3d202853454c454354207374617274646174652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa02740009656e64506572696f6470707371007e00fa0174006b3a3a76617263686172290a20202020414e442070732e6964203d202853454c4543542070726f63657373696e677363686564756c6569642046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa02740009656e64506572696f6470707371007e00fa017402643a3a76617263686172290a20204f52444552204259207374617274646174652044455343204c494d495420330a290a53454c4543540a20207265666572656e6365646174612e70726f63657373696e675f706572696f64732e6e616d6520415320706572696f646e616d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e4f54204e554c4c205448454e203120454e442920415320636f6d706c657465642c0a20434f554e542843415345205748454e207265666572656e6365646174612e70726f63657373696e675f706572696f64732e656e6464617465202b203231203e3d207374617475735f6368616e67652e6372656174656464617465205448454e203120454e4429204153206f6e74696d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e554c4c205448454e203120454e4429204153206d69737365642c0a2020434f554e54282a2920617320746f74616c0a46524f4d207265666572656e6365646174612e666163696c69746965730a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e0a2020207265666572656e6365646174612e666163696c69746965732e67656f677261706869637a6f6e656964203d207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e69640a20204a4f494e207265666572656e6365646174612e70726f6772616d732070726f6772616d204f4e0a20202070726f6772616d2e6e616d65203d2070707371007e00fa0274000750726f6772616d70707371007e00fa017402823a3a766172636861720a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f6d656d626572732072676d204f4e0a202020666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f757073207267204f4e0a2020202072676d2e7265717569736974696f6e67726f75706964203d2072672e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f70726f6772616d5f7363686564756c65732072677073204f4e0a20202020726770732e7265717569736974696f6e67726f75706964203d2072672e696420414e4420726770732e70726f6772616d6964203d2070726f6772616d2e69640a20204a4f494e207265666572656e6365646174612e737570706f727465645f70726f6772616d73207370204f4e0a2020202073702e70726f6772616d6964203d2070726f6772616d2e696420414e442073702e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204c454654204a4f494e207265666572656e6365646174612e70726f63657373696e675f706572696f6473204f4e0a2020207265666572656e6365646174612e70726f63657373696e675f706572696f64732e696420494e202853454c4543542069642046524f4d2066696e644c617374506572696f6473290a20204c454654204a4f494e202853454c45435420666163696c69747969642c2070726f6772616d69642c2070726f63657373696e67706572696f6469642c2043415345205748454e2070707371007e00fa0274000750726f6772616d70707371007e00fa017402103a3a76617263686172203d202745504927205448454e20617574686f72697a65646461746520454c5345207375626d69747465646461746520454e442041532063726561746564646174650a20200946524f4d207265706f7274732e7265717569736974696f6e5f74696d656c696e6573735f666163747329207374617475735f6368616e67650a2020204f4e207374617475735f6368616e67652e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20202020414e44207374617475735f6368616e67652e70726f63657373696e67706572696f646964203d207265666572656e6365646174612e70726f63657373696e675f706572696f64732e69640a20202020414e44207374617475735f6368616e67652e70726f6772616d6964203d2070726f6772616d2e69640a2020202020204c454654204a4f494e207265666572656e6365646174612e666163696c6974795f747970657320415320666163696c6974795f7479706573204f4e20666163696c69746965732e747970656964203d20666163696c6974795f74797065732e69640a57484552450a2020207265666572656e6365646174612e666163696c69746965732e616374697665203d20747275650a202020414e44207265666572656e6365646174612e666163696c69746965732e656e61626c6564203d20747275650a202020414e44202870707371007e00fa0274000e47656f677261706869635a6f6e6570707371007e00fa017400793a3a76617263686172204953204e554c4c204f52207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e696420494e202853454c4543542069642046524f4d2066696e644368696c645a6f6e657329290a202020414e442073702e616374697665203d20747275650a09414e44202870707371007e00fa0274000c666163696c6974795479706570707371007e00fa017400153a3a76617263686172204953204e554c4c204f522070707371007e00fa04740028494e2c666163696c6974795f74797065732e6e616d652c20666163696c697479547970654c697374737200136a6176612e6c616e672e436861726163746572348b47d96b1a267802000143000576616c75657870002c757200135b4c6a6176612e6c616e672e537472696e673badd256e7e91d7b47020000787000000003740002494e740013666163696c6974795f74797065732e6e616d6574001120666163696c697479547970654c6973747371007e00fa0174007620290a47524f555020425920706572696f646e616d652c207265666572656e6365646174612e70726f63657373696e675f706572696f64732e7374617274646174650a4f52444552204259207265666572656e6365646174612e70726f63657373696e675f706572696f64732e737461727464617465707074000373716c707070707372000e6a6176612e7574696c2e55554944bc9903f7986d852f0200024a000c6c65617374536967426974734a000b6d6f7374536967426974737870870dbbe46b496479a6da25d701b44f6b757200295b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525661726961626c653b62e6837c982cb7440200007870000000087372002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655661726961626c6500000000000027d802001149001950534555444f5f53455249414c5f56455253494f4e5f55494442000b63616c63756c6174696f6e42000d696e6372656d656e74547970655a000f697353797374656d446566696e65644200097265736574547970654c001063616c63756c6174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f43616c63756c6174696f6e456e756d3b4c000a65787072657373696f6e71007e001a4c000e696e6372656d656e7447726f75707400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c0012696e6372656d656e745479706556616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f496e6372656d656e7454797065456e756d3b4c001b696e6372656d656e746572466163746f7279436c6173734e616d6571007e00024c001f696e6372656d656e746572466163746f7279436c6173735265616c4e616d6571007e00024c0016696e697469616c56616c756545787072657373696f6e71007e001a4c00046e616d6571007e00024c000a726573657447726f757071007e012d4c000e72657365745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526573657454797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870000077ee000001007e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e43616c63756c6174696f6e456e756d00000000000000001200007871007e001374000653595354454d70707e7200326e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e496e6372656d656e7454797065456e756d00000000000000001200007871007e00137400044e4f4e4570707371007e008c0000000e7571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707074000b504147455f4e554d424552707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e526573657454797065456e756d00000000000000001200007871007e00137400065245504f525471007e005d707371007e012b000077ee0000010071007e0132707071007e01357070707400134d41535445525f43555252454e545f504147457071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e01357070707400124d41535445525f544f54414c5f50414745537071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707371007e008c0000000f7571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707074000d434f4c554d4e5f4e554d424552707e71007e013c7400045041474571007e005d707371007e012b000077ee000001007e71007e0131740005434f554e547371007e008c000000107571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000117571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c5245504f52545f434f554e547071007e013d71007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000127571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000137571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707074000a504147455f434f554e547071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000147571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000157571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c434f4c554d4e5f434f554e54707e71007e013c740006434f4c554d4e71007e005d707371007e012b000077ee000000007e71007e01317400074e4f5448494e477371007e008c000000167571007e0090000000017371007e009201740011222531242e3066252520282532246429227070707071007e013570707371007e008c000000177571007e0090000000017371007e00920174000822252e306625252270707074001650657263656e74416e644e756d626572466f726d61747071007e013d7400106a6176612e6c616e672e537472696e67707e72003c6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e5265736f757263654d697373696e6754797065456e756d00000000000000001200007871007e00137400044e554c4c7371007e00180000ea6200007571007e0026000000057371007e00287074001267656f677261706869637a6f6e656e616d657371007e002c707070707400106a6176612e6c616e672e537472696e67707371007e002870740009636f6d706c657465647371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e0028707400066d69737365647371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e0028707400066f6e74696d657371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e002870740005746f74616c7371007e002c707070707400116a6176612e6c616e672e496e746567657270707074000642795a6f6e657571007e0042000000177371007e0044010170707071007e0047707371007e002c70707071007e0049707371007e0044010170707071007e004b707371007e002c70707071007e004d707371007e0044010170707071007e004f707371007e002c70707071007e0051707371007e0044010170707071007e0053707371007e002c70707071007e0055707371007e0044010170707071007e0057707371007e002c70707071007e0059707371007e0044010170707071007e005b707371007e002c70707071007e005d707371007e0044010170707071007e005f707371007e002c70707071007e0061707371007e0044010170707071007e0063707371007e002c70707071007e0065707371007e0044010170707071007e0067707371007e002c70707071007e0069707371007e0044010170707071007e006b707371007e002c70707071007e006d707371007e0044010170707071007e006f707371007e002c70707071007e0071707371007e0044010170707071007e0073707371007e002c70707071007e0075707371007e0044010170707071007e0077707371007e002c70707071007e0079707371007e0044010170707071007e007b707371007e002c70707071007e007d707371007e0044010170707071007e007f707371007e002c70707071007e0081707371007e0044010170707071007e0083707371007e002c70707071007e0085707371007e0044010070707074000c666163696c697479547970657400106a6176612e6c616e672e537472696e677371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e004401007371007e008c000000007571007e0090000000027371007e00920274000c666163696c697479547970657371007e00920174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c22297070707070740013666163696c6974795479706555706461746564707371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e004401007371007e008c000000017571007e0090000000037371007e00920174000e4172726179732e61734c697374287371007e009202740013666163696c69747954797065557064617465647371007e0092017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b7070707070740010666163696c697479547970654c6973747400106a6176612e6c616e672e537472696e677371007e002c7070707400136a6176612e7574696c2e41727261794c697374707371007e00440100707400007074000750726f6772616d707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e01d87400046e616d6571007e01d674000750726f6772616d71007e01d97400046e616d6571007e01da7400047472756571007e01d77400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e004401007074000070740009656e64506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e01ea7400046e616d6571007e01e7740009656e64506572696f6471007e01e97400046e616d6571007e01eb7400047472756571007e01e874001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e00440100707400007074000b7374617274506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e01fb7400046e616d6571007e01f874000b7374617274506572696f6471007e01fa7400046e616d6571007e01fc74000566616c736571007e01f974001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e0044010070707074000e47656f677261706869635a6f6e65707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e020b7400046e616d6571007e0208740008446973747269637471007e020a7400046e616d6571007e020c74000566616c736571007e02097400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e002c707371007e00ab0000000377040000000374002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572740037636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e53514c517565727944657369676e65722e736173682e7731740037636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e53514c517565727944657369676e65722e736173682e7732787371007e00b23f400000000000037708000000040000000371007e02167400104f6e6520456d707479205265636f726471007e021774000333383871007e021874000336303378707371007e00f57571007e00f8000000117371007e00fa0174013f574954482066696e644368696c645a6f6e657320415320280a202053454c454354207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e2a0a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320616e636573746f72204f4e20616e636573746f722e6964203d20636c6f737572652e616e636573746f7269640a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6964203d20636c6f737572652e64657363656e64616e7469640a2020574845524520616e636573746f722e6e616d65203d2070707371007e00fa0274000e47656f677261706869635a6f6e6570707371007e00fa0174010f0a292c0a66696e644c617374506572696f647320415320280a202053454c4543542070702e69642c2070702e6e616d652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f64732070700a202020204a4f494e207265666572656e6365646174612e70726f63657373696e675f7363686564756c6573207073204f4e0a2020202070702e70726f63657373696e677363686564756c656964203d2070732e69640a2020202057484552452070702e737461727464617465203c3d202853454c454354207374617274646174652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa02740009656e64506572696f6470707371007e00fa0174006b3a3a76617263686172290a20202020414e442070732e6964203d202853454c4543542070726f63657373696e677363686564756c6569642046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa02740009656e64506572696f6470707371007e00fa0174026c3a3a76617263686172290a20204f52444552204259207374617274646174652044455343204c494d495420310a290a53454c4543540a20207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6e616d652041532067656f677261706869637a6f6e656e616d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e4f54204e554c4c205448454e203120454e442920415320636f6d706c657465642c0a202020434f554e542843415345205748454e207265666572656e6365646174612e70726f63657373696e675f706572696f64732e656e6464617465202b203231203e3d207374617475735f6368616e67652e6372656174656464617465205448454e203120454e4429204153206f6e74696d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e554c4c205448454e203120454e4429204153206d69737365642c0a2020434f554e54282a2920617320746f74616c0a46524f4d207265666572656e6365646174612e666163696c69746965730a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e0a2020207265666572656e6365646174612e666163696c69746965732e67656f677261706869637a6f6e656964203d207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e69640a20204a4f494e207265666572656e6365646174612e70726f6772616d732070726f6772616d204f4e0a20202070726f6772616d2e6e616d65203d2070707371007e00fa0274000750726f6772616d70707371007e00fa017402823a3a766172636861720a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f6d656d626572732072676d204f4e0a202020666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f757073207267204f4e0a2020202072676d2e7265717569736974696f6e67726f75706964203d2072672e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f70726f6772616d5f7363686564756c65732072677073204f4e0a20202020726770732e7265717569736974696f6e67726f75706964203d2072672e696420414e4420726770732e70726f6772616d6964203d2070726f6772616d2e69640a20204a4f494e207265666572656e6365646174612e737570706f727465645f70726f6772616d73207370204f4e0a2020202073702e70726f6772616d6964203d2070726f6772616d2e696420414e442073702e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204c454654204a4f494e207265666572656e6365646174612e70726f63657373696e675f706572696f6473204f4e0a2020207265666572656e6365646174612e70726f63657373696e675f706572696f64732e696420494e202853454c4543542069642046524f4d2066696e644c617374506572696f6473290a20204c454654204a4f494e202853454c45435420666163696c69747969642c2070726f6772616d69642c2070726f63657373696e67706572696f6469642c2043415345205748454e2070707371007e00fa0274000750726f6772616d70707371007e00fa0174020d3a3a76617263686172203d202745504927205448454e20617574686f72697a65646461746520454c5345207375626d69747465646461746520454e442041532063726561746564646174650a20200946524f4d207265706f7274732e7265717569736974696f6e5f74696d656c696e6573735f666163747329207374617475735f6368616e67650a2020204f4e207374617475735f6368616e67652e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20202020414e44207374617475735f6368616e67652e70726f63657373696e67706572696f646964203d207265666572656e6365646174612e70726f63657373696e675f706572696f64732e69640a20202020414e44207374617475735f6368616e67652e70726f6772616d6964203d2070726f6772616d2e69640a2020204c454654204a4f494e207265666572656e6365646174612e666163696c6974795f747970657320415320666163696c6974795f7479706573204f4e20666163696c69746965732e747970656964203d20666163696c6974795f74797065732e69640a57484552450a2020207265666572656e6365646174612e666163696c69746965732e616374697665203d20747275650a202020414e44207265666572656e6365646174612e666163696c69746965732e656e61626c6564203d20747275650a202020414e44202870707371007e00fa0274000e47656f677261706869635a6f6e6570707371007e00fa017400793a3a76617263686172204953204e554c4c204f52207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e696420494e202853454c4543542069642046524f4d2066696e644368696c645a6f6e657329290a202020414e442073702e616374697665203d20747275650a09414e44202870707371007e00fa0274000c666163696c6974795479706570707371007e00fa017400153a3a76617263686172204953204e554c4c204f522070707371007e00fa04740028494e2c666163696c6974795f74797065732e6e616d652c20666163696c697479547970654c69737471007e011e7571007e011f00000003740002494e740013666163696c6974795f74797065732e6e616d6574001120666163696c697479547970654c6973747371007e00fa0174001e20290a47524f55502042592067656f677261706869637a6f6e656e616d65707071007e0126707070707371007e0127b2a32ad06bb5442b4e12158aeb7f498c7571007e0129000000087371007e012b000077ee0000010071007e0132707071007e013570707371007e008c000000027571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e013b7071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707071007e01407071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707071007e01427071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707371007e008c000000037571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e01487071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000047571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000057571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01567071007e013d71007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000067571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000077571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01607071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000087571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000097571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e016a7071007e016b71007e005d707371007e012b000077ee0000000071007e016e7371007e008c0000000a7571007e0090000000017371007e009201740011222531242e3066252520282532246429227070707071007e013570707371007e008c0000000b7571007e0090000000017371007e00920174000822252e306625252270707074001650657263656e74416e644e756d626572466f726d61747071007e013d7400106a6176612e6c616e672e537472696e677071007e017b7371007e00180000ea6200007571007e0026000000067371007e00287074000a706572696f646e616d657371007e002c707070707400106a6176612e6c616e672e537472696e67707371007e002870740005746f74616c7371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e0028707400066d69737365647371007e002c707070707400106a6176612e6c616e672e537472696e67707371007e002870740009636f6d706c657465647371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e0028707400066f6e74696d657371007e002c707070707400116a6176612e6c616e672e496e7465676572707371007e00287074000d7265706f7274696e67526174657371007e002c707070707400116a6176612e6c616e672e496e74656765727070707400155265706f7274696e67526174654279506572696f647571007e0042000000177371007e0044010170707071007e0047707371007e002c70707071007e0049707371007e0044010170707071007e004b707371007e002c70707071007e004d707371007e0044010170707071007e004f707371007e002c70707071007e0051707371007e0044010170707071007e0053707371007e002c70707071007e0055707371007e0044010170707071007e0057707371007e002c70707071007e0059707371007e0044010170707071007e005b707371007e002c70707071007e005d707371007e0044010170707071007e005f707371007e002c70707071007e0061707371007e0044010170707071007e0063707371007e002c70707071007e0065707371007e0044010170707071007e0067707371007e002c70707071007e0069707371007e0044010170707071007e006b707371007e002c70707071007e006d707371007e0044010170707071007e006f707371007e002c70707071007e0071707371007e0044010170707071007e0073707371007e002c70707071007e0075707371007e0044010170707071007e0077707371007e002c70707071007e0079707371007e0044010170707071007e007b707371007e002c70707071007e007d707371007e0044010170707071007e007f707371007e002c70707071007e0081707371007e0044010170707071007e0083707371007e002c70707071007e0085707371007e0044010070707074000c666163696c697479547970657400106a6176612e6c616e672e537472696e677371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e004401007371007e008c000000007571007e0090000000027371007e00920274000c666163696c697479547970657371007e00920174002d2e7265706c616365416c6c28223b3b222c22434f4d4d4122292e7265706c616365416c6c28223b222c222c22297070707070740013666163696c6974795479706555706461746564707371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e004401007371007e008c000000017571007e0090000000037371007e00920174000e4172726179732e61734c697374287371007e009202740013666163696c69747954797065557064617465647371007e0092017400872e73706c697428225c5c732a2c5c5c732a2229292e73747265616d28292e6d617028656c202d3e20656c2e7265706c616365416c6c2822434f4d4d41222c20222c2229292e636f6c6c656374286a6176612e7574696c2e73747265616d2e436f6c6c6563746f72732e746f436f6c6c656374696f6e2841727261794c6973743a3a6e657729293b7070707070740010666163696c697479547970654c6973747400106a6176612e6c616e672e537472696e677371007e002c7070707400136a6176612e7574696c2e41727261794c697374707371007e00440100707400007074000750726f6772616d707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e02d87400046e616d6571007e02d674000750726f6772616d71007e02d97400046e616d6571007e02da7400047472756571007e02d77400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e004401007074000070740009656e64506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e02ea7400046e616d6571007e02e7740009656e64506572696f6471007e02e97400046e616d6571007e02eb7400047472756571007e02e874001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e00440100707400007074000b7374617274506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e02fb7400046e616d6571007e02f874000b7374617274506572696f6471007e02fa7400046e616d6571007e02fc74000566616c736571007e02f974001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e0044010070707074000e47656f677261706869635a6f6e65707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e030b7400046e616d6571007e0308740008446973747269637471007e030a7400046e616d6571007e030c74000566616c736571007e03097400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e002c707371007e00ab0000000177040000000174002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572787371007e00b23f400000000000037708000000040000000171007e03167400064d616c61776978707371007e00f57571007e00f80000001b7371007e00fa0174013f574954482066696e644368696c645a6f6e657320415320280a202053454c454354207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e2a0a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320616e636573746f72204f4e20616e636573746f722e6964203d20636c6f737572652e616e636573746f7269640a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6964203d20636c6f737572652e64657363656e64616e7469640a2020574845524520616e636573746f722e6e616d65203d2070707371007e00fa0274000e47656f677261706869635a6f6e6570707371007e00fa017400c10a292c2066696e644c617374506572696f6473204153202853454c4543542070702e69642c2070702e6e616d652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f64732070700a202020204a4f494e207265666572656e6365646174612e70726f63657373696e675f7363686564756c6573207073204f4e0a2020202070702e70726f63657373696e677363686564756c656964203d2070732e69640a2020202077686572652043415345205748454e2070707371007e00fa0274000750726f6772616d70707371007e00fa017400683a3a76617263686172203d202745504927207468656e2070702e656e6464617465203c3d202853454c45435420656e64646174652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa02740009656e64506572696f6470707371007e00fa017400653a3a766172636861722920656c73652070702e737461727464617465203c3d202853454c454354207374617274646174652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa02740009656e64506572696f6470707371007e00fa0174001e3a3a766172636861722920454e440a09616e642063617365207768656e2070707371007e00fa0274000b7374617274506572696f6470707371007e00fa017400703a3a76617263686172206973206e6f74206e756c6c207468656e2070702e737461727464617465203e3d202853454c454354207374617274646174652046524f4d207265666572656e6365646174612e70726f63657373696e675f706572696f6473205748455245206e616d65203d2070707371007e00fa0274000b7374617274506572696f6470707371007e00fa0174002b3a3a766172636861722920656c7365207472756520656e640a20202020414e442063617365207768656e2070707371007e00fa0274000750726f6772616d70707371007e00fa017400ab3a3a76617263686172203d202745504927207468656e2070732e696420213d202737333334373534642d653232362d346330352d616262632d3032633237633138383861372720656c73652070732e6964203d202737333334373534642d653232362d346330352d616262632d3032633237633138383861372720454e440a20204f524445522042592073746172746461746520646573630a20204c494d49542063617365207768656e2070707371007e00fa0274000b7374617274506572696f6470707371007e00fa0174032b3a3a76617263686172206973206e756c6c207468656e203820656e64290a202073656c656374200a2020646174612e706572696f646e616d6520617320706572696f646e616d652c0a2020646174612e636f6d706c6574656420617320636f6d706c657465642c0a2020646174612e6f6e74696d65206173206f6e74696d652c0a2020646174612e6d6973736564206173206d69737365642c0a2020646174612e746f74616c20617320746f74616c2c0a2020646174612e636f6d706c65746564202a20313030202f20646174612e746f74616c206173207265706f7274696e67526174650a202066726f6d200a20202873656c656374200a20207265666572656e6365646174612e70726f63657373696e675f706572696f64732e656e64646174652020415320706572696f646e616d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e4f54204e554c4c205448454e203120454e442920415320636f6d706c657465642c0a20434f554e542843415345205748454e207265666572656e6365646174612e70726f63657373696e675f706572696f64732e656e6464617465202b203231203e3d207374617475735f6368616e67652e6372656174656464617465205448454e203120454e4429204153206f6e74696d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e554c4c205448454e203120454e4429204153206d69737365642c0a2020434f554e54282a2920617320746f74616c0a46524f4d207265666572656e6365646174612e666163696c69746965730a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e0a2020207265666572656e6365646174612e666163696c69746965732e67656f677261706869637a6f6e656964203d207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e69640a20204a4f494e207265666572656e6365646174612e70726f6772616d732070726f6772616d204f4e0a20202070726f6772616d2e6e616d65203d2070707371007e00fa0274000750726f6772616d70707371007e00fa017402823a3a766172636861720a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f6d656d626572732072676d204f4e0a202020666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f757073207267204f4e0a2020202072676d2e7265717569736974696f6e67726f75706964203d2072672e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f70726f6772616d5f7363686564756c65732072677073204f4e0a20202020726770732e7265717569736974696f6e67726f75706964203d2072672e696420414e4420726770732e70726f6772616d6964203d2070726f6772616d2e69640a20204a4f494e207265666572656e6365646174612e737570706f727465645f70726f6772616d73207370204f4e0a2020202073702e70726f6772616d6964203d2070726f6772616d2e696420414e442073702e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204c454654204a4f494e207265666572656e6365646174612e70726f63657373696e675f706572696f6473204f4e0a2020207265666572656e6365646174612e70726f63657373696e675f706572696f64732e696420494e202853454c4543542069642046524f4d2066696e644c617374506572696f6473290a20204c454654204a4f494e202853454c45435420666163696c69747969642c2070726f6772616d69642c2070726f63657373696e67706572696f6469642c2043415345205748454e2070707371007e00fa0274000750726f6772616d70707371007e00fa0174020d3a3a76617263686172203d202745504927205448454e20617574686f72697a65646461746520454c5345207375626d69747465646461746520454e442041532063726561746564646174650a20200946524f4d207265706f7274732e7265717569736974696f6e5f74696d656c696e6573735f666163747329207374617475735f6368616e67650a2020204f4e207374617475735f6368616e67652e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20202020414e44207374617475735f6368616e67652e70726f63657373696e67706572696f646964203d207265666572656e6365646174612e70726f63657373696e675f706572696f64732e69640a20202020414e44207374617475735f6368616e67652e70726f6772616d6964203d2070726f6772616d2e69640a2020204c454654204a4f494e207265666572656e6365646174612e666163696c6974795f747970657320415320666163696c6974795f7479706573204f4e20666163696c69746965732e747970656964203d20666163696c6974795f74797065732e69640a57484552450a2020207265666572656e6365646174612e666163696c69746965732e616374697665203d20747275650a202020414e44207265666572656e6365646174612e666163696c69746965732e656e61626c6564203d20747275650a202020414e44202870707371007e00fa0274000e47656f677261706869635a6f6e6570707371007e00fa0174007c3a3a76617263686172204953204e554c4c204f52207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e696420494e202853454c4543542069642046524f4d2066696e644368696c645a6f6e657329290a202020414e442073702e616374697665203d20747275650a20202009414e44202870707371007e00fa0274000c666163696c6974795479706570707371007e00fa017400153a3a76617263686172204953204e554c4c204f522070707371007e00fa04740028494e2c666163696c6974795f74797065732e6e616d652c20666163696c697479547970654c69737471007e011e7571007e011f00000003740002494e740013666163696c6974795f74797065732e6e616d6574001120666163696c697479547970654c6973747371007e00fa0174008020290a47524f555020425920706572696f646e616d652c207265666572656e6365646174612e70726f63657373696e675f706572696f64732e7374617274646174650a4f52444552204259207265666572656e6365646174612e70726f63657373696e675f706572696f64732e73746172746461746520292061732064617461707071007e0126707070707371007e012797b44c3b2be9a46588939bf72046424f7571007e0129000000087371007e012b000077ee0000010071007e0132707071007e013570707371007e008c000000027571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e013b7071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707071007e01407071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707071007e01427071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707371007e008c000000037571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e01487071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000047571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000057571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01567071007e013d71007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000067571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000077571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01607071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000087571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000097571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e016a7071007e016b71007e005d707371007e012b000077ee0000000071007e016e7371007e008c0000000a7571007e0090000000017371007e009201740011222531242e3066252520282532246429227070707071007e013570707371007e008c0000000b7571007e0090000000017371007e00920174000822252e306625252270707074001650657263656e74416e644e756d626572466f726d61747071007e013d7400106a6176612e6c616e672e537472696e677071007e017b70707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736553656374696f6e00000000000027d80200025b000562616e64737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b5b000570617274737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172743b7870757200255b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5242616e643b95dd7eec8cca85350200007870000000067372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736542616e6400000000000027d802000849001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a000e697353706c6974416c6c6f7765644c00137072696e745768656e45787072657373696f6e71007e001a4c000d70726f706572746965734d617071007e001d4c000c72657475726e56616c75657371007e002d4c000973706c6974547970657400104c6a6176612f6c616e672f427974653b4c000e73706c69745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53706c697454797065456e756d3b787200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7447726f757000000000000027d80200024c00086368696c6472656e71007e002d4c000c656c656d656e7447726f757074002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52456c656d656e7447726f75703b78707371007e00ab00000001770400000001737200376e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365436f6d706f6e656e74456c656d656e7400000000000027d80200024c0009636f6d706f6e656e747400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f636f6d706f6e656e742f436f6d706f6e656e743b4c000c636f6d706f6e656e744b65797400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f636f6d706f6e656e742f436f6d706f6e656e744b65793b7872002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7400000000000027d802001b49001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a001769735072696e74496e466972737457686f6c6542616e645a001569735072696e74526570656174656456616c7565735a001a69735072696e745768656e44657461696c4f766572666c6f77735a0015697352656d6f76654c696e655768656e426c616e6b42000c706f736974696f6e5479706542000b7374726574636854797065490005776964746849000178490001794c00096261636b636f6c6f727400104c6a6176612f6177742f436f6c6f723b4c001464656661756c745374796c6550726f76696465727400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5244656661756c745374796c6550726f76696465723b4c000c656c656d656e7447726f757071007e03934c0009666f7265636f6c6f7271007e039a4c00036b657971007e00024c00046d6f646571007e03904c00096d6f646556616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4d6f6465456e756d3b4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c0011706f736974696f6e5479706556616c75657400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506f736974696f6e54797065456e756d3b4c00137072696e745768656e45787072657373696f6e71007e001a4c00157072696e745768656e47726f75704368616e67657371007e012d4c000d70726f706572746965734d617071007e001d5b001370726f706572747945787072657373696f6e7371007e00294c0010737472657463685479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5374726574636854797065456e756d3b4c00047575696471007e002278700000ea620000003c0001000000000000022b00000000000000147071007e001171007e03947070707070707e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e506f736974696f6e54797065456e756d00000000000000001200007871007e00137400134649585f52454c41544956455f544f5f544f5070707371007e002c707371007e00ab0000000677040000000674001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f757474002e636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e7461626c655f68656164657274002f636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e636f6c756d6e5f686561646572740028636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e64657461696c740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e6175746f726573697a652e70726f706f7274696f6e616c7400346e65742e73662e6a61737065727265706f7274732e6578706f72742e686561646572746f6f6c6261722e7461626c652e6e616d65787371007e00b23f400000000000067708000000080000000671007e03a5740035636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e566572746963616c526f774c61796f757471007e03a67400085461626c655f544871007e03a77400085461626c655f434871007e03a97400047472756571007e03a87400085461626c655f544471007e03aa74000c506572696f64205461626c6578707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5374726574636854797065456e756d00000000000000001200007871007e001374000a4e4f5f535452455443487371007e0127b02986edabe5f96b1716c1a5741a4d63737200336e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e5374616e646172645461626c6500000000000027d80200034c0007636f6c756d6e7371007e002d4c000a6461746173657452756e74002a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524461746173657452756e3b4c000e7768656e4e6f446174615479706574003f4c6e65742f73662f6a61737065727265706f7274732f636f6d706f6e656e74732f7461626c652f5768656e4e6f44617461547970655461626c65456e756d3b78707371007e00ab00000005770400000005737200346e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e5374616e64617264436f6c756d6e00000000000027d80200014c000664657461696c74002c4c6e65742f73662f6a61737065727265706f7274732f636f6d706f6e656e74732f7461626c652f43656c6c3b787200386e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e5374616e6461726442617365436f6c756d6e00000000000027d802000b4c000c636f6c756d6e466f6f74657271007e03bc4c000c636f6c756d6e48656164657271007e03bc4c000c67726f7570466f6f7465727371007e002d4c000c67726f75704865616465727371007e002d4c00137072696e745768656e45787072657373696f6e71007e001a4c000d70726f706572746965734d617071007e001d4c001370726f706572747945787072657373696f6e7371007e002d4c000b7461626c65466f6f74657271007e03bc4c000b7461626c6548656164657271007e03bc4c00047575696471007e00224c000577696474687400134c6a6176612f6c616e672f496e74656765723b787070737200326e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e436f6d70696c656443656c6c00000000000027d80200074c0003626f787400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524c696e65426f783b4c001464656661756c745374796c6550726f766964657271007e039b4c000668656967687471007e03be4c000d70726f706572746965734d617071007e001d4c0007726f775370616e71007e03be4c00057374796c6571007e00074c00127374796c654e616d655265666572656e636571007e00027871007e03927371007e00ab00000001770400000001737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374617469635465787400000000000027d80200014c00047465787471007e0002787200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736554657874456c656d656e7400000000000027d802001949001950534555444f5f53455249414c5f56455253494f4e5f5549444c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e03be4c0008666f6e7473697a657400114c6a6176612f6c616e672f466c6f61743b4c0013686f72697a6f6e74616c416c69676e6d656e7471007e03904c0018686f72697a6f6e74616c416c69676e6d656e7456616c75657400364c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e74003a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c54657874416c69676e456e756d3b4c00066973426f6c647400134c6a6176612f6c616e672f426f6f6c65616e3b4c000869734974616c696371007e03c94c000d6973506466456d62656464656471007e03c94c000f6973537472696b655468726f75676871007e03c94c000c69735374796c65645465787471007e03c94c000b6973556e6465726c696e6571007e03c94c00076c696e65426f7871007e03c14c000b6c696e6553706163696e6771007e03904c00106c696e6553706163696e6756616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e6553706163696e67456e756d3b4c00066d61726b757071007e00024c00097061726167726170687400294c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525061726167726170683b4c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c0008726f746174696f6e71007e03904c000d726f746174696f6e56616c756574002f4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526f746174696f6e456e756d3b4c0011766572746963616c416c69676e6d656e7471007e03904c0016766572746963616c416c69676e6d656e7456616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c416c69676e456e756d3b4c0011766572746963616c54657874416c69676e7400384c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c54657874416c69676e456e756d3b7871007e03990000ea620000001e0001000000000000005300000000000000007071007e001171007e03c270707070707071007e03a170707371007e002c707371007e00ab0000000277040000000274001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00b23f400000000000037708000000040000000271007e03d2740005706978656c71007e03d3740005706978656c787071007e03b37371007e0127b3215da202551a5d2107dada373f420d0000ea6270707070707e7200386e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e486f72697a6f6e74616c54657874416c69676e456e756d00000000000000001200007871007e00137400044c4546547070707070707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654c696e65426f7800000000000027d802000b4c000d626f74746f6d50616464696e6771007e03be4c0009626f74746f6d50656e74002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f626173652f4a52426f7850656e3b4c000c626f78436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52426f78436f6e7461696e65723b4c000b6c65667450616464696e6771007e03be4c00076c65667450656e71007e03dc4c000770616464696e6771007e03be4c000370656e71007e03dc4c000c726967687450616464696e6771007e03be4c0008726967687450656e71007e03dc4c000a746f7050616464696e6771007e03be4c0006746f7050656e71007e03dc787070737200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78426f74746f6d50656e00000000000027d80200007872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f7850656e00000000000027d80200014c00076c696e65426f7871007e03c17872002a6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550656e00000000000027d802000649001950534555444f5f53455249414c5f56455253494f4e5f5549444c00096c696e65436f6c6f7271007e039a4c00096c696e655374796c6571007e03904c000e6c696e655374796c6556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e655374796c65456e756d3b4c00096c696e65576964746871007e03c64c000c70656e436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e436f6e7461696e65723b78700000ea627070707071007e03de71007e03de71007e03cf70737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f784c65667450656e00000000000027d80200007871007e03e00000ea627070707071007e03de71007e03de737200116a6176612e6c616e672e496e746567657212e2a0a4f781873802000149000576616c7565787200106a6176612e6c616e672e4e756d62657286ac951d0b94e08b0200007870000000027371007e03e00000ea627070707071007e03de71007e03de70737200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78526967687450656e00000000000027d80200007871007e03e00000ea627070707071007e03de71007e03de70737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78546f7050656e00000000000027d80200007871007e03e00000ea627070707071007e03de71007e03de707070737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550617261677261706800000000000027d802000a4c000f66697273744c696e65496e64656e7471007e03be4c000a6c656674496e64656e7471007e03be4c000b6c696e6553706163696e6771007e03ca4c000f6c696e6553706163696e6753697a6571007e03c64c0012706172616772617068436f6e7461696e65727400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616772617068436f6e7461696e65723b4c000b7269676874496e64656e7471007e03be4c000c73706163696e67416674657271007e03be4c000d73706163696e674265666f726571007e03be4c000c74616253746f70576964746871007e03be4c000874616253746f707371007e002d78707070707071007e03cf70707070707070707070707e7200366e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e566572746963616c54657874416c69676e456e756d00000000000000001200007871007e00137400064d4944444c45740007506572696f647378707371007e03db707371007e03df0000ea627070707071007e03f671007e03f671007e03c2707371007e03e50000ea627070707071007e03f671007e03f6707371007e03e00000ea627070707071007e03f671007e03f6707371007e03eb0000ea627070707071007e03f671007e03f6707371007e03ed0000ea627070707071007e03f671007e03f671007e00117371007e03e70000001e7371007e002c707371007e00ab0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f7574787371007e00b23f400000000000037708000000040000000171007e03ff74002e636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e467265654c61796f757478707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374796c65000000000000271102002f49001950534555444f5f53455249414c5f56455253494f4e5f5549445a0009697344656661756c744c00096261636b636f6c6f7271007e039a5b0011636f6e646974696f6e616c5374796c65737400315b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52436f6e646974696f6e616c5374796c653b4c001464656661756c745374796c6550726f766964657271007e039b4c000466696c6c71007e03904c000966696c6c56616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f46696c6c456e756d3b4c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e03be4c0008666f6e7473697a6571007e03c64c0009666f7265636f6c6f7271007e039a4c0013686f72697a6f6e74616c416c69676e6d656e7471007e03904c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e03c74c0014686f72697a6f6e74616c496d616765416c69676e74003b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c496d616765416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e71007e03c84c000f6973426c616e6b5768656e4e756c6c71007e03c94c00066973426f6c6471007e03c94c000869734974616c696371007e03c94c000d6973506466456d62656464656471007e03c94c000f6973537472696b655468726f75676871007e03c94c000c69735374796c65645465787471007e03c94c000b6973556e6465726c696e6571007e03c94c00076c696e65426f7871007e03c14c00076c696e6550656e7400234c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e3b4c000b6c696e6553706163696e6771007e03904c00106c696e6553706163696e6756616c756571007e03ca4c00066d61726b757071007e00024c00046d6f646571007e03904c00096d6f646556616c756571007e039c4c00046e616d6571007e00024c000970617261677261706871007e03cb4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c00077061747465726e71007e00024c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c000c706f736974696f6e5479706571007e03904c000672616469757371007e03be4c0008726f746174696f6e71007e03904c000d726f746174696f6e56616c756571007e03cc4c000a7363616c65496d61676571007e03904c000f7363616c65496d61676556616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5363616c65496d616765456e756d3b4c000b737472657463685479706571007e03904c0011766572746963616c416c69676e6d656e7471007e03904c0016766572746963616c416c69676e6d656e7456616c756571007e03cd4c0012766572746963616c496d616765416c69676e7400394c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c496d616765416c69676e456e756d3b4c0011766572746963616c54657874416c69676e71007e03ce78700000ea62007372000e6a6176612e6177742e436f6c6f7201a51783108f337502000546000666616c70686149000576616c75654c0002637374001b4c6a6176612f6177742f636f6c6f722f436f6c6f7253706163653b5b00096672676276616c75657400025b465b00066676616c756571007e040c787000000000ffe0e0e07070707071007e001170707070707070707070707070707070707371007e03db707371007e03df0000ea627371007e040a00000000ff00000070707070707372000f6a6176612e6c616e672e466c6f6174daedc9a2db3cf0ec02000146000576616c75657871007e03e83f00000071007e040e71007e040e71007e0409707371007e03e50000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e040e71007e040e707371007e03e00000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e040e71007e040e707371007e03eb0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e040e71007e040e707371007e03ed0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e040e71007e040e7371007e03e10000ea627070707071007e0409707070707e7200296e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4d6f6465456e756d00000000000000001200007871007e00137400064f50415155457400085461626c655f43487371007e03ef7070707071007e0409707070707070707070707070707070707070707070707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0429740007436f6c756d6e32787371007e00ab000000007704000000007870707371007e012781d95e416d7dae27bddbac36e7a64e957371007e03e7000000537371007e03c07371007e00ab00000001770400000001737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365546578744669656c6400000000000027d802001549001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a0015697353747265746368576974684f766572666c6f774c0014616e63686f724e616d6545787072657373696f6e71007e001a4c000f6576616c756174696f6e47726f757071007e012d4c00136576616c756174696f6e54696d6556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4576616c756174696f6e54696d65456e756d3b4c000a65787072657373696f6e71007e001a4c001968797065726c696e6b416e63686f7245787072657373696f6e71007e001a4c001768797065726c696e6b5061676545787072657373696f6e71007e001a5b001368797065726c696e6b506172616d65746572737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5248797065726c696e6b506172616d657465723b4c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e001a4c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e001a4c001768797065726c696e6b5768656e45787072657373696f6e71007e001a4c000f6973426c616e6b5768656e4e756c6c71007e03c94c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00077061747465726e71007e00024c00117061747465726e45787072657373696f6e71007e001a7871007e03c50000ea620000001e0001000000000000005300000000000000007071007e001171007e042f70707070707071007e03a17070707071007e03b37371007e0127a69bbb4d9b54894b66d43f08fb5748c30000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e043671007e043671007e0434707371007e03e50000ea627070707071007e043671007e043671007e03e97371007e03e00000ea627070707071007e043671007e0436707371007e03eb0000ea627070707071007e043671007e0436707371007e03ed0000ea627070707071007e043671007e04367070707371007e03ef7070707071007e0434707070707070707070707071007e03f30000ea62000000000000000070707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4576616c756174696f6e54696d65456e756d00000000000000001200007871007e00137400034e4f577371007e008c000000187571007e0090000000017371007e00920374000a706572696f646e616d65707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e044471007e044471007e042f707371007e03e50000ea627070707071007e044471007e0444707371007e03e00000ea627070707071007e044471007e0444707371007e03eb0000ea627070707071007e044471007e0444707371007e03ed0000ea627070707071007e044471007e044471007e00117371007e03e70000001e70707371007e04020000ea62007371007e040a00000000ffffffff7070707071007e001170707070707070707070707070707070707371007e03db707371007e03df0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e044d71007e044d71007e044b707371007e03e50000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e044d71007e044d707371007e03e00000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e044d71007e044d707371007e03eb0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e044d71007e044d707371007e03ed0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e044d71007e044d7371007e03e10000ea627070707071007e044b7070707071007e04217400085461626c655f54447371007e03ef7070707071007e044b707070707070707070707070707070707070707070707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e046170707070707071007e03a17070707071007e03b37371007e0127a301f8b0acaa0ec918437627b70d4a240000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e046571007e046571007e0463707371007e03e50000ea627070707071007e046571007e046571007e03e97371007e03e00000ea627070707071007e046571007e0465707371007e03eb0000ea627070707071007e046571007e0465707371007e03ed0000ea627070707071007e046571007e04657070707371007e03ef7070707071007e0463707070707070707070707071007e03f374001325205265706f7274696e672028436f756e742978707371007e03db707371007e03df0000ea627070707071007e046d71007e046d71007e0461707371007e03e50000ea627070707071007e046d71007e046d707371007e03e00000ea627070707071007e046d71007e046d707371007e03eb0000ea627070707071007e046d71007e046d707371007e03ed0000ea627070707071007e046d71007e046d71007e00117371007e03e70000001e707071007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0478740007436f6c756d6e33787371007e00ab000000007704000000007870707371007e012795f9baa3dd9fe67c7cdf4b24f89e488c7371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e047e70707070707071007e03a17070707071007e03b37371007e0127af837bc5a1626a2dc76ce9791d2c4b280000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e048271007e048271007e0480707371007e03e50000ea627070707071007e048271007e048271007e03e97371007e03e00000ea627070707071007e048271007e0482707371007e03eb0000ea627070707071007e048271007e0482707371007e03ed0000ea627070707071007e048271007e04827070707371007e03ef7070707071007e0480707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000197571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e009203740009636f6d706c657465647371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e049d71007e049d71007e047e707371007e03e50000ea627070707071007e049d71007e049d707371007e03e00000ea627070707071007e049d71007e049d707371007e03eb0000ea627070707071007e049d71007e049d707371007e03ed0000ea627070707071007e049d71007e049d71007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e04a570707070707071007e03a17070707071007e03b37371007e0127beee6cc1dc25f19f2b3610dadf754d520000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e04a971007e04a971007e04a7707371007e03e50000ea627070707071007e04a971007e04a971007e03e97371007e03e00000ea627070707071007e04a971007e04a9707371007e03eb0000ea627070707071007e04a971007e04a9707371007e03ed0000ea627070707071007e04a971007e04a97070707371007e03ef7070707071007e04a7707070707070707070707071007e03f374001525204f6e2054696d65205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e04b171007e04b171007e04a5707371007e03e50000ea627070707071007e04b171007e04b1707371007e03e00000ea627070707071007e04b171007e04b1707371007e03eb0000ea627070707071007e04b171007e04b1707371007e03ed0000ea627070707071007e04b171007e04b171007e00117371007e03e70000001e707071007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e04bc740007436f6c756d6e34787371007e00ab000000007704000000007870707371007e0127b8f148d1aca79e86356abb0638d64f607371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e04c270707070707071007e03a17070707071007e03b37371007e0127acba4c67310920ce533abb65b85840420000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e04c671007e04c671007e04c4707371007e03e50000ea627070707071007e04c671007e04c671007e03e97371007e03e00000ea627070707071007e04c671007e04c6707371007e03eb0000ea627070707071007e04c671007e04c6707371007e03ed0000ea627070707071007e04c671007e04c67070707371007e03ef7070707071007e04c4707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001a7571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e0092037400066f6e74696d657371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e04e171007e04e171007e04c2707371007e03e50000ea627070707071007e04e171007e04e1707371007e03e00000ea627070707071007e04e171007e04e1707371007e03eb0000ea627070707071007e04e171007e04e1707371007e03ed0000ea627070707071007e04e171007e04e171007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e04e970707070707071007e03a17070707071007e03b37371007e01278d6c1f13dca27c7f92db07b90cc8462b0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e04ed71007e04ed71007e04eb707371007e03e50000ea627070707071007e04ed71007e04ed71007e03e97371007e03e00000ea627070707071007e04ed71007e04ed707371007e03eb0000ea627070707071007e04ed71007e04ed707371007e03ed0000ea627070707071007e04ed71007e04ed7070707371007e03ef7070707071007e04eb707070707070707070707071007e03f374001225204c617465205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e04f571007e04f571007e04e9707371007e03e50000ea627070707071007e04f571007e04f5707371007e03e00000ea627070707071007e04f571007e04f5707371007e03eb0000ea627070707071007e04f571007e04f5707371007e03ed0000ea627070707071007e04f571007e04f571007e00117371007e03e70000001e707071007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0500740007436f6c756d6e35787371007e00ab000000007704000000007870707371007e012780aeab95ea78c93839fbaedd02c844057371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e050670707070707071007e03a17070707071007e03b37371007e012797a4830b0a074daf32465b83c4634b160000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e050a71007e050a71007e0508707371007e03e50000ea627070707071007e050a71007e050a71007e03e97371007e03e00000ea627070707071007e050a71007e050a707371007e03eb0000ea627070707071007e050a71007e050a707371007e03ed0000ea627070707071007e050a71007e050a7070707371007e03ef7070707071007e0508707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001b7571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e052d71007e052d71007e0506707371007e03e50000ea627070707071007e052d71007e052d707371007e03e00000ea627070707071007e052d71007e052d707371007e03eb0000ea627070707071007e052d71007e052d707371007e03ed0000ea627070707071007e052d71007e052d71007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e053570707070707071007e03a170707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e053a740005706978656c787071007e03b37371007e01278bcf2e8fb3f572a76b549939bb774aff0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e053e71007e053e71007e0537707371007e03e50000ea627070707071007e053e71007e053e71007e03e97371007e03e00000ea627070707071007e053e71007e053e707371007e03eb0000ea627070707071007e053e71007e053e707371007e03ed0000ea627070707071007e053e71007e053e7070707371007e03ef7070707071007e0537707070707070707070707071007e03f374001625204e6f74205265706f727465642028436f756e742978707371007e03db707371007e03df0000ea627070707071007e054671007e054671007e0535707371007e03e50000ea627070707071007e054671007e0546707371007e03e00000ea627070707071007e054671007e0546707371007e03eb0000ea627070707071007e054671007e0546707371007e03ed0000ea627070707071007e054671007e054671007e00117371007e03e70000001e707071007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0551740007436f6c756d6e36787371007e00ab000000007704000000007870707371007e0127bfadb13fd6b7bf167d25d6c5211b44b17371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e055770707070707071007e03a17070707071007e03b37371007e012782a547562053bc7149b0377de4fc4d230000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e055b71007e055b71007e0559707371007e03e50000ea627070707071007e055b71007e055b71007e03e97371007e03e00000ea627070707071007e055b71007e055b707371007e03eb0000ea627070707071007e055b71007e055b707371007e03ed0000ea627070707071007e055b71007e055b7070707371007e03ef7070707071007e0559707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001c7571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740005746f74616c7371007e0092017400012d7371007e009203740009636f6d706c657465647371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740005746f74616c7371007e0092017400012d7371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e057e71007e057e71007e0557707371007e03e50000ea627070707071007e057e71007e057e707371007e03e00000ea627070707071007e057e71007e057e707371007e03eb0000ea627070707071007e057e71007e057e707371007e03ed0000ea627070707071007e057e71007e057e71007e00117371007e03e70000001e707071007e044b7078737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654461746173657452756e00000000000027d80200084c0014636f6e6e656374696f6e45787072657373696f6e71007e001a4c001464617461536f7572636545787072657373696f6e71007e001a4c000b646174617365744e616d6571007e00025b000a706172616d65746572737400315b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5244617461736574506172616d657465723b4c0017706172616d65746572734d617045787072657373696f6e71007e001a4c000d70726f706572746965734d617071007e001d4c000c72657475726e56616c75657371007e002d4c00047575696471007e002278707371007e008c000000197571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e7070707074000742794d6f6e74687572003a5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736544617461736574506172616d657465723b2413b76c659575a5020000787000000006737200376e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736544617461736574506172616d6574657200000000000027d80200024c000a65787072657373696f6e71007e001a4c00046e616d6571007e000278707371007e008c0000001a7571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c0000001b7571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c0000001c7571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7371007e058f7371007e008c0000001d7571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c0000001e7571007e0090000000017371007e00920274000c666163696c6974795479706570707074000c666163696c697479547970657371007e058f7371007e008c0000001f7571007e0090000000017371007e0092027400155245504f52545f504152414d45544552535f4d41507070707400155245504f52545f504152414d45544552535f4d41507070707371007e0127b38f4caf953cd9cd6866ffed82f94aa870737200326e65742e73662e6a61737065727265706f7274732e656e67696e652e636f6d706f6e656e742e436f6d706f6e656e744b657900000000000027d80200034c00046e616d6571007e00024c00096e616d65737061636571007e00024c000f6e616d65737061636550726566697871007e000278707400057461626c6574003d687474703a2f2f6a61737065727265706f7274732e736f75726365666f7267652e6e65742f6a61737065727265706f7274732f636f6d706f6e656e74737400026a7278700000ea6200000078017371007e008c000000187571007e0090000000047371007e00920474000c5245504f52545f434f554e547371007e009201740028203d3d203120262620214172726179732e61734c697374282263737622292e636f6e7461696e73287371007e0092027400155245504f52545f504152414d45544552535f4d41507371007e00920174000f2e6765742822666f726d61742229297070707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e05c6740005706978656c787070707371007e038f7371007e00ab000000027704000000027371007e03c40000ea62000000140001000000000000022b00000000000000007371007e040a00000000ff66666670707071007e001171007e05c97371007e040a00000000ffffffff707070707071007e0421707071007e03a170707371007e002c707371007e00ab00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00b23f400000000000037708000000040000000171007e05d0740005706978656c787071007e03b37371007e0127bfae4fde6763a2797c06d4c6e88a46c00000ea62707070707070737200116a6176612e6c616e672e426f6f6c65616ecd207280d59cfaee0200015a000576616c756578700170707070707371007e03db707371007e03df0000ea627070707071007e05d671007e05d671007e05cb707371007e03e50000ea627070707071007e05d671007e05d6707371007e03e00000ea627070707071007e05d671007e05d6707371007e03eb0000ea627070707071007e05d671007e05d6707371007e03ed0000ea627070707071007e05d671007e05d67070707371007e03ef7371007e03e7000000007371007e03e70000000a707071007e05cb707070707070707070707071007e03f374001a5265706f7274696e6720726174652028646973747269637473297371007e03960000ea620000003c0001000000000000022b000000000000001e7071007e001171007e05c970707070707071007e03a170707371007e002c707371007e00ab0000000677040000000674001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f757474002e636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e7461626c655f68656164657274002f636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e636f6c756d6e5f686561646572740028636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e64657461696c740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e6175746f726573697a652e70726f706f7274696f6e616c7400346e65742e73662e6a61737065727265706f7274732e6578706f72742e686561646572746f6f6c6261722e7461626c652e6e616d65787371007e00b23f400000000000067708000000080000000671007e05e3740035636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e566572746963616c526f774c61796f757471007e05e47400085461626c655f544871007e05e57400085461626c655f434871007e05e77400047472756571007e05e67400085461626c655f544471007e05e874000c506572696f64205461626c65787071007e03b37371007e01278632cf451fa0c3ecb1abbaf32b8c4eb67371007e03b67371007e00ab000000057704000000057371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000005300000000000000007071007e001171007e05f470707070707071007e03a17070707071007e03b37371007e0127a7f413486a02659b7fa71eb4df1741d70000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e05f871007e05f871007e05f6707371007e03e50000ea627070707071007e05f871007e05f871007e03e97371007e03e00000ea627070707071007e05f871007e05f8707371007e03eb0000ea627070707071007e05f871007e05f8707371007e03ed0000ea627070707071007e05f871007e05f87070707371007e03ef7070707071007e05f6707070707070707070707071007e03f374000944697374726963747378707371007e03db707371007e03df0000ea627070707071007e060071007e060071007e05f4707371007e03e50000ea627070707071007e060071007e0600707371007e03e00000ea627070707071007e060071007e0600707371007e03eb0000ea627070707071007e060071007e0600707371007e03ed0000ea627070707071007e060071007e060071007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e060c740007436f6c756d6e32787371007e00ab000000007704000000007870707371007e0127a34fd21fb9758a9878d31c95ced747007371007e03e7000000537371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000005300000000000000007071007e001171007e061270707070707071007e03a17070707071007e03b37371007e0127afe83970bef3b2652884d7b8fe5641530000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e061671007e061671007e0614707371007e03e50000ea627070707071007e061671007e061671007e03e97371007e03e00000ea627070707071007e061671007e0616707371007e03eb0000ea627070707071007e061671007e0616707371007e03ed0000ea627070707071007e061671007e06167070707371007e03ef7070707071007e0614707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000000c7571007e0090000000017371007e00920374001267656f677261706869637a6f6e656e616d65707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e062171007e062171007e0612707371007e03e50000ea627070707071007e062171007e0621707371007e03e00000ea627070707071007e062171007e0621707371007e03eb0000ea627070707071007e062171007e0621707371007e03ed0000ea627070707071007e062171007e062171007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e062970707070707071007e03a17070707071007e03b37371007e01279984c689db69084a45afdcba545c47000000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e062d71007e062d71007e062b707371007e03e50000ea627070707071007e062d71007e062d71007e03e97371007e03e00000ea627070707071007e062d71007e062d707371007e03eb0000ea627070707071007e062d71007e062d707371007e03ed0000ea627070707071007e062d71007e062d7070707371007e03ef7070707071007e062b707070707070707070707071007e03f374001325205265706f7274696e672028436f756e742978707371007e03db707371007e03df0000ea627070707071007e063571007e063571007e0629707371007e03e50000ea627070707071007e063571007e0635707371007e03e00000ea627070707071007e063571007e0635707371007e03eb0000ea627070707071007e063571007e0635707371007e03ed0000ea627070707071007e063571007e063571007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0641740007436f6c756d6e33787371007e00ab000000007704000000007870707371007e0127b70834760c787b3637f0c5d3870c44dd7371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e064770707070707071007e03a17070707071007e03b37371007e0127b36d2bc60d97b56799413dd50f844b070000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e064b71007e064b71007e0649707371007e03e50000ea627070707071007e064b71007e064b71007e03e97371007e03e00000ea627070707071007e064b71007e064b707371007e03eb0000ea627070707071007e064b71007e064b707371007e03ed0000ea627070707071007e064b71007e064b7070707371007e03ef7070707071007e0649707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000000d7571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e009203740009636f6d706c657465647371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e066671007e066671007e0647707371007e03e50000ea627070707071007e066671007e0666707371007e03e00000ea627070707071007e066671007e0666707371007e03eb0000ea627070707071007e066671007e0666707371007e03ed0000ea627070707071007e066671007e066671007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e066e70707070707071007e03a17070707071007e03b37371007e01278e3edf1c8d8f09f9add31fc13b7244580000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e067271007e067271007e0670707371007e03e50000ea627070707071007e067271007e067271007e03e97371007e03e00000ea627070707071007e067271007e0672707371007e03eb0000ea627070707071007e067271007e0672707371007e03ed0000ea627070707071007e067271007e06727070707371007e03ef7070707071007e0670707070707070707070707071007e03f374001525204f6e2054696d65205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e067a71007e067a71007e066e707371007e03e50000ea627070707071007e067a71007e067a707371007e03e00000ea627070707071007e067a71007e067a707371007e03eb0000ea627070707071007e067a71007e067a707371007e03ed0000ea627070707071007e067a71007e067a71007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0686740007436f6c756d6e34787371007e00ab000000007704000000007870707371007e0127ad8252e69571d36736deb7dd097149307371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e068c70707070707071007e03a17070707071007e03b37371007e0127962751467a43e0b26098848d33964ec00000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e069071007e069071007e068e707371007e03e50000ea627070707071007e069071007e069071007e03e97371007e03e00000ea627070707071007e069071007e0690707371007e03eb0000ea627070707071007e069071007e0690707371007e03ed0000ea627070707071007e069071007e06907070707371007e03ef7070707071007e068e707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000000e7571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e0092037400066f6e74696d657371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e06ab71007e06ab71007e068c707371007e03e50000ea627070707071007e06ab71007e06ab707371007e03e00000ea627070707071007e06ab71007e06ab707371007e03eb0000ea627070707071007e06ab71007e06ab707371007e03ed0000ea627070707071007e06ab71007e06ab71007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e06b370707070707071007e03a17070707071007e03b37371007e01279d18b2a59d09f4e9bc42f5e45711402f0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e06b771007e06b771007e06b5707371007e03e50000ea627070707071007e06b771007e06b771007e03e97371007e03e00000ea627070707071007e06b771007e06b7707371007e03eb0000ea627070707071007e06b771007e06b7707371007e03ed0000ea627070707071007e06b771007e06b77070707371007e03ef7070707071007e06b5707070707070707070707071007e03f374001225204c617465205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e06bf71007e06bf71007e06b3707371007e03e50000ea627070707071007e06bf71007e06bf707371007e03e00000ea627070707071007e06bf71007e06bf707371007e03eb0000ea627070707071007e06bf71007e06bf707371007e03ed0000ea627070707071007e06bf71007e06bf71007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e06cb740007436f6c756d6e35787371007e00ab000000007704000000007870707371007e0127811870ae37631da92bcf4445bb104a9f7371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e06d170707070707071007e03a17070707071007e03b37371007e0127894e339a41baac57af00bd95fa134baf0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e06d571007e06d571007e06d3707371007e03e50000ea627070707071007e06d571007e06d571007e03e97371007e03e00000ea627070707071007e06d571007e06d5707371007e03eb0000ea627070707071007e06d571007e06d5707371007e03ed0000ea627070707071007e06d571007e06d57070707371007e03ef7070707071007e06d3707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000000f7571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e06f871007e06f871007e06d1707371007e03e50000ea627070707071007e06f871007e06f8707371007e03e00000ea627070707071007e06f871007e06f8707371007e03eb0000ea627070707071007e06f871007e06f8707371007e03ed0000ea627070707071007e06f871007e06f871007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e070070707070707071007e03a170707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0705740005706978656c787071007e03b37371007e01279b81fdf14b96c3107ba5a6fb2872472e0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e070971007e070971007e0702707371007e03e50000ea627070707071007e070971007e070971007e03e97371007e03e00000ea627070707071007e070971007e0709707371007e03eb0000ea627070707071007e070971007e0709707371007e03ed0000ea627070707071007e070971007e07097070707371007e03ef7070707071007e0702707070707070707070707071007e03f374001625204e6f74205265706f727465642028436f756e742978707371007e03db707371007e03df0000ea627070707071007e071171007e071171007e0700707371007e03e50000ea627070707071007e071171007e0711707371007e03e00000ea627070707071007e071171007e0711707371007e03eb0000ea627070707071007e071171007e0711707371007e03ed0000ea627070707071007e071171007e071171007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e071d740007436f6c756d6e36787371007e00ab000000007704000000007870707371007e0127a79f6d1e06fb0dbdc6d75d3a741146f37371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e072370707070707071007e03a17070707071007e03b37371007e01278772e6f3fc79c3c9f74f1b72b6a54a540000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e072771007e072771007e0725707371007e03e50000ea627070707071007e072771007e072771007e03e97371007e03e00000ea627070707071007e072771007e0727707371007e03eb0000ea627070707071007e072771007e0727707371007e03ed0000ea627070707071007e072771007e07277070707371007e03ef7070707071007e0725707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000107571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e0092037400066d69737365647371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066d69737365647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e074271007e074271007e0723707371007e03e50000ea627070707071007e074271007e0742707371007e03e00000ea627070707071007e074271007e0742707371007e03eb0000ea627070707071007e074271007e0742707371007e03ed0000ea627070707071007e074271007e074271007e00117371007e03e70000001e707071007e044b70787371007e05857371007e008c000000217571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e7070707074000642795a6f6e657571007e058d000000067371007e058f7371007e008c000000227571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c000000237571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c000000247571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7371007e058f7371007e008c000000257571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c000000267571007e0090000000017371007e00920274000c666163696c6974795479706570707074000c666163696c697479547970657371007e058f7371007e008c000000277571007e0090000000017371007e0092027400155245504f52545f504152414d45544552535f4d41507070707400155245504f52545f504152414d45544552535f4d41507070707371007e0127abaaed3683b08f43a95f58312ab5410a707371007e05b571007e05b771007e05b87400026a7278700000ea620000005a017371007e008c000000207571007e0090000000047371007e00920474000c5245504f52545f434f554e547371007e00920174002f203d3d2031202626204172726179732e61734c6973742822706466222c202268746d6c22292e636f6e7461696e73287371007e0092027400155245504f52545f504152414d45544552535f4d41507371007e00920174000f2e6765742822666f726d6174222929707070707070707371007e038f7371007e00ab000000017704000000017371007e03960000ea620000003c0001000000000000022b00000000000000007071007e001171007e078170707070707071007e03a170707371007e002c707371007e00ab0000000677040000000674001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f757474002e636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e7461626c655f68656164657274002f636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e636f6c756d6e5f686561646572740028636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e64657461696c740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e6175746f726573697a652e70726f706f7274696f6e616c7400346e65742e73662e6a61737065727265706f7274732e6578706f72742e686561646572746f6f6c6261722e7461626c652e6e616d65787371007e00b23f400000000000067708000000080000000671007e0786740035636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e566572746963616c526f774c61796f757471007e07877400085461626c655f544871007e07887400085461626c655f434871007e078a7400047472756571007e07897400085461626c655f544471007e078b74000c506572696f64205461626c65787071007e03b37371007e0127a3693c589e5e8c24abaf998c69ad44007371007e03b67371007e00ab000000057704000000057371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e079b740007436f6c756d6e32787371007e00ab0000000077040000000078707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000005300000000000000007071007e001171007e079f70707070707071007e03a17070707071007e03b37371007e0127861d4ef07c1faec42908392891a6455d0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e07a371007e07a371007e07a1707371007e03e50000ea627070707071007e07a371007e07a371007e03e97371007e03e00000ea627070707071007e07a371007e07a3707371007e03eb0000ea627070707071007e07a371007e07a3707371007e03ed0000ea627070707071007e07a371007e07a37070707371007e03ef7070707071007e07a1707070707070707070707071007e03f374000944697374726963747378707371007e03db707371007e03df0000ea627070707071007e07ab71007e07ab71007e079f707371007e03e50000ea627070707071007e07ab71007e07ab707371007e03e00000ea627070707071007e07ab71007e07ab707371007e03eb0000ea627070707071007e07ab71007e07ab707371007e03ed0000ea627070707071007e07ab71007e07ab71007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e0127bbb6e919e542c09eee76da1485ee43337371007e03e7000000537371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000005300000000000000007071007e001171007e07b570707070707071007e03a17070707071007e03b37371007e0127a4fe4ca04d44c224c559cdd38436455f0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e07b971007e07b971007e07b7707371007e03e50000ea627070707071007e07b971007e07b971007e03e97371007e03e00000ea627070707071007e07b971007e07b9707371007e03eb0000ea627070707071007e07b971007e07b9707371007e03ed0000ea627070707071007e07b971007e07b97070707371007e03ef7070707071007e07b7707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000117571007e0090000000017371007e00920374001267656f677261706869637a6f6e656e616d65707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e07c471007e07c471007e07b5707371007e03e50000ea627070707071007e07c471007e07c4707371007e03e00000ea627070707071007e07c471007e07c4707371007e03eb0000ea627070707071007e07c471007e07c4707371007e03ed0000ea627070707071007e07c471007e07c471007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e07d0740007436f6c756d6e33787371007e00ab0000000077040000000078707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e07d470707070707071007e03a17070707071007e03b37371007e01278f2303a3604303930c7b28a3712e410c0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e07d871007e07d871007e07d6707371007e03e50000ea627070707071007e07d871007e07d871007e03e97371007e03e00000ea627070707071007e07d871007e07d8707371007e03eb0000ea627070707071007e07d871007e07d8707371007e03ed0000ea627070707071007e07d871007e07d87070707371007e03ef7070707071007e07d6707070707070707070707071007e03f374001325205265706f7274696e672028436f756e742978707371007e03db707371007e03df0000ea627070707071007e07e071007e07e071007e07d4707371007e03e50000ea627070707071007e07e071007e07e0707371007e03e00000ea627070707071007e07e071007e07e0707371007e03eb0000ea627070707071007e07e071007e07e0707371007e03ed0000ea627070707071007e07e071007e07e071007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e0127930bc144613119a10683d6d022df4e4d7371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e07ea70707070707071007e03a17070707071007e03b37371007e0127a700514c1b991b5e8f8a7714d5504ef30000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e07ee71007e07ee71007e07ec707371007e03e50000ea627070707071007e07ee71007e07ee71007e03e97371007e03e00000ea627070707071007e07ee71007e07ee707371007e03eb0000ea627070707071007e07ee71007e07ee707371007e03ed0000ea627070707071007e07ee71007e07ee7070707371007e03ef7070707071007e07ec707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000127571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e009203740009636f6d706c657465647371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e080971007e080971007e07ea707371007e03e50000ea627070707071007e080971007e0809707371007e03e00000ea627070707071007e080971007e0809707371007e03eb0000ea627070707071007e080971007e0809707371007e03ed0000ea627070707071007e080971007e080971007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0815740007436f6c756d6e34787371007e00ab0000000077040000000078707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e081970707070707071007e03a17070707071007e03b37371007e0127858b7339e01b967a11abd44daa4d4f360000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e081d71007e081d71007e081b707371007e03e50000ea627070707071007e081d71007e081d71007e03e97371007e03e00000ea627070707071007e081d71007e081d707371007e03eb0000ea627070707071007e081d71007e081d707371007e03ed0000ea627070707071007e081d71007e081d7070707371007e03ef7070707071007e081b707070707070707070707071007e03f374001525204f6e2054696d65205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e082571007e082571007e0819707371007e03e50000ea627070707071007e082571007e0825707371007e03e00000ea627070707071007e082571007e0825707371007e03eb0000ea627070707071007e082571007e0825707371007e03ed0000ea627070707071007e082571007e082571007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e012798f93f0619cdaf90079c40b5a92f4b3a7371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e082f70707070707071007e03a17070707071007e03b37371007e0127b7df21bc7c0a8c8f4a6b09c6c34046bc0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e083371007e083371007e0831707371007e03e50000ea627070707071007e083371007e083371007e03e97371007e03e00000ea627070707071007e083371007e0833707371007e03eb0000ea627070707071007e083371007e0833707371007e03ed0000ea627070707071007e083371007e08337070707371007e03ef7070707071007e0831707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000137571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e0092037400066f6e74696d657371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e084e71007e084e71007e082f707371007e03e50000ea627070707071007e084e71007e084e707371007e03e00000ea627070707071007e084e71007e084e707371007e03eb0000ea627070707071007e084e71007e084e707371007e03ed0000ea627070707071007e084e71007e084e71007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e085a740007436f6c756d6e35787371007e00ab0000000077040000000078707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e085e70707070707071007e03a17070707071007e03b37371007e0127a66616d1b87b52d1172d90931bbe40550000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e086271007e086271007e0860707371007e03e50000ea627070707071007e086271007e086271007e03e97371007e03e00000ea627070707071007e086271007e0862707371007e03eb0000ea627070707071007e086271007e0862707371007e03ed0000ea627070707071007e086271007e08627070707371007e03ef7070707071007e0860707070707070707070707071007e03f374001225204c617465205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e086a71007e086a71007e085e707371007e03e50000ea627070707071007e086a71007e086a707371007e03e00000ea627070707071007e086a71007e086a707371007e03eb0000ea627070707071007e086a71007e086a707371007e03ed0000ea627070707071007e086a71007e086a71007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e012790852153529c50b45d1f0d22bb464f0c7371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e087470707070707071007e03a17070707071007e03b37371007e01278852d27b3612c83d7e25f7b6fb0a40f20000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e087871007e087871007e0876707371007e03e50000ea627070707071007e087871007e087871007e03e97371007e03e00000ea627070707071007e087871007e0878707371007e03eb0000ea627070707071007e087871007e0878707371007e03ed0000ea627070707071007e087871007e08787070707371007e03ef7070707071007e0876707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000147571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e089b71007e089b71007e0874707371007e03e50000ea627070707071007e089b71007e089b707371007e03e00000ea627070707071007e089b71007e089b707371007e03eb0000ea627070707071007e089b71007e089b707371007e03ed0000ea627070707071007e089b71007e089b71007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e08a7740007436f6c756d6e36787371007e00ab0000000077040000000078707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000007600000000000000007071007e001171007e08ab70707070707071007e03a170707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e08b0740005706978656c787071007e03b37371007e0127a4ddb070f0816605b75a05f5181146a50000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e08b471007e08b471007e08ad707371007e03e50000ea627070707071007e08b471007e08b471007e03e97371007e03e00000ea627070707071007e08b471007e08b4707371007e03eb0000ea627070707071007e08b471007e08b4707371007e03ed0000ea627070707071007e08b471007e08b47070707371007e03ef7070707071007e08ad707070707070707070707071007e03f374001625204e6f74205265706f727465642028436f756e742978707371007e03db707371007e03df0000ea627070707071007e08bc71007e08bc71007e08ab707371007e03e50000ea627070707071007e08bc71007e08bc707371007e03e00000ea627070707071007e08bc71007e08bc707371007e03eb0000ea627070707071007e08bc71007e08bc707371007e03ed0000ea627070707071007e08bc71007e08bc71007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e0127ac2c51bf5551aa7a21eb7751c10049447371007e03e7000000767371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000007600000000000000007071007e001171007e08c670707070707071007e03a17070707071007e03b37371007e01278fc252d4dce71bdf1fa8f2a1fd05460a0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e08ca71007e08ca71007e08c8707371007e03e50000ea627070707071007e08ca71007e08ca71007e03e97371007e03e00000ea627070707071007e08ca71007e08ca707371007e03eb0000ea627070707071007e08ca71007e08ca707371007e03ed0000ea627070707071007e08ca71007e08ca7070707371007e03ef7070707071007e08c8707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000157571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e0092037400066d69737365647371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066d69737365647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e08e571007e08e571007e08c6707371007e03e50000ea627070707071007e08e571007e08e5707371007e03e00000ea627070707071007e08e571007e08e5707371007e03eb0000ea627070707071007e08e571007e08e5707371007e03ed0000ea627070707071007e08e571007e08e571007e00117371007e03e70000001e707071007e044b70787371007e05857371007e008c000000297571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e7070707074000642795a6f6e657571007e058d000000057371007e058f7371007e008c0000002a7571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c0000002b7571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c0000002c7571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7371007e058f7371007e008c0000002d7571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c0000002e7571007e0090000000017371007e0092027400155245504f52545f504152414d45544552535f4d41507070707400155245504f52545f504152414d45544552535f4d41507070707371007e01278be3c3ef335075acce2afa178d344b3a707371007e05b571007e05b771007e05b87400026a7278700000ea620000003c017371007e008c000000287571007e0090000000047371007e00920474000c5245504f52545f434f554e547371007e009201740027203d3d2031202626204172726179732e61734c6973742822786c7322292e636f6e7461696e73287371007e0092027400155245504f52545f504152414d45544552535f4d41507371007e00920174000f2e6765742822666f726d61742229297070707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0920740005706978656c787070707371007e038f7371007e00ab000000017704000000017371007e03960000ea620000003c0001000000000000022b00000000000000007071007e001171007e092370707070707071007e03a170707371007e002c707371007e00ab0000000677040000000674001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f757474002e636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e7461626c655f68656164657274002f636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e636f6c756d6e5f686561646572740028636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e64657461696c740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e6175746f726573697a652e70726f706f7274696f6e616c7400346e65742e73662e6a61737065727265706f7274732e6578706f72742e686561646572746f6f6c6261722e7461626c652e6e616d65787371007e00b23f400000000000067708000000080000000671007e0928740035636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e566572746963616c526f774c61796f757471007e09297400085461626c655f544871007e092a7400085461626c655f434871007e092c7400047472756571007e092b7400085461626c655f544471007e092d74000c506572696f64205461626c65787071007e03b37371007e01278328070e3efc1248a84d68b1074e452d7371007e03b67371007e00ab000000067704000000067371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000003c00000000000000007071007e001171007e093970707070707071007e03a17070707071007e03b37371007e01279134b612ee6272f0c2c6a9da14b54c700000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e093d71007e093d71007e093b707371007e03e50000ea627070707071007e093d71007e093d71007e03e97371007e03e00000ea627070707071007e093d71007e093d707371007e03eb0000ea627070707071007e093d71007e093d707371007e03ed0000ea627070707071007e093d71007e093d7070707371007e03ef7070707071007e093b707070707070707070707071007e03f3740007506572696f647378707371007e03db707371007e03df0000ea627070707071007e094571007e094571007e0939707371007e03e50000ea627070707071007e094571007e0945707371007e03e00000ea627070707071007e094571007e0945707371007e03eb0000ea627070707071007e094571007e0945707371007e03ed0000ea627070707071007e094571007e094571007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0951740007436f6c756d6e31787371007e00ab000000007704000000007870707371007e0127b73552e6cea94fc4ca72f0ad4b5849417371007e03e70000003c7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000003c00000000000000007071007e001171007e095770707070707071007e03a17070707071007e03b37371007e0127b3a21553ba1084dc676c1eebf906412a0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e095b71007e095b71007e0959707371007e03e50000ea627070707071007e095b71007e095b71007e03e97371007e03e00000ea627070707071007e095b71007e095b707371007e03eb0000ea627070707071007e095b71007e095b707371007e03ed0000ea627070707071007e095b71007e095b7070707371007e03ef7070707071007e0959707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001d7571007e0090000000017371007e00920374000a706572696f646e616d65707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e096671007e096671007e0957707371007e03e50000ea627070707071007e096671007e0966707371007e03e00000ea627070707071007e096671007e0966707371007e03eb0000ea627070707071007e096671007e0966707371007e03ed0000ea627070707071007e096671007e096671007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000003700000000000000007071007e001171007e096e70707070707071007e03a17070707071007e03b37371007e0127a7e660953ca17fa4591a94c865c342450000ea6270707070707e71007e03d874000643454e5445527070707070707371007e03db707371007e03df0000ea627070707071007e097471007e097471007e0970707371007e03e50000ea627070707071007e097471007e0974707371007e03e00000ea627070707071007e097471007e0974707371007e03eb0000ea627070707071007e097471007e0974707371007e03ed0000ea627070707071007e097471007e09747070707371007e03ef7070707071007e0970707070707070707070707071007e03f374000944697374726963747378707371007e03db707371007e03df0000ea627070707071007e097c71007e097c71007e096e707371007e03e50000ea627070707071007e097c71007e097c707371007e03e00000ea627070707071007e097c71007e097c707371007e03eb0000ea627070707071007e097c71007e097c707371007e03ed0000ea627070707071007e097c71007e097c71007e00117371007e03e70000001e7371007e002c707371007e00ab0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f7574787371007e00b23f400000000000037708000000040000000171007e098574002e636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e467265654c61796f7574787371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e098d740007436f6c756d6e32787371007e00ab000000007704000000007870707371007e01278119777a540106d5279bab2c4cdb4f6a7371007e03e7000000377371007e03c07371007e00ab0000000077040000000078707371007e03db707371007e03df0000ea627070707071007e099571007e099571007e0993707371007e03e50000ea627070707071007e099571007e0995707371007e03e00000ea627070707071007e099571007e0995707371007e03eb0000ea627070707071007e099571007e0995707371007e03ed0000ea627070707071007e099571007e099571007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000006e00000000000000007071007e001171007e099d70707070707071007e03a17070707071007e03b37371007e0127bfda1d001b0030f2a22303f1d1244cfe0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e09a171007e09a171007e099f707371007e03e50000ea627070707071007e09a171007e09a171007e03e97371007e03e00000ea627070707071007e09a171007e09a1707371007e03eb0000ea627070707071007e09a171007e09a1707371007e03ed0000ea627070707071007e09a171007e09a17070707371007e03ef7070707071007e099f707070707070707070707071007e03f374001325205265706f7274696e672028436f756e742978707371007e03db707371007e03df0000ea627070707071007e09a971007e09a971007e099d707371007e03e50000ea627070707071007e09a971007e09a9707371007e03e00000ea627070707071007e09a971007e09a9707371007e03eb0000ea627070707071007e09a971007e09a9707371007e03ed0000ea627070707071007e09a971007e09a971007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e09b5740007436f6c756d6e33787371007e00ab000000007704000000007870707371007e012784b9160a7f3774a3fb0765cae44d4f167371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e09bb70707070707071007e03a17070707071007e03b37371007e012787779a6ae36bb7dcc2658a9826544b450000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e09bf71007e09bf71007e09bd707371007e03e50000ea627070707071007e09bf71007e09bf71007e03e97371007e03e00000ea627070707071007e09bf71007e09bf707371007e03eb0000ea627070707071007e09bf71007e09bf707371007e03ed0000ea627070707071007e09bf71007e09bf7070707371007e03ef7070707071007e09bd707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001e7571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e009203740009636f6d706c657465647371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e09da71007e09da71007e09bb707371007e03e50000ea627070707071007e09da71007e09da707371007e03e00000ea627070707071007e09da71007e09da707371007e03eb0000ea627070707071007e09da71007e09da707371007e03ed0000ea627070707071007e09da71007e09da71007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000006e00000000000000007071007e001171007e09e270707070707071007e03a17070707071007e03b37371007e0127b6e76b15903fc7e6cb47ce23097a4dbf0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e09e671007e09e671007e09e4707371007e03e50000ea627070707071007e09e671007e09e671007e03e97371007e03e00000ea627070707071007e09e671007e09e6707371007e03eb0000ea627070707071007e09e671007e09e6707371007e03ed0000ea627070707071007e09e671007e09e67070707371007e03ef7070707071007e09e4707070707070707070707071007e03f374001525204f6e2054696d65205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e09ee71007e09ee71007e09e2707371007e03e50000ea627070707071007e09ee71007e09ee707371007e03e00000ea627070707071007e09ee71007e09ee707371007e03eb0000ea627070707071007e09ee71007e09ee707371007e03ed0000ea627070707071007e09ee71007e09ee71007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e09fa740007436f6c756d6e34787371007e00ab000000007704000000007870707371007e0127b40d79f2e5a724bb8d6feceb48c143e97371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0a0070707070707071007e03a17070707071007e03b37371007e012795bcfb0a5a20443a918ac171966040390000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0a0471007e0a0471007e0a02707371007e03e50000ea627070707071007e0a0471007e0a0471007e03e97371007e03e00000ea627070707071007e0a0471007e0a04707371007e03eb0000ea627070707071007e0a0471007e0a04707371007e03ed0000ea627070707071007e0a0471007e0a047070707371007e03ef7070707071007e0a02707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001f7571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e0092037400066f6e74696d657371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0a1f71007e0a1f71007e0a00707371007e03e50000ea627070707071007e0a1f71007e0a1f707371007e03e00000ea627070707071007e0a1f71007e0a1f707371007e03eb0000ea627070707071007e0a1f71007e0a1f707371007e03ed0000ea627070707071007e0a1f71007e0a1f71007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000006e00000000000000007071007e001171007e0a2770707070707071007e03a17070707071007e03b37371007e01278118550d6415b3217f4b2f9d415c42000000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0a2b71007e0a2b71007e0a29707371007e03e50000ea627070707071007e0a2b71007e0a2b71007e03e97371007e03e00000ea627070707071007e0a2b71007e0a2b707371007e03eb0000ea627070707071007e0a2b71007e0a2b707371007e03ed0000ea627070707071007e0a2b71007e0a2b7070707371007e03ef7070707071007e0a29707070707070707070707071007e03f374001225204c617465205265702028436f756e742978707371007e03db707371007e03df0000ea627070707071007e0a3371007e0a3371007e0a27707371007e03e50000ea627070707071007e0a3371007e0a33707371007e03e00000ea627070707071007e0a3371007e0a33707371007e03eb0000ea627070707071007e0a3371007e0a33707371007e03ed0000ea627070707071007e0a3371007e0a3371007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0a3f740007436f6c756d6e35787371007e00ab000000007704000000007870707371007e0127a7628d708d635d7e77bb80c8cf4143d37371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0a4570707070707071007e03a17070707071007e03b37371007e0127a539c314958c4889b31d34cb296442fd0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0a4971007e0a4971007e0a47707371007e03e50000ea627070707071007e0a4971007e0a4971007e03e97371007e03e00000ea627070707071007e0a4971007e0a49707371007e03eb0000ea627070707071007e0a4971007e0a49707371007e03ed0000ea627070707071007e0a4971007e0a497070707371007e03ef7070707071007e0a47707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000207571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0a6c71007e0a6c71007e0a45707371007e03e50000ea627070707071007e0a6c71007e0a6c707371007e03e00000ea627070707071007e0a6c71007e0a6c707371007e03eb0000ea627070707071007e0a6c71007e0a6c707371007e03ed0000ea627070707071007e0a6c71007e0a6c71007e00117371007e03e70000001e707071007e044b707371007e03bb707371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000006e00000000000000007071007e001171007e0a7470707070707071007e03a170707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0a79740005706978656c787071007e03b37371007e01278aa84b03216e80609589fc1a89ff4b430000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0a7d71007e0a7d71007e0a76707371007e03e50000ea627070707071007e0a7d71007e0a7d71007e03e97371007e03e00000ea627070707071007e0a7d71007e0a7d707371007e03eb0000ea627070707071007e0a7d71007e0a7d707371007e03ed0000ea627070707071007e0a7d71007e0a7d7070707371007e03ef7070707071007e0a76707070707070707070707071007e03f374001625204e6f74205265706f727465642028436f756e742978707371007e03db707371007e03df0000ea627070707071007e0a8571007e0a8571007e0a74707371007e03e50000ea627070707071007e0a8571007e0a85707371007e03e00000ea627070707071007e0a8571007e0a85707371007e03eb0000ea627070707071007e0a8571007e0a85707371007e03ed0000ea627070707071007e0a8571007e0a8571007e00117371007e03e70000001e707371007e03e70000000171007e0409707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0a91740007436f6c756d6e36787371007e00ab000000007704000000007870707371007e0127be517d7ce68a28d0af5da19884b24a5b7371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0a9770707070707071007e03a17070707071007e03b37371007e0127ae4179c49b0dafa299682d7641cd43260000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0a9b71007e0a9b71007e0a99707371007e03e50000ea627070707071007e0a9b71007e0a9b71007e03e97371007e03e00000ea627070707071007e0a9b71007e0a9b707371007e03eb0000ea627070707071007e0a9b71007e0a9b707371007e03ed0000ea627070707071007e0a9b71007e0a9b7070707371007e03ef7070707071007e0a99707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000217571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740005746f74616c7371007e0092017400012d7371007e009203740009636f6d706c657465647371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740005746f74616c7371007e0092017400012d7371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0abe71007e0abe71007e0a97707371007e03e50000ea627070707071007e0abe71007e0abe707371007e03e00000ea627070707071007e0abe71007e0abe707371007e03eb0000ea627070707071007e0abe71007e0abe707371007e03ed0000ea627070707071007e0abe71007e0abe71007e00117371007e03e70000001e707071007e044b70787371007e05857371007e008c000000307571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e7070707074000742794d6f6e74687571007e058d000000057371007e058f7371007e008c000000317571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c000000327571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c000000337571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7371007e058f7371007e008c000000347571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c000000357571007e0090000000017371007e0092027400155245504f52545f504152414d45544552535f4d41507070707400155245504f52545f504152414d45544552535f4d41507070707371007e0127bccb8df29deb57d31ca1811671f4431f707371007e05b571007e05b771007e05b87400026a7278700000ea620000003c017371007e008c0000002f7571007e0090000000047371007e00920474000c5245504f52545f434f554e547371007e009201740027203d3d2031202626204172726179732e61734c697374282263737622292e636f6e7461696e73287371007e0092027400155245504f52545f504152414d45544552535f4d41507371007e00920174000f2e6765742822666f726d61742229297070707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0af9740005706978656c787070707371007e038f7371007e00ab000000017704000000017371007e03960000ea620000001e0001000000000000022b00000000000000007071007e001171007e0afc70707070707071007e03a170707371007e002c707371007e00ab0000000677040000000674001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f757474002e636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e7461626c655f68656164657274002f636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e636f6c756d6e5f686561646572740028636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e64657461696c740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e6175746f726573697a652e70726f706f7274696f6e616c7400346e65742e73662e6a61737065727265706f7274732e6578706f72742e686561646572746f6f6c6261722e7461626c652e6e616d65787371007e00b23f400000000000067708000000080000000671007e0b01740035636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e566572746963616c526f774c61796f757471007e0b027400085461626c655f544871007e0b037400085461626c655f434871007e0b057400047472756571007e0b047400085461626c655f544471007e0b0674000c506572696f64205461626c65787071007e03b37371007e012786025c532f95602d960d6e95bcdd47e47371007e03b67371007e00ab000000067704000000067371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0b16740007436f6c756d6e31787371007e00ab000000007704000000007870707371007e0127be46598988c41573885322f5504e4fd07371007e03e70000003c7371007e03c07371007e00ab000000017704000000017371007e03c40000ea620000001e0001000000000000003c00000000000000007071007e001171007e0b1c70707070707071007e03a17070707071007e03b37371007e0127a0b9dd16eaa1fa2d577ef06a0a7e4fc10000ea627070707070707070707070707371007e03db707371007e03df0000ea627070707071007e0b2071007e0b2071007e0b1e707371007e03e50000ea627070707071007e0b2071007e0b20707371007e03e00000ea627070707071007e0b2071007e0b20707371007e03eb0000ea627070707071007e0b2071007e0b20707371007e03ed0000ea627070707071007e0b2071007e0b207070707371007e03ef7070707071007e0b1e70707070707070707070707074000078707371007e03db707371007e03df0000ea627070707071007e0b2871007e0b2871007e0b1c707371007e03e50000ea627070707071007e0b2871007e0b28707371007e03e00000ea627070707071007e0b2871007e0b28707371007e03eb0000ea627070707071007e0b2871007e0b28707371007e03ed0000ea627070707071007e0b2871007e0b2871007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0b34740007436f6c756d6e32787371007e00ab000000007704000000007870707371007e0127b4d4848f5a0b31e485214d34fb5140847371007e03e7000000377371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000003700000000000000007071007e001171007e0b3a70707070707071007e03a17070707071007e03b37371007e0127ae8604c1e8332931035b3d2898e143e00000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0b3e71007e0b3e71007e0b3c707371007e03e50000ea627070707071007e0b3e71007e0b3e71007e03e97371007e03e00000ea627070707071007e0b3e71007e0b3e707371007e03eb0000ea627070707071007e0b3e71007e0b3e707371007e03ed0000ea627070707071007e0b3e71007e0b3e7070707371007e03ef7070707071007e0b3c707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000167571007e0090000000017371007e00920374001267656f677261706869637a6f6e656e616d65707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0b4971007e0b4971007e0b3a707371007e03e50000ea627070707071007e0b4971007e0b49707371007e03e00000ea627070707071007e0b4971007e0b49707371007e03eb0000ea627070707071007e0b4971007e0b49707371007e03ed0000ea627070707071007e0b4971007e0b4971007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0b55740007436f6c756d6e33787371007e00ab000000007704000000007870707371007e012781d095f6dddded46afcee84e4cc64a4b7371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0b5b70707070707071007e03a17070707071007e03b37371007e0127b61ee9edfc92baf73a15f8e895f448f30000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0b5f71007e0b5f71007e0b5d707371007e03e50000ea627070707071007e0b5f71007e0b5f71007e03e97371007e03e00000ea627070707071007e0b5f71007e0b5f707371007e03eb0000ea627070707071007e0b5f71007e0b5f707371007e03ed0000ea627070707071007e0b5f71007e0b5f7070707371007e03ef7070707071007e0b5d707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000177571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e009203740009636f6d706c657465647371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0b7a71007e0b7a71007e0b5b707371007e03e50000ea627070707071007e0b7a71007e0b7a707371007e03e00000ea627070707071007e0b7a71007e0b7a707371007e03eb0000ea627070707071007e0b7a71007e0b7a707371007e03ed0000ea627070707071007e0b7a71007e0b7a71007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0b86740007436f6c756d6e34787371007e00ab000000007704000000007870707371007e01279143f1d63fe3b5a4e10b49554e7845e67371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0b8c70707070707071007e03a17070707071007e03b37371007e0127a54bcfa142d62716f6b3ed9bffc84dce0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0b9071007e0b9071007e0b8e707371007e03e50000ea627070707071007e0b9071007e0b9071007e03e97371007e03e00000ea627070707071007e0b9071007e0b90707371007e03eb0000ea627070707071007e0b9071007e0b90707371007e03ed0000ea627070707071007e0b9071007e0b907070707371007e03ef7070707071007e0b8e707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000187571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000a2c2028646f75626c65297371007e0092037400066f6e74696d657371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0bab71007e0bab71007e0b8c707371007e03e50000ea627070707071007e0bab71007e0bab707371007e03e00000ea627070707071007e0bab71007e0bab707371007e03eb0000ea627070707071007e0bab71007e0bab707371007e03ed0000ea627070707071007e0bab71007e0bab71007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0bb7740007436f6c756d6e35787371007e00ab000000007704000000007870707371007e0127ac36f64b062df4d43e49b5e474b641e97371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0bbd70707070707071007e03a17070707071007e03b37371007e012787ebd5e2bf217570c4f717cb56d24cc70000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0bc171007e0bc171007e0bbf707371007e03e50000ea627070707071007e0bc171007e0bc171007e03e97371007e03e00000ea627070707071007e0bc171007e0bc1707371007e03eb0000ea627070707071007e0bc171007e0bc1707371007e03ed0000ea627070707071007e0bc171007e0bc17070707371007e03ef7070707071007e0bbf707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c000000197571007e00900000000d7371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0be471007e0be471007e0bbd707371007e03e50000ea627070707071007e0be471007e0be4707371007e03e00000ea627070707071007e0be471007e0be4707371007e03eb0000ea627070707071007e0be471007e0be4707371007e03ed0000ea627070707071007e0be471007e0be471007e00117371007e03e70000001e707071007e044b707371007e03bb70707371007e00ab00000000770400000000787371007e00ab0000000077040000000078707371007e002c707371007e00ab00000001770400000001740038636f6d2e6a6173706572736f66742e73747564696f2e636f6d706f6e656e74732e7461626c652e6d6f64656c2e636f6c756d6e2e6e616d65787371007e00b23f400000000000037708000000040000000171007e0bf0740007436f6c756d6e36787371007e00ab000000007704000000007870707371007e012786061b2ae018293d64d4ca4726764d127371007e03e70000006e7371007e03c07371007e00ab000000017704000000017371007e04310000ea620000001e0001000000000000006e00000000000000007071007e001171007e0bf670707070707071007e03a17070707071007e03b37371007e0127ae69fdc9c98461038289fafbde9447250000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0bfa71007e0bfa71007e0bf8707371007e03e50000ea627070707071007e0bfa71007e0bfa71007e03e97371007e03e00000ea627070707071007e0bfa71007e0bfa707371007e03eb0000ea627070707071007e0bfa71007e0bfa707371007e03ed0000ea627070707071007e0bfa71007e0bfa7070707371007e03ef7070707071007e0bf8707070707070707070707071007e03f30000ea620000000000000000707071007e043e7371007e008c0000001a7571007e0090000000097371007e00920174000e537472696e672e666f726d6174287371007e00920474001650657263656e74416e644e756d626572466f726d61747371007e00920174000b2c2028646f75626c6529287371007e0092037400066d69737365647371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400062a3130302c207371007e0092037400066d69737365647371007e00920174000129707070707070707070707070707078707371007e03db707371007e03df0000ea627070707071007e0c1571007e0c1571007e0bf6707371007e03e50000ea627070707071007e0c1571007e0c15707371007e03e00000ea627070707071007e0c1571007e0c15707371007e03eb0000ea627070707071007e0c1571007e0c15707371007e03ed0000ea627070707071007e0c1571007e0c1571007e00117371007e03e70000001e707071007e044b70787371007e05857371007e008c000000377571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e7070707074000642795a6f6e657571007e058d000000057371007e058f7371007e008c000000387571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c000000397571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c0000003a7571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7371007e058f7371007e008c0000003b7571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c0000003c7571007e0090000000017371007e0092027400155245504f52545f504152414d45544552535f4d41507070707400155245504f52545f504152414d45544552535f4d41507070707371007e0127bef46f8773ab91b1d0410fd4a29a41ad707371007e05b571007e05b771007e05b87400026a7278700000ea620000001e017371007e008c000000367571007e0090000000047371007e00920474000c5245504f52545f434f554e547371007e009201740027203d3d2031202626204172726179732e61734c697374282263737622292e636f6e7461696e73287371007e0092027400155245504f52545f504152414d45544552535f4d41507371007e00920174000f2e6765742822666f726d61742229297070707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0c50740005706978656c787070707371007e038f7371007e00ab000000017704000000017372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365436861727400000000000027d802002849001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000963686172745479706542000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a000c697353686f774c6567656e6442000e6c6567656e64506f736974696f6e42000d7469746c65506f736974696f6e4c0014616e63686f724e616d6545787072657373696f6e71007e001a4c000f637573746f6d697a6572436c61737371007e00024c00076461746173657474002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524368617274446174617365743b4c000f6576616c756174696f6e47726f757071007e012d4c00136576616c756174696f6e54696d6556616c756571007e04324c001968797065726c696e6b416e63686f7245787072657373696f6e71007e001a4c001768797065726c696e6b5061676545787072657373696f6e71007e001a5b001368797065726c696e6b506172616d657465727371007e04334c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e001a4c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e001a4c001768797065726c696e6b5768656e45787072657373696f6e71007e001a4c00156c6567656e644261636b67726f756e64436f6c6f7271007e039a4c000b6c6567656e64436f6c6f7271007e039a4c000a6c6567656e64466f6e747400244c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52466f6e743b4c00126c6567656e64506f736974696f6e4279746571007e03904c00136c6567656e64506f736974696f6e56616c756574002b4c6e65742f73662f6a61737065727265706f7274732f6368617274732f747970652f45646765456e756d3b4c00076c696e65426f7871007e03c14c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c0004706c6f747400294c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524368617274506c6f743b4c000a72656e6465725479706571007e00024c000a73686f774c6567656e6471007e03c94c000d7375627469746c65436f6c6f7271007e039a4c00127375627469746c6545787072657373696f6e71007e001a4c000c7375627469746c65466f6e7471007e0c574c00057468656d6571007e00024c000a7469746c65436f6c6f7271007e039a4c000f7469746c6545787072657373696f6e71007e001a4c00097469746c65466f6e7471007e0c574c00117469746c65506f736974696f6e4279746571007e03904c00127469746c65506f736974696f6e56616c756571007e0c587871007e03990000ea620000017c0001000000000000021200000019000000147071007e001171007e0c5370740000707070707e71007e03a0740005464c4f41547371007e008c0000003d7571007e0090000000027371007e00920274000750726f6772616d7371007e00920174000e2e657175616c7328224550492229707070707371007e002c707371007e00ab0000000777040000000774001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687474001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e78740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e77696474687400326e65742e73662e6a61737065727265706f7274732e63686172742e72616e67652e617869732e696e74656765722e756e69747400084170706c7920746f74000b53746172742076616c7565787371007e00b23f4000000000000c7708000000100000000771007e0c69740002707871007e0c6b74000576616c756571007e0c6a7400047472756571007e0c68740002707871007e0c6c74000576616c756571007e0c66740002707871007e0c677400027078787071007e03b37371007e01279f7ed336ab80755440d0c0e89e2d4caa0000ea6200000000070000000000007070737200366e65742e73662e6a61737065727265706f7274732e6368617274732e626173652e4a524261736543617465676f72794461746173657400000000000027d80200015b000e63617465676f727953657269657374002f5b4c6e65742f73662f6a61737065727265706f7274732f6368617274732f4a5243617465676f72795365726965733b787200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736543686172744461746173657400000000000027d8020000787200356e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e744461746173657400000000000027d802000949001950534555444f5f53455249414c5f56455253494f4e5f55494442000d696e6372656d656e74547970654200097265736574547970654c000a6461746173657452756e71007e03b74c000e696e6372656d656e7447726f757071007e012d4c0012696e6372656d656e745479706556616c756571007e012e4c0017696e6372656d656e745768656e45787072657373696f6e71007e001a4c000a726573657447726f757071007e012d4c000e72657365745479706556616c756571007e012f7870000077ee00007371007e05857371007e008c0000003f7571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e707070707400155265706f7274696e67526174654279506572696f647571007e058d000000057371007e058f7371007e008c000000407571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c000000417571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c000000427571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c000000437571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7371007e058f7371007e008c000000447571007e0090000000017371007e00920274000c666163696c6974795479706570707074000c666163696c697479547970657070707371007e01279c39fcf4d8603d8687ce4ff7a2ef4da57071007e0135707071007e013d7572002f5b4c6e65742e73662e6a61737065727265706f7274732e6368617274732e4a5243617465676f72795365726965733bf9dc3c64c10724ad020000787000000001737200356e65742e73662e6a61737065727265706f7274732e6368617274732e626173652e4a524261736543617465676f727953657269657300000000000027d80200054c001263617465676f727945787072657373696f6e71007e001a4c000d6974656d48797065726c696e6b7400294c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5248797065726c696e6b3b4c000f6c6162656c45787072657373696f6e71007e001a4c001073657269657345787072657373696f6e71007e001a4c000f76616c756545787072657373696f6e71007e001a78707371007e008c0000000d7571007e0090000000017371007e00920374000a706572696f646e616d6570707070707371007e008c0000000c7571007e0090000000017371007e00920174000a225345524945532031227070707371007e008c0000000e7571007e0090000000057371007e0092017400144d6174682e726f756e64282028646f75626c65297371007e009203740009636f6d706c657465647371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400052a31303029707070707e71007e043d7400065245504f525470707070707070707070707371007e03db707371007e03df0000ea627070707071007e0cbc71007e0cbc71007e0c5a707371007e03e50000ea627070707071007e0cbc71007e0cbc707371007e03e00000ea627070707071007e0cbc71007e0cbc707371007e03eb0000ea627070707071007e0cbc71007e0cbc707371007e03ed0000ea627070707071007e0cbc71007e0cbc70707372002f6e65742e73662e6a61737065727265706f7274732e6368617274732e626173652e4a52426173654c696e65506c6f7400000000000027d802001949001950534555444f5f53455249414c5f56455253494f4e5f5549445a000b697353686f774c696e65735a000c697353686f775368617065734c001663617465676f7279417869734c6162656c436f6c6f7271007e039a4c001b63617465676f7279417869734c6162656c45787072657373696f6e71007e001a4c001563617465676f7279417869734c6162656c466f6e7471007e0c574c001563617465676f7279417869734c696e65436f6c6f7271007e039a4c001a63617465676f7279417869735469636b4c6162656c436f6c6f7271007e039a4c001963617465676f7279417869735469636b4c6162656c466f6e7471007e0c574c001963617465676f7279417869735469636b4c6162656c4d61736b71007e00024c001e63617465676f727941786973566572746963616c5469636b4c6162656c7371007e03c94c001c646f6d61696e417869734d617856616c756545787072657373696f6e71007e001a4c001c646f6d61696e417869734d696e56616c756545787072657373696f6e71007e001a4c001b72616e6765417869734d617856616c756545787072657373696f6e71007e001a4c001b72616e6765417869734d696e56616c756545787072657373696f6e71007e001a4c000973686f774c696e657371007e03c94c000a73686f7753686170657371007e03c94c001376616c7565417869734c6162656c436f6c6f7271007e039a4c001876616c7565417869734c6162656c45787072657373696f6e71007e001a4c001276616c7565417869734c6162656c466f6e7471007e0c574c001276616c7565417869734c696e65436f6c6f7271007e039a4c001776616c7565417869735469636b4c6162656c436f6c6f7271007e039a4c001676616c7565417869735469636b4c6162656c466f6e7471007e0c574c001676616c7565417869735469636b4c6162656c4d61736b71007e00024c001b76616c756541786973566572746963616c5469636b4c6162656c7371007e03c9787200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654368617274506c6f7400000000000027d802000c49001950534555444f5f53455249414c5f56455253494f4e5f55494446000f6261636b67726f756e64416c70686146000f666f726567726f756e64416c70686144000d6c6162656c526f746174696f6e4c00096261636b636f6c6f7271007e039a4c00146261636b67726f756e64416c706861466c6f617471007e03c64c000563686172747400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5243686172743b4c0014666f726567726f756e64416c706861466c6f617471007e03c64c00136c6162656c526f746174696f6e446f75626c657400124c6a6176612f6c616e672f446f75626c653b4c000b6f7269656e746174696f6e7400264c6f72672f6a667265652f63686172742f706c6f742f506c6f744f7269656e746174696f6e3b4c00106f7269656e746174696f6e56616c75657400364c6e65742f73662f6a61737065727265706f7274732f6368617274732f747970652f506c6f744f7269656e746174696f6e456e756d3b4c000c736572696573436f6c6f72737400154c6a6176612f7574696c2f536f727465645365743b78700000ea623f8000003f8000000000000000000000707071007e0c5a70737200106a6176612e6c616e672e446f75626c6580b3c24a296bfb0402000144000576616c75657871007e03e84050000000000000707e7200346e65742e73662e6a61737065727265706f7274732e6368617274732e747970652e506c6f744f7269656e746174696f6e456e756d00000000000000001200007871007e0013740008564552544943414c737200116a6176612e7574696c2e54726565536574dd98509395ed875b030000787070770400000001737200426e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654368617274506c6f74244a5242617365536572696573436f6c6f7200000000000027d802000249000b7365726965734f726465724c0005636f6c6f7271007e039a7870000000007371007e040a00000000ff3d739b707070780000ea6201017371007e040a00000000ff000000707070707372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365466f6e7400000000000027d802000e49001950534555444f5f53455249414c5f56455253494f4e5f5549444c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e03be4c0008666f6e7473697a6571007e03c64c00066973426f6c6471007e03c94c000869734974616c696371007e03c94c000d6973506466456d62656464656471007e03c94c000f6973537472696b655468726f75676871007e03c94c000b6973556e6465726c696e6571007e03c94c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c00057374796c6571007e00074c000e7374796c65436f6e7461696e657274002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c65436f6e7461696e65723b4c00127374796c654e616d655265666572656e636571007e000278700000ea6270707071007e05d57070707070707071007e0c5a707371007e040a00000000ff0000007070707371007e040a00000000ff0000007070707371007e0cd50000ea6270707371007e0411412000007371007e05d4007070707070707071007e0c5a707071007e05d57070707070707371007e040a00000000ff0000007070707371007e008c000000457571007e0090000000017371007e009201740014225265706f7274696e672052617465205b255d227070707371007e0cd50000ea6270707071007e0cdc7070707070707071007e0c5a707371007e040a00000000ff0000007070707371007e040a00000000ff0000007070707070707071007e0cdc70707070707371007e008c0000003e7571007e0090000000017371007e00920174001c22445653207765656b6c79207265706f7274696e67207472656e64227070707371007e0cd50000ea6270707071007e0cdc7070707070707071007e0c5a70707078700000ea62000001ae01707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0cec7400027078787070707070737200116a6176612e7574696c2e48617368536574ba44859596b8b7340300007870770c000000083f400000000000057400206d772e676f762e6865616c74682e6c6d69732e7265706f7274732e64746f2e2a74000b6a6176612e6c616e672e2a74000b6a6176612e7574696c2e2a7400226e65742e73662e6a61737065727265706f7274732e656e67696e652e646174612e2a7400126a6176612e7574696c2e73747265616d2e2a787400046a617661707371007e00180000ea6201007070757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5247726f75703b40a35f7a4cfd78ea0200007870000000017372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736547726f757000000000000027d802001349001950534555444f5f53455249414c5f56455253494f4e5f55494442000e666f6f746572506f736974696f6e5a001b697352657072696e744865616465724f6e45616368436f6c756d6e5a0019697352657072696e744865616465724f6e45616368506167655a001169735265736574506167654e756d6265725a0010697353746172744e6577436f6c756d6e5a000e697353746172744e6577506167655a000c6b656570546f6765746865724900186d696e44657461696c73546f537461727446726f6d546f704900176d696e486569676874546f53746172744e6577506167655a001370726576656e744f727068616e466f6f7465724c000d636f756e745661726961626c657400284c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525661726961626c653b4c000a65787072657373696f6e71007e001a4c0013666f6f746572506f736974696f6e56616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f466f6f746572506f736974696f6e456e756d3b4c000b67726f7570466f6f74657271007e00044c001267726f7570466f6f74657253656374696f6e71007e00084c000b67726f757048656164657271007e00044c001267726f757048656164657253656374696f6e71007e00084c00046e616d6571007e000278700000ea62000000000000000000000000000000007371007e012b000077ee0000010071007e014c7371007e008c000000087571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000097571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707074000d42794d6f6e74685f434f554e5471007e0cfd7e71007e013c74000547524f555071007e005d70707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e466f6f746572506f736974696f6e456e756d00000000000000001200007871007e00137400064e4f524d414c707371007e03897070707371007e03897571007e038d000000017371007e038f7371007e00ab000000027704000000027372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654672616d6500000000000027d80200034c000f626f7264657253706c6974547970657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f426f7264657253706c6974547970653b4c00086368696c6472656e71007e002d4c00076c696e65426f7871007e03c17871007e03990000ea62000000280001000000000000022b00000000000000057071007e001171007e0d1070707070707071007e03a170707371007e002c707371007e00ab00000002770400000002740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e776964746874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00b23f400000000000037708000000040000000271007e0d17740005706978656c71007e0d18740005706978656c787071007e03b37371007e0127bc2241bdbb8501c599a85f22db6a4e78707371007e00ab000000077704000000077371007e03c40000ea62000000140001000000000000022b00000000000000007371007e040a00000000ff66666670707071007e001171007e0d147371007e040a00000000ffffffff707070707071007e0421707071007e03a170707371007e002c707371007e00ab00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00b23f400000000000037708000000040000000171007e0d23740005706978656c787071007e03b37371007e0127881802ee1228750fd447254c19304d6d0000ea6270707070707071007e05d570707070707371007e03db707371007e03df0000ea627070707071007e0d2771007e0d2771007e0d1e707371007e03e50000ea627070707071007e0d2771007e0d27707371007e03e00000ea627070707071007e0d2771007e0d27707371007e03eb0000ea627070707071007e0d2771007e0d27707371007e03ed0000ea627070707071007e0d2771007e0d277070707371007e03ef71007e05dd71007e05de707071007e0d1e707070707070707070707071007e03f374002041766572616765207265706f7274696e67207261746520627920706572696f647371007e0d120000ea620000000a0001000000000000000a00000005000000197071007e001171007e0d1470707070707071007e03a170707371007e002c707371007e00ab0000000377040000000374001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000371007e0d32740005706978656c71007e0d33740005706978656c71007e0d34740005706978656c787071007e03b37371007e0127889270864277b4da327ee6605ebf47bb707371007e00ab00000001770400000001737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736552656374616e676c6500000000000027d80200014c000672616469757371007e03be787200356e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736547726170686963456c656d656e7400000000000027d802000449001950534555444f5f53455249414c5f56455253494f4e5f5549444c000466696c6c71007e03904c000966696c6c56616c756571007e04044c00076c696e6550656e71007e04067871007e03990000ea62000000080001000000000000000800000001000000017371007e040a00000000ffe9c04f70707071007e001171007e0d2f7371007e040a00000000ffe9c04f707070707070707071007e03a170707371007e002c707371007e00ab00000004770400000004740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687474001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00b23f400000000000067708000000080000000471007e0d44740005706978656c71007e0d42740005706978656c71007e0d43740005706978656c71007e0d45740005706978656c787071007e03b37371007e0127b8265be4279099664b53dc27c3a64610000077ee70707371007e03e10000ea627070707371007e04110000000071007e0d3d70787371007e03db71007e05dd7371007e03df0000ea627070707071007e0d4e71007e0d4e71007e0d2f71007e05dd7371007e03e50000ea627070707071007e0d4e71007e0d4e707371007e03e00000ea627070707371007e04113f80000071007e0d4e71007e0d4e71007e05dd7371007e03eb0000ea627070707071007e0d4e71007e0d4e71007e05dd7371007e03ed0000ea627070707071007e0d4e71007e0d4e7371007e0d120000ea620000000a0001000000000000000a00000046000000197071007e001171007e0d1470707070707071007e03a170707371007e002c707371007e00ab0000000377040000000374001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000371007e0d58740005706978656c71007e0d59740005706978656c71007e0d5a740005706978656c787071007e03b37371007e012794b8820d82f2755171dece7890794b9c707371007e00ab000000017704000000017371007e0d3b0000ea62000000080001000000000000000800000001000000017371007e040a00000000ffb5d8f670707071007e001171007e0d557371007e040a00000000ffb5d8f6707070707070707071007e03a170707371007e002c707371007e00ab00000004770400000004740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687474001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00b23f400000000000067708000000080000000471007e0d68740005706978656c71007e0d66740005706978656c71007e0d67740005706978656c71007e0d69740005706978656c787071007e03b37371007e0127aca56161179faa80ccce67554d73418e000077ee70707371007e03e10000ea627070707371007e04110000000071007e0d6170787371007e03db71007e05dd7371007e03df0000ea627070707071007e0d7271007e0d7271007e0d5571007e05dd7371007e03e50000ea627070707071007e0d7271007e0d72707371007e03e00000ea627070707371007e04113f80000071007e0d7271007e0d7271007e05dd7371007e03eb0000ea627070707071007e0d7271007e0d7271007e05dd7371007e03ed0000ea627070707071007e0d7271007e0d727371007e0d120000ea620000000a0001000000000000000a0000008c000000197071007e001171007e0d1470707070707071007e03a170707371007e002c707371007e00ab0000000377040000000374001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000371007e0d7c740005706978656c71007e0d7d740005706978656c71007e0d7e740005706978656c787071007e03b37371007e0127b6586bc9fb3e24477a7fabbd8f0e4640707371007e00ab000000017704000000017371007e0d3b0000ea62000000080001000000000000000800000001000000017371007e040a00000000ffbf5a5370707071007e001171007e0d797371007e040a00000000ffbf5a53707070707070707071007e03a170707371007e002c707371007e00ab00000004770400000004740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687474001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00b23f400000000000067708000000080000000471007e0d8c740005706978656c71007e0d8a740005706978656c71007e0d8b740005706978656c71007e0d8d740005706978656c787071007e03b37371007e0127b04765de78bfad96e0a1ede988174043000077ee70707371007e03e10000ea627070707371007e04110000000071007e0d8570787371007e03db71007e05dd7371007e03df0000ea627070707071007e0d9671007e0d9671007e0d7971007e05dd7371007e03e50000ea627070707071007e0d9671007e0d96707371007e03e00000ea627070707371007e04113f80000071007e0d9671007e0d9671007e05dd7371007e03eb0000ea627070707071007e0d9671007e0d9671007e05dd7371007e03ed0000ea627070707071007e0d9671007e0d967371007e03c40000ea62000000090001000000000000001e00000014000000197071007e001171007e0d1470707070707071007e03a170707371007e002c707371007e00ab0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e78787371007e00b23f400000000000037708000000040000000171007e0da0740005706978656c787071007e03b37371007e012797db58f698d1446418450719aae748930000ea6270707371007e041140e000007070707070707070707371007e03db707371007e03df0000ea627070707071007e0da571007e0da571007e0d9d707371007e03e50000ea627070707071007e0da571007e0da5707371007e03e00000ea627070707071007e0da571007e0da5707371007e03eb0000ea627070707071007e0da571007e0da5707371007e03ed0000ea627070707071007e0da571007e0da57070707371007e03ef7070707071007e0d9d707070707070707070707071007e03f37400076f6e2074696d657371007e03c40000ea62000000090001000000000000001e00000055000000197071007e001171007e0d1470707070707071007e03a170707371007e002c707371007e00ab0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e78787371007e00b23f400000000000037708000000040000000171007e0db0740005706978656c787071007e03b37371007e0127bb1155241f6c0bbb1552cbe53e0f4a490000ea6270707371007e041140e000007070707070707070707371007e03db707371007e03df0000ea627070707071007e0db571007e0db571007e0dad707371007e03e50000ea627070707071007e0db571007e0db5707371007e03e00000ea627070707071007e0db571007e0db5707371007e03eb0000ea627070707071007e0db571007e0db5707371007e03ed0000ea627070707071007e0db571007e0db57070707371007e03ef7070707071007e0dad707070707070707070707071007e03f37400046c6174657371007e03c40000ea62000000090001000000000000002d0000009b000000197071007e001171007e0d1470707070707071007e03a170707371007e002c707371007e00ab0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e78787371007e00b23f400000000000037708000000040000000171007e0dc0740005706978656c787071007e03b37371007e01279891b5951c5ac21bee430f14164046200000ea6270707371007e041140e000007070707070707070707371007e03db707371007e03df0000ea627070707071007e0dc571007e0dc571007e0dbd707371007e03e50000ea627070707071007e0dc571007e0dc5707371007e03e00000ea627070707071007e0dc571007e0dc5707371007e03eb0000ea627070707071007e0dc571007e0dc5707371007e03ed0000ea627070707071007e0dc571007e0dc57070707371007e03ef7070707071007e0dbd707070707070707070707071007e03f374000c6e6f74207265706f72746564787371007e03db71007e05dd7371007e03df0000ea627070707071007e0dcd71007e0dcd71007e0d1471007e05dd7371007e03e50000ea627070707071007e0dcd71007e0dcd707371007e03e00000ea627070707371007e04110000000071007e0dcd71007e0dcd71007e05dd7371007e03eb0000ea627070707071007e0dcd71007e0dcd71007e05dd7371007e03ed0000ea627070707071007e0dcd71007e0dcd7371007e0c550000ea62000000e60001000000000000022b00000000000000327071007e001171007e0d1070707070707071007e03a17070707071007e03b37371007e0127b265c1fa84ac1bab31dce328a1e545300000ea62000000000c00000000000070707371007e0c76000077ee00007371007e05857371007e008c0000000b7571007e0090000000017371007e0092027400115245504f52545f434f4e4e454354494f4e7070707074000742794d6f6e74687571007e058d000000047371007e058f7371007e008c0000000c7571007e0090000000017371007e00920274000e47656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e058f7371007e008c0000000d7571007e0090000000017371007e009202740009656e64506572696f64707070740009656e64506572696f647371007e058f7371007e008c0000000e7571007e0090000000017371007e00920274000b7374617274506572696f6470707074000b7374617274506572696f647371007e058f7371007e008c0000000f7571007e0090000000017371007e00920274000750726f6772616d70707074000750726f6772616d7070707371007e0127a0643d608cd4f524730473c20fee41ae7071007e0135707071007e013d7571007e0ca1000000037371007e0ca37371007e008c000000017571007e0090000000017371007e00920374000a706572696f646e616d65707070707371007e008c000000037571007e0090000000017371007e009201740009224f6e2054696d65227070707371007e008c000000007571007e0090000000017371007e009201740009224f6e2054696d65227070707371007e008c000000027571007e0090000000057371007e00920174000828646f75626c65297371007e0092037400066f6e74696d657371007e0092017400012f7371007e009203740005746f74616c7371007e0092017400042a3130307070707371007e0ca37371007e008c000000057571007e0090000000017371007e00920374000a706572696f646e616d65707070707371007e008c000000077571007e0090000000017371007e009201740006224c617465227070707371007e008c000000047571007e0090000000017371007e009201740006224c617465227070707371007e008c000000067571007e0090000000077371007e00920174000928646f75626c6529287371007e009203740009636f6d706c657465647371007e0092017400012d7371007e0092037400066f6e74696d657371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400042a3130307070707371007e0ca37371007e008c000000097571007e0090000000017371007e00920374000a706572696f646e616d65707070707371007e008c0000000b7571007e0090000000017371007e00920174000e224e6f74205265706f72746564227070707371007e008c000000087571007e0090000000017371007e00920174000e224e6f74205265706f72746564227070707371007e008c0000000a7571007e0090000000077371007e00920174000928646f75626c6529287371007e009203740005746f74616c7371007e0092017400012d7371007e009203740009636f6d706c657465647371007e009201740002292f7371007e009203740005746f74616c7371007e0092017400042a3130307070707071007e0cba70707070707070707070707371007e03db707371007e03df0000ea627070707071007e0e4b71007e0e4b71007e0dd4707371007e03e50000ea627070707071007e0e4b71007e0e4b707371007e03e00000ea627070707071007e0e4b71007e0e4b707371007e03eb0000ea627070707071007e0e4b71007e0e4b707371007e03ed0000ea627070707071007e0e4b71007e0e4b70707372002e6e65742e73662e6a61737065727265706f7274732e6368617274732e626173652e4a5242617365426172506c6f7400000000000027d802001c49001950534555444f5f53455249414c5f56455253494f4e5f5549445a000c697353686f774c6162656c735a0010697353686f775469636b4c6162656c735a000f697353686f775469636b4d61726b734c001663617465676f7279417869734c6162656c436f6c6f7271007e039a4c001b63617465676f7279417869734c6162656c45787072657373696f6e71007e001a4c001563617465676f7279417869734c6162656c466f6e7471007e0c574c001563617465676f7279417869734c696e65436f6c6f7271007e039a4c001a63617465676f7279417869735469636b4c6162656c436f6c6f7271007e039a4c001963617465676f7279417869735469636b4c6162656c466f6e7471007e0c574c001963617465676f7279417869735469636b4c6162656c4d61736b71007e00024c001e63617465676f727941786973566572746963616c5469636b4c6162656c7371007e03c94c001c646f6d61696e417869734d617856616c756545787072657373696f6e71007e001a4c001c646f6d61696e417869734d696e56616c756545787072657373696f6e71007e001a4c00096974656d4c6162656c7400294c6e65742f73662f6a61737065727265706f7274732f6368617274732f4a524974656d4c6162656c3b4c001b72616e6765417869734d617856616c756545787072657373696f6e71007e001a4c001b72616e6765417869734d696e56616c756545787072657373696f6e71007e001a4c000a73686f774c6162656c7371007e03c94c000e73686f775469636b4c6162656c7371007e03c94c000d73686f775469636b4d61726b7371007e03c94c001376616c7565417869734c6162656c436f6c6f7271007e039a4c001876616c7565417869734c6162656c45787072657373696f6e71007e001a4c001276616c7565417869734c6162656c466f6e7471007e0c574c001276616c7565417869734c696e65436f6c6f7271007e039a4c001776616c7565417869735469636b4c6162656c436f6c6f7271007e039a4c001676616c7565417869735469636b4c6162656c466f6e7471007e0c574c001676616c7565417869735469636b4c6162656c4d61736b71007e00024c001b76616c756541786973566572746963616c5469636b4c6162656c7371007e03c97871007e0cc30000ea623f8000003f8000000000000000000000707071007e0dd470707071007e0ccd7371007e0ccf707704000000037371007e0cd1000000007371007e040a00000000ffe9c04f7070707371007e0cd1000000017371007e040a00000000ffb5d8f67070707371007e0cd1000000027371007e040a00000000ffbf5a53707070780000ea620101007371007e040a00000000ff00000070707070707371007e040a00000000ff0000007070707371007e040a00000000ff0000007070707070707070737200306e65742e73662e6a61737065727265706f7274732e6368617274732e626173652e4a52426173654974656d4c6162656c00000000000027d80200044c000f6261636b67726f756e64436f6c6f7271007e039a4c0005636861727471007e0cc44c0005636f6c6f7271007e039a4c0004666f6e7471007e0c5778707071007e0dd4707070707070707371007e040a00000000ff00000070707070707371007e040a00000000ff0000007070707371007e040a00000000ff0000007070707070707071007e0cdc70707070707070707078700000ea6200000118017371007e008c0000000a7571007e0090000000037371007e0092017400264172726179732e61734c6973742822706466222c202268746d6c22292e636f6e7461696e73287371007e0092027400155245504f52545f504152414d45544552535f4d41507371007e00920174000f2e6765742822666f726d61742229297070707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0e6d740005706978656c787070707074000742794d6f6e746874000d7265706f7274696e67526174657571007e0042000000197371007e0044010170707071007e0047707371007e002c70707071007e0049707371007e0044010170707071007e004b707371007e002c70707071007e004d707371007e0044010170707071007e004f707371007e002c70707071007e0051707371007e0044010170707071007e0053707371007e002c70707071007e0055707371007e0044010170707071007e0057707371007e002c70707071007e0059707371007e0044010170707071007e005b707371007e002c70707071007e005d707371007e0044010170707071007e005f707371007e002c70707071007e0061707371007e0044010170707071007e0063707371007e002c70707071007e0065707371007e0044010170707071007e0067707371007e002c70707071007e0069707371007e0044010170707071007e006b707371007e002c70707071007e006d707371007e0044010170707071007e006f707371007e002c70707071007e0071707371007e0044010170707071007e0073707371007e002c70707071007e0075707371007e0044010170707071007e0077707371007e002c70707071007e0079707371007e0044010170707071007e007b707371007e002c70707071007e007d707371007e0044010170707071007e007f707371007e002c70707071007e0081707371007e0044010170707071007e0083707371007e002c70707071007e0085707371007e004401017070707400125245504f52545f5649525455414c495a4552707371007e002c7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525669727475616c697a6572707371007e0044010170707074001449535f49474e4f52455f504147494e4154494f4e707371007e002c7070707400116a6176612e6c616e672e426f6f6c65616e707371007e0044010070707074000c666163696c697479547970657400106a6176612e6c616e672e537472696e677371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e00440100707400007074000750726f6772616d707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e0ea77400046e616d6571007e0ea574000750726f6772616d71007e0ea87400046e616d6571007e0ea97400047472756571007e0ea67400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e004401007074000070740009656e64506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e0eb97400046e616d6571007e0eb6740009656e64506572696f6471007e0eb87400046e616d6571007e0eba7400047472756571007e0eb774001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e00440100707400007074000b7374617274506572696f64707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e0eca7400046e616d6571007e0ec774000b7374617274506572696f6471007e0ec97400046e616d6571007e0ecb74000566616c736571007e0ec874001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e0044010070707074000e47656f677261706869635a6f6e65707371007e002c707371007e00ab0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00b23f400000000000067708000000080000000571007e0eda7400046e616d6571007e0ed7740008446973747269637471007e0ed97400046e616d6571007e0edb74000566616c736571007e0ed87400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e0044000070707074000f696d616765734469726563746f7279707371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e0044000070707074000874696d655a6f6e65707371007e002c7070707400106a6176612e6c616e672e537472696e67707371007e002c707371007e00ab0000001477040000001474002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572740025636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e7461626c657374002c6e65742e73662e6a61737065727265706f7274732e6578706f72742e68746d6c2e656d6265642e696d6167657400296e65742e73662e6a61737065727265706f7274732e7072696e742e6b6565702e66756c6c2e746578747400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e77686974652e706167652e6261636b67726f756e647400326e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6f6e652e706167652e7065722e73686565747400326e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6f6e652e706167652e7065722e736865657474003f6e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e72656d6f76652e656d7074792e73706163652e6265747765656e2e726f77737400426e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e72656d6f76652e656d7074792e73706163652e6265747765656e2e636f6c756d6e7374003f6e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e72656d6f76652e656d7074792e73706163652e6265747765656e2e726f77737400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e317400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e327400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e347400406e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e317400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e327400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e347400406e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e33787371007e00b23f400000000000187708000000200000001471007e0ef374000566616c736571007e0ef07400047472756571007e0ef174000566616c736571007e0ef274000566616c736571007e0eed7400064d616c61776971007e0ef47400047472756571007e0eee71007e0c5b71007e0f0074000c636f6c756d6e48656164657271007e0ef67400047472756571007e0ef774000a7061676548656164657271007e0ef874000a70616765466f6f74657271007e0eef7400047472756571007e0ef97400057469746c6571007e0efa74000773756d6d61727971007e0efe7400057469746c6571007e0ef57400047472756571007e0efb74000c636f6c756d6e48656164657271007e0eff74000773756d6d61727971007e0efc74000a7061676548656164657271007e0efd74000a70616765466f6f74657278707371007e00f57571007e00f8000000017371007e00fa0174000b53454c4543542054525545707071007e0126707070707371007e012787e1e305d6e7da2e4e1d9a97c93a4ad37571007e0129000000087371007e012b000077ee0000010071007e0132707071007e013570707371007e008c000000007571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e013b7071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707071007e01407071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707071007e01427071007e013d71007e005d707371007e012b000077ee0000010071007e0132707071007e013570707371007e008c000000017571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e01487071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000027571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000037571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01567071007e013d71007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000047571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000057571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01607071007e014971007e005d707371007e012b000077ee0000010071007e014c7371007e008c000000067571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e013570707371007e008c000000077571007e0090000000017371007e0092017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e016a7071007e016b71007e005d7071007e0cfe7e71007e017a7400054552524f5271007e0e71707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f7269656e746174696f6e456e756d00000000000000001200007871007e0013740008504f525452414954707371007e038f7371007e00ab0000000f77040000000f7371007e04310000ea6200000014000100000000000000aa00000000000000647071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e012793cf3ad3d9ea64765b5c1ad9a5874ad50000ea627070707070707070707070707371007e03db707371007e03df0000ea627070707071007e0f4b71007e0f4b71007e0f49707371007e03e50000ea627070707071007e0f4b71007e0f4b707371007e03e00000ea627070707071007e0f4b71007e0f4b707371007e03eb0000ea627070707071007e0f4b71007e0f4b707371007e03ed0000ea627070707071007e0f4b71007e0f4b7070707371007e03ef7070707071007e0f497070707070707070707070700000ea620000000000000001707071007e043e7371007e008c000000107571007e0090000000077371007e00920274000b7374617274506572696f647371007e00920174000b203d3d206e756c6c203f207371007e009202740009656e64506572696f647371007e009201740003203a207371007e00920274000b7374617274506572696f647371007e009201740009202b20222d22202b207371007e009202740009656e64506572696f6470707070707070707070707070707371007e04310000ea620000001400010000000000000069000001c2000000647071007e001171007e0f4770740001787070707071007e03a17070707071007e03b37371007e012795558ea6ccb278e8091e102afd8f418a0000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0f6571007e0f6571007e0f62707371007e03e50000ea627070707071007e0f6571007e0f65707371007e03e00000ea627070707071007e0f6571007e0f65707371007e03eb0000ea627070707071007e0f6571007e0f65707371007e03ed0000ea627070707071007e0f6571007e0f657070707371007e03ef7070707071007e0f627070707070707070707070700000ea620000000000000000707071007e043e7371007e008c000000117571007e0090000000037371007e0092017400746a6176612e74696d652e666f726d61742e4461746554696d65466f726d61747465722e6f665061747465726e282264202d204d4d4d202d20797922292e666f726d6174286a6176612e74696d652e5a6f6e65644461746554696d652e6e6f77286a6176612e74696d652e5a6f6e6549642e6f66287371007e00920274000874696d655a6f6e657371007e0092017400042929293b70707070707070707070707070707371007e03c40000ea62000000120001000000000000022b000000000000003c7371007e040a00000000ff78787870707071007e001171007e0f477371007e040a00000000ffffffff707070707071007e0421707071007e03a170707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e0f79740005706978656c787071007e03b37371007e01278f8fcfd08054d6e59f3422a5353441430000ea6270707371007e041141700000707071007e097271007e05d570707070707371007e03db707371007e03df0000ea627070707071007e0f7e71007e0f7e71007e0f74707371007e03e50000ea627070707071007e0f7e71007e0f7e707371007e03e00000ea627070707071007e0f7e71007e0f7e707371007e03eb0000ea627070707071007e0f7e71007e0f7e707371007e03ed0000ea627070707071007e0f7e71007e0f7e7070707371007e03ef7070707071007e0f7470707070707070707070707074000e5265706f7274696e6720526174657371007e04310000ea6200000014000100000000000000460000017c000000647071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127b25a632d3693b5ebc369de06ce1346ab0000ea627070707070707070707070707371007e03db707371007e03df0000ea627070707071007e0f8871007e0f8871007e0f86707371007e03e50000ea627070707071007e0f8871007e0f88707371007e03e00000ea627070707071007e0f8871007e0f88707371007e03eb0000ea627070707071007e0f8871007e0f88707371007e03ed0000ea627070707071007e0f8871007e0f887070707371007e03ef7070707071007e0f867070707070707070707070700000ea620000000000000001707071007e043e7371007e008c000000127571007e0090000000017371007e00920274000750726f6772616d70707070707070707070707070707371007e03c40000ea62000000140001000000000000005a00000122000000507071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127a666450d83ee599ea109178bf19f4b3d0000ea62707070707071007e03d971007e05d570707070707371007e03db707371007e03df0000ea627070707071007e0f9571007e0f9571007e0f93707371007e03e50000ea627070707071007e0f9571007e0f95707371007e03e00000ea627070707071007e0f9571007e0f95707371007e03eb0000ea627070707071007e0f9571007e0f95707371007e03ed0000ea627070707071007e0f9571007e0f957070707371007e03ef7070707071007e0f93707070707070707070707071007e03f374000944697374726963743a7371007e03c40000ea6200000014000100000000000000460000017c000000507071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e01279666be7019b8e757d27c90da6dab4dcb0000ea6270707371007e041141200000707071007e03d971007e05d570707070707371007e03db707371007e03df0000ea627070707071007e0fa071007e0fa071007e0f9d707371007e03e50000ea627070707071007e0fa071007e0fa0707371007e03e00000ea627070707071007e0fa071007e0fa0707371007e03eb0000ea627070707071007e0fa071007e0fa0707371007e03ed0000ea627070707071007e0fa071007e0fa07070707371007e03ef7070707071007e0f9d707070707070707070707071007e03f374000850726f6772616d3a7371007e03c40000ea620000001400010000000000000069000001c2000000507071007e001171007e0f4770740001787070707071007e03a170707371007e002c707371007e00ab00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00b23f400000000000037708000000040000000171007e0fac740005706978656c787071007e03b37371007e0127b81482708af40118d64c46c183c64ddb0000ea6270707371007e041141200000707071007e03d971007e05d570707070707371007e03db707371007e03df0000ea627070707071007e0fb171007e0fb171007e0fa8707371007e03e50000ea627070707071007e0fb171007e0fb1707371007e03e00000ea627070707071007e0fb171007e0fb1707371007e03eb0000ea627070707071007e0fb171007e0fb1707371007e03ed0000ea627070707071007e0fb171007e0fb170707400046e6f6e657371007e03ef7070707071007e0fa8707070707070707070707071007e03f37400105265706f72742052756e20446174653a7371007e03c40000ea6200000014000100000000000000ab00000000000000507071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127b55164f12a7f83a16e08bac03b74444e0000ea62707070707071007e03d971007e05d570707070707371007e03db707371007e03df0000ea627070707071007e0fbc71007e0fbc71007e0fba707371007e03e50000ea627070707071007e0fbc71007e0fbc707371007e03e00000ea627070707071007e0fbc71007e0fbc707371007e03eb0000ea627070707071007e0fbc71007e0fbc707371007e03ed0000ea627070707071007e0fbc71007e0fbc70707400046e6f6e657371007e03ef7070707071007e0fba707070707070707070707071007e03f37400115265706f7274696e6720506572696f643a7371007e04310000ea62000000140001000000000000002d000001fe000000007071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e01278921769f3a2d7563c1614b3c51cd49c60000ea62707070707071007e03d97070707070707371007e03db707371007e03df0000ea627070707071007e0fc771007e0fc771007e0fc5707371007e03e50000ea627070707071007e0fc771007e0fc7707371007e03e00000ea627070707071007e0fc771007e0fc7707371007e03eb0000ea627070707071007e0fc771007e0fc7707371007e03ed0000ea627070707071007e0fc771007e0fc77070707371007e03ef7070707071007e0fc57070707070707070707070700000ea620000000000000000707071007e0cba7371007e008c000000137571007e0090000000027371007e00920174000922206f662022202b207371007e00920474000b504147455f4e554d42455270707070707070707070707070707371007e04310000ea620000001400010000000000000050000001ae000000007071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127b97e6003ec134b4fb2a32e42ac204eea0000ea6270707070707e71007e03d874000552494748547070707070707371007e03db707371007e03df0000ea627070707071007e0fd871007e0fd871007e0fd4707371007e03e50000ea627070707071007e0fd871007e0fd8707371007e03e00000ea627070707071007e0fd871007e0fd8707371007e03eb0000ea627070707071007e0fd871007e0fd8707371007e03ed0000ea627070707071007e0fd871007e0fd87070707371007e03ef7070707071007e0fd47070707070707070707070700000ea620000000000000000707071007e043e7371007e008c000000147571007e0090000000027371007e00920174000a22506167652022202b207371007e00920474000b504147455f4e554d42455270707070707070707070707070707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365496d61676500000000000027d802001e49001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a000669734c617a7942000b6f6e4572726f72547970654c0014616e63686f724e616d6545787072657373696f6e71007e001a4c000f6576616c756174696f6e47726f757071007e012d4c00136576616c756174696f6e54696d6556616c756571007e04324c000a65787072657373696f6e71007e001a4c0013686f72697a6f6e74616c416c69676e6d656e7471007e03904c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e03c74c0014686f72697a6f6e74616c496d616765416c69676e71007e04054c001968797065726c696e6b416e63686f7245787072657373696f6e71007e001a4c001768797065726c696e6b5061676545787072657373696f6e71007e001a5b001368797065726c696e6b506172616d657465727371007e04334c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e001a4c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e001a4c001768797065726c696e6b5768656e45787072657373696f6e71007e001a4c000c69735573696e67436163686571007e03c94c00076c696e65426f7871007e03c14c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00106f6e4572726f725479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f6e4572726f7254797065456e756d3b4c000a7363616c65496d61676571007e03904c000f7363616c65496d61676556616c756571007e04074c0011766572746963616c416c69676e6d656e7471007e03904c0016766572746963616c416c69676e6d656e7456616c756571007e03cd4c0012766572746963616c496d616765416c69676e71007e04087871007e0d3c0000ea62000000320001000000000000003200000000000000007071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e01279d94701314bea21e1f656c388cee492b000077ee70707371007e03e10000ea627070707071007e0fe70000ea62000000000000000000707071007e043e7371007e008c000000157571007e0090000000037371007e00920174001f676574436c61737328292e6765745265736f75726365417353747265616d287371007e00920274000f696d616765734469726563746f72797371007e009201740016202b20226d616c6177695f63726573742e706e672229707070707070707070707070707371007e03db707371007e03df0000ea627070707071007e0ff271007e0ff271007e0fe7707371007e03e50000ea627070707071007e0ff271007e0ff2707371007e03e00000ea627070707071007e0ff271007e0ff2707371007e03eb0000ea627070707071007e0ff271007e0ff2707371007e03ed0000ea627070707071007e0ff271007e0ff270707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f6e4572726f7254797065456e756d00000000000000001200007871007e00137400054552524f5270707070707371007e03c40000ea6200000027000100000000000001170000008d000000007071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e01279f1714333dcd29f75e1a29bdc88845fa0000ea6270707371007e041141900000707071007e09727070707070707371007e03db707371007e03df0000ea627070707071007e0ffe71007e0ffe71007e0ffb707371007e03e50000ea627070707071007e0ffe71007e0ffe707371007e03e00000ea627070707071007e0ffe71007e0ffe707371007e03eb0000ea627070707071007e0ffe71007e0ffe707371007e03ed0000ea627070707071007e0ffe71007e0ffe7070707371007e03ef7070707071007e0ffb707070707070707070707071007e03f374001a4d696e6973747279206f66204865616c74682c204d616c6177697371007e04310000ea62000000140001000000000000005a00000122000000647071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127852250ac17c1f38708ab21bc114c47220000ea627070707070707070707070707371007e03db707371007e03df0000ea627070707071007e100871007e100871007e1006707371007e03e50000ea627070707071007e100871007e1008707371007e03e00000ea627070707071007e100871007e1008707371007e03eb0000ea627070707071007e100871007e1008707371007e03ed0000ea627070707071007e100871007e10087070707371007e03ef7070707071007e10067070707070707070707070700000ea620000000000000001707071007e043e7371007e008c000000167571007e0090000000047371007e009201740001287371007e00920274000e47656f677261706869635a6f6e657371007e009201740014203d3d206e756c6c29203f2022416c6c22203a207371007e00920274000e47656f677261706869635a6f6e6570707070707070707070707070707371007e03c40000ea620000001400010000000000000077000000ab000000507071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127ade5ed2c05d582ca248ab4828f5b43df0000ea62707070707071007e03d971007e05d570707070707371007e03db707371007e03df0000ea627070707071007e101b71007e101b71007e1019707371007e03e50000ea627070707071007e101b71007e101b707371007e03e00000ea627070707071007e101b71007e101b707371007e03eb0000ea627070707071007e101b71007e101b707371007e03ed0000ea627070707071007e101b71007e101b7070707371007e03ef7070707071007e1019707070707070707070707071007e03f3740009466163696c6974793a7371007e04310000ea620000001400010000000000000077000000ab000000647071007e001171007e0f4770707070707071007e03a17070707071007e03b37371007e0127aa31f0fdd4485707297c699d17a640da0000ea627070707070707070707070707371007e03db707371007e03df0000ea627070707071007e102571007e102571007e1023707371007e03e50000ea627070707071007e102571007e1025707371007e03e00000ea627070707071007e102571007e1025707371007e03eb0000ea627070707071007e102571007e1025707371007e03ed0000ea627070707071007e102571007e10257070707371007e03ef7070707071007e10237070707070707070707070700000ea620000000000000001707071007e043e7371007e008c000000177571007e0090000000057371007e009201740001287371007e00920274000c666163696c697479547970657371007e009201740014203d3d206e756c6c29203f2022416c6c22203a207371007e00920274000c666163696c697479547970657371007e0092017400162e7265706c616365416c6c28223b222c20222c202229707070707070707070707070707078700000ea620000007b01707371007e002c707371007e00ab00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00b23f400000000000037708000000040000000171007e103a740005706978656c787070707e72002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5072696e744f72646572456e756d00000000000000001200007871007e0013740008564552544943414c7e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53656374696f6e54797065456e756d00000000000000001200007871007e001374000442414e44757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525374796c653bd49cc311d90572350200007870000000037371007e04020000ea62007371007e040a00000000ffffffff7070707071007e001170707070707070707070707070707070707371007e03db707371007e03df0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e104771007e104771007e1045707371007e03e50000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e104771007e1047707371007e03e00000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e104771007e1047707371007e03eb0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e104771007e1047707371007e03ed0000ea627371007e040a00000000ff00000070707070707371007e04113f00000071007e104771007e10477371007e03e10000ea627070707071007e10457070707071007e04217400085461626c655f54487371007e03ef7070707071007e104570707070707070707070707070707070707070707071007e044b71007e04097070707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e4e6f4461746154797065456e756d00000000000000001200007871007e0013740016414c4c5f53454354494f4e535f4e4f5f44455441494c737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a525265706f7274436f6d70696c654461746100000000000027d80200034c001363726f7373746162436f6d70696c654461746171007e002e4c001264617461736574436f6d70696c654461746171007e002e4c00166d61696e44617461736574436f6d70696c654461746171007e000178707371007e00b23f4000000000000077080000001000000000787371007e00b23f4000000000000c7708000000100000000371007e0193757200025b42acf317f8060854e0020000787000002cb8cafebabe0000003401770700020100287265706f7274696e67526174655f42795a6f6e655f313739323430373034333730355f373832353507000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001b706172616d657465725f5245504f52545f434f4e4e454354494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b010010706172616d657465725f46494c544552010011706172616d657465725f50726f6772616d010013706172616d657465725f656e64506572696f64010016706172616d657465725f666163696c69747954797065010017706172616d657465725f4a41535045525f5245504f5254010017706172616d657465725f5245504f52545f4c4f43414c4501001a706172616d657465725f5245504f52545f54494d455f5a4f4e4501001a706172616d657465725f5245504f52545f54454d504c4154455301001d706172616d657465725f666163696c697479547970655570646174656401001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010020706172616d657465725f4a41535045525f5245504f5254535f434f4e5445585401001a706172616d657465725f666163696c697479547970654c697374010015706172616d657465725f7374617274506572696f64010018706172616d657465725f47656f677261706869635a6f6e6501001f706172616d657465725f5245504f52545f464f524d41545f464143544f525901001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f41444552010015706172616d657465725f534f52545f4649454c445301000c6669656c645f6f6e74696d6501002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b01000b6669656c645f746f74616c0100186669656c645f67656f677261706869637a6f6e656e616d6501000c6669656c645f6d697373656401000f6669656c645f636f6d706c657465640100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e5401001f7661726961626c655f50657263656e74416e644e756d626572466f726d61740100063c696e69743e010003282956010004436f64650a000300300c002c002d09000100320c0005000609000100340c0007000609000100360c0008000609000100380c00090006090001003a0c000a0006090001003c0c000b0006090001003e0c000c000609000100400c000d000609000100420c000e000609000100440c000f000609000100460c0010000609000100480c00110006090001004a0c00120006090001004c0c00130006090001004e0c0014000609000100500c0015000609000100520c0016000609000100540c0017000609000100560c0018000609000100580c00190006090001005a0c001a0006090001005c0c001b0006090001005e0c001c000609000100600c001d001e09000100620c001f001e09000100640c0020001e09000100660c0021001e09000100680c0022001e090001006a0c00230024090001006c0c00250024090001006e0c0026002409000100700c0027002409000100720c0028002409000100740c0029002409000100760c002a002409000100780c002b002401000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a0001007d0c007e007f01000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100810c0082007f01000a696e69744669656c64730a000100840c0085007f010008696e6974566172730800870100115245504f52545f434f4e4e454354494f4e0b0089008b07008a01000d6a6176612f7574696c2f4d61700c008c008d010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b07008f0100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208009101000646494c54455208009301000750726f6772616d080095010009656e64506572696f6408009701000c666163696c6974795479706508009901000d4a41535045525f5245504f525408009b01000d5245504f52545f4c4f43414c4508009d0100105245504f52545f54494d455f5a4f4e4508009f0100105245504f52545f54454d504c415445530800a1010013666163696c69747954797065557064617465640800a30100105245504f52545f4d41585f434f554e540800a50100105245504f52545f5343524950544c45540800a70100164a41535045525f5245504f5254535f434f4e544558540800a9010010666163696c697479547970654c6973740800ab01000b7374617274506572696f640800ad01000e47656f677261706869635a6f6e650800af0100155245504f52545f464f524d41545f464143544f52590800b10100155245504f52545f504152414d45544552535f4d41500800b30100165245504f52545f5245534f555243455f42554e444c450800b50100125245504f52545f444154415f534f555243450800b701000e5245504f52545f434f4e544558540800b90100135245504f52545f434c4153535f4c4f414445520800bb01000b534f52545f4649454c44530800bd0100066f6e74696d650700bf01002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c640800c1010005746f74616c0800c301001267656f677261706869637a6f6e656e616d650800c50100066d69737365640800c7010009636f6d706c657465640800c901000b504147455f4e554d4245520700cb01002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800cd0100134d41535445525f43555252454e545f504147450800cf0100124d41535445525f544f54414c5f50414745530800d101000d434f4c554d4e5f4e554d4245520800d301000c5245504f52545f434f554e540800d501000a504147455f434f554e540800d701000c434f4c554d4e5f434f554e540800d901001650657263656e74416e644e756d626572466f726d61740100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700de0100136a6176612f6c616e672f5468726f7761626c650a008e00e00c00e100e201000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0700e40100106a6176612f6c616e672f537472696e670800e60100023b3b0800e8010005434f4d4d410a00e300ea0c00eb00ec01000a7265706c616365416c6c010038284c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0800ee0100013b0800f00100012c0800f20100075c732a2c5c732a0a00e300f40c00f500f601000573706c6974010027284c6a6176612f6c616e672f537472696e673b295b4c6a6176612f6c616e672f537472696e673b0a00f800fa0700f90100106a6176612f7574696c2f4172726179730c00fb00fc01000661734c697374010025285b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f7574696c2f4c6973743b0b00fe01000700ff01000e6a6176612f7574696c2f4c6973740c0101010201000673747265616d01001b28294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c010401050100056170706c7901001f28294c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b12000001030b0108010a0701090100176a6176612f7574696c2f73747265616d2f53747265616d0c010b010c0100036d6170010038284c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c008c010e01001f28294c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b120001010d0a0111011307011201001b6a6176612f7574696c2f73747265616d2f436f6c6c6563746f72730c0114011501000c746f436f6c6c656374696f6e01003b284c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b294c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b0b010801170c01180119010007636f6c6c656374010030284c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b294c6a6176612f6c616e672f4f626a6563743b07011b0100116a6176612f6c616e672f496e74656765720a011a011d0c002c011e0100042849295608012001000f2531242e3066252520282532246429080122010006252e306625250a00be00e00a00ca00e00701260100106a6176612f6c616e672f4f626a6563740a011a01280c0129012a010008696e7456616c75650100032829490640590000000000000a012e013007012f0100106a6176612f6c616e672f446f75626c650c0131013201000776616c75654f660100152844294c6a6176612f6c616e672f446f75626c653b0a00e301340c01350136010006666f726d6174010039284c6a6176612f6c616e672f537472696e673b5b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0a011a01380c013101390100162849294c6a6176612f6c616e672f496e74656765723b01000d537461636b4d61705461626c6501000b6576616c756174654f6c641200020103120003010d0a00be013f0c014000e201000b6765744f6c6456616c75650a00ca013f0100116576616c75617465457374696d617465641200040103120005010d0a00ca01460c014700e2010011676574457374696d6174656456616c75650100086c616d6264612430010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0100086c616d62646124310100086c616d626461243201000a536f7572636546696c65010010426f6f7473747261704d6574686f64730a014f01510701500100226a6176612f6c616e672f696e766f6b652f4c616d6264614d657461666163746f72790c0152015301000b6d657461666163746f72790100cc284c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b75703b4c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b294c6a6176612f6c616e672f696e766f6b652f43616c6c536974653b0f06014e10008d0a000101570c014801490f0601561001491000e20a015c003007015d0100136a6176612f7574696c2f41727261794c6973740f08015b01001728294c6a6176612f7574696c2f41727261794c6973743b10015f10008d0a000101630c014a01490f0601621001491000e20f08015b10015f10008d0a0001016b0c014b01490f06016a1001491000e20f08015b10015f01000c496e6e6572436c61737365730701730100256a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b757007017501001e6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c65730100064c6f6f6b75700021000100030000002400020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d001e00000002001f001e000000020020001e000000020021001e000000020022001e00000002002300240000000200250024000000020026002400000002002700240000000200280024000000020029002400000002002a002400000002002b00240000000b0001002c002d0001002e0000016500020001000000b92ab7002f2a01b500312a01b500332a01b500352a01b500372a01b500392a01b5003b2a01b5003d2a01b5003f2a01b500412a01b500432a01b500452a01b500472a01b500492a01b5004b2a01b5004d2a01b5004f2a01b500512a01b500532a01b500552a01b500572a01b500592a01b5005b2a01b5005d2a01b5005f2a01b500612a01b500632a01b500652a01b500672a01b500692a01b5006b2a01b5006d2a01b5006f2a01b500712a01b500732a01b500752a01b50077b10000000100790000009a0026000000170004001e0009001f000e00200013002100180022001d00230022002400270025002c00260031002700360028003b00290040002a0045002b004a002c004f002d0054002e0059002f005e00300063003100680032006d00330072003400770035007c00360081003700860038008b00390090003a0095003b009a003c009f003d00a4003e00a9003f00ae004000b3004100b800170001007a007b0001002e0000003400020004000000102a2bb7007c2a2cb700802a2db70083b10000000100790000001200040000004d0005004e000a004f000f00500002007e007f0001002e000001ce000300020000015a2a2b1286b900880200c0008eb500312a2b1290b900880200c0008eb500332a2b1292b900880200c0008eb500352a2b1294b900880200c0008eb500372a2b1296b900880200c0008eb500392a2b1298b900880200c0008eb5003b2a2b129ab900880200c0008eb5003d2a2b129cb900880200c0008eb5003f2a2b129eb900880200c0008eb500412a2b12a0b900880200c0008eb500432a2b12a2b900880200c0008eb500452a2b12a4b900880200c0008eb500472a2b12a6b900880200c0008eb500492a2b12a8b900880200c0008eb5004b2a2b12aab900880200c0008eb5004d2a2b12acb900880200c0008eb5004f2a2b12aeb900880200c0008eb500512a2b12b0b900880200c0008eb500532a2b12b2b900880200c0008eb500552a2b12b4b900880200c0008eb500572a2b12b6b900880200c0008eb500592a2b12b8b900880200c0008eb5005b2a2b12bab900880200c0008eb5005db100000001007900000062001800000058000f0059001e005a002d005b003c005c004b005d005a005e0069005f00780060008700610096006200a5006300b4006400c3006500d2006600e1006700f0006800ff0069010e006a011d006b012c006c013b006d014a006e0159006f00020082007f0001002e00000078000300020000004c2a2b12bcb900880200c000beb5005f2a2b12c0b900880200c000beb500612a2b12c2b900880200c000beb500632a2b12c4b900880200c000beb500652a2b12c6b900880200c000beb50067b10000000100790000001a000600000077000f0078001e0079002d007a003c007b004b007c00020085007f0001002e000000b100030002000000792a2b12c8b900880200c000cab500692a2b12ccb900880200c000cab5006b2a2b12ceb900880200c000cab5006d2a2b12d0b900880200c000cab5006f2a2b12d2b900880200c000cab500712a2b12d4b900880200c000cab500732a2b12d6b900880200c000cab500752a2b12d8b900880200c000cab50077b100000001007900000026000900000084000f0085001e0086002d0087003c0088004b0089005a008a0069008b0078008c000100da00db000200dc00000004000100dd002e000006680008000300000533014d1baa0000052e000000000000001a0000007900000095000000c7000000d3000000df000000eb000000f7000001030000010f0000011b000001270000012e00000135000001430000018c000001d5000002400000028900000297000002e00000032900000394000003dd000003eb000004340000047d000004e82ab40039b600dfc000e312e512e7b600e912ed12efb600e94da7049c2ab40043b600dfc000e312f1b600f3b800f7b900fd0100ba01060000b901070200ba010f0000b80110b9011602004da7046abb011a5904b7011c4da7045ebb011a5904b7011c4da70452bb011a5904b7011c4da70446bb011a5903b7011c4da7043abb011a5904b7011c4da7042ebb011a5903b7011c4da70422bb011a5904b7011c4da70416bb011a5903b7011c4da7040a13011f4da704031301214da703fc2ab40063b60123c000e34da703ee2ab40077b60124c000e305bd012559032ab40067b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011a53b801334da703a52ab40077b60124c000e305bd012559032ab4005fb60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab4005fb60123c0011a53b801334da7035c2ab40077b60124c000e305bd012559032ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764b8013753b801334da702f12ab40077b60124c000e305bd012559032ab40065b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40065b60123c0011a53b801334da702a82ab40063b60123c000e34da7029a2ab40077b60124c000e305bd012559032ab40067b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011a53b801334da702512ab40077b60124c000e305bd012559032ab4005fb60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab4005fb60123c0011a53b801334da702082ab40077b60124c000e305bd012559032ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764b8013753b801334da7019d2ab40077b60124c000e305bd012559032ab40065b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40065b60123c0011a53b801334da701542ab40063b60123c000e34da701462ab40077b60124c000e305bd012559032ab40067b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011a53b801334da700fd2ab40077b60124c000e305bd012559032ab4005fb60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab4005fb60123c0011a53b801334da700b42ab40077b60124c000e305bd012559032ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764b8013753b801334da700492ab40077b60124c000e305bd012559032ab40065b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40065b60123c0011a53b801334d2cb0000000020079000000e200380000009400020096007c009a0095009b0098009f00c700a000ca00a400d300a500d600a900df00aa00e200ae00eb00af00ee00b300f700b400fa00b8010300b9010600bd010f00be011200c2011b00c3011e00c7012700c8012a00cc012e00cd013100d1013500d2013800d6014300d7014600db018c00dc018f00e001d500e101d800e5024000e6024300ea028900eb028c00ef029700f0029a00f402e000f502e300f9032900fa032c00fe039400ff0397010303dd010403e0010803eb010903ee010d0434010e04370112047d01130480011704e8011804eb011c05310124013a0000003b001cfc007c0701251b310b0b0b0b0b0b0b0b06060dfb0048fb0048fb006afb00480dfb0048fb0048fb006afb00480dfb0048fb0048fb006afb00450001013b00db000200dc00000004000100dd002e000006680008000300000533014d1baa0000052e000000000000001a0000007900000095000000c7000000d3000000df000000eb000000f7000001030000010f0000011b000001270000012e00000135000001430000018c000001d5000002400000028900000297000002e00000032900000394000003dd000003eb000004340000047d000004e82ab40039b600dfc000e312e512e7b600e912ed12efb600e94da7049c2ab40043b600dfc000e312f1b600f3b800f7b900fd0100ba013c0000b901070200ba013d0000b80110b9011602004da7046abb011a5904b7011c4da7045ebb011a5904b7011c4da70452bb011a5904b7011c4da70446bb011a5903b7011c4da7043abb011a5904b7011c4da7042ebb011a5903b7011c4da70422bb011a5904b7011c4da70416bb011a5903b7011c4da7040a13011f4da704031301214da703fc2ab40063b6013ec000e34da703ee2ab40077b60141c000e305bd012559032ab40067b6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40067b6013ec0011a53b801334da703a52ab40077b60141c000e305bd012559032ab4005fb6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab4005fb6013ec0011a53b801334da7035c2ab40077b60141c000e305bd012559032ab40067b6013ec0011ab601272ab4005fb6013ec0011ab6012764872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40067b6013ec0011ab601272ab4005fb6013ec0011ab6012764b8013753b801334da702f12ab40077b60141c000e305bd012559032ab40065b6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40065b6013ec0011a53b801334da702a82ab40063b6013ec000e34da7029a2ab40077b60141c000e305bd012559032ab40067b6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40067b6013ec0011a53b801334da702512ab40077b60141c000e305bd012559032ab4005fb6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab4005fb6013ec0011a53b801334da702082ab40077b60141c000e305bd012559032ab40067b6013ec0011ab601272ab4005fb6013ec0011ab6012764872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40067b6013ec0011ab601272ab4005fb6013ec0011ab6012764b8013753b801334da7019d2ab40077b60141c000e305bd012559032ab40065b6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40065b6013ec0011a53b801334da701542ab40063b6013ec000e34da701462ab40077b60141c000e305bd012559032ab40067b6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40067b6013ec0011a53b801334da700fd2ab40077b60141c000e305bd012559032ab4005fb6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab4005fb6013ec0011a53b801334da700b42ab40077b60141c000e305bd012559032ab40067b6013ec0011ab601272ab4005fb6013ec0011ab6012764872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40067b6013ec0011ab601272ab4005fb6013ec0011ab6012764b8013753b801334da700492ab40077b60141c000e305bd012559032ab40065b6013ec0011ab60127872ab40061b6013ec0011ab60127876f14012b6bb8012d5359042ab40065b6013ec0011a53b801334d2cb0000000020079000000e200380000012d0002012f007c0133009501340098013800c7013900ca013d00d3013e00d6014200df014300e2014700eb014800ee014c00f7014d00fa01510103015201060156010f01570112015b011b015c011e016001270161012a0165012e01660131016a0135016b0138016f0143017001460174018c0175018f017901d5017a01d8017e0240017f0243018302890184028c018802970189029a018d02e0018e02e3019203290193032c0197039401980397019c03dd019d03e001a103eb01a203ee01a6043401a7043701ab047d01ac048001b004e801b104eb01b5053101bd013a0000003b001cfc007c0701251b310b0b0b0b0b0b0b0b06060dfb0048fb0048fb006afb00480dfb0048fb0048fb006afb00480dfb0048fb0048fb006afb00450001014200db000200dc00000004000100dd002e000006680008000300000533014d1baa0000052e000000000000001a0000007900000095000000c7000000d3000000df000000eb000000f7000001030000010f0000011b000001270000012e00000135000001430000018c000001d5000002400000028900000297000002e00000032900000394000003dd000003eb000004340000047d000004e82ab40039b600dfc000e312e512e7b600e912ed12efb600e94da7049c2ab40043b600dfc000e312f1b600f3b800f7b900fd0100ba01430000b901070200ba01440000b80110b9011602004da7046abb011a5904b7011c4da7045ebb011a5904b7011c4da70452bb011a5904b7011c4da70446bb011a5903b7011c4da7043abb011a5904b7011c4da7042ebb011a5903b7011c4da70422bb011a5904b7011c4da70416bb011a5903b7011c4da7040a13011f4da704031301214da703fc2ab40063b60123c000e34da703ee2ab40077b60145c000e305bd012559032ab40067b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011a53b801334da703a52ab40077b60145c000e305bd012559032ab4005fb60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab4005fb60123c0011a53b801334da7035c2ab40077b60145c000e305bd012559032ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764b8013753b801334da702f12ab40077b60145c000e305bd012559032ab40065b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40065b60123c0011a53b801334da702a82ab40063b60123c000e34da7029a2ab40077b60145c000e305bd012559032ab40067b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011a53b801334da702512ab40077b60145c000e305bd012559032ab4005fb60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab4005fb60123c0011a53b801334da702082ab40077b60145c000e305bd012559032ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764b8013753b801334da7019d2ab40077b60145c000e305bd012559032ab40065b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40065b60123c0011a53b801334da701542ab40063b60123c000e34da701462ab40077b60145c000e305bd012559032ab40067b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011a53b801334da700fd2ab40077b60145c000e305bd012559032ab4005fb60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab4005fb60123c0011a53b801334da700b42ab40077b60145c000e305bd012559032ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40067b60123c0011ab601272ab4005fb60123c0011ab6012764b8013753b801334da700492ab40077b60145c000e305bd012559032ab40065b60123c0011ab60127872ab40061b60123c0011ab60127876f14012b6bb8012d5359042ab40065b60123c0011a53b801334d2cb0000000020079000000e20038000001c6000201c8007c01cc009501cd009801d100c701d200ca01d600d301d700d601db00df01dc00e201e000eb01e100ee01e500f701e600fa01ea010301eb010601ef010f01f0011201f4011b01f5011e01f9012701fa012a01fe012e01ff013102030135020401380208014302090146020d018c020e018f021201d5021301d80217024002180243021c0289021d028c022102970222029a022602e0022702e3022b0329022c032c0230039402310397023503dd023603e0023a03eb023b03ee023f0434024004370244047d02450480024904e8024a04eb024e05310256013a0000003b001cfc007c0701251b310b0b0b0b0b0b0b0b06060dfb0048fb0048fb006afb00480dfb0048fb0048fb006afb00480dfb0048fb0048fb006afb0045100a014801490001002e0000002100030001000000092a12e712efb600e9b00000000100790000000600010000009f100a014a01490001002e0000002100030001000000092a12e712efb600e9b000000001007900000006000100000138100a014b01490001002e0000002100030001000000092a12e712efb600e9b0000000010079000000060001000001d10003014c000000020002014d0000003e00060154000301550158015901540003015a015e01600154000301610164016501540003016601670168015400030169016c016d01540003016e016f017001710000000a0001017201740176001971007e02937571007e106100001f5bcafebabe0000003401780700020100377265706f7274696e67526174655f5265706f7274696e67526174654279506572696f645f313739323430373034333730355f373832353507000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001b706172616d657465725f5245504f52545f434f4e4e454354494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b010010706172616d657465725f46494c544552010011706172616d657465725f50726f6772616d010013706172616d657465725f656e64506572696f64010016706172616d657465725f666163696c69747954797065010017706172616d657465725f4a41535045525f5245504f5254010017706172616d657465725f5245504f52545f4c4f43414c4501001a706172616d657465725f5245504f52545f54494d455f5a4f4e4501001a706172616d657465725f5245504f52545f54454d504c4154455301001d706172616d657465725f666163696c697479547970655570646174656401001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010020706172616d657465725f4a41535045525f5245504f5254535f434f4e5445585401001a706172616d657465725f666163696c697479547970654c697374010015706172616d657465725f7374617274506572696f64010018706172616d657465725f47656f677261706869635a6f6e6501001f706172616d657465725f5245504f52545f464f524d41545f464143544f525901001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f41444552010015706172616d657465725f534f52545f4649454c445301000b6669656c645f746f74616c01002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b01000c6669656c645f6f6e74696d650100136669656c645f7265706f7274696e675261746501000c6669656c645f6d69737365640100106669656c645f706572696f646e616d6501000f6669656c645f636f6d706c657465640100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e5401001f7661726961626c655f50657263656e74416e644e756d626572466f726d61740100063c696e69743e010003282956010004436f64650a000300310c002d002e09000100330c0005000609000100350c0007000609000100370c0008000609000100390c00090006090001003b0c000a0006090001003d0c000b0006090001003f0c000c000609000100410c000d000609000100430c000e000609000100450c000f000609000100470c0010000609000100490c00110006090001004b0c00120006090001004d0c00130006090001004f0c0014000609000100510c0015000609000100530c0016000609000100550c0017000609000100570c0018000609000100590c00190006090001005b0c001a0006090001005d0c001b0006090001005f0c001c000609000100610c001d001e09000100630c001f001e09000100650c0020001e09000100670c0021001e09000100690c0022001e090001006b0c0023001e090001006d0c00240025090001006f0c0026002509000100710c0027002509000100730c0028002509000100750c0029002509000100770c002a002509000100790c002b0025090001007b0c002c002501000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a000100800c0081008201000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100840c0085008201000a696e69744669656c64730a000100870c00880082010008696e69745661727308008a0100115245504f52545f434f4e4e454354494f4e0b008c008e07008d01000d6a6176612f7574696c2f4d61700c008f0090010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b0700920100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208009401000646494c54455208009601000750726f6772616d080098010009656e64506572696f6408009a01000c666163696c6974795479706508009c01000d4a41535045525f5245504f525408009e01000d5245504f52545f4c4f43414c450800a00100105245504f52545f54494d455f5a4f4e450800a20100105245504f52545f54454d504c415445530800a4010013666163696c69747954797065557064617465640800a60100105245504f52545f4d41585f434f554e540800a80100105245504f52545f5343524950544c45540800aa0100164a41535045525f5245504f5254535f434f4e544558540800ac010010666163696c697479547970654c6973740800ae01000b7374617274506572696f640800b001000e47656f677261706869635a6f6e650800b20100155245504f52545f464f524d41545f464143544f52590800b40100155245504f52545f504152414d45544552535f4d41500800b60100165245504f52545f5245534f555243455f42554e444c450800b80100125245504f52545f444154415f534f555243450800ba01000e5245504f52545f434f4e544558540800bc0100135245504f52545f434c4153535f4c4f414445520800be01000b534f52545f4649454c44530800c0010005746f74616c0700c201002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c640800c40100066f6e74696d650800c601000d7265706f7274696e67526174650800c80100066d69737365640800ca01000a706572696f646e616d650800cc010009636f6d706c657465640800ce01000b504147455f4e554d4245520700d001002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800d20100134d41535445525f43555252454e545f504147450800d40100124d41535445525f544f54414c5f50414745530800d601000d434f4c554d4e5f4e554d4245520800d801000c5245504f52545f434f554e540800da01000a504147455f434f554e540800dc01000c434f4c554d4e5f434f554e540800de01001650657263656e74416e644e756d626572466f726d61740100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700e30100136a6176612f6c616e672f5468726f7761626c650a009100e50c00e600e701000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0700e90100106a6176612f6c616e672f537472696e670800eb0100023b3b0800ed010005434f4d4d410a00e800ef0c00f000f101000a7265706c616365416c6c010038284c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0800f30100013b0800f50100012c0800f70100075c732a2c5c732a0a00e800f90c00fa00fb01000573706c6974010027284c6a6176612f6c616e672f537472696e673b295b4c6a6176612f6c616e672f537472696e673b0a00fd00ff0700fe0100106a6176612f7574696c2f4172726179730c0100010101000661734c697374010025285b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f7574696c2f4c6973743b0b0103010507010401000e6a6176612f7574696c2f4c6973740c0106010701000673747265616d01001b28294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c0109010a0100056170706c7901001f28294c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b12000001080b010d010f07010e0100176a6176612f7574696c2f73747265616d2f53747265616d0c011001110100036d6170010038284c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c008f011301001f28294c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b12000101120a0116011807011701001b6a6176612f7574696c2f73747265616d2f436f6c6c6563746f72730c0119011a01000c746f436f6c6c656374696f6e01003b284c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b294c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b0b010d011c0c011d011e010007636f6c6c656374010030284c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b294c6a6176612f6c616e672f4f626a6563743b0701200100116a6176612f6c616e672f496e74656765720a011f01220c002d01230100042849295608012501000f2531242e3066252520282532246429080127010006252e3066252508012901000853455249455320310a00c100e50a011f012c0c012d012e010008696e7456616c75650100032829490640590000000000000a0132013407013301000e6a6176612f6c616e672f4d6174680c01350136010005726f756e640100042844294a0a0138013a07013901000e6a6176612f6c616e672f4c6f6e670c013b013c01000776616c75654f66010013284a294c6a6176612f6c616e672f4c6f6e673b01000d537461636b4d61705461626c6507013f0100106a6176612f6c616e672f4f626a65637401000b6576616c756174654f6c64120002010812000301120a00c101440c014500e701000b6765744f6c6456616c75650100116576616c75617465457374696d61746564120004010812000501120100086c616d6264612430010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0100086c616d62646124310100086c616d626461243201000a536f7572636546696c65010010426f6f7473747261704d6574686f64730a015001520701510100226a6176612f6c616e672f696e766f6b652f4c616d6264614d657461666163746f72790c0153015401000b6d657461666163746f72790100cc284c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b75703b4c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b294c6a6176612f6c616e672f696e766f6b652f43616c6c536974653b0f06014f1000900a000101580c0149014a0f06015710014a1000e70a015d003107015e0100136a6176612f7574696c2f41727261794c6973740f08015c01001728294c6a6176612f7574696c2f41727261794c6973743b1001601000900a000101640c014b014a0f06016310014a1000e70f08015c1001601000900a0001016c0c014c014a0f06016b10014a1000e70f08015c10016001000c496e6e6572436c61737365730701740100256a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b757007017601001e6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c65730100064c6f6f6b75700021000100030000002500020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d001e00000002001f001e000000020020001e000000020021001e000000020022001e000000020023001e0000000200240025000000020026002500000002002700250000000200280025000000020029002500000002002a002500000002002b002500000002002c00250000000b0001002d002e0001002f0000016e00020001000000be2ab700302a01b500322a01b500342a01b500362a01b500382a01b5003a2a01b5003c2a01b5003e2a01b500402a01b500422a01b500442a01b500462a01b500482a01b5004a2a01b5004c2a01b5004e2a01b500502a01b500522a01b500542a01b500562a01b500582a01b5005a2a01b5005c2a01b5005e2a01b500602a01b500622a01b500642a01b500662a01b500682a01b5006a2a01b5006c2a01b5006e2a01b500702a01b500722a01b500742a01b500762a01b500782a01b5007ab100000001007c0000009e0027000000170004001e0009001f000e00200013002100180022001d00230022002400270025002c00260031002700360028003b00290040002a0045002b004a002c004f002d0054002e0059002f005e00300063003100680032006d00330072003400770035007c00360081003700860038008b00390090003a0095003b009a003c009f003d00a4003e00a9003f00ae004000b3004100b8004200bd00170001007d007e0001002f0000003400020004000000102a2bb7007f2a2cb700832a2db70086b100000001007c0000001200040000004e0005004f000a0050000f00510002008100820001002f000001ce000300020000015a2a2b1289b9008b0200c00091b500322a2b1293b9008b0200c00091b500342a2b1295b9008b0200c00091b500362a2b1297b9008b0200c00091b500382a2b1299b9008b0200c00091b5003a2a2b129bb9008b0200c00091b5003c2a2b129db9008b0200c00091b5003e2a2b129fb9008b0200c00091b500402a2b12a1b9008b0200c00091b500422a2b12a3b9008b0200c00091b500442a2b12a5b9008b0200c00091b500462a2b12a7b9008b0200c00091b500482a2b12a9b9008b0200c00091b5004a2a2b12abb9008b0200c00091b5004c2a2b12adb9008b0200c00091b5004e2a2b12afb9008b0200c00091b500502a2b12b1b9008b0200c00091b500522a2b12b3b9008b0200c00091b500542a2b12b5b9008b0200c00091b500562a2b12b7b9008b0200c00091b500582a2b12b9b9008b0200c00091b5005a2a2b12bbb9008b0200c00091b5005c2a2b12bdb9008b0200c00091b5005eb100000001007c00000062001800000059000f005a001e005b002d005c003c005d004b005e005a005f0069006000780061008700620096006300a5006400b4006500c3006600d2006700e1006800f0006900ff006a010e006b011d006c012c006d013b006e014a006f015900700002008500820001002f0000008b000300020000005b2a2b12bfb9008b0200c000c1b500602a2b12c3b9008b0200c000c1b500622a2b12c5b9008b0200c000c1b500642a2b12c7b9008b0200c000c1b500662a2b12c9b9008b0200c000c1b500682a2b12cbb9008b0200c000c1b5006ab100000001007c0000001e000700000078000f0079001e007a002d007b003c007c004b007d005a007e0002008800820001002f000000b100030002000000792a2b12cdb9008b0200c000cfb5006c2a2b12d1b9008b0200c000cfb5006e2a2b12d3b9008b0200c000cfb500702a2b12d5b9008b0200c000cfb500722a2b12d7b9008b0200c000cfb500742a2b12d9b9008b0200c000cfb500762a2b12dbb9008b0200c000cfb500782a2b12ddb9008b0200c000cfb5007ab100000001007c00000026000900000086000f0087001e0088002d0089003c008a004b008b005a008c0069008d0078008e000100df00e0000200e100000004000100e2002f000001f80004000300000147014d1baa00000142000000000000000e000000490000006500000097000000a3000000af000000bb000000c7000000d3000000df000000eb000000f7000000fe000001050000010c0000011a2ab4003ab600e4c000e812ea12ecb600ee12f212f4b600ee4da700e02ab40044b600e4c000e812f6b600f8b800fcb901020100ba010b0000b9010c0200ba01140000b80115b9011b02004da700aebb011f5904b701214da700a2bb011f5904b701214da70096bb011f5904b701214da7008abb011f5903b701214da7007ebb011f5904b701214da70072bb011f5903b701214da70066bb011f5904b701214da7005abb011f5903b701214da7004e1301244da700471301264da700401301284da700392ab40068b6012ac000e84da7002b2ab4006ab6012ac0011fb6012b872ab40060b6012ac0011fb6012b876f14012f6bb80131b801374d2cb000000002007c0000008200200000009600020098004c009c0065009d006800a1009700a2009a00a600a300a700a600ab00af00ac00b200b000bb00b100be00b500c700b600ca00ba00d300bb00d600bf00df00c000e200c400eb00c500ee00c900f700ca00fa00ce00fe00cf010100d3010500d4010800d8010c00d9010f00dd011a00de011d00e2014500ea013d000000170010fc004c07013e1b310b0b0b0b0b0b0b0b0606060d270001014000e0000200e100000004000100e2002f000001f80004000300000147014d1baa00000142000000000000000e000000490000006500000097000000a3000000af000000bb000000c7000000d3000000df000000eb000000f7000000fe000001050000010c0000011a2ab4003ab600e4c000e812ea12ecb600ee12f212f4b600ee4da700e02ab40044b600e4c000e812f6b600f8b800fcb901020100ba01410000b9010c0200ba01420000b80115b9011b02004da700aebb011f5904b701214da700a2bb011f5904b701214da70096bb011f5904b701214da7008abb011f5903b701214da7007ebb011f5904b701214da70072bb011f5903b701214da70066bb011f5904b701214da7005abb011f5903b701214da7004e1301244da700471301264da700401301284da700392ab40068b60143c000e84da7002b2ab4006ab60143c0011fb6012b872ab40060b60143c0011fb6012b876f14012f6bb80131b801374d2cb000000002007c000000820020000000f3000200f5004c00f9006500fa006800fe009700ff009a010300a3010400a6010800af010900b2010d00bb010e00be011200c7011300ca011700d3011800d6011c00df011d00e2012100eb012200ee012600f7012700fa012b00fe012c010101300105013101080135010c0136010f013a011a013b011d013f01450147013d000000170010fc004c07013e1b310b0b0b0b0b0b0b0b0606060d270001014600e0000200e100000004000100e2002f000001f80004000300000147014d1baa00000142000000000000000e000000490000006500000097000000a3000000af000000bb000000c7000000d3000000df000000eb000000f7000000fe000001050000010c0000011a2ab4003ab600e4c000e812ea12ecb600ee12f212f4b600ee4da700e02ab40044b600e4c000e812f6b600f8b800fcb901020100ba01470000b9010c0200ba01480000b80115b9011b02004da700aebb011f5904b701214da700a2bb011f5904b701214da70096bb011f5904b701214da7008abb011f5903b701214da7007ebb011f5904b701214da70072bb011f5903b701214da70066bb011f5904b701214da7005abb011f5903b701214da7004e1301244da700471301264da700401301284da700392ab40068b6012ac000e84da7002b2ab4006ab6012ac0011fb6012b872ab40060b6012ac0011fb6012b876f14012f6bb80131b801374d2cb000000002007c0000008200200000015000020152004c0156006501570068015b0097015c009a016000a3016100a6016500af016600b2016a00bb016b00be016f00c7017000ca017400d3017500d6017900df017a00e2017e00eb017f00ee018300f7018400fa018800fe01890101018d0105018e01080192010c0193010f0197011a0198011d019c014501a4013d000000170010fc004c07013e1b310b0b0b0b0b0b0b0b0606060d27100a0149014a0001002f0000002100030001000000092a12ec12f4b600eeb000000001007c000000060001000000a1100a014b014a0001002f0000002100030001000000092a12ec12f4b600eeb000000001007c000000060001000000fe100a014c014a0001002f0000002100030001000000092a12ec12f4b600eeb000000001007c0000000600010000015b0003014d000000020002014e0000003e00060155000301560159015a01550003015b015f0161015500030162016501660155000301670168016901550003016a016d016e01550003016f0170017101720000000a0001017301750177001971007e00417571007e106100002d4dcafebabe00000034017d0700020100297265706f7274696e67526174655f42794d6f6e74685f313739323430373034333730355f373832353507000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001b706172616d657465725f5245504f52545f434f4e4e454354494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b010010706172616d657465725f46494c544552010011706172616d657465725f50726f6772616d010013706172616d657465725f656e64506572696f64010016706172616d657465725f666163696c69747954797065010017706172616d657465725f4a41535045525f5245504f5254010017706172616d657465725f5245504f52545f4c4f43414c4501001a706172616d657465725f5245504f52545f54494d455f5a4f4e4501001a706172616d657465725f5245504f52545f54454d504c4154455301001d706172616d657465725f666163696c697479547970655570646174656401001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010020706172616d657465725f4a41535045525f5245504f5254535f434f4e5445585401001a706172616d657465725f666163696c697479547970654c697374010015706172616d657465725f7374617274506572696f64010018706172616d657465725f47656f677261706869635a6f6e6501001f706172616d657465725f5245504f52545f464f524d41545f464143544f525901001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f41444552010015706172616d657465725f534f52545f4649454c445301000b6669656c645f746f74616c01002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b01000c6669656c645f6f6e74696d6501000c6669656c645f6d69737365640100106669656c645f706572696f646e616d6501000f6669656c645f636f6d706c657465640100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e5401001f7661726961626c655f50657263656e74416e644e756d626572466f726d61740100063c696e69743e010003282956010004436f64650a000300300c002c002d09000100320c0005000609000100340c0007000609000100360c0008000609000100380c00090006090001003a0c000a0006090001003c0c000b0006090001003e0c000c000609000100400c000d000609000100420c000e000609000100440c000f000609000100460c0010000609000100480c00110006090001004a0c00120006090001004c0c00130006090001004e0c0014000609000100500c0015000609000100520c0016000609000100540c0017000609000100560c0018000609000100580c00190006090001005a0c001a0006090001005c0c001b0006090001005e0c001c000609000100600c001d001e09000100620c001f001e09000100640c0020001e09000100660c0021001e09000100680c0022001e090001006a0c00230024090001006c0c00250024090001006e0c0026002409000100700c0027002409000100720c0028002409000100740c0029002409000100760c002a002409000100780c002b002401000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a0001007d0c007e007f01000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100810c0082007f01000a696e69744669656c64730a000100840c0085007f010008696e6974566172730800870100115245504f52545f434f4e4e454354494f4e0b0089008b07008a01000d6a6176612f7574696c2f4d61700c008c008d010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b07008f0100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208009101000646494c54455208009301000750726f6772616d080095010009656e64506572696f6408009701000c666163696c6974795479706508009901000d4a41535045525f5245504f525408009b01000d5245504f52545f4c4f43414c4508009d0100105245504f52545f54494d455f5a4f4e4508009f0100105245504f52545f54454d504c415445530800a1010013666163696c69747954797065557064617465640800a30100105245504f52545f4d41585f434f554e540800a50100105245504f52545f5343524950544c45540800a70100164a41535045525f5245504f5254535f434f4e544558540800a9010010666163696c697479547970654c6973740800ab01000b7374617274506572696f640800ad01000e47656f677261706869635a6f6e650800af0100155245504f52545f464f524d41545f464143544f52590800b10100155245504f52545f504152414d45544552535f4d41500800b30100165245504f52545f5245534f555243455f42554e444c450800b50100125245504f52545f444154415f534f555243450800b701000e5245504f52545f434f4e544558540800b90100135245504f52545f434c4153535f4c4f414445520800bb01000b534f52545f4649454c44530800bd010005746f74616c0700bf01002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c640800c10100066f6e74696d650800c30100066d69737365640800c501000a706572696f646e616d650800c7010009636f6d706c657465640800c901000b504147455f4e554d4245520700cb01002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800cd0100134d41535445525f43555252454e545f504147450800cf0100124d41535445525f544f54414c5f50414745530800d101000d434f4c554d4e5f4e554d4245520800d301000c5245504f52545f434f554e540800d501000a504147455f434f554e540800d701000c434f4c554d4e5f434f554e540800d901001650657263656e74416e644e756d626572466f726d61740100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700de0100136a6176612f6c616e672f5468726f7761626c650800e00100074f6e2054696d650a00be00e20c00e300e401000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0700e60100106a6176612f6c616e672f537472696e670700e80100116a6176612f6c616e672f496e74656765720a00e700ea0c00eb00ec010008696e7456616c75650100032829490640590000000000000a00f000f20700f10100106a6176612f6c616e672f446f75626c650c00f300f401000776616c75654f660100152844294c6a6176612f6c616e672f446f75626c653b0800f60100044c6174650800f801000c4e6f74205265706f727465640a008e00e20800fb0100023b3b0800fd010005434f4d4d410a00e500ff0c0100010101000a7265706c616365416c6c010038284c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0801030100013b0801050100012c0801070100075c732a2c5c732a0a00e501090c010a010b01000573706c6974010027284c6a6176612f6c616e672f537472696e673b295b4c6a6176612f6c616e672f537472696e673b0a010d010f07010e0100106a6176612f7574696c2f4172726179730c0110011101000661734c697374010025285b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f7574696c2f4c6973743b0b0113011507011401000e6a6176612f7574696c2f4c6973740c0116011701000673747265616d01001b28294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c0119011a0100056170706c7901001f28294c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b12000001180b011d011f07011e0100176a6176612f7574696c2f73747265616d2f53747265616d0c012001210100036d6170010038284c6a6176612f7574696c2f66756e6374696f6e2f46756e6374696f6e3b294c6a6176612f7574696c2f73747265616d2f53747265616d3b0c008c012301001f28294c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b12000101220a0126012807012701001b6a6176612f7574696c2f73747265616d2f436f6c6c6563746f72730c0129012a01000c746f436f6c6c656374696f6e01003b284c6a6176612f7574696c2f66756e6374696f6e2f537570706c6965723b294c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b0b011d012c0c012d012e010007636f6c6c656374010030284c6a6176612f7574696c2f73747265616d2f436f6c6c6563746f723b294c6a6176612f6c616e672f4f626a6563743b0a00e701300c002c01310100042849295608013301000f2531242e3066252520282532246429080135010006252e306625250a00ca00e20701380100106a6176612f6c616e672f4f626a6563740a00e5013a0c013b013c010006666f726d6174010039284c6a6176612f6c616e672f537472696e673b5b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0a00e7013e0c00f3013f0100162849294c6a6176612f6c616e672f496e74656765723b01000d537461636b4d61705461626c6501000b6576616c756174654f6c640a00be01430c014400e401000b6765744f6c6456616c7565120002011812000301220a00ca01430100116576616c75617465457374696d61746564120004011812000501220a00ca014c0c014d00e4010011676574457374696d6174656456616c75650100086c616d6264612430010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0100086c616d62646124310100086c616d626461243201000a536f7572636546696c65010010426f6f7473747261704d6574686f64730a015501570701560100226a6176612f6c616e672f696e766f6b652f4c616d6264614d657461666163746f72790c0158015901000b6d657461666163746f72790100cc284c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b75703b4c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c653b4c6a6176612f6c616e672f696e766f6b652f4d6574686f64547970653b294c6a6176612f6c616e672f696e766f6b652f43616c6c536974653b0f06015410008d0a0001015d0c014e014f0f06015c10014f1000e40a016200300701630100136a6176612f7574696c2f41727261794c6973740f08016101001728294c6a6176612f7574696c2f41727261794c6973743b10016510008d0a000101690c0150014f0f06016810014f1000e40f08016110016510008d0a000101710c0151014f0f06017010014f1000e40f08016110016501000c496e6e6572436c61737365730701790100256a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c6573244c6f6f6b757007017b01001e6a6176612f6c616e672f696e766f6b652f4d6574686f6448616e646c65730100064c6f6f6b75700021000100030000002400020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d001e00000002001f001e000000020020001e000000020021001e000000020022001e00000002002300240000000200250024000000020026002400000002002700240000000200280024000000020029002400000002002a002400000002002b00240000000b0001002c002d0001002e0000016500020001000000b92ab7002f2a01b500312a01b500332a01b500352a01b500372a01b500392a01b5003b2a01b5003d2a01b5003f2a01b500412a01b500432a01b500452a01b500472a01b500492a01b5004b2a01b5004d2a01b5004f2a01b500512a01b500532a01b500552a01b500572a01b500592a01b5005b2a01b5005d2a01b5005f2a01b500612a01b500632a01b500652a01b500672a01b500692a01b5006b2a01b5006d2a01b5006f2a01b500712a01b500732a01b500752a01b50077b10000000100790000009a0026000000170004001e0009001f000e00200013002100180022001d00230022002400270025002c00260031002700360028003b00290040002a0045002b004a002c004f002d0054002e0059002f005e00300063003100680032006d00330072003400770035007c00360081003700860038008b00390090003a0095003b009a003c009f003d00a4003e00a9003f00ae004000b3004100b800170001007a007b0001002e0000003400020004000000102a2bb7007c2a2cb700802a2db70083b10000000100790000001200040000004d0005004e000a004f000f00500002007e007f0001002e000001ce000300020000015a2a2b1286b900880200c0008eb500312a2b1290b900880200c0008eb500332a2b1292b900880200c0008eb500352a2b1294b900880200c0008eb500372a2b1296b900880200c0008eb500392a2b1298b900880200c0008eb5003b2a2b129ab900880200c0008eb5003d2a2b129cb900880200c0008eb5003f2a2b129eb900880200c0008eb500412a2b12a0b900880200c0008eb500432a2b12a2b900880200c0008eb500452a2b12a4b900880200c0008eb500472a2b12a6b900880200c0008eb500492a2b12a8b900880200c0008eb5004b2a2b12aab900880200c0008eb5004d2a2b12acb900880200c0008eb5004f2a2b12aeb900880200c0008eb500512a2b12b0b900880200c0008eb500532a2b12b2b900880200c0008eb500552a2b12b4b900880200c0008eb500572a2b12b6b900880200c0008eb500592a2b12b8b900880200c0008eb5005b2a2b12bab900880200c0008eb5005db100000001007900000062001800000058000f0059001e005a002d005b003c005c004b005d005a005e0069005f00780060008700610096006200a5006300b4006400c3006500d2006600e1006700f0006800ff0069010e006a011d006b012c006c013b006d014a006e0159006f00020082007f0001002e00000078000300020000004c2a2b12bcb900880200c000beb5005f2a2b12c0b900880200c000beb500612a2b12c2b900880200c000beb500632a2b12c4b900880200c000beb500652a2b12c6b900880200c000beb50067b10000000100790000001a000600000077000f0078001e0079002d007a003c007b004b007c00020085007f0001002e000000b100030002000000792a2b12c8b900880200c000cab500692a2b12ccb900880200c000cab5006b2a2b12ceb900880200c000cab5006d2a2b12d0b900880200c000cab5006f2a2b12d2b900880200c000cab500712a2b12d4b900880200c000cab500732a2b12d6b900880200c000cab500752a2b12d8b900880200c000cab50077b100000001007900000026000900000084000f0085001e0086002d0087003c0088004b0089005a008a0069008b0078008c000100da00db000200dc00000004000100dd002e000006900008000300000524014d1baa0000051f0000000000000021000000950000009b000000a9000000d1000000d7000000dd000000eb00000121000001270000012d0000013b000001710000017700000195000001c8000001d4000001e0000001ec000001f800000204000002100000021c000002280000022f00000236000002440000028d000002d600000341000003ac000003ba000004030000044c000004b712df4da704872ab40065b600e1c000e54da704792ab40061b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef4da7045112df4da7044b12f54da704452ab40065b600e1c000e54da704372ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef4da7040112f54da703fb12f74da703f52ab40065b600e1c000e54da703e72ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef4da703b112f74da703ab2ab40039b600f9c000e512fa12fcb600fe130102130104b600fe4da7038d2ab40043b600f9c000e5130106b60108b8010cb901120100ba011b0000b9011c0200ba01240000b80125b9012b02004da7035abb00e75904b7012f4da7034ebb00e75904b7012f4da70342bb00e75904b7012f4da70336bb00e75903b7012f4da7032abb00e75904b7012f4da7031ebb00e75903b7012f4da70312bb00e75904b7012f4da70306bb00e75903b7012f4da702fa1301324da702f31301344da702ec2ab40065b600e1c000e54da702de2ab40077b60136c000e505bd013759032ab40067b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e753b801394da702952ab40077b60136c000e505bd013759032ab40061b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40061b600e1c000e753b801394da7024c2ab40077b60136c000e505bd013759032ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964b8013d53b801394da701e12ab40077b60136c000e505bd013759032ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964b8013d53b801394da701762ab40065b600e1c000e54da701682ab40077b60136c000e505bd013759032ab40067b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e753b801394da7011f2ab40077b60136c000e505bd013759032ab40061b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40061b600e1c000e753b801394da700d62ab40077b60136c000e505bd013759032ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964b8013d53b801394da7006b2ab40077b60136c000e505bd013759032ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964b8013d53b801394d2cb00000000200790000011a004600000094000200960098009a009b009b009e009f00a900a000ac00a400d100a500d400a900d700aa00da00ae00dd00af00e000b300eb00b400ee00b8012100b9012400bd012700be012a00c2012d00c3013000c7013b00c8013e00cc017100cd017400d1017700d2017a00d6019500d7019800db01c800dc01cb00e001d400e101d700e501e000e601e300ea01ec00eb01ef00ef01f800f001fb00f4020400f5020700f9021000fa021300fe021c00ff021f010302280104022b0108022f01090232010d0236010e023901120244011302470117028d01180290011c02d6011d02d90121034101220344012603ac012703af012b03ba012c03bd01300403013104060135044c0136044f013a04b7013b04ba013f0522014701400000003a0023fc0098070137050d2705050d3505050d35051d320b0b0b0b0b0b0b0b06060dfb0048fb0048fb006afb006a0dfb0048fb0048fb006afb00670001014100db000200dc00000004000100dd002e000006900008000300000524014d1baa0000051f0000000000000021000000950000009b000000a9000000d1000000d7000000dd000000eb00000121000001270000012d0000013b000001710000017700000195000001c8000001d4000001e0000001ec000001f800000204000002100000021c000002280000022f00000236000002440000028d000002d600000341000003ac000003ba000004030000044c000004b712df4da704872ab40065b60142c000e54da704792ab40061b60142c000e7b600e9872ab4005fb60142c000e7b600e9876f1400ed6bb800ef4da7045112df4da7044b12f54da704452ab40065b60142c000e54da704372ab40067b60142c000e7b600e92ab40061b60142c000e7b600e964872ab4005fb60142c000e7b600e9876f1400ed6bb800ef4da7040112f54da703fb12f74da703f52ab40065b60142c000e54da703e72ab4005fb60142c000e7b600e92ab40067b60142c000e7b600e964872ab4005fb60142c000e7b600e9876f1400ed6bb800ef4da703b112f74da703ab2ab40039b600f9c000e512fa12fcb600fe130102130104b600fe4da7038d2ab40043b600f9c000e5130106b60108b8010cb901120100ba01450000b9011c0200ba01460000b80125b9012b02004da7035abb00e75904b7012f4da7034ebb00e75904b7012f4da70342bb00e75904b7012f4da70336bb00e75903b7012f4da7032abb00e75904b7012f4da7031ebb00e75903b7012f4da70312bb00e75904b7012f4da70306bb00e75903b7012f4da702fa1301324da702f31301344da702ec2ab40065b60142c000e54da702de2ab40077b60147c000e505bd013759032ab40067b60142c000e7b600e9872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab40067b60142c000e753b801394da702952ab40077b60147c000e505bd013759032ab40061b60142c000e7b600e9872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab40061b60142c000e753b801394da7024c2ab40077b60147c000e505bd013759032ab40067b60142c000e7b600e92ab40061b60142c000e7b600e964872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab40067b60142c000e7b600e92ab40061b60142c000e7b600e964b8013d53b801394da701e12ab40077b60147c000e505bd013759032ab4005fb60142c000e7b600e92ab40067b60142c000e7b600e964872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab4005fb60142c000e7b600e92ab40067b60142c000e7b600e964b8013d53b801394da701762ab40065b60142c000e54da701682ab40077b60147c000e505bd013759032ab40067b60142c000e7b600e9872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab40067b60142c000e753b801394da7011f2ab40077b60147c000e505bd013759032ab40061b60142c000e7b600e9872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab40061b60142c000e753b801394da700d62ab40077b60147c000e505bd013759032ab40067b60142c000e7b600e92ab40061b60142c000e7b600e964872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab40067b60142c000e7b600e92ab40061b60142c000e7b600e964b8013d53b801394da7006b2ab40077b60147c000e505bd013759032ab4005fb60142c000e7b600e92ab40067b60142c000e7b600e964872ab4005fb60142c000e7b600e9876f1400ed6bb800ef5359042ab4005fb60142c000e7b600e92ab40067b60142c000e7b600e964b8013d53b801394d2cb00000000200790000011a0046000001500002015200980156009b0157009e015b00a9015c00ac016000d1016100d4016500d7016600da016a00dd016b00e0016f00eb017000ee017401210175012401790127017a012a017e012d017f01300183013b0184013e0188017101890174018d0177018e017a0192019501930198019701c8019801cb019c01d4019d01d701a101e001a201e301a601ec01a701ef01ab01f801ac01fb01b0020401b1020701b5021001b6021301ba021c01bb021f01bf022801c0022b01c4022f01c5023201c9023601ca023901ce024401cf024701d3028d01d4029001d802d601d902d901dd034101de034401e203ac01e303af01e703ba01e803bd01ec040301ed040601f1044c01f2044f01f604b701f704ba01fb0522020301400000003a0023fc0098070137050d2705050d3505050d35051d320b0b0b0b0b0b0b0b06060dfb0048fb0048fb006afb006a0dfb0048fb0048fb006afb00670001014800db000200dc00000004000100dd002e000006900008000300000524014d1baa0000051f0000000000000021000000950000009b000000a9000000d1000000d7000000dd000000eb00000121000001270000012d0000013b000001710000017700000195000001c8000001d4000001e0000001ec000001f800000204000002100000021c000002280000022f00000236000002440000028d000002d600000341000003ac000003ba000004030000044c000004b712df4da704872ab40065b600e1c000e54da704792ab40061b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef4da7045112df4da7044b12f54da704452ab40065b600e1c000e54da704372ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef4da7040112f54da703fb12f74da703f52ab40065b600e1c000e54da703e72ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef4da703b112f74da703ab2ab40039b600f9c000e512fa12fcb600fe130102130104b600fe4da7038d2ab40043b600f9c000e5130106b60108b8010cb901120100ba01490000b9011c0200ba014a0000b80125b9012b02004da7035abb00e75904b7012f4da7034ebb00e75904b7012f4da70342bb00e75904b7012f4da70336bb00e75903b7012f4da7032abb00e75904b7012f4da7031ebb00e75903b7012f4da70312bb00e75904b7012f4da70306bb00e75903b7012f4da702fa1301324da702f31301344da702ec2ab40065b600e1c000e54da702de2ab40077b6014bc000e505bd013759032ab40067b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e753b801394da702952ab40077b6014bc000e505bd013759032ab40061b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40061b600e1c000e753b801394da7024c2ab40077b6014bc000e505bd013759032ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964b8013d53b801394da701e12ab40077b6014bc000e505bd013759032ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964b8013d53b801394da701762ab40065b600e1c000e54da701682ab40077b6014bc000e505bd013759032ab40067b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e753b801394da7011f2ab40077b6014bc000e505bd013759032ab40061b600e1c000e7b600e9872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40061b600e1c000e753b801394da700d62ab40077b6014bc000e505bd013759032ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab40067b600e1c000e7b600e92ab40061b600e1c000e7b600e964b8013d53b801394da7006b2ab40077b6014bc000e505bd013759032ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964872ab4005fb600e1c000e7b600e9876f1400ed6bb800ef5359042ab4005fb600e1c000e7b600e92ab40067b600e1c000e7b600e964b8013d53b801394d2cb00000000200790000011a00460000020c0002020e00980212009b0213009e021700a9021800ac021c00d1021d00d4022100d7022200da022600dd022700e0022b00eb022c00ee0230012102310124023501270236012a023a012d023b0130023f013b0240013e024401710245017402490177024a017a024e0195024f0198025301c8025401cb025801d4025901d7025d01e0025e01e3026201ec026301ef026701f8026801fb026c0204026d020702710210027202130276021c0277021f027b0228027c022b0280022f028102320285023602860239028a0244028b0247028f028d02900290029402d6029502d902990341029a0344029e03ac029f03af02a303ba02a403bd02a8040302a9040602ad044c02ae044f02b204b702b304ba02b7052202bf01400000003a0023fc0098070137050d2705050d3505050d35051d320b0b0b0b0b0b0b0b06060dfb0048fb0048fb006afb006a0dfb0048fb0048fb006afb0067100a014e014f0001002e00000022000300010000000a2a12fc130104b600feb0000000010079000000060001000000db100a0150014f0001002e00000022000300010000000a2a12fc130104b600feb000000001007900000006000100000197100a0151014f0001002e00000022000300010000000a2a12fc130104b600feb0000000010079000000060001000002530003015200000002000201530000003e0006015a0003015b015e015f015a0003016001640166015a00030167016a016b015a0003016c016d016e015a0003016f01720173015a000301740175017601770000000a00010178017a017c0019787571007e1061000032bfcafebabe0000003401560700020100217265706f7274696e67526174655f313739323430373034333730355f373832353507000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001b706172616d657465725f5245504f52545f434f4e4e454354494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b010019706172616d657465725f696d616765734469726563746f7279010013706172616d657465725f656e64506572696f64010017706172616d657465725f4a41535045525f5245504f525401001a706172616d657465725f5245504f52545f54494d455f5a4f4e4501001a706172616d657465725f5245504f52545f54454d504c4154455301001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010015706172616d657465725f7374617274506572696f64010018706172616d657465725f47656f677261706869635a6f6e6501001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010015706172616d657465725f534f52545f4649454c445301001e706172616d657465725f49535f49474e4f52455f504147494e4154494f4e010010706172616d657465725f46494c544552010011706172616d657465725f50726f6772616d010016706172616d657465725f666163696c69747954797065010017706172616d657465725f5245504f52545f4c4f43414c45010012706172616d657465725f74696d655a6f6e65010020706172616d657465725f4a41535045525f5245504f5254535f434f4e5445585401001f706172616d657465725f5245504f52545f464f524d41545f464143544f5259010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f4144455201001c706172616d657465725f5245504f52545f5649525455414c495a45520100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e540100167661726961626c655f42794d6f6e74685f434f554e540100063c696e69743e010003282956010004436f64650a0003002c0c00280029090001002e0c0005000609000100300c0007000609000100320c0008000609000100340c0009000609000100360c000a000609000100380c000b0006090001003a0c000c0006090001003c0c000d0006090001003e0c000e000609000100400c000f000609000100420c0010000609000100440c0011000609000100460c0012000609000100480c00130006090001004a0c00140006090001004c0c00150006090001004e0c0016000609000100500c0017000609000100520c0018000609000100540c0019000609000100560c001a000609000100580c001b0006090001005a0c001c0006090001005c0c001d0006090001005e0c001e000609000100600c001f002009000100620c0021002009000100640c0022002009000100660c0023002009000100680c00240020090001006a0c00250020090001006c0c00260020090001006e0c0027002001000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a000100730c0074007501000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100770c0078007501000a696e69744669656c64730a0001007a0c007b0075010008696e69745661727308007d0100115245504f52545f434f4e4e454354494f4e0b007f008107008001000d6a6176612f7574696c2f4d61700c00820083010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b0700850100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208008701000f696d616765734469726563746f7279080089010009656e64506572696f6408008b01000d4a41535045525f5245504f525408008d0100105245504f52545f54494d455f5a4f4e4508008f0100105245504f52545f54454d504c415445530800910100105245504f52545f4d41585f434f554e540800930100105245504f52545f5343524950544c455408009501000b7374617274506572696f6408009701000e47656f677261706869635a6f6e650800990100155245504f52545f504152414d45544552535f4d415008009b0100165245504f52545f5245534f555243455f42554e444c4508009d0100125245504f52545f444154415f534f5552434508009f01000b534f52545f4649454c44530800a101001449535f49474e4f52455f504147494e4154494f4e0800a301000646494c5445520800a501000750726f6772616d0800a701000c666163696c697479547970650800a901000d5245504f52545f4c4f43414c450800ab01000874696d655a6f6e650800ad0100164a41535045525f5245504f5254535f434f4e544558540800af0100155245504f52545f464f524d41545f464143544f52590800b101000e5245504f52545f434f4e544558540800b30100135245504f52545f434c4153535f4c4f414445520800b50100125245504f52545f5649525455414c495a45520800b701000b504147455f4e554d4245520700b901002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800bb0100134d41535445525f43555252454e545f504147450800bd0100124d41535445525f544f54414c5f50414745530800bf01000d434f4c554d4e5f4e554d4245520800c101000c5245504f52545f434f554e540800c301000a504147455f434f554e540800c501000c434f4c554d4e5f434f554e540800c701000d42794d6f6e74685f434f554e540100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700cc0100136a6176612f6c616e672f5468726f7761626c650700ce0100116a6176612f6c616e672f496e74656765720a00cd00d00c002800d1010004284929560700d30100106a6176612f6c616e672f537472696e670800d50100037064660800d701000468746d6c0a00d900db0700da0100106a6176612f7574696c2f4172726179730c00dc00dd01000661734c697374010025285b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f7574696c2f4c6973743b0a008400df0c00e000e101000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0800e3010006666f726d61740b00e500e70700e601000e6a6176612f7574696c2f4c6973740c00e800e9010008636f6e7461696e73010015284c6a6176612f6c616e672f4f626a6563743b295a0a00eb00ed0700ec0100116a6176612f6c616e672f426f6f6c65616e0c00ee00ef01000776616c75654f66010016285a294c6a6176612f6c616e672f426f6f6c65616e3b0700f10100136a6176612f73716c2f436f6e6e656374696f6e0700f30100176a6176612f6c616e672f537472696e674275696c6465720a00d200f50c00ee00f6010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0a00f200f80c002800f9010015284c6a6176612f6c616e672f537472696e673b29560800fb0100012d0a00f200fd0c00fe00ff010006617070656e6401002d284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e674275696c6465723b0a00f201010c01020103010008746f537472696e6701001428294c6a6176612f6c616e672f537472696e673b08010501000c64202d204d4d4d202d2079790a010701090701080100226a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465720c010a010b0100096f665061747465726e010038284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465723b0a010d010f07010e0100106a6176612f74696d652f5a6f6e6549640c011001110100026f66010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f5a6f6e6549643b0a011301150701140100176a6176612f74696d652f5a6f6e65644461746554696d650c011601170100036e6f7701002d284c6a6176612f74696d652f5a6f6e6549643b294c6a6176612f74696d652f5a6f6e65644461746554696d653b0a010701190c00e3011a010039284c6a6176612f74696d652f74656d706f72616c2f54656d706f72616c4163636573736f723b294c6a6176612f6c616e672f537472696e673b08011c010004206f66200a00b800df0a00f2011f0c00fe012001002d284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e674275696c6465723b08012201000550616765200a012401260701250100106a6176612f6c616e672f4f626a6563740c01270128010008676574436c61737301001328294c6a6176612f6c616e672f436c6173733b08012a0100106d616c6177695f63726573742e706e670a012c012e07012d01000f6a6176612f6c616e672f436c6173730c012f01300100136765745265736f75726365417353747265616d010029284c6a6176612f6c616e672f537472696e673b294c6a6176612f696f2f496e70757453747265616d3b080132010003416c6c0801340100013b0801360100022c200a00d201380c0139013a01000a7265706c616365416c6c010038284c6a6176612f6c616e672f537472696e673b4c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e673b0a00cd013c0c013d013e010008696e7456616c7565010003282949080140010003637376080142010003786c730801440100034550490a00d201460c014700e9010006657175616c7308014901001a445653207765656b6c79207265706f7274696e67207472656e6408014b0100125265706f7274696e672052617465205b255d01000d537461636b4d61705461626c6501000b6576616c756174654f6c640a00b8014f0c015000e101000b6765744f6c6456616c75650100116576616c75617465457374696d617465640a00b801530c015400e1010011676574457374696d6174656456616c756501000a536f7572636546696c650021000100030000002100020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d000600000002001e000600000002001f00200000000200210020000000020022002000000002002300200000000200240020000000020025002000000002002600200000000200270020000000080001002800290001002a0000014a00020001000000aa2ab7002b2a01b5002d2a01b5002f2a01b500312a01b500332a01b500352a01b500372a01b500392a01b5003b2a01b5003d2a01b5003f2a01b500412a01b500432a01b500452a01b500472a01b500492a01b5004b2a01b5004d2a01b5004f2a01b500512a01b500532a01b500552a01b500572a01b500592a01b5005b2a01b5005d2a01b5005f2a01b500612a01b500632a01b500652a01b500672a01b500692a01b5006b2a01b5006db100000001006f0000008e0023000000170004001e0009001f000e00200013002100180022001d00230022002400270025002c00260031002700360028003b00290040002a0045002b004a002c004f002d0054002e0059002f005e00300063003100680032006d00330072003400770035007c00360081003700860038008b00390090003a0095003b009a003c009f003d00a4003e00a900170001007000710001002a0000003400020004000000102a2bb700722a2cb700762a2db70079b100000001006f0000001200040000004a0005004b000a004c000f004d0002007400750001002a000001f400030002000001782a2b127cb9007e0200c00084b5002d2a2b1286b9007e0200c00084b5002f2a2b1288b9007e0200c00084b500312a2b128ab9007e0200c00084b500332a2b128cb9007e0200c00084b500352a2b128eb9007e0200c00084b500372a2b1290b9007e0200c00084b500392a2b1292b9007e0200c00084b5003b2a2b1294b9007e0200c00084b5003d2a2b1296b9007e0200c00084b5003f2a2b1298b9007e0200c00084b500412a2b129ab9007e0200c00084b500432a2b129cb9007e0200c00084b500452a2b129eb9007e0200c00084b500472a2b12a0b9007e0200c00084b500492a2b12a2b9007e0200c00084b5004b2a2b12a4b9007e0200c00084b5004d2a2b12a6b9007e0200c00084b5004f2a2b12a8b9007e0200c00084b500512a2b12aab9007e0200c00084b500532a2b12acb9007e0200c00084b500552a2b12aeb9007e0200c00084b500572a2b12b0b9007e0200c00084b500592a2b12b2b9007e0200c00084b5005b2a2b12b4b9007e0200c00084b5005db100000001006f0000006a001a00000055000f0056001e0057002d0058003c0059004b005a005a005b0069005c0078005d0087005e0096005f00a5006000b4006100c3006200d2006300e1006400f0006500ff0066010e0067011d0068012c0069013b006a014a006b0159006c0168006d0177006e0002007800750001002a000000190000000200000001b100000001006f000000060001000000760002007b00750001002a000000b100030002000000792a2b12b6b9007e0200c000b8b5005f2a2b12bab9007e0200c000b8b500612a2b12bcb9007e0200c000b8b500632a2b12beb9007e0200c000b8b500652a2b12c0b9007e0200c000b8b500672a2b12c2b9007e0200c000b8b500692a2b12c4b9007e0200c000b8b5006b2a2b12c6b9007e0200c000b8b5006db100000001006f0000002600090000007e000f007f001e0080002d0081003c0082004b0083005a00840069008500780086000100c800c9000200ca00000004000100cb002a0000097e00040003000006c0014d1baa000006bb000000000000004500000125000001310000013d0000014900000155000001610000016d0000017900000185000001910000019d000001cb000001d9000001e7000001f50000020300000211000002580000027500000283000002a1000002bf000002e700000308000003320000037500000383000003910000039f000003ad000003bb000003c9000003d70000041e0000042c0000043a0000044800000456000004640000047200000480000004c3000004d1000004df000004ed000004fb00000509000005170000055a00000568000005760000058400000592000005a0000005ae000005f1000005ff0000060d0000061b0000062900000637000006450000065c00000663000006710000067f0000068d0000069b000006a9000006b7bb00cd5904b700cf4da7058dbb00cd5904b700cf4da70581bb00cd5904b700cf4da70575bb00cd5903b700cf4da70569bb00cd5904b700cf4da7055dbb00cd5903b700cf4da70551bb00cd5904b700cf4da70545bb00cd5903b700cf4da70539bb00cd5904b700cf4da7052dbb00cd5903b700cf4da7052105bd00d2590312d453590412d653b800d82ab40041b600dec0007f12e2b9007e0200b900e40200b800ea4da704f32ab4002db600dec000f04da704e52ab4003fb600dec000d24da704d72ab40031b600dec000d24da704c92ab4003db600dec000d24da704bb2ab4004db600dec000d24da704ad2ab4003db600dec000d2c700102ab40031b600dec000d2a7002cbb00f2592ab4003db600dec000d2b800f4b700f712fab600fc2ab40031b600dec000d2b600fcb601004da70466130104b801062ab40053b600dec000d2b8010cb80112b601184da704492ab4004db600dec000d24da7043bbb00f25913011bb700f72ab4005fb6011dc000cdb6011eb601004da7041dbb00f259130121b700f72ab4005fb6011dc000cdb6011eb601004da703ff2ab60123bb00f2592ab4002fb600dec000d2b800f4b700f7130129b600fcb60100b6012b4da703d72ab4003fb600dec000d2c70009130131a7000d2ab4003fb600dec000d24da703b62ab4004fb600dec000d2c70009130131a700162ab4004fb600dec000d2130133130135b601374da7038c2ab40067b6011dc000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e402009a000704a7000403b800ea4da703492ab4002db600dec000f04da7033b2ab40031b600dec000d24da7032d2ab4003db600dec000d24da7031f2ab4004db600dec000d24da703112ab4003fb600dec000d24da703032ab4004fb600dec000d24da702f52ab40041b600dec0007f4da702e72ab40067b6011dc000cdb6013b04a0003105bd00d2590312d453590412d653b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da702a02ab4002db600dec000f04da702922ab40031b600dec000d24da702842ab4003db600dec000d24da702762ab4004db600dec000d24da702682ab4003fb600dec000d24da7025a2ab4004fb600dec000d24da7024c2ab40041b600dec0007f4da7023e2ab40067b6011dc000cdb6013b04a0002d04bd00d2590313014153b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da701fb2ab4002db600dec000f04da701ed2ab40031b600dec000d24da701df2ab4003db600dec000d24da701d12ab4004db600dec000d24da701c32ab4003fb600dec000d24da701b52ab40041b600dec0007f4da701a72ab40067b6011dc000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da701642ab4002db600dec000f04da701562ab40031b600dec000d24da701482ab4003db600dec000d24da7013a2ab4004db600dec000d24da7012c2ab4003fb600dec000d24da7011e2ab40041b600dec0007f4da701102ab40067b6011dc000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da700cd2ab4002db600dec000f04da700bf2ab40031b600dec000d24da700b12ab4003db600dec000d24da700a32ab4004db600dec000d24da700952ab4003fb600dec000d24da700872ab40041b600dec0007f4da700792ab4004db600dec000d2130143b60145b800ea4da700621301484da7005b2ab4002db600dec000f04da7004d2ab4003fb600dec000d24da7003f2ab40031b600dec000d24da700312ab4003db600dec000d24da700232ab4004db600dec000d24da700152ab4004fb600dec000d24da7000713014a4d2cb000000002006f0000023a008e0000008e00020090012800940131009501340099013d009a0140009e0149009f014c00a3015500a4015800a8016100a9016400ad016d00ae017000b2017900b3017c00b7018500b8018800bc019100bd019400c1019d00c201a000c601cb00c701ce00cb01d900cc01dc00d001e700d101ea00d501f500d601f800da020300db020600df021100e0021400e4025800e5025b00e9027500ea027800ee028300ef028600f302a100f402a400f802bf00f902c200fd02e700fe02ea010203080103030b0107033201080335010c0375010d037801110383011203860116039101170394011b039f011c03a2012003ad012103b0012503bb012603be012a03c9012b03cc012f03d7013003da0134041e013504210139042c013a042f013e043a013f043d014304480144044b0148045601490459014d0464014e046701520472015304750157048001580483015c04c3015d04c6016104d1016204d4016604df016704e2016b04ed016c04f0017004fb017104fe017505090176050c017a0517017b051a017f055a0180055d018405680185056b01890576018a0579018e0584018f05870193059201940595019805a0019905a3019d05ae019e05b101a205f101a305f401a705ff01a8060201ac060d01ad061001b1061b01b2061e01b6062901b7062c01bb063701bc063a01c0064501c1064801c5065c01c6065f01ca066301cb066601cf067101d0067401d4067f01d5068201d9068d01da069001de069b01df069e01e306a901e406ac01e806b701e906ba01ed06be01f5014c0000006c0057fc01280701240b0b0b0b0b0b0b0b0b0b2d0d0d0d0d0d1968070124031c0d1d1d271249070124031252070124033a4001060d0d0d0d0d0d0d3e4001060d0d0d0d0d0d0d3a4001060d0d0d0d0d0d3a4001060d0d0d0d0d0d3a4001060d0d0d0d0d0d16060d0d0d0d0d0d030001014d00c9000200ca00000004000100cb002a0000097e00040003000006c0014d1baa000006bb000000000000004500000125000001310000013d0000014900000155000001610000016d0000017900000185000001910000019d000001cb000001d9000001e7000001f50000020300000211000002580000027500000283000002a1000002bf000002e700000308000003320000037500000383000003910000039f000003ad000003bb000003c9000003d70000041e0000042c0000043a0000044800000456000004640000047200000480000004c3000004d1000004df000004ed000004fb00000509000005170000055a00000568000005760000058400000592000005a0000005ae000005f1000005ff0000060d0000061b0000062900000637000006450000065c00000663000006710000067f0000068d0000069b000006a9000006b7bb00cd5904b700cf4da7058dbb00cd5904b700cf4da70581bb00cd5904b700cf4da70575bb00cd5903b700cf4da70569bb00cd5904b700cf4da7055dbb00cd5903b700cf4da70551bb00cd5904b700cf4da70545bb00cd5903b700cf4da70539bb00cd5904b700cf4da7052dbb00cd5903b700cf4da7052105bd00d2590312d453590412d653b800d82ab40041b600dec0007f12e2b9007e0200b900e40200b800ea4da704f32ab4002db600dec000f04da704e52ab4003fb600dec000d24da704d72ab40031b600dec000d24da704c92ab4003db600dec000d24da704bb2ab4004db600dec000d24da704ad2ab4003db600dec000d2c700102ab40031b600dec000d2a7002cbb00f2592ab4003db600dec000d2b800f4b700f712fab600fc2ab40031b600dec000d2b600fcb601004da70466130104b801062ab40053b600dec000d2b8010cb80112b601184da704492ab4004db600dec000d24da7043bbb00f25913011bb700f72ab4005fb6014ec000cdb6011eb601004da7041dbb00f259130121b700f72ab4005fb6014ec000cdb6011eb601004da703ff2ab60123bb00f2592ab4002fb600dec000d2b800f4b700f7130129b600fcb60100b6012b4da703d72ab4003fb600dec000d2c70009130131a7000d2ab4003fb600dec000d24da703b62ab4004fb600dec000d2c70009130131a700162ab4004fb600dec000d2130133130135b601374da7038c2ab40067b6014ec000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e402009a000704a7000403b800ea4da703492ab4002db600dec000f04da7033b2ab40031b600dec000d24da7032d2ab4003db600dec000d24da7031f2ab4004db600dec000d24da703112ab4003fb600dec000d24da703032ab4004fb600dec000d24da702f52ab40041b600dec0007f4da702e72ab40067b6014ec000cdb6013b04a0003105bd00d2590312d453590412d653b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da702a02ab4002db600dec000f04da702922ab40031b600dec000d24da702842ab4003db600dec000d24da702762ab4004db600dec000d24da702682ab4003fb600dec000d24da7025a2ab4004fb600dec000d24da7024c2ab40041b600dec0007f4da7023e2ab40067b6014ec000cdb6013b04a0002d04bd00d2590313014153b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da701fb2ab4002db600dec000f04da701ed2ab40031b600dec000d24da701df2ab4003db600dec000d24da701d12ab4004db600dec000d24da701c32ab4003fb600dec000d24da701b52ab40041b600dec0007f4da701a72ab40067b6014ec000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da701642ab4002db600dec000f04da701562ab40031b600dec000d24da701482ab4003db600dec000d24da7013a2ab4004db600dec000d24da7012c2ab4003fb600dec000d24da7011e2ab40041b600dec0007f4da701102ab40067b6014ec000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da700cd2ab4002db600dec000f04da700bf2ab40031b600dec000d24da700b12ab4003db600dec000d24da700a32ab4004db600dec000d24da700952ab4003fb600dec000d24da700872ab40041b600dec0007f4da700792ab4004db600dec000d2130143b60145b800ea4da700621301484da7005b2ab4002db600dec000f04da7004d2ab4003fb600dec000d24da7003f2ab40031b600dec000d24da700312ab4003db600dec000d24da700232ab4004db600dec000d24da700152ab4004fb600dec000d24da7000713014a4d2cb000000002006f0000023a008e000001fe00020200012802040131020501340209013d020a0140020e0149020f014c02130155021401580218016102190164021d016d021e0170022201790223017c0227018502280188022c0191022d01940231019d023201a0023601cb023701ce023b01d9023c01dc024001e7024101ea024501f5024601f8024a0203024b0206024f021102500214025402580255025b02590275025a0278025e0283025f0286026302a1026402a4026802bf026902c2026d02e7026e02ea027203080273030b0277033202780335027c0375027d037802810383028203860286039102870394028b039f028c03a2029003ad029103b0029503bb029603be029a03c9029b03cc029f03d702a003da02a4041e02a5042102a9042c02aa042f02ae043a02af043d02b3044802b4044b02b8045602b9045902bd046402be046702c2047202c3047502c7048002c8048302cc04c302cd04c602d104d102d204d402d604df02d704e202db04ed02dc04f002e004fb02e104fe02e5050902e6050c02ea051702eb051a02ef055a02f0055d02f4056802f5056b02f9057602fa057902fe058402ff05870303059203040595030805a0030905a3030d05ae030e05b1031205f1031305f4031705ff03180602031c060d031d06100321061b0322061e032606290327062c032b0637032c063a03300645033106480335065c0336065f033a0663033b0666033f0671034006740344067f034506820349068d034a0690034e069b034f069e035306a9035406ac035806b7035906ba035d06be0365014c0000006c0057fc01280701240b0b0b0b0b0b0b0b0b0b2d0d0d0d0d0d1968070124031c0d1d1d271249070124031252070124033a4001060d0d0d0d0d0d0d3e4001060d0d0d0d0d0d0d3a4001060d0d0d0d0d0d3a4001060d0d0d0d0d0d3a4001060d0d0d0d0d0d16060d0d0d0d0d0d030001015100c9000200ca00000004000100cb002a0000097e00040003000006c0014d1baa000006bb000000000000004500000125000001310000013d0000014900000155000001610000016d0000017900000185000001910000019d000001cb000001d9000001e7000001f50000020300000211000002580000027500000283000002a1000002bf000002e700000308000003320000037500000383000003910000039f000003ad000003bb000003c9000003d70000041e0000042c0000043a0000044800000456000004640000047200000480000004c3000004d1000004df000004ed000004fb00000509000005170000055a00000568000005760000058400000592000005a0000005ae000005f1000005ff0000060d0000061b0000062900000637000006450000065c00000663000006710000067f0000068d0000069b000006a9000006b7bb00cd5904b700cf4da7058dbb00cd5904b700cf4da70581bb00cd5904b700cf4da70575bb00cd5903b700cf4da70569bb00cd5904b700cf4da7055dbb00cd5903b700cf4da70551bb00cd5904b700cf4da70545bb00cd5903b700cf4da70539bb00cd5904b700cf4da7052dbb00cd5903b700cf4da7052105bd00d2590312d453590412d653b800d82ab40041b600dec0007f12e2b9007e0200b900e40200b800ea4da704f32ab4002db600dec000f04da704e52ab4003fb600dec000d24da704d72ab40031b600dec000d24da704c92ab4003db600dec000d24da704bb2ab4004db600dec000d24da704ad2ab4003db600dec000d2c700102ab40031b600dec000d2a7002cbb00f2592ab4003db600dec000d2b800f4b700f712fab600fc2ab40031b600dec000d2b600fcb601004da70466130104b801062ab40053b600dec000d2b8010cb80112b601184da704492ab4004db600dec000d24da7043bbb00f25913011bb700f72ab4005fb60152c000cdb6011eb601004da7041dbb00f259130121b700f72ab4005fb60152c000cdb6011eb601004da703ff2ab60123bb00f2592ab4002fb600dec000d2b800f4b700f7130129b600fcb60100b6012b4da703d72ab4003fb600dec000d2c70009130131a7000d2ab4003fb600dec000d24da703b62ab4004fb600dec000d2c70009130131a700162ab4004fb600dec000d2130133130135b601374da7038c2ab40067b60152c000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e402009a000704a7000403b800ea4da703492ab4002db600dec000f04da7033b2ab40031b600dec000d24da7032d2ab4003db600dec000d24da7031f2ab4004db600dec000d24da703112ab4003fb600dec000d24da703032ab4004fb600dec000d24da702f52ab40041b600dec0007f4da702e72ab40067b60152c000cdb6013b04a0003105bd00d2590312d453590412d653b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da702a02ab4002db600dec000f04da702922ab40031b600dec000d24da702842ab4003db600dec000d24da702762ab4004db600dec000d24da702682ab4003fb600dec000d24da7025a2ab4004fb600dec000d24da7024c2ab40041b600dec0007f4da7023e2ab40067b60152c000cdb6013b04a0002d04bd00d2590313014153b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da701fb2ab4002db600dec000f04da701ed2ab40031b600dec000d24da701df2ab4003db600dec000d24da701d12ab4004db600dec000d24da701c32ab4003fb600dec000d24da701b52ab40041b600dec0007f4da701a72ab40067b60152c000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da701642ab4002db600dec000f04da701562ab40031b600dec000d24da701482ab4003db600dec000d24da7013a2ab4004db600dec000d24da7012c2ab4003fb600dec000d24da7011e2ab40041b600dec0007f4da701102ab40067b60152c000cdb6013b04a0002d04bd00d2590313013f53b800d82ab40041b600dec0007f12e2b9007e0200b900e4020099000704a7000403b800ea4da700cd2ab4002db600dec000f04da700bf2ab40031b600dec000d24da700b12ab4003db600dec000d24da700a32ab4004db600dec000d24da700952ab4003fb600dec000d24da700872ab40041b600dec0007f4da700792ab4004db600dec000d2130143b60145b800ea4da700621301484da7005b2ab4002db600dec000f04da7004d2ab4003fb600dec000d24da7003f2ab40031b600dec000d24da700312ab4003db600dec000d24da700232ab4004db600dec000d24da700152ab4004fb600dec000d24da7000713014a4d2cb000000002006f0000023a008e0000036e00020370012803740131037501340379013d037a0140037e0149037f014c03830155038401580388016103890164038d016d038e0170039201790393017c0397018503980188039c0191039d019403a1019d03a201a003a601cb03a701ce03ab01d903ac01dc03b001e703b101ea03b501f503b601f803ba020303bb020603bf021103c0021403c4025803c5025b03c9027503ca027803ce028303cf028603d302a103d402a403d802bf03d902c203dd02e703de02ea03e2030803e3030b03e7033203e8033503ec037503ed037803f1038303f2038603f6039103f7039403fb039f03fc03a2040003ad040103b0040503bb040603be040a03c9040b03cc040f03d7041003da0414041e041504210419042c041a042f041e043a041f043d042304480424044b0428045604290459042d0464042e046704320472043304750437048004380483043c04c3043d04c6044104d1044204d4044604df044704e2044b04ed044c04f0045004fb045104fe045505090456050c045a0517045b051a045f055a0460055d046405680465056b04690576046a0579046e0584046f05870473059204740595047805a0047905a3047d05ae047e05b1048205f1048305f4048705ff04880602048c060d048d06100491061b0492061e049606290497062c049b0637049c063a04a0064504a1064804a5065c04a6065f04aa066304ab066604af067104b0067404b4067f04b5068204b9068d04ba069004be069b04bf069e04c306a904c406ac04c806b704c906ba04cd06be04d5014c0000006c0057fc01280701240b0b0b0b0b0b0b0b0b0b2d0d0d0d0d0d1968070124031c0d1d1d271249070124031252070124033a4001060d0d0d0d0d0d0d3e4001060d0d0d0d0d0d0d3a4001060d0d0d0d0d0d3a4001060d0d0d0d0d0d3a4001060d0d0d0d0d0d16060d0d0d0d0d0d03000101550000000200027400145f313739323430373034333730355f37383235357400326e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a524a61766163436f6d70696c6572'
+WHERE id = '3ac08504-08e1-4b31-8929-f4bfb9112f69';
+
+UPDATE reports.jasper_templates
+SET data = '\xaced0005737200286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727400000000000027d80200034c000b636f6d70696c65446174617400164c6a6176612f696f2f53657269616c697a61626c653b4c0011636f6d70696c654e616d655375666669787400124c6a6176612f6c616e672f537472696e673b4c000d636f6d70696c6572436c61737371007e00027872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655265706f727400000000000027d802002b49001950534555444f5f53455249414c5f56455253494f4e5f55494449000c626f74746f6d4d617267696e49000b636f6c756d6e436f756e7449000d636f6c756d6e53706163696e6749000b636f6c756d6e57696474685a001069676e6f7265506167696e6174696f6e5a00136973466c6f6174436f6c756d6e466f6f7465725a0010697353756d6d6172794e6577506167655a0020697353756d6d6172795769746850616765486561646572416e64466f6f7465725a000e69735469746c654e65775061676549000a6c6566744d617267696e42000b6f7269656e746174696f6e49000a7061676548656967687449000970616765576964746842000a7072696e744f7264657249000b72696768744d617267696e490009746f704d617267696e42000e7768656e4e6f44617461547970654c000a6261636b67726f756e647400244c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b4c000f636f6c756d6e446972656374696f6e7400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f52756e446972656374696f6e456e756d3b4c000c636f6c756d6e466f6f74657271007e00044c000c636f6c756d6e48656164657271007e00045b000864617461736574737400285b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c000c64656661756c745374796c657400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000664657461696c71007e00044c000d64657461696c53656374696f6e7400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5253656374696f6e3b4c0012666f726d6174466163746f7279436c61737371007e00024c000a696d706f72747353657474000f4c6a6176612f7574696c2f5365743b4c00086c616e677561676571007e00024c000e6c61737450616765466f6f74657271007e00044c000b6d61696e446174617365747400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c00046e616d6571007e00024c00066e6f4461746171007e00044c00106f7269656e746174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f7269656e746174696f6e456e756d3b4c000a70616765466f6f74657271007e00044c000a7061676548656164657271007e00044c000f7072696e744f7264657256616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5072696e744f72646572456e756d3b4c000b73656374696f6e547970657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53656374696f6e54797065456e756d3b5b00067374796c65737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000773756d6d61727971007e00045b000974656d706c6174657374002f5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525265706f727454656d706c6174653b4c00057469746c6571007e00044c00137768656e4e6f446174615479706556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e4e6f4461746154797065456e756d3b78700000ea620000001400000001000000000000032200000000000000001400000002530000034a000000001400000014007372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736542616e6400000000000027d802000849001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a000e697353706c6974416c6c6f7765644c00137072696e745768656e45787072657373696f6e74002a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e3b4c000d70726f706572746965734d617074002d4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572746965734d61703b4c000c72657475726e56616c7565737400104c6a6176612f7574696c2f4c6973743b4c000973706c6974547970657400104c6a6176612f6c616e672f427974653b4c000e73706c69745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53706c697454797065456e756d3b787200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7447726f757000000000000027d80200024c00086368696c6472656e71007e00154c000c656c656d656e7447726f757074002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52456c656d656e7447726f75703b7870737200136a6176612e7574696c2e41727261794c6973747881d21d99c7619d03000149000473697a6578700000000077040000000078700000ea620000000001707070707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53706c697454797065456e756d00000000000000001200007872000e6a6176612e6c616e672e456e756d00000000000000001200007870740007535452455443487e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e52756e446972656374696f6e456e756d00000000000000001200007871007e001e7400034c5452707371007e00127371007e001b00000005770400000005737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374617469635465787400000000000027d80200014c00047465787471007e0002787200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736554657874456c656d656e7400000000000027d802001949001950534555444f5f53455249414c5f56455253494f4e5f5549444c0008666f6e744e616d6571007e00024c0008666f6e7453697a657400134c6a6176612f6c616e672f496e74656765723b4c0008666f6e7473697a657400114c6a6176612f6c616e672f466c6f61743b4c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c75657400364c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e74003a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c54657874416c69676e456e756d3b4c00066973426f6c647400134c6a6176612f6c616e672f426f6f6c65616e3b4c000869734974616c696371007e002c4c000d6973506466456d62656464656471007e002c4c000f6973537472696b655468726f75676871007e002c4c000c69735374796c65645465787471007e002c4c000b6973556e6465726c696e6571007e002c4c00076c696e65426f787400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524c696e65426f783b4c000b6c696e6553706163696e6771007e00164c00106c696e6553706163696e6756616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e6553706163696e67456e756d3b4c00066d61726b757071007e00024c00097061726167726170687400294c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525061726167726170683b4c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c0008726f746174696f6e71007e00164c000d726f746174696f6e56616c756574002f4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526f746174696f6e456e756d3b4c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c416c69676e456e756d3b4c0011766572746963616c54657874416c69676e7400384c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c54657874416c69676e456e756d3b7872002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7400000000000027d802001b49001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a001769735072696e74496e466972737457686f6c6542616e645a001569735072696e74526570656174656456616c7565735a001a69735072696e745768656e44657461696c4f766572666c6f77735a0015697352656d6f76654c696e655768656e426c616e6b42000c706f736974696f6e5479706542000b7374726574636854797065490005776964746849000178490001794c00096261636b636f6c6f727400104c6a6176612f6177742f436f6c6f723b4c001464656661756c745374796c6550726f76696465727400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5244656661756c745374796c6550726f76696465723b4c000c656c656d656e7447726f757071007e00194c0009666f7265636f6c6f7271007e00344c00036b657971007e00024c00046d6f646571007e00164c00096d6f646556616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4d6f6465456e756d3b4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c0011706f736974696f6e5479706556616c75657400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506f736974696f6e54797065456e756d3b4c00137072696e745768656e45787072657373696f6e71007e00134c00157072696e745768656e47726f75704368616e6765737400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572747945787072657373696f6e3b4c0010737472657463685479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5374726574636854797065456e756d3b4c0004757569647400104c6a6176612f7574696c2f555549443b78700000ea620000001e0001000000000000002800000000000000007372000e6a6176612e6177742e436f6c6f7201a51783108f337502000546000666616c70686149000576616c75654c0002637374001b4c6a6176612f6177742f636f6c6f722f436f6c6f7253706163653b5b00096672676276616c75657400025b465b00066676616c756571007e003f787000000000ff3d929770707071007e001171007e00247070707e7200296e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4d6f6465456e756d00000000000000001200007871007e001e7400064f504151554570707e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e506f736974696f6e54797065456e756d00000000000000001200007871007e001e7400134649585f52454c41544956455f544f5f544f50707070707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5374726574636854797065456e756d00000000000000001200007871007e001e74000a4e4f5f535452455443487372000e6a6176612e7574696c2e55554944bc9903f7986d852f0200024a000c6c65617374536967426974734a000b6d6f737453696742697473787094efc9f465914ad57972837a4e144bc00000ea6270707372000f6a6176612e6c616e672e466c6f6174daedc9a2db3cf0ec02000146000576616c7565787200106a6176612e6c616e672e4e756d62657286ac951d0b94e08b0200007870414000007070707070707070707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654c696e65426f7800000000000027d802000b4c000d626f74746f6d50616464696e6771007e00284c0009626f74746f6d50656e74002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f626173652f4a52426f7850656e3b4c000c626f78436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52426f78436f6e7461696e65723b4c000b6c65667450616464696e6771007e00284c00076c65667450656e71007e00504c000770616464696e6771007e00284c000370656e71007e00504c000c726967687450616464696e6771007e00284c0008726967687450656e71007e00504c000a746f7050616464696e6771007e00284c0006746f7050656e71007e0050787070737200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78426f74746f6d50656e00000000000027d80200007872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f7850656e00000000000027d80200014c00076c696e65426f7871007e002d7872002a6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550656e00000000000027d802000649001950534555444f5f53455249414c5f56455253494f4e5f5549444c00096c696e65436f6c6f7271007e00344c00096c696e655374796c6571007e00164c000e6c696e655374796c6556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e655374796c65456e756d3b4c00096c696e65576964746871007e00294c000c70656e436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e436f6e7461696e65723b78700000ea627070707071007e005271007e005271007e003c70737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f784c65667450656e00000000000027d80200007871007e00540000ea627070707071007e005271007e0052707371007e00540000ea627070707071007e005271007e005270737200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78526967687450656e00000000000027d80200007871007e00540000ea627070707071007e005271007e005270737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78546f7050656e00000000000027d80200007871007e00540000ea627070707071007e005271007e0052707070737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550617261677261706800000000000027d802000a4c000f66697273744c696e65496e64656e7471007e00284c000a6c656674496e64656e7471007e00284c000b6c696e6553706163696e6771007e002e4c000f6c696e6553706163696e6753697a6571007e00294c0012706172616772617068436f6e7461696e65727400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616772617068436f6e7461696e65723b4c000b7269676874496e64656e7471007e00284c000c73706163696e67416674657271007e00284c000d73706163696e674265666f726571007e00284c000c74616253746f70576964746871007e00284c000874616253746f707371007e001578707070707071007e003c7070707070707070707070707400054c696e65237371007e00260000ea620000001e0001000000000000005a00000028000000007371007e003d00000000ff3d929770707071007e001171007e002470707071007e0042707071007e00457070707071007e00487371007e004a99aff111c9e49196f1296dcd3a5941100000ea6270707371007e004c414000007070707070707070707371007e004f707371007e00530000ea627070707071007e006871007e006871007e0064707371007e00590000ea627070707071007e006871007e0068707371007e00540000ea627070707071007e006871007e0068707371007e005c0000ea627070707071007e006871007e0068707371007e005e0000ea627070707071007e006871007e00687070707371007e00607070707071007e006470707070707070707070707074000d466163696c69747920436f64657371007e00260000ea620000001e000100000000000000aa00000082000000007371007e003d00000000ff3d929770707071007e001171007e002470707071007e0042707071007e00457070707071007e00487371007e004ab5325386fbf3bbc4fcca10b02b2646d10000ea6270707371007e004c414000007070707070707070707371007e004f707371007e00530000ea627070707071007e007471007e007471007e0070707371007e00590000ea627070707071007e007471007e0074707371007e00540000ea627070707071007e007471007e0074707371007e005c0000ea627070707071007e007471007e0074707371007e005e0000ea627070707071007e007471007e00747070707371007e00607070707071007e0070707070707070707070707070740008466163696c6974797371007e00260000ea620000001e000100000000000000af0000012c000000007371007e003d00000000ff3d929770707071007e001171007e002470707071007e0042707071007e00457070707071007e00487371007e004a8a0d13db58237726646a24feb77042910000ea6270707371007e004c414000007070707070707070707371007e004f707371007e00530000ea627070707071007e008071007e008071007e007c707371007e00590000ea627070707071007e008071007e0080707371007e00540000ea627070707071007e008071007e0080707371007e005c0000ea627070707071007e008071007e0080707371007e005e0000ea627070707071007e008071007e00807070707371007e00607070707071007e007c70707070707070707070707074000d466163696c69747920747970657371007e00260000ea620000001e00010000000000000145000001db000000007371007e003d00000000ff3d929770707071007e001171007e002470707071007e0042707071007e00457070707071007e00487371007e004ab56c452be828d4db8e7db4f0de174a0a0000ea6270707371007e004c414000007070707070707070707371007e004f707371007e00530000ea627070707071007e008c71007e008c71007e0088707371007e00590000ea627070707071007e008c71007e008c707371007e00540000ea627070707071007e008c71007e008c707371007e005c0000ea627070707071007e008c71007e008c707371007e005e0000ea627070707071007e008c71007e008c7070707371007e00607070707071007e00887070707070707070707070707400084c6f636174696f6e78700000ea620000001e0170707070707070707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736553656374696f6e00000000000027d80200025b000562616e64737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b5b000570617274737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172743b7870757200255b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5242616e643b95dd7eec8cca85350200007870000000017371007e00127371007e001b00000005770400000005737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365546578744669656c6400000000000027d802001549001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a0015697353747265746368576974684f766572666c6f774c0014616e63686f724e616d6545787072657373696f6e71007e00134c000f6576616c756174696f6e47726f757071007e00384c00136576616c756174696f6e54696d6556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4576616c756174696f6e54696d65456e756d3b4c000a65787072657373696f6e71007e00134c001968797065726c696e6b416e63686f7245787072657373696f6e71007e00134c001768797065726c696e6b5061676545787072657373696f6e71007e00135b001368797065726c696e6b506172616d65746572737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5248797065726c696e6b506172616d657465723b4c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e00134c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e00134c001768797065726c696e6b5768656e45787072657373696f6e71007e00134c000f6973426c616e6b5768656e4e756c6c71007e002c4c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00077061747465726e71007e00024c00117061747465726e45787072657373696f6e71007e00137871007e00270000ea6200000019000100000000000000aa00000082000000007071007e001171007e009a70707071007e00427372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374796c65000000000000271102002f49001950534555444f5f53455249414c5f56455253494f4e5f5549445a0009697344656661756c744c00096261636b636f6c6f7271007e00345b0011636f6e646974696f6e616c5374796c65737400315b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52436f6e646974696f6e616c5374796c653b4c001464656661756c745374796c6550726f766964657271007e00354c000466696c6c71007e00164c000966696c6c56616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f46696c6c456e756d3b4c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e00284c0008666f6e7473697a6571007e00294c0009666f7265636f6c6f7271007e00344c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e002a4c0014686f72697a6f6e74616c496d616765416c69676e74003b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c496d616765416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e71007e002b4c000f6973426c616e6b5768656e4e756c6c71007e002c4c00066973426f6c6471007e002c4c000869734974616c696371007e002c4c000d6973506466456d62656464656471007e002c4c000f6973537472696b655468726f75676871007e002c4c000c69735374796c65645465787471007e002c4c000b6973556e6465726c696e6571007e002c4c00076c696e65426f7871007e002d4c00076c696e6550656e7400234c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e3b4c000b6c696e6553706163696e6771007e00164c00106c696e6553706163696e6756616c756571007e002e4c00066d61726b757071007e00024c00046d6f646571007e00164c00096d6f646556616c756571007e00364c00046e616d6571007e00024c000970617261677261706871007e002f4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c00077061747465726e71007e00024c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c000c706f736974696f6e5479706571007e00164c000672616469757371007e00284c0008726f746174696f6e71007e00164c000d726f746174696f6e56616c756571007e00304c000a7363616c65496d61676571007e00164c000f7363616c65496d61676556616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5363616c65496d616765456e756d3b4c000b737472657463685479706571007e00164c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c756571007e00314c0012766572746963616c496d616765416c69676e7400394c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c496d616765416c69676e456e756d3b4c0011766572746963616c54657874416c69676e71007e003278700000ea620070757200315b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52436f6e646974696f6e616c5374796c653b4e5a3cf37ff13552020000787000000001737200376e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365436f6e646974696f6e616c5374796c6500000000000027d80200014c0013636f6e646974696f6e45787072657373696f6e71007e00137871007e00a00000ea62007371007e003d00000000fff3f3f3707070707070707070707070707070707070707070707371007e004f707371007e00530000ea627070707071007e00ad71007e00ad71007e00ab707371007e00590000ea627070707071007e00ad71007e00ad707371007e00540000ea627070707071007e00ad71007e00ad707371007e005c0000ea627070707071007e00ad71007e00ad707371007e005e0000ea627070707071007e00ad71007e00ad7371007e00550000ea627070707071007e00ab7070707070707371007e00607070707071007e00ab707070707071007e00a7707070707070707070707070707070737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e00000000000027d802000549000269645b00066368756e6b737400305b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e4368756e6b3b4c0004747970657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f45787072657373696f6e54797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e000278700000000f757200305b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5245787072657373696f6e4368756e6b3b6d59cfde694ba355020000787000000002737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e4368756e6b00000000000027d8020002420004747970654c00047465787471007e000278700474000c5245504f52545f434f554e547371007e00bb0174000920252032203d3d203070707071007e001170707070707070707070707070707070707371007e004f707371007e00530000ea627070707071007e00c071007e00c071007e00a7707371007e00590000ea627070707071007e00c071007e00c0707371007e00540000ea627070707071007e00c071007e00c0707371007e005c0000ea627070707071007e00c071007e00c0707371007e005e0000ea627070707071007e00c071007e00c07371007e00550000ea627070707071007e00a7707070707e71007e004174000b5452414e53504152454e54740003526f777371007e00607070707071007e00a77070707070707070707070707070707070707070707071007e004570707372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5250726f706572746965734d617000000000000027d80200034c00046261736571007e00144c000e70726f706572746965734c69737471007e00154c000d70726f706572746965734d617074000f4c6a6176612f7574696c2f4d61703b7870707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687478737200116a6176612e7574696c2e486173684d61700507dac1c31660d103000246000a6c6f6164466163746f724900097468726573686f6c6478703f400000000000037708000000040000000171007e00cf740005706978656c787071007e00487371007e004abf983b9039cd4d0131100a3897d8400d0000ea6270707371007e004c4140000070707e7200386e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e486f72697a6f6e74616c54657874416c69676e456e756d00000000000000001200007871007e001e7400044c4546547070707070707371007e004f737200116a6176612e6c616e672e496e746567657212e2a0a4f781873802000149000576616c75657871007e004d000000017371007e00530000ea627371007e003d00000000ff3d9297707070707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4c696e655374796c65456e756d00000000000000001200007871007e001e740005534f4c49447371007e004c3f80000071007e00d871007e00d871007e009f707371007e00590000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e00d871007e00d8707371007e00540000ea627371007e003d00000000ff3d929770707070707071007e00d871007e00d8707371007e005c0000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e00d871007e00d8707371007e005e0000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e00d871007e00d87070707371007e00607070707071007e009f70707070707070707070707e7200366e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e566572746963616c54657874416c69676e456e756d00000000000000001200007871007e001e7400064d4944444c450000ea62000000000000000070707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4576616c756174696f6e54696d65456e756d00000000000000001200007871007e001e7400034e4f577371007e00b5000000107571007e00b9000000017371007e00bb03740008666163696c69747970707070707070707070707070707371007e009c0000ea6200000019000100000000000000af0000012c000000007071007e001171007e009a70707071007e004271007e00a77071007e004570707371007e00cb707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00d03f400000000000037708000000040000000171007e00fa740005706978656c787071007e00487371007e004a927b3d352faaed855e3e13b23de146130000ea6270707371007e004c41400000707071007e00d67070707070707371007e004f71007e00da7371007e00530000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e00ff71007e00ff71007e00f7707371007e00590000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e00ff71007e00ff707371007e00540000ea627371007e003d00000000ff3d929770707070707071007e00ff71007e00ff707371007e005c0000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e00ff71007e00ff707371007e005e0000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e00ff71007e00ff7070707371007e00607070707071007e00f7707070707070707070707071007e00ee0000ea620000000000000000707071007e00f17371007e00b5000000117571007e00b9000000017371007e00bb037400047479706570707070707070707070707070707371007e009c0000ea62000000190001000000000000002800000000000000007071007e001171007e009a70707071007e004271007e00a77071007e00457070707071007e00487371007e004aabf382481d555ab928c1bf9c6c1345510000ea6270707371007e004c41400000707071007e00d67070707070707371007e004f71007e00da7371007e00530000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e011671007e011671007e0113707371007e00590000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e011671007e0116707371007e00540000ea627371007e003d00000000ff3d929770707070707071007e011671007e0116707371007e005c0000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e011671007e0116707371007e005e0000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e011671007e01167070707371007e00607070707071007e0113707070707070707070707071007e00ee0000ea620000000000000000707071007e00f17371007e00b5000000127571007e00b9000000017371007e00bb0474000c5245504f52545f434f554e5470707070707070707070707070707371007e009c0000ea62000000190001000000000000005a00000028000000007071007e001171007e009a70707071007e004271007e00a77071007e004570707371007e00cb707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00d03f400000000000037708000000040000000171007e012d740005706978656c787071007e00487371007e004ab44b039716390a2f5c934beb6a56414f0000ea6270707371007e004c41400000707071007e00d67070707070707371007e004f71007e00da7371007e00530000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e013271007e013271007e012a707371007e00590000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e013271007e0132707371007e00540000ea627371007e003d00000000ff3d929770707070707071007e013271007e0132707371007e005c0000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e013271007e0132707371007e005e0000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e013271007e01327070707371007e00607070707071007e012a707070707070707070707071007e00ee0000ea620000000000000000707071007e00f17371007e00b5000000137571007e00b9000000017371007e00bb03740004636f646570707070707070707070707070707371007e009c0000ea620000001900010000000000000145000001db000000007071007e001171007e009a70707071007e004271007e00a77071007e004570707371007e00cb707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00d03f400000000000037708000000040000000171007e0149740005706978656c787071007e00487371007e004ab9aa0149b25d9968325890b1a7bb4c2b0000ea6270707371007e004c41400000707071007e00d67070707070707371007e004f71007e00da7371007e00530000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e014e71007e014e71007e0146707371007e00590000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e014e71007e014e707371007e00540000ea627371007e003d00000000ff3d929770707070707071007e014e71007e014e707371007e005c0000ea627371007e003d00000000ff0000007070707071007e00de7371007e004c0000000071007e014e71007e014e707371007e005e0000ea627371007e003d00000000ff3d92977070707071007e00de7371007e004c3f80000071007e014e71007e014e7070707371007e00607070707071007e0146707070707070707070707071007e00ee0000ea620000000000000000707071007e00f17371007e00b5000000147571007e00b9000000017371007e00bb037400047a6f6e65707070707070707070707070707078700000ea620000001901707371007e00cb707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00d03f400000000000037708000000040000000171007e0164740005706978656c7870707e71007e001d740009494d4d4544494154457070707400046a617661707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654461746173657400000000000027d802001249001950534555444f5f53455249414c5f56455253494f4e5f5549445a000669734d61696e4200177768656e5265736f757263654d697373696e67547970655b00066669656c64737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524669656c643b4c001066696c74657245787072657373696f6e71007e00135b000667726f7570737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c00046e616d6571007e00025b000a706172616d657465727374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616d657465723b4c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e737400385b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4461746173657450726f706572747945787072657373696f6e3b4c000571756572797400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572793b4c000e7265736f7572636542756e646c6571007e00024c000e7363726970746c6574436c61737371007e00025b000a7363726970746c65747374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525363726970746c65743b5b000a736f72744669656c647374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52536f72744669656c643b4c00047575696471007e003b5b00097661726961626c65737400295b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525661726961626c653b4c001c7768656e5265736f757263654d697373696e675479706556616c756574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e5265736f757263654d697373696e6754797065456e756d3b78700000ea620100757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a524669656c643b023cdfc74e2af2700200007870000000057372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654669656c6400000000000027d80200064c000b6465736372697074696f6e71007e00024c00046e616d6571007e00024c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e7371007e00394c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e0002787070740006706572696f647371007e00cb707070707400106a6176612e6c616e672e537472696e67707371007e017770740004636f64657371007e00cb707070707400106a6176612e6c616e672e537472696e67707371007e017770740008666163696c6974797371007e00cb707070707400106a6176612e6c616e672e537472696e67707371007e017770740004747970657371007e00cb707070707400106a6176612e6c616e672e537472696e67707371007e0177707400047a6f6e657371007e00cb707070707400106a6176612e6c616e672e537472696e6770707074000a74696d656c696e6573737572002a5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52506172616d657465723b22000c8d2ac36021020000787000000017737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365506172616d6574657200000000000027d802000a5a000e6973466f7250726f6d7074696e675a000f697353797374656d446566696e65644c001664656661756c7456616c756545787072657373696f6e71007e00134c000b6465736372697074696f6e71007e00024c000e6576616c756174696f6e54696d6574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506172616d657465724576616c756174696f6e54696d65456e756d3b4c00046e616d6571007e00024c000e6e6573746564547970654e616d6571007e00024c000d70726f706572746965734d617071007e00144c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870010170707074000e5245504f52545f434f4e54455854707371007e00cb7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e5265706f7274436f6e74657874707371007e018f01017070707400155245504f52545f504152414d45544552535f4d4150707371007e00cb70707074000d6a6176612e7574696c2e4d6170707371007e018f01017070707400164a41535045525f5245504f5254535f434f4e54455854707371007e00cb7070707400306e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727473436f6e74657874707371007e018f010170707074000d4a41535045525f5245504f5254707371007e00cb7070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f7274707371007e018f01017070707400115245504f52545f434f4e4e454354494f4e707371007e00cb7070707400136a6176612e73716c2e436f6e6e656374696f6e707371007e018f01017070707400105245504f52545f4d41585f434f554e54707371007e00cb7070707400116a6176612e6c616e672e496e7465676572707371007e018f01017070707400125245504f52545f444154415f534f55524345707371007e00cb7070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5244617461536f75726365707371007e018f01017070707400105245504f52545f5343524950544c4554707371007e00cb70707074002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5241627374726163745363726970746c6574707371007e018f010170707074000d5245504f52545f4c4f43414c45707371007e00cb7070707400106a6176612e7574696c2e4c6f63616c65707371007e018f01017070707400165245504f52545f5245534f555243455f42554e444c45707371007e00cb7070707400186a6176612e7574696c2e5265736f7572636542756e646c65707371007e018f01017070707400105245504f52545f54494d455f5a4f4e45707371007e00cb7070707400126a6176612e7574696c2e54696d655a6f6e65707371007e018f01017070707400155245504f52545f464f524d41545f464143544f5259707371007e00cb70707074002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e7574696c2e466f726d6174466163746f7279707371007e018f01017070707400135245504f52545f434c4153535f4c4f41444552707371007e00cb7070707400156a6176612e6c616e672e436c6173734c6f61646572707371007e018f01017070707400105245504f52545f54454d504c41544553707371007e00cb7070707400146a6176612e7574696c2e436f6c6c656374696f6e707371007e018f010170707074000b534f52545f4649454c4453707371007e00cb70707074000e6a6176612e7574696c2e4c697374707371007e018f010170707074000646494c544552707371007e00cb7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4461746173657446696c746572707371007e018f01017070707400125245504f52545f5649525455414c495a4552707371007e00cb7070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525669727475616c697a6572707371007e018f010170707074001449535f49474e4f52455f504147494e4154494f4e707371007e00cb7070707400116a6176612e6c616e672e426f6f6c65616e707371007e018f01007070707400086469737472696374707371007e00cb707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00d03f400000000000067708000000080000000571007e01df7400046e616d6571007e01dd740008446973747269637471007e01e07400046e616d6571007e01e174000566616c736571007e01de7400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e018f010070707074000770726f6772616d707371007e00cb707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00d03f400000000000067708000000080000000571007e01ef7400046e616d6571007e01ed74000c50726f6772616d204e616d6571007e01f07400046e616d6571007e01f17400047472756571007e01ee7400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e018f0100707070740006706572696f64707371007e00cb707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00d03f400000000000067708000000080000000571007e01ff7400046e616d6571007e01fd74000b506572696f64204e616d6571007e02007400046e616d6571007e02017400047472756571007e01fe74001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e018f000070707074000f696d616765734469726563746f7279707371007e00cb7070707400106a6176612e6c616e672e537472696e67707371007e018f000070707074000874696d655a6f6e65707371007e00cb7070707400106a6176612e6c616e672e537472696e67707371007e00cb707371007e001b0000001e77040000001e74002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c74646174616164617074657274001b636f6d2e6a6173706572736f66742e73747564696f2e756e69742e740025636f6d2e6a6173706572736f66742e73747564696f2e756e69742e70616765486569676874740024636f6d2e6a6173706572736f66742e73747564696f2e756e69742e706167655769647468740024636f6d2e6a6173706572736f66742e73747564696f2e756e69742e746f704d617267696e740027636f6d2e6a6173706572736f66742e73747564696f2e756e69742e626f74746f6d4d617267696e740025636f6d2e6a6173706572736f66742e73747564696f2e756e69742e6c6566744d617267696e740026636f6d2e6a6173706572736f66742e73747564696f2e756e69742e72696768744d617267696e740026636f6d2e6a6173706572736f66742e73747564696f2e756e69742e636f6c756d6e5769647468740028636f6d2e6a6173706572736f66742e73747564696f2e756e69742e636f6c756d6e53706163696e6774000a7265706f72745479706574002c6e65742e73662e6a61737065727265706f7274732e6578706f72742e68746d6c2e656d6265642e696d6167657400296e65742e73662e6a61737065727265706f7274732e7072696e742e6b6565702e66756c6c2e746578747400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e77686974652e706167652e6261636b67726f756e647400326e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6f6e652e706167652e7065722e73686565747400326e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6f6e652e706167652e7065722e736865657474003f6e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e72656d6f76652e656d7074792e73706163652e6265747765656e2e726f77737400426e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e72656d6f76652e656d7074792e73706163652e6265747765656e2e636f6c756d6e7374003f6e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e72656d6f76652e656d7074792e73706163652e6265747765656e2e726f77737400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e317400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e327400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e347400406e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e317400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e327400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e347400406e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e33740025636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e7461626c6573787371007e00d03f400000000000307708000000400000001e71007e0219740005706978656c71007e022f74000c636f6c756d6e48656164657271007e0217740005706978656c71007e02257400047472756571007e021c740005706978656c71007e022674000a7061676548656164657271007e022774000a70616765466f6f74657271007e021e7400047472756571007e02287400057469746c6571007e021d74001154696d656c696e657373205265706f727471007e022d7400057469746c6571007e0215740005706978656c71007e022e74000773756d6d61727971007e022b74000a7061676548656164657271007e022c74000a70616765466f6f74657271007e022274000566616c736571007e021f7400047472756571007e022074000566616c736571007e022174000566616c736571007e021374000e6d616c6177692f6465762e786d6c71007e02237400047472756571007e023074000071007e0214740005706978656c71007e0216740005706978656c71007e021b740005706978656c71007e0218740005706978656c71007e022974000773756d6d61727971007e02247400047472756571007e022a74000c636f6c756d6e48656164657271007e021a740005706978656c78707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365517565727900000000000027d80200025b00066368756e6b7374002b5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572794368756e6b3b4c00086c616e677561676571007e000278707572002b5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5251756572794368756e6b3b409f00a1e8ba34a4020000787000000009737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736551756572794368756e6b00000000000027d8020004420004747970654c00047465787471007e00024c000e746f6b656e536570617261746f727400154c6a6176612f6c616e672f4368617261637465723b5b0006746f6b656e737400135b4c6a6176612f6c616e672f537472696e673b78700174013f574954482066696e644368696c645a6f6e657320415320280a202053454c454354207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e2a0a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320616e636573746f72204f4e20616e636573746f722e6964203d20636c6f737572652e616e636573746f7269640a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6964203d20636c6f737572652e64657363656e64616e7469640a2020574845524520616e636573746f722e6e616d65203d2070707371007e025502740008646973747269637470707371007e0255017401cb3a3a766172636861720a290a53454c4543540a20207265666572656e6365646174612e70726f63657373696e675f706572696f64732e6e616d6520415320706572696f642c0a20207265666572656e6365646174612e666163696c69746965732e636f646520415320636f64652c0a20207265666572656e6365646174612e666163696c69746965732e6e616d6520415320666163696c6974792c0a20207265666572656e6365646174612e666163696c6974795f74797065732e6e616d6520415320747970652c0a20207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6e616d65204153207a6f6e650a46524f4d207265666572656e6365646174612e666163696c69746965730a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e0a2020207265666572656e6365646174612e666163696c69746965732e67656f677261706869637a6f6e656964203d207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e69640a2020204a4f494e207265666572656e6365646174612e70726f6772616d732070726f6772616d204f4e0a20202070726f6772616d2e6e616d65203d2070707371007e02550274000770726f6772616d70707371007e02550174028b3a3a766172636861720a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f6d656d626572732072676d204f4e0a202020666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f757073207267204f4e0a2020202072676d2e7265717569736974696f6e67726f75706964203d2072672e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f70726f6772616d5f7363686564756c65732072677073204f4e0a20202020726770732e7265717569736974696f6e67726f75706964203d2072672e696420414e4420726770732e70726f6772616d6964203d2070726f6772616d2e69640a20204a4f494e207265666572656e6365646174612e737570706f727465645f70726f6772616d73207370204f4e0a2020202073702e70726f6772616d6964203d2070726f6772616d2e696420414e442073702e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a2020204c454654204a4f494e207265666572656e6365646174612e666163696c6974795f7479706573204f4e0a2020207265666572656e6365646174612e666163696c69746965732e747970656964203d207265666572656e6365646174612e666163696c6974795f74797065732e69640a20204c454654204a4f494e207265666572656e6365646174612e70726f63657373696e675f706572696f6473204f4e0a2020207265666572656e6365646174612e70726f63657373696e675f706572696f64732e6e616d65203d2070707371007e025502740006706572696f6470707371007e0255017401c23a3a766172636861720a20204c454654204a4f494e202853454c45435420666163696c69747969642c2070726f6772616d69642c2070726f63657373696e67706572696f6469642c207375626d6974746564646174652041532063726561746564646174650a20200946524f4d207265706f7274732e7265717569736974696f6e5f74696d656c696e6573735f666163747329207374617475735f6368616e67650a2020204f4e207374617475735f6368616e67652e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20202020414e44207374617475735f6368616e67652e70726f63657373696e67706572696f646964203d207265666572656e6365646174612e70726f63657373696e675f706572696f64732e69640a20202020414e44207374617475735f6368616e67652e70726f6772616d6964203d2070726f6772616d2e69640a57484552450a2020207265666572656e6365646174612e666163696c69746965732e616374697665203d20747275650a202020414e44207265666572656e6365646174612e666163696c69746965732e656e61626c6564203d20747275650a202020414e44202870707371007e025502740008646973747269637470707371007e0255017400c63a3a76617263686172204953204e554c4c204f52207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e696420494e202853454c4543542069642046524f4d2066696e644368696c645a6f6e657329290a202020414e44207374617475735f6368616e67652e6372656174656464617465204953204e554c4c0a202020414e442073702e616374697665203d20747275650a2020204f52444552204259207265666572656e6365646174612e666163696c69746965732e636f64653b707074000373716c707070707371007e004abd5c182e5275caa1341cf80173554499757200295b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525661726961626c653b62e6837c982cb7440200007870000000077372002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655661726961626c6500000000000027d802001149001950534555444f5f53455249414c5f56455253494f4e5f55494442000b63616c63756c6174696f6e42000d696e6372656d656e74547970655a000f697353797374656d446566696e65644200097265736574547970654c001063616c63756c6174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f43616c63756c6174696f6e456e756d3b4c000a65787072657373696f6e71007e00134c000e696e6372656d656e7447726f757071007e00384c0012696e6372656d656e745479706556616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f496e6372656d656e7454797065456e756d3b4c001b696e6372656d656e746572466163746f7279436c6173734e616d6571007e00024c001f696e6372656d656e746572466163746f7279436c6173735265616c4e616d6571007e00024c0016696e697469616c56616c756545787072657373696f6e71007e00134c00046e616d6571007e00024c000a726573657447726f757071007e00384c000e72657365745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526573657454797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870000077ee000001007e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e43616c63756c6174696f6e456e756d00000000000000001200007871007e001e74000653595354454d70707e7200326e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e496e6372656d656e7454797065456e756d00000000000000001200007871007e001e7400044e4f4e4570707371007e00b5000000007571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e746567657228312970707074000b504147455f4e554d424552707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e526573657454797065456e756d00000000000000001200007871007e001e7400065245504f525471007e01a8707371007e026e000077ee0000010071007e0274707071007e02777070707400134d41535445525f43555252454e545f504147457071007e027f71007e01a8707371007e026e000077ee0000010071007e0274707071007e02777070707400124d41535445525f544f54414c5f50414745537071007e027f71007e01a8707371007e026e000077ee0000010071007e0274707071007e027770707371007e00b5000000017571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e746567657228312970707074000d434f4c554d4e5f4e554d424552707e71007e027e7400045041474571007e01a8707371007e026e000077ee000001007e71007e0273740005434f554e547371007e00b5000000027571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e027770707371007e00b5000000037571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c5245504f52545f434f554e547071007e027f71007e01a8707371007e026e000077ee0000010071007e028e7371007e00b5000000047571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e027770707371007e00b5000000057571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e746567657228302970707074000a504147455f434f554e547071007e028b71007e01a8707371007e026e000077ee0000010071007e028e7371007e00b5000000067571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e027770707371007e00b5000000077571007e00b9000000017371007e00bb017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c434f4c554d4e5f434f554e54707e71007e027e740006434f4c554d4e71007e01a8707e72003c6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e5265736f757263654d697373696e6754797065456e756d00000000000000001200007871007e001e7400054552524f5271007e018c707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f7269656e746174696f6e456e756d00000000000000001200007871007e001e7400094c414e445343415045707371007e00127371007e001b0000000d77040000000d7371007e009c0000ea6200000014000100000000000000c800000000000000647071007e001171007e02b570707070707071007e00457070707071007e00487371007e004a8e7fb1e10f931071fd6aed733a9647f00000ea627070707070707070707070707371007e004f707371007e00530000ea627070707071007e02b971007e02b971007e02b7707371007e00590000ea627070707071007e02b971007e02b9707371007e00540000ea627070707071007e02b971007e02b9707371007e005c0000ea627070707071007e02b971007e02b9707371007e005e0000ea627070707071007e02b971007e02b97070707371007e00607070707071007e02b77070707070707070707070700000ea620000000000000000707071007e00f17371007e00b5000000087571007e00b9000000047371007e00bb01740001287371007e00bb0274000864697374726963747371007e00bb01740014203d3d206e756c6c29203f2022416c6c22203a207371007e00bb02740008646973747269637470707070707070707070707070707371007e00260000ea6200000014000100000000000000a000000280000000507071007e001171007e02b57071007e02477070707071007e004570707371007e00cb707371007e001b00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00d03f400000000000037708000000040000000171007e02cd740005706978656c787071007e00487371007e004ab92da4125eaf5ef1b3b7899bf6384fc70000ea6270707371007e004c41200000707071007e00d6737200116a6176612e6c616e672e426f6f6c65616ecd207280d59cfaee0200015a000576616c756578700170707070707371007e004f707371007e00530000ea627070707071007e02d471007e02d471007e02ca707371007e00590000ea627070707071007e02d471007e02d4707371007e00540000ea627070707071007e02d471007e02d4707371007e005c0000ea627070707071007e02d471007e02d4707371007e005e0000ea627070707071007e02d471007e02d470707400046e6f6e657371007e00607070707071007e02ca707070707070707070707071007e00ee7400105265706f72742052756e20446174653a7371007e009c0000ea6200000014000100000000000000dc000000c8000000647071007e001171007e02b570707070707071007e00457070707071007e00487371007e004a9e70de36953c315fff20b76bfd6b43be0000ea627070707070707070707070707371007e004f707371007e00530000ea627070707071007e02df71007e02df71007e02dd707371007e00590000ea627070707071007e02df71007e02df707371007e00540000ea627070707071007e02df71007e02df707371007e005c0000ea627070707071007e02df71007e02df707371007e005e0000ea627070707071007e02df71007e02df7070707371007e00607070707071007e02dd7070707070707070707070700000ea620000000000000000707071007e00f17371007e00b5000000097571007e00b9000000017371007e00bb0274000770726f6772616d70707070707070707070707070707371007e00260000ea6200000014000100000000000000dc000000c8000000507071007e001171007e02b570707070707071007e00457070707071007e00487371007e004ababae545cdae1d278a0a0c005ac1462c0000ea62707070707071007e00d671007e02d370707070707371007e004f707371007e00530000ea627070707071007e02ec71007e02ec71007e02ea707371007e00590000ea627070707071007e02ec71007e02ec707371007e00540000ea627070707071007e02ec71007e02ec707371007e005c0000ea627070707071007e02ec71007e02ec707371007e005e0000ea627070707071007e02ec71007e02ec7070707371007e00607070707071007e02ea707070707070707070707071007e00ee74000850726f6772616d3a7371007e009c0000ea6200000014000100000000000000a000000280000000647071007e001171007e02b57071007e02477070707071007e004570707371007e00cb707371007e001b00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00d03f400000000000037708000000040000000171007e02f7740005706978656c787071007e00487371007e004a8f2547360652b748fecb9e0fa7f540de0000ea62707070707071007e00d67070707070707371007e004f707371007e00530000ea627070707071007e02fb71007e02fb71007e02f4707371007e00590000ea627070707071007e02fb71007e02fb707371007e00540000ea627070707071007e02fb71007e02fb707371007e005c0000ea627070707071007e02fb71007e02fb707371007e005e0000ea627070707071007e02fb71007e02fb7070707371007e00607070707071007e02f47070707070707070707070700000ea620000000000000000707071007e00f17371007e00b50000000a7571007e00b9000000037371007e00bb017400746a6176612e74696d652e666f726d61742e4461746554696d65466f726d61747465722e6f665061747465726e282264202d204d4d4d202d20797922292e666f726d6174286a6176612e74696d652e5a6f6e65644461746554696d652e6e6f77286a6176612e74696d652e5a6f6e6549642e6f66287371007e00bb0274000874696d655a6f6e657371007e00bb017400042929293b70707070707070707070707070707371007e00260000ea6200000014000100000000000000c800000000000000507071007e001171007e02b570707070707071007e00457070707071007e00487371007e004aad450635a394548e333cf5f41696452a0000ea62707070707071007e00d671007e02d370707070707371007e004f707371007e00530000ea627070707071007e030c71007e030c71007e030a707371007e00590000ea627070707071007e030c71007e030c707371007e00540000ea627070707071007e030c71007e030c707371007e005c0000ea627070707071007e030c71007e030c707371007e005e0000ea627070707071007e030c71007e030c7070707371007e00607070707071007e030a707070707070707070707071007e00ee74000944697374726963743a7371007e00260000ea6200000014000100000000000000dc000001a4000000507071007e001171007e02b570707070707071007e00457070707071007e00487371007e004aa3edb033b8e78e4c8e225f678b0c46500000ea6270707371007e004c41200000707071007e00d671007e02d370707070707371007e004f707371007e00530000ea627070707071007e031771007e031771007e0314707371007e00590000ea627070707071007e031771007e0317707371007e00540000ea627070707071007e031771007e0317707371007e005c0000ea627070707071007e031771007e0317707371007e005e0000ea627070707071007e031771007e03177070707371007e00607070707071007e0314707070707070707070707071007e00ee7400115265706f7274696e6720506572696f643a7371007e009c0000ea620000001400010000000000000028000002f8000000007071007e001171007e02b570707070707071007e00457070707071007e00487371007e004aa6dddabf49c7a75e6276a84bd8004a940000ea62707070707071007e00d67070707070707371007e004f707371007e00530000ea627070707071007e032171007e032171007e031f707371007e00590000ea627070707071007e032171007e0321707371007e00540000ea627070707071007e032171007e0321707371007e005c0000ea627070707071007e032171007e0321707371007e005e0000ea627070707071007e032171007e03217070707371007e00607070707071007e031f7070707070707070707070700000ea62000000000000000070707e71007e00f07400065245504f52547371007e00b50000000b7571007e00b9000000027371007e00bb0174000922206f662022202b207371007e00bb0474000b504147455f4e554d42455270707070707070707070707070707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365496d61676500000000000027d802001e49001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a000669734c617a7942000b6f6e4572726f72547970654c0014616e63686f724e616d6545787072657373696f6e71007e00134c000f6576616c756174696f6e47726f757071007e00384c00136576616c756174696f6e54696d6556616c756571007e009d4c000a65787072657373696f6e71007e00134c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e002a4c0014686f72697a6f6e74616c496d616765416c69676e71007e00a34c001968797065726c696e6b416e63686f7245787072657373696f6e71007e00134c001768797065726c696e6b5061676545787072657373696f6e71007e00135b001368797065726c696e6b506172616d657465727371007e009e4c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e00134c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e00134c001768797065726c696e6b5768656e45787072657373696f6e71007e00134c000c69735573696e67436163686571007e002c4c00076c696e65426f7871007e002d4c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00106f6e4572726f725479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f6e4572726f7254797065456e756d3b4c000a7363616c65496d61676571007e00164c000f7363616c65496d61676556616c756571007e00a54c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c756571007e00314c0012766572746963616c496d616765416c69676e71007e00a6787200356e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736547726170686963456c656d656e7400000000000027d802000449001950534555444f5f53455249414c5f56455253494f4e5f5549444c000466696c6c71007e00164c000966696c6c56616c756571007e00a24c00076c696e6550656e71007e00a47871007e00330000ea62000000320001000000000000003200000000000000007071007e001171007e02b570707070707071007e00457070707071007e00487371007e004aa84be79f77b98980bb13cce24e0f432d000077ee70707371007e00550000ea627070707071007e03330000ea62000000000000000000707071007e00f17371007e00b50000000c7571007e00b9000000037371007e00bb0174001f676574436c61737328292e6765745265736f75726365417353747265616d287371007e00bb0274000f696d616765734469726563746f72797371007e00bb01740016202b20226d616c6177695f63726573742e706e672229707070707070707070707070707371007e004f707371007e00530000ea627070707071007e033e71007e033e71007e0333707371007e00590000ea627070707071007e033e71007e033e707371007e00540000ea627070707071007e033e71007e033e707371007e005c0000ea627070707071007e033e71007e033e707371007e005e0000ea627070707071007e033e71007e033e70707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f6e4572726f7254797065456e756d00000000000000001200007871007e001e7400054552524f5270707070707371007e00260000ea620000002700010000000000000118000000f0000000007071007e001171007e02b570707070707071007e004570707371007e00cb707371007e001b00000001770400000001740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468787371007e00d03f400000000000037708000000040000000171007e034a740005706978656c787071007e00487371007e004a867379a46347e6544a93f7da7f964a6d0000ea6270707371007e004c4190000070707e71007e00d574000643454e5445527070707070707371007e004f707371007e00530000ea627070707071007e035171007e035171007e0347707371007e00590000ea627070707071007e035171007e0351707371007e00540000ea627070707071007e035171007e0351707371007e005c0000ea627070707071007e035171007e0351707371007e005e0000ea627070707071007e035171007e03517070707371007e00607070707071007e0347707070707070707070707071007e00ee74001a4d696e6973747279206f66204865616c74682c204d616c6177697371007e009c0000ea6200000014000100000000000000dc000001a4000000647071007e001171007e02b570707070707071007e00457070707071007e00487371007e004ab37c48987f063b5518d2576af3a54ece0000ea627070707070707070707070707371007e004f707371007e00530000ea627070707071007e035b71007e035b71007e0359707371007e00590000ea627070707071007e035b71007e035b707371007e00540000ea627070707071007e035b71007e035b707371007e005c0000ea627070707071007e035b71007e035b707371007e005e0000ea627070707071007e035b71007e035b7070707371007e00607070707071007e03597070707070707070707070700000ea620000000000000000707071007e00f17371007e00b50000000d7571007e00b9000000027371007e00bb02740006706572696f647371007e00bb017400013b70707070707070707070707070707371007e009c0000ea620000001400010000000000000050000002a8000000007071007e001171007e02b570707070707071007e00457070707071007e00487371007e004a98ecf108cebc3565e99fbe7cfec345ff0000ea6270707070707e71007e00d574000552494748547070707070707371007e004f707371007e00530000ea627070707071007e036c71007e036c71007e0368707371007e00590000ea627070707071007e036c71007e036c707371007e00540000ea627070707071007e036c71007e036c707371007e005c0000ea627070707071007e036c71007e036c707371007e005e0000ea627070707071007e036c71007e036c7070707371007e00607070707071007e03687070707070707070707070700000ea620000000000000000707071007e00f17371007e00b50000000e7571007e00b9000000027371007e00bb0174000a22506167652022202b207371007e00bb0474000b504147455f4e554d42455270707070707070707070707070707371007e00260000ea620000001400010000000000000320000000000000003c7371007e003d00000000ff78787870707071007e001171007e02b57371007e003d00000000ffffffff707070707071007e0042707071007e00457070707071007e00487371007e004ab4a4033be59e8904855cca048ce84fba0000ea6270707371007e004c41700000707071007e034f71007e02d370707070707371007e004f707371007e00530000ea627070707071007e037e71007e037e71007e0379707371007e00590000ea627070707071007e037e71007e037e707371007e00540000ea627070707071007e037e71007e037e707371007e005c0000ea627070707071007e037e71007e037e707371007e005e0000ea627070707071007e037e71007e037e7070707371007e00607070707071007e03797070707070707070707070707400184e6f6e205265706f7274696e6720466163696c697469657378700000ea62000000780170707070707e72002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5072696e744f72646572456e756d00000000000000001200007871007e001e740008564552544943414c7e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53656374696f6e54797065456e756d00000000000000001200007871007e001e74000442414e44757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525374796c653bd49cc311d905723502000078700000000171007e00a77070707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e4e6f4461746154797065456e756d00000000000000001200007871007e001e740016414c4c5f53454354494f4e535f4e4f5f44455441494c737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a525265706f7274436f6d70696c654461746100000000000027d80200034c001363726f7373746162436f6d70696c654461746171007e00cc4c001264617461736574436f6d70696c654461746171007e00cc4c00166d61696e44617461736574436f6d70696c654461746171007e000178707371007e00d03f4000000000000077080000001000000000787371007e00d03f400000000000007708000000100000000078757200025b42acf317f8060854e0020000787000001dd1cafebabe00000034013907000201001f74696d656c696e6573735f313739323430373034393335325f35333034383707000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001e706172616d657465725f49535f49474e4f52455f504147494e4154494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b01001b706172616d657465725f5245504f52545f434f4e4e454354494f4e010010706172616d657465725f706572696f64010019706172616d657465725f696d616765734469726563746f7279010010706172616d657465725f46494c544552010017706172616d657465725f4a41535045525f5245504f5254010017706172616d657465725f5245504f52545f4c4f43414c4501001a706172616d657465725f5245504f52545f54494d455f5a4f4e45010012706172616d657465725f74696d655a6f6e6501001a706172616d657465725f5245504f52545f54454d504c41544553010011706172616d657465725f70726f6772616d01001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010020706172616d657465725f4a41535045525f5245504f5254535f434f4e5445585401001f706172616d657465725f5245504f52545f464f524d41545f464143544f525901001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c45010012706172616d657465725f646973747269637401001c706172616d657465725f5245504f52545f444154415f534f55524345010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f4144455201001c706172616d657465725f5245504f52545f5649525455414c495a4552010015706172616d657465725f534f52545f4649454c445301000c6669656c645f706572696f6401002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b01000a6669656c645f636f646501000a6669656c645f7a6f6e6501000a6669656c645f7479706501000e6669656c645f666163696c6974790100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e540100063c696e69743e010003282956010004436f64650a0003002f0c002b002c09000100310c0005000609000100330c0007000609000100350c0008000609000100370c0009000609000100390c000a0006090001003b0c000b0006090001003d0c000c0006090001003f0c000d000609000100410c000e000609000100430c000f000609000100450c0010000609000100470c0011000609000100490c00120006090001004b0c00130006090001004d0c00140006090001004f0c0015000609000100510c0016000609000100530c0017000609000100550c0018000609000100570c0019000609000100590c001a0006090001005b0c001b0006090001005d0c001c0006090001005f0c001d001e09000100610c001f001e09000100630c0020001e09000100650c0021001e09000100670c0022001e09000100690c00230024090001006b0c00250024090001006d0c00260024090001006f0c0027002409000100710c0028002409000100730c0029002409000100750c002a002401000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a0001007a0c007b007c01000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a0001007e0c007f007c01000a696e69744669656c64730a000100810c0082007c010008696e69745661727308008401001449535f49474e4f52455f504147494e4154494f4e0b0086008807008701000d6a6176612f7574696c2f4d61700c0089008a010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b07008c0100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208008e0100115245504f52545f434f4e4e454354494f4e080090010006706572696f6408009201000f696d616765734469726563746f727908009401000646494c54455208009601000d4a41535045525f5245504f525408009801000d5245504f52545f4c4f43414c4508009a0100105245504f52545f54494d455f5a4f4e4508009c01000874696d655a6f6e6508009e0100105245504f52545f54454d504c415445530800a001000770726f6772616d0800a20100105245504f52545f4d41585f434f554e540800a40100105245504f52545f5343524950544c45540800a60100164a41535045525f5245504f5254535f434f4e544558540800a80100155245504f52545f464f524d41545f464143544f52590800aa0100155245504f52545f504152414d45544552535f4d41500800ac0100165245504f52545f5245534f555243455f42554e444c450800ae01000864697374726963740800b00100125245504f52545f444154415f534f555243450800b201000e5245504f52545f434f4e544558540800b40100135245504f52545f434c4153535f4c4f414445520800b60100125245504f52545f5649525455414c495a45520800b801000b534f52545f4649454c44530700ba01002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c640800bc010004636f64650800be0100047a6f6e650800c0010004747970650800c2010008666163696c6974790800c401000b504147455f4e554d4245520700c601002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800c80100134d41535445525f43555252454e545f504147450800ca0100124d41535445525f544f54414c5f50414745530800cc01000d434f4c554d4e5f4e554d4245520800ce01000c5245504f52545f434f554e540800d001000a504147455f434f554e540800d201000c434f4c554d4e5f434f554e540100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700d70100136a6176612f6c616e672f5468726f7761626c650700d90100116a6176612f6c616e672f496e74656765720a00d800db0c002b00dc010004284929560a008b00de0c00df00e001000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0700e20100106a6176612f6c616e672f537472696e670800e4010003416c6c0800e601000c64202d204d4d4d202d2079790a00e800ea0700e90100226a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465720c00eb00ec0100096f665061747465726e010038284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465723b0a00ee00f00700ef0100106a6176612f74696d652f5a6f6e6549640c00f100f20100026f66010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f5a6f6e6549643b0a00f400f60700f50100176a6176612f74696d652f5a6f6e65644461746554696d650c00f700f80100036e6f7701002d284c6a6176612f74696d652f5a6f6e6549643b294c6a6176612f74696d652f5a6f6e65644461746554696d653b0a00e800fa0c00fb00fc010006666f726d6174010039284c6a6176612f74696d652f74656d706f72616c2f54656d706f72616c4163636573736f723b294c6a6176612f6c616e672f537472696e673b0700fe0100176a6176612f6c616e672f537472696e674275696c646572080100010004206f66200a00fd01020c002b0103010015284c6a6176612f6c616e672f537472696e673b29560a00c500de0a00fd01060c01070108010006617070656e6401002d284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e674275696c6465723b0a00fd010a0c010b010c010008746f537472696e6701001428294c6a6176612f6c616e672f537472696e673b0a010e011007010f0100106a6176612f6c616e672f4f626a6563740c01110112010008676574436c61737301001328294c6a6176612f6c616e672f436c6173733b0a00e101140c0115011601000776616c75654f66010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0801180100106d616c6177695f63726573742e706e670a00fd011a0c0107011b01002d284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e674275696c6465723b0a011d011f07011e01000f6a6176612f6c616e672f436c6173730c012001210100136765745265736f75726365417353747265616d010029284c6a6176612f6c616e672f537472696e673b294c6a6176612f696f2f496e70757453747265616d3b08012301000550616765200a00d801250c01260127010008696e7456616c75650100032829490a0129012b07012a0100116a6176612f6c616e672f426f6f6c65616e0c0115012c010016285a294c6a6176612f6c616e672f426f6f6c65616e3b0a00b900de01000d537461636b4d61705461626c6501000b6576616c756174654f6c640a00c501310c013200e001000b6765744f6c6456616c75650a00b901310100116576616c75617465457374696d617465640a00c501360c013700e0010011676574457374696d6174656456616c756501000a536f7572636546696c650021000100030000002300020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d001e00000002001f001e000000020020001e000000020021001e000000020022001e00000002002300240000000200250024000000020026002400000002002700240000000200280024000000020029002400000002002a0024000000080001002b002c0001002d0000015c00020001000000b42ab7002e2a01b500302a01b500322a01b500342a01b500362a01b500382a01b5003a2a01b5003c2a01b5003e2a01b500402a01b500422a01b500442a01b500462a01b500482a01b5004a2a01b5004c2a01b5004e2a01b500502a01b500522a01b500542a01b500562a01b500582a01b5005a2a01b5005c2a01b5005e2a01b500602a01b500622a01b500642a01b500662a01b500682a01b5006a2a01b5006c2a01b5006e2a01b500702a01b500722a01b50074b100000001007600000096002500000012000400190009001a000e001b0013001c0018001d001d001e0022001f00270020002c00210031002200360023003b00240040002500450026004a0027004f0028005400290059002a005e002b0063002c0068002d006d002e0072002f00770030007c00310081003200860033008b00340090003500950036009a0037009f003800a4003900a9003a00ae003b00b300120001007700780001002d0000003400020004000000102a2bb700792a2cb7007d2a2db70080b10000000100760000001200040000004700050048000a0049000f004a0002007b007c0001002d000001ce000300020000015a2a2b1283b900850200c0008bb500302a2b128db900850200c0008bb500322a2b128fb900850200c0008bb500342a2b1291b900850200c0008bb500362a2b1293b900850200c0008bb500382a2b1295b900850200c0008bb5003a2a2b1297b900850200c0008bb5003c2a2b1299b900850200c0008bb5003e2a2b129bb900850200c0008bb500402a2b129db900850200c0008bb500422a2b129fb900850200c0008bb500442a2b12a1b900850200c0008bb500462a2b12a3b900850200c0008bb500482a2b12a5b900850200c0008bb5004a2a2b12a7b900850200c0008bb5004c2a2b12a9b900850200c0008bb5004e2a2b12abb900850200c0008bb500502a2b12adb900850200c0008bb500522a2b12afb900850200c0008bb500542a2b12b1b900850200c0008bb500562a2b12b3b900850200c0008bb500582a2b12b5b900850200c0008bb5005a2a2b12b7b900850200c0008bb5005cb100000001007600000062001800000052000f0053001e0054002d0055003c0056004b0057005a0058006900590078005a0087005b0096005c00a5005d00b4005e00c3005f00d2006000e1006100f0006200ff0063010e0064011d0065012c0066013b0067014a0068015900690002007f007c0001002d00000078000300020000004c2a2b128fb900850200c000b9b5005e2a2b12bbb900850200c000b9b500602a2b12bdb900850200c000b9b500622a2b12bfb900850200c000b9b500642a2b12c1b900850200c000b9b50066b10000000100760000001a000600000071000f0072001e0073002d0074003c0075004b007600020082007c0001002d0000009e000300020000006a2a2b12c3b900850200c000c5b500682a2b12c7b900850200c000c5b5006a2a2b12c9b900850200c000c5b5006c2a2b12cbb900850200c000c5b5006e2a2b12cdb900850200c000c5b500702a2b12cfb900850200c000c5b500722a2b12d1b900850200c000c5b50074b10000000100760000002200080000007e000f007f001e0080002d0081003c0082004b0083005a008400690085000100d300d4000200d500000004000100d6002d000002d100040003000001e2014d1baa000001dd0000000000000014000000610000006d0000007900000085000000910000009d000000a9000000b5000000c1000000e1000000ef0000010b00000128000001500000015e0000017c0000019a000001a8000001b6000001c4000001d2bb00d85904b700da4da70173bb00d85904b700da4da70167bb00d85904b700da4da7015bbb00d85903b700da4da7014fbb00d85904b700da4da70143bb00d85903b700da4da70137bb00d85904b700da4da7012bbb00d85903b700da4da7011f2ab40052b600ddc000e1c7000812e3a7000d2ab40052b600ddc000e14da700ff2ab40044b600ddc000e14da700f112e5b800e72ab40040b600ddc000e1b800edb800f3b600f94da700d5bb00fd5912ffb701012ab40068b60104c000d8b60105b601094da700b82ab6010dbb00fd592ab40036b600ddc000e1b80113b70101130117b60119b60109b6011c4da700902ab40034b600ddc000e14da70082bb00fd59130122b701012ab40068b60104c000d8b60105b601094da700642ab40070b60104c000d8b6012405709a000704a7000403b801284da700462ab40066b6012dc000e14da700382ab40064b6012dc000e14da7002a2ab40070b60104c000d84da7001c2ab40060b6012dc000e14da7000e2ab40062b6012dc000e14d2cb0000000020076000000b2002c0000008d0002008f00640093006d00940070009800790099007c009d0085009e008800a2009100a3009400a7009d00a800a000ac00a900ad00ac00b100b500b200b800b600c100b700c400bb00e100bc00e400c000ef00c100f200c5010b00c6010e00ca012800cb012b00cf015000d0015300d4015e00d5016100d9017c00da017f00de019a00df019d00e301a800e401ab00e801b600e901b900ed01c400ee01c700f201d200f301d500f701e000ff012e00000025001afc006407010e0b0b0b0b0b0b0b0b114907010e030d1b1c270d1d154001060d0d0d0d0a0001012f00d4000200d500000004000100d6002d000002d100040003000001e2014d1baa000001dd0000000000000014000000610000006d0000007900000085000000910000009d000000a9000000b5000000c1000000e1000000ef0000010b00000128000001500000015e0000017c0000019a000001a8000001b6000001c4000001d2bb00d85904b700da4da70173bb00d85904b700da4da70167bb00d85904b700da4da7015bbb00d85903b700da4da7014fbb00d85904b700da4da70143bb00d85903b700da4da70137bb00d85904b700da4da7012bbb00d85903b700da4da7011f2ab40052b600ddc000e1c7000812e3a7000d2ab40052b600ddc000e14da700ff2ab40044b600ddc000e14da700f112e5b800e72ab40040b600ddc000e1b800edb800f3b600f94da700d5bb00fd5912ffb701012ab40068b60130c000d8b60105b601094da700b82ab6010dbb00fd592ab40036b600ddc000e1b80113b70101130117b60119b60109b6011c4da700902ab40034b600ddc000e14da70082bb00fd59130122b701012ab40068b60130c000d8b60105b601094da700642ab40070b60130c000d8b6012405709a000704a7000403b801284da700462ab40066b60133c000e14da700382ab40064b60133c000e14da7002a2ab40070b60130c000d84da7001c2ab40060b60133c000e14da7000e2ab40062b60133c000e14d2cb0000000020076000000b2002c000001080002010a0064010e006d010f0070011300790114007c0118008501190088011d0091011e00940122009d012300a0012700a9012800ac012c00b5012d00b8013100c1013200c4013600e1013700e4013b00ef013c00f20140010b0141010e014501280146012b014a0150014b0153014f015e015001610154017c0155017f0159019a015a019d015e01a8015f01ab016301b6016401b9016801c4016901c7016d01d2016e01d5017201e0017a012e00000025001afc006407010e0b0b0b0b0b0b0b0b114907010e030d1b1c270d1d154001060d0d0d0d0a0001013400d4000200d500000004000100d6002d000002d100040003000001e2014d1baa000001dd0000000000000014000000610000006d0000007900000085000000910000009d000000a9000000b5000000c1000000e1000000ef0000010b00000128000001500000015e0000017c0000019a000001a8000001b6000001c4000001d2bb00d85904b700da4da70173bb00d85904b700da4da70167bb00d85904b700da4da7015bbb00d85903b700da4da7014fbb00d85904b700da4da70143bb00d85903b700da4da70137bb00d85904b700da4da7012bbb00d85903b700da4da7011f2ab40052b600ddc000e1c7000812e3a7000d2ab40052b600ddc000e14da700ff2ab40044b600ddc000e14da700f112e5b800e72ab40040b600ddc000e1b800edb800f3b600f94da700d5bb00fd5912ffb701012ab40068b60135c000d8b60105b601094da700b82ab6010dbb00fd592ab40036b600ddc000e1b80113b70101130117b60119b60109b6011c4da700902ab40034b600ddc000e14da70082bb00fd59130122b701012ab40068b60135c000d8b60105b601094da700642ab40070b60135c000d8b6012405709a000704a7000403b801284da700462ab40066b6012dc000e14da700382ab40064b6012dc000e14da7002a2ab40070b60135c000d84da7001c2ab40060b6012dc000e14da7000e2ab40062b6012dc000e14d2cb0000000020076000000b2002c000001830002018500640189006d018a0070018e0079018f007c01930085019400880198009101990094019d009d019e00a001a200a901a300ac01a700b501a800b801ac00c101ad00c401b100e101b200e401b600ef01b700f201bb010b01bc010e01c0012801c1012b01c5015001c6015301ca015e01cb016101cf017c01d0017f01d4019a01d5019d01d901a801da01ab01de01b601df01b901e301c401e401c701e801d201e901d501ed01e001f5012e00000025001afc006407010e0b0b0b0b0b0b0b0b114907010e030d1b1c270d1d154001060d0d0d0d0a000101380000000200027400155f313739323430373034393335325f3533303438377400326e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a524a61766163436f6d70696c6572'
+WHERE id = '3fafb1cb-659b-4182-8c84-6df209a0f8d5';
+
+UPDATE reports.jasper_templates
+SET data = '\xaced0005737200286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727400000000000027d80200034c000b636f6d70696c65446174617400164c6a6176612f696f2f53657269616c697a61626c653b4c0011636f6d70696c654e616d655375666669787400124c6a6176612f6c616e672f537472696e673b4c000d636f6d70696c6572436c61737371007e00027872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655265706f727400000000000027d802002b49001950534555444f5f53455249414c5f56455253494f4e5f55494449000c626f74746f6d4d617267696e49000b636f6c756d6e436f756e7449000d636f6c756d6e53706163696e6749000b636f6c756d6e57696474685a001069676e6f7265506167696e6174696f6e5a00136973466c6f6174436f6c756d6e466f6f7465725a0010697353756d6d6172794e6577506167655a0020697353756d6d6172795769746850616765486561646572416e64466f6f7465725a000e69735469746c654e65775061676549000a6c6566744d617267696e42000b6f7269656e746174696f6e49000a7061676548656967687449000970616765576964746842000a7072696e744f7264657249000b72696768744d617267696e490009746f704d617267696e42000e7768656e4e6f44617461547970654c000a6261636b67726f756e647400244c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b4c000f636f6c756d6e446972656374696f6e7400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f52756e446972656374696f6e456e756d3b4c000c636f6c756d6e466f6f74657271007e00044c000c636f6c756d6e48656164657271007e00045b000864617461736574737400285b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c000c64656661756c745374796c657400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000664657461696c71007e00044c000d64657461696c53656374696f6e7400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5253656374696f6e3b4c0012666f726d6174466163746f7279436c61737371007e00024c000a696d706f72747353657474000f4c6a6176612f7574696c2f5365743b4c00086c616e677561676571007e00024c000e6c61737450616765466f6f74657271007e00044c000b6d61696e446174617365747400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52446174617365743b4c00046e616d6571007e00024c00066e6f4461746171007e00044c00106f7269656e746174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f7269656e746174696f6e456e756d3b4c000a70616765466f6f74657271007e00044c000a7061676548656164657271007e00044c000f7072696e744f7264657256616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5072696e744f72646572456e756d3b4c000b73656374696f6e547970657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53656374696f6e54797065456e756d3b5b00067374796c65737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525374796c653b4c000773756d6d61727971007e00045b000974656d706c6174657374002f5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525265706f727454656d706c6174653b4c00057469746c6571007e00044c00137768656e4e6f446174615479706556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e4e6f4461746154797065456e756d3b78700000ea620000001400000001000000000000022b000000000000000014000000034a00000253000000001400000014007372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736542616e6400000000000027d802000849001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a000e697353706c6974416c6c6f7765644c00137072696e745768656e45787072657373696f6e74002a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e3b4c000d70726f706572746965734d617074002d4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572746965734d61703b4c000c72657475726e56616c7565737400104c6a6176612f7574696c2f4c6973743b4c000973706c6974547970657400104c6a6176612f6c616e672f427974653b4c000e73706c69745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f53706c697454797065456e756d3b787200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7447726f757000000000000027d80200024c00086368696c6472656e71007e00154c000c656c656d656e7447726f757074002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52456c656d656e7447726f75703b7870737200136a6176612e7574696c2e41727261794c6973747881d21d99c7619d03000149000473697a6578700000000077040000000078700000ea620000000001707070707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53706c697454797065456e756d00000000000000001200007872000e6a6176612e6c616e672e456e756d00000000000000001200007870740007535452455443487e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e52756e446972656374696f6e456e756d00000000000000001200007871007e001e7400034c5452707371007e00127371007e001b00000004770400000004737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374617469635465787400000000000027d80200014c00047465787471007e0002787200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736554657874456c656d656e7400000000000027d802001949001950534555444f5f53455249414c5f56455253494f4e5f5549444c0008666f6e744e616d6571007e00024c0008666f6e7453697a657400134c6a6176612f6c616e672f496e74656765723b4c0008666f6e7473697a657400114c6a6176612f6c616e672f466c6f61743b4c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c75657400364c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c416c69676e456e756d3b4c0013686f72697a6f6e74616c54657874416c69676e74003a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c54657874416c69676e456e756d3b4c00066973426f6c647400134c6a6176612f6c616e672f426f6f6c65616e3b4c000869734974616c696371007e002c4c000d6973506466456d62656464656471007e002c4c000f6973537472696b655468726f75676871007e002c4c000c69735374796c65645465787471007e002c4c000b6973556e6465726c696e6571007e002c4c00076c696e65426f787400274c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524c696e65426f783b4c000b6c696e6553706163696e6771007e00164c00106c696e6553706163696e6756616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e6553706163696e67456e756d3b4c00066d61726b757071007e00024c00097061726167726170687400294c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525061726167726170683b4c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c0008726f746174696f6e71007e00164c000d726f746174696f6e56616c756574002f4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526f746174696f6e456e756d3b4c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c416c69676e456e756d3b4c0011766572746963616c54657874416c69676e7400384c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c54657874416c69676e456e756d3b7872002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365456c656d656e7400000000000027d802001b49001950534555444f5f53455249414c5f56455253494f4e5f5549444900066865696768745a001769735072696e74496e466972737457686f6c6542616e645a001569735072696e74526570656174656456616c7565735a001a69735072696e745768656e44657461696c4f766572666c6f77735a0015697352656d6f76654c696e655768656e426c616e6b42000c706f736974696f6e5479706542000b7374726574636854797065490005776964746849000178490001794c00096261636b636f6c6f727400104c6a6176612f6177742f436f6c6f723b4c001464656661756c745374796c6550726f76696465727400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5244656661756c745374796c6550726f76696465723b4c000c656c656d656e7447726f757071007e00194c0009666f7265636f6c6f7271007e00344c00036b657971007e00024c00046d6f646571007e00164c00096d6f646556616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4d6f6465456e756d3b4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c0011706f736974696f6e5479706556616c75657400334c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506f736974696f6e54797065456e756d3b4c00137072696e745768656e45787072657373696f6e71007e00134c00157072696e745768656e47726f75704368616e6765737400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250726f706572747945787072657373696f6e3b4c0010737472657463685479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5374726574636854797065456e756d3b4c0004757569647400104c6a6176612f7574696c2f555549443b78700000ea620000002d00010000000000000064000001c6000000007071007e001171007e00247070707070707e7200316e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e506f736974696f6e54797065456e756d00000000000000001200007871007e001e7400134649585f52454c41544956455f544f5f544f5070707372002b6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5250726f706572746965734d617000000000000027d80200034c00046261736571007e00144c000e70726f706572746965734c69737471007e00154c000d70726f706572746965734d617074000f4c6a6176612f7574696c2f4d61703b7870707371007e001b0000000177040000000174001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7978737200116a6176612e7574696c2e486173684d61700507dac1c31660d103000246000a6c6f6164466163746f724900097468726573686f6c6478703f400000000000037708000000040000000171007e0044740005706978656c78707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5374726574636854797065456e756d00000000000000001200007871007e001e74000a4e4f5f535452455443487372000e6a6176612e7574696c2e55554944bc9903f7986d852f0200024a000c6c65617374536967426974734a000b6d6f73745369674269747378709eeed7d84e3ed8f88669cfa6a2804c7b0000ea6270707070707e7200386e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e486f72697a6f6e74616c54657874416c69676e456e756d00000000000000001200007871007e001e74000643454e5445527070707070707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654c696e65426f7800000000000027d802000b4c000d626f74746f6d50616464696e6771007e00284c0009626f74746f6d50656e74002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f626173652f4a52426f7850656e3b4c000c626f78436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52426f78436f6e7461696e65723b4c000b6c65667450616464696e6771007e00284c00076c65667450656e71007e00514c000770616464696e6771007e00284c000370656e71007e00514c000c726967687450616464696e6771007e00284c0008726967687450656e71007e00514c000a746f7050616464696e6771007e00284c0006746f7050656e71007e0051787070737200336e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78426f74746f6d50656e00000000000027d80200007872002d6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f7850656e00000000000027d80200014c00076c696e65426f7871007e002d7872002a6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550656e00000000000027d802000649001950534555444f5f53455249414c5f56455253494f4e5f5549444c00096c696e65436f6c6f7271007e00344c00096c696e655374796c6571007e00164c000e6c696e655374796c6556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4c696e655374796c65456e756d3b4c00096c696e65576964746871007e00294c000c70656e436f6e7461696e657274002c4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e436f6e7461696e65723b78700000ea627372000e6a6176612e6177742e436f6c6f7201a51783108f337502000546000666616c70686149000576616c75654c0002637374001b4c6a6176612f6177742f636f6c6f722f436f6c6f7253706163653b5b00096672676276616c75657400025b465b00066676616c756571007e005c787000000000ffd4d4d4707070707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4c696e655374796c65456e756d00000000000000001200007871007e001e740005534f4c49447372000f6a6176612e6c616e672e466c6f6174daedc9a2db3cf0ec02000146000576616c7565787200106a6176612e6c616e672e4e756d62657286ac951d0b94e08b02000078703f80000071007e005371007e005371007e003c70737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f784c65667450656e00000000000027d80200007871007e00550000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e005371007e0053707371007e00550000ea627070707071007e005371007e005370737200326e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78526967687450656e00000000000027d80200007871007e00550000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e005371007e0053737200116a6176612e6c616e672e496e746567657212e2a0a4f781873802000149000576616c75657871007e006200000000737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365426f78546f7050656e00000000000027d80200007871007e00550000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00610000000071007e005371007e0053707070737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736550617261677261706800000000000027d802000a4c000f66697273744c696e65496e64656e7471007e00284c000a6c656674496e64656e7471007e00284c000b6c696e6553706163696e6771007e002e4c000f6c696e6553706163696e6753697a6571007e00294c0012706172616772617068436f6e7461696e65727400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616772617068436f6e7461696e65723b4c000b7269676874496e64656e7471007e00284c000c73706163696e67416674657271007e00284c000d73706163696e674265666f726571007e00284c000c74616253746f70576964746871007e00284c000874616253746f707371007e0015787070707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4c696e6553706163696e67456e756d00000000000000001200007871007e001e74000653494e474c457371007e00613f80000071007e003c7071007e006e7070707070707070707e7200366e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e566572746963616c54657874416c69676e456e756d00000000000000001200007871007e001e7400064d4944444c4574002723206f6620666163696c6974696573207265706f72746564206f6e207468652070726f647563747371007e00260000ea620000002d0001000000000000006400000162000000007071007e001171007e002470707070707071007e003e70707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e0081740005706978656c787071007e00497371007e004bb14816b798e15f1d2cf984d19b5f4b000000ea62707070707071007e004e7070707070707371007e0050707371007e00540000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00613f80000071007e008571007e008571007e007e707371007e00640000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e008571007e0085707371007e00550000ea627070707071007e008571007e0085707371007e00690000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e008571007e008571007e006e7371007e006f0000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00610000000071007e008571007e00857070707371007e0073707071007e00777371007e00613f80000071007e007e7071007e006e70707070707070707071007e007b7400204e756d626572206f662053746f636b6564206f757420666163696c69746965737371007e00260000ea620000002d00010000000000000064000000fe000000007071007e001171007e002470707070707071007e003e7070707071007e00497371007e004b9af14dd88553a0f19d12f106a39041050000ea62707070707071007e004e7070707070707371007e0050707371007e00540000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00613f80000071007e009871007e009871007e0096707371007e00640000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e009871007e0098707371007e00550000ea627070707071007e009871007e0098707371007e00690000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e009871007e009871007e006e7371007e006f0000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00610000000071007e009871007e00987070707371007e0073707071007e00777371007e00613f80000071007e00967071007e006e70707070707070707071007e007b74001453746f636b6564206f75742052617465202825297371007e00260000ea620000002d000100000000000000fe00000000000000007071007e001171007e002470707070707071007e003e7070707071007e00497371007e004b8266ee79f7cd737a8ddee9d1270443290000ea62707070707071007e004e7070707070707371007e0050707371007e00540000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00613f80000071007e00ab71007e00ab71007e00a9707371007e00640000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e00ab71007e00ab707371007e00550000ea627070707071007e00ab71007e00ab707371007e00690000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e00ab71007e00ab71007e006e7371007e006f0000ea627371007e005a00000000ffd4d4d47070707071007e005f7371007e00610000000071007e00ab71007e00ab7070707371007e0073707071007e00777371007e00613f80000071007e00a97071007e006e70707070707070707071007e007b74000078700000ea620000002d01707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e00be740005706978656c78707070757200285b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52446174617365743b4c1a3698cdac9c440200007870000000017372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654461746173657400000000000027d802001249001950534555444f5f53455249414c5f56455253494f4e5f5549445a000669734d61696e4200177768656e5265736f757263654d697373696e67547970655b00066669656c64737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524669656c643b4c001066696c74657245787072657373696f6e71007e00135b000667726f7570737400265b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5247726f75703b4c00046e616d6571007e00025b000a706172616d657465727374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172616d657465723b4c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e737400385b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4461746173657450726f706572747945787072657373696f6e3b4c000571756572797400254c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572793b4c000e7265736f7572636542756e646c6571007e00024c000e7363726970746c6574436c61737371007e00025b000a7363726970746c65747374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525363726970746c65743b5b000a736f72744669656c647374002a5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52536f72744669656c643b4c00047575696471007e003b5b00097661726961626c65737400295b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525661726961626c653b4c001c7768656e5265736f757263654d697373696e675479706556616c756574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5768656e5265736f757263654d697373696e6754797065456e756d3b78700000ea620000757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a524669656c643b023cdfc74e2af2700200007870000000057372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654669656c6400000000000027d80200064c000b6465736372697074696f6e71007e00024c00046e616d6571007e00024c000d70726f706572746965734d617071007e00145b001370726f706572747945787072657373696f6e7371007e00394c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e000278707074000a706572696f646e616d657371007e0040707070707400106a6176612e6c616e672e537472696e67707371007e00d070740009636f6d706c657465647371007e0040707070707400116a6176612e6c616e672e496e7465676572707371007e00d0707400066d69737365647371007e0040707070707400116a6176612e6c616e672e496e7465676572707371007e00d0707400066f6e74696d657371007e0040707070707400116a6176612e6c616e672e496e7465676572707371007e00d070740005746f74616c7371007e0040707070707400116a6176612e6c616e672e496e746567657270707074000d5265706f7274696e67526174657572002a5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a52506172616d657465723b22000c8d2ac36021020000787000000014737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365506172616d6574657200000000000027d802000a5a000e6973466f7250726f6d7074696e675a000f697353797374656d446566696e65644c001664656661756c7456616c756545787072657373696f6e71007e00134c000b6465736372697074696f6e71007e00024c000e6576616c756174696f6e54696d6574003e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f506172616d657465724576616c756174696f6e54696d65456e756d3b4c00046e616d6571007e00024c000e6e6573746564547970654e616d6571007e00024c000d70726f706572746965734d617071007e00144c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870010170707074000e5245504f52545f434f4e54455854707371007e00407070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e5265706f7274436f6e74657874707371007e00e801017070707400155245504f52545f504152414d45544552535f4d4150707371007e004070707074000d6a6176612e7574696c2e4d6170707371007e00e801017070707400164a41535045525f5245504f5254535f434f4e54455854707371007e00407070707400306e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f727473436f6e74657874707371007e00e8010170707074000d4a41535045525f5245504f5254707371007e00407070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a61737065725265706f7274707371007e00e801017070707400115245504f52545f434f4e4e454354494f4e707371007e00407070707400136a6176612e73716c2e436f6e6e656374696f6e707371007e00e801017070707400105245504f52545f4d41585f434f554e54707371007e00407070707400116a6176612e6c616e672e496e7465676572707371007e00e801017070707400125245504f52545f444154415f534f55524345707371007e00407070707400286e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5244617461536f75726365707371007e00e801017070707400105245504f52545f5343524950544c4554707371007e004070707074002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5241627374726163745363726970746c6574707371007e00e8010170707074000d5245504f52545f4c4f43414c45707371007e00407070707400106a6176612e7574696c2e4c6f63616c65707371007e00e801017070707400165245504f52545f5245534f555243455f42554e444c45707371007e00407070707400186a6176612e7574696c2e5265736f7572636542756e646c65707371007e00e801017070707400105245504f52545f54494d455f5a4f4e45707371007e00407070707400126a6176612e7574696c2e54696d655a6f6e65707371007e00e801017070707400155245504f52545f464f524d41545f464143544f5259707371007e004070707074002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e7574696c2e466f726d6174466163746f7279707371007e00e801017070707400135245504f52545f434c4153535f4c4f41444552707371007e00407070707400156a6176612e6c616e672e436c6173734c6f61646572707371007e00e801017070707400105245504f52545f54454d504c41544553707371007e00407070707400146a6176612e7574696c2e436f6c6c656374696f6e707371007e00e8010170707074000b534f52545f4649454c4453707371007e004070707074000e6a6176612e7574696c2e4c697374707371007e00e8010170707074000646494c544552707371007e00407070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4461746173657446696c746572707371007e00e80100707400007074000750726f6772616d707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e01317400046e616d6571007e012f74000750726f6772616d71007e01327400046e616d6571007e01337400047472756571007e01307400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e00e801007074000070740006506572696f64707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e01437400046e616d6571007e0140740006506572696f6471007e01427400046e616d6571007e01447400047472756571007e014174001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e00e8010070707074000e47656f677261706869635a6f6e65707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000f646973706c617950726f706572747974000e73656c65637450726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e01537400046e616d6571007e0150740008446973747269637471007e01527400046e616d6571007e015474000566616c736571007e01517400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e00e8010070707074000744756544617973707371007e0040707371007e001b0000000277040000000274000b646973706c61794e616d657400087265717569726564787371007e00453f400000000000037708000000040000000271007e016074000f44756520646174652028646179732971007e016174000566616c7365787400106a6176612e6c616e672e537472696e67707371007e0040707371007e001b0000000377040000000374002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572740037636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e53514c517565727944657369676e65722e736173682e7731740037636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e53514c517565727944657369676e65722e736173682e7732787371007e00453f400000000000037708000000040000000371007e01687400104f6e6520456d707479205265636f726471007e016974000333383871007e016a74000336303378707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365517565727900000000000027d80200025b00066368756e6b7374002b5b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5251756572794368756e6b3b4c00086c616e677561676571007e000278707572002b5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5251756572794368756e6b3b409f00a1e8ba34a402000078700000000f737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736551756572794368756e6b00000000000027d8020004420004747970654c00047465787471007e00024c000e746f6b656e536570617261746f727400154c6a6176612f6c616e672f4368617261637465723b5b0006746f6b656e737400135b4c6a6176612f6c616e672f537472696e673b78700174013f574954482066696e644368696c645a6f6e657320415320280a202053454c454354207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e2a0a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320616e636573746f72204f4e20616e636573746f722e6964203d20636c6f737572652e616e636573746f7269640a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e6964203d20636c6f737572652e64657363656e64616e7469640a2020574845524520616e636573746f722e6e616d65203d2070707371007e01740274000e47656f677261706869635a6f6e6570707371007e0174017400db0a290a53454c4543540a20207265666572656e6365646174612e70726f63657373696e675f706572696f64732e6e616d6520415320706572696f646e616d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e4f54204e554c4c205448454e203120454e442920415320636f6d706c657465642c0a2020434f554e542843415345205748454e207265666572656e6365646174612e70726f63657373696e675f706572696f64732e656e6464617465202b202843415345205748454e2070707371007e0174027400074475654461797370707371007e01740174001f3a3a76617263686172204953204e554c4c205448454e20323020454c53452070707371007e0174027400074475654461797370707371007e0174017401673a3a696e7420454e4429202b2031203e3d207374617475735f6368616e67652e6372656174656464617465205448454e203120454e4429204153206f6e74696d652c0a2020434f554e542843415345205748454e207374617475735f6368616e67652e6372656174656464617465204953204e554c4c205448454e203120454e4429204153206d69737365642c0a2020434f554e54282a2920617320746f74616c0a46524f4d207265666572656e6365646174612e666163696c69746965730a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e6573204f4e0a2020207265666572656e6365646174612e666163696c69746965732e67656f677261706869637a6f6e656964203d207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e69640a2020204a4f494e207265666572656e6365646174612e70726f6772616d732070726f6772616d204f4e0a20202070707371007e01740274000750726f6772616d70707371007e0174017400243a3a76617263686172204953204e554c4c204f522070726f6772616d2e6e616d65203d2070707371007e01740274000750726f6772616d70707371007e0174017402193a3a766172636861720a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f6d656d626572732072676d204f4e0a202020666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f757073207267204f4e0a2020202072676d2e7265717569736974696f6e67726f75706964203d2072672e69640a20204a4f494e207265666572656e6365646174612e7265717569736974696f6e5f67726f75705f70726f6772616d5f7363686564756c65732072677073204f4e0a20202020726770732e7265717569736974696f6e67726f75706964203d2072672e696420414e4420726770732e70726f6772616d6964203d2070726f6772616d2e69640a20204a4f494e207265666572656e6365646174612e737570706f727465645f70726f6772616d73207370204f4e0a2020202073702e70726f6772616d6964203d2070726f6772616d2e696420414e442073702e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20204c454654204a4f494e207265666572656e6365646174612e70726f63657373696e675f706572696f6473204f4e0a2020207265666572656e6365646174612e70726f63657373696e675f706572696f64732e6e616d65203d2070707371007e017402740006506572696f6470707371007e0174017401c23a3a766172636861720a20204c454654204a4f494e202853454c45435420666163696c69747969642c2070726f6772616d69642c2070726f63657373696e67706572696f6469642c207375626d6974746564646174652041532063726561746564646174650a20200946524f4d207265706f7274732e7265717569736974696f6e5f74696d656c696e6573735f666163747329207374617475735f6368616e67650a2020204f4e207374617475735f6368616e67652e666163696c6974796964203d207265666572656e6365646174612e666163696c69746965732e69640a20202020414e44207374617475735f6368616e67652e70726f63657373696e67706572696f646964203d207265666572656e6365646174612e70726f63657373696e675f706572696f64732e69640a20202020414e44207374617475735f6368616e67652e70726f6772616d6964203d2070726f6772616d2e69640a57484552450a2020207265666572656e6365646174612e666163696c69746965732e616374697665203d20747275650a202020414e44207265666572656e6365646174612e666163696c69746965732e656e61626c6564203d20747275650a202020414e44202870707371007e01740274000e47656f677261706869635a6f6e6570707371007e0174017400863a3a76617263686172204953204e554c4c204f52207265666572656e6365646174612e67656f677261706869635f7a6f6e65732e696420494e202853454c4543542069642046524f4d2066696e644368696c645a6f6e657329290a202020414e442073702e616374697665203d20747275650a47524f555020425920706572696f646e616d65707074000373716c707070707371007e004bad90aa770a11b2f334fb96d5154743a8757200295b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525661726961626c653b62e6837c982cb7440200007870000000087372002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655661726961626c6500000000000027d802001149001950534555444f5f53455249414c5f56455253494f4e5f55494442000b63616c63756c6174696f6e42000d696e6372656d656e74547970655a000f697353797374656d446566696e65644200097265736574547970654c001063616c63756c6174696f6e56616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f43616c63756c6174696f6e456e756d3b4c000a65787072657373696f6e71007e00134c000e696e6372656d656e7447726f757071007e00384c0012696e6372656d656e745479706556616c75657400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f496e6372656d656e7454797065456e756d3b4c001b696e6372656d656e746572466163746f7279436c6173734e616d6571007e00024c001f696e6372656d656e746572466163746f7279436c6173735265616c4e616d6571007e00024c0016696e697469616c56616c756545787072657373696f6e71007e00134c00046e616d6571007e00024c000a726573657447726f757071007e00384c000e72657365745479706556616c75657400304c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f526573657454797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e00027870000077ee000001007e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e43616c63756c6174696f6e456e756d00000000000000001200007871007e001e74000653595354454d70707e7200326e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e496e6372656d656e7454797065456e756d00000000000000001200007871007e001e7400044e4f4e457070737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e00000000000027d802000549000269645b00066368756e6b737400305b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5245787072657373696f6e4368756e6b3b4c0004747970657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f45787072657373696f6e54797065456e756d3b4c000e76616c7565436c6173734e616d6571007e00024c001276616c7565436c6173735265616c4e616d6571007e0002787000000000757200305b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5245787072657373696f6e4368756e6b3b6d59cfde694ba355020000787000000001737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736545787072657373696f6e4368756e6b00000000000027d8020002420004747970654c00047465787471007e00027870017400186e6577206a6176612e6c616e672e496e746567657228312970707074000b504147455f4e554d424552707e72002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e526573657454797065456e756d00000000000000001200007871007e001e7400065245504f525471007e0101707371007e0199000077ee0000010071007e019f707071007e01a27070707400134d41535445525f43555252454e545f504147457071007e01af71007e0101707371007e0199000077ee0000010071007e019f707071007e01a27070707400124d41535445525f544f54414c5f50414745537071007e01af71007e0101707371007e0199000077ee0000010071007e019f707071007e01a270707371007e01a4000000017571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228312970707074000d434f4c554d4e5f4e554d424552707e71007e01ae7400045041474571007e0101707371007e0199000077ee000001007e71007e019e740005434f554e547371007e01a4000000027571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000037571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c5245504f52545f434f554e547071007e01af71007e0101707371007e0199000077ee0000010071007e01be7371007e01a4000000047571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000057571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707074000a504147455f434f554e547071007e01bb71007e0101707371007e0199000077ee0000010071007e01be7371007e01a4000000067571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000077571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c434f4c554d4e5f434f554e54707e71007e01ae740006434f4c554d4e71007e0101707371007e0199000077ee000000007e71007e019e7400074e4f5448494e477371007e01a4000000087571007e01a8000000017371007e01aa0174000a222531242e30662525227070707071007e01a270707371007e01a4000000097571007e01a8000000017371007e01aa0174000822252e306625252270707074001650657263656e74416e644e756d626572466f726d61747071007e01af7400106a6176612e6c616e672e537472696e67707e72003c6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e5265736f757263654d697373696e6754797065456e756d00000000000000001200007871007e001e7400044e554c4c70707372002e6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736553656374696f6e00000000000027d80200025b000562616e64737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5242616e643b5b000570617274737400255b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52506172743b7870757200255b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5242616e643b95dd7eec8cca85350200007870000000017371007e00127371007e001b00000004770400000004737200306e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365546578744669656c6400000000000027d802001549001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a0015697353747265746368576974684f766572666c6f774c0014616e63686f724e616d6545787072657373696f6e71007e00134c000f6576616c756174696f6e47726f757071007e00384c00136576616c756174696f6e54696d6556616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4576616c756174696f6e54696d65456e756d3b4c000a65787072657373696f6e71007e00134c001968797065726c696e6b416e63686f7245787072657373696f6e71007e00134c001768797065726c696e6b5061676545787072657373696f6e71007e00135b001368797065726c696e6b506172616d65746572737400335b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5248797065726c696e6b506172616d657465723b4c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e00134c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e00134c001768797065726c696e6b5768656e45787072657373696f6e71007e00134c000f6973426c616e6b5768656e4e756c6c71007e002c4c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00077061747465726e71007e00024c00117061747465726e45787072657373696f6e71007e00137871007e00270000ea620000000f00010000000000000064000001c6000000007071007e001171007e01f570707070707071007e003e70707371007e0040707371007e001b00000002770400000002740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e68656967687474001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00453f400000000000037708000000040000000271007e01fd740005706978656c71007e01fe740005706978656c787071007e00497371007e004bada919647b196b6513359167bc7b45850000ea6270707070707e71007e004d74000552494748547070707070707371007e0050707371007e00540000ea627070707071007e020571007e020571007e01fa707371007e00640000ea627070707071007e020571007e0205707371007e00550000ea627070707071007e020571007e02057371007e006d000000147371007e00690000ea627070707071007e020571007e0205707371007e006f0000ea627070707071007e020571007e02057070707371007e00737070707071007e01fa7070707070707070707070700000ea62000000000000000170707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4576616c756174696f6e54696d65456e756d00000000000000001200007871007e001e7400034e4f577371007e01a4000000167571007e01a8000000017371007e01aa037400087265706f7274656470707070707070707070707070707371007e01f70000ea620000000f000100000000000000fe00000000000000007071007e001171007e01f570707070707071007e003e7070707071007e00497371007e004ba7ae0d6294ccc9dab78d8dc7908148ab0000ea627070707070707070707070707371007e0050707371007e00540000ea627070707071007e021671007e021671007e0214707371007e00640000ea627070707071007e021671007e0216707371007e00550000ea627070707071007e021671007e0216707371007e00690000ea627070707071007e021671007e0216707371007e006f0000ea627070707071007e021671007e02167070707371007e00737070707071007e02147070707070707070707070700000ea620000000000000001707071007e020e7371007e01a4000000177571007e01a8000000017371007e01aa0374000b70726f647563744e616d6570707070707070707070707070707371007e01f70000ea620000000f00010000000000000064000000fe000000007071007e001171007e01f570707070707071007e003e7070707071007e00497371007e004b97fb26727d074942cc856392d0be499c0000ea62707070707071007e02037070707070707371007e0050707371007e00540000ea627070707071007e022371007e022371007e0221707371007e00640000ea627070707071007e022371007e0223707371007e00550000ea627070707071007e022371007e022371007e02097371007e00690000ea627070707071007e022371007e0223707371007e006f0000ea627070707071007e022371007e02237070707371007e00737070707071007e02217070707070707070707070700000ea620000000000000001707071007e020e7371007e01a4000000187571007e01a8000000017371007e01aa0374000472617465707070707070707070737200116a6176612e6c616e672e426f6f6c65616ecd207280d59cfaee0200015a000576616c75657870017070740009232c2323302e303025707371007e01f70000ea620000000f0001000000000000006400000162000000007071007e001171007e01f570707070707071007e003e7070707071007e00497371007e004b9faa7938bfb9ad27b186e93ea96941740000ea62707070707071007e02037070707070707371007e0050707371007e00540000ea627070707071007e023371007e023371007e0231707371007e00640000ea627070707071007e023371007e0233707371007e00550000ea627070707071007e023371007e023371007e02097371007e00690000ea627070707071007e023371007e0233707371007e006f0000ea627070707071007e023371007e02337070707371007e00737070707071007e02317070707070707070707070700000ea620000000000000001707071007e020e7371007e01a4000000197571007e01a8000000017371007e01aa0374000a73746f636b65644f7574707070707070707070707070707078700000ea620000000f01707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e0240740005706978656c78707071007e001f7070707400046a617661707371007e00c30000ea6201007571007e00ce000000047371007e00d07074000b70726f647563744e616d657371007e0040707070707400106a6176612e6c616e672e537472696e67707371007e00d070740004726174657371007e0040707070707400106a6176612e6c616e672e446f75626c65707371007e00d07074000a73746f636b65644f75747371007e0040707070707400116a6176612e6c616e672e496e7465676572707371007e00d0707400087265706f727465647371007e0040707070707400116a6176612e6c616e672e496e74656765727070757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a5247726f75703b40a35f7a4cfd78ea0200007870000000017372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736547726f757000000000000027d802001349001950534555444f5f53455249414c5f56455253494f4e5f55494442000e666f6f746572506f736974696f6e5a001b697352657072696e744865616465724f6e45616368436f6c756d6e5a0019697352657072696e744865616465724f6e45616368506167655a001169735265736574506167654e756d6265725a0010697353746172744e6577436f6c756d6e5a000e697353746172744e6577506167655a000c6b656570546f6765746865724900186d696e44657461696c73546f537461727446726f6d546f704900176d696e486569676874546f53746172744e6577506167655a001370726576656e744f727068616e466f6f7465724c000d636f756e745661726961626c657400284c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a525661726961626c653b4c000a65787072657373696f6e71007e00134c0013666f6f746572506f736974696f6e56616c75657400354c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f466f6f746572506f736974696f6e456e756d3b4c000b67726f7570466f6f74657271007e00044c001267726f7570466f6f74657253656374696f6e71007e00084c000b67726f757048656164657271007e00044c001267726f757048656164657253656374696f6e71007e00084c00046e616d6571007e000278700000ea62000001000001000000000000000000007371007e0199000077ee0000010071007e01be7371007e01a4000000087571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000097571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707074000c47726f7570315f434f554e5471007e025b7e71007e01ae74000547524f555071007e010170707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e466f6f746572506f736974696f6e456e756d00000000000000001200007871007e001e7400064e4f524d414c707371007e01ef7070707371007e01ef707074000647726f75703174000e73746f636b5f6f75745f726174657571007e00e6000000197371007e00e8010170707071007e00eb707371007e004070707071007e00ed707371007e00e8010170707071007e00ef707371007e004070707071007e00f1707371007e00e8010170707071007e00f3707371007e004070707071007e00f5707371007e00e8010170707071007e00f7707371007e004070707071007e00f9707371007e00e8010170707071007e00fb707371007e004070707071007e00fd707371007e00e8010170707071007e00ff707371007e004070707071007e0101707371007e00e8010170707071007e0103707371007e004070707071007e0105707371007e00e8010170707071007e0107707371007e004070707071007e0109707371007e00e8010170707071007e010b707371007e004070707071007e010d707371007e00e8010170707071007e010f707371007e004070707071007e0111707371007e00e8010170707071007e0113707371007e004070707071007e0115707371007e00e8010170707071007e0117707371007e004070707071007e0119707371007e00e8010170707071007e011b707371007e004070707071007e011d707371007e00e8010170707071007e011f707371007e004070707071007e0121707371007e00e8010170707071007e0123707371007e004070707071007e0125707371007e00e8010170707071007e0127707371007e004070707071007e0129707371007e00e801017070707400125245504f52545f5649525455414c495a4552707371007e00407070707400296e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525669727475616c697a6572707371007e00e8010170707074001449535f49474e4f52455f504147494e4154494f4e707371007e00407070707400116a6176612e6c616e672e426f6f6c65616e707371007e00e801017070707400114f5241434c455f5245465f435552534f52707371007e00407070707400126a6176612e73716c2e526573756c74536574707371007e00e8010070707074000770726f6772616d707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e02a27400046e616d6571007e02a074000c50726f6772616d204e616d6571007e02a37400046e616d6571007e02a47400047472756571007e02a17400152f6170692f7265706f7274732f70726f6772616d73787400106a6176612e6c616e672e537472696e67707371007e00e80100707070740006706572696f64707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e02b27400046e616d6571007e02b074000b506572696f64204e616d6571007e02b37400046e616d6571007e02b47400047472756571007e02b174001e2f6170692f7265706f7274732f70726f63657373696e67506572696f6473787400106a6176612e6c616e672e537472696e67707371007e00e8010070707074000e67656f677261706869635a6f6e65707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e02c27400046e616d6571007e02c0740008446973747269637471007e02c37400046e616d6571007e02c474000566616c736571007e02c17400162f6170692f7265706f7274732f646973747269637473787400106a6176612e6c616e672e537472696e67707371007e00e8010070707074000770726f64756374707371007e0040707371007e001b0000000577040000000574000b646973706c61794e616d6574001073656c65637445787072657373696f6e74000e73656c65637450726f706572747974000f646973706c617950726f70657274797400087265717569726564787371007e00453f400000000000067708000000080000000571007e02d2740004636f646571007e02d074000750726f6475637471007e02d374000f66756c6c50726f647563744e616d6571007e02d474000566616c736571007e02d17400202f6170692f7265706f7274732f6f7264657261626c65732f73746f636b6f7574787400106a6176612e6c616e672e537472696e67707371007e00e8000070707074000f696d616765734469726563746f7279707371007e00407070707400106a6176612e6c616e672e537472696e67707371007e00e8000070707074000874696d655a6f6e65707371007e00407070707400106a6176612e6c616e672e537472696e67707371007e0040707371007e001b0000001777040000001774002d636f6d2e6a6173706572736f66742e73747564696f2e646174612e64656661756c746461746161646170746572740025636f6d2e6a6173706572736f66742e73747564696f2e646174612e73716c2e7461626c657374002c6e65742e73662e6a61737065727265706f7274732e6578706f72742e68746d6c2e656d6265642e696d6167657400296e65742e73662e6a61737065727265706f7274732e7072696e742e6b6565702e66756c6c2e746578747400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e77686974652e706167652e6261636b67726f756e647400326e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6f6e652e706167652e7065722e73686565747400326e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6f6e652e706167652e7065722e736865657474003f6e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e72656d6f76652e656d7074792e73706163652e6265747765656e2e726f77737400426e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e72656d6f76652e656d7074792e73706163652e6265747765656e2e636f6c756d6e7374003f6e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e72656d6f76652e656d7074792e73706163652e6265747765656e2e726f77737400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e317400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e327400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e62616e642e347400406e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e317400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e327400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e337400356e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e62616e642e347400406e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e337400406e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e317400406e65742e73662e6a61737065727265706f7274732e6578706f72742e6373762e6578636c7564652e6f726967696e2e6b6565702e66697273742e62616e642e317400306e65742e73662e6a61737065727265706f7274732e6578706f72742e786c732e6465746563742e63656c6c2e74797065787371007e00453f400000000000187708000000200000001771007e02ec74000566616c736571007e02e97400047472756571007e02ea74000566616c736571007e02eb74000566616c736571007e02e67400064d616c61776971007e02ed7400047472756571007e02e774000071007e02f974000c636f6c756d6e48656164657271007e02ef7400047472756571007e02f074000a7061676548656164657271007e02fb74000c636f6c756d6e48656164657271007e02f174000a70616765466f6f74657271007e02e87400047472756571007e02f27400057469746c6571007e02f374000773756d6d61727971007e02fc7400047472756571007e02fa74000c636f6c756d6e48656164657271007e02f77400057469746c6571007e02ee7400047472756571007e02f474000c636f6c756d6e48656164657271007e02f874000773756d6d61727971007e02f574000a7061676548656164657271007e02f674000a70616765466f6f74657278707371007e016f7571007e01720000001d7371007e0174017400d7574954482066696e644368696c645a6f6e657320415320280a202053454c45435420636c6f737572652e64657363656e64616e7469642041532069640a202046524f4d207265706f7274732e67656f677261706869635f7a6f6e655f636c6f7375726520636c6f737572650a20204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320616e636573746f72204f4e20616e636573746f722e6964203d20636c6f737572652e616e636573746f7269640a2020574845524520616e636573746f722e6e616d65203d2070707371007e01740274000e67656f677261706869635a6f6e6570707371007e01740174020c0a292c20616c6c4d616c6172696120415320280a0953454c4543540a090969642c0a0909636f64650a0946524f4d0a09097265666572656e6365646174612e6f7264657261626c65730a0957484552450a0909636f646520494e2028274141303430323030272c20274141303339393030272c20274141303430353030272c2027414130333936303027290a292c20616c6c526820415320280a0953454c4543540a090969642c0a0909636f64650a0946524f4d0a09097265666572656e6365646174612e6f7264657261626c65730a0957484552450a0909636f646520494e2028274650303034313030272c2027465030303337303027290a292c207265636f72647320415320280a0953454c4543540a09096f2e66756c6c50726f647563744e616d652041532070726f647563744e616d652c0a09096f2e636f64652041532070726f64756374436f64652c0a0909722e6964204153207265717569736974696f6e49642c0a0909726c692e73746f636b4f6e48616e6420415320636c6f73696e6742616c616e63652c0a0909662e696420617320666163696c69747949640a0946524f4d0a09097265717569736974696f6e2e7265717569736974696f6e7320415320720a0909494e4e4552204a4f494e207265666572656e6365646174612e70726f6772616d732041532070204f4e20702e6964203d20722e70726f6772616d496420414e44202870707371007e01740274000770726f6772616d70707371007e01740174001e3a3a76617263686172204953204e554c4c204f5220702e6e616d65203d2070707371007e01740274000770726f6772616d70707371007e0174017400a23a3a76617263686172290a0909494e4e4552204a4f494e207265666572656e6365646174612e666163696c69746965732041532066204f4e20662e6964203d20722e666163696c69747949640a0909494e4e4552204a4f494e207265666572656e6365646174612e67656f677261706869635f7a6f6e657320415320677a204f4e20677a2e6964203d20662e67656f677261706869635a6f6e65496420414e44202870707371007e01740274000e67656f677261706869635a6f6e6570707371007e0174017401123a3a76617263686172204953204e554c4c204f5220677a2e696420494e202853454c4543542069642046524f4d2066696e644368696c645a6f6e657329290a0909494e4e4552204a4f494e207265666572656e6365646174612e737570706f727465645f70726f6772616d73204153207370204f4e2073702e666163696c6974794964203d20662e696420414e442073702e70726f6772616d4964203d20702e696420414e442073702e61637469766520495320545255450a0909494e4e4552204a4f494e207265666572656e6365646174612e70726f63657373696e675f706572696f6473204153207070204f4e2070702e6964203d20722e70726f63657373696e67506572696f64496420414e44202870707371007e017402740006706572696f6470707371007e01740174001f3a3a76617263686172204953204e554c4c204f522070702e6e616d65203d2070707371007e017402740006706572696f6470707371007e0174017403ce3a3a76617263686172290a0909494e4e4552204a4f494e207265717569736974696f6e2e7265717569736974696f6e5f6c696e655f6974656d7320415320726c69204f4e20726c692e7265717569736974696f6e4964203d20722e696420414e4420726c692e736b69707065642049532046414c534520414e44204e4f542028726c692e73746f636b4f6e48616e64203d203020414e4420726c692e746f74616c436f6e73756d65645175616e74697479203d203020414e4420726c692e61766572616765436f6e73756d7074696f6e203d203020414e4420726c692e746f74616c52656365697665645175616e74697479203d2030290a0909494e4e4552204a4f494e207265666572656e6365646174612e6f7264657261626c6573204153206f204f4e206f2e6964203d20726c692e6f7264657261626c65496420414e44206f2e76657273696f6e6e756d626572203d20726c692e6f7264657261626c6576657273696f6e6e756d6265720a0909494e4e4552204a4f494e207265666572656e6365646174612e70726f6772616d5f6f7264657261626c657320415320706f204f4e20706f2e6f7264657261626c654964203d206f2e696420414e4420706f2e70726f6772616d6964203d20702e696420414e4420706f2e66756c6c737570706c7920495320545255450a0957484552450a0909722e656d657267656e63792049532046414c53450a0909414e44206f2e76657273696f6e6e756d626572203d202873656c656374206d61782876657273696f6e6e756d626572292066726f6d207265666572656e6365646174612e6f7264657261626c6573206f32207768657265206f322e6964203d206f2e6964290a0909414e4420722e73746174757320494e2028275355424d4954544544272c2027415554484f52495a4544272c2027494e5f415050524f56414c272c2027415050524f564544272c202752454c454153454427290a290a53454c4543540a09722e70726f647563744e616d652041532070726f647563744e616d652c0a0973756d2843415345205748454e20722e636c6f73696e6742616c616e6365203d2030205448454e203120454c5345203020454e4429202f20636f756e74282a293a3a666c6f617420415320726174652c0a0973756d2843415345205748454e20722e636c6f73696e6742616c616e6365203d2030205448454e203120454c5345203020454e44292041532073746f636b65644f75742c0a09636f756e742864697374696e637428722e666163696c69747949642929204153207265706f727465640a46524f4d0a097265636f72647320415320720a57484552450a092870707371007e01740274000770726f6475637470707371007e0174017400183a3a76617263686172204953204e554c4c290a094f52202870707371007e01740274000770726f6475637470707371007e01740174004e3a3a76617263686172203d2027414c4c5f4c412720414e4420722e70726f64756374436f646520494e202853454c45435420636f64652046524f4d20616c6c4d616c6172696129290a094f52202870707371007e01740274000770726f6475637470707371007e0174017400493a3a76617263686172203d2027414c4c5f49432720414e4420722e70726f64756374436f646520494e202853454c45435420636f64652046524f4d20616c6c526829290a094f52202870707371007e01740274000770726f6475637470707371007e0174017401df3a3a76617263686172203d20722e70726f64756374436f6465290a47524f55502042590a0970726f647563744e616d650a554e494f4e20414c4c0a53454c4543540a0927416c6c206d616c6172696120666f726d756c6174696f6e73272041532070726f647563744e616d652c0a0973756d2873746f636b65644f757429202f2073756d287265706f72746564293a3a666c6f617420415320726174652c0a0973756d2873746f636b65644f7574292041532073746f636b65644f75742c0a0973756d287265706f7274656429204153207265706f727465640a46524f4d20280a0953454c4543540a090943415345205748454e2073756d2843415345205748454e20722e636c6f73696e6742616c616e6365203d2030205448454e203120454c5345203020454e4429203d202853454c45435420636f756e74282a292046524f4d20616c6c4d616c6172696129205448454e203120454c5345203020454e442041532073746f636b65644f75742c0a0909636f756e742864697374696e637428722e666163696c69747949642929202f202853454c45435420636f756e74282a292046524f4d20616c6c4d616c6172696129204153207265706f727465640a0946524f4d0a09097265636f72647320415320720a0957484552450a09092870707371007e01740274000770726f6475637470707371007e0174017400153a3a76617263686172204953204e554c4c204f522070707371007e01740274000770726f6475637470707371007e0174017402743a3a76617263686172203d2027414c4c5f4c4127290a20202020414e4420722e70726f64756374436f646520494e202853454c45435420636f64652046524f4d20616c6c4d616c61726961290a0947524f55502042590a0909722e7265717569736974696f6e49640a09484156494e470a0909636f756e7428722e7265717569736974696f6e496429203d202853454c45435420636f756e74282a292046524f4d20616c6c4d616c61726961290a2920415320740a484156494e470a09636f756e74282a29203e20300a554e494f4e20414c4c0a53454c4543540a0927416c6c20696d706c616e7461626c6520636f6e7472616365707469766573272041532070726f647563744e616d652c0a0973756d2873746f636b65644f757429202f2073756d287265706f72746564293a3a666c6f617420415320726174652c0a0973756d2873746f636b65644f7574292041532073746f636b65644f75742c0a0973756d287265706f7274656429204153207265706f727465640a46524f4d20280a0953454c4543540a090943415345205748454e2073756d2843415345205748454e20722e636c6f73696e6742616c616e6365203d2030205448454e203120454c5345203020454e4429203d202853454c45435420636f756e74282a292046524f4d20616c6c526829205448454e203120454c5345203020454e442041532073746f636b65644f75742c0a0909636f756e742864697374696e637428722e666163696c69747949642929202f202853454c45435420636f756e74282a292046524f4d20616c6c526829204153207265706f727465640a0946524f4d0a09097265636f72647320415320720a0957484552450a09092870707371007e01740274000770726f6475637470707371007e0174017400153a3a76617263686172204953204e554c4c204f522070707371007e01740274000770726f6475637470707371007e0174017400d53a3a76617263686172203d2027414c4c5f494327290a20202020414e4420722e70726f64756374436f646520494e202853454c45435420636f64652046524f4d20616c6c5268290a0947524f55502042590a0909722e7265717569736974696f6e49640a09484156494e470a0909636f756e7428722e7265717569736974696f6e496429203d202853454c45435420636f756e74282a292046524f4d20616c6c5268290a2920415320740a484156494e470a09636f756e74282a29203e20300a4f524445522042590a0970726f647563744e616d657070740005706c73716c707070707371007e004bbbd7b9050b973ed0843ea716ea7247f87571007e0197000000087371007e0199000077ee0000010071007e019f707071007e01a270707371007e01a4000000007571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e01ad7071007e01af71007e0101707371007e0199000077ee0000010071007e019f707071007e01a270707071007e01b27071007e01af71007e0101707371007e0199000077ee0000010071007e019f707071007e01a270707071007e01b47071007e01af71007e0101707371007e0199000077ee0000010071007e019f707071007e01a270707371007e01a4000000017571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228312970707071007e01ba7071007e01bb71007e0101707371007e0199000077ee0000010071007e01be7371007e01a4000000027571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000037571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01c87071007e01af71007e0101707371007e0199000077ee0000010071007e01be7371007e01a4000000047571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000057571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01d27071007e01bb71007e0101707371007e0199000077ee0000010071007e01be7371007e01a4000000067571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e74656765722831297070707071007e01a270707371007e01a4000000077571007e01a8000000017371007e01aa017400186e6577206a6176612e6c616e672e496e746567657228302970707071007e01dc7071007e01dd71007e01017071007e025c71007e01ed71007e026e707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f7269656e746174696f6e456e756d00000000000000001200007871007e001e740008504f5254524149547371007e00127371007e001b000000027704000000027371007e01f70000ea620000000c000100000000000000ae0000017c000000267071007e001171007e037e70707070707071007e003e70707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e0383740005706978656c787071007e00497371007e004b9df01bae2534f47872284fb0e09a43630000ea62707070707071007e02037070707070707371007e0050707371007e00540000ea627070707071007e038771007e038771007e0380707371007e00640000ea627070707071007e038771007e0387707371007e00550000ea627070707071007e038771007e0387707371007e00690000ea627070707071007e038771007e0387707371007e006f0000ea627070707071007e038771007e03877070707371007e00737070707071007e03807070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000001a7571007e01a8000000027371007e01aa0174000b22506167653a2022202b207371007e01aa0474000b504147455f4e554d42455270707070707070707070707070707371007e01f70000ea62000000140001000000000000022a00000000000000127071007e001171007e037e70707070707071007e003e7070707071007e00497371007e004b9e9c4861a355da7c15b8c81764da48f40000ea6270707371007e006140e000007070707070707070707371007e0050707371007e00540000ea627070707071007e039771007e039771007e0394707371007e00640000ea627070707071007e039771007e0397707371007e00550000ea627070707071007e039771007e0397707371007e00690000ea627070707071007e039771007e0397707371007e006f0000ea627070707071007e039771007e03977070707371007e00737070707071007e03947070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000001b7571007e01a8000000017371007e01aa0174011a22506c65617365206e6f74652074686174207468652073746f636b206f7574207261746573207265666c65637465642068657265206d617920706f74656e7469616c6c7920766172792066726f6d207468617420646973706c6179656420696e2070726576696f75736c792063697263756c61746564204c4d4953207265706f7274733b20746869732069732062656361757365204f70656e4c4d495320616c6c6f777320666163696c697469657320746f207265706f7274206576656e206265796f6e642074686520646561646c696e65206f6620746865206c61737420646179206f6620746865206d6f6e74682c20612074696d65207468617420746865204c4d4953207265706f72742069732067656e65726174656422707070707070707070707070707078700000ea620000003201707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e03a4740005706978656c78707071007e001f7371007e00127371007e001b0000000e77040000000e7371007e01f70000ea62000000140001000000000000008c00000118000000647071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b81196c4c0410e4a2c7e6d724faf345d50000ea627070707070707070707070707371007e0050707371007e00540000ea627070707071007e03ab71007e03ab71007e03a9707371007e00640000ea627070707071007e03ab71007e03ab707371007e00550000ea627070707071007e03ab71007e03ab707371007e00690000ea627070707071007e03ab71007e03ab707371007e006f0000ea627070707071007e03ab71007e03ab7070707371007e00737070707071007e03a97070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000000a7571007e01a8000000017371007e01aa02740006706572696f6470707070707070707070707070707371007e01f70000ea620000001400010000000000000086000001a4000000647071007e001171007e03a77071007e03047070707071007e003e7070707071007e00497371007e004b80038128ed51bd37ee95017e34fb47fb0000ea6270707070707e71007e004d7400044c4546547070707070707371007e0050707371007e00540000ea627070707071007e03ba71007e03ba71007e03b6707371007e00640000ea627070707071007e03ba71007e03ba707371007e00550000ea627070707071007e03ba71007e03ba707371007e00690000ea627070707071007e03ba71007e03ba707371007e006f0000ea627070707071007e03ba71007e03ba7070707371007e00737070707071007e03b67070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000000b7571007e01a8000000037371007e01aa017400746a6176612e74696d652e666f726d61742e4461746554696d65466f726d61747465722e6f665061747465726e282264202d204d4d4d202d20797922292e666f726d6174286a6176612e74696d652e5a6f6e65644461746554696d652e6e6f77286a6176612e74696d652e5a6f6e6549642e6f66287371007e01aa0274000874696d655a6f6e657371007e01aa017400042929293b70707070707070707070707070707371007e00260000ea62000000120001000000000000022a000000000000003c7371007e005a00000000ff78787870707071007e001171007e03a77371007e005a00000000ffffffff70707070707e7200296e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4d6f6465456e756d00000000000000001200007871007e001e7400064f5041515545707071007e003e70707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e03d1740005706978656c787071007e00497371007e004bb1500b97376963d662aab899e15b4f600000ea6270707371007e006141700000707071007e004e71007e022f70707070707371007e0050707371007e00540000ea627070707071007e03d671007e03d671007e03c9707371007e00640000ea627070707071007e03d671007e03d6707371007e00550000ea627070707071007e03d671007e03d6707371007e00690000ea627070707071007e03d671007e03d6707371007e006f0000ea627070707071007e03d671007e03d67070707371007e00737070707071007e03c970707070707070707070707074001853746f636b6f757420726174652062792070726f647563747371007e01f70000ea62000000140001000000000000008c0000008c000000647071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b9cceefc84578b7322d8d85cb25834a580000ea627070707070707070707070707371007e0050707371007e00540000ea627070707071007e03e071007e03e071007e03de707371007e00640000ea627070707071007e03e071007e03e0707371007e00550000ea627070707071007e03e071007e03e0707371007e00690000ea627070707071007e03e071007e03e0707371007e006f0000ea627070707071007e03e071007e03e07070707371007e00737070707071007e03de7070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000000c7571007e01a8000000017371007e01aa0274000770726f6772616d70707070707070707070707070707371007e01f70000ea62000000140001000000000000008c00000000000000647071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b85c6e6ace61cda27bcbebeb1977944a10000ea627070707070707070707070707371007e0050707371007e00540000ea627070707071007e03ed71007e03ed71007e03eb707371007e00640000ea627070707071007e03ed71007e03ed707371007e00550000ea627070707071007e03ed71007e03ed707371007e00690000ea627070707071007e03ed71007e03ed707371007e006f0000ea627070707071007e03ed71007e03ed7070707371007e00737070707071007e03eb7070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000000d7571007e01a8000000047371007e01aa01740001287371007e01aa0274000e67656f677261706869635a6f6e657371007e01aa01740014203d3d206e756c6c29203f2022416c6c22203a207371007e01aa0274000e67656f677261706869635a6f6e6570707070707070707070707070707371007e00260000ea62000000140001000000000000008c00000000000000507071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004bb2eec6440393385def29af37a2a54f680000ea62707070707071007e03b871007e022f70707070707371007e0050707371007e00540000ea627070707071007e040071007e040071007e03fe707371007e00640000ea627070707071007e040071007e0400707371007e00550000ea627070707071007e040071007e0400707371007e00690000ea627070707071007e040071007e0400707371007e006f0000ea627070707071007e040071007e04007070707371007e00737070707071007e03fe707070707070707070707071007e007b74000944697374726963743a7371007e00260000ea62000000140001000000000000008c0000008c000000507071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004bbe2ba143fd2500494688a1751b22427a0000ea6270707371007e006141200000707071007e03b871007e022f70707070707371007e0050707371007e00540000ea627070707071007e040b71007e040b71007e0408707371007e00640000ea627070707071007e040b71007e040b707371007e00550000ea627070707071007e040b71007e040b707371007e00690000ea627070707071007e040b71007e040b707371007e006f0000ea627070707071007e040b71007e040b7070707371007e00737070707071007e0408707070707070707070707071007e007b74000850726f6772616d3a7371007e00260000ea620000001400010000000000000086000001a4000000507071007e001171007e03a77071007e03047070707071007e003e7070707071007e00497371007e004b99579310d683bcab593d6c8cbe3841d00000ea6270707371007e006141200000707071007e03b871007e022f70707070707371007e0050707371007e00540000ea627070707071007e041671007e041671007e0413707371007e00640000ea627070707071007e041671007e0416707371007e00550000ea627070707071007e041671007e0416707371007e00690000ea627070707071007e041671007e0416707371007e006f0000ea627070707071007e041671007e041670707400046e6f6e657371007e00737070707071007e0413707070707070707070707071007e007b7400105265706f72742052756e20446174653a7371007e00260000ea62000000140001000000000000008c00000118000000507071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b98cb81fe4102a4c750858ab717d9444e0000ea62707070707071007e03b871007e022f70707070707371007e0050707371007e00540000ea627070707071007e042171007e042171007e041f707371007e00640000ea627070707071007e042171007e0421707371007e00550000ea627070707071007e042171007e0421707371007e00690000ea627070707071007e042171007e0421707371007e006f0000ea627070707071007e042171007e042170707400046e6f6e657371007e00737070707071007e041f707070707070707070707071007e007b7400115265706f7274696e6720506572696f643a7371007e01f70000ea62000000140001000000000000002d000001fe000000007071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b96da85360efd00eb5a830a91ea9847840000ea62707070707071007e03b87070707070707371007e0050707371007e00540000ea627070707071007e042c71007e042c71007e042a707371007e00640000ea627070707071007e042c71007e042c707371007e00550000ea627070707071007e042c71007e042c707371007e00690000ea627070707071007e042c71007e042c707371007e006f0000ea627070707071007e042c71007e042c7070707371007e00737070707071007e042a7070707070707070707070700000ea62000000000000000070707e71007e020d7400065245504f52547371007e01a40000000e7571007e01a8000000027371007e01aa0174000922206f662022202b207371007e01aa0474000b504147455f4e554d42455270707070707070707070707070707371007e01f70000ea620000001400010000000000000050000001ae000000007071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b9a108fbf5c9d3f0a6bf8570a3e52461d0000ea62707070707071007e02037070707070707371007e0050707371007e00540000ea627070707071007e043d71007e043d71007e043b707371007e00640000ea627070707071007e043d71007e043d707371007e00550000ea627070707071007e043d71007e043d707371007e00690000ea627070707071007e043d71007e043d707371007e006f0000ea627070707071007e043d71007e043d7070707371007e00737070707071007e043b7070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000000f7571007e01a8000000027371007e01aa0174000a22506167652022202b207371007e01aa0474000b504147455f4e554d42455270707070707070707070707070707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365496d61676500000000000027d802001e49001950534555444f5f53455249414c5f56455253494f4e5f55494449000d626f6f6b6d61726b4c6576656c42000e6576616c756174696f6e54696d6542000f68797065726c696e6b54617267657442000d68797065726c696e6b547970655a000669734c617a7942000b6f6e4572726f72547970654c0014616e63686f724e616d6545787072657373696f6e71007e00134c000f6576616c756174696f6e47726f757071007e00384c00136576616c756174696f6e54696d6556616c756571007e01f84c000a65787072657373696f6e71007e00134c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e002a4c0014686f72697a6f6e74616c496d616765416c69676e74003b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f486f72697a6f6e74616c496d616765416c69676e456e756d3b4c001968797065726c696e6b416e63686f7245787072657373696f6e71007e00134c001768797065726c696e6b5061676545787072657373696f6e71007e00135b001368797065726c696e6b506172616d657465727371007e01f94c001c68797065726c696e6b5265666572656e636545787072657373696f6e71007e00134c001a68797065726c696e6b546f6f6c74697045787072657373696f6e71007e00134c001768797065726c696e6b5768656e45787072657373696f6e71007e00134c000c69735573696e67436163686571007e002c4c00076c696e65426f7871007e002d4c000a6c696e6b54617267657471007e00024c00086c696e6b5479706571007e00024c00106f6e4572726f725479706556616c75657400324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f4f6e4572726f7254797065456e756d3b4c000a7363616c65496d61676571007e00164c000f7363616c65496d61676556616c75657400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f5363616c65496d616765456e756d3b4c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c756571007e00314c0012766572746963616c496d616765416c69676e7400394c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f566572746963616c496d616765416c69676e456e756d3b787200356e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736547726170686963456c656d656e7400000000000027d802000449001950534555444f5f53455249414c5f56455253494f4e5f5549444c000466696c6c71007e00164c000966696c6c56616c756574002b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f747970652f46696c6c456e756d3b4c00076c696e6550656e7400234c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5250656e3b7871007e00330000ea62000000320001000000000000003200000000000000007071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b99db047bde5e63789e92217183b24c5f000077ee70707371007e00560000ea627070707071007e04520000ea62000000000000000000707071007e020e7371007e01a4000000107571007e01a8000000037371007e01aa0174001f676574436c61737328292e6765745265736f75726365417353747265616d287371007e01aa0274000f696d616765734469726563746f72797371007e01aa01740016202b20226d616c6177695f63726573742e706e672229707070707070707070707070707371007e0050707371007e00540000ea627070707071007e045d71007e045d71007e0452707371007e00640000ea627070707071007e045d71007e045d707371007e00550000ea627070707071007e045d71007e045d707371007e00690000ea627070707071007e045d71007e045d707371007e006f0000ea627070707071007e045d71007e045d70707e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e4f6e4572726f7254797065456e756d00000000000000001200007871007e001e7400054552524f5270707070707371007e00260000ea6200000027000100000000000001170000008d000000007071007e001171007e03a770707070707071007e003e7070707071007e00497371007e004b84fc7db482ce8e3a9686f22237784c4d0000ea6270707371007e006141900000707071007e004e7070707070707371007e0050707371007e00540000ea627070707071007e046971007e046971007e0466707371007e00640000ea627070707071007e046971007e0469707371007e00550000ea627070707071007e046971007e0469707371007e00690000ea627070707071007e046971007e0469707371007e006f0000ea627070707071007e046971007e04697070707371007e00737070707071007e0466707070707070707070707071007e007b74001a4d696e6973747279206f66204865616c74682c204d616c617769737200376e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a5242617365436f6d706f6e656e74456c656d656e7400000000000027d80200024c0009636f6d706f6e656e747400314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f636f6d706f6e656e742f436f6d706f6e656e743b4c000c636f6d706f6e656e744b65797400344c6e65742f73662f6a61737065727265706f7274732f656e67696e652f636f6d706f6e656e742f436f6d706f6e656e744b65793b7871007e00330000ea620000001200010000000000000078000001b3000000277071007e001171007e03a77070707070707e71007e003d7400164649585f52454c41544956455f544f5f424f54544f4d70707371007e0040707371007e001b0000000677040000000674001c636f6d2e6a6173706572736f66742e73747564696f2e6c61796f757474002e636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e7461626c655f68656164657274002f636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e636f6c756d6e5f686561646572740028636f6d2e6a6173706572736f66742e73747564696f2e7461626c652e7374796c652e64657461696c740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e776964746874001c636f6d2e6a6173706572736f66742e73747564696f2e756e69742e79787371007e00453f400000000000067708000000080000000671007e0479740035636f6d2e6a6173706572736f66742e73747564696f2e656469746f722e6c61796f75742e566572746963616c526f774c61796f757471007e047a7400085461626c655f544871007e047d740005706978656c71007e047e740005706978656c71007e047b7400085461626c655f434871007e047c7400085461626c655f544478707e71007e0048740014454c454d454e545f47524f55505f4845494748547371007e004b83b2552b1fa2ef7adcd0a9e231a84a2a737200336e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e5374616e646172645461626c6500000000000027d80200034c0007636f6c756d6e7371007e00154c000a6461746173657452756e74002a4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a524461746173657452756e3b4c000e7768656e4e6f446174615479706574003f4c6e65742f73662f6a61737065727265706f7274732f636f6d706f6e656e74732f7461626c652f5768656e4e6f44617461547970655461626c65456e756d3b78707371007e001b00000001770400000001737200346e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e5374616e64617264436f6c756d6e00000000000027d80200014c000664657461696c74002c4c6e65742f73662f6a61737065727265706f7274732f636f6d706f6e656e74732f7461626c652f43656c6c3b787200386e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e5374616e6461726442617365436f6c756d6e00000000000027d802000b4c000c636f6c756d6e466f6f74657271007e048f4c000c636f6c756d6e48656164657271007e048f4c000c67726f7570466f6f7465727371007e00154c000c67726f75704865616465727371007e00154c00137072696e745768656e45787072657373696f6e71007e00134c000d70726f706572746965734d617071007e00144c001370726f706572747945787072657373696f6e7371007e00154c000b7461626c65466f6f74657271007e048f4c000b7461626c6548656164657271007e048f4c00047575696471007e003b4c0005776964746871007e0028787070707371007e001b00000000770400000000787371007e001b0000000077040000000078707371007e0040707371007e001b00000002770400000002740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000271007e0496740005706978656c71007e0497740005706978656c787371007e001b000000007704000000007870707371007e004bbc5cc0f0fa30a489211df73508754afb7371007e006d0000009b737200326e65742e73662e6a61737065727265706f7274732e636f6d706f6e656e74732e7461626c652e436f6d70696c656443656c6c00000000000027d80200074c0003626f7871007e002d4c001464656661756c745374796c6550726f766964657271007e00354c000668656967687471007e00284c000d70726f706572746965734d617071007e00144c0007726f775370616e71007e00284c00057374796c6571007e00074c00127374796c654e616d655265666572656e636571007e00027871007e00187371007e001b000000017704000000017371007e01f70000ea62000000120001000000000000009b00000000000000007071007e001171007e049f70707070707071007e003e70707371007e0040707371007e001b00000002770400000002740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000271007e04a4740005706978656c71007e04a5740005706978656c787071007e00497371007e004b9e3dd3e2acda3d2bbbafcd3ea9f84c7d0000ea6274000953616e735365726966707371007e00614140000070707071007e022f70707070707371007e0050707371007e00540000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04ac71007e04ac71007e04a171007e006e7371007e00640000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04ac71007e04ac707371007e00550000ea627070707071007e04ac71007e04ac707371007e00690000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04ac71007e04ac707371007e006f0000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04ac71007e04ac7070707371007e00737070707071007e04a17070707070707070707070700000ea620000000000000000707071007e020e7371007e01a40000000a7571007e01a8000000077371007e01aa01740023225265706f7274696e6720726174653a2022202b20537472696e672e666f726d6174287371007e01aa0474001650657263656e74416e644e756d626572466f726d61747371007e01aa0174000a2c2028646f75626c65297371007e01aa03740009636f6d706c657465647371007e01aa017400012f7371007e01aa03740005746f74616c7371007e01aa017400052a31303029707070707070707070707070707078707371007e0050707371007e00540000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04cb71007e04cb71007e049f707371007e00640000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04cb71007e04cb707371007e00550000ea627070707071007e04cb71007e04cb707371007e00690000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04cb71007e04cb707371007e006f0000ea627371007e005a00000000ff0000007070707071007e005f7371007e00610000000071007e04cb71007e04cb71007e00117371007e006d000000127371007e0040707371007e001b00000002770400000002740020636f6d2e6a6173706572736f66742e73747564696f2e756e69742e7769647468740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000271007e04dc740002707871007e04dd740002707878707372002c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173655374796c65000000000000271102002f49001950534555444f5f53455249414c5f56455253494f4e5f5549445a0009697344656661756c744c00096261636b636f6c6f7271007e00345b0011636f6e646974696f6e616c5374796c65737400315b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a52436f6e646974696f6e616c5374796c653b4c001464656661756c745374796c6550726f766964657271007e00354c000466696c6c71007e00164c000966696c6c56616c756571007e04504c0008666f6e744e616d6571007e00024c0008666f6e7453697a6571007e00284c0008666f6e7473697a6571007e00294c0009666f7265636f6c6f7271007e00344c0013686f72697a6f6e74616c416c69676e6d656e7471007e00164c0018686f72697a6f6e74616c416c69676e6d656e7456616c756571007e002a4c0014686f72697a6f6e74616c496d616765416c69676e71007e044b4c0013686f72697a6f6e74616c54657874416c69676e71007e002b4c000f6973426c616e6b5768656e4e756c6c71007e002c4c00066973426f6c6471007e002c4c000869734974616c696371007e002c4c000d6973506466456d62656464656471007e002c4c000f6973537472696b655468726f75676871007e002c4c000c69735374796c65645465787471007e002c4c000b6973556e6465726c696e6571007e002c4c00076c696e65426f7871007e002d4c00076c696e6550656e71007e04514c000b6c696e6553706163696e6771007e00164c00106c696e6553706163696e6756616c756571007e002e4c00066d61726b757071007e00024c00046d6f646571007e00164c00096d6f646556616c756571007e00364c00046e616d6571007e00024c000970617261677261706871007e002f4c000b706172656e745374796c6571007e00074c0018706172656e745374796c654e616d655265666572656e636571007e00024c00077061747465726e71007e00024c000b706466456e636f64696e6771007e00024c000b706466466f6e744e616d6571007e00024c000c706f736974696f6e5479706571007e00164c000672616469757371007e00284c0008726f746174696f6e71007e00164c000d726f746174696f6e56616c756571007e00304c000a7363616c65496d61676571007e00164c000f7363616c65496d61676556616c756571007e044d4c000b737472657463685479706571007e00164c0011766572746963616c416c69676e6d656e7471007e00164c0016766572746963616c416c69676e6d656e7456616c756571007e00314c0012766572746963616c496d616765416c69676e71007e044e4c0011766572746963616c54657874416c69676e71007e003278700000ea62007371007e005a00000000ffffffff7070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e04e571007e04e571007e04e3707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e04e571007e04e5707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e04e571007e04e5707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e04e571007e04e5707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e04e571007e04e57371007e00560000ea627070707071007e04e37070707071007e03cd7400085461626c655f54447371007e00737070707071007e04e37070707070707070707070707070707070707070707078737200316e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a52426173654461746173657452756e00000000000027d80200084c0014636f6e6e656374696f6e45787072657373696f6e71007e00134c001464617461536f7572636545787072657373696f6e71007e00134c000b646174617365744e616d6571007e00025b000a706172616d65746572737400315b4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f4a5244617461736574506172616d657465723b4c0017706172616d65746572734d617045787072657373696f6e71007e00134c000d70726f706572746965734d617071007e00144c000c72657475726e56616c75657371007e00154c00047575696471007e003b78707371007e01a4000000117571007e01a8000000017371007e01aa027400115245504f52545f434f4e4e454354494f4e7070707074000d5265706f7274696e67526174657572003a5b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736544617461736574506172616d657465723b2413b76c659575a5020000787000000004737200376e65742e73662e6a61737065727265706f7274732e656e67696e652e626173652e4a524261736544617461736574506172616d6574657200000000000027d80200024c000a65787072657373696f6e71007e00134c00046e616d6571007e000278707371007e01a4000000127571007e01a8000000017371007e01aa017400023230707070740007447565446179737371007e05027371007e01a4000000137571007e01a8000000017371007e01aa0274000e67656f677261706869635a6f6e6570707074000e47656f677261706869635a6f6e657371007e05027371007e01a4000000147571007e01a8000000017371007e01aa02740006706572696f64707070740006506572696f647371007e05027371007e01a4000000157571007e01a8000000017371007e01aa0274000770726f6772616d70707074000750726f6772616d7070707371007e004ba1373b1412e4e0fb215712f728ed451c70737200326e65742e73662e6a61737065727265706f7274732e656e67696e652e636f6d706f6e656e742e436f6d706f6e656e744b657900000000000027d80200034c00046e616d6571007e00024c00096e616d65737061636571007e00024c000f6e616d65737061636550726566697871007e000278707400057461626c6574003d687474703a2f2f6a61737065727265706f7274732e736f75726365666f7267652e6e65742f6a61737065727265706f7274732f636f6d706f6e656e74737400026a7278700000ea620000008201707371007e0040707371007e001b00000001770400000001740021636f6d2e6a6173706572736f66742e73747564696f2e756e69742e686569676874787371007e00453f400000000000037708000000040000000171007e0523740005706978656c78707071007e001f7e72002f6e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5072696e744f72646572456e756d00000000000000001200007871007e001e740008564552544943414c7e7200306e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e53656374696f6e54797065456e756d00000000000000001200007871007e001e74000442414e44757200265b4c6e65742e73662e6a61737065727265706f7274732e656e67696e652e4a525374796c653bd49cc311d90572350200007870000000077371007e04e10000ea62007371007e005a00000000fff0f8ff7070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e053071007e053071007e052e707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e053071007e0530707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e053071007e0530707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e053071007e0530707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e053071007e05307371007e00560000ea627070707071007e052e7070707071007e03cd74000b43726f73737461625f43487371007e00737070707071007e052e7070707070707070707070707070707070707070707371007e04e10000ea62007371007e005a00000000ffbfe1ff7070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e054571007e054571007e0543707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e054571007e0545707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e054571007e0545707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e054571007e0545707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e054571007e05457371007e00560000ea627070707071007e05437070707071007e03cd74000b43726f73737461625f43477371007e00737070707071007e05437070707070707070707070707070707070707070707371007e04e10000ea62007371007e005a00000000ff005fb37070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e055a71007e055a71007e0558707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e055a71007e055a707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e055a71007e055a707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e055a71007e055a707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e055a71007e055a7371007e00560000ea627070707071007e05587070707071007e03cd74000b43726f73737461625f43547371007e00737070707071007e05587070707070707070707070707070707070707070707371007e04e10000ea62007371007e005a00000000ffffffff7070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e056f71007e056f71007e056d707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e056f71007e056f707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e056f71007e056f707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e056f71007e056f707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e056f71007e056f7371007e00560000ea627070707071007e056d7070707071007e03cd74000b43726f73737461625f43447371007e00737070707071007e056d7070707070707070707070707070707070707070707371007e04e10000ea62007371007e005a00000000fff0f8ff7070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e058471007e058471007e0582707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e058471007e0584707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e058471007e0584707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e058471007e0584707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e058471007e05847371007e00560000ea627070707071007e05827070707071007e03cd7400085461626c655f54487371007e00737070707071007e05827070707070707070707070707070707070707070707371007e04e10000ea62007371007e005a00000000ffbfe1ff7070707071007e001170707070707070707070707070707070707371007e0050707371007e00540000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e059971007e059971007e0597707371007e00640000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e059971007e0599707371007e00550000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e059971007e0599707371007e00690000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e059971007e0599707371007e006f0000ea627371007e005a00000000ff00000070707070707371007e00613f00000071007e059971007e05997371007e00560000ea627070707071007e05977070707071007e03cd7400085461626c655f43487371007e00737070707071007e059770707070707070707070707070707070707070707071007e04e37070707e7200336e65742e73662e6a61737065727265706f7274732e656e67696e652e747970652e5768656e4e6f4461746154797065456e756d00000000000000001200007871007e001e740016414c4c5f53454354494f4e535f4e4f5f44455441494c737200366e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a525265706f7274436f6d70696c654461746100000000000027d80200034c001363726f7373746162436f6d70696c654461746171007e00414c001264617461736574436f6d70696c654461746171007e00414c00166d61696e44617461736574436f6d70696c654461746171007e000178707371007e00453f4000000000000077080000001000000000787371007e00453f4000000000000c7708000000100000000171007e00e5757200025b42acf317f8060854e002000078700000172bcafebabe00000034010c07000201003173746f636b5f6f75745f726174655f5265706f7274696e67526174655f313739323430373035333432345f38363135363107000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001b706172616d657465725f5245504f52545f434f4e4e454354494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b010010706172616d657465725f46494c544552010011706172616d657465725f50726f6772616d010017706172616d657465725f4a41535045525f5245504f5254010017706172616d657465725f5245504f52545f4c4f43414c4501001a706172616d657465725f5245504f52545f54494d455f5a4f4e45010010706172616d657465725f506572696f6401001a706172616d657465725f5245504f52545f54454d504c4154455301001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c4554010020706172616d657465725f4a41535045525f5245504f5254535f434f4e54455854010018706172616d657465725f47656f677261706869635a6f6e6501001f706172616d657465725f5245504f52545f464f524d41545f464143544f5259010011706172616d657465725f4475654461797301001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f41444552010015706172616d657465725f534f52545f4649454c445301000c6669656c645f6f6e74696d6501002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b01000b6669656c645f746f74616c01000c6669656c645f6d69737365640100106669656c645f706572696f646e616d6501000f6669656c645f636f6d706c657465640100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e5401001f7661726961626c655f50657263656e74416e644e756d626572466f726d61740100063c696e69743e010003282956010004436f64650a0003002d0c0029002a090001002f0c0005000609000100310c0007000609000100330c0008000609000100350c0009000609000100370c000a000609000100390c000b0006090001003b0c000c0006090001003d0c000d0006090001003f0c000e000609000100410c000f000609000100430c0010000609000100450c0011000609000100470c0012000609000100490c00130006090001004b0c00140006090001004d0c00150006090001004f0c0016000609000100510c0017000609000100530c0018000609000100550c0019000609000100570c001a001b09000100590c001c001b090001005b0c001d001b090001005d0c001e001b090001005f0c001f001b09000100610c0020002109000100630c0022002109000100650c0023002109000100670c0024002109000100690c00250021090001006b0c00260021090001006d0c00270021090001006f0c0028002101000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a000100740c0075007601000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100780c0079007601000a696e69744669656c64730a0001007b0c007c0076010008696e69745661727308007e0100115245504f52545f434f4e4e454354494f4e0b0080008207008101000d6a6176612f7574696c2f4d61700c00830084010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b0700860100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208008801000646494c54455208008a01000750726f6772616d08008c01000d4a41535045525f5245504f525408008e01000d5245504f52545f4c4f43414c450800900100105245504f52545f54494d455f5a4f4e45080092010006506572696f640800940100105245504f52545f54454d504c415445530800960100105245504f52545f4d41585f434f554e540800980100105245504f52545f5343524950544c455408009a0100164a41535045525f5245504f5254535f434f4e5445585408009c01000e47656f677261706869635a6f6e6508009e0100155245504f52545f464f524d41545f464143544f52590800a0010007447565446179730800a20100155245504f52545f504152414d45544552535f4d41500800a40100165245504f52545f5245534f555243455f42554e444c450800a60100125245504f52545f444154415f534f555243450800a801000e5245504f52545f434f4e544558540800aa0100135245504f52545f434c4153535f4c4f414445520800ac01000b534f52545f4649454c44530800ae0100066f6e74696d650700b001002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c640800b2010005746f74616c0800b40100066d69737365640800b601000a706572696f646e616d650800b8010009636f6d706c657465640800ba01000b504147455f4e554d4245520700bc01002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800be0100134d41535445525f43555252454e545f504147450800c00100124d41535445525f544f54414c5f50414745530800c201000d434f4c554d4e5f4e554d4245520800c401000c5245504f52545f434f554e540800c601000a504147455f434f554e540800c801000c434f4c554d4e5f434f554e540800ca01001650657263656e74416e644e756d626572466f726d61740100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700cf0100136a6176612f6c616e672f5468726f7761626c650700d10100116a6176612f6c616e672f496e74656765720a00d000d30c002900d4010004284929560800d60100082531242e306625250800d8010006252e306625250700da0100176a6176612f6c616e672f537472696e674275696c6465720800dc0100105265706f7274696e6720726174653a200a00d900de0c002900df010015284c6a6176612f6c616e672f537472696e673b29560a00bb00e10c00e200e301000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0700e50100106a6176612f6c616e672f537472696e670700e70100106a6176612f6c616e672f4f626a6563740a00af00e10a00d000ea0c00eb00ec010008696e7456616c75650100032829490640590000000000000a00f000f20700f10100106a6176612f6c616e672f446f75626c650c00f300f401000776616c75654f660100152844294c6a6176612f6c616e672f446f75626c653b0a00e400f60c00f700f8010006666f726d6174010039284c6a6176612f6c616e672f537472696e673b5b4c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0a00d900fa0c00fb00fc010006617070656e6401002d284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e674275696c6465723b0a00d900fe0c00ff0100010008746f537472696e6701001428294c6a6176612f6c616e672f537472696e673b01000d537461636b4d61705461626c6501000b6576616c756174654f6c640a00bb01040c010500e301000b6765744f6c6456616c75650a00af01040100116576616c75617465457374696d617465640a00bb01090c010a00e3010011676574457374696d6174656456616c756501000a536f7572636546696c650021000100030000002100020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a001b00000002001c001b00000002001d001b00000002001e001b00000002001f001b000000020020002100000002002200210000000200230021000000020024002100000002002500210000000200260021000000020027002100000002002800210000000800010029002a0001002b0000014a00020001000000aa2ab7002c2a01b5002e2a01b500302a01b500322a01b500342a01b500362a01b500382a01b5003a2a01b5003c2a01b5003e2a01b500402a01b500422a01b500442a01b500462a01b500482a01b5004a2a01b5004c2a01b5004e2a01b500502a01b500522a01b500542a01b500562a01b500582a01b5005a2a01b5005c2a01b5005e2a01b500602a01b500622a01b500642a01b500662a01b500682a01b5006a2a01b5006c2a01b5006eb10000000100700000008e002300000012000400190009001a000e001b0013001c0018001d001d001e0022001f00270020002c00210031002200360023003b00240040002500450026004a0027004f0028005400290059002a005e002b0063002c0068002d006d002e0072002f00770030007c00310081003200860033008b00340090003500950036009a0037009f003800a4003900a900120001007100720001002b0000003400020004000000102a2bb700732a2cb700772a2db7007ab10000000100700000001200040000004500050046000a0047000f00480002007500760001002b00000195000300020000012d2a2b127db9007f0200c00085b5002e2a2b1287b9007f0200c00085b500302a2b1289b9007f0200c00085b500322a2b128bb9007f0200c00085b500342a2b128db9007f0200c00085b500362a2b128fb9007f0200c00085b500382a2b1291b9007f0200c00085b5003a2a2b1293b9007f0200c00085b5003c2a2b1295b9007f0200c00085b5003e2a2b1297b9007f0200c00085b500402a2b1299b9007f0200c00085b500422a2b129bb9007f0200c00085b500442a2b129db9007f0200c00085b500462a2b129fb9007f0200c00085b500482a2b12a1b9007f0200c00085b5004a2a2b12a3b9007f0200c00085b5004c2a2b12a5b9007f0200c00085b5004e2a2b12a7b9007f0200c00085b500502a2b12a9b9007f0200c00085b500522a2b12abb9007f0200c00085b50054b100000001007000000056001500000050000f0051001e0052002d0053003c0054004b0055005a00560069005700780058008700590096005a00a5005b00b4005c00c3005d00d2005e00e1005f00f0006000ff0061010e0062011d0063012c00640002007900760001002b00000078000300020000004c2a2b12adb9007f0200c000afb500562a2b12b1b9007f0200c000afb500582a2b12b3b9007f0200c000afb5005a2a2b12b5b9007f0200c000afb5005c2a2b12b7b9007f0200c000afb5005eb10000000100700000001a00060000006c000f006d001e006e002d006f003c0070004b00710002007c00760001002b000000b100030002000000792a2b12b9b9007f0200c000bbb500602a2b12bdb9007f0200c000bbb500622a2b12bfb9007f0200c000bbb500642a2b12c1b9007f0200c000bbb500662a2b12c3b9007f0200c000bbb500682a2b12c5b9007f0200c000bbb5006a2a2b12c7b9007f0200c000bbb5006c2a2b12c9b9007f0200c000bbb5006eb100000001007000000026000900000079000f007a001e007b002d007c003c007d004b007e005a007f0069008000780081000100cb00cc000200cd00000004000100ce002b0000018100090003000000f2014d1baa000000ed000000000000000a0000003900000045000000510000005d0000006900000075000000810000008d000000990000009f000000a5bb00d05904b700d24da700abbb00d05904b700d24da7009fbb00d05904b700d24da70093bb00d05903b700d24da70087bb00d05904b700d24da7007bbb00d05903b700d24da7006fbb00d05904b700d24da70063bb00d05903b700d24da7005712d54da7005112d74da7004bbb00d95912dbb700dd2ab4006eb600e0c000e404bd00e659032ab4005eb600e8c000d0b600e9872ab40058b600e8c000d0b600e9876f1400ed6bb800ef53b800f5b600f9b600fd4d2cb0000000020070000000620018000000890002008b003c008f00450090004800940051009500540099005d009a0060009e0069009f006c00a3007500a4007800a8008100a9008400ad008d00ae009000b2009900b3009c00b7009f00b800a200bc00a500bd00a800c100f000c9010100000015000cfc003c0700e60b0b0b0b0b0b0b0b0505fb00470001010200cc000200cd00000004000100ce002b0000018100090003000000f2014d1baa000000ed000000000000000a0000003900000045000000510000005d0000006900000075000000810000008d000000990000009f000000a5bb00d05904b700d24da700abbb00d05904b700d24da7009fbb00d05904b700d24da70093bb00d05903b700d24da70087bb00d05904b700d24da7007bbb00d05903b700d24da7006fbb00d05904b700d24da70063bb00d05903b700d24da7005712d54da7005112d74da7004bbb00d95912dbb700dd2ab4006eb60103c000e404bd00e659032ab4005eb60106c000d0b600e9872ab40058b60106c000d0b600e9876f1400ed6bb800ef53b800f5b600f9b600fd4d2cb0000000020070000000620018000000d2000200d4003c00d8004500d9004800dd005100de005400e2005d00e3006000e7006900e8006c00ec007500ed007800f1008100f2008400f6008d00f7009000fb009900fc009c0100009f010100a2010500a5010600a8010a00f00112010100000015000cfc003c0700e60b0b0b0b0b0b0b0b0505fb00470001010700cc000200cd00000004000100ce002b0000018100090003000000f2014d1baa000000ed000000000000000a0000003900000045000000510000005d0000006900000075000000810000008d000000990000009f000000a5bb00d05904b700d24da700abbb00d05904b700d24da7009fbb00d05904b700d24da70093bb00d05903b700d24da70087bb00d05904b700d24da7007bbb00d05903b700d24da7006fbb00d05904b700d24da70063bb00d05903b700d24da7005712d54da7005112d74da7004bbb00d95912dbb700dd2ab4006eb60108c000e404bd00e659032ab4005eb600e8c000d0b600e9872ab40058b600e8c000d0b600e9876f1400ed6bb800ef53b800f5b600f9b600fd4d2cb00000000200700000006200180000011b0002011d003c01210045012200480126005101270054012b005d012c0060013000690131006c0135007501360078013a0081013b0084013f008d01400090014400990145009c0149009f014a00a2014e00a5014f00a8015300f0015b010100000015000cfc003c0700e60b0b0b0b0b0b0b0b0505fb00470001010b000000020002787571007e05b3000021f3cafebabe00000034014707000201002373746f636b5f6f75745f726174655f313739323430373035333432345f38363135363107000401002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a524576616c7561746f7201001b706172616d657465725f5245504f52545f434f4e4e454354494f4e0100324c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d657465723b010019706172616d657465725f696d616765734469726563746f7279010017706172616d657465725f4a41535045525f5245504f525401001a706172616d657465725f5245504f52545f54494d455f5a4f4e4501001a706172616d657465725f5245504f52545f54454d504c41544553010011706172616d657465725f70726f6772616d01001a706172616d657465725f5245504f52545f4d41585f434f554e5401001a706172616d657465725f5245504f52545f5343524950544c455401001f706172616d657465725f5245504f52545f504152414d45544552535f4d4150010020706172616d657465725f5245504f52545f5245534f555243455f42554e444c4501001c706172616d657465725f5245504f52545f444154415f534f55524345010015706172616d657465725f534f52545f4649454c445301001e706172616d657465725f49535f49474e4f52455f504147494e4154494f4e010010706172616d657465725f706572696f64010011706172616d657465725f70726f64756374010010706172616d657465725f46494c544552010017706172616d657465725f5245504f52545f4c4f43414c45010012706172616d657465725f74696d655a6f6e6501001b706172616d657465725f4f5241434c455f5245465f435552534f52010020706172616d657465725f4a41535045525f5245504f5254535f434f4e54455854010018706172616d657465725f67656f677261706869635a6f6e6501001f706172616d657465725f5245504f52545f464f524d41545f464143544f5259010018706172616d657465725f5245504f52545f434f4e5445585401001d706172616d657465725f5245504f52545f434c4153535f4c4f4144455201001c706172616d657465725f5245504f52545f5649525455414c495a455201000a6669656c645f7261746501002e4c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c643b0100106669656c645f73746f636b65644f757401000e6669656c645f7265706f727465640100116669656c645f70726f647563744e616d650100147661726961626c655f504147455f4e554d4245520100314c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c653b01001c7661726961626c655f4d41535445525f43555252454e545f5041474501001b7661726961626c655f4d41535445525f544f54414c5f50414745530100167661726961626c655f434f4c554d4e5f4e554d4245520100157661726961626c655f5245504f52545f434f554e540100137661726961626c655f504147455f434f554e540100157661726961626c655f434f4c554d4e5f434f554e540100157661726961626c655f47726f7570315f434f554e540100063c696e69743e010003282956010004436f64650a000300310c002d002e09000100330c0005000609000100350c0007000609000100370c0008000609000100390c00090006090001003b0c000a0006090001003d0c000b0006090001003f0c000c000609000100410c000d000609000100430c000e000609000100450c000f000609000100470c0010000609000100490c00110006090001004b0c00120006090001004d0c00130006090001004f0c0014000609000100510c0015000609000100530c0016000609000100550c0017000609000100570c0018000609000100590c00190006090001005b0c001a0006090001005d0c001b0006090001005f0c001c000609000100610c001d000609000100630c001e000609000100650c001f002009000100670c0021002009000100690c00220020090001006b0c00230020090001006d0c00240025090001006f0c0026002509000100710c0027002509000100730c0028002509000100750c0029002509000100770c002a002509000100790c002b0025090001007b0c002c002501000f4c696e654e756d6265725461626c6501000e637573746f6d697a6564496e6974010030284c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b4c6a6176612f7574696c2f4d61703b29560a000100800c0081008201000a696e6974506172616d73010012284c6a6176612f7574696c2f4d61703b29560a000100840c0085008201000a696e69744669656c64730a000100870c00880082010008696e69745661727308008a0100115245504f52545f434f4e4e454354494f4e0b008c008e07008d01000d6a6176612f7574696c2f4d61700c008f0090010003676574010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f4f626a6563743b0700920100306e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c506172616d6574657208009401000f696d616765734469726563746f727908009601000d4a41535045525f5245504f52540800980100105245504f52545f54494d455f5a4f4e4508009a0100105245504f52545f54454d504c4154455308009c01000770726f6772616d08009e0100105245504f52545f4d41585f434f554e540800a00100105245504f52545f5343524950544c45540800a20100155245504f52545f504152414d45544552535f4d41500800a40100165245504f52545f5245534f555243455f42554e444c450800a60100125245504f52545f444154415f534f555243450800a801000b534f52545f4649454c44530800aa01001449535f49474e4f52455f504147494e4154494f4e0800ac010006706572696f640800ae01000770726f647563740800b001000646494c5445520800b201000d5245504f52545f4c4f43414c450800b401000874696d655a6f6e650800b60100114f5241434c455f5245465f435552534f520800b80100164a41535045525f5245504f5254535f434f4e544558540800ba01000e67656f677261706869635a6f6e650800bc0100155245504f52545f464f524d41545f464143544f52590800be01000e5245504f52545f434f4e544558540800c00100135245504f52545f434c4153535f4c4f414445520800c20100125245504f52545f5649525455414c495a45520800c4010004726174650700c601002c6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c4669656c640800c801000a73746f636b65644f75740800ca0100087265706f727465640800cc01000b70726f647563744e616d650800ce01000b504147455f4e554d4245520700d001002f6e65742f73662f6a61737065727265706f7274732f656e67696e652f66696c6c2f4a5246696c6c5661726961626c650800d20100134d41535445525f43555252454e545f504147450800d40100124d41535445525f544f54414c5f50414745530800d601000d434f4c554d4e5f4e554d4245520800d801000c5245504f52545f434f554e540800da01000a504147455f434f554e540800dc01000c434f4c554d4e5f434f554e540800de01000c47726f7570315f434f554e540100086576616c756174650100152849294c6a6176612f6c616e672f4f626a6563743b01000a457863657074696f6e730700e30100136a6176612f6c616e672f5468726f7761626c650700e50100116a6176612f6c616e672f496e74656765720a00e400e70c002d00e8010004284929560a009100ea0c00eb00ec01000867657456616c756501001428294c6a6176612f6c616e672f4f626a6563743b0700ee0100106a6176612f6c616e672f537472696e670800f001000c64202d204d4d4d202d2079790a00f200f40700f30100226a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465720c00f500f60100096f665061747465726e010038284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f666f726d61742f4461746554696d65466f726d61747465723b0a00f800fa0700f90100106a6176612f74696d652f5a6f6e6549640c00fb00fc0100026f66010026284c6a6176612f6c616e672f537472696e673b294c6a6176612f74696d652f5a6f6e6549643b0a00fe01000700ff0100176a6176612f74696d652f5a6f6e65644461746554696d650c010101020100036e6f7701002d284c6a6176612f74696d652f5a6f6e6549643b294c6a6176612f74696d652f5a6f6e65644461746554696d653b0a00f201040c01050106010006666f726d6174010039284c6a6176612f74696d652f74656d706f72616c2f54656d706f72616c4163636573736f723b294c6a6176612f6c616e672f537472696e673b080108010003416c6c07010a0100176a6176612f6c616e672f537472696e674275696c64657208010c010004206f66200a0109010e0c002d010f010015284c6a6176612f6c616e672f537472696e673b29560a00cf00ea0a010901120c01130114010006617070656e6401002d284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e674275696c6465723b0a010901160c01170118010008746f537472696e6701001428294c6a6176612f6c616e672f537472696e673b08011a01000550616765200a011c011e07011d0100106a6176612f6c616e672f4f626a6563740c011f0120010008676574436c61737301001328294c6a6176612f6c616e672f436c6173733b0a00ed01220c0123012401000776616c75654f66010026284c6a6176612f6c616e672f4f626a6563743b294c6a6176612f6c616e672f537472696e673b0801260100106d616c6177695f63726573742e706e670a010901280c0113012901002d284c6a6176612f6c616e672f537472696e673b294c6a6176612f6c616e672f537472696e674275696c6465723b0a012b012d07012c01000f6a6176612f6c616e672f436c6173730c012e012f0100136765745265736f75726365417353747265616d010029284c6a6176612f6c616e672f537472696e673b294c6a6176612f696f2f496e70757453747265616d3b0701310100136a6176612f73716c2f436f6e6e656374696f6e0a00e401330c012301340100162849294c6a6176612f6c616e672f496e74656765723b0a00c500ea0701370100106a6176612f6c616e672f446f75626c65080139010006506167653a2008013b010118506c65617365206e6f74652074686174207468652073746f636b206f7574207261746573207265666c65637465642068657265206d617920706f74656e7469616c6c7920766172792066726f6d207468617420646973706c6179656420696e2070726576696f75736c792063697263756c61746564204c4d4953207265706f7274733b20746869732069732062656361757365204f70656e4c4d495320616c6c6f777320666163696c697469657320746f207265706f7274206576656e206265796f6e642074686520646561646c696e65206f6620746865206c61737420646179206f6620746865206d6f6e74682c20612074696d65207468617420746865204c4d4953207265706f72742069732067656e65726174656401000d537461636b4d61705461626c6501000b6576616c756174654f6c640a00cf013f0c014000ec01000b6765744f6c6456616c75650a00c5013f0100116576616c75617465457374696d617465640a00cf01440c014500ec010011676574457374696d6174656456616c756501000a536f7572636546696c650021000100030000002500020005000600000002000700060000000200080006000000020009000600000002000a000600000002000b000600000002000c000600000002000d000600000002000e000600000002000f0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019000600000002001a000600000002001b000600000002001c000600000002001d000600000002001e000600000002001f00200000000200210020000000020022002000000002002300200000000200240025000000020026002500000002002700250000000200280025000000020029002500000002002a002500000002002b002500000002002c0025000000080001002d002e0001002f0000016e00020001000000be2ab700302a01b500322a01b500342a01b500362a01b500382a01b5003a2a01b5003c2a01b5003e2a01b500402a01b500422a01b500442a01b500462a01b500482a01b5004a2a01b5004c2a01b5004e2a01b500502a01b500522a01b500542a01b500562a01b500582a01b5005a2a01b5005c2a01b5005e2a01b500602a01b500622a01b500642a01b500662a01b500682a01b5006a2a01b5006c2a01b5006e2a01b500702a01b500722a01b500742a01b500762a01b500782a01b5007ab100000001007c0000009e002700000012000400190009001a000e001b0013001c0018001d001d001e0022001f00270020002c00210031002200360023003b00240040002500450026004a0027004f0028005400290059002a005e002b0063002c0068002d006d002e0072002f00770030007c00310081003200860033008b00340090003500950036009a0037009f003800a4003900a9003a00ae003b00b3003c00b8003d00bd00120001007d007e0001002f0000003400020004000000102a2bb7007f2a2cb700832a2db70086b100000001007c000000120004000000490005004a000a004b000f004c0002008100820001002f000001f400030002000001782a2b1289b9008b0200c00091b500322a2b1293b9008b0200c00091b500342a2b1295b9008b0200c00091b500362a2b1297b9008b0200c00091b500382a2b1299b9008b0200c00091b5003a2a2b129bb9008b0200c00091b5003c2a2b129db9008b0200c00091b5003e2a2b129fb9008b0200c00091b500402a2b12a1b9008b0200c00091b500422a2b12a3b9008b0200c00091b500442a2b12a5b9008b0200c00091b500462a2b12a7b9008b0200c00091b500482a2b12a9b9008b0200c00091b5004a2a2b12abb9008b0200c00091b5004c2a2b12adb9008b0200c00091b5004e2a2b12afb9008b0200c00091b500502a2b12b1b9008b0200c00091b500522a2b12b3b9008b0200c00091b500542a2b12b5b9008b0200c00091b500562a2b12b7b9008b0200c00091b500582a2b12b9b9008b0200c00091b5005a2a2b12bbb9008b0200c00091b5005c2a2b12bdb9008b0200c00091b5005e2a2b12bfb9008b0200c00091b500602a2b12c1b9008b0200c00091b50062b100000001007c0000006a001a00000054000f0055001e0056002d0057003c0058004b0059005a005a0069005b0078005c0087005d0096005e00a5005f00b4006000c3006100d2006200e1006300f0006400ff0065010e0066011d0067012c0068013b0069014a006a0159006b0168006c0177006d0002008500820001002f00000065000300020000003d2a2b12c3b9008b0200c000c5b500642a2b12c7b9008b0200c000c5b500662a2b12c9b9008b0200c000c5b500682a2b12cbb9008b0200c000c5b5006ab100000001007c00000016000500000075000f0076001e0077002d0078003c00790002008800820001002f000000b100030002000000792a2b12cdb9008b0200c000cfb5006c2a2b12d1b9008b0200c000cfb5006e2a2b12d3b9008b0200c000cfb500702a2b12d5b9008b0200c000cfb500722a2b12d7b9008b0200c000cfb500742a2b12d9b9008b0200c000cfb500762a2b12dbb9008b0200c000cfb500782a2b12ddb9008b0200c000cfb5007ab100000001007c00000026000900000081000f0082001e0083002d0084003c0085004b0086005a00870069008800780089000100df00e0000200e100000004000100e2002f0000037d0004000300000252014d1baa0000024d000000000000001b0000007d0000008900000095000000a1000000ad000000b9000000c5000000d1000000dd000000e9000000f5000001030000011f0000012d0000014e0000016c0000018a000001b2000001c0000001c9000001d7000001e5000001f3000002010000020f0000021d0000022b00000249bb00e45904b700e64da701c7bb00e45904b700e64da701bbbb00e45904b700e64da701afbb00e45903b700e64da701a3bb00e45904b700e64da70197bb00e45903b700e64da7018bbb00e45904b700e64da7017fbb00e45903b700e64da70173bb00e45904b700e64da70167bb00e45903b700e64da7015b2ab4004cb600e9c000ed4da7014d12efb800f12ab40054b600e9c000edb800f7b800fdb601034da701312ab4003cb600e9c000ed4da701232ab4005ab600e9c000edc70009130107a7000d2ab4005ab600e9c000ed4da70102bb01095913010bb7010d2ab4006cb60110c000e4b60111b601154da700e4bb010959130119b7010d2ab4006cb60110c000e4b60111b601154da700c62ab6011bbb0109592ab40034b600e9c000edb80121b7010d130125b60127b60115b6012a4da7009e2ab40032b600e9c001304da700901014b801324da700872ab4005ab600e9c000ed4da700792ab4004cb600e9c000ed4da7006b2ab4003cb600e9c000ed4da7005d2ab40068b60135c000e44da7004f2ab4006ab60135c000ed4da700412ab40064b60135c001364da700332ab40066b60135c000e44da70025bb010959130138b7010d2ab4006cb60110c000e4b60111b601154da7000713013a4d2cb000000002007c000000ea003a00000091000200930080009700890098008c009c0095009d009800a100a100a200a400a600ad00a700b000ab00b900ac00bc00b000c500b100c800b500d100b600d400ba00dd00bb00e000bf00e900c000ec00c400f500c500f800c9010300ca010600ce011f00cf012200d3012d00d4013000d8014e00d9015100dd016c00de016f00e2018a00e3018d00e701b200e801b500ec01c000ed01c300f101c900f201cc00f601d700f701da00fb01e500fc01e8010001f3010101f60105020101060204010a020f010b0212010f021d011002200114022b0115022e01190249011a024c011e02500126013c00000029001ffc008007011c0b0b0b0b0b0b0b0b0b0b0d1b0d124907011c031d1d270d080d0d0d0d0d0d0d1d030001013d00e0000200e100000004000100e2002f0000037d0004000300000252014d1baa0000024d000000000000001b0000007d0000008900000095000000a1000000ad000000b9000000c5000000d1000000dd000000e9000000f5000001030000011f0000012d0000014e0000016c0000018a000001b2000001c0000001c9000001d7000001e5000001f3000002010000020f0000021d0000022b00000249bb00e45904b700e64da701c7bb00e45904b700e64da701bbbb00e45904b700e64da701afbb00e45903b700e64da701a3bb00e45904b700e64da70197bb00e45903b700e64da7018bbb00e45904b700e64da7017fbb00e45903b700e64da70173bb00e45904b700e64da70167bb00e45903b700e64da7015b2ab4004cb600e9c000ed4da7014d12efb800f12ab40054b600e9c000edb800f7b800fdb601034da701312ab4003cb600e9c000ed4da701232ab4005ab600e9c000edc70009130107a7000d2ab4005ab600e9c000ed4da70102bb01095913010bb7010d2ab4006cb6013ec000e4b60111b601154da700e4bb010959130119b7010d2ab4006cb6013ec000e4b60111b601154da700c62ab6011bbb0109592ab40034b600e9c000edb80121b7010d130125b60127b60115b6012a4da7009e2ab40032b600e9c001304da700901014b801324da700872ab4005ab600e9c000ed4da700792ab4004cb600e9c000ed4da7006b2ab4003cb600e9c000ed4da7005d2ab40068b60141c000e44da7004f2ab4006ab60141c000ed4da700412ab40064b60141c001364da700332ab40066b60141c000e44da70025bb010959130138b7010d2ab4006cb6013ec000e4b60111b601154da7000713013a4d2cb000000002007c000000ea003a0000012f000201310080013500890136008c013a0095013b0098013f00a1014000a4014400ad014500b0014900b9014a00bc014e00c5014f00c8015300d1015400d4015800dd015900e0015d00e9015e00ec016200f5016300f80167010301680106016c011f016d01220171012d017201300176014e01770151017b016c017c016f0180018a0181018d018501b2018601b5018a01c0018b01c3018f01c9019001cc019401d7019501da019901e5019a01e8019e01f3019f01f601a3020101a4020401a8020f01a9021201ad021d01ae022001b2022b01b3022e01b7024901b8024c01bc025001c4013c00000029001ffc008007011c0b0b0b0b0b0b0b0b0b0b0d1b0d124907011c031d1d270d080d0d0d0d0d0d0d1d030001014200e0000200e100000004000100e2002f0000037d0004000300000252014d1baa0000024d000000000000001b0000007d0000008900000095000000a1000000ad000000b9000000c5000000d1000000dd000000e9000000f5000001030000011f0000012d0000014e0000016c0000018a000001b2000001c0000001c9000001d7000001e5000001f3000002010000020f0000021d0000022b00000249bb00e45904b700e64da701c7bb00e45904b700e64da701bbbb00e45904b700e64da701afbb00e45903b700e64da701a3bb00e45904b700e64da70197bb00e45903b700e64da7018bbb00e45904b700e64da7017fbb00e45903b700e64da70173bb00e45904b700e64da70167bb00e45903b700e64da7015b2ab4004cb600e9c000ed4da7014d12efb800f12ab40054b600e9c000edb800f7b800fdb601034da701312ab4003cb600e9c000ed4da701232ab4005ab600e9c000edc70009130107a7000d2ab4005ab600e9c000ed4da70102bb01095913010bb7010d2ab4006cb60143c000e4b60111b601154da700e4bb010959130119b7010d2ab4006cb60143c000e4b60111b601154da700c62ab6011bbb0109592ab40034b600e9c000edb80121b7010d130125b60127b60115b6012a4da7009e2ab40032b600e9c001304da700901014b801324da700872ab4005ab600e9c000ed4da700792ab4004cb600e9c000ed4da7006b2ab4003cb600e9c000ed4da7005d2ab40068b60135c000e44da7004f2ab4006ab60135c000ed4da700412ab40064b60135c001364da700332ab40066b60135c000e44da70025bb010959130138b7010d2ab4006cb60143c000e4b60111b601154da7000713013a4d2cb000000002007c000000ea003a000001cd000201cf008001d3008901d4008c01d8009501d9009801dd00a101de00a401e200ad01e300b001e700b901e800bc01ec00c501ed00c801f100d101f200d401f600dd01f700e001fb00e901fc00ec020000f5020100f80205010302060106020a011f020b0122020f012d021001300214014e021501510219016c021a016f021e018a021f018d022301b2022401b5022801c0022901c3022d01c9022e01cc023201d7023301da023701e5023801e8023c01f3023d01f602410201024202040246020f02470212024b021d024c02200250022b0251022e025502490256024c025a02500262013c00000029001ffc008007011c0b0b0b0b0b0b0b0b0b0b0d1b0d124907011c031d1d270d080d0d0d0d0d0d0d1d03000101460000000200027400155f313739323430373035333432345f3836313536317400326e65742e73662e6a61737065727265706f7274732e656e67696e652e64657369676e2e4a524a61766163436f6d70696c6572'
+WHERE id = '9ecb36c7-bd33-41d4-9d2c-d839ad5417bc';
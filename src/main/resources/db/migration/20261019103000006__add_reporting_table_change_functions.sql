@@ -0,0 +1,148 @@
+-- Last transaction applied from each change data capture slot. It is updated in the same
+-- transaction as the reporting tables, so a transaction replayed from the slot after a restart
+-- can be recognized and skipped.
+CREATE TABLE reports.change_data_capture_checkpoints (
+    slotname text NOT NULL,
+    lsn pg_lsn NOT NULL,
+    committeddate timestamp with time zone NOT NULL,
+    CONSTRAINT change_data_capture_checkpoints_pkey PRIMARY KEY (slotname)
+);
+
+-- Recalculates the latest stock on hand of the given stock cards
+CREATE FUNCTION reports.apply_stock_on_hand_changes(stockcardids uuid[]) RETURNS void AS $$
+BEGIN
+    DELETE FROM reports.stock_on_hand_latest existing
+    USING unnest(stockcardids) AS changed(stockcardid)
+    WHERE existing.stockcardid = changed.stockcardid
+        AND NOT EXISTS (
+            SELECT 1
+            FROM stockmanagement.calculated_stocks_on_hand soh
+            WHERE soh.stockcardid = changed.stockcardid
+        );
+
+    INSERT INTO reports.stock_on_hand_latest (stockcardid, stockonhand, occurreddate)
+    SELECT DISTINCT ON (soh.stockcardid) soh.stockcardid, soh.stockonhand, soh.occurreddate
+    FROM unnest(stockcardids) AS changed(stockcardid)
+    JOIN stockmanagement.calculated_stocks_on_hand soh ON soh.stockcardid = changed.stockcardid
+    ORDER BY soh.stockcardid, soh.occurreddate DESC
+    ON CONFLICT (stockcardid) DO UPDATE
+    SET stockonhand = EXCLUDED.stockonhand,
+        occurreddate = EXCLUDED.occurreddate
+    WHERE reports.stock_on_hand_latest.stockonhand <> EXCLUDED.stockonhand
+        OR reports.stock_on_hand_latest.occurreddate <> EXCLUDED.occurreddate;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Recalculates the submission facts of the given requisitions
+CREATE FUNCTION reports.apply_requisition_status_changes(requisitionids uuid[])
+RETURNS void AS $$
+BEGIN
+    DELETE FROM reports.requisition_timeliness_facts existing
+    USING unnest(requisitionids) AS changed(requisitionid)
+    WHERE existing.requisitionid = changed.requisitionid
+        AND NOT EXISTS (
+            SELECT 1
+            FROM requisition.requisitions requisition
+            WHERE requisition.id = changed.requisitionid
+                AND requisition.emergency = false
+        );
+
+    INSERT INTO reports.requisition_timeliness_facts (requisitionid, facilityid, programid,
+        processingperiodid, submitteddate, authorizeddate)
+    SELECT requisition.id, requisition.facilityid, requisition.programid,
+        requisition.processingperiodid,
+        min(status_change.createddate) FILTER (WHERE status_change.status = 'SUBMITTED'),
+        min(status_change.createddate) FILTER (WHERE status_change.status = 'AUTHORIZED')
+    FROM unnest(requisitionids) AS changed(requisitionid)
+    JOIN requisition.requisitions requisition ON requisition.id = changed.requisitionid
+    JOIN requisition.status_changes status_change ON status_change.requisitionid = requisition.id
+    WHERE requisition.emergency = false
+    GROUP BY requisition.id
+    ON CONFLICT (requisitionid) DO UPDATE
+    SET facilityid = EXCLUDED.facilityid,
+        programid = EXCLUDED.programid,
+        processingperiodid = EXCLUDED.processingperiodid,
+        submitteddate = EXCLUDED.submitteddate,
+        authorizeddate = EXCLUDED.authorizeddate
+    WHERE (reports.requisition_timeliness_facts.facilityid,
+            reports.requisition_timeliness_facts.programid,
+            reports.requisition_timeliness_facts.processingperiodid,
+            reports.requisition_timeliness_facts.submitteddate,
+            reports.requisition_timeliness_facts.authorizeddate)
+        IS DISTINCT FROM (EXCLUDED.facilityid, EXCLUDED.programid, EXCLUDED.processingperiodid,
+            EXCLUDED.submitteddate, EXCLUDED.authorizeddate);
+END;
+$$ LANGUAGE plpgsql;
+
+-- The scheduled refreshes find the changed rows by the watermark and apply them with the same
+-- functions as the change data capture consumer.
+CREATE OR REPLACE FUNCTION reports.refresh_stock_on_hand_latest() RETURNS void AS $$
+DECLARE
+    previous timestamp with time zone;
+    latest timestamp with time zone;
+    changed uuid[];
+BEGIN
+    SELECT watermark INTO previous
+    FROM reports.reporting_table_watermarks
+    WHERE tablename = 'stock_on_hand_latest'
+    FOR UPDATE;
+
+    SELECT array_agg(stockcardid), max(processeddate) INTO changed, latest
+    FROM (
+        SELECT stockcardid, max(processeddate) AS processeddate
+        FROM stockmanagement.stock_card_line_items
+        WHERE previous IS NULL OR processeddate > previous - interval '1 hour'
+        GROUP BY stockcardid
+    ) AS changed_stock_cards;
+
+    IF latest IS NULL THEN
+        RETURN;
+    END IF;
+
+    PERFORM reports.apply_stock_on_hand_changes(changed);
+
+    INSERT INTO reports.reporting_table_watermarks (tablename, watermark)
+    VALUES ('stock_on_hand_latest', latest)
+    ON CONFLICT (tablename) DO UPDATE
+    SET watermark = greatest(reports.reporting_table_watermarks.watermark, EXCLUDED.watermark);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION reports.refresh_requisition_timeliness_facts() RETURNS void AS $$
+DECLARE
+    previous timestamp with time zone;
+    latest timestamp with time zone;
+    changed uuid[];
+BEGIN
+    SELECT watermark INTO previous
+    FROM reports.reporting_table_watermarks
+    WHERE tablename = 'requisition_timeliness_facts'
+    FOR UPDATE;
+
+    DELETE FROM reports.requisition_timeliness_facts existing
+    WHERE NOT EXISTS (
+        SELECT 1
+        FROM requisition.requisitions requisition
+        WHERE requisition.id = existing.requisitionid
+    );
+
+    SELECT array_agg(requisitionid), max(createddate) INTO changed, latest
+    FROM (
+        SELECT requisitionid, max(createddate) AS createddate
+        FROM requisition.status_changes
+        WHERE previous IS NULL OR createddate > previous - interval '1 hour'
+        GROUP BY requisitionid
+    ) AS changed_requisitions;
+
+    IF latest IS NULL THEN
+        RETURN;
+    END IF;
+
+    PERFORM reports.apply_requisition_status_changes(changed);
+
+    INSERT INTO reports.reporting_table_watermarks (tablename, watermark)
+    VALUES ('requisition_timeliness_facts', latest)
+    ON CONFLICT (tablename) DO UPDATE
+    SET watermark = greatest(reports.reporting_table_watermarks.watermark, EXCLUDED.watermark);
+END;
+$$ LANGUAGE plpgsql;
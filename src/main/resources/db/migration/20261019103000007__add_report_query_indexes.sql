@@ -0,0 +1,50 @@
+-- Indexes on the tables of other services, that the report queries and the reporting table
+-- refreshes filter or join by. An index is only created if the table exists and has no index
+-- starting with the same column yet, so the indexes created by the owning services are reused.
+CREATE FUNCTION reports.create_report_index(tablename text, columnname text, indexname text)
+RETURNS void AS $$
+BEGIN
+    IF to_regclass(tablename) IS NULL THEN
+        RETURN;
+    END IF;
+
+    IF EXISTS (
+        SELECT 1
+        FROM pg_index index
+        JOIN pg_attribute attribute ON attribute.attrelid = index.indrelid
+            AND attribute.attnum = index.indkey[0]
+        WHERE index.indrelid = to_regclass(tablename)
+            AND attribute.attname = columnname
+    ) THEN
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE INDEX %I ON %s (%I)', indexname, tablename, columnname);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Line items of requisitions, joined to the requisitions by the stock status reports
+SELECT reports.create_report_index('requisition.requisition_line_items', 'requisitionid',
+    'reports_requisition_line_items_requisitionid_idx');
+
+-- Status changes of requisitions, read by requisition and by the timeliness facts refresh
+SELECT reports.create_report_index('requisition.status_changes', 'requisitionid',
+    'reports_status_changes_requisitionid_idx');
+SELECT reports.create_report_index('requisition.status_changes', 'createddate',
+    'reports_status_changes_createddate_idx');
+
+-- Stock card line items, read by stock card and by the latest stock on hand refresh
+SELECT reports.create_report_index('stockmanagement.stock_card_line_items', 'stockcardid',
+    'reports_stock_card_line_items_stockcardid_idx');
+SELECT reports.create_report_index('stockmanagement.stock_card_line_items', 'processeddate',
+    'reports_stock_card_line_items_processeddate_idx');
+
+-- Stock on hand history, read by stock card
+SELECT reports.create_report_index('stockmanagement.calculated_stocks_on_hand', 'stockcardid',
+    'reports_calculated_stocks_on_hand_stockcardid_idx');
+
+-- Status changes of orders, read by order
+SELECT reports.create_report_index('fulfillment.status_changes', 'orderid',
+    'reports_fulfillment_status_changes_orderid_idx');
+
+DROP FUNCTION reports.create_report_index(text, text, text);
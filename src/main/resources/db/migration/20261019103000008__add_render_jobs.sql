@@ -0,0 +1,38 @@
+-- Renders queued by any node of the service and claimed by the least loaded nodes. A claimed job
+-- is leased to its worker, the lease is renewed by the heartbeats of the worker, and a job whose
+-- lease expired is queued again, so the job of a node that stopped is rendered by another node.
+CREATE TABLE reports.render_jobs (
+    id uuid NOT NULL,
+    templateid uuid NOT NULL,
+    format text NOT NULL,
+    parameters text NOT NULL,
+    locale text NOT NULL,
+    ownerid uuid NOT NULL,
+    status text NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    workerid text,
+    leaseexpiresdate timestamp with time zone,
+    createddate timestamp with time zone NOT NULL,
+    starteddate timestamp with time zone,
+    completeddate timestamp with time zone,
+    outputpath text,
+    error text,
+    CONSTRAINT render_jobs_pkey PRIMARY KEY (id)
+);
+
+-- Queued jobs are claimed in the order they were created
+CREATE INDEX render_jobs_queued_idx ON reports.render_jobs (createddate)
+    WHERE status = 'QUEUED';
+
+-- Running jobs are queued again when their lease expires
+CREATE INDEX render_jobs_running_idx ON reports.render_jobs (leaseexpiresdate)
+    WHERE status = 'RUNNING';
+
+-- Heartbeats of the nodes rendering the jobs, with the number of jobs each node renders
+CREATE TABLE reports.render_workers (
+    id text NOT NULL,
+    activejobs integer NOT NULL,
+    capacity integer NOT NULL,
+    heartbeatdate timestamp with time zone NOT NULL,
+    CONSTRAINT render_workers_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,13 @@
+-- Precompiled .jasper artifacts seeded into the templates, with the MD5 hash of the .jrxml source
+-- of the artifact and of the seeded data. A template is seeded again when its source changes,
+-- unless its data no longer has the seeded hash, because it was uploaded since.
+CREATE TABLE reports.jasper_template_artifacts (
+    templateid uuid NOT NULL,
+    sourcehash text NOT NULL,
+    datahash text NOT NULL,
+    version text NOT NULL,
+    seededdate timestamp with time zone NOT NULL,
+    CONSTRAINT jasper_template_artifacts_pkey PRIMARY KEY (templateid),
+    CONSTRAINT jasper_template_artifacts_templateid_fkey FOREIGN KEY (templateid)
+        REFERENCES reports.jasper_templates (id) ON DELETE CASCADE
+);
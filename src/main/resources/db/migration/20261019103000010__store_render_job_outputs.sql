@@ -0,0 +1,4 @@
+-- The reports of the render jobs are kept with the jobs, so any node can serve them without a
+-- storage shared by the nodes, and they are deleted with the jobs
+ALTER TABLE reports.render_jobs DROP COLUMN outputpath;
+ALTER TABLE reports.render_jobs ADD COLUMN output bytea;
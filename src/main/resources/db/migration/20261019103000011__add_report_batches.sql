@@ -0,0 +1,34 @@
+-- Batches of the reports of a template rendered for every partition of its dataset. The batches
+-- and their reports are kept in the database, so any node can serve them without a storage shared
+-- by the nodes, and the reports are deleted with their batches
+CREATE TABLE reports.report_batches (
+    id uuid NOT NULL,
+    templateid uuid NOT NULL,
+    templatename text NOT NULL,
+    format text NOT NULL,
+    partitionparameter text NOT NULL,
+    ownerid uuid NOT NULL,
+    status text NOT NULL,
+    createddate timestamp with time zone NOT NULL,
+    completeddate timestamp with time zone,
+    error text,
+    CONSTRAINT report_batches_pkey PRIMARY KEY (id)
+);
+
+-- Old batches are deleted by the time they were created or completed
+CREATE INDEX report_batches_date_idx ON reports.report_batches
+    (COALESCE(completeddate, createddate));
+
+-- Report of each partition of a batch, or the error of a partition that could not be rendered
+CREATE TABLE reports.report_batch_artifacts (
+    batchid uuid NOT NULL,
+    partition text NOT NULL,
+    filename text,
+    size bigint NOT NULL,
+    checksum text,
+    error text,
+    data bytea,
+    CONSTRAINT report_batch_artifacts_pkey PRIMARY KEY (batchid, partition),
+    CONSTRAINT report_batch_artifacts_batchid_fkey FOREIGN KEY (batchid)
+        REFERENCES reports.report_batches (id) ON DELETE CASCADE
+);
@@ -0,0 +1,102 @@
+package mw.gov.health.lmis.reports.plans;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statistics and indexes of the tables scanned by the template queries.
+ */
+class Catalog {
+  private final Connection connection;
+  private final Map<String, Long> rows = new HashMap<>();
+  private final Map<String, Set<String>> columns = new HashMap<>();
+  private final Map<String, Set<String>> indexedColumns = new HashMap<>();
+
+  Catalog(Connection connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * Gets the estimated number of rows of the table, from the statistics of the database.
+   *
+   * @param table qualified name of the table
+   * @return estimated number of rows
+   * @throws SQLException if the statistics could not be read
+   */
+  long getRows(String table) throws SQLException {
+    if (!rows.containsKey(table)) {
+      rows.put(table, queryLong(
+          "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", table));
+    }
+
+    return rows.get(table);
+  }
+
+  /**
+   * Gets the names of the columns of the table, that are worth an index. Boolean columns are
+   * left out, because they rarely filter out enough rows.
+   *
+   * @param table qualified name of the table
+   * @return column names
+   * @throws SQLException if the columns could not be read
+   */
+  Set<String> getIndexableColumns(String table) throws SQLException {
+    if (!columns.containsKey(table)) {
+      columns.put(table, queryStrings("SELECT attname FROM pg_attribute"
+          + " WHERE attrelid = to_regclass(?) AND attnum > 0 AND NOT attisdropped"
+          + " AND atttypid <> 'boolean'::regtype", table));
+    }
+
+    return columns.get(table);
+  }
+
+  /**
+   * Gets the columns of the table, that are the leading column of an index.
+   *
+   * @param table qualified name of the table
+   * @return names of the indexed columns
+   * @throws SQLException if the indexes could not be read
+   */
+  Set<String> getIndexedColumns(String table) throws SQLException {
+    if (!indexedColumns.containsKey(table)) {
+      indexedColumns.put(table, queryStrings("SELECT attribute.attname FROM pg_index index"
+          + " JOIN pg_attribute attribute ON attribute.attrelid = index.indrelid"
+          + " AND attribute.attnum = index.indkey[0]"
+          + " WHERE index.indrelid = to_regclass(?)", table));
+    }
+
+    return indexedColumns.get(table);
+  }
+
+  private long queryLong(String sql, String parameter) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, parameter);
+
+      try (ResultSet result = statement.executeQuery()) {
+        return result.next() ? result.getLong(1) : 0;
+      }
+    }
+  }
+
+  private Set<String> queryStrings(String sql, String parameter) throws SQLException {
+    Set<String> values = new LinkedHashSet<>();
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, parameter);
+
+      try (ResultSet result = statement.executeQuery()) {
+        while (result.next()) {
+          values.add(result.getString(1));
+        }
+      }
+    }
+
+    return values;
+  }
+}
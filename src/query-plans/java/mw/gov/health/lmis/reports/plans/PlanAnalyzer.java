@@ -0,0 +1,133 @@
+package mw.gov.health.lmis.reports.plans;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Looks for sequential scans of large tables in the plan of a query and recommends indexes on
+ * the columns, that the scanned rows are filtered or joined by. A column is only recommended if
+ * it is not the leading column of an existing index yet.
+ */
+class PlanAnalyzer {
+  private static final String PLANS = "Plans";
+  private static final String[] CONDITIONS = {
+      "Filter", "Join Filter", "Hash Cond", "Merge Cond", "Index Cond", "Recheck Cond"};
+
+  private final Catalog catalog;
+  private final long largeTableRows;
+
+  PlanAnalyzer(Catalog catalog, long largeTableRows) {
+    this.catalog = catalog;
+    this.largeTableRows = largeTableRows;
+  }
+
+  /**
+   * Finds the sequential scans of large tables in the plan.
+   *
+   * @param plan root node of the plan, in the JSON format of EXPLAIN (VERBOSE)
+   * @return scans of large tables with the recommended indexes
+   * @throws SQLException if the statistics of a table could not be read
+   */
+  List<Finding> analyze(JsonNode plan) throws SQLException {
+    List<Finding> findings = new ArrayList<>();
+    analyze(plan, null, findings);
+    return findings;
+  }
+
+  private void analyze(JsonNode node, JsonNode parent, List<Finding> findings)
+      throws SQLException {
+    if ("Seq Scan".equals(node.path("Node Type").asText())) {
+      Finding finding = analyzeScan(node, parent);
+
+      if (null != finding) {
+        findings.add(finding);
+      }
+    }
+
+    for (JsonNode child : node.path(PLANS)) {
+      analyze(child, node, findings);
+    }
+  }
+
+  private Finding analyzeScan(JsonNode scan, JsonNode parent) throws SQLException {
+    String table = scan.path("Schema").asText() + '.' + scan.path("Relation Name").asText();
+    long rows = catalog.getRows(table);
+
+    if (rows < largeTableRows) {
+      return null;
+    }
+
+    Set<String> conditionColumns = new LinkedHashSet<>();
+    addColumns(conditionColumns, scan, scan.path("Alias").asText());
+
+    if (null != parent) {
+      addColumns(conditionColumns, parent, scan.path("Alias").asText());
+    }
+
+    Set<String> recommended = new LinkedHashSet<>();
+    for (String column : conditionColumns) {
+      if (catalog.getIndexableColumns(table).contains(column)
+          && !catalog.getIndexedColumns(table).contains(column)) {
+        recommended.add(column);
+      }
+    }
+
+    return new Finding(table, rows, scan.path("Actual Loops").asLong(1), recommended);
+  }
+
+  private void addColumns(Set<String> columns, JsonNode node, String alias) {
+    Pattern column = Pattern.compile("\\b" + Pattern.quote(alias) + "\\.(\\w+)");
+
+    for (String condition : CONDITIONS) {
+      Matcher matcher = column.matcher(node.path(condition).asText());
+
+      while (matcher.find()) {
+        columns.add(matcher.group(1));
+      }
+    }
+  }
+
+  /**
+   * Sequential scan of a large table.
+   */
+  static final class Finding {
+    private final String table;
+    private final long rows;
+    private final long loops;
+    private final Set<String> recommendedColumns;
+
+    Finding(String table, long rows, long loops, Set<String> recommendedColumns) {
+      this.table = table;
+      this.rows = rows;
+      this.loops = loops;
+      this.recommendedColumns = recommendedColumns;
+    }
+
+    /**
+     * Gets the statements creating the recommended indexes.
+     *
+     * @return index definitions
+     */
+    List<String> getRecommendedIndexes() {
+      List<String> indexes = new ArrayList<>();
+
+      for (String column : recommendedColumns) {
+        indexes.add("CREATE INDEX ON " + table + " (" + column + ");");
+      }
+
+      return indexes;
+    }
+
+    @Override
+    public String toString() {
+      return "Seq Scan on " + table + " (" + rows + " rows, " + loops + " loops)";
+    }
+  }
+}
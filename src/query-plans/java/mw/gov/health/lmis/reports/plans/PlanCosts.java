@@ -0,0 +1,99 @@
+package mw.gov.health.lmis.reports.plans;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Plan costs of the template queries, compared with the costs of the baseline. A query fails the
+ * check if its cost grew by more than the threshold, or if the baseline has no cost for it, so an
+ * empty or outdated baseline does not let the regressions pass unnoticed.
+ */
+class PlanCosts {
+  private static final String TOTAL_COST = "Total Cost";
+
+  private final Properties baseline;
+  private final Properties costs = new Properties();
+  private final double threshold;
+
+  PlanCosts(Properties baseline, double threshold) {
+    this.baseline = baseline;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Reads the total cost of the plan from the output of EXPLAIN (FORMAT JSON).
+   *
+   * @param explain element of the EXPLAIN output, with the root node of the plan
+   * @return estimated total cost of the plan
+   * @throws IllegalStateException if the output has no cost
+   */
+  static double getTotalCost(JsonNode explain) {
+    JsonNode cost = explain.path("Plan").path(TOTAL_COST);
+
+    if (!cost.isNumber()) {
+      throw new IllegalStateException("No " + TOTAL_COST + " in the plan: " + explain);
+    }
+
+    return cost.asDouble();
+  }
+
+  /**
+   * Checks whether the baseline has no costs at all.
+   *
+   * @return true if the baseline is empty
+   */
+  boolean isBaselineEmpty() {
+    return baseline.isEmpty();
+  }
+
+  /**
+   * Records the cost of the query and compares it with the baseline.
+   *
+   * @param name name of the query
+   * @param cost current cost of the query
+   * @return description of the failure, or null if the cost is within the baseline
+   */
+  String record(String name, double cost) {
+    costs.setProperty(name, String.valueOf(cost));
+    String previous = baseline.getProperty(name);
+
+    if (null == previous) {
+      return "MISSING BASELINE: no cost of the query in the baseline";
+    }
+
+    if (cost > Double.parseDouble(previous) * (1 + threshold)) {
+      return String.format(Locale.ENGLISH,
+          "REGRESSION: cost %.2f exceeds the baseline %s by more than %.0f%%",
+          cost, previous, threshold * 100);
+    }
+
+    return null;
+  }
+
+  /**
+   * Writes the recorded costs as the new baseline, sorted by the query names.
+   *
+   * @param file file of the baseline
+   * @throws IOException if the file could not be written
+   */
+  void write(File file) throws IOException {
+    Set<String> names = new TreeSet<>(costs.stringPropertyNames());
+    StringBuilder content = new StringBuilder(
+        "# Plan costs of the template queries, compared by gradle queryPlans\n");
+    names.forEach(name -> content.append(name).append('=')
+        .append(costs.getProperty(name)).append('\n'));
+
+    try (OutputStream stream = Files.newOutputStream(file.toPath())) {
+      stream.write(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package mw.gov.health.lmis.reports.plans;
+
+import net.sf.jasperreports.engine.JRQueryChunk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the query of a template into plain SQL with JDBC parameters, using representative
+ * parameter values. The values are looked up by the query name followed by the parameter name
+ * (e.g. {@code reportingRate.ByZone.Program}), then by the template name followed by the
+ * parameter name, then by the parameter name alone. Parameters without a value are null, just
+ * like parameters that are not set by the user. Collection values are separated by commas.
+ */
+class QueryBinder {
+  private final Properties values;
+
+  QueryBinder(Properties values) {
+    this.values = values;
+  }
+
+  /**
+   * Binds the representative parameter values to the query. {@code $X{IN}} and
+   * {@code $X{NOTIN}} clauses are expanded the same way as by JasperReports.
+   *
+   * @param query query of the template
+   * @return SQL with the values of the JDBC parameters
+   */
+  BoundQuery bind(TemplateQuery query) {
+    StringBuilder sql = new StringBuilder();
+    List<Object> parameters = new ArrayList<>();
+
+    for (JRQueryChunk chunk : query.getQuery().getChunks()) {
+      switch (chunk.getType()) {
+        case JRQueryChunk.TYPE_TEXT:
+          sql.append(chunk.getText());
+          break;
+        case JRQueryChunk.TYPE_PARAMETER:
+          sql.append('?');
+          parameters.add(getValue(query, chunk.getText()));
+          break;
+        case JRQueryChunk.TYPE_PARAMETER_CLAUSE:
+          sql.append(getValue(query, chunk.getText()));
+          break;
+        case JRQueryChunk.TYPE_CLAUSE_TOKENS:
+          appendClause(sql, parameters, query, chunk.getTokens());
+          break;
+        default:
+          throw new IllegalStateException("Unknown query chunk: " + chunk.getText());
+      }
+    }
+
+    return new BoundQuery(sql.toString(), parameters);
+  }
+
+  private void appendClause(StringBuilder sql, List<Object> parameters, TemplateQuery query,
+                            String[] tokens) {
+    String function = tokens[0].trim().toUpperCase(Locale.ENGLISH);
+
+    if (!"IN".equals(function) && !"NOTIN".equals(function)) {
+      throw new IllegalStateException("Unsupported clause in " + query.getName() + ": $X{"
+          + String.join(",", tokens) + "}");
+    }
+
+    Collection<?> collection = toCollection(getValue(query, tokens[2].trim()));
+
+    if (collection.isEmpty()) {
+      sql.append("0 = 0");
+      return;
+    }
+
+    sql
+        .append(tokens[1].trim())
+        .append("IN".equals(function) ? " IN (" : " NOT IN (")
+        .append(collection.stream().map(value -> "?").collect(Collectors.joining(", ")))
+        .append(')');
+    parameters.addAll(collection);
+  }
+
+  private Object getValue(TemplateQuery query, String parameter) {
+    String value = values.getProperty(query.getName() + '.' + parameter,
+        values.getProperty(query.getTemplate() + '.' + parameter,
+            values.getProperty(parameter)));
+
+    if (null == value) {
+      return null;
+    }
+
+    if (isCollection(query.getParameters().get(parameter))) {
+      return Arrays.stream(value.split(",")).map(String::trim).collect(Collectors.toList());
+    }
+
+    return value;
+  }
+
+  private boolean isCollection(String type) {
+    try {
+      return null != type && Collection.class.isAssignableFrom(Class.forName(type));
+    } catch (ClassNotFoundException ex) {
+      return false;
+    }
+  }
+
+  private Collection<?> toCollection(Object value) {
+    if (null == value) {
+      return Collections.emptyList();
+    }
+
+    return value instanceof Collection ? (Collection<?>) value : Collections.singleton(value);
+  }
+
+  /**
+   * SQL of a template query with the values of its JDBC parameters.
+   */
+  static final class BoundQuery {
+    private final String sql;
+    private final List<Object> parameters;
+
+    BoundQuery(String sql, List<Object> parameters) {
+      this.sql = sql;
+      this.parameters = parameters;
+    }
+
+    String getSql() {
+      return sql;
+    }
+
+    List<Object> getParameters() {
+      return parameters;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package mw.gov.health.lmis.reports.plans;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Runs EXPLAIN (ANALYZE, BUFFERS) for the queries of all report templates against a database
+ * seeded with representative data, recommends indexes for the sequential scans of large tables
+ * and compares the plan costs with the baseline. The check fails if a query could not be run,
+ * its cost grew by more than the threshold or the baseline has no cost for it, so the check fails
+ * until a baseline is recorded against a seeded database. It is configured with system
+ * properties:
+ * <ul>
+ *   <li>{@code plans.templates} - directory with the .jrxml files</li>
+ *   <li>{@code plans.parameters} - representative parameter values of the queries</li>
+ *   <li>{@code plans.baseline} - plan costs to compare with</li>
+ *   <li>{@code plans.threshold} - allowed relative growth of the cost, e.g. 0.2</li>
+ *   <li>{@code plans.largeTableRows} - tables with at least as many rows are large</li>
+ *   <li>{@code plans.statementTimeout} - statement timeout of the queries in milliseconds</li>
+ *   <li>{@code plans.output} - directory for the plans and the report</li>
+ *   <li>{@code plans.updateBaseline} - if true, the baseline is replaced by the current costs</li>
+ * </ul>
+ * The database is taken from the DATABASE_URL, POSTGRES_USER and POSTGRES_PASSWORD environment
+ * variables, like in the Flyway tasks.
+ */
+public final class QueryPlanCheck {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final PrintStream report;
+  private final PlanCosts costs;
+  private final boolean updateBaseline;
+  private int failures;
+
+  private QueryPlanCheck(PrintStream report, PlanCosts costs, boolean updateBaseline) {
+    this.report = report;
+    this.costs = costs;
+    this.updateBaseline = updateBaseline;
+  }
+
+  /**
+   * Runs the check.
+   *
+   * @param args not used
+   * @throws Exception if the templates, the configuration or the database could not be read
+   */
+  public static void main(String[] args) throws Exception {
+    File output = new File(System.getProperty("plans.output"));
+    File baselineFile = new File(System.getProperty("plans.baseline"));
+    Files.createDirectories(output.toPath());
+
+    List<TemplateQuery> queries = new TemplateQueryLoader()
+        .load(new File(System.getProperty("plans.templates")));
+    QueryBinder binder = new QueryBinder(
+        loadProperties(new File(System.getProperty("plans.parameters"))));
+
+    int failures;
+
+    try (Connection connection = DriverManager.getConnection(System.getenv("DATABASE_URL"),
+        System.getenv("POSTGRES_USER"), System.getenv("POSTGRES_PASSWORD"));
+         OutputStream reportFile = Files.newOutputStream(new File(output, "report.txt").toPath());
+         PrintStream report = new PrintStream(new TeeOutputStream(System.out, reportFile), true,
+             StandardCharsets.UTF_8.name())) {
+      connection.setAutoCommit(false);
+
+      QueryPlanCheck check = new QueryPlanCheck(report, new PlanCosts(
+          loadProperties(baselineFile),
+          Double.parseDouble(System.getProperty("plans.threshold", "0.2"))),
+          Boolean.parseBoolean(System.getProperty("plans.updateBaseline")));
+      check.checkBaseline(baselineFile);
+      PlanAnalyzer analyzer = new PlanAnalyzer(new Catalog(connection),
+          Long.parseLong(System.getProperty("plans.largeTableRows", "10000")));
+      long statementTimeout = Long.parseLong(System.getProperty("plans.statementTimeout", "0"));
+
+      for (TemplateQuery query : queries) {
+        check.check(connection, binder, analyzer, query, statementTimeout, output);
+      }
+
+      failures = check.finish(baselineFile);
+    }
+
+    if (failures > 0) {
+      System.exit(1);
+    }
+  }
+
+  private void checkBaseline(File baselineFile) {
+    if (!updateBaseline && costs.isBaselineEmpty()) {
+      report.println("The baseline " + baselineFile + " is empty, record it with"
+          + " gradle queryPlans -PupdatePlanBaseline against a seeded database");
+    }
+  }
+
+  private void check(Connection connection, QueryBinder binder, PlanAnalyzer analyzer,
+                     TemplateQuery query, long statementTimeout, File output)
+      throws SQLException, IOException {
+    report.println(query.getName());
+
+    JsonNode explain;
+    double cost;
+    try {
+      explain = explain(connection, binder.bind(query), statementTimeout);
+      cost = PlanCosts.getTotalCost(explain);
+    } catch (SQLException | IllegalStateException ex) {
+      report.println("  FAILED: " + ex.getMessage());
+      ++failures;
+      return;
+    } finally {
+      connection.rollback();
+    }
+
+    MAPPER.writerWithDefaultPrettyPrinter()
+        .writeValue(new File(output, query.getName() + ".json"), explain);
+
+    JsonNode plan = explain.path("Plan");
+    String failure = costs.record(query.getName(), cost);
+
+    report.println(String.format(Locale.ENGLISH,
+        "  cost %.2f, execution %.1f ms, shared blocks hit %d, read %d",
+        cost, explain.path("Execution Time").asDouble(),
+        plan.path("Shared Hit Blocks").asLong(), plan.path("Shared Read Blocks").asLong()));
+
+    for (PlanAnalyzer.Finding finding : analyzer.analyze(plan)) {
+      report.println("  " + finding);
+      finding.getRecommendedIndexes().forEach(index -> report.println("    " + index));
+    }
+
+    if (!updateBaseline && null != failure) {
+      report.println("  " + failure);
+      ++failures;
+    }
+  }
+
+  private JsonNode explain(Connection connection, QueryBinder.BoundQuery query,
+                           long statementTimeout) throws SQLException, IOException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET LOCAL statement_timeout = " + statementTimeout);
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(
+        "EXPLAIN (ANALYZE, BUFFERS, VERBOSE, FORMAT JSON) " + query.getSql())) {
+      for (int i = 0; i < query.getParameters().size(); ++i) {
+        statement.setObject(i + 1, query.getParameters().get(i));
+      }
+
+      try (ResultSet result = statement.executeQuery()) {
+        result.next();
+        return MAPPER.readTree(result.getString(1)).get(0);
+      }
+    }
+  }
+
+  private int finish(File baselineFile) throws IOException {
+    if (updateBaseline) {
+      costs.write(baselineFile);
+      report.println("Baseline updated: " + baselineFile);
+    }
+
+    report.println(failures + " failure(s)");
+    return failures;
+  }
+
+  private static Properties loadProperties(File file) throws IOException {
+    Properties properties = new Properties();
+
+    if (file.exists()) {
+      try (InputStream stream = Files.newInputStream(file.toPath())) {
+        properties.load(stream);
+      }
+    }
+
+    return properties;
+  }
+
+  private static final class TeeOutputStream extends OutputStream {
+    private final OutputStream first;
+    private final OutputStream second;
+
+    TeeOutputStream(OutputStream first, OutputStream second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+      first.write(value);
+      second.write(value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      first.flush();
+      second.flush();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package mw.gov.health.lmis.reports.plans;
+
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRQuery;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL query of a report template, either of the main dataset or of a subdataset.
+ */
+@Getter
+class TemplateQuery {
+  private final String template;
+  private final String dataset;
+  private final JRQuery query;
+  private final Map<String, String> parameters = new HashMap<>();
+
+  TemplateQuery(String template, String dataset, JRDataset design) {
+    this.template = template;
+    this.dataset = dataset;
+    this.query = design.getQuery();
+
+    for (JRParameter parameter : design.getParameters()) {
+      parameters.put(parameter.getName(), parameter.getValueClassName());
+    }
+  }
+
+  /**
+   * Gets the name of the query, which is the name of the template followed by the name of the
+   * subdataset, if the query belongs to one.
+   *
+   * @return name of the query
+   */
+  String getName() {
+    return null == dataset ? template : template + '.' + dataset;
+  }
+}
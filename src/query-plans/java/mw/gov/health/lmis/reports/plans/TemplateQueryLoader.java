@@ -0,0 +1,65 @@
+package mw.gov.health.lmis.reports.plans;
+
+import net.sf.jasperreports.engine.JRDataset;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRQuery;
+import net.sf.jasperreports.engine.design.JasperDesign;
+import net.sf.jasperreports.engine.xml.JRXmlLoader;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Loads the SQL queries of the main datasets and subdatasets of the report templates.
+ */
+class TemplateQueryLoader {
+  private static final String EXTENSION = ".jrxml";
+
+  /**
+   * Loads the queries of all templates in the directory, ordered by the template name.
+   *
+   * @param directory directory with the .jrxml files
+   * @return queries of the templates
+   * @throws JRException if a template could not be loaded
+   */
+  List<TemplateQuery> load(File directory) throws JRException {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+
+    if (null == files) {
+      throw new IllegalArgumentException("Templates directory not found: " + directory);
+    }
+
+    Arrays.sort(files);
+    List<TemplateQuery> queries = new ArrayList<>();
+
+    for (File file : files) {
+      String template = file.getName().substring(0, file.getName().length() - EXTENSION.length());
+      JasperDesign design = JRXmlLoader.load(file);
+      addQuery(queries, template, null, design.getMainDataset());
+
+      for (JRDataset dataset : design.getDatasetsList()) {
+        addQuery(queries, template, dataset.getName(), dataset);
+      }
+    }
+
+    return queries;
+  }
+
+  private void addQuery(List<TemplateQuery> queries, String template, String name,
+                        JRDataset dataset) {
+    JRQuery query = dataset.getQuery();
+
+    if (null != query && isSql(query.getLanguage()) && !StringUtils.isBlank(query.getText())) {
+      queries.add(new TemplateQuery(template, name, dataset));
+    }
+  }
+
+  private boolean isSql(String language) {
+    String name = null == language ? "sql" : language.toLowerCase(Locale.ENGLISH);
+    return "sql".equals(name) || "plsql".equals(name);
+  }
+}
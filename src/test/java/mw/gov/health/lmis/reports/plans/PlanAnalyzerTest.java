@@ -0,0 +1,72 @@
+package mw.gov.health.lmis.reports.plans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+public class PlanAnalyzerTest {
+  private static final String TABLE = "stockmanagement.stock_card_line_items";
+  private static final String PLAN = "{\"Node Type\": \"Hash Join\","
+      + " \"Hash Cond\": \"(li.orderableid = o.id)\", \"Plans\": [{\"Node Type\": \"Seq Scan\","
+      + " \"Schema\": \"stockmanagement\", \"Relation Name\": \"stock_card_line_items\","
+      + " \"Alias\": \"li\", \"Filter\": \"(li.quantity > 0)\", \"Actual Loops\": 1},"
+      + " {\"Node Type\": \"Hash\", \"Plans\": [{\"Node Type\": \"Index Scan\","
+      + " \"Schema\": \"referencedata\", \"Relation Name\": \"orderables\", \"Alias\": \"o\"}]}]}";
+
+  private final Catalog catalog = mock(Catalog.class);
+  private final PlanAnalyzer analyzer = new PlanAnalyzer(catalog, 10000);
+
+  @Before
+  public void setUp() throws Exception {
+    when(catalog.getIndexableColumns(TABLE))
+        .thenReturn(new HashSet<>(Arrays.asList("id", "orderableid", "quantity")));
+    when(catalog.getIndexedColumns(TABLE)).thenReturn(Collections.singleton("id"));
+  }
+
+  @Test
+  public void shouldRecommendIndexesOnColumnsOfScanAndJoinConditions() throws Exception {
+    when(catalog.getRows(TABLE)).thenReturn(100000L);
+
+    List<PlanAnalyzer.Finding> findings = analyzer.analyze(plan());
+
+    assertEquals(1, findings.size());
+    assertEquals("Seq Scan on " + TABLE + " (100000 rows, 1 loops)", findings.get(0).toString());
+    assertEquals(Arrays.asList("CREATE INDEX ON " + TABLE + " (quantity);",
+        "CREATE INDEX ON " + TABLE + " (orderableid);"),
+        findings.get(0).getRecommendedIndexes());
+  }
+
+  @Test
+  public void shouldNotRecommendIndexesOnIndexedColumns() throws Exception {
+    when(catalog.getRows(TABLE)).thenReturn(100000L);
+    when(catalog.getIndexedColumns(TABLE))
+        .thenReturn(new HashSet<>(Arrays.asList("orderableid", "quantity")));
+
+    List<PlanAnalyzer.Finding> findings = analyzer.analyze(plan());
+
+    assertEquals(1, findings.size());
+    assertTrue(findings.get(0).getRecommendedIndexes().isEmpty());
+  }
+
+  @Test
+  public void shouldIgnoreScansOfSmallTables() throws Exception {
+    when(catalog.getRows(TABLE)).thenReturn(100L);
+
+    assertTrue(analyzer.analyze(plan()).isEmpty());
+  }
+
+  private static JsonNode plan() throws Exception {
+    return new ObjectMapper().readTree(PLAN);
+  }
+}
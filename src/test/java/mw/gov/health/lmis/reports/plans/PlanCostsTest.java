@@ -0,0 +1,92 @@
+package mw.gov.health.lmis.reports.plans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+
+public class PlanCostsTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String QUERY = "reportingRate.ByZone";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadTotalCostOfExplainOutput() throws Exception {
+    String output = "[{\"Plan\": {\"Node Type\": \"Hash Join\", \"Startup Cost\": 12.5,"
+        + " \"Total Cost\": 1234.56, \"Plan Rows\": 10, \"Plans\": []},"
+        + " \"Execution Time\": 1.5}]";
+
+    assertEquals(1234.56, PlanCosts.getTotalCost(MAPPER.readTree(output).get(0)), 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectExplainOutputWithoutCost() throws Exception {
+    PlanCosts.getTotalCost(MAPPER.readTree("{\"Plan\": {\"Node Type\": \"Result\"}}"));
+  }
+
+  @Test
+  public void shouldPassCostWithinThreshold() {
+    PlanCosts costs = new PlanCosts(baseline(QUERY, "100.0"), 0.2);
+
+    assertFalse(costs.isBaselineEmpty());
+    assertNull(costs.record(QUERY, 120));
+    assertNull(costs.record(QUERY, 50));
+  }
+
+  @Test
+  public void shouldFailCostAboveThreshold() {
+    PlanCosts costs = new PlanCosts(baseline(QUERY, "100.0"), 0.2);
+
+    assertTrue(costs.record(QUERY, 120.5).startsWith("REGRESSION"));
+  }
+
+  @Test
+  public void shouldFailQueryMissingFromBaseline() {
+    PlanCosts costs = new PlanCosts(new Properties(), 0.2);
+
+    assertTrue(costs.isBaselineEmpty());
+    assertTrue(costs.record(QUERY, 1).startsWith("MISSING BASELINE"));
+  }
+
+  @Test
+  public void shouldWriteRecordedCostsAsSortedBaseline() throws Exception {
+    File file = folder.newFile("plan-costs.properties");
+    PlanCosts costs = new PlanCosts(new Properties(), 0.2);
+    costs.record(QUERY, 250.5);
+    costs.record("aggregate_orders", 10);
+
+    costs.write(file);
+
+    Properties written = new Properties();
+    try (InputStream stream = Files.newInputStream(file.toPath())) {
+      written.load(stream);
+    }
+    assertEquals(baseline(QUERY, "250.5", "aggregate_orders", "10.0"), written);
+    assertEquals(Arrays.asList("aggregate_orders=10.0", QUERY + "=250.5"),
+        Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).subList(1, 3));
+  }
+
+  private static Properties baseline(String... entries) {
+    Properties properties = new Properties();
+
+    for (int i = 0; i < entries.length; i += 2) {
+      properties.setProperty(entries[i], entries[i + 1]);
+    }
+
+    return properties;
+  }
+}
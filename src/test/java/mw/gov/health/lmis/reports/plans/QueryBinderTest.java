@@ -0,0 +1,104 @@
+package mw.gov.health.lmis.reports.plans;
+
+import static org.junit.Assert.assertEquals;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.design.JRDesignDataset;
+import net.sf.jasperreports.engine.design.JRDesignParameter;
+import net.sf.jasperreports.engine.design.JRDesignQuery;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class QueryBinderTest {
+  private static final String TEMPLATE = "stock_status";
+  private static final String DISTRICTS = "districts";
+  private static final String PROGRAM = "program";
+  private static final String ZOMBA = "Zomba";
+  private static final String BALAKA = "Balaka";
+  private static final String EPI = "EPI";
+
+  private final Properties values = new Properties();
+  private final QueryBinder binder = new QueryBinder(values);
+
+  @Test
+  public void shouldExpandInClauseToParameterOfEachValue() throws JRException {
+    values.setProperty(DISTRICTS, "Zomba, Balaka");
+    values.setProperty(PROGRAM, EPI);
+
+    QueryBinder.BoundQuery bound = binder.bind(query(null,
+        "SELECT * FROM facilities f WHERE $X{IN, f.district, districts}"
+            + " AND f.program = $P{program}"));
+
+    assertEquals("SELECT * FROM facilities f WHERE f.district IN (?, ?) AND f.program = ?",
+        bound.getSql());
+    assertEquals(Arrays.asList(ZOMBA, BALAKA, EPI), bound.getParameters());
+  }
+
+  @Test
+  public void shouldExpandNotInClause() throws JRException {
+    values.setProperty(DISTRICTS, ZOMBA);
+
+    QueryBinder.BoundQuery bound = binder.bind(query(null,
+        "SELECT * FROM facilities f WHERE $X{NOTIN, f.district, districts}"));
+
+    assertEquals("SELECT * FROM facilities f WHERE f.district NOT IN (?)", bound.getSql());
+    assertEquals(Collections.singletonList(ZOMBA), bound.getParameters());
+  }
+
+  @Test
+  public void shouldReplaceInClauseWithoutValuesWithTrueCondition() throws JRException {
+    QueryBinder.BoundQuery bound = binder.bind(query(null,
+        "SELECT * FROM facilities f WHERE $X{IN, f.district, districts}"));
+
+    assertEquals("SELECT * FROM facilities f WHERE 0 = 0", bound.getSql());
+    assertEquals(Collections.emptyList(), bound.getParameters());
+  }
+
+  @Test
+  public void shouldPreferValuesOfQueryOverValuesOfTemplateAndParameter() throws JRException {
+    values.setProperty(PROGRAM, "Family Planning");
+    values.setProperty(TEMPLATE + '.' + PROGRAM, EPI);
+    values.setProperty(TEMPLATE + ".ByZone." + PROGRAM, "TB");
+    String sql = "SELECT * FROM programs WHERE name = $P{program}";
+
+    assertEquals(Collections.singletonList(EPI),
+        binder.bind(query(null, sql)).getParameters());
+    assertEquals(Collections.singletonList("TB"),
+        binder.bind(query("ByZone", sql)).getParameters());
+    assertEquals(Collections.singletonList("Family Planning"),
+        binder.bind(new TemplateQuery("other", null, dataset(sql))).getParameters());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectUnsupportedClause() throws JRException {
+    binder.bind(query(null, "SELECT * FROM facilities f WHERE $X{EQUAL, f.district, program}"));
+  }
+
+  private static TemplateQuery query(String dataset, String sql) throws JRException {
+    return new TemplateQuery(TEMPLATE, dataset, dataset(sql));
+  }
+
+  private static JRDesignDataset dataset(String sql) throws JRException {
+    JRDesignQuery query = new JRDesignQuery();
+    query.setLanguage("sql");
+    query.setText(sql);
+
+    JRDesignDataset dataset = new JRDesignDataset(false);
+    dataset.setQuery(query);
+    dataset.addParameter(parameter(DISTRICTS, List.class));
+    dataset.addParameter(parameter(PROGRAM, String.class));
+    return dataset;
+  }
+
+  private static JRDesignParameter parameter(String name, Class<?> valueClass) {
+    JRDesignParameter parameter = new JRDesignParameter();
+    parameter.setName(name);
+    parameter.setValueClass(valueClass);
+    return parameter;
+  }
+}
@@ -0,0 +1,232 @@
+package mw.gov.health.lmis.reports.service.batch;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.sf.jasperreports.engine.JRDataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.domain.JasperTemplateParameter;
+import mw.gov.health.lmis.reports.exception.NotFoundMessageException;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.render.PartitionedRows;
+import mw.gov.health.lmis.utils.Message;
+
+public class ReportBatchServiceTest {
+  private static final String DISTRICT = "district";
+  private static final String PDF = "pdf";
+  private static final String DISTRICT_PARAMETER = "District";
+  private static final String ZOMBA = "Zomba";
+
+  private final ReportBatchService service = new ReportBatchService();
+  private final JasperReportsViewService jasperReportsViewService =
+      mock(JasperReportsViewService.class);
+  private final ReportBatchStore reportBatchStore = mock(ReportBatchStore.class);
+  private final Map<String, byte[]> storedReports = new ConcurrentHashMap<>();
+  private final ReportBatchNotifier notifier = mock(ReportBatchNotifier.class);
+  private final PartitionedRows rows = mock(PartitionedRows.class);
+  private final JasperTemplate template = new JasperTemplate();
+  private final UUID ownerId = UUID.randomUUID();
+
+  @Before
+  public void setUp() throws Exception {
+    ReflectionTestUtils.setField(service, "jasperReportsViewService", jasperReportsViewService);
+    ReflectionTestUtils.setField(service, "notifiers", Collections.singletonList(notifier));
+    ReflectionTestUtils.setField(service, "reportBatchStore", reportBatchStore);
+    ReflectionTestUtils.setField(service, "objectMapper",
+        new ObjectMapper().findAndRegisterModules());
+    ReflectionTestUtils.setField(service, "clock", Clock.systemUTC());
+    ReflectionTestUtils.setField(service, "maxRows", 100L);
+    ReflectionTestUtils.setField(service, "parallelism", 2);
+    ReflectionTestUtils.setField(service, "concurrentBatches", 1);
+    ReflectionTestUtils.setField(service, "queueCapacity", 1);
+    ReflectionTestUtils.setField(service, "retryDelay", 10L);
+    ReflectionTestUtils.setField(service, "maxRetries", 2);
+    ReflectionTestUtils.setField(service, "maxAge", 0L);
+
+    JasperTemplateParameter parameter = new JasperTemplateParameter();
+    parameter.setName(DISTRICT_PARAMETER);
+    template.setId(UUID.randomUUID());
+    template.setName("District Report");
+    template.setTemplateParameters(Collections.singletonList(parameter));
+
+    when(jasperReportsViewService.readPartitions(eq(template),
+        anyMapOf(String.class, Object.class), eq(DISTRICT_PARAMETER), eq(100L)))
+        .thenReturn(CompletableFuture.completedFuture(rows));
+    when(rows.getPartitions()).thenReturn(new HashSet<>(Arrays.asList(ZOMBA, "Blantyre")));
+    when(jasperReportsViewService.renderPartition(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF), any(JRDataSource.class)))
+        .thenAnswer(invocation -> CompletableFuture.completedFuture(
+            invocation.getArgumentAt(1, Map.class).get(DISTRICT_PARAMETER).toString()
+                .getBytes(StandardCharsets.UTF_8)));
+
+    doAnswer(invocation -> {
+      ReportBatchArtifact artifact = invocation.getArgumentAt(1, ReportBatchArtifact.class);
+      if (null != artifact.getFileName()) {
+        storedReports.put(artifact.getFileName(), invocation.getArgumentAt(2, byte[].class));
+      }
+      return null;
+    }).when(reportBatchStore).addArtifact(any(UUID.class), any(ReportBatchArtifact.class),
+        any(byte[].class));
+    when(reportBatchStore.getArtifactData(any(UUID.class), anyString()))
+        .thenAnswer(invocation -> storedReports.get(invocation.getArgumentAt(1, String.class)));
+  }
+
+  @Test
+  public void shouldStoreReportOfEachPartitionAndManifest() throws Exception {
+    ReportBatch batch = run();
+    when(reportBatchStore.find(batch.getId())).thenReturn(batch);
+
+    assertEquals(ReportBatch.Status.COMPLETED, batch.getStatus());
+    assertNull(batch.getError());
+    List<String> fileNames = batch.getArtifacts().stream()
+        .map(ReportBatchArtifact::getFileName)
+        .collect(Collectors.toList());
+    assertThat(fileNames, contains("Blantyre.pdf", "Zomba.pdf"));
+    assertArrayEquals(ZOMBA.getBytes(StandardCharsets.UTF_8),
+        service.getArtifact(batch.getId(), ownerId, "Zomba.pdf"));
+
+    String manifest = new String(service.getArtifact(batch.getId(), ownerId,
+        ReportBatchService.MANIFEST), StandardCharsets.UTF_8);
+    assertThat(manifest, containsString(batch.getArtifacts().get(0).getChecksum()));
+    verify(reportBatchStore).insert(batch);
+    verify(reportBatchStore).finish(batch);
+    verify(notifier).notify(batch);
+  }
+
+  @Test
+  public void shouldRecordFailedPartition() throws Exception {
+    CompletableFuture<byte[]> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("fill failed"));
+    when(jasperReportsViewService.renderPartition(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF), any(JRDataSource.class)))
+        .thenReturn(failed);
+
+    ReportBatch batch = run();
+
+    assertEquals(ReportBatch.Status.COMPLETED, batch.getStatus());
+    assertEquals("fill failed", batch.getArtifacts().get(0).getError());
+    assertNull(batch.getArtifacts().get(0).getFileName());
+  }
+
+  @Test
+  public void shouldCompleteBatchWhenPartitionCannotBeSubmitted() throws Exception {
+    when(jasperReportsViewService.renderPartition(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF), any(JRDataSource.class)))
+        .thenAnswer(invocation -> {
+          if (ZOMBA.equals(invocation.getArgumentAt(1, Map.class).get(DISTRICT_PARAMETER))) {
+            throw new IllegalStateException("template broken");
+          }
+          return CompletableFuture.completedFuture("Blantyre".getBytes(StandardCharsets.UTF_8));
+        });
+    ReflectionTestUtils.setField(service, "parallelism", 1);
+
+    ReportBatch batch = run();
+
+    assertEquals(ReportBatch.Status.COMPLETED, batch.getStatus());
+    assertNull(batch.getError());
+    List<String> errors = batch.getArtifacts().stream()
+        .map(ReportBatchArtifact::getError)
+        .collect(Collectors.toList());
+    assertThat(errors, containsInAnyOrder(null, "template broken"));
+    verify(notifier).notify(batch);
+  }
+
+  @Test
+  public void shouldGivePartitionUpWhenLaneStaysFull() throws Exception {
+    when(jasperReportsViewService.renderPartition(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF), any(JRDataSource.class)))
+        .thenThrow(new ServiceUnavailableMessageException(new Message("full")));
+
+    ReportBatch batch = run();
+
+    assertEquals(ReportBatch.Status.COMPLETED, batch.getStatus());
+    assertNull(batch.getArtifacts().get(0).getFileName());
+    assertNull(batch.getArtifacts().get(1).getFileName());
+    verify(jasperReportsViewService, times(6)).renderPartition(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF), any(JRDataSource.class));
+  }
+
+  @Test(expected = ValidationMessageException.class)
+  public void shouldRejectPartitionThatIsNotTemplateParameter() {
+    service.startBatch(template, new HashMap<>(), PDF, "facility", ownerId);
+  }
+
+  @Test(expected = NotFoundMessageException.class)
+  public void shouldNotShowBatchToOtherUser() throws Exception {
+    ReportBatch batch = run();
+    when(reportBatchStore.find(batch.getId())).thenReturn(batch);
+
+    service.getBatch(batch.getId(), UUID.randomUUID());
+  }
+
+  @Test
+  public void shouldDeleteExpiredBatches() {
+    Instant now = Instant.now();
+    ReflectionTestUtils.setField(service, "clock", Clock.fixed(now, ZoneOffset.UTC));
+    ReflectionTestUtils.setField(service, "maxAge", 60_000L);
+
+    service.purge();
+
+    verify(reportBatchStore).purge(ZonedDateTime.ofInstant(now.minusSeconds(60), ZoneOffset.UTC));
+  }
+
+  @Test
+  public void shouldCreateSafeUniqueFileNames() {
+    Set<String> fileNames = new HashSet<>();
+
+    assertEquals("Zomba_City.pdf", ReportBatchService.createFileName("Zomba City", PDF, fileNames));
+    assertEquals("Zomba_City_2.pdf",
+        ReportBatchService.createFileName("Zomba/City", PDF, fileNames));
+    assertEquals("_...pdf", ReportBatchService.createFileName("..", PDF, fileNames));
+  }
+
+  private ReportBatch run() throws InterruptedException {
+    service.start();
+    ReportBatch batch = service.startBatch(template, new HashMap<>(), PDF, DISTRICT, ownerId);
+
+    ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(service, "executor");
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    return batch;
+  }
+}
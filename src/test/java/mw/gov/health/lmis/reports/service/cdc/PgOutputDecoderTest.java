@@ -0,0 +1,154 @@
+package mw.gov.health.lmis.reports.service.cdc;
+
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class PgOutputDecoderTest {
+  private static final int RELATION_ID = 16384;
+  private static final String REQUISITION_ID = "b3a3d2a4-2f5b-4bb8-a3b8-c1b3c2a0d9e1";
+
+  private final PgOutputDecoder decoder = new PgOutputDecoder();
+
+  @Before
+  public void setUp() throws IOException {
+    decoder.decode(relation());
+  }
+
+  @Test
+  public void shouldDecodeBeginAndCommit() throws IOException {
+    PgOutputMessage begin = decoder.decode(message(out -> {
+      out.writeByte('B');
+      out.writeLong(100);
+      out.writeLong(1_000_000);
+      out.writeInt(1);
+    }));
+    PgOutputMessage commit = decoder.decode(message(out -> {
+      out.writeByte('C');
+      out.writeByte(0);
+      out.writeLong(100);
+      out.writeLong(120);
+      out.writeLong(1_000_000);
+    }));
+
+    assertThat(begin.getType(), is(PgOutputMessage.Type.BEGIN));
+    assertThat(commit.getType(), is(PgOutputMessage.Type.COMMIT));
+    assertThat(commit.getLsn(), is(LogSequenceNumber.valueOf(120)));
+    assertThat(commit.getCommitTime(), is(Instant.parse("2000-01-01T00:00:01Z")));
+  }
+
+  @Test
+  public void shouldDecodeInsertWithColumnNames() throws IOException {
+    PgOutputMessage insert = decoder.decode(message(out -> {
+      out.writeByte('I');
+      out.writeInt(RELATION_ID);
+      out.writeByte('N');
+      tuple(out);
+    }));
+
+    assertThat(insert.getType(), is(PgOutputMessage.Type.CHANGE));
+    assertThat(insert.getSchema(), is("requisition"));
+    assertThat(insert.getTable(), is("status_changes"));
+    assertThat(insert.getValues(), hasEntry("requisitionid", REQUISITION_ID));
+    assertThat(insert.getValues(), hasEntry("status", null));
+    assertThat(insert.getValues(), not(hasKey("createddate")));
+  }
+
+  @Test
+  public void shouldDecodeNewRowOfUpdate() throws IOException {
+    PgOutputMessage update = decoder.decode(message(out -> {
+      out.writeByte('U');
+      out.writeInt(RELATION_ID);
+      out.writeByte('O');
+      out.writeShort(3);
+      text(out, "other");
+      out.writeByte('n');
+      out.writeByte('n');
+      out.writeByte('N');
+      tuple(out);
+    }));
+
+    assertThat(update.getType(), is(PgOutputMessage.Type.CHANGE));
+    assertThat(update.getValues(), hasEntry("requisitionid", REQUISITION_ID));
+  }
+
+  @Test
+  public void shouldIgnoreOtherMessages() throws IOException {
+    PgOutputMessage origin = decoder.decode(message(out -> {
+      out.writeByte('O');
+      out.writeLong(100);
+      out.write("origin\0".getBytes(StandardCharsets.UTF_8));
+    }));
+
+    assertThat(origin.getType(), is(PgOutputMessage.Type.OTHER));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectChangeOfUnknownRelation() throws IOException {
+    decoder.decode(message(out -> {
+      out.writeByte('D');
+      out.writeInt(RELATION_ID + 1);
+      out.writeByte('K');
+      tuple(out);
+    }));
+  }
+
+  private static ByteBuffer relation() throws IOException {
+    return message(out -> {
+      out.writeByte('R');
+      out.writeInt(RELATION_ID);
+      out.write("requisition\0status_changes\0".getBytes(StandardCharsets.UTF_8));
+      out.writeByte('d');
+      out.writeShort(3);
+      column(out, "requisitionid");
+      column(out, "status");
+      column(out, "createddate");
+    });
+  }
+
+  private static void column(DataOutputStream out, String name) throws IOException {
+    out.writeByte(0);
+    out.write((name + '\0').getBytes(StandardCharsets.UTF_8));
+    out.writeInt(2950);
+    out.writeInt(-1);
+  }
+
+  private static void tuple(DataOutputStream out) throws IOException {
+    out.writeShort(3);
+    text(out, REQUISITION_ID);
+    out.writeByte('n');
+    out.writeByte('u');
+  }
+
+  private static void text(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeByte('t');
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static ByteBuffer message(Writer writer) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writer.write(new DataOutputStream(bytes));
+    return ByteBuffer.wrap(bytes.toByteArray());
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    void write(DataOutputStream out) throws IOException;
+  }
+}
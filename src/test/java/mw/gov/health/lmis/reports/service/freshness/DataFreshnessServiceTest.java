@@ -0,0 +1,156 @@
+package mw.gov.health.lmis.reports.service.freshness;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+public class DataFreshnessServiceTest {
+  private static final String STOCK_QUERY = "SELECT stock";
+  private static final String ORDERS_QUERY = "SELECT orders";
+  private static final String REPORT_KEY = "report/pdf";
+
+  private final DataFreshnessService service = new DataFreshnessService();
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Statement statement = mock(Statement.class);
+  private final List<Set<SourceDomain>> changes = new ArrayList<>();
+
+  private String stockWatermark = "2026-10-19 10:00:00";
+  private String ordersWatermark = "15";
+
+  @Before
+  public void setUp() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(STOCK_QUERY))
+        .thenAnswer(invocation -> watermark(stockWatermark));
+    when(statement.executeQuery(ORDERS_QUERY))
+        .thenAnswer(invocation -> watermark(ordersWatermark));
+
+    ReflectionTestUtils.setField(service, "replicationDataSource", dataSource);
+    ReflectionTestUtils.setField(service, "stockQuery", STOCK_QUERY);
+    ReflectionTestUtils.setField(service, "ordersQuery", ORDERS_QUERY);
+    ReflectionTestUtils.setField(service, "referenceDataQuery", "");
+    service.addListener(changes::add);
+  }
+
+  @Test
+  public void shouldNotifyListenersOfChangedDomainsOnly() {
+    service.refresh();
+    final DataFreshness first = service.getFreshness();
+    ordersWatermark = "16";
+    service.refresh();
+    final DataFreshness second = service.getFreshness();
+
+    assertEquals(2, changes.size());
+    assertEquals(EnumSet.of(SourceDomain.STOCK, SourceDomain.ORDERS), changes.get(0));
+    assertEquals(EnumSet.of(SourceDomain.ORDERS), changes.get(1));
+    assertEquals("16", second.getWatermark(SourceDomain.ORDERS));
+    assertNull(second.getWatermark(SourceDomain.REFERENCE_DATA));
+    assertTrue(second.isKnown());
+    assertNotEquals(first.getETag(REPORT_KEY, null), second.getETag(REPORT_KEY, null));
+  }
+
+  @Test
+  public void shouldKeepTagAndLastModifiedDateWhenDataDoesNotChange() {
+    service.refresh();
+    final DataFreshness first = service.getFreshness();
+    service.refresh();
+    final DataFreshness second = service.getFreshness();
+
+    assertEquals(1, changes.size());
+    assertEquals(first.getLastModified(), second.getLastModified());
+    assertEquals(first.getETag(REPORT_KEY, new byte[]{1}),
+        second.getETag(REPORT_KEY, new byte[]{1}));
+    assertNotEquals(first.getETag(REPORT_KEY, new byte[]{1}),
+        second.getETag(REPORT_KEY, new byte[]{2}));
+  }
+
+  @Test
+  public void shouldNotChangeTagOfDomainsWhenOtherDomainChanges() {
+    Set<SourceDomain> domains = EnumSet.of(SourceDomain.STOCK, SourceDomain.REFERENCE_DATA);
+    service.refresh();
+    final DataFreshness first = service.getFreshness().of(domains);
+    ordersWatermark = "16";
+    service.refresh();
+    final DataFreshness second = service.getFreshness().of(domains);
+
+    assertTrue(second.isKnown());
+    assertNull(second.getWatermark(SourceDomain.ORDERS));
+    assertEquals(first.getLastModified(), second.getLastModified());
+    assertEquals(first.getETag(REPORT_KEY, null), second.getETag(REPORT_KEY, null));
+    assertNotEquals(second.getETag(REPORT_KEY, null),
+        service.getFreshness().getETag(REPORT_KEY, null));
+  }
+
+  @Test
+  public void shouldReturnLastRefreshedFreshnessWithoutReadingWatermarks() throws SQLException {
+    assertFalse(service.getFreshness().isKnown());
+
+    service.refresh();
+    stockWatermark = "2026-10-19 10:05:00";
+    DataFreshness freshness = service.getFreshness();
+
+    assertEquals(1, changes.size());
+    assertTrue(freshness.isKnown());
+    assertEquals("2026-10-19 10:00:00", freshness.getWatermark(SourceDomain.STOCK));
+    verify(dataSource, times(1)).getConnection();
+    verify(statement, times(1)).executeQuery(STOCK_QUERY);
+  }
+
+  @Test
+  public void shouldTreatWatermarkThatCouldNotBeReadAsChanged() throws SQLException {
+    service.refresh();
+    when(statement.executeQuery(STOCK_QUERY)).thenThrow(new SQLException("relation missing"));
+
+    service.refresh();
+    final DataFreshness first = service.getFreshness();
+    service.refresh();
+    final DataFreshness second = service.getFreshness();
+
+    assertEquals(3, changes.size());
+    assertEquals(EnumSet.of(SourceDomain.STOCK), changes.get(2));
+    assertFalse(first.isKnown());
+    assertFalse(second.isKnown());
+    assertEquals("15", second.getWatermark(SourceDomain.ORDERS));
+  }
+
+  private static ResultSet watermark(String value) throws SQLException {
+    RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+    metaData.setColumnCount(1);
+    metaData.setColumnType(1, Types.VARCHAR);
+
+    CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+    rows.setMetaData(metaData);
+    rows.moveToInsertRow();
+    rows.updateString(1, value);
+    rows.insertRow();
+    rows.moveToCurrentRow();
+    rows.beforeFirst();
+    return rows;
+  }
+}
@@ -0,0 +1,31 @@
+package mw.gov.health.lmis.reports.service.freshness;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+public class SourceDomainTest {
+
+  @Test
+  public void shouldFindDomainsOfSchemasAndReportingTables() {
+    assertEquals(EnumSet.of(SourceDomain.REQUISITIONS, SourceDomain.REFERENCE_DATA),
+        SourceDomain.readBy(Arrays.asList(
+            "SELECT * FROM Requisition.requisitions r JOIN referencedata.facilities f ON true",
+            "SELECT * FROM reports.requisition_timeliness_facts")));
+    assertEquals(EnumSet.of(SourceDomain.STOCK),
+        SourceDomain.readBy(Collections.singleton(
+            "SELECT * FROM reports.stock_on_hand_latest WHERE requisition_id IS NULL")));
+  }
+
+  @Test
+  public void shouldDependOnAllDomainsWhenNoTableIsKnown() {
+    assertEquals(EnumSet.allOf(SourceDomain.class),
+        SourceDomain.readBy(Collections.singleton("SELECT 1 FROM other.table")));
+    assertEquals(EnumSet.allOf(SourceDomain.class),
+        SourceDomain.readBy(Collections.emptyList()));
+  }
+}
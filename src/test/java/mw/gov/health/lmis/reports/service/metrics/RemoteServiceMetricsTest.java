@@ -0,0 +1,29 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+import java.util.UUID;
+
+public class RemoteServiceMetricsTest {
+  private static final String ORDERS = "/api/orders/";
+
+  @Test
+  public void shouldReplaceIdentifiersInRemoteEndpoint() {
+    String service = "service-" + UUID.randomUUID();
+
+    RemoteServiceMetrics.timeRemoteRequest(service, ORDERS + UUID.randomUUID(), () -> null);
+    RemoteServiceMetrics.timeRemoteRequest(service, ORDERS + UUID.randomUUID(), () -> null);
+
+    assertThat(getSampleValue("reports_remote_request_duration_seconds_count",
+        new String[]{"service", "endpoint", "result"},
+        new String[]{service, "/api/orders/{id}", "success"}), is(2.0));
+  }
+
+  private static Double getSampleValue(String name, String[] labels, String[] values) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(name, labels, values);
+  }
+}
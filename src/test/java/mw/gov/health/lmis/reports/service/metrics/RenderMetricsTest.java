@@ -0,0 +1,44 @@
+package mw.gov.health.lmis.reports.service.metrics;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+import java.util.UUID;
+
+public class RenderMetricsTest {
+  private static final String TEMPLATE = "template-" + UUID.randomUUID();
+
+  @Test
+  public void shouldRecordPhaseDurationWhenActionFails() {
+    try {
+      RenderMetrics.timePhase(TEMPLATE, "pdf", RenderMetrics.PHASE_FILL, () -> {
+        throw new IllegalStateException();
+      });
+      fail("Expected the action error");
+    } catch (IllegalStateException ex) {
+      assertThat(getSampleValue("reports_render_phase_duration_seconds_count",
+          new String[]{"template", "format", "phase"},
+          new String[]{TEMPLATE, "pdf", RenderMetrics.PHASE_FILL}), is(1.0));
+    }
+  }
+
+  @Test
+  public void shouldRecordRenderWithPagesAndSize() {
+    RenderMetrics.recordRender(TEMPLATE, "xls", 3, 2048);
+
+    String[] labels = {"template", "format"};
+    String[] values = {TEMPLATE, "xls"};
+    assertThat(getSampleValue("reports_renders_total", new String[]{"template", "format", "result"},
+        new String[]{TEMPLATE, "xls", "success"}), is(1.0));
+    assertThat(getSampleValue("reports_output_pages_sum", labels, values), is(3.0));
+    assertThat(getSampleValue("reports_output_size_bytes_sum", labels, values), is(2048.0));
+  }
+
+  private static Double getSampleValue(String name, String[] labels, String[] values) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(name, labels, values);
+  }
+}
@@ -0,0 +1,163 @@
+package mw.gov.health.lmis.reports.service.precompiled;
+
+import static mw.gov.health.lmis.reports.service.precompiled.JasperTemplateSeeder.RECORD_ARTIFACT;
+import static mw.gov.health.lmis.reports.service.precompiled.JasperTemplateSeeder.SELECT_TEMPLATES;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.javers.core.Javers;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.ReportingException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperTemplateService;
+import mw.gov.health.lmis.reports.service.precompiled.JasperTemplateSeeder.TemplateState;
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class JasperTemplateSeederTest {
+  private static final String VERSION = "2.1.5";
+  private static final String SOURCE_HASH = "source";
+  private static final String DATA_HASH = "data";
+  private static final String MIGRATION_HASH = "migration";
+  private static final String PREVIOUS_SOURCE_HASH = "previous source";
+  private static final String PREVIOUS_HASH = "previous";
+
+  private final JasperTemplateSeeder seeder = new JasperTemplateSeeder();
+  private final PrecompiledTemplates precompiledTemplates = mock(PrecompiledTemplates.class);
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final JasperTemplateRepository jasperTemplateRepository =
+      mock(JasperTemplateRepository.class);
+  private final JasperTemplateService jasperTemplateService = mock(JasperTemplateService.class);
+  private final Javers javers = mock(Javers.class);
+  private final UUID templateId = UUID.randomUUID();
+  private final TemplateArtifact artifact = new TemplateArtifact(
+      "reports/timeliness.jrxml", "reports/timeliness.jasper", templateId, SOURCE_HASH,
+      DATA_HASH, Collections.singletonList(MIGRATION_HASH));
+  private final JasperTemplate template = new JasperTemplate();
+  private final byte[] data = new byte[]{1, 2};
+
+  @Before
+  public void setUp() throws Exception {
+    ReflectionTestUtils.setField(seeder, "precompiledTemplates", precompiledTemplates);
+    ReflectionTestUtils.setField(seeder, "jdbcTemplate", jdbcTemplate);
+    ReflectionTestUtils.setField(seeder, "jasperTemplateRepository", jasperTemplateRepository);
+    ReflectionTestUtils.setField(seeder, "jasperTemplateService", jasperTemplateService);
+    ReflectionTestUtils.setField(seeder, "javers", javers);
+    ReflectionTestUtils.setField(seeder, "enabled", true);
+
+    when(precompiledTemplates.getArtifacts()).thenReturn(Collections.singletonList(artifact));
+    when(precompiledTemplates.getVersion()).thenReturn(VERSION);
+    when(precompiledTemplates.read(artifact)).thenReturn(data);
+    when(jasperTemplateRepository.findOne(templateId)).thenReturn(template);
+  }
+
+  @Test
+  public void shouldSeedTemplateFromMigration() throws Exception {
+    mockTemplate(MIGRATION_HASH, null, null);
+
+    seeder.run();
+
+    verifySeeded();
+    verify(jdbcTemplate).update(RECORD_ARTIFACT, templateId, SOURCE_HASH, DATA_HASH, VERSION);
+  }
+
+  @Test
+  public void shouldSeedTemplateWithoutData() throws Exception {
+    mockTemplate(null, null, null);
+
+    seeder.run();
+
+    verifySeeded();
+  }
+
+  @Test
+  public void shouldSeedTemplateWhenSourceChanged() throws Exception {
+    mockTemplate(PREVIOUS_HASH, PREVIOUS_SOURCE_HASH, PREVIOUS_HASH);
+
+    seeder.run();
+
+    verifySeeded();
+  }
+
+  @Test
+  public void shouldSkipUnchangedTemplate() throws Exception {
+    mockTemplate("previous build", SOURCE_HASH, "previous build");
+
+    seeder.run();
+
+    verify(precompiledTemplates, never()).read(artifact);
+    verifyNotSeeded();
+  }
+
+  @Test
+  public void shouldKeepTemplateCustomisedBeforeSeeding() throws Exception {
+    mockTemplate("customised", null, null);
+
+    seeder.run();
+
+    verifyNotSeeded();
+  }
+
+  @Test
+  public void shouldKeepTemplateUploadedAfterSeeding() throws Exception {
+    mockTemplate("uploaded", PREVIOUS_SOURCE_HASH, PREVIOUS_HASH);
+
+    seeder.run();
+
+    verifyNotSeeded();
+  }
+
+  @Test
+  public void shouldNotRecordTemplateThatCouldNotBeSaved() throws Exception {
+    mockTemplate(MIGRATION_HASH, null, null);
+    doThrow(new ReportingException("invalid"))
+        .when(jasperTemplateService).updateReport(template, data);
+
+    seeder.run();
+
+    verify(javers, never()).commit(anyString(), any());
+    verify(jdbcTemplate, never()).update(eq(RECORD_ARTIFACT), (Object[]) anyVararg());
+  }
+
+  @Test
+  public void shouldNotReadTemplatesWithoutArtifacts() throws Exception {
+    when(precompiledTemplates.getArtifacts()).thenReturn(Collections.emptyList());
+
+    seeder.run();
+
+    verify(jdbcTemplate, never()).query(eq(SELECT_TEMPLATES), any(RowMapper.class));
+  }
+
+  private void verifySeeded() throws ReportingException {
+    verify(jasperTemplateService).updateReport(template, data);
+    verify(javers).commit(anyString(), eq(template));
+  }
+
+  private void verifyNotSeeded() throws ReportingException {
+    verify(jasperTemplateService, never()).updateReport(any(JasperTemplate.class),
+        any(byte[].class));
+    verify(jdbcTemplate, never()).update(eq(RECORD_ARTIFACT), (Object[]) anyVararg());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockTemplate(String dataHash, String seededSourceHash, String seededDataHash) {
+    when(jdbcTemplate.query(eq(SELECT_TEMPLATES), any(RowMapper.class)))
+        .thenReturn(Collections.singletonList(
+            new TemplateState(templateId, dataHash, seededSourceHash, seededDataHash)));
+  }
+}
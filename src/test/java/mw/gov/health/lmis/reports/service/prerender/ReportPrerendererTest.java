@@ -0,0 +1,194 @@
+package mw.gov.health.lmis.reports.service.prerender;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperReport;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.domain.JasperTemplateParameter;
+import mw.gov.health.lmis.reports.dto.external.ProcessingPeriodDto;
+import mw.gov.health.lmis.reports.dto.external.ProgramDto;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
+import mw.gov.health.lmis.reports.service.referencedata.GeographicZoneReferenceDataService;
+import mw.gov.health.lmis.reports.service.referencedata.PeriodReferenceDataService;
+import mw.gov.health.lmis.reports.service.referencedata.ProgramReferenceDataService;
+import mw.gov.health.lmis.reports.service.render.RenderLane;
+import mw.gov.health.lmis.reports.service.render.ReportResultStore;
+
+public class ReportPrerendererTest {
+  private static final String TEMPLATE = "Stock Report";
+  private static final String PROGRAM = "program";
+  private static final String PERIOD = "period";
+  private static final LocalDate TODAY = LocalDate.of(2018, 3, 2);
+  private static final Set<SourceDomain> DOMAINS = EnumSet.of(SourceDomain.REQUISITIONS);
+
+  private final ReportPrerenderer prerenderer = new ReportPrerenderer();
+  private final JasperTemplateRepository jasperTemplateRepository =
+      mock(JasperTemplateRepository.class);
+  private final JasperReportsViewService jasperReportsViewService =
+      mock(JasperReportsViewService.class);
+  private final ReportResultStore reportResultStore = mock(ReportResultStore.class);
+  private final ProgramReferenceDataService programReferenceDataService =
+      mock(ProgramReferenceDataService.class);
+  private final PeriodReferenceDataService periodReferenceDataService =
+      mock(PeriodReferenceDataService.class);
+  private final JasperReport report = mock(JasperReport.class);
+
+  private final JasperTemplate template = new JasperTemplate();
+  private final UUID lastPeriodId = UUID.randomUUID();
+
+  @Before
+  public void setUp() throws Exception {
+    ReflectionTestUtils.setField(prerenderer, "jasperTemplateRepository",
+        jasperTemplateRepository);
+    ReflectionTestUtils.setField(prerenderer, "jasperReportsViewService",
+        jasperReportsViewService);
+    ReflectionTestUtils.setField(prerenderer, "reportResultStore", reportResultStore);
+    ReflectionTestUtils.setField(prerenderer, "programReferenceDataService",
+        programReferenceDataService);
+    ReflectionTestUtils.setField(prerenderer, "periodReferenceDataService",
+        periodReferenceDataService);
+    ReflectionTestUtils.setField(prerenderer, "geographicZoneReferenceDataService",
+        mock(GeographicZoneReferenceDataService.class));
+    ReflectionTestUtils.setField(prerenderer, "clock", Clock.fixed(
+        TODAY.atStartOfDay(ZoneId.of("UTC")).toInstant(), ZoneId.of("UTC")));
+    ReflectionTestUtils.setField(prerenderer, "templates", " " + TEMPLATE + ", Missing ");
+    ReflectionTestUtils.setField(prerenderer, "formats", "pdf,xlsx");
+    ReflectionTestUtils.setField(prerenderer, "locale", "en");
+    ReflectionTestUtils.setField(prerenderer, "programParameter", PROGRAM);
+    ReflectionTestUtils.setField(prerenderer, "periodParameter", PERIOD);
+    ReflectionTestUtils.setField(prerenderer, "districtParameter", "district");
+    ReflectionTestUtils.setField(prerenderer, "maxDuration", 60_000L);
+    ReflectionTestUtils.setField(prerenderer, "maxActiveQueries", 0);
+    ReflectionTestUtils.setField(prerenderer, "backoff", 10L);
+    ReflectionTestUtils.setField(prerenderer, "maxBackoff", 20L);
+
+    template.setId(UUID.randomUUID());
+    template.setName(TEMPLATE);
+    template.setTemplateParameters(Arrays.asList(
+        parameter("Program"), parameter(PERIOD), parameter("facility")));
+
+    when(jasperTemplateRepository.findByName(TEMPLATE)).thenReturn(template);
+    when(jasperReportsViewService.getReportFromTemplateData(template)).thenReturn(report);
+    when(jasperReportsViewService.getSourceDomains(template)).thenReturn(DOMAINS);
+    JRParameter programParameter = reportParameter(PROGRAM);
+    when(report.getParameters()).thenReturn(new JRParameter[]{programParameter});
+    when(jasperReportsViewService.renderReport(eq(template), anyMapOf(String.class, Object.class),
+        anyString(), eq(RenderLane.PRERENDER)))
+        .thenReturn(CompletableFuture.completedFuture(new byte[]{1}));
+
+    when(programReferenceDataService.findAll()).thenReturn(Arrays.asList(
+        program(true), program(null), program(false)));
+    when(periodReferenceDataService.getNonFuturePeriods()).thenReturn(Arrays.asList(
+        period(UUID.randomUUID(), TODAY.plusDays(29)),
+        period(lastPeriodId, TODAY.minusDays(2)),
+        period(UUID.randomUUID(), TODAY.minusDays(30))));
+  }
+
+  @Test
+  public void shouldRenderEachActiveProgramForLastClosedPeriod() throws Exception {
+    prerenderer.run();
+
+    ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+    verify(reportResultStore, times(4)).put(keys.capture(),
+        anyMapOf(SourceDomain.class, Long.class), eq(DOMAINS), any(byte[].class));
+
+    List<String> stored = new ArrayList<>(keys.getAllValues());
+    assertEquals(4, stored.stream().distinct().count());
+    stored.forEach(key -> assertThat(key, containsString(
+        PERIOD + '=' + lastPeriodId)));
+
+    ArgumentCaptor<String> formats = ArgumentCaptor.forClass(String.class);
+    verify(jasperReportsViewService, times(4)).renderReport(eq(template),
+        anyMapOf(String.class, Object.class), formats.capture(), eq(RenderLane.PRERENDER));
+    assertThat(formats.getAllValues(), containsInAnyOrder("pdf", "pdf", "xlsx", "xlsx"));
+  }
+
+  @Test
+  public void shouldNotRenderStoredReports() throws Exception {
+    when(reportResultStore.contains(anyString())).thenReturn(true);
+
+    prerenderer.run();
+
+    verify(jasperReportsViewService, never()).renderReport(any(JasperTemplate.class),
+        anyMapOf(String.class, Object.class), anyString(), any(RenderLane.class));
+  }
+
+  @Test
+  public void shouldNotRenderTemplatePrintingUser() throws Exception {
+    JRParameter programParameter = reportParameter(PROGRAM);
+    JRParameter userParameter = reportParameter(ReportResultStore.USER_PARAMETER);
+    when(report.getParameters()).thenReturn(new JRParameter[]{programParameter, userParameter});
+
+    prerenderer.run();
+
+    verify(jasperReportsViewService, never()).renderReport(any(JasperTemplate.class),
+        anyMapOf(String.class, Object.class), anyString(), any(RenderLane.class));
+  }
+
+  @Test
+  public void shouldStopWhenRunWindowEnds() throws Exception {
+    ReflectionTestUtils.setField(prerenderer, "maxDuration", 0L);
+
+    prerenderer.run();
+
+    verify(jasperReportsViewService, never()).renderReport(any(JasperTemplate.class),
+        anyMapOf(String.class, Object.class), anyString(), any(RenderLane.class));
+  }
+
+  private static JasperTemplateParameter parameter(String name) {
+    JasperTemplateParameter parameter = new JasperTemplateParameter();
+    parameter.setName(name);
+    return parameter;
+  }
+
+  private static JRParameter reportParameter(String name) {
+    JRParameter parameter = mock(JRParameter.class);
+    when(parameter.getName()).thenReturn(name);
+    return parameter;
+  }
+
+  private static ProgramDto program(Boolean active) {
+    ProgramDto program = new ProgramDto();
+    program.setId(UUID.randomUUID());
+    program.setActive(active);
+    return program;
+  }
+
+  private static ProcessingPeriodDto period(UUID id, LocalDate endDate) {
+    ProcessingPeriodDto period = new ProcessingPeriodDto();
+    period.setId(id);
+    period.setEndDate(endDate);
+    return period;
+  }
+}
@@ -0,0 +1,168 @@
+package mw.gov.health.lmis.reports.service.queue;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+import mw.gov.health.lmis.utils.Message;
+
+public class RenderWorkerTest {
+  private static final String PDF = "pdf";
+
+  private final RenderWorker worker = new RenderWorker();
+  private final RenderJobQueue renderJobQueue = mock(RenderJobQueue.class);
+  private final JasperTemplateRepository jasperTemplateRepository =
+      mock(JasperTemplateRepository.class);
+  private final JasperReportsViewService jasperReportsViewService =
+      mock(JasperReportsViewService.class);
+  private final JasperTemplate template = new JasperTemplate();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(worker, "renderJobQueue", renderJobQueue);
+    ReflectionTestUtils.setField(worker, "jasperTemplateRepository", jasperTemplateRepository);
+    ReflectionTestUtils.setField(worker, "jasperReportsViewService", jasperReportsViewService);
+    ReflectionTestUtils.setField(worker, "objectMapper", new ObjectMapper());
+    ReflectionTestUtils.setField(worker, "enabled", true);
+    ReflectionTestUtils.setField(worker, "capacity", 2);
+    ReflectionTestUtils.setField(worker, "heartbeatInterval", 10L);
+    ReflectionTestUtils.setField(worker, "lease", 60_000L);
+    ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+    worker.start();
+
+    template.setId(UUID.randomUUID());
+    when(jasperTemplateRepository.findOne(template.getId())).thenReturn(template);
+  }
+
+  @After
+  public void tearDown() {
+    worker.stop();
+  }
+
+  @Test
+  public void shouldClaimOnlyFreeCapacity() {
+    when(renderJobQueue.claim(anyString(), anyInt(), anyLong()))
+        .thenReturn(Collections.emptyList());
+
+    worker.poll();
+
+    verify(renderJobQueue).requeueExpired(3);
+    verify(renderJobQueue).claim(anyString(), eq(2), eq(60_000L));
+  }
+
+  @Test
+  public void shouldLeaveJobsToLessLoadedWorker() {
+    when(renderJobQueue.countLessLoadedWorkers(anyString(), eq(0), anyLong())).thenReturn(1);
+
+    worker.poll();
+
+    verify(renderJobQueue, never()).claim(anyString(), anyInt(), anyLong());
+  }
+
+  @Test
+  public void shouldRenewLeasesWhileScheduledTasksAreStalled() throws Exception {
+    CountDownLatch stalled = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch heartbeats = new CountDownLatch(3);
+    worker.stop();
+    when(renderJobQueue.requeueExpired(3)).thenAnswer(invocation -> {
+      stalled.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return 0;
+    });
+    doAnswer(invocation -> {
+      if (0 == stalled.getCount()) {
+        heartbeats.countDown();
+      }
+      return null;
+    }).when(renderJobQueue).heartbeat(anyString(), anyInt(), eq(2), eq(60_000L));
+    worker.start();
+
+    // the poll stands for any task of the scheduler thread, that runs longer than the lease
+    Thread scheduler = new Thread(worker::poll);
+    scheduler.start();
+
+    try {
+      assertTrue(stalled.await(5, TimeUnit.SECONDS));
+      assertTrue(heartbeats.await(5, TimeUnit.SECONDS));
+    } finally {
+      release.countDown();
+      scheduler.join(5000);
+    }
+  }
+
+  @Test
+  public void shouldStoreReportWithJob() throws Exception {
+    RenderJob job = job();
+    when(jasperReportsViewService.renderReport(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF)))
+        .thenReturn(CompletableFuture.completedFuture(new byte[]{1, 2}));
+    when(renderJobQueue.complete(eq(job.getId()), anyString(), any(byte[].class))).thenReturn(true);
+
+    worker.run(job);
+
+    ArgumentCaptor<byte[]> output = ArgumentCaptor.forClass(byte[].class);
+    verify(renderJobQueue).complete(eq(job.getId()), anyString(), output.capture());
+    assertArrayEquals(new byte[]{1, 2}, output.getValue());
+  }
+
+  @Test
+  public void shouldQueueJobAgainWhenLaneIsFull() throws Exception {
+    RenderJob job = job();
+    when(jasperReportsViewService.renderReport(eq(template),
+        anyMapOf(String.class, Object.class), eq(PDF)))
+        .thenThrow(new ServiceUnavailableMessageException(new Message("full")));
+
+    worker.run(job);
+
+    verify(renderJobQueue).release(eq(job.getId()), anyString());
+    verify(renderJobQueue, never()).fail(eq(job.getId()), anyString(), anyString());
+  }
+
+  @Test
+  public void shouldFailJobOfMissingTemplate() {
+    RenderJob job = job();
+    job.setTemplateId(UUID.randomUUID());
+
+    worker.run(job);
+
+    verify(renderJobQueue).fail(eq(job.getId()), anyString(), anyString());
+  }
+
+  private RenderJob job() {
+    RenderJob job = new RenderJob();
+    job.setId(UUID.randomUUID());
+    job.setTemplateId(template.getId());
+    job.setFormat(PDF);
+    job.setParameters("{\"program\":\"PRG001\"}");
+    job.setLocale("en");
+    return job;
+  }
+}
@@ -0,0 +1,76 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import net.sf.jasperreports.engine.JasperReport;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+
+public class CompiledReportCacheTest {
+  private final CompiledReportCache cache = new CompiledReportCache();
+  private final AtomicInteger reads = new AtomicInteger();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(cache, "maxTemplates", 2);
+  }
+
+  @Test
+  public void shouldReadTemplateOnce() throws Exception {
+    JasperTemplate template = template(new byte[]{1, 2});
+
+    JasperReport first = cache.get(template, this::read);
+    JasperReport second = cache.get(template, this::read);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(reads.get(), is(1));
+  }
+
+  @Test
+  public void shouldReadTemplateAgainWhenDataChanged() throws Exception {
+    JasperTemplate template = template(new byte[]{1, 2});
+    JasperReport first = cache.get(template, this::read);
+
+    template.setData(new byte[]{1, 3});
+
+    assertThat(cache.get(template, this::read), is(not(sameInstance(first))));
+    assertThat(reads.get(), is(2));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedTemplate() throws Exception {
+    JasperTemplate first = template(new byte[]{1});
+    JasperTemplate second = template(new byte[]{2});
+    cache.get(first, this::read);
+    cache.get(second, this::read);
+    cache.get(first, this::read);
+
+    cache.get(template(new byte[]{3}), this::read);
+
+    assertThat(cache.contains(first.getId()), is(true));
+    assertFalse(cache.contains(second.getId()));
+  }
+
+  private JasperReport read() {
+    reads.incrementAndGet();
+    return mock(JasperReport.class);
+  }
+
+  private static JasperTemplate template(byte[] data) {
+    JasperTemplate template = new JasperTemplate();
+    template.setId(UUID.randomUUID());
+    template.setData(data);
+    return template;
+  }
+}
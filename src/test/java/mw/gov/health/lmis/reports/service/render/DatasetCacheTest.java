@@ -0,0 +1,216 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+
+public class DatasetCacheTest {
+  private static final String WATERMARK_QUERY = "SELECT watermark";
+  private static final String QUERY = "SELECT code, soh, price, active FROM stock";
+  private static final String STOCK_QUERY =
+      "SELECT code, soh, price, active FROM stockmanagement.stock_cards";
+  private static final String ORDERS_QUERY =
+      "SELECT code, soh, price, active FROM fulfillment.orders";
+  private static final String PROGRAM = "PRG001";
+
+  private final DatasetCache cache = new DatasetCache();
+  private final DataFreshnessService dataFreshnessService = new DataFreshnessService();
+  private final Statement watermarkStatement = mock(Statement.class);
+
+  private String watermark = "1";
+
+  @Before
+  public void setUp() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(watermarkStatement);
+    when(watermarkStatement.executeQuery(WATERMARK_QUERY))
+        .thenAnswer(invocation -> watermark(watermark));
+
+    ReflectionTestUtils.setField(dataFreshnessService, "replicationDataSource", dataSource);
+    ReflectionTestUtils.setField(dataFreshnessService, "stockQuery", WATERMARK_QUERY);
+
+    ReflectionTestUtils.setField(cache, "dataFreshnessService", dataFreshnessService);
+    ReflectionTestUtils.setField(cache, "enabled", true);
+    ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+    ReflectionTestUtils.setField(cache, "maxEntryRows", 100);
+    ReflectionTestUtils.setField(cache, "maxAge", 60_000L);
+    cache.subscribe();
+    dataFreshnessService.refresh();
+  }
+
+  @Test
+  public void shouldReturnCachedRowsOfSameQuery() throws SQLException {
+    ResultSet read = cache.read(key(QUERY, PROGRAM), cache.getVersion(), rows(3));
+    assertTrue(ColumnarResultSet.isComplete(read));
+
+    ResultSet cached = cache.get(key("SELECT  code, soh,\n  price, active\tFROM stock", PROGRAM));
+    List<List<Object>> values = new ArrayList<>();
+
+    while (cached.next()) {
+      values.add(Arrays.asList(cached.getString("code"), cached.getInt(2), cached.wasNull(),
+          cached.getBigDecimal(3), cached.getString(3), cached.getBoolean(4),
+          cached.getString(4)));
+    }
+
+    assertEquals(3, values.size());
+    assertEquals(Arrays.asList("C0", 0, false, new BigDecimal("0.50"), "0.50", true, "t"),
+        values.get(0));
+    assertEquals(Arrays.asList(null, 0, true, null, null, false, null), values.get(2));
+  }
+
+  @Test
+  public void shouldNotReturnRowsOfQueryWithOtherParameters() throws SQLException {
+    cache.read(key(QUERY, PROGRAM), cache.getVersion(), rows(3));
+
+    assertNull(cache.get(key(QUERY, "PRG002")));
+    assertNull(cache.get(key(QUERY.toLowerCase(), PROGRAM)));
+  }
+
+  @Test
+  public void shouldClearCacheWhenWatermarkChanges() throws SQLException {
+    cache.read(key(QUERY, PROGRAM), cache.getVersion(), rows(3));
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    assertNull(cache.get(key(QUERY, PROGRAM)));
+  }
+
+  @Test
+  public void shouldKeepRowsOfOtherDomainsWhenWatermarkChanges() throws SQLException {
+    cache.read(key(STOCK_QUERY, PROGRAM), cache.getVersion(), rows(3));
+    cache.read(key(ORDERS_QUERY, PROGRAM), cache.getVersion(), rows(3));
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    assertNull(cache.get(key(STOCK_QUERY, PROGRAM)));
+    assertNotNull(cache.get(key(ORDERS_QUERY, PROGRAM)));
+  }
+
+  @Test
+  public void shouldNotCacheRowsReadBeforeWatermarkChange() throws SQLException {
+    long version = cache.getVersion();
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    cache.read(key(QUERY, PROGRAM), version, rows(3));
+
+    assertFalse(cache.contains(key(QUERY, PROGRAM)));
+  }
+
+  @Test
+  public void shouldReturnAllRowsButNotCacheThemOverEntryLimit() throws SQLException {
+    ReflectionTestUtils.setField(cache, "maxEntryRows", 2);
+
+    ResultSet read = cache.read(key(QUERY, PROGRAM), cache.getVersion(), rows(5));
+
+    int count = 0;
+    while (read.next()) {
+      ++count;
+    }
+
+    assertEquals(5, count);
+    assertFalse(ColumnarResultSet.isComplete(read));
+    assertFalse(cache.contains(key(QUERY, PROGRAM)));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedRowsOverBudget() throws SQLException {
+    cache.read(key(QUERY, "A"), cache.getVersion(), rows(50));
+    long size = (Long) ReflectionTestUtils.getField(cache, "bytes");
+    ReflectionTestUtils.setField(cache, "maxBytes", size * 2 + size / 2);
+
+    cache.read(key(QUERY, "B"), cache.getVersion(), rows(50));
+    assertNotNull(cache.get(key(QUERY, "A")));
+    cache.read(key(QUERY, "C"), cache.getVersion(), rows(50));
+
+    assertTrue(cache.contains(key(QUERY, "A")));
+    assertFalse(cache.contains(key(QUERY, "B")));
+    assertTrue(cache.contains(key(QUERY, "C")));
+  }
+
+  private static List<Object> key(String sql, Object... values) {
+    return Arrays.asList(sql, Arrays.asList(values));
+  }
+
+  private static ResultSet watermark(String value) throws SQLException {
+    RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+    metaData.setColumnCount(1);
+    metaData.setColumnType(1, Types.VARCHAR);
+
+    CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+    rows.setMetaData(metaData);
+    rows.moveToInsertRow();
+    rows.updateString(1, value);
+    rows.insertRow();
+    rows.moveToCurrentRow();
+    rows.beforeFirst();
+    return rows;
+  }
+
+  // the last row has only nulls
+  private static ResultSet rows(int count) throws SQLException {
+    RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+    metaData.setColumnCount(4);
+    List<String> names = Arrays.asList("code", "soh", "price", "active");
+    List<Integer> types = Arrays.asList(Types.VARCHAR, Types.INTEGER, Types.NUMERIC, Types.BIT);
+
+    for (int i = 0; i < names.size(); ++i) {
+      metaData.setColumnName(i + 1, names.get(i));
+      metaData.setColumnLabel(i + 1, names.get(i));
+      metaData.setColumnType(i + 1, types.get(i));
+      metaData.setColumnTypeName(i + 1, "");
+    }
+
+    CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+    rows.setMetaData(metaData);
+
+    // the rows are inserted before the previously inserted ones
+    for (int i = count - 1; i >= 0; --i) {
+      rows.moveToInsertRow();
+
+      if (i == count - 1) {
+        rows.updateNull(1);
+        rows.updateNull(2);
+        rows.updateNull(3);
+        rows.updateNull(4);
+      } else {
+        rows.updateString(1, "C" + i);
+        rows.updateInt(2, i);
+        rows.updateBigDecimal(3, new BigDecimal("0.50").add(BigDecimal.valueOf(i)));
+        rows.updateBoolean(4, true);
+      }
+
+      rows.insertRow();
+      rows.moveToCurrentRow();
+    }
+
+    rows.beforeFirst();
+    return rows;
+  }
+}
@@ -0,0 +1,143 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.data.JRMapCollectionDataSource;
+import net.sf.jasperreports.engine.design.JRDesignField;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+
+public class DatasetWriterTest {
+  private static final String NAME = "name";
+  private static final String QUANTITY = "quantity";
+  private static final String BALAKA = "Balaka";
+
+  @Test
+  public void shouldWriteCsvWithHeaderAndQuotedFields() throws Exception {
+    String content = write(DatasetWriter.CSV,
+        row("Balaka, \"Central\"", new BigDecimal("1E+3")),
+        row(null, null));
+
+    assertEquals("name,quantity\r\n\"Balaka, \"\"Central\"\"\",1000\r\n,\r\n", content);
+  }
+
+  @Test
+  public void shouldWriteNdjsonWithTypedValues() throws Exception {
+    String content = write(DatasetWriter.NDJSON,
+        row(BALAKA, new BigDecimal("12.50")),
+        row(null, 7L));
+
+    assertEquals("{\"name\":\"Balaka\",\"quantity\":12.50}\n"
+        + "{\"name\":null,\"quantity\":7}\n", content);
+  }
+
+  @Test
+  public void shouldWriteParquetFileWithFooter() throws Exception {
+    byte[] content = writeBytes(DatasetWriter.PARQUET,
+        row(BALAKA, new BigDecimal("12.50")),
+        row(null, null));
+
+    int length = content.length;
+    int footerLength = content[length - 8] & 0xFF | (content[length - 7] & 0xFF) << 8
+        | (content[length - 6] & 0xFF) << 16 | (content[length - 5] & 0xFF) << 24;
+    String footer = new String(content, length - 8 - footerLength, footerLength,
+        StandardCharsets.ISO_8859_1);
+
+    assertEquals("PAR1", new String(content, 0, 4, StandardCharsets.US_ASCII));
+    assertEquals("PAR1", new String(content, length - 4, 4, StandardCharsets.US_ASCII));
+    assertThat(footer, containsString(NAME));
+    assertThat(footer, containsString(QUANTITY));
+  }
+
+  @Test
+  public void shouldEncodeRunsAndBitPackedGroups() {
+    ParquetDatasetWriter.PageOutput page = new ParquetDatasetWriter.PageOutput();
+    int[] values = {1, 1, 1, 1, 1, 1, 1, 1, 1, 0, 1, 0};
+
+    ParquetDatasetWriter.writeHybrid(page, values, values.length, 1);
+
+    assertArrayEquals(new byte[]{18, 1, 3, 2}, page.toByteArray());
+  }
+
+  @Test
+  public void shouldWriteXlsxSheetsOfLimitedLength() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    @SuppressWarnings("unchecked")
+    Collection<Map<String, ?>> data = Arrays.asList(
+        row(BALAKA, new BigDecimal("12.50")), row("Zomba", null), row(null, BigDecimal.ONE));
+
+    new XlsxDatasetWriter(output, 3)
+        .write(new JRField[]{field(NAME, String.class), field(QUANTITY, BigDecimal.class)},
+            new JRMapCollectionDataSource(data));
+
+    try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+      assertEquals(2, workbook.getNumberOfSheets());
+      final Sheet first = workbook.getSheetAt(0);
+      final Sheet second = workbook.getSheetAt(1);
+
+      assertEquals(NAME, first.getRow(0).getCell(0).getStringCellValue());
+      assertEquals(BALAKA, first.getRow(1).getCell(0).getStringCellValue());
+      assertEquals(12.5, first.getRow(1).getCell(1).getNumericCellValue(), 0);
+      assertNull(first.getRow(2).getCell(1));
+      assertEquals(QUANTITY, second.getRow(0).getCell(1).getStringCellValue());
+      assertEquals(1, second.getRow(1).getCell(1).getNumericCellValue(), 0);
+      assertEquals(1, second.getLastRowNum());
+    }
+  }
+
+  @Test(expected = ValidationMessageException.class)
+  public void shouldRejectUnsupportedFormat() {
+    DatasetWriter.validateFormat("xml");
+  }
+
+  private static String write(String format, Map<String, ?>... rows)
+      throws JRException, IOException {
+    return new String(writeBytes(format, rows), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] writeBytes(String format, Map<String, ?>... rows)
+      throws JRException, IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    JRField[] fields = {field(NAME, String.class), field(QUANTITY, BigDecimal.class)};
+    @SuppressWarnings("unchecked")
+    Collection<Map<String, ?>> data = Arrays.asList(rows);
+
+    DatasetWriter.create(format, output).write(fields, new JRMapCollectionDataSource(data));
+    return output.toByteArray();
+  }
+
+  private static Map<String, ?> row(String name, Object quantity) {
+    Map<String, Object> row = new HashMap<>();
+    row.put(NAME, name);
+    row.put(QUANTITY, quantity);
+    return row;
+  }
+
+  private static JRField field(String name, Class<?> valueClass) {
+    JRDesignField field = new JRDesignField();
+    field.setName(name);
+    field.setValueClass(valueClass);
+    return field;
+  }
+}
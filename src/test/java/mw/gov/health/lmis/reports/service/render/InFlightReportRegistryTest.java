@@ -0,0 +1,160 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.i18n.ReportingMessageKeys.ERROR_GENERATE_REPORT_FAILED;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+
+public class InFlightReportRegistryTest {
+  private static final String KEY = "key";
+
+  private final InFlightReportRegistry registry = new InFlightReportRegistry();
+
+  @Test
+  public void shouldCreateKeyIndependentOfParameterOrder() {
+    final UUID templateId = UUID.randomUUID();
+
+    Map<String, Object> first = new LinkedHashMap<>();
+    first.put("program", "abc");
+    first.put("period", 1);
+    first.put("zone", null);
+
+    Map<String, Object> second = new LinkedHashMap<>();
+    second.put("zone", null);
+    second.put("period", 1);
+    second.put("program", "abc");
+
+    assertThat(InFlightReportRegistry.createKey(templateId, "pdf", Locale.ENGLISH, first),
+        is(InFlightReportRegistry.createKey(templateId, "pdf", Locale.ENGLISH, second)));
+    assertThat(InFlightReportRegistry.createKey(templateId, "pdf", Locale.ENGLISH, first),
+        is(templateId + "/pdf/en&period=1&program=abc&zone="));
+  }
+
+  @Test
+  public void shouldShareRenderInProgressWithIdenticalRequest() throws Exception {
+    AtomicInteger renders = new AtomicInteger();
+    CompletableFuture<byte[]> submitted = new CompletableFuture<>();
+    byte[] report = new byte[]{1, 2, 3};
+
+    CompletableFuture<byte[]> leader = registry.render(KEY, () -> {
+      renders.incrementAndGet();
+      return submitted;
+    });
+    CompletableFuture<byte[]> follower = registry.render(KEY, () -> {
+      renders.incrementAndGet();
+      return CompletableFuture.completedFuture(new byte[0]);
+    });
+    submitted.complete(report);
+
+    assertThat(leader.get(5, TimeUnit.SECONDS), sameInstance(report));
+    assertThat(follower.get(5, TimeUnit.SECONDS), sameInstance(report));
+    assertThat(renders.get(), is(1));
+    assertThat(registry.getInFlightCount(), is(0));
+  }
+
+  @Test
+  public void shouldPassRenderErrorToIdenticalRequest() throws Exception {
+    CompletableFuture<byte[]> submitted = new CompletableFuture<>();
+    JasperReportViewException error = new JasperReportViewException(
+        new IllegalStateException(), ERROR_GENERATE_REPORT_FAILED);
+
+    registry.render(KEY, () -> submitted);
+    CompletableFuture<byte[]> follower = registry.render(KEY,
+        () -> CompletableFuture.completedFuture(new byte[0]));
+    submitted.completeExceptionally(error);
+
+    try {
+      follower.get(5, TimeUnit.SECONDS);
+      fail("Expected the render error");
+    } catch (ExecutionException ex) {
+      assertThat(ex.getCause(), sameInstance(error));
+    }
+    assertThat(registry.getInFlightCount(), is(0));
+  }
+
+  @Test
+  public void shouldRenderAgainAfterPreviousRenderCompleted() throws Exception {
+    AtomicInteger renders = new AtomicInteger();
+
+    registry.render(KEY, () -> submit(renders));
+    byte[] result = registry.render(KEY, () -> submit(renders)).get(5, TimeUnit.SECONDS);
+
+    assertThat(result[0], is((byte) 2));
+    assertThat(registry.getInFlightCount(), is(0));
+  }
+
+  @Test
+  public void shouldCancelSubmittedRenderWhenSharedRenderIsCancelled() throws Exception {
+    CompletableFuture<byte[]> submitted = new CompletableFuture<>();
+
+    CompletableFuture<byte[]> leader = registry.render(KEY, () -> submitted);
+    leader.cancel(true);
+
+    assertThat(submitted.isCancelled(), is(true));
+    assertThat(registry.getInFlightCount(), is(0));
+  }
+
+  @Test
+  public void shouldKeepRenderingForIdenticalRequestWhenOneRequestCancels() throws Exception {
+    CompletableFuture<byte[]> submitted = new CompletableFuture<>();
+    final byte[] report = new byte[]{1, 2, 3};
+
+    CompletableFuture<byte[]> leader = registry.render(KEY, () -> submitted);
+    final CompletableFuture<byte[]> follower = registry.render(KEY, () -> submitted);
+    leader.cancel(true);
+
+    assertThat(submitted.isCancelled(), is(false));
+    assertThat(registry.getInFlightCount(), is(1));
+
+    submitted.complete(report);
+
+    assertThat(follower.get(5, TimeUnit.SECONDS), sameInstance(report));
+  }
+
+  @Test
+  public void shouldCancelSubmittedRenderWhenAllRequestsCancel() throws Exception {
+    CompletableFuture<byte[]> submitted = new CompletableFuture<>();
+
+    CompletableFuture<byte[]> leader = registry.render(KEY, () -> submitted);
+    CompletableFuture<byte[]> follower = registry.render(KEY, () -> submitted);
+    follower.cancel(true);
+    leader.cancel(true);
+
+    assertThat(submitted.isCancelled(), is(true));
+    assertThat(registry.getInFlightCount(), is(0));
+  }
+
+  @Test
+  public void shouldForgetRenderWhenSubmissionFails() throws Exception {
+    JasperReportViewException error = new JasperReportViewException(
+        new IllegalStateException(), ERROR_GENERATE_REPORT_FAILED);
+
+    try {
+      registry.render(KEY, () -> {
+        throw error;
+      });
+      fail("Expected the submission error");
+    } catch (JasperReportViewException ex) {
+      assertThat(ex, sameInstance(error));
+    }
+    assertThat(registry.getInFlightCount(), is(0));
+  }
+
+  private static CompletableFuture<byte[]> submit(AtomicInteger renders) {
+    return CompletableFuture.completedFuture(new byte[]{(byte) renders.incrementAndGet()});
+  }
+}
@@ -0,0 +1,423 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperExportManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class JdbcReportFillerTest {
+  private static final String SNAPSHOT = "00000003-0000001B-1";
+  private static final String MAIN_QUERY = "SELECT name FROM programs";
+  private static final String SUBDATASET_QUERY = "SELECT code FROM orderables";
+  private static final String BOUND_SUBDATASET_QUERY = SUBDATASET_QUERY + " WHERE ? IS NOT NULL";
+  private static final String PROGRAM_NAME = "Family Planning";
+  private static final String SECOND_CODE = "C200";
+  private static final String WATERMARK_QUERY = "SELECT watermark";
+  private static final String RELEASED = "connection released";
+  private static final String HELD = "connection held";
+  private static final String NAME = "name";
+  private static final String SECOND_PROGRAM_NAME = "Essential Meds";
+
+  private final JdbcReportFiller filler = new JdbcReportFiller();
+  private final DatasetCache datasetCache = new DatasetCache();
+  private final DataFreshnessService dataFreshnessService = new DataFreshnessService();
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final Connection prefetchConnection = mock(Connection.class);
+  private final Statement snapshotStatement = mock(Statement.class);
+  private final Statement prefetchStatement = mock(Statement.class);
+  private final PreparedStatement mainQuery = mock(PreparedStatement.class);
+  private final PreparedStatement subdatasetQuery = mock(PreparedStatement.class);
+
+  private final Map<String, Object> params = new HashMap<>();
+  private final AtomicBoolean released = new AtomicBoolean();
+
+  @Before
+  public void setUp() throws SQLException {
+    ReflectionTestUtils.setField(filler, "replicationDataSource", dataSource);
+    ReflectionTestUtils.setField(filler, "prefetchEnabled", true);
+    ReflectionTestUtils.setField(filler, "poolSize", 2);
+    ReflectionTestUtils.setField(filler, "queueCapacity", 2);
+    ReflectionTestUtils.setField(filler, "maxRows", 10);
+    ReflectionTestUtils.setField(filler, "snapshotWait", 1000L);
+    ReflectionTestUtils.setField(filler, "resultWait", 5000L);
+    ReflectionTestUtils.setField(filler, "materializeEnabled", true);
+    ReflectionTestUtils.setField(filler, "memoryRows", 10);
+    ReflectionTestUtils.setField(filler, "datasetCache", datasetCache);
+    ReflectionTestUtils.setField(filler, "renderLaneExecutor", new RenderLaneExecutor());
+    ReflectionTestUtils.setField(filler, "fetchSize", 100);
+    filler.start();
+
+    ReflectionTestUtils.setField(dataFreshnessService, "replicationDataSource", dataSource);
+    ReflectionTestUtils.setField(dataFreshnessService, "stockQuery", WATERMARK_QUERY);
+
+    ReflectionTestUtils.setField(datasetCache, "dataFreshnessService", dataFreshnessService);
+    ReflectionTestUtils.setField(datasetCache, "maxBytes", 1_000_000L);
+    ReflectionTestUtils.setField(datasetCache, "maxEntryRows", 100);
+    datasetCache.subscribe();
+
+    mockConnection(connection);
+    mockConnection(prefetchConnection);
+    when(dataSource.getConnection()).thenReturn(prefetchConnection);
+
+    when(connection.createStatement()).thenReturn(snapshotStatement);
+    when(snapshotStatement.executeQuery("SELECT pg_export_snapshot()"))
+        .thenAnswer(invocation -> rows("pg_export_snapshot", SNAPSHOT));
+    when(connection.prepareStatement(anyString())).thenReturn(mainQuery);
+    when(mainQuery.executeQuery()).thenAnswer(invocation -> rows(NAME, PROGRAM_NAME));
+
+    when(prefetchConnection.createStatement()).thenReturn(prefetchStatement);
+    when(prefetchConnection.prepareStatement(anyString())).thenReturn(subdatasetQuery);
+    when(subdatasetQuery.executeQuery())
+        .thenAnswer(invocation -> rows("code", "C100", SECOND_CODE));
+    doAnswer(invocation -> {
+      released.set(true);
+      return null;
+    }).when(connection).close();
+
+    params.put("program", "PRG001");
+    params.put("probe", new Object() {
+      @Override
+      public String toString() {
+        return released.get() ? RELEASED : HELD;
+      }
+    });
+  }
+
+  @After
+  public void tearDown() {
+    filler.stop();
+  }
+
+  @Test
+  public void shouldFillSubdatasetFromPrefetchedRows() throws Exception {
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+    String content = JasperExportManager.exportReportToXml(print);
+    assertThat(content, containsString(PROGRAM_NAME));
+    assertThat(content, containsString("C100"));
+    assertThat(content, containsString(SECOND_CODE));
+
+    verify(connection).prepareStatement(MAIN_QUERY);
+    verify(connection, never()).prepareStatement(BOUND_SUBDATASET_QUERY);
+    verify(prefetchConnection).prepareStatement(BOUND_SUBDATASET_QUERY);
+    verify(subdatasetQuery).setString(1, "PRG001");
+  }
+
+  @Test
+  public void shouldShareSnapshotOfFillConnection() throws Exception {
+    filler.fill(compileReport(true), params, () -> connection);
+
+    verify(connection).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+    verify(prefetchConnection).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+    verify(prefetchStatement).execute("SET TRANSACTION SNAPSHOT '" + SNAPSHOT + "'");
+  }
+
+  @Test
+  public void shouldRestoreConnectionsAfterFill() throws Exception {
+    filler.fill(compileReport(true), params, () -> connection);
+
+    verify(connection).rollback();
+    verify(connection).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    verify(connection).setAutoCommit(true);
+    verify(prefetchConnection).rollback();
+    verify(prefetchConnection).setAutoCommit(true);
+    verify(prefetchConnection).close();
+  }
+
+  @Test
+  public void shouldRunQueryInFillWhenRowsExceedLimit() throws Exception {
+    ReflectionTestUtils.setField(filler, "maxRows", 1);
+    when(connection.prepareStatement(BOUND_SUBDATASET_QUERY))
+        .thenReturn(subdatasetQuery);
+
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+    assertThat(JasperExportManager.exportReportToXml(print), containsString(SECOND_CODE));
+    verify(connection).prepareStatement(BOUND_SUBDATASET_QUERY);
+    verify(subdatasetQuery, times(2)).executeQuery();
+  }
+
+  @Test
+  public void shouldRunQueryInFillWhenPrefetchHasNoConnection() throws Exception {
+    when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException());
+    when(connection.prepareStatement(BOUND_SUBDATASET_QUERY))
+        .thenReturn(subdatasetQuery);
+
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+    assertThat(JasperExportManager.exportReportToXml(print), containsString(SECOND_CODE));
+    verify(connection).prepareStatement(BOUND_SUBDATASET_QUERY);
+  }
+
+  @Test
+  public void shouldRunQueryInFillWhenPrefetchDoesNotFinishInTime() throws Exception {
+    ReflectionTestUtils.setField(filler, "resultWait", 50L);
+    CountDownLatch release = new CountDownLatch(1);
+    PreparedStatement slowQuery = mock(PreparedStatement.class);
+    when(slowQuery.executeQuery()).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return rows("code", "C100", SECOND_CODE);
+    });
+    when(prefetchConnection.prepareStatement(anyString())).thenReturn(slowQuery);
+    when(connection.prepareStatement(BOUND_SUBDATASET_QUERY))
+        .thenReturn(subdatasetQuery);
+
+    try {
+      JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+      assertThat(JasperExportManager.exportReportToXml(print), containsString(SECOND_CODE));
+      verify(connection).prepareStatement(BOUND_SUBDATASET_QUERY);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void shouldFillReportWithoutSubdatasetsAsUsual() throws Exception {
+    filler.fill(compileReport(false), params, () -> connection);
+
+    verify(connection, never()).setAutoCommit(false);
+    verify(snapshotStatement, never()).executeQuery(anyString());
+    verify(dataSource, never()).getConnection();
+  }
+
+  @Test
+  public void shouldReleaseConnectionBeforeLayout() throws Exception {
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+    String content = JasperExportManager.exportReportToXml(print);
+    assertThat(content, containsString(RELEASED));
+    assertThat(content, containsString(PROGRAM_NAME));
+    verify(connection).rollback();
+    verify(connection).close();
+  }
+
+  @Test
+  public void shouldSpillMaterializedRowsOverMemoryLimit() throws Exception {
+    ReflectionTestUtils.setField(filler, "memoryRows", 0);
+    when(mainQuery.executeQuery())
+        .thenAnswer(invocation -> rows(NAME, PROGRAM_NAME, SECOND_PROGRAM_NAME));
+
+    JasperPrint print = filler.fill(compileReport(false), params, () -> connection);
+
+    String content = JasperExportManager.exportReportToXml(print);
+    assertThat(content, containsString(PROGRAM_NAME));
+    assertThat(content, containsString(SECOND_PROGRAM_NAME));
+    assertThat(content, containsString(RELEASED));
+  }
+
+  @Test
+  public void shouldHoldConnectionForWholeFillWhenMaterializationIsDisabled() throws Exception {
+    ReflectionTestUtils.setField(filler, "materializeEnabled", false);
+
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+    assertThat(JasperExportManager.exportReportToXml(print), containsString(HELD));
+    verify(connection).close();
+  }
+
+  @Test
+  public void shouldReuseCachedRowsInNextFill() throws Exception {
+    ReflectionTestUtils.setField(datasetCache, "enabled", true);
+    when(prefetchStatement.executeQuery(WATERMARK_QUERY))
+        .thenAnswer(invocation -> rows("watermark", "1"));
+    dataFreshnessService.refresh();
+
+    filler.fill(compileReport(true), params, () -> connection);
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection);
+
+    String content = JasperExportManager.exportReportToXml(print);
+    assertThat(content, containsString(PROGRAM_NAME));
+    assertThat(content, containsString(SECOND_CODE));
+    verify(mainQuery).executeQuery();
+    verify(subdatasetQuery).executeQuery();
+  }
+
+  @Test
+  public void shouldStreamMainQueryRowsWithoutFillingReport() throws Exception {
+    when(mainQuery.executeQuery())
+        .thenAnswer(invocation -> rows(NAME, PROGRAM_NAME, SECOND_PROGRAM_NAME));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long rows = filler.stream(compileReport(true), params, () -> connection,
+        DatasetWriter.create(DatasetWriter.CSV, output));
+
+    String content = new String(output.toByteArray(), StandardCharsets.UTF_8);
+    assertEquals(2, rows);
+    assertThat(content, startsWith("name\r\n"));
+    assertThat(content, containsString(PROGRAM_NAME + "\r\n"));
+    assertThat(content, containsString("Essential Meds\r\n"));
+    verify(mainQuery).setFetchSize(100);
+    verify(connection).setAutoCommit(false);
+    verify(connection).rollback();
+    verify(connection).close();
+    verify(dataSource, never()).getConnection();
+    verify(subdatasetQuery, never()).executeQuery();
+  }
+
+  @Test
+  public void shouldFillPartitionFromRowsReadOnce() throws Exception {
+    when(mainQuery.executeQuery())
+        .thenAnswer(invocation -> rows(NAME, PROGRAM_NAME, SECOND_PROGRAM_NAME));
+    PartitionedRows partitions = new PartitionedRows(NAME, 10);
+    filler.stream(compileReport(true), params, () -> connection, partitions);
+
+    JasperPrint print = filler.fill(compileReport(true), params, () -> connection,
+        partitions.getRows(SECOND_PROGRAM_NAME));
+
+    String content = JasperExportManager.exportReportToXml(print);
+    assertEquals(2, partitions.getPartitions().size());
+    assertThat(content, containsString(SECOND_PROGRAM_NAME));
+    assertThat(content, not(containsString(PROGRAM_NAME)));
+    assertThat(content, containsString(SECOND_CODE));
+    verify(mainQuery).executeQuery();
+    verify(prefetchConnection).prepareStatement(BOUND_SUBDATASET_QUERY);
+  }
+
+  @Test
+  public void shouldLimitMainQueryOfPreview() throws Exception {
+    when(mainQuery.executeQuery())
+        .thenAnswer(invocation -> rows(NAME, PROGRAM_NAME, SECOND_PROGRAM_NAME));
+    params.put(JRParameter.REPORT_MAX_COUNT, 1);
+
+    JasperPrint print = filler.fill(new PreviewReport(compileReport(true)), params,
+        () -> connection);
+
+    String content = JasperExportManager.exportReportToXml(print);
+    assertNotEquals(content.contains(PROGRAM_NAME), content.contains(SECOND_PROGRAM_NAME));
+    verify(connection).prepareStatement(
+        "SELECT * FROM (\n" + MAIN_QUERY + "\n) preview_rows LIMIT 1");
+    verify(mainQuery).setMaxRows(1);
+    verify(prefetchConnection).prepareStatement(BOUND_SUBDATASET_QUERY);
+    verify(subdatasetQuery).setMaxRows(11);
+    verify(subdatasetQuery, never()).setMaxRows(1);
+  }
+
+  @Test
+  public void shouldLimitOnlySingleSelectStatements() {
+    assertEquals("SELECT * FROM (\nWITH t AS (SELECT 1) SELECT * FROM t\n) preview_rows LIMIT 5",
+        PrefetchQueryExecuter.limitQuery(" WITH t AS (SELECT 1) SELECT * FROM t; ", 5));
+    assertNull(PrefetchQueryExecuter.limitQuery("{call report_rows(?)}", 5));
+    assertNull(PrefetchQueryExecuter.limitQuery("SELECT 1; SELECT 2", 5));
+  }
+
+  private static void mockConnection(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    when(connection.getMetaData()).thenReturn(metaData);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+  }
+
+  private static ResultSet rows(String column, String... values) throws SQLException {
+    RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+    metaData.setColumnCount(1);
+    metaData.setColumnName(1, column);
+    metaData.setColumnLabel(1, column);
+    metaData.setColumnType(1, Types.VARCHAR);
+
+    CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+    rows.setMetaData(metaData);
+
+    for (String value : values) {
+      rows.moveToInsertRow();
+      rows.updateString(1, value);
+      rows.insertRow();
+      rows.moveToCurrentRow();
+    }
+
+    rows.beforeFirst();
+    return rows;
+  }
+
+  private static JasperReport compileReport(boolean withSubdataset) throws JRException {
+    String list = "<componentElement>"
+        + "<reportElement x=\"0\" y=\"20\" width=\"200\" height=\"20\"/>"
+        + "<jr:list xmlns:jr=\"http://jasperreports.sourceforge.net/jasperreports/components\">"
+        + "<datasetRun subDataset=\"Orderables\">"
+        + "<datasetParameter name=\"program\">"
+        + "<datasetParameterExpression><![CDATA[$P{program}]]></datasetParameterExpression>"
+        + "</datasetParameter>"
+        + "<connectionExpression><![CDATA[$P{REPORT_CONNECTION}]]></connectionExpression>"
+        + "</datasetRun>"
+        + "<jr:listContents height=\"20\"><textField>"
+        + "<reportElement x=\"0\" y=\"0\" width=\"200\" height=\"20\"/>"
+        + "<textFieldExpression><![CDATA[$F{code}]]></textFieldExpression>"
+        + "</textField></jr:listContents>"
+        + "</jr:list></componentElement>";
+
+    String jrxml = "<jasperReport xmlns=\"http://jasperreports.sourceforge.net/jasperreports\""
+        + " name=\"prefetch\" pageWidth=\"595\" pageHeight=\"842\" columnWidth=\"555\">"
+        + (withSubdataset
+        ? "<subDataset name=\"Orderables\">"
+        + "<parameter name=\"program\" class=\"java.lang.String\"/>"
+        + "<queryString><![CDATA[" + SUBDATASET_QUERY
+        + " WHERE $P{program} IS NOT NULL]]></queryString>"
+        + "<field name=\"code\" class=\"java.lang.String\"/>"
+        + "</subDataset>"
+        : "")
+        + "<parameter name=\"program\" class=\"java.lang.String\"/>"
+        + "<parameter name=\"probe\" class=\"java.lang.Object\"/>"
+        + "<queryString language=\"plsql\"><![CDATA[" + MAIN_QUERY + "]]></queryString>"
+        + "<field name=\"name\" class=\"java.lang.String\"/>"
+        + "<detail><band height=\"40\"><textField>"
+        + "<reportElement x=\"0\" y=\"0\" width=\"200\" height=\"20\"/>"
+        + "<textFieldExpression><![CDATA[$F{name}]]></textFieldExpression>"
+        + "</textField><textField>"
+        + "<reportElement x=\"200\" y=\"0\" width=\"200\" height=\"20\"/>"
+        + "<textFieldExpression><![CDATA[String.valueOf($P{probe})]]></textFieldExpression>"
+        + "</textField>"
+        + (withSubdataset ? list : "")
+        + "</band></detail></jasperReport>";
+
+    return JasperCompileManager.compileReport(
+        new ByteArrayInputStream(jrxml.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,79 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+public class OnDemandConnectionTest {
+  private static final String QUERY = "SELECT 1";
+  private static final String PRODUCT_NAME = "PostgreSQL";
+
+  private final Connection connection = mock(Connection.class);
+  private final JdbcReportFiller.ConnectionSupplier supplier =
+      mock(JdbcReportFiller.ConnectionSupplier.class);
+  private final OnDemandConnection onDemand = new OnDemandConnection(supplier);
+
+  @Before
+  public void setUp() throws SQLException {
+    when(supplier.getConnection()).thenReturn(connection);
+  }
+
+  @Test
+  public void shouldTakeConnectionOnFirstUse() throws SQLException {
+    DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    when(connection.getMetaData()).thenReturn(metaData);
+
+    assertThat(onDemand.getProxy().getMetaData(), is(metaData));
+    onDemand.getProxy().prepareStatement(QUERY);
+
+    verify(supplier).getConnection();
+  }
+
+  @Test
+  public void shouldTakeConnectionAgainForQueryAfterRelease() throws SQLException {
+    onDemand.getProxy().prepareStatement(QUERY);
+    onDemand.getProxy().close();
+    onDemand.getProxy().prepareStatement(QUERY);
+
+    verify(supplier, times(2)).getConnection();
+    verify(connection).close();
+  }
+
+  @Test
+  public void shouldDescribeConnectionAfterReleaseWithoutTakingIt() throws SQLException {
+    DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    when(metaData.getDatabaseProductName()).thenReturn(PRODUCT_NAME);
+    when(metaData.getDriverMajorVersion()).thenReturn(42);
+    when(connection.getMetaData()).thenReturn(metaData);
+
+    onDemand.getProxy().prepareStatement(QUERY);
+    onDemand.release();
+    DatabaseMetaData released = onDemand.getProxy().getMetaData();
+
+    assertThat(released.getDatabaseProductName(), is(PRODUCT_NAME));
+    assertThat(released.getDriverMajorVersion(), is(42));
+    assertThat(released.getConnection(), is(onDemand.getProxy()));
+    verify(supplier).getConnection();
+    verify(connection).close();
+  }
+
+  @Test(expected = SQLFeatureNotSupportedException.class)
+  public void shouldNotQueryMetaDataOfReleasedConnection() throws SQLException {
+    when(connection.getMetaData()).thenReturn(mock(DatabaseMetaData.class));
+
+    onDemand.getProxy().prepareStatement(QUERY);
+    onDemand.release();
+    onDemand.getProxy().getMetaData().getTables(null, null, null, null);
+  }
+}
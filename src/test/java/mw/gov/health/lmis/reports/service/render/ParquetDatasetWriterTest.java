@@ -0,0 +1,205 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.data.JRMapCollectionDataSource;
+import net.sf.jasperreports.engine.design.JRDesignField;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the files written by {@link ParquetDatasetWriter} back with the Apache Parquet reader, so
+ * the encodings of the pages and the metadata are checked against the reference implementation.
+ */
+public class ParquetDatasetWriterTest {
+  private static final String NAME = "name";
+  private static final String DISTRICT = "district";
+  private static final String COMMENT = "comment";
+  private static final String STOCKED_OUT = "stockedOut";
+  private static final String QUANTITY = "quantity";
+  private static final String PRICE = "price";
+  private static final String PROCESSED_DATE = "processedDate";
+  private static final String OCCURRED_DATE = "occurredDate";
+  private static final String ZOMBA = "Zomba";
+  private static final long TIMESTAMP = 1760000000123L;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldWriteSchemaWithTypesOfFields() throws Exception {
+    Path file = write(createRows(3));
+
+    try (ParquetFileReader reader = ParquetFileReader.open(
+        HadoopInputFile.fromPath(file, new Configuration()))) {
+      MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+
+      assertEquals(3, reader.getRecordCount());
+      assertType(schema, NAME, PrimitiveTypeName.BINARY, OriginalType.UTF8);
+      assertType(schema, STOCKED_OUT, PrimitiveTypeName.BOOLEAN, null);
+      assertType(schema, QUANTITY, PrimitiveTypeName.INT32, null);
+      assertType(schema, PRICE, PrimitiveTypeName.DOUBLE, null);
+      assertType(schema, PROCESSED_DATE, PrimitiveTypeName.INT64,
+          OriginalType.TIMESTAMP_MILLIS);
+      assertType(schema, OCCURRED_DATE, PrimitiveTypeName.INT32, OriginalType.DATE);
+    }
+  }
+
+  @Test
+  public void shouldReadBackValuesAndNulls() throws Exception {
+    List<Group> groups = read(write(createRows(3)));
+
+    assertEquals(3, groups.size());
+
+    Group first = groups.get(0);
+    assertEquals("Facility 0", first.getString(NAME, 0));
+    assertEquals(ZOMBA, first.getString(DISTRICT, 0));
+    assertTrue(first.getBoolean(STOCKED_OUT, 0));
+    assertEquals(0, first.getInteger(QUANTITY, 0));
+    assertEquals(0.5, first.getDouble(PRICE, 0), 0);
+    assertEquals(TIMESTAMP, first.getLong(PROCESSED_DATE, 0));
+    assertEquals(LocalDate.of(2026, 10, 1).toEpochDay(), first.getInteger(OCCURRED_DATE, 0));
+    assertNull(getValue(first, COMMENT));
+
+    Group second = groups.get(1);
+    assertEquals(ZOMBA, second.getString(DISTRICT, 0));
+    assertNull(getValue(second, NAME));
+    assertNull(getValue(second, STOCKED_OUT));
+    assertNull(getValue(second, QUANTITY));
+    assertNull(getValue(second, PRICE));
+    assertNull(getValue(second, PROCESSED_DATE));
+    assertNull(getValue(second, OCCURRED_DATE));
+    assertNull(getValue(second, COMMENT));
+
+    Group third = groups.get(2);
+    assertEquals("Facility 2", third.getString(NAME, 0));
+    assertFalse(third.getBoolean(STOCKED_OUT, 0));
+    assertEquals(2, third.getInteger(QUANTITY, 0));
+  }
+
+  @Test
+  public void shouldReadBackRunsAndBitPackedGroupsOfManyRows() throws Exception {
+    List<Group> groups = read(write(createRows(100)));
+
+    assertEquals(100, groups.size());
+
+    for (int i = 0; i < groups.size(); ++i) {
+      Group group = groups.get(i);
+
+      if (i % 2 == 1) {
+        assertNull(getValue(group, NAME));
+        assertNull(getValue(group, STOCKED_OUT));
+        continue;
+      }
+
+      assertEquals("Facility " + i, group.getString(NAME, 0));
+      assertEquals(i % 4 == 0, group.getBoolean(STOCKED_OUT, 0));
+      assertEquals(i, group.getInteger(QUANTITY, 0));
+      assertEquals(ZOMBA, group.getString(DISTRICT, 0));
+    }
+  }
+
+  private Path write(Collection<Map<String, ?>> rows) throws Exception {
+    File file = folder.newFile("rows.parquet");
+
+    try (OutputStream output = new FileOutputStream(file)) {
+      DatasetWriter.create(DatasetWriter.PARQUET, output).write(new JRField[]{
+          field(NAME, String.class),
+          field(DISTRICT, String.class),
+          field(COMMENT, String.class),
+          field(STOCKED_OUT, Boolean.class),
+          field(QUANTITY, Integer.class),
+          field(PRICE, BigDecimal.class),
+          field(PROCESSED_DATE, Timestamp.class),
+          field(OCCURRED_DATE, Date.class)
+      }, new JRMapCollectionDataSource(rows));
+    }
+
+    return new Path(file.toURI());
+  }
+
+  private static List<Group> read(Path file) throws Exception {
+    List<Group> groups = new ArrayList<>();
+
+    try (ParquetReader<Group> reader = ParquetReader
+        .builder(new GroupReadSupport(), file)
+        .build()) {
+      for (Group group = reader.read(); null != group; group = reader.read()) {
+        groups.add(group);
+      }
+    }
+
+    return groups;
+  }
+
+  // the rows with odd numbers have only the district, which is the same in all rows, so its
+  // dictionary has a single entry, and the comment is null in all rows
+  private static Collection<Map<String, ?>> createRows(int count) {
+    Collection<Map<String, ?>> rows = new ArrayList<>();
+
+    for (int i = 0; i < count; ++i) {
+      Map<String, Object> row = new HashMap<>();
+      row.put(DISTRICT, ZOMBA);
+
+      if (i % 2 == 0) {
+        row.put(NAME, "Facility " + i);
+        row.put(STOCKED_OUT, i % 4 == 0);
+        row.put(QUANTITY, i);
+        row.put(PRICE, new BigDecimal(i).add(new BigDecimal("0.5")));
+        row.put(PROCESSED_DATE, new Timestamp(TIMESTAMP + i));
+        row.put(OCCURRED_DATE, Date.valueOf(LocalDate.of(2026, 10, 1).plusDays(i)));
+      }
+
+      rows.add(row);
+    }
+
+    return rows;
+  }
+
+  private static Object getValue(Group group, String field) {
+    return 0 == group.getFieldRepetitionCount(field) ? null : group.getValueToString(
+        group.getType().getFieldIndex(field), 0);
+  }
+
+  private static void assertType(MessageType schema, String field, PrimitiveTypeName type,
+                                 OriginalType originalType) {
+    assertEquals(type, schema.getType(field).asPrimitiveType().getPrimitiveTypeName());
+    assertEquals(originalType, schema.getType(field).getOriginalType());
+  }
+
+  private static JRField field(String name, Class<?> valueClass) {
+    JRDesignField field = new JRDesignField();
+    field.setName(name);
+    field.setValueClass(valueClass);
+    return field;
+  }
+}
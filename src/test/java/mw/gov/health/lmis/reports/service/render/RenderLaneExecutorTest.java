@@ -0,0 +1,202 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import mw.gov.health.lmis.reports.exception.ServiceUnavailableMessageException;
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class RenderLaneExecutorTest {
+  private static final byte[] REPORT = new byte[]{1};
+
+  private final RenderLaneExecutor executor = new RenderLaneExecutor();
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+
+  @Before
+  public void setUp() throws SQLException {
+    ReflectionTestUtils.setField(executor, "interactivePoolSize", 2);
+    ReflectionTestUtils.setField(executor, "interactiveQueueCapacity", 2);
+    ReflectionTestUtils.setField(executor, "interactiveConnections", 2);
+    ReflectionTestUtils.setField(executor, "aggregatePoolSize", 1);
+    ReflectionTestUtils.setField(executor, "aggregateQueueCapacity", 1);
+    ReflectionTestUtils.setField(executor, "aggregateConnections", 1);
+    ReflectionTestUtils.setField(executor, "prerenderPoolSize", 1);
+    ReflectionTestUtils.setField(executor, "prerenderQueueCapacity", 1);
+    ReflectionTestUtils.setField(executor, "prerenderConnections", 1);
+    ReflectionTestUtils.setField(executor, "connectionTimeout", 50L);
+    executor.start();
+
+    when(dataSource.getConnection()).thenReturn(connection);
+  }
+
+  @After
+  public void tearDown() {
+    executor.stop();
+  }
+
+  @Test
+  public void shouldRenderInThreadOfLane() throws Exception {
+    String[] thread = new String[1];
+
+    executor.submit(RenderLane.AGGREGATE, () -> {
+      thread[0] = Thread.currentThread().getName();
+      return REPORT;
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(thread[0], startsWith("render-aggregate-"));
+  }
+
+  @Test(expected = SQLException.class)
+  public void shouldLimitConnectionsOfLane() throws Throwable {
+    try {
+      executor.submit(RenderLane.AGGREGATE, () -> {
+        try (Connection first = executor.getConnection(dataSource);
+             Connection second = executor.getConnection(dataSource)) {
+          return REPORT;
+        } catch (SQLException ex) {
+          throw new IllegalStateException(ex);
+        }
+      }).get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException ex) {
+      throw ex.getCause().getCause();
+    }
+  }
+
+  @Test
+  public void shouldReleaseConnectionQuotaWhenConnectionIsClosed() throws Exception {
+    byte[] report = executor.submit(RenderLane.AGGREGATE, () -> {
+      try {
+        executor.getConnection(dataSource).close();
+        executor.getConnection(dataSource).close();
+        return REPORT;
+      } catch (SQLException ex) {
+        throw new IllegalStateException(ex);
+      }
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(report, is(REPORT));
+    verify(connection, times(2)).close();
+  }
+
+  @Test(expected = SQLException.class)
+  public void shouldCountConnectionsOfOtherThreadsAgainstCapturedLane() throws Throwable {
+    JdbcReportFiller.ConnectionSupplier supplier = executor.submit(RenderLane.AGGREGATE,
+        () -> executor.getConnectionSupplier(dataSource)).get(5, TimeUnit.SECONDS);
+
+    try (Connection first = supplier.getConnection();
+         Connection second = supplier.getConnection()) {
+      assertThat(first, is(connection));
+    }
+  }
+
+  @Test(expected = SQLTransientConnectionException.class, timeout = 5000)
+  public void shouldNotWaitForSpareConnectionWhenQuotaIsTaken() throws Throwable {
+    JdbcReportFiller.ConnectionSupplier supplier = executor.submit(RenderLane.AGGREGATE,
+        () -> executor.getConnectionSupplier(dataSource)).get(5, TimeUnit.SECONDS);
+    JdbcReportFiller.ConnectionSupplier spare = executor.submit(RenderLane.AGGREGATE,
+        () -> executor.getSpareConnectionSupplier(dataSource)).get(5, TimeUnit.SECONDS);
+    ReflectionTestUtils.setField(executor, "connectionTimeout", 60_000L);
+
+    try (Connection first = supplier.getConnection();
+         Connection second = spare.getConnection()) {
+      assertThat(first, is(connection));
+    }
+  }
+
+  @Test
+  public void shouldNotLimitConnectionsOutsideOfLanes() throws SQLException {
+    try (Connection first = executor.getConnection(dataSource);
+         Connection second = executor.getConnection(dataSource)) {
+      assertThat(first, is(connection));
+      assertThat(second, is(connection));
+    }
+  }
+
+  @Test(expected = ServiceUnavailableMessageException.class)
+  public void shouldRejectRenderWhenQueueOfLaneIsFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    executor.submit(RenderLane.AGGREGATE, () -> {
+      started.countDown();
+      await(release);
+      return REPORT;
+    });
+    started.await(5, TimeUnit.SECONDS);
+    executor.submit(RenderLane.AGGREGATE, () -> REPORT);
+
+    try {
+      executor.submit(RenderLane.AGGREGATE, () -> REPORT);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void shouldRenderInteractiveReportsWhenAggregateLaneIsBusy() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    executor.submit(RenderLane.AGGREGATE, () -> {
+      started.countDown();
+      await(release);
+      return REPORT;
+    });
+    started.await(5, TimeUnit.SECONDS);
+
+    try {
+      assertThat(executor.submit(RenderLane.INTERACTIVE, () -> REPORT).get(5, TimeUnit.SECONDS),
+          is(REPORT));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void shouldInterruptRenderWhenResultIsCancelled() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    CompletableFuture<byte[]> result = executor.submit(RenderLane.AGGREGATE, () -> {
+      started.countDown();
+      try {
+        Thread.sleep(5000);
+      } catch (InterruptedException ex) {
+        interrupted.countDown();
+      }
+      return REPORT;
+    });
+    started.await(5, TimeUnit.SECONDS);
+    result.cancel(true);
+
+    assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
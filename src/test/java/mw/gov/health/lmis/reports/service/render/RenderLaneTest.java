@@ -0,0 +1,59 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static mw.gov.health.lmis.reports.web.ReportTypes.AGGREGATE_ORDERS_REPORT;
+import static mw.gov.health.lmis.reports.web.ReportTypes.ORDER_REPORT;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import net.sf.jasperreports.engine.JasperReport;
+import org.junit.Test;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+
+public class RenderLaneTest {
+
+  @Test
+  public void shouldRenderOrderReportsInInteractiveLane() {
+    assertThat(RenderLane.of(createTemplate(ORDER_REPORT), null), is(RenderLane.INTERACTIVE));
+  }
+
+  @Test
+  public void shouldRenderOtherReportsInAggregateLane() {
+    assertThat(RenderLane.of(createTemplate(AGGREGATE_ORDERS_REPORT), null),
+        is(RenderLane.AGGREGATE));
+    assertThat(RenderLane.of(createTemplate(null), null), is(RenderLane.AGGREGATE));
+  }
+
+  @Test
+  public void shouldUseLaneFromTemplateProperty() {
+    JasperReport report = mock(JasperReport.class);
+    when(report.getProperty(RenderLane.PROPERTY)).thenReturn(" interactive ");
+
+    assertThat(RenderLane.of(createTemplate(AGGREGATE_ORDERS_REPORT), report),
+        is(RenderLane.INTERACTIVE));
+  }
+
+  @Test
+  public void shouldIgnoreUnknownLaneInTemplateProperty() {
+    JasperReport report = mock(JasperReport.class);
+    when(report.getProperty(RenderLane.PROPERTY)).thenReturn("express");
+
+    assertThat(RenderLane.of(createTemplate(ORDER_REPORT), report), is(RenderLane.INTERACTIVE));
+  }
+
+  @Test
+  public void shouldNotAssignTemplateToPrerenderLane() {
+    JasperReport report = mock(JasperReport.class);
+    when(report.getProperty(RenderLane.PROPERTY)).thenReturn("prerender");
+
+    assertThat(RenderLane.of(createTemplate(null), report), is(RenderLane.AGGREGATE));
+  }
+
+  private JasperTemplate createTemplate(String type) {
+    JasperTemplate template = new JasperTemplate();
+    template.setType(type);
+    return template;
+  }
+}
@@ -0,0 +1,197 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import net.sf.jasperreports.engine.design.JRDesignField;
+import net.sf.jasperreports.engine.design.JRDesignParameter;
+import net.sf.jasperreports.engine.design.JRDesignQuery;
+import net.sf.jasperreports.engine.design.JasperDesign;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import mw.gov.health.lmis.reports.exception.ValidationMessageException;
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class ReportCostPreflightTest {
+  private static final String TEMPLATE = "template";
+  private static final String PLAN = "[{\"Plan\": {\"Node Type\": \"Seq Scan\", "
+      + "\"Startup Cost\": 0.00, \"Total Cost\": %s, \"Plan Rows\": 1000}}]";
+
+  private final ReportCostPreflight preflight = new ReportCostPreflight();
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final PreparedStatement statement = mock(PreparedStatement.class);
+  private final ResultSet plan = mock(ResultSet.class);
+  private final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+
+  private final Map<String, Object> params = new HashMap<>();
+  private JasperReport report;
+
+  @Before
+  public void setUp() throws Exception {
+    ReflectionTestUtils.setField(preflight, "replicationDataSource", dataSource);
+    ReflectionTestUtils.setField(preflight, "renderLaneExecutor", new RenderLaneExecutor());
+    ReflectionTestUtils.setField(preflight, "enabled", true);
+    ReflectionTestUtils.setField(preflight, "aggregateCost", 1000d);
+    ReflectionTestUtils.setField(preflight, "maxCost", 100000d);
+
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getMetaData()).thenReturn(metaData);
+    when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(plan);
+    when(plan.next()).thenReturn(true);
+
+    report = compileReport(null);
+    params.put("program", "PRG001");
+  }
+
+  @Test
+  public void shouldExtractTotalCostFromPlan() throws Exception {
+    assertThat(ReportCostPreflight.getTotalCost(String.format(PLAN, "1234.56")), is(1234.56));
+  }
+
+  @Test
+  public void shouldEstimateRowsFromPlan() throws SQLException {
+    returnCost(10);
+
+    CostEstimate estimate = preflight.estimate(TEMPLATE, report, params);
+
+    assertThat(estimate.getRows(), is(1000d));
+    assertThat(estimate.getCost(), is(10d));
+  }
+
+  @Test
+  public void shouldCheckGivenEstimateWithoutPlanningAgain() throws SQLException {
+    CostEstimate estimate = new CostEstimate(5000d, 1000d);
+
+    assertThat(preflight.check(TEMPLATE, report, estimate, RenderLane.INTERACTIVE),
+        is(RenderLane.AGGREGATE));
+    verify(dataSource, never()).getConnection();
+  }
+
+  @Test
+  public void shouldPlanMainQueryWithBoundParameters() throws SQLException {
+    returnCost(10);
+
+    preflight.check(TEMPLATE, report, params, RenderLane.INTERACTIVE);
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(connection).prepareStatement(sql.capture());
+    assertThat(sql.getValue(), startsWith("EXPLAIN (FORMAT JSON) SELECT name FROM programs"));
+    verify(statement).setString(1, "PRG001");
+    verify(connection).close();
+  }
+
+  @Test
+  public void shouldKeepLaneOfCheapReport() throws SQLException {
+    returnCost(10);
+
+    assertThat(preflight.check(TEMPLATE, report, params, RenderLane.INTERACTIVE),
+        is(RenderLane.INTERACTIVE));
+  }
+
+  @Test
+  public void shouldMoveExpensiveReportToAggregateLane() throws SQLException {
+    returnCost(5000);
+
+    assertThat(preflight.check(TEMPLATE, report, params, RenderLane.INTERACTIVE),
+        is(RenderLane.AGGREGATE));
+  }
+
+  @Test(expected = ValidationMessageException.class)
+  public void shouldRejectReportAboveMaximalCost() throws SQLException {
+    returnCost(500000);
+
+    preflight.check(TEMPLATE, report, params, RenderLane.AGGREGATE);
+  }
+
+  @Test
+  public void shouldUseThresholdFromTemplateProperty() throws Exception {
+    returnCost(500000);
+    report = compileReport("1000000");
+
+    assertThat(preflight.check(TEMPLATE, report, params, RenderLane.AGGREGATE),
+        is(RenderLane.AGGREGATE));
+  }
+
+  @Test
+  public void shouldKeepLaneWhenCostCouldNotBeEstimated() throws SQLException {
+    when(connection.prepareStatement(anyString())).thenThrow(new SQLException("test"));
+
+    assertThat(preflight.check(TEMPLATE, report, params, RenderLane.INTERACTIVE),
+        is(RenderLane.INTERACTIVE));
+  }
+
+  @Test
+  public void shouldNotCheckReportFilledFromDataSource() throws SQLException {
+    params.put("datasource", new JRBeanCollectionDataSource(Collections.emptyList()));
+
+    assertThat(preflight.check(TEMPLATE, report, params, RenderLane.INTERACTIVE),
+        is(RenderLane.INTERACTIVE));
+    verify(dataSource, never()).getConnection();
+  }
+
+  @Test
+  public void shouldNotCheckReportWhenDisabled() throws SQLException {
+    ReflectionTestUtils.setField(preflight, "enabled", false);
+
+    assertThat(preflight.check(TEMPLATE, report, params, RenderLane.INTERACTIVE),
+        is(RenderLane.INTERACTIVE));
+    verify(dataSource, never()).getConnection();
+  }
+
+  private void returnCost(double cost) throws SQLException {
+    when(plan.getString(1)).thenReturn(String.format(PLAN, cost));
+  }
+
+  private static JasperReport compileReport(String maxCost) throws JRException {
+    JasperDesign design = new JasperDesign();
+    design.setName("preflight");
+
+    if (null != maxCost) {
+      design.setProperty(ReportCostPreflight.MAX_COST_PROPERTY, maxCost);
+    }
+
+    JRDesignParameter parameter = new JRDesignParameter();
+    parameter.setName("program");
+    parameter.setValueClass(String.class);
+    design.addParameter(parameter);
+
+    JRDesignField field = new JRDesignField();
+    field.setName("name");
+    field.setValueClass(String.class);
+    design.addField(field);
+
+    JRDesignQuery query = new JRDesignQuery();
+    query.setLanguage("sql");
+    query.setText("SELECT name FROM programs WHERE $P{program} IS NULL OR code = $P{program}");
+    design.setQuery(query);
+
+    return JasperCompileManager.compileReport(design);
+  }
+}
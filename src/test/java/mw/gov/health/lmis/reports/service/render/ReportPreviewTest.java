@@ -0,0 +1,171 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import net.sf.jasperreports.engine.JREmptyDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRVirtualizer;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.utils.Checksums;
+
+public class ReportPreviewTest {
+  private static final String IMAGES_URL = "http://localhost/previews/1/images/";
+  private static final Pattern IMAGE = Pattern.compile("<img src=\"" + IMAGES_URL + "([^\"]+)\"");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final JasperReportExporter exporter = new JasperReportExporter();
+  private final ReportPreviewCache cache = new ReportPreviewCache();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(cache, "maxPreviews", 2);
+    ReflectionTestUtils.setField(cache, "maxIdle", 60_000L);
+  }
+
+  @Test
+  public void shouldExportRequestedPagesWithSharedImages()
+      throws IOException, JRException, JasperReportViewException {
+    ReportPreview preview = fill(3);
+    assertEquals(3, preview.getPageCount());
+
+    String second = new String(
+        preview.exportPages(exporter, 1, 1, IMAGES_URL), StandardCharsets.UTF_8);
+    assertThat(second, containsString("row 2"));
+    assertThat(second, not(containsString("row 1")));
+    assertThat(second, not(containsString("row 3")));
+
+    String range = new String(
+        preview.exportPages(exporter, 0, 2, IMAGES_URL), StandardCharsets.UTF_8);
+    assertThat(range, containsString("row 1"));
+    assertThat(range, containsString("row 3"));
+
+    Matcher images = IMAGE.matcher(range);
+    int count = 0;
+    String name = null;
+
+    while (images.find()) {
+      assertEquals(null == name ? images.group(1) : name, images.group(1));
+      name = images.group(1);
+      ++count;
+    }
+
+    // the logo of each page is a single image, named by the hash of its content
+    assertEquals(3, count);
+    byte[] logo = Files.readAllBytes(new File(folder.getRoot(), "logo.png").toPath());
+    assertEquals(Checksums.sha256(logo) + ".png", name);
+    assertArrayEquals(logo, preview.getImage(name));
+
+    preview.discard();
+    assertNull(preview.exportPages(exporter, 0, 0, IMAGES_URL));
+    assertNull(preview.getImage(name));
+  }
+
+  @Test
+  public void shouldDiscardLeastRecentlyUsedPreviews() {
+    JRVirtualizer first = mock(JRVirtualizer.class);
+    JRVirtualizer second = mock(JRVirtualizer.class);
+    JRVirtualizer third = mock(JRVirtualizer.class);
+
+    ReportPreview firstPreview = cache.add(preview(first));
+    ReportPreview secondPreview = cache.add(preview(second));
+    assertEquals(firstPreview, cache.get(firstPreview.getId()));
+
+    cache.add(preview(third));
+
+    assertNull(cache.get(secondPreview.getId()));
+    assertEquals(firstPreview, cache.get(firstPreview.getId()));
+    verify(second).cleanup();
+    verify(first, never()).cleanup();
+
+    cache.clear();
+    verify(first).cleanup();
+    verify(third).cleanup();
+  }
+
+  @Test
+  public void shouldDiscardExpiredPreviews() {
+    JRVirtualizer virtualizer = mock(JRVirtualizer.class);
+    ReportPreview preview = cache.add(preview(virtualizer));
+
+    cache.purge();
+    assertEquals(preview, cache.get(preview.getId()));
+
+    ReflectionTestUtils.setField(cache, "maxIdle", -1L);
+    assertNull(cache.get(preview.getId()));
+    cache.purge();
+
+    verify(virtualizer, times(1)).cleanup();
+  }
+
+  private ReportPreview preview(JRVirtualizer virtualizer) {
+    return new ReportPreview(UUID.randomUUID(), "preview", UUID.randomUUID(),
+        new JasperPrint(), virtualizer);
+  }
+
+  private ReportPreview fill(int rows) throws IOException, JRException {
+    File logo = new File(folder.getRoot(), "logo.png");
+    ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "png", logo);
+
+    String jrxml = "<jasperReport xmlns=\"http://jasperreports.sourceforge.net/jasperreports\""
+        + " name=\"preview\" pageWidth=\"595\" pageHeight=\"200\" columnWidth=\"555\">"
+        + "<pageHeader><band height=\"30\"><image>"
+        + "<reportElement x=\"0\" y=\"0\" width=\"20\" height=\"20\"/>"
+        + "<imageExpression><![CDATA[\"" + logo.getAbsolutePath().replace("\\", "\\\\")
+        + "\"]]></imageExpression></image></band></pageHeader>"
+        + "<detail><band height=\"100\"><textField>"
+        + "<reportElement x=\"0\" y=\"0\" width=\"200\" height=\"20\"/>"
+        + "<textFieldExpression><![CDATA[\"row \" + $V{REPORT_COUNT}]]></textFieldExpression>"
+        + "</textField></band></detail></jasperReport>";
+    JasperReport report = JasperCompileManager.compileReport(
+        new ByteArrayInputStream(jrxml.getBytes(StandardCharsets.UTF_8)));
+
+    JRSwapFileVirtualizer virtualizer = new JRSwapFileVirtualizer(
+        1, new JRSwapFile(folder.getRoot().getAbsolutePath(), 1024, 10), true);
+    Map<String, Object> params = new HashMap<>();
+    params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+
+    JasperPrint print = JasperFillManager.fillReport(report, params, new JREmptyDataSource(rows));
+    virtualizer.setReadOnly(true);
+
+    return cache.add(new ReportPreview(UUID.randomUUID(), "preview", UUID.randomUUID(), print,
+        virtualizer));
+  }
+}
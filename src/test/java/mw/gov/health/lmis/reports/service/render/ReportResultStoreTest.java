@@ -0,0 +1,177 @@
+package mw.gov.health.lmis.reports.service.render;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.sql.DataSource;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import mw.gov.health.lmis.reports.service.freshness.DataFreshnessService;
+import mw.gov.health.lmis.reports.service.freshness.SourceDomain;
+
+public class ReportResultStoreTest {
+  private static final String WATERMARK_QUERY = "SELECT watermark";
+  private static final UUID TEMPLATE_ID = UUID.randomUUID();
+  private static final LocalDate DATE = LocalDate.of(2018, 3, 1);
+  private static final String PDF = "pdf";
+  private static final String PROGRAM = "PRG001";
+  private static final Set<SourceDomain> STOCK = EnumSet.of(SourceDomain.STOCK);
+
+  private final ReportResultStore store = new ReportResultStore();
+  private final DataFreshnessService dataFreshnessService = new DataFreshnessService();
+
+  private String watermark = "1";
+
+  @Before
+  public void setUp() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    Statement watermarkStatement = mock(Statement.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(watermarkStatement);
+    when(watermarkStatement.executeQuery(WATERMARK_QUERY))
+        .thenAnswer(invocation -> watermark(watermark));
+
+    ReflectionTestUtils.setField(dataFreshnessService, "replicationDataSource", dataSource);
+    ReflectionTestUtils.setField(dataFreshnessService, "stockQuery", WATERMARK_QUERY);
+
+    ReflectionTestUtils.setField(store, "dataFreshnessService", dataFreshnessService);
+    ReflectionTestUtils.setField(store, "maxBytes", 100L);
+    ReflectionTestUtils.setField(store, "maxAge", 60_000L);
+    store.subscribe();
+    dataFreshnessService.refresh();
+  }
+
+  @Test
+  public void shouldCreateSameKeyForAnyUser() {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("program", PROGRAM);
+    String key = ReportResultStore.createKey(TEMPLATE_ID, PDF, Locale.ENGLISH, parameters, DATE);
+
+    parameters.put(ReportResultStore.USER_PARAMETER, "administrator");
+    assertEquals(key,
+        ReportResultStore.createKey(TEMPLATE_ID, PDF, Locale.ENGLISH, parameters, DATE));
+    assertNotEquals(key, ReportResultStore.createKey(
+        TEMPLATE_ID, PDF, Locale.ENGLISH, parameters, DATE.plusDays(1)));
+  }
+
+  @Test
+  public void shouldReturnStoredReport() {
+    String key = key(PROGRAM);
+    assertTrue(store.put(key, store.getVersion(), STOCK, new byte[]{1, 2, 3}));
+
+    assertArrayEquals(new byte[]{1, 2, 3}, store.get(key));
+    assertNull(store.get(key("PRG002")));
+  }
+
+  @Test
+  public void shouldClearStoreWhenWatermarkChanges() {
+    String key = key(PROGRAM);
+    store.put(key, store.getVersion(), STOCK, new byte[10]);
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    assertNull(store.get(key));
+  }
+
+  @Test
+  public void shouldKeepReportsOfOtherDomainsWhenWatermarkChanges() {
+    store.put(key("A"), store.getVersion(), STOCK, new byte[10]);
+    store.put(key("B"), store.getVersion(), EnumSet.of(SourceDomain.ORDERS), new byte[10]);
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    assertFalse(store.contains(key("A")));
+    assertTrue(store.contains(key("B")));
+  }
+
+  @Test
+  public void shouldNotStoreReportRenderedBeforeWatermarkChange() {
+    Map<SourceDomain, Long> version = store.getVersion();
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    assertFalse(store.put(key(PROGRAM), version, STOCK, new byte[10]));
+    assertFalse(store.contains(key(PROGRAM)));
+  }
+
+  @Test
+  public void shouldStoreReportRenderedBeforeWatermarkChangeOfOtherDomain() {
+    Map<SourceDomain, Long> version = store.getVersion();
+    watermark = "2";
+    dataFreshnessService.refresh();
+
+    assertTrue(store.put(key(PROGRAM), version, EnumSet.of(SourceDomain.ORDERS), new byte[10]));
+    assertTrue(store.contains(key(PROGRAM)));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedReportsOverBudget() {
+    store.put(key("A"), store.getVersion(), STOCK, new byte[40]);
+    store.put(key("B"), store.getVersion(), STOCK, new byte[40]);
+    store.get(key("A"));
+    store.put(key("C"), store.getVersion(), STOCK, new byte[40]);
+
+    assertTrue(store.contains(key("A")));
+    assertFalse(store.contains(key("B")));
+    assertTrue(store.contains(key("C")));
+  }
+
+  @Test
+  public void shouldEvictReportsOfTemplate() {
+    String other = ReportResultStore.createKey(
+        UUID.randomUUID(), PDF, Locale.ENGLISH, new HashMap<>(), DATE);
+    store.put(key("A"), store.getVersion(), STOCK, new byte[10]);
+    store.put(other, store.getVersion(), STOCK, new byte[10]);
+
+    store.evict(TEMPLATE_ID);
+
+    assertFalse(store.contains(key("A")));
+    assertTrue(store.contains(other));
+  }
+
+  private static String key(String program) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("program", program);
+    return ReportResultStore.createKey(TEMPLATE_ID, PDF, Locale.ENGLISH, parameters, DATE);
+  }
+
+  private static ResultSet watermark(String value) throws SQLException {
+    RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+    metaData.setColumnCount(1);
+    metaData.setColumnType(1, Types.VARCHAR);
+
+    CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+    rows.setMetaData(metaData);
+    rows.moveToInsertRow();
+    rows.updateString(1, value);
+    rows.insertRow();
+    rows.moveToCurrentRow();
+    rows.beforeFirst();
+    return rows;
+  }
+}
@@ -0,0 +1,89 @@
+package mw.gov.health.lmis.reports.service.warmup;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import mw.gov.health.lmis.reports.domain.JasperTemplate;
+import mw.gov.health.lmis.reports.exception.JasperReportViewException;
+import mw.gov.health.lmis.reports.repository.JasperTemplateRepository;
+import mw.gov.health.lmis.reports.service.JasperReportsViewService;
+
+public class TemplateWarmupTest {
+  private final TemplateWarmup warmup = new TemplateWarmup();
+  private final JasperTemplateRepository jasperTemplateRepository =
+      mock(JasperTemplateRepository.class);
+  private final JasperReportsViewService jasperReportsViewService =
+      mock(JasperReportsViewService.class);
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(warmup, "jasperTemplateRepository", jasperTemplateRepository);
+    ReflectionTestUtils.setField(warmup, "jasperReportsViewService", jasperReportsViewService);
+    ReflectionTestUtils.setField(warmup, "fillRows", 10);
+    ReflectionTestUtils.setField(warmup, "executor", executor);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldWarmUpDisplayedTemplatesBeforeReady() throws Exception {
+    JasperTemplate first = new JasperTemplate();
+    JasperTemplate second = new JasperTemplate();
+    when(jasperTemplateRepository.findByIsDisplayed(true))
+        .thenReturn(Arrays.asList(first, second));
+    assertFalse(warmup.isReady());
+
+    CompletableFuture<Void> done = warmup.run();
+    done.get(10, TimeUnit.SECONDS);
+
+    verify(jasperReportsViewService).warmUp(first, 10);
+    verify(jasperReportsViewService).warmUp(second, 10);
+    assertTrue(warmup.isReady());
+  }
+
+  @Test
+  public void shouldBeReadyWhenTemplateCouldNotBeFilled() throws Exception {
+    JasperTemplate template = new JasperTemplate();
+    when(jasperTemplateRepository.findByIsDisplayed(true))
+        .thenReturn(Arrays.asList(template));
+    doThrow(new JasperReportViewException(new IllegalStateException(), "failed"))
+        .when(jasperReportsViewService).warmUp(eq(template), anyInt());
+
+    warmup.run().get(10, TimeUnit.SECONDS);
+
+    assertTrue(warmup.isReady());
+  }
+
+  @Test
+  public void shouldBeReadyAtOnceWhenDisabled() {
+    ReflectionTestUtils.setField(warmup, "enabled", false);
+
+    warmup.start();
+
+    assertTrue(warmup.isReady());
+    verify(jasperTemplateRepository, never()).findByIsDisplayed(anyBoolean());
+  }
+}